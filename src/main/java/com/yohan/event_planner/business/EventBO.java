@@ -2,9 +2,11 @@ package com.yohan.event_planner.business;
 
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.DayViewDTO;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
+import com.yohan.event_planner.dto.SolidificationReportDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 import com.yohan.event_planner.exception.ConflictException;
 
@@ -50,9 +52,9 @@ public interface EventBO {
      * @param userId the ID of the user whose events to retrieve
      * @param windowStart the start of the time window (inclusive)
      * @param windowEnd the end of the time window (exclusive)
-     * @return a list of confirmed events overlapping the time range, ordered by start time
+     * @return display projections of the confirmed events overlapping the time range, read in a single query
      */
-    List<Event> getConfirmedEventsForUserInRange(Long userId, ZonedDateTime windowStart, ZonedDateTime windowEnd);
+    List<EventResponseDTO> getConfirmedEventsForUserInRange(Long userId, ZonedDateTime windowStart, ZonedDateTime windowEnd);
 
     /**
      * Retrieves a paginated list of confirmed events for a user using cursor-based pagination.
@@ -73,10 +75,10 @@ public interface EventBO {
      * @param startTimeCursor the start time cursor for pagination (null for first page)
      * @param idCursor the ID cursor for pagination (null for first page)
      * @param limit the maximum number of events to return
-     * @return a list of confirmed events, ordered by end time desc, start time desc, ID desc
+     * @return display projections of the confirmed events, ordered by end time desc, start time desc, ID desc
      * @throws IllegalArgumentException if limit is less than or equal to 0
      */
-    List<Event> getConfirmedEventsPage(
+    List<EventResponseDTO> getConfirmedEventsPage(
             Long userId,
             ZonedDateTime endTimeCursor,
             ZonedDateTime startTimeCursor,
@@ -94,9 +96,9 @@ public interface EventBO {
      * </p>
      *
      * @param userId the ID of the user whose unconfirmed events to retrieve
-     * @return a list of unconfirmed events, ordered by start time ascending
+     * @return display projections of the unconfirmed events, read in a single query
      */
-    List<Event> getUnconfirmedEventsForUser(Long userId);
+    List<EventResponseDTO> getUnconfirmedEventsForUser(Long userId);
 
     /**
      * Creates a new event with conditional validation based on confirmation status.
@@ -152,6 +154,62 @@ public interface EventBO {
             ZoneId userZoneId
     );
 
+    /**
+     * Solidifies virtual recurring event occurrences in a single batched pass.
+     *
+     * <p>
+     * Produces the same outcome as {@link #solidifyRecurrences} but avoids per-occurrence
+     * round trips:
+     * <ul>
+     *   <li>All confirmed recurrences for the window are expanded in memory</li>
+     *   <li>Existing events for the window are loaded once into an interval set used for
+     *       both duplicate and conflict detection</li>
+     *   <li>New events are persisted with a single {@code saveAll} call</li>
+     * </ul>
+     * </p>
+     *
+     * @param userId the ID of the user whose recurring events to solidify
+     * @param startTime the start of the solidification window
+     * @param endTime the end of the solidification window
+     * @param userZoneId the user's timezone for date calculations
+     * @return a {@link SolidificationReportDTO} describing rows created and time spent
+     */
+    SolidificationReportDTO solidifyRecurrencesBatched(
+            Long userId,
+            ZonedDateTime startTime,
+            ZonedDateTime endTime,
+            ZoneId userZoneId
+    );
+
+    /**
+     * Persists a batch of imported events, creating conflicting ones as drafts.
+     *
+     * <p>
+     * Every event is checked for conflicts in one pass instead of one validation per event:
+     * <ul>
+     *   <li>Existing confirmed events and recurring events are checked with a single
+     *       {@link com.yohan.event_planner.validation.ConflictValidator#findConflicts} call</li>
+     *   <li>Events of the batch are checked against each other in memory, in list order, so
+     *       the first of two overlapping events stays confirmed</li>
+     *   <li>All events are persisted with a single {@code saveAll} call, which Hibernate
+     *       sends as JDBC batches</li>
+     * </ul>
+     * </p>
+     *
+     * <p>
+     * Events must be passed as confirmed events with a name, a label and a start time before
+     * their end time; callers validate rows before building them. Conflicting events are
+     * marked unconfirmed before saving.
+     * </p>
+     *
+     * @param creator the owner of every event in the batch
+     * @param events the unsaved confirmed events to import
+     * @return the saved events, in the order given
+     * @throws InvalidEventStateException if an event is missing a required field
+     * @throws InvalidTimeException if an event does not end after it starts
+     */
+    List<Event> importEvents(User creator, List<Event> events);
+
     /**
      * Applies updates to an existing event with conditional validation and side effects.
      *
@@ -305,6 +363,7 @@ public interface EventBO {
      *   <li>Queries for all future events linked to the recurring event</li>
      *   <li>For each future event, creates an EventUpdateDTO with only changed fields</li>
      *   <li>Applies the patch using EventPatchHandler</li>
+     *   <li>When times changed, checks all moved confirmed events for conflicts in one bulk call</li>
      *   <li>Saves the event if any changes were actually made</li>
      *   <li>Returns the count of events that were actually modified</li>
      * </ul>
@@ -319,6 +378,7 @@ public interface EventBO {
      * @param changedFields the set of field names that changed (name, startTime, endTime, label)
      * @param userZoneId the timezone to use for determining "future" and time calculations
      * @return the number of events that were actually modified (not just processed)
+     * @throws com.yohan.event_planner.exception.ConflictException if a moved event would overlap another event
      */
     int updateFutureEventsFromRecurringEvent(RecurringEvent recurringEvent, Set<String> changedFields, ZoneId userZoneId);
 
@@ -3,22 +3,28 @@ package com.yohan.event_planner.business;
 import com.yohan.event_planner.business.handler.EventPatchHandler;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.ConflictCandidateDTO;
 import com.yohan.event_planner.dto.DayViewDTO;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.SolidificationReportDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 
+import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.exception.EventAlreadyConfirmedException;
 import com.yohan.event_planner.exception.InvalidEventStateException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.repository.EventRepository;
 import com.yohan.event_planner.service.LabelTimeBucketService;
+import com.yohan.event_planner.service.MonthSummaryCache;
 import com.yohan.event_planner.service.RecurrenceRuleService;
 import com.yohan.event_planner.time.ClockProvider;
 import com.yohan.event_planner.validation.ConflictValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,10 +36,15 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.yohan.event_planner.exception.ErrorCode.INVALID_COMPLETION_STATUS;
 import static com.yohan.event_planner.exception.ErrorCode.INVALID_EVENT_TIME;
@@ -72,6 +83,7 @@ import static com.yohan.event_planner.exception.ErrorCode.MISSING_EVENT_START_TI
  *   <li>{@link EventPatchHandler} - Event field updates</li>
  *   <li>{@link LabelTimeBucketService} - Time tracking integration</li>
  *   <li>{@link ClockProvider} - Timezone-aware time operations</li>
+ *   <li>{@link MonthSummaryCache} - Invalidated for the months touched by confirmed event writes</li>
  * </ul></p>
  * 
  * <p><strong>Authorization:</strong> Assumes all authorization and ownership checks are handled
@@ -89,6 +101,14 @@ public class EventBOImpl implements EventBO {
     private final EventPatchHandler eventPatchHandler;
     private final ConflictValidator conflictValidator;
     private final ClockProvider clockProvider;
+    private final MonthSummaryCache monthSummaryCache;
+
+    /**
+     * Routes {@link #solidifyRecurrences} through the batched engine when enabled.
+     * Defaults to the per-occurrence path so existing behavior is unchanged unless configured.
+     */
+    @Value("${app.solidification.batched:false}")
+    private boolean batchedSolidification;
 
     public EventBOImpl(
             RecurringEventBO recurringEventBO,
@@ -97,7 +117,8 @@ public class EventBOImpl implements EventBO {
             EventRepository eventRepository,
             EventPatchHandler eventPatchHandler,
             ConflictValidator conflictValidator,
-            ClockProvider clockProvider)
+            ClockProvider clockProvider,
+            MonthSummaryCache monthSummaryCache)
     {
         this.recurringEventBO = recurringEventBO;
         this.recurrenceRuleService = recurrenceRuleService;
@@ -106,6 +127,7 @@ public class EventBOImpl implements EventBO {
         this.eventPatchHandler = eventPatchHandler;
         this.conflictValidator = conflictValidator;
         this.clockProvider = clockProvider;
+        this.monthSummaryCache = monthSummaryCache;
     }
 
     /**
@@ -121,17 +143,16 @@ public class EventBOImpl implements EventBO {
      * {@inheritDoc}
      */
     @Override
-    public List<Event> getConfirmedEventsForUserInRange(Long userId, ZonedDateTime windowStart, ZonedDateTime windowEnd) {
+    public List<EventResponseDTO> getConfirmedEventsForUserInRange(Long userId, ZonedDateTime windowStart, ZonedDateTime windowEnd) {
         logger.debug("Fetching confirmed events for User ID {} between {} and {}", userId, windowStart, windowEnd);
-        return eventRepository.findConfirmedEventsForUserBetween(userId, windowStart, windowEnd);
-
+        return eventRepository.findConfirmedEventResponsesForUserBetween(userId, windowStart, windowEnd);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Event> getConfirmedEventsPage(
+    public List<EventResponseDTO> getConfirmedEventsPage(
             Long userId,
             ZonedDateTime endTimeCursor,
             ZonedDateTime startTimeCursor,
@@ -162,7 +183,7 @@ public class EventBOImpl implements EventBO {
      * {@inheritDoc}
      */
     @Override
-    public List<Event> getUnconfirmedEventsForUser(Long userId) {
+    public List<EventResponseDTO> getUnconfirmedEventsForUser(Long userId) {
         logger.debug("Fetching unconfirmed events for User ID {}", userId);
         return eventRepository.findUnconfirmedEventsForUserSortedByStartTime(userId);
     }
@@ -181,7 +202,9 @@ public class EventBOImpl implements EventBO {
             logger.info("Creating draft event for user ID {}", event.getCreator().getId());
         }
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        invalidateMonthSummaries(event);
+        return saved;
     }
 
 
@@ -195,6 +218,11 @@ public class EventBOImpl implements EventBO {
             ZonedDateTime endTime,
             ZoneId userZoneId
     ) {
+        if (batchedSolidification) {
+            solidifyRecurrencesBatched(userId, startTime, endTime, userZoneId);
+            return;
+        }
+
         logger.info("Solidifying recurrences for user {} between {} and {}", userId, startTime, endTime);
         List<RecurringEvent> recurrences = recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                 userId, startTime.toLocalDate(), endTime.toLocalDate()
@@ -209,6 +237,7 @@ public class EventBOImpl implements EventBO {
         for (RecurringEvent recurrence : recurrences) {
             solidifyVirtualOccurrences(recurrence, startTime, endTime, userZoneId);
         }
+        monthSummaryCache.invalidate(userId, startTime, endTime);
         logger.info("Completed solidification for user {}", userId);
     }
 
@@ -221,6 +250,11 @@ public class EventBOImpl implements EventBO {
      * conflicts exist, or as unconfirmed drafts if conflicts are detected.
      * </p>
      *
+     * <p>
+     * All new occurrences of the recurrence are checked with a single
+     * {@link ConflictValidator#findConflicts} call rather than one validation per occurrence.
+     * </p>
+     *
      * @param recurrence the recurring event to solidify occurrences for
      * @param windowStart the start of the time window for solidification
      * @param windowEnd the end of the time window for solidification
@@ -256,6 +290,8 @@ public class EventBOImpl implements EventBO {
                 windowEnd
         );
 
+        List<LocalDate> pendingDates = new ArrayList<>();
+        List<ConflictCandidateDTO> candidates = new ArrayList<>();
         for (LocalDate date : occurrenceDates) {
             ZonedDateTime startTime = ZonedDateTime.of(date, recurrence.getStartTime(), userZoneId)
                     .withZoneSameInstant(UTC);
@@ -275,13 +311,24 @@ public class EventBOImpl implements EventBO {
                 continue;
             }
 
-            boolean hasConflict = solidifiedEvents.stream()
+            pendingDates.add(date);
+            candidates.add(new ConflictCandidateDTO(null, recurrence.getId(), startTime, endTime));
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Set<Long>> conflicts = conflictValidator.findConflicts(recurrence.getCreator(), candidates);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            LocalDate date = pendingDates.get(i);
+            ZonedDateTime startTime = candidates.get(i).startTime();
+            ZonedDateTime endTime = candidates.get(i).endTime();
+
+            boolean hasConflict = !conflicts.get(i).isEmpty() || solidifiedEvents.stream()
                     .anyMatch(e -> e.getStartTime().isBefore(endTime) && e.getEndTime().isAfter(startTime));
 
-            Event event = hasConflict
-                    ? Event.createUnconfirmedDraft(recurrence.getName(), startTime, endTime, recurrence.getCreator())
-                    : Event.createEvent(recurrence.getName(), startTime, endTime, recurrence.getCreator());
-            
             if (hasConflict) {
                 logger.debug("Creating unconfirmed draft due to conflict for recurring event {} on {}", 
                         recurrence.getId(), date);
@@ -290,14 +337,209 @@ public class EventBOImpl implements EventBO {
                         recurrence.getId(), date);
             }
 
-            event.setDescription(recurrence.getDescription());
-            event.setLabel((recurrence.getLabel() != null)
-                    ? recurrence.getLabel()
-                    : recurrence.getCreator().getUnlabeled());
-            event.setRecurringEvent(recurrence);
+            eventRepository.save(buildSolidifiedEvent(recurrence, startTime, endTime, hasConflict));
+        }
+    }
 
-            createEvent(event);
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Implementation Details:</strong>
+     * <ol>
+     *   <li>Loads all confirmed recurrences for the window with one query</li>
+     *   <li>Loads confirmed events and the recurrences' drafts with one query, starting from the
+     *       beginning of the window's first day in the user's timezone, since occurrences are
+     *       expanded from that day and may start before the window itself</li>
+     *   <li>Indexes already-solidified occurrences by recurrence and local date</li>
+     *   <li>Checks each new occurrence against an in-memory {@link OccupiedIntervals} set,
+     *       which also absorbs occurrences confirmed earlier in the same run</li>
+     *   <li>Persists all new events with a single {@code saveAll} call</li>
+     * </ol>
+     * Per-event {@link ConflictValidator} round trips are skipped because the preloaded
+     * interval set already contains every confirmed event that could overlap the window;
+     * recurring-versus-recurring conflicts are rejected when the series themselves are saved.</p>
+     */
+    @Override
+    @Transactional
+    public SolidificationReportDTO solidifyRecurrencesBatched(
+            Long userId,
+            ZonedDateTime startTime,
+            ZonedDateTime endTime,
+            ZoneId userZoneId
+    ) {
+        long startedAt = System.nanoTime();
+        logger.info("Batch solidifying recurrences for user {} between {} and {}", userId, startTime, endTime);
+
+        List<RecurringEvent> recurrences = recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                userId, startTime.toLocalDate(), endTime.toLocalDate()
+        );
+
+        if (recurrences.isEmpty()) {
+            logger.debug("No recurring events found for user {} in specified time range", userId);
+            return SolidificationReportDTO.empty(userId, elapsedMillisSince(startedAt));
         }
+
+        Set<Long> recurrenceIds = recurrences.stream()
+                .map(RecurringEvent::getId)
+                .collect(Collectors.toSet());
+
+        ZonedDateTime firstDayStart = startTime.toLocalDate().atStartOfDay(userZoneId);
+        ZonedDateTime loadFrom = firstDayStart.isBefore(startTime) ? firstDayStart : startTime;
+        List<Event> existingEvents = eventRepository.findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+                userId, recurrenceIds, loadFrom, endTime
+        );
+
+        OccupiedIntervals occupied = new OccupiedIntervals();
+        Map<Long, Set<LocalDate>> solidifiedDates = new HashMap<>();
+        for (Event existing : existingEvents) {
+            if (!existing.isUnconfirmed()) {
+                occupied.add(existing.getStartTime(), existing.getEndTime());
+            }
+            RecurringEvent source = existing.getRecurringEvent();
+            if (source != null && recurrenceIds.contains(source.getId())) {
+                solidifiedDates.computeIfAbsent(source.getId(), id -> new HashSet<>())
+                        .add(existing.getStartTime().withZoneSameInstant(userZoneId).toLocalDate());
+            }
+        }
+
+        List<Event> toInsert = new ArrayList<>();
+        int occurrencesExpanded = 0;
+        int confirmedCreated = 0;
+        int draftsCreated = 0;
+        int skipped = 0;
+
+        for (RecurringEvent recurrence : recurrences) {
+            List<LocalDate> occurrenceDates = recurrenceRuleService.expandRecurrence(
+                    recurrence.getRecurrenceRule().getParsed(),
+                    startTime.toLocalDate(),
+                    endTime.toLocalDate(),
+                    recurrence.getSkipDays()
+            );
+            occurrencesExpanded += occurrenceDates.size();
+            Set<LocalDate> alreadySolidified = solidifiedDates.getOrDefault(recurrence.getId(), Set.of());
+
+            for (LocalDate date : occurrenceDates) {
+                ZonedDateTime occurrenceStart = ZonedDateTime.of(date, recurrence.getStartTime(), userZoneId)
+                        .withZoneSameInstant(UTC);
+                ZonedDateTime occurrenceEnd = ZonedDateTime.of(date, recurrence.getEndTime(), userZoneId)
+                        .withZoneSameInstant(UTC);
+
+                if (!occurrenceEnd.isBefore(endTime) || alreadySolidified.contains(date)) {
+                    skipped++;
+                    continue;
+                }
+
+                boolean hasConflict = occupied.overlaps(occurrenceStart, occurrenceEnd);
+                if (hasConflict) {
+                    draftsCreated++;
+                } else {
+                    occupied.add(occurrenceStart, occurrenceEnd);
+                    confirmedCreated++;
+                }
+                toInsert.add(buildSolidifiedEvent(recurrence, occurrenceStart, occurrenceEnd, hasConflict));
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            eventRepository.saveAll(toInsert);
+            monthSummaryCache.invalidate(userId, startTime, endTime);
+        }
+
+        SolidificationReportDTO report = new SolidificationReportDTO(
+                userId,
+                recurrences.size(),
+                occurrencesExpanded,
+                confirmedCreated,
+                draftsCreated,
+                skipped,
+                elapsedMillisSince(startedAt)
+        );
+        logger.info("Batch solidification for user {} created {} events ({} drafts) from {} recurrences in {} ms",
+                userId, report.rowsCreated(), report.draftEventsCreated(),
+                report.recurrencesProcessed(), report.elapsedMillis());
+        return report;
+    }
+
+    /**
+     * Builds the concrete {@link Event} for a single recurring occurrence.
+     *
+     * @param recurrence the recurring event the occurrence belongs to
+     * @param startTime the occurrence start in UTC
+     * @param endTime the occurrence end in UTC
+     * @param asDraft whether the occurrence conflicts and must be created as an unconfirmed draft
+     * @return the unsaved event linked back to its recurrence
+     */
+    private Event buildSolidifiedEvent(RecurringEvent recurrence, ZonedDateTime startTime,
+                                       ZonedDateTime endTime, boolean asDraft) {
+        Event event = asDraft
+                ? Event.createUnconfirmedDraft(recurrence.getName(), startTime, endTime, recurrence.getCreator())
+                : Event.createEvent(recurrence.getName(), startTime, endTime, recurrence.getCreator());
+
+        event.setDescription(recurrence.getDescription());
+        event.setLabel((recurrence.getLabel() != null)
+                ? recurrence.getLabel()
+                : recurrence.getCreator().getUnlabeled());
+        event.setRecurringEvent(recurrence);
+        return event;
+    }
+
+    private long elapsedMillisSince(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Implementation Details:</strong> Existing data is checked with one
+     * {@link ConflictValidator#findConflicts} call over all events, then an
+     * {@link OccupiedIntervals} set absorbs each event kept confirmed so later events of the
+     * batch are checked against it. Month summaries are invalidated once for the whole range.</p>
+     */
+    @Override
+    @Transactional
+    public List<Event> importEvents(User creator, List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Importing {} events for user {}", events.size(), creator.getId());
+
+        List<ConflictCandidateDTO> candidates = new ArrayList<>(events.size());
+        for (Event event : events) {
+            validateConfirmedEventFields(event);
+            validateStartBeforeEnd(event.getStartTime(), event.getEndTime());
+            candidates.add(new ConflictCandidateDTO(
+                    null,
+                    null,
+                    event.getStartTime().withZoneSameInstant(UTC),
+                    event.getEndTime().withZoneSameInstant(UTC)
+            ));
+        }
+        List<Set<Long>> conflicts = conflictValidator.findConflicts(creator, candidates);
+
+        OccupiedIntervals occupied = new OccupiedIntervals();
+        ZonedDateTime rangeStart = events.get(0).getStartTime();
+        ZonedDateTime rangeEnd = events.get(0).getEndTime();
+        int drafts = 0;
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            if (!conflicts.get(i).isEmpty() || occupied.overlaps(event.getStartTime(), event.getEndTime())) {
+                event.setUnconfirmed(true);
+                drafts++;
+            } else {
+                occupied.add(event.getStartTime(), event.getEndTime());
+            }
+            if (event.getStartTime().isBefore(rangeStart)) {
+                rangeStart = event.getStartTime();
+            }
+            if (event.getEndTime().isAfter(rangeEnd)) {
+                rangeEnd = event.getEndTime();
+            }
+        }
+
+        List<Event> saved = eventRepository.saveAll(events);
+        monthSummaryCache.invalidate(creator.getId(), rangeStart, rangeEnd);
+        logger.info("Imported {} events ({} drafts) for user {}", saved.size(), drafts, creator.getId());
+        return saved;
     }
 
     /**
@@ -321,6 +563,15 @@ public class EventBOImpl implements EventBO {
 
         Event saved = eventRepository.save(event);
 
+        invalidateMonthSummaries(event);
+        if (contextDTO != null && contextDTO.oldStartTime() != null && !event.isUnconfirmed()) {
+            // The event may have moved: the months it used to cover are stale as well
+            ZonedDateTime oldEnd = contextDTO.oldDurationMinutes() != null
+                    ? contextDTO.oldStartTime().plusMinutes(contextDTO.oldDurationMinutes())
+                    : null;
+            monthSummaryCache.invalidate(contextDTO.userId(), contextDTO.oldStartTime(), oldEnd);
+        }
+
         if ((contextDTO != null) && (wasCompleted || isNowCompleted)) {
             EventChangeContextDTO context = buildChangeContext(contextDTO, event);
             labelTimeBucketService.handleEventChange(context);
@@ -346,7 +597,9 @@ public class EventBOImpl implements EventBO {
         conflictValidator.validateNoConflicts(event);
 
         event.setUnconfirmed(false);
-        return eventRepository.save(event);
+        Event confirmed = eventRepository.save(event);
+        invalidateMonthSummaries(event);
+        return confirmed;
     }
 
     /**
@@ -355,6 +608,7 @@ public class EventBOImpl implements EventBO {
     @Override
     public void deleteEvent(Long eventId) {
         logger.info("Deleting event ID {}", eventId);
+        eventRepository.findById(eventId).ifPresent(this::invalidateMonthSummaries);
         eventRepository.deleteById(eventId);
     }
 
@@ -369,6 +623,20 @@ public class EventBOImpl implements EventBO {
 
 
     // region: Private Methods
+
+    /**
+     * Invalidates the cached month summaries covering a confirmed event.
+     *
+     * <p>Drafts never appear in month views, so writes to unconfirmed events leave the cache untouched.</p>
+     *
+     * @param event the event that was written
+     */
+    private void invalidateMonthSummaries(Event event) {
+        if (event.isUnconfirmed() || event.getStartTime() == null) {
+            return;
+        }
+        monthSummaryCache.invalidate(event.getCreator().getId(), event.getStartTime(), event.getEndTime());
+    }
     
     /**
      * Validates that completion status changes are allowed based on event timing.
@@ -568,7 +836,7 @@ public class EventBOImpl implements EventBO {
             return 0;
         }
 
-        int updatedCount = 0;
+        List<Event> updatedEvents = new ArrayList<>();
         for (Event event : futureEvents) {
             LocalDate occurrenceDate = event.getStartTime().withZoneSameInstant(userZoneId).toLocalDate();
             
@@ -576,19 +844,70 @@ public class EventBOImpl implements EventBO {
             EventUpdateDTO updateDTO = createEventUpdateDTOFromRecurringEvent(
                     recurringEvent, changedFields, occurrenceDate, userZoneId);
             
+            ZonedDateTime oldStartTime = event.getStartTime();
+            ZonedDateTime oldEndTime = event.getEndTime();
             boolean wasUpdated = eventPatchHandler.applyPatch(event, updateDTO);
             
             if (wasUpdated) {
-                eventRepository.save(event);
-                updatedCount++;
-                logger.debug("Updated event {} from recurring event {}", event.getId(), recurringEvent.getId());
+                updatedEvents.add(event);
+                if (!event.isUnconfirmed() && oldStartTime != null) {
+                    monthSummaryCache.invalidate(event.getCreator().getId(), oldStartTime, oldEndTime);
+                }
             }
         }
 
+        if (changedFields.contains("startTime") || changedFields.contains("endTime")) {
+            validateNoConflictsForPropagatedEvents(recurringEvent, updatedEvents);
+        }
+
+        int updatedCount = 0;
+        for (Event event : updatedEvents) {
+            eventRepository.save(event);
+            invalidateMonthSummaries(event);
+            updatedCount++;
+            logger.debug("Updated event {} from recurring event {}", event.getId(), recurringEvent.getId());
+        }
+
         logger.info("Updated {} future events for recurring event {}", updatedCount, recurringEvent.getId());
         return updatedCount;
     }
 
+    /**
+     * Validates that moved future occurrences of a recurring event do not overlap other events.
+     *
+     * <p>
+     * All confirmed occurrences are checked with a single {@link ConflictValidator#findConflicts}
+     * call. Occurrences of the recurring event itself are never treated as conflicts.
+     * </p>
+     *
+     * @param recurringEvent the recurring event whose occurrences were moved
+     * @param updatedEvents the occurrences with their new times applied
+     * @throws ConflictException if any confirmed occurrence overlaps another event
+     */
+    private void validateNoConflictsForPropagatedEvents(RecurringEvent recurringEvent, List<Event> updatedEvents) {
+        List<Event> confirmedEvents = updatedEvents.stream()
+                .filter(event -> !event.isUnconfirmed())
+                .toList();
+        if (confirmedEvents.isEmpty()) {
+            return;
+        }
+
+        List<ConflictCandidateDTO> candidates = confirmedEvents.stream()
+                .map(event -> new ConflictCandidateDTO(
+                        event.getId(), recurringEvent.getId(), event.getStartTime(), event.getEndTime()))
+                .toList();
+        List<Set<Long>> conflicts = conflictValidator.findConflicts(recurringEvent.getCreator(), candidates);
+
+        for (int i = 0; i < confirmedEvents.size(); i++) {
+            if (!conflicts.get(i).isEmpty()) {
+                Event event = confirmedEvents.get(i);
+                logger.warn("Propagating recurring event {} would move event {} into conflict with {}",
+                        recurringEvent.getId(), event.getId(), conflicts.get(i));
+                throw new ConflictException(event, conflicts.get(i));
+            }
+        }
+    }
+
     /**
      * Creates an EventUpdateDTO from a RecurringEvent for updating individual event instances.
      *
@@ -658,4 +977,39 @@ public class EventBOImpl implements EventBO {
             throw new InvalidEventStateException(errorCode);
         }
     }
+
+    /**
+     * Sorted set of occupied closed {@code [start, end]} intervals used by batched solidification
+     * and imports.
+     *
+     * <p>Boundaries are inclusive to match {@link ConflictValidator}: an event starting exactly
+     * when another ends is a conflict on every path, batched or not.</p>
+     *
+     * <p>Intervals are keyed by start instant. Tracking the longest interval seen bounds the
+     * range scan, so an overlap query only visits entries whose start lies within
+     * {@code [queryStart - longest, queryEnd]} instead of every interval in the window.</p>
+     */
+    private static final class OccupiedIntervals {
+
+        private final NavigableMap<Long, Long> endByStart = new TreeMap<>();
+        private long longestMillis = 0;
+
+        void add(ZonedDateTime start, ZonedDateTime end) {
+            long startMillis = start.toInstant().toEpochMilli();
+            long endMillis = end.toInstant().toEpochMilli();
+            endByStart.merge(startMillis, endMillis, Math::max);
+            longestMillis = Math.max(longestMillis, endMillis - startMillis);
+        }
+
+        boolean overlaps(ZonedDateTime start, ZonedDateTime end) {
+            long startMillis = start.toInstant().toEpochMilli();
+            long endMillis = end.toInstant().toEpochMilli();
+            for (long candidateEnd : endByStart.subMap(startMillis - longestMillis, true, endMillis, true).values()) {
+                if (candidateEnd >= startMillis) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -200,4 +200,22 @@ public interface RecurringEventBO {
      * @return a list of virtual events within the time range
      */
     List<EventResponseDTO> generateVirtuals(Long userId, ZonedDateTime startTime, ZonedDateTime endTime, ZoneId userZoneId);
+
+    /**
+     * Checks whether any confirmed recurring event of a user has an occurrence ending inside a time window.
+     *
+     * <p>
+     * Used by read-only calendar views to decide whether recurrence materialization is behind:
+     * when the user's materialization watermark precedes the view's window, an occurrence ending
+     * between the two means there is something to solidify. The check expands recurrences in
+     * memory and never writes.
+     * </p>
+     *
+     * @param userId the ID of the user whose recurring events to check
+     * @param startTime the start of the window (exclusive)
+     * @param endTime the end of the window (exclusive)
+     * @param userZoneId the timezone for date calculations
+     * @return {@code true} if at least one occurrence ends strictly inside the window
+     */
+    boolean hasOccurrencesEndingBetween(Long userId, ZonedDateTime startTime, ZonedDateTime endTime, ZoneId userZoneId);
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import com.yohan.event_planner.exception.InvalidEventStateException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.exception.RecurringEventAlreadyConfirmedException;
 import com.yohan.event_planner.repository.RecurringEventRepository;
+import com.yohan.event_planner.service.MonthSummaryCache;
 import com.yohan.event_planner.service.ParsedRecurrenceInput;
 import com.yohan.event_planner.service.RecurrenceRuleService;
 import com.yohan.event_planner.time.ClockProvider;
@@ -55,6 +56,7 @@ import static com.yohan.event_planner.exception.ErrorCode.MISSING_RECURRENCE_RUL
  *   <li>{@link ConflictValidator} - Scheduling conflict detection</li>
  *   <li>{@link RecurrenceRuleService} - Pattern parsing and expansion</li>
  *   <li>{@link ClockProvider} - Timezone-aware time operations</li>
+ *   <li>{@link MonthSummaryCache} - Invalidated for the months covered by confirmed recurring event writes</li>
  * </ul></p>
  */
 @Service
@@ -67,6 +69,7 @@ public class RecurringEventBOImpl implements RecurringEventBO {
     private final EventResponseDTOFactory eventResponseDTOFactory;
     private final ClockProvider clockProvider;
     private final ConflictValidator conflictValidator;
+    private final MonthSummaryCache monthSummaryCache;
 
     /**
      * Constructs a new RecurringEventBOImpl with the required dependencies.
@@ -76,19 +79,22 @@ public class RecurringEventBOImpl implements RecurringEventBO {
      * @param eventResponseDTOFactory factory for creating event response DTOs
      * @param clockProvider provider for timezone-aware clock operations
      * @param conflictValidator validator for detecting scheduling conflicts
+     * @param monthSummaryCache cache of calendar month summaries invalidated on writes
      */
     public RecurringEventBOImpl(
             RecurringEventRepository recurringEventRepository,
             RecurrenceRuleService recurrenceRuleService,
             EventResponseDTOFactory eventResponseDTOFactory,
             ClockProvider clockProvider,
-            ConflictValidator conflictValidator
+            ConflictValidator conflictValidator,
+            MonthSummaryCache monthSummaryCache
     ) {
         this.recurringEventRepository = recurringEventRepository;
         this.recurrenceRuleService = recurrenceRuleService;
         this.eventResponseDTOFactory = eventResponseDTOFactory;
         this.clockProvider = clockProvider;
         this.conflictValidator = conflictValidator;
+        this.monthSummaryCache = monthSummaryCache;
     }
 
     /**
@@ -189,6 +195,8 @@ public class RecurringEventBOImpl implements RecurringEventBO {
             conflictValidator.validateNoConflicts(recurringEvent);
             
             RecurringEvent saved = recurringEventRepository.save(recurringEvent);
+            monthSummaryCache.invalidate(recurringEvent.getCreator().getId(),
+                    recurringEvent.getStartDate(), recurringEvent.getEndDate());
             logger.info("Successfully created confirmed recurring event ID {} for user ID {}", 
                        saved.getId(), saved.getCreator().getId());
             return saved;
@@ -209,7 +217,9 @@ public class RecurringEventBOImpl implements RecurringEventBO {
      * 
      * <p><strong>Implementation Note:</strong>
      * This method only updates the recurring event template. Propagation of changes to
-     * existing event instances is handled at the service layer to maintain separation of concerns.</p>
+     * existing event instances is handled at the service layer to maintain separation of concerns.
+     * The template arrives already patched, so the date range it covered before the update is no
+     * longer known; every cached month of the creator is therefore invalidated.</p>
      */
     @Override
     public RecurringEvent updateRecurringEvent(RecurringEvent recurringEvent) {
@@ -226,6 +236,7 @@ public class RecurringEventBOImpl implements RecurringEventBO {
             conflictValidator.validateNoConflicts(recurringEvent);
             
             RecurringEvent updated = recurringEventRepository.save(recurringEvent);
+            monthSummaryCache.invalidateUser(recurringEvent.getCreator().getId());
             logger.info("Successfully updated confirmed recurring event ID {} for user ID {}", 
                        updated.getId(), updated.getCreator().getId());
             return updated;
@@ -267,6 +278,8 @@ public class RecurringEventBOImpl implements RecurringEventBO {
 
             recurringEvent.setUnconfirmed(false);
             RecurringEvent confirmed = recurringEventRepository.save(recurringEvent);
+            monthSummaryCache.invalidate(recurringEvent.getCreator().getId(),
+                    recurringEvent.getStartDate(), recurringEvent.getEndDate());
             logger.info("Successfully confirmed recurring event ID {} for user ID {}", 
                        confirmed.getId(), confirmed.getCreator().getId());
             return confirmed;
@@ -291,6 +304,10 @@ public class RecurringEventBOImpl implements RecurringEventBO {
     @Override
     public void deleteRecurringEvent(Long recurringEventId) {
         logger.info("Deleting recurring event ID {}", recurringEventId);
+        recurringEventRepository.findById(recurringEventId)
+                .filter(recurringEvent -> !recurringEvent.isUnconfirmed())
+                .ifPresent(recurringEvent -> monthSummaryCache.invalidate(recurringEvent.getCreator().getId(),
+                        recurringEvent.getStartDate(), recurringEvent.getEndDate()));
         recurringEventRepository.deleteById(recurringEventId);
     }
 
@@ -516,6 +533,38 @@ public class RecurringEventBOImpl implements RecurringEventBO {
         return virtuals;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasOccurrencesEndingBetween(Long userId, ZonedDateTime startTime, ZonedDateTime endTime, ZoneId userZoneId) {
+        if (!startTime.isBefore(endTime)) {
+            return false;
+        }
+
+        LocalDate fromDate = startTime.withZoneSameInstant(userZoneId).toLocalDate();
+        LocalDate toDate = endTime.withZoneSameInstant(userZoneId).toLocalDate();
+
+        for (RecurringEvent recurrence : getConfirmedRecurringEventsForUserInRange(userId, fromDate, toDate)) {
+            List<LocalDate> occurrenceDates = recurrenceRuleService.expandRecurrence(
+                    recurrence.getRecurrenceRule().getParsed(),
+                    fromDate,
+                    toDate,
+                    recurrence.getSkipDays()
+            );
+
+            for (LocalDate date : occurrenceDates) {
+                ZonedDateTime occurrenceEnd = ZonedDateTime.of(date, recurrence.getEndTime(), userZoneId);
+                if (occurrenceEnd.isAfter(startTime) && occurrenceEnd.isBefore(endTime)) {
+                    logger.debug("Recurring event {} has an unmaterialized occurrence on {} for user ID {}",
+                            recurrence.getId(), date, userId);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Validates that a required field is not null.
      * 
@@ -235,6 +235,9 @@ public interface UserBO {
      * validation have been performed upstream. It performs no business rule 
      * validation or conflict detection.</p>
      *
+     * <p><strong>Caching Note:</strong> The user is evicted from the shared user cache, so
+     * password and role changes must be saved through this method to take effect immediately.</p>
+     *
      * @param user the updated user entity with a valid ID
      * @return the updated and saved {@link User}
      */
@@ -47,7 +47,13 @@ import java.util.Optional;
  * <ul>
  *   <li>{@link UserRepository} - Database access and persistence operations</li>
  *   <li>{@link ClockProvider} - Timezone-aware time operations for deletion scheduling</li>
+ *   <li>{@link UserCache} - Invalidation of cached users after updates (including password and role
+ *       changes) and deletion scheduling</li>
  * </ul></p>
+ *
+ * <p><strong>Caching:</strong> Lookups by ID are served from the shared second-level user cache
+ * when it is enabled, and still return managed entities. Username and email lookups, used at
+ * login, always read the database.</p>
  */
 @Service
 public class UserBOImpl implements UserBO {
@@ -55,10 +61,12 @@ public class UserBOImpl implements UserBO {
     private static final Logger logger = LoggerFactory.getLogger(UserBOImpl.class);
     private final UserRepository userRepository;
     private final ClockProvider clockProvider;
+    private final UserCache userCache;
 
-    public UserBOImpl(UserRepository userRepository, ClockProvider clockProvider) {
+    public UserBOImpl(UserRepository userRepository, ClockProvider clockProvider, UserCache userCache) {
         this.userRepository = userRepository;
         this.clockProvider = clockProvider;
+        this.userCache = userCache;
     }
 
     /**
@@ -146,6 +154,7 @@ public class UserBOImpl implements UserBO {
     public User updateUser(User user) {
         logger.info("Updating user with ID {}", user.getId());
         User updatedUser = userRepository.save(user);
+        userCache.invalidate(user.getId());
         logger.info("Successfully updated user with ID {}", updatedUser.getId());
         return updatedUser;
     }
@@ -166,6 +175,7 @@ public class UserBOImpl implements UserBO {
         ZonedDateTime now = ZonedDateTime.now(clockProvider.getClockForUser(user));
         user.markForDeletion(now);
         userRepository.save(user);
+        userCache.invalidate(user.getId());
         logger.info("Successfully marked user ID {} for deletion, scheduled for {}", user.getId(), user.getScheduledDeletionDate().orElse(null));
     }
 
@@ -0,0 +1,113 @@
+package com.yohan.event_planner.business;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.yohan.event_planner.config.UserCacheConfig;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Explicit invalidation and statistics for the shared user cache configured by
+ * {@link com.yohan.event_planner.config.UserCacheConfig}.
+ *
+ * <p>Hibernate already refreshes cached users changed through the persistence context. Code that
+ * changes a user's credentials, roles or lifecycle - updates, password resets, deletion scheduling
+ * and the cleanup jobs - additionally invalidates the user here, so the next lookup re-reads the row even if the change bypassed the
+ * entity (for example a cascading database delete).</p>
+ *
+ * <p>When the cache is disabled every method is a no-op apart from statistics, which stay empty.</p>
+ *
+ * @see UserBOImpl
+ */
+@Component
+public class UserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCache.class);
+
+    private static final String ROLES_COLLECTION = User.class.getName() + ".roles";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    public UserCache(EntityManagerFactory entityManagerFactory, CacheManager userCacheManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = userCacheManager;
+    }
+
+    /**
+     * Removes a user from the cache.
+     *
+     * <p>When called inside a transaction the user is invalidated again once the transaction
+     * completes, because other threads may re-cache the old row before the change is
+     * committed.</p>
+     *
+     * @param userId the ID of the user that changed, ignored if {@code null}
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            @SuppressWarnings("unchecked")
+            Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                Set<Long> users = new HashSet<>();
+                TransactionSynchronizationManager.bindResource(this, users);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(UserCache.this);
+                        users.forEach(UserCache.this::evict);
+                    }
+                });
+                pending = users;
+            }
+            pending.add(userId);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the counters of every cache region.
+     *
+     * @return per-region hit, miss and eviction counts, empty when the cache is disabled
+     */
+    public List<CacheRegionStatsDTO> getStats() {
+        List<CacheRegionStatsDTO> stats = new ArrayList<>();
+        for (String region : UserCacheConfig.REGIONS) {
+            javax.cache.Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache == null) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats counters = nativeCache.stats();
+            long maxSize = cache.getConfiguration(CaffeineConfiguration.class).getMaximumSize().orElse(0);
+            stats.add(new CacheRegionStatsDTO(region, counters.hitCount(), counters.missCount(),
+                    counters.evictionCount(), nativeCache.estimatedSize(), maxSize));
+        }
+        return stats;
+    }
+
+    private void evict(Long userId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, userId);
+        cache.evictCollectionData(ROLES_COLLECTION, userId);
+        logger.debug("Evicted user {} from the user cache", userId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.yohan.event_planner.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+/**
+ * Configuration that binds one JPA persistence context to each HTTP request, starting before
+ * the Spring Security filter chain.
+ *
+ * <p>
+ * Spring Boot's default open-in-view support is a handler interceptor, so its persistence context
+ * only opens after every servlet filter has run. The user that
+ * {@link com.yohan.event_planner.security.AuthTokenFilter} loads would then be detached by the
+ * time a service touches it, and services would have to load it again. Registering
+ * {@link OpenEntityManagerInViewFilter} ahead of the security filters keeps that user managed for
+ * the whole request, which lets
+ * {@link com.yohan.event_planner.security.AuthenticatedUserProvider} hand it out without a
+ * second query. The interceptor is disabled with {@code spring.jpa.open-in-view=false}.
+ * </p>
+ *
+ * <p>
+ * Transactions started by services join the request's persistence context, so lazy associations
+ * of entities loaded earlier in the request can still be initialized.
+ * </p>
+ *
+ * @see com.yohan.event_planner.security.AuthenticatedUserProvider
+ */
+@Configuration
+public class PersistenceContextConfig {
+
+    /**
+     * Registers the open-entity-manager filter just before the Spring Security filter chain.
+     *
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration =
+                new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,120 @@
+package com.yohan.event_planner.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the shared, bounded cache behind user lookups by ID.
+ *
+ * <p>
+ * The cache is Hibernate's second-level cache, served through JCache by Caffeine. Only the
+ * {@link com.yohan.event_planner.domain.User} entity and its roles are cacheable, so
+ * {@link com.yohan.event_planner.business.UserBO#getUserById(Long)} - called on every
+ * authenticated request - is usually answered from memory. The query cache stays disabled:
+ * username and email lookups, including the one performed at login, always read the database
+ * and refresh the cached entry with what they read.
+ * </p>
+ *
+ * <p>
+ * Because the cache sits below the persistence context, every lookup still returns a managed
+ * entity: updates, dirty checking and lazy loading behave exactly as without the cache, and
+ * Hibernate refreshes cached entries when a transaction that modified them commits.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li>{@code app.user-cache.enabled} - turns the second-level cache on or off</li>
+ *   <li>{@code app.user-cache.max-size} - maximum entries held by each cache region</li>
+ *   <li>{@code app.user-cache.ttl-seconds} - how long an entry may be served, which also bounds
+ *       how long a change made by another application instance can go unseen</li>
+ * </ul>
+ *
+ * @see com.yohan.event_planner.business.UserCache
+ */
+@Configuration
+public class UserCacheConfig {
+
+    /** Cache region holding {@link com.yohan.event_planner.domain.User} entities. */
+    public static final String USERS_REGION = "users";
+
+    /** Cache region holding the roles of cached users. */
+    public static final String USER_ROLES_REGION = "users.roles";
+
+    /** Every region Hibernate may use; any other region fails startup instead of being created unbounded. */
+    public static final List<String> REGIONS = List.of(USERS_REGION, USER_ROLES_REGION);
+
+    @Value("${app.user-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.user-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    @Value("${app.user-cache.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    /**
+     * Creates the Caffeine cache manager holding the user regions.
+     *
+     * <p>The manager exists even when the cache is disabled so statistics can always be read; its
+     * regions are only created when the cache is enabled.</p>
+     *
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager userCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        if (enabled) {
+            for (String region : REGIONS) {
+                if (cacheManager.getCache(region) == null) {
+                    cacheManager.createCache(region, regionConfiguration());
+                }
+            }
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Enables Hibernate's second-level cache on top of the user cache manager.
+     *
+     * @param userCacheManager the cache manager holding the user regions
+     * @return customizer applied to the Hibernate properties before the entity manager factory is built
+     */
+    @Bean
+    public HibernatePropertiesCustomizer userCacheHibernatePropertiesCustomizer(CacheManager userCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            if (enabled) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, userCacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpiryPolicyFactory(
+                CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, ttlSeconds)));
+        // Hibernate stores immutable, disassembled entries, so copying them on every access is wasted work
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -95,7 +95,7 @@ public final class ApplicationConstants {
     /** Time window for registration rate limiting in hours */
     public static final long REGISTRATION_WINDOW_HOURS = 1;
     
-    /** Cache name for registration rate limiting */
+    /** Limiter name for registration rate limiting */
     public static final String REGISTRATION_CACHE = "registration-rate-limit";
 
     /** Maximum login attempts per time window */
@@ -104,7 +104,7 @@ public final class ApplicationConstants {
     /** Time window for login rate limiting in hours (15 minutes) */
     public static final double LOGIN_WINDOW_HOURS = 0.25;
     
-    /** Cache name for login rate limiting */
+    /** Limiter name for login rate limiting */
     public static final String LOGIN_CACHE = "login-rate-limit";
 
     /** Maximum password reset requests per time window */
@@ -113,7 +113,7 @@ public final class ApplicationConstants {
     /** Time window for password reset rate limiting in hours */
     public static final long PASSWORD_RESET_WINDOW_HOURS = 1;
     
-    /** Cache name for password reset rate limiting */
+    /** Limiter name for password reset rate limiting */
     public static final String PASSWORD_RESET_CACHE = "password-reset-rate-limit";
 
     /** Maximum email verification attempts per time window */
@@ -122,7 +122,7 @@ public final class ApplicationConstants {
     /** Time window for email verification rate limiting in hours (30 minutes) */
     public static final double EMAIL_VERIFICATION_WINDOW_HOURS = 0.5;
     
-    /** Cache name for email verification rate limiting */
+    /** Limiter name for email verification rate limiting */
     public static final String EMAIL_VERIFICATION_CACHE = "email-verification-rate-limit";
 
     // ================================
@@ -145,6 +145,12 @@ public final class ApplicationConstants {
     /** Multiplier for month component in YYYYMMDD date format */
     public static final int DATE_MONTH_MULTIPLIER = 100;
 
+    /** Bucket year of the single ALL_TIME label time bucket */
+    public static final int ALL_TIME_BUCKET_YEAR = 0;
+
+    /** Bucket value of the single ALL_TIME label time bucket */
+    public static final int ALL_TIME_BUCKET_VALUE = 0;
+
     // ================================
     // Email Subject Constants
     // ================================
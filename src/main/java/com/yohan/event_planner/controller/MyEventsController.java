@@ -1,9 +1,13 @@
 package com.yohan.event_planner.controller;
 
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.dto.CalendarImportReportDTO;
 import com.yohan.event_planner.dto.DraftsResponseDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.MyEventsResponseDTO;
 import com.yohan.event_planner.dto.RecurringEventResponseDTO;
+import com.yohan.event_planner.service.CalendarExportService;
+import com.yohan.event_planner.service.CalendarImportService;
 import com.yohan.event_planner.service.MyEventsService;
 import com.yohan.event_planner.service.EventService;
 import com.yohan.event_planner.service.RecurringEventService;
@@ -17,16 +21,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 import com.yohan.event_planner.exception.InvalidCalendarParameterException;
 import com.yohan.event_planner.exception.ErrorCode;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -43,6 +56,8 @@ import java.util.List;
  *   <li><strong>Draft Management</strong>: Provides access to unconfirmed event drafts</li>
  *   <li><strong>Bulk Operations</strong>: Supports batch deletion of draft events</li>
  *   <li><strong>Cursor Pagination</strong>: Optimized for infinite scrolling interfaces</li>
+ *   <li><strong>Calendar Export</strong>: Streams the whole calendar as ICS, CSV or NDJSON</li>
+ *   <li><strong>Calendar Import</strong>: Bulk imports ICS, CSV or NDJSON files with per-entry results</li>
  * </ul>
  * 
  * <h2>Security Context</h2>
@@ -64,11 +79,15 @@ import java.util.List;
  *   <li><strong>MyEventsService</strong>: For complex paginated queries of confirmed events</li>
  *   <li><strong>EventService</strong>: For direct CRUD operations on individual events</li>
  *   <li><strong>RecurringEventService</strong>: For direct CRUD operations on recurring events</li>
+ *   <li><strong>CalendarExportService</strong>: For streaming full calendar exports</li>
+ *   <li><strong>CalendarImportService</strong>: For bulk calendar imports</li>
  * </ul>
  * 
  * @see MyEventsService
  * @see EventService  
  * @see RecurringEventService
+ * @see CalendarExportService
+ * @see CalendarImportService
  * @see MyEventsResponseDTO
  * @see DraftsResponseDTO
  * @author Event Planner Development Team
@@ -86,6 +105,8 @@ public class MyEventsController {
     private final MyEventsService myEventsService;
     private final EventService eventService;
     private final RecurringEventService recurringEventService;
+    private final CalendarExportService calendarExportService;
+    private final CalendarImportService calendarImportService;
 
     /**
      * Constructs a new MyEventsController with required service dependencies.
@@ -93,16 +114,22 @@ public class MyEventsController {
      * @param myEventsService the service for paginated event queries
      * @param eventService the service for individual event operations
      * @param recurringEventService the service for recurring event operations
+     * @param calendarExportService the service for full calendar exports
+     * @param calendarImportService the service for bulk calendar imports
      * @throws NullPointerException if any service dependency is null
      */
     public MyEventsController(
             MyEventsService myEventsService,
             EventService eventService,
-            RecurringEventService recurringEventService
+            RecurringEventService recurringEventService,
+            CalendarExportService calendarExportService,
+            CalendarImportService calendarImportService
     ) {
         this.myEventsService = myEventsService;
         this.eventService = eventService;
         this.recurringEventService = recurringEventService;
+        this.calendarExportService = calendarExportService;
+        this.calendarImportService = calendarImportService;
         logger.debug("MyEventsController initialized with service dependencies");
     }
 
@@ -278,6 +305,107 @@ public class MyEventsController {
         logger.info("Successfully deleted all draft events for user");
     }
 
+    @Operation(
+            summary = "Export my calendar",
+            description = "Download all confirmed events and recurring events of the current user as an ICS, CSV or NDJSON file"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar file streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown export format"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+    })
+    /**
+     * Streams a full export of the current user's calendar as a file download.
+     *
+     * <p>Unlike {@link #getMyEvents}, the export is not paginated: it contains every confirmed
+     * event and recurring event in one response. The file is written straight to the response
+     * body while it is read from the database, so the response starts immediately and memory use
+     * stays constant for calendars of any size.</p>
+     *
+     * <h3>Formats</h3>
+     * <ul>
+     *   <li><strong>ICS</strong>: iCalendar file for calendar clients; recurring events keep their rules</li>
+     *   <li><strong>CSV</strong>: Spreadsheet with one row per event or recurring event</li>
+     *   <li><strong>NDJSON</strong>: One JSON object per line, for backup and support tooling</li>
+     * </ul>
+     *
+     * <p>The response is committed with the first chunk, so a failure partway through ends the
+     * download early instead of returning an error status.</p>
+     *
+     * @param format the file format, defaults to ICS
+     * @param response the servlet response whose body receives the file
+     * @throws IOException if writing the response fails, for example because the client disconnected
+     * @throws org.springframework.security.access.AccessDeniedException if JWT token is missing or invalid
+     */
+    @GetMapping("/export")
+    public void exportMyCalendar(
+            @Parameter(description = "Export file format (ICS, CSV or NDJSON)")
+            @RequestParam(defaultValue = "ICS") CalendarFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        logger.debug("Processing exportMyCalendar request with format: {}", format);
+
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("calendar." + format.getFileExtension())
+                .build()
+                .toString());
+
+        calendarExportService.exportForCurrentUser(format, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Import a calendar",
+            description = "Upload an ICS, CSV or NDJSON file and create its events and recurring events for the current user"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "File imported; the report lists the result of every entry",
+                    content = @Content(schema = @Schema(implementation = CalendarImportReportDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Unknown format or file not in the given format"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+    })
+    /**
+     * Imports a calendar file, typically exported from another calendar, in one request.
+     *
+     * <p>The upload is read as a stream and validated as a whole: entries are checked for
+     * conflicts in bulk and inserted in batches, so files with thousands of events import in
+     * seconds. The file is imported even if some entries fail.</p>
+     *
+     * <h3>Entry Results</h3>
+     * <ul>
+     *   <li><strong>CREATED</strong>: Created as a confirmed event or recurring event</li>
+     *   <li><strong>CREATED_AS_DRAFT</strong>: Conflicts with another event, created as a draft to resolve</li>
+     *   <li><strong>SKIPPED</strong>: Invalid or unsupported, with the reason</li>
+     * </ul>
+     *
+     * <p>Labels are matched by name and created when missing; entries without a label are
+     * unlabeled. Every file written by {@link #exportMyCalendar} can be imported.</p>
+     *
+     * @param format the file format, defaults to ICS
+     * @param file the uploaded calendar file
+     * @return the import report with one result per entry
+     * @throws IOException if reading the upload fails
+     * @throws org.springframework.security.access.AccessDeniedException if JWT token is missing or invalid
+     * @throws InvalidCalendarParameterException if the file is not in the given format
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CalendarImportReportDTO importMyCalendar(
+            @Parameter(description = "Import file format (ICS, CSV or NDJSON)")
+            @RequestParam(defaultValue = "ICS") CalendarFormat format,
+            @Parameter(description = "Calendar file to import")
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        logger.debug("Processing importMyCalendar request with format: {}, size: {} bytes", format, file.getSize());
+
+        try (InputStream in = file.getInputStream()) {
+            return calendarImportService.importForCurrentUser(format, in);
+        }
+    }
+
     private int validateAndGetLimit(String limit) {
         logger.debug("validateAndGetLimit called with limit: '{}'", limit);
         
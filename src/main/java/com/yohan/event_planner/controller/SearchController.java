@@ -5,6 +5,7 @@ import com.yohan.event_planner.domain.enums.TimeFilter;
 import com.yohan.event_planner.dto.EventFilterDTO;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.RecurringEventResponseDTO;
 import com.yohan.event_planner.service.EventService;
 import com.yohan.event_planner.service.RecurringEventService;
@@ -44,6 +45,14 @@ import java.time.ZonedDateTime;
  *   <li><strong>Recurring Event Search</strong>: Pattern-aware filtering for recurring event templates</li>
  * </ul>
  * 
+ * <h2>Pagination Modes</h2>
+ * <ul>
+ *   <li><strong>Offset</strong>: {@code /search/events} and {@code /search/recurringevents} return
+ *       numbered pages with a total count, or a planner estimate of it when {@code estimateTotal=true}</li>
+ *   <li><strong>Keyset</strong>: {@code /search/events/keyset} and {@code /search/recurringevents/keyset}
+ *       continue from an opaque cursor, so deep pages cost the same as the first and no count query runs</li>
+ * </ul>
+ * 
  * <h2>Security Model</h2>
  * <ul>
  *   <li><strong>Authentication Required</strong>: All endpoints require valid JWT token</li>
@@ -116,10 +125,12 @@ public class SearchController {
             @Parameter(description = "Sort events in descending order")
             @RequestParam(required = false) Boolean sortDescending,
             @Parameter(description = "Include incomplete past events in results")
-            @RequestParam(required = false) Boolean includeIncompletePastEvents) {
+            @RequestParam(required = false) Boolean includeIncompletePastEvents,
+            @Parameter(description = "Estimate the total number of events from planner statistics instead of counting them")
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
 
-        logger.debug("Searching events for user with filter: timeFilter={}, labelId={}, pageNumber={}, pageSize={}", 
-                timeFilter, labelId, pageNumber, pageSize);
+        logger.debug("Searching events for user with filter: timeFilter={}, labelId={}, pageNumber={}, pageSize={}, estimateTotal={}", 
+                timeFilter, labelId, pageNumber, pageSize, estimateTotal);
 
         EventFilterDTO filter = new EventFilterDTO(
                 labelId,
@@ -131,12 +142,66 @@ public class SearchController {
         );
 
         // Call service to fetch events for current user
-        Page<EventResponseDTO> events = eventService.getConfirmedEventsForCurrentUser(filter, pageNumber, pageSize);
+        Page<EventResponseDTO> events = eventService.getConfirmedEventsForCurrentUser(filter, pageNumber, pageSize, estimateTotal);
         
         logger.info("Successfully retrieved {} events for user search", events.getTotalElements());
         return ResponseEntity.ok(events);
     }
 
+    @Operation(
+            summary = "Search for events by cursor",
+            description = "Search confirmed events for the current user with keyset pagination. Pass the nextCursor of a page, "
+                    + "with the same filters and sort order, to fetch the following page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Events retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or time range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "404", description = "Label not found (if labelId provided)")
+    })
+    @GetMapping("/events/keyset")
+    public ResponseEntity<KeysetPageDTO<EventResponseDTO>> searchEventsByCursor(
+            @Parameter(description = "Filter by specific label ID")
+            @RequestParam(required = false) Long labelId,
+            @Parameter(description = "Time-based filter (past, present, future, etc.)")
+            @RequestParam(required = false) TimeFilter timeFilter,
+            @Parameter(description = "Start date/time filter")
+            @RequestParam(required = false) ZonedDateTime start,
+            @Parameter(description = "End date/time filter")
+            @RequestParam(required = false) ZonedDateTime end,
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of events per page (1-100)")
+            @RequestParam(defaultValue = "10") @Min(ApplicationConstants.MIN_PAGE_SIZE) @Max(ApplicationConstants.MAX_PAGE_SIZE) int pageSize,
+            @Parameter(description = "Sort events in descending order")
+            @RequestParam(required = false) Boolean sortDescending,
+            @Parameter(description = "Include incomplete past events in results")
+            @RequestParam(required = false) Boolean includeIncompletePastEvents,
+            @Parameter(description = "Include an estimate of the total number of events")
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+
+        logger.debug("Searching events by cursor for user with filter: timeFilter={}, labelId={}, pageSize={}, firstPage={}",
+                timeFilter, labelId, pageSize, cursor == null);
+
+        EventFilterDTO filter = new EventFilterDTO(
+                labelId,
+                timeFilter,
+                start,
+                end,
+                sortDescending,
+                includeIncompletePastEvents
+        );
+
+        KeysetPageDTO<EventResponseDTO> events = eventService.getConfirmedEventsForCurrentUserAfter(filter, cursor, pageSize, estimateTotal);
+
+        logger.info("Successfully retrieved {} events for user cursor search", events.content().size());
+        return ResponseEntity.ok(events);
+    }
+
     @Operation(
             summary = "Search for recurring events",
             description = "Search and filter confirmed recurring events for the current user with advanced filtering options including label and date range"
@@ -165,10 +230,12 @@ public class SearchController {
             @Parameter(description = "Number of recurring events per page (1-100)")
             @RequestParam(defaultValue = "10") @Min(ApplicationConstants.MIN_PAGE_SIZE) @Max(ApplicationConstants.MAX_PAGE_SIZE) int pageSize,
             @Parameter(description = "Sort recurring events in descending order")
-            @RequestParam(required = false) Boolean sortDescending) {
+            @RequestParam(required = false) Boolean sortDescending,
+            @Parameter(description = "Estimate the total number of recurring events from planner statistics instead of counting them")
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
 
-        logger.debug("Searching recurring events for user with filter: timeFilter={}, labelId={}, pageNumber={}, pageSize={}", 
-                timeFilter, labelId, pageNumber, pageSize);
+        logger.debug("Searching recurring events for user with filter: timeFilter={}, labelId={}, pageNumber={}, pageSize={}, estimateTotal={}", 
+                timeFilter, labelId, pageNumber, pageSize, estimateTotal);
 
         RecurringEventFilterDTO filter = new RecurringEventFilterDTO(
                 labelId,
@@ -179,10 +246,62 @@ public class SearchController {
         );
 
         // Call service to fetch recurring events for current user
-        Page<RecurringEventResponseDTO> recurringEvents = recurringEventService.getConfirmedRecurringEventsForCurrentUser(filter, pageNumber, pageSize);
+        Page<RecurringEventResponseDTO> recurringEvents = recurringEventService.getConfirmedRecurringEventsForCurrentUser(filter, pageNumber, pageSize, estimateTotal);
         
         logger.info("Successfully retrieved {} recurring events for user search", recurringEvents.getTotalElements());
         return ResponseEntity.ok(recurringEvents);
     }
+
+    @Operation(
+            summary = "Search for recurring events by cursor",
+            description = "Search confirmed recurring events for the current user with keyset pagination. Pass the nextCursor "
+                    + "of a page, with the same filters and sort order, to fetch the following page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Recurring events retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required"),
+            @ApiResponse(responseCode = "404", description = "Label not found (if labelId provided)")
+    })
+    @GetMapping("/recurringevents/keyset")
+    public ResponseEntity<KeysetPageDTO<RecurringEventResponseDTO>> searchRecurringEventsByCursor(
+            @Parameter(description = "Filter by specific label ID")
+            @RequestParam(required = false) Long labelId,
+            @Parameter(description = "Time-based filter (past, present, future, etc.)")
+            @RequestParam(required = false) TimeFilter timeFilter,
+            @Parameter(description = "Start date filter")
+            @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "End date filter")
+            @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "Cursor returned with the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of recurring events per page (1-100)")
+            @RequestParam(defaultValue = "10") @Min(ApplicationConstants.MIN_PAGE_SIZE) @Max(ApplicationConstants.MAX_PAGE_SIZE) int pageSize,
+            @Parameter(description = "Sort recurring events in descending order")
+            @RequestParam(required = false) Boolean sortDescending,
+            @Parameter(description = "Include an estimate of the total number of recurring events")
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+
+        logger.debug("Searching recurring events by cursor for user with filter: timeFilter={}, labelId={}, pageSize={}, firstPage={}",
+                timeFilter, labelId, pageSize, cursor == null);
+
+        RecurringEventFilterDTO filter = new RecurringEventFilterDTO(
+                labelId,
+                timeFilter,
+                startDate,
+                endDate,
+                sortDescending
+        );
+
+        KeysetPageDTO<RecurringEventResponseDTO> recurringEvents =
+                recurringEventService.getConfirmedRecurringEventsForCurrentUserAfter(filter, cursor, pageSize, estimateTotal);
+
+        logger.info("Successfully retrieved {} recurring events for user cursor search", recurringEvents.content().size());
+        return ResponseEntity.ok(recurringEvents);
+    }
 }
 
@@ -122,7 +122,7 @@ public class UserProfileGraphQLController {
      */
     @QueryMapping
     public UserProfileResponseDTO userProfile(@Argument String username) {
-        Long viewerId = authenticatedUserProvider.getCurrentUser().getId();
+        Long viewerId = authenticatedUserProvider.getCurrentUserId();
         logger.debug("Processing userProfile query for username: {} by viewer: {}", username, viewerId);
         
         UserProfileResponseDTO profile = userService.getUserProfile(username, viewerId);
@@ -179,7 +179,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public UserHeaderResponseDTO updateUserHeader(@Argument("input") UserHeaderUpdateDTO input) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} updating header: bio={}, profilePicture={}", 
             userId, input.bio() != null, input.profilePictureUrl() != null);
         
@@ -223,7 +223,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean deleteBadge(@Argument("id") Long badgeId) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} deleting badge {}", userId, badgeId);
         
         badgeService.deleteBadge(badgeId);
@@ -242,7 +242,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean reorderBadges(@Argument("ids") List<Long> ids) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} reordering {} badges", userId, ids.size());
         
         badgeService.reorderBadges(userId, ids);
@@ -289,7 +289,7 @@ public class UserProfileGraphQLController {
     @MutationMapping
     public EventResponseDTO updateEvent(@Argument String id, @Argument UpdateEventInput input) {
         Long eventId = Long.valueOf(id);
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} updating event {}: name={}, description={}, completed={}", 
             userId, eventId, 
             input.name() != null && input.name().isPresent() ? "provided" : "unchanged",
@@ -313,7 +313,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean deleteEvent(@Argument("id") Long eventId) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} deleting event {}", userId, eventId);
         
         eventService.deleteEvent(eventId);
@@ -336,7 +336,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public EventRecapResponseDTO addEventRecap(@Argument AddEventRecapInput input) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} adding recap to event {}: hasMedia={}, isUnconfirmed={}", 
             userId, input.eventId(), 
             input.media() != null && !input.media().isEmpty(),
@@ -380,7 +380,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public EventRecapResponseDTO updateEventRecap(@Argument Long eventId, @Argument UpdateEventRecapInput input) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} updating recap for event {}: hasNotes={}, hasMedia={}", 
             userId, eventId, 
             input.notes() != null,
@@ -419,7 +419,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public EventRecapResponseDTO confirmEventRecap(@Argument Long eventId) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} confirming recap for event {}", userId, eventId);
         
         EventRecapResponseDTO result = eventRecapService.confirmEventRecap(eventId);
@@ -438,7 +438,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean deleteEventRecap(@Argument Long eventId) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} deleting recap for event {}", userId, eventId);
         
         eventRecapService.deleteEventRecap(eventId);
@@ -464,7 +464,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public RecapMediaResponseDTO addRecapMedia(@Argument Long recapId, @Argument @Valid CreateRecapMediaInput input) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} adding media to recap {}: type={}, duration={}", 
             userId, recapId, input.mediaType(), input.durationSeconds());
         
@@ -494,7 +494,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public RecapMediaResponseDTO updateRecapMedia(@Argument Long mediaId, @Argument @Valid UpdateRecapMediaInput input) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} updating media {}: hasUrl={}, hasType={}, hasDuration={}", 
             userId, mediaId,
             input.mediaUrl() != null,
@@ -524,7 +524,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean deleteRecapMedia(@Argument Long mediaId) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} deleting media {}", userId, mediaId);
         
         recapMediaService.deleteRecapMedia(mediaId);
@@ -545,7 +545,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean reorderRecapMedia(@Argument Long recapId, @Argument List<Long> mediaOrder) {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} reordering {} media items for recap {}", userId, mediaOrder.size(), recapId);
         
         recapMediaService.reorderRecapMedia(recapId, mediaOrder);
@@ -567,7 +567,7 @@ public class UserProfileGraphQLController {
      */
     @MutationMapping
     public Boolean unpinImpromptuEvent() {
-        Long userId = authenticatedUserProvider.getCurrentUser().getId();
+        Long userId = authenticatedUserProvider.getCurrentUserId();
         logger.info("User {} unpinning impromptu event", userId);
         
         eventService.unpinImpromptuEventForCurrentUser();
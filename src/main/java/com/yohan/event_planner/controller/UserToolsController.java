@@ -111,7 +111,7 @@ public class UserToolsController {
     public ResponseEntity<UserToolsResponseDTO> getUserTools() {
         logger.debug("Received request to get user tools");
         try {
-            Long userId = authenticatedUserProvider.getCurrentUser().getId();
+            Long userId = authenticatedUserProvider.getCurrentUserId();
             logger.debug("Retrieving tools for user ID: {}", userId);
 
             List<BadgeResponseDTO> badges = badgeService.getBadgesByUser(userId);
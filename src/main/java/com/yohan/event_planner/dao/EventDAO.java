@@ -1,5 +1,6 @@
 package com.yohan.event_planner.dao;
 
+import com.blazebit.persistence.Keyset;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.dto.EventFilterDTO;
@@ -10,7 +11,9 @@ import com.yohan.event_planner.dto.EventFilterDTO;
  * <p>This DAO provides optimized queries for confirmed events with support for:
  * <ul>
  *   <li>Complex filtering using {@link EventFilterDTO} criteria</li>
- *   <li>Efficient pagination with {@link PagedList} results</li>
+ *   <li>Offset pagination with {@link PagedList} results, or keyset pagination that seeks past
+ *       the last row of the previous page</li>
+ *   <li>Planner-based result count estimates in place of exact counts</li>
  *   <li>Eager fetching of creator and label associations</li>
  *   <li>Time window filtering for event date ranges</li>
  * </ul>
@@ -54,4 +57,43 @@ public interface EventDAO {
      * @return a paginated list of confirmed events matching the filter
      */
     PagedList<Event> findConfirmedEvents(Long userId, EventFilterDTO filter, int pageNumber, int pageSize);
+
+    /**
+     * Finds a page of confirmed events like {@link #findConfirmedEvents(Long, EventFilterDTO, int, int)},
+     * optionally skipping the total-count query.
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param filter the filter criteria (time window, label, completion state, etc.)
+     * @param pageNumber zero-based page number for pagination
+     * @param pageSize maximum number of results per page
+     * @param countTotal whether to run the count query; when {@code false} the total size of the
+     *                   returned list is not meaningful
+     * @return a paginated list of confirmed events matching the filter
+     */
+    PagedList<Event> findConfirmedEvents(Long userId, EventFilterDTO filter, int pageNumber, int pageSize, boolean countTotal);
+
+    /**
+     * Finds the confirmed events sorted right after a keyset, without OFFSET and without a count query.
+     *
+     * <p>Events are ordered by {@code (startTime, id)} in the filter's sort direction. The keyset of
+     * the returned page's last row is available from {@link PagedList#getKeysetPage()}.</p>
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param filter the filter criteria (time window, label, completion state, etc.)
+     * @param after the {@code (startTime, id)} keyset of the last event of the previous page,
+     *              or {@code null} for the first page
+     * @param pageSize maximum number of results per page
+     * @return the next page of confirmed events matching the filter
+     */
+    PagedList<Event> findConfirmedEventsAfter(Long userId, EventFilterDTO filter, Keyset after, int pageSize);
+
+    /**
+     * Estimates how many confirmed events match the filter from planner statistics.
+     *
+     * @param userId the ID of the user whose events to count
+     * @param filter the filter criteria (time window, label, completion state, etc.)
+     * @return the planner's estimate of the number of matching events
+     * @see QueryPlanEstimator
+     */
+    long estimateConfirmedEvents(Long userId, EventFilterDTO filter);
 }
\ No newline at end of file
@@ -2,7 +2,12 @@ package com.yohan.event_planner.dao;
 
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
+import com.yohan.event_planner.dao.FilterCriteria.Operator;
+import com.yohan.event_planner.dao.FilterCriteria.Predicate;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.dto.EventFilterDTO;
 import jakarta.persistence.EntityManager;
@@ -11,6 +16,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -19,7 +26,9 @@ import java.util.Objects;
  * <p>This implementation provides optimized queries for confirmed events with support for:
  * <ul>
  *   <li>Complex filtering using {@link EventFilterDTO} criteria</li>
- *   <li>Efficient pagination with {@link PagedList} results</li>
+ *   <li>Offset pagination with {@link PagedList} results, or keyset pagination that seeks past
+ *       the last row of the previous page</li>
+ *   <li>Planner-based result count estimates in place of exact counts</li>
  *   <li>Eager fetching of creator and label associations</li>
  *   <li>Time window filtering for event date ranges</li>
  * </ul>
@@ -55,19 +64,23 @@ public class EventDAOImpl implements EventDAO {
 
     private final CriteriaBuilderFactory cbf;
     private final EntityManager em;
+    private final QueryPlanEstimator queryPlanEstimator;
 
     /**
      * Constructs a new EventDAOImpl with required Blaze-Persistence dependencies.
      * 
      * @param cbf the CriteriaBuilderFactory for creating Blaze-Persistence queries
      * @param em the EntityManager for JPA operations
+     * @param queryPlanEstimator the estimator used for approximate result counts
      */
     public EventDAOImpl(
             CriteriaBuilderFactory cbf,
-            EntityManager em
+            EntityManager em,
+            QueryPlanEstimator queryPlanEstimator
     ) {
         this.cbf = cbf;
         this.em = em;
+        this.queryPlanEstimator = queryPlanEstimator;
     }
 
     /**
@@ -92,29 +105,121 @@ public class EventDAOImpl implements EventDAO {
      */
     @Override
     public PagedList<Event> findConfirmedEvents(Long userId, EventFilterDTO filter, int pageNumber, int pageSize) {
+        return findConfirmedEvents(userId, filter, pageNumber, pageSize, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Without the count query only the page itself is read, which avoids visiting every
+     * matching row on each request.</p>
+     */
+    @Override
+    public PagedList<Event> findConfirmedEvents(Long userId, EventFilterDTO filter, int pageNumber, int pageSize, boolean countTotal) {
         Objects.requireNonNull(userId, "userId cannot be null");
         Objects.requireNonNull(filter, "filter cannot be null");
         
-        logger.debug("Finding confirmed events for user {} with filter: labelId={}, timeFilter={}, start={}, end={}, includeIncompletePastEvents={}, sortDescending={}, page={}, size={}",
-                userId, filter.labelId(), filter.timeFilter(), filter.start(), filter.end(), filter.includeIncompletePastEvents(), filter.sortDescending(), pageNumber, pageSize);
+        logger.debug("Finding confirmed events for user {} with filter: labelId={}, timeFilter={}, start={}, end={}, includeIncompletePastEvents={}, sortDescending={}, page={}, size={}, countTotal={}",
+                userId, filter.labelId(), filter.timeFilter(), filter.start(), filter.end(), filter.includeIncompletePastEvents(), filter.sortDescending(), pageNumber, pageSize, countTotal);
 
-        CriteriaBuilder<Event> cb = createBaseQuery();
+        CriteriaBuilder<Event> cb = createFilteredQuery(userId, filter);
 
-        applyUserFilter(userId, cb);
-        applyOnlyConfirmedFilter(cb);
-        applyLabelFilter(filter, cb);
-        applyTimeWindowFilter(filter, cb);
-        applyIncompletePastEventFilter(filter, cb);
-        applySortOrder(filter, cb);
-
-        PagedList<Event> results = cb.page(pageNumber, pageSize).getResultList();
+        PagedList<Event> results = cb.page(pageNumber * pageSize, pageSize)
+                .withCountQuery(countTotal)
+                .getResultList();
         
-        logger.info("Retrieved {} confirmed events for user {} (page {}/{}, total elements: {})",
-                results.size(), userId, pageNumber + 1, results.getTotalPages(), results.getTotalSize());
+        if (countTotal) {
+            logger.info("Retrieved {} confirmed events for user {} (page {}/{}, total elements: {})",
+                    results.size(), userId, pageNumber + 1, results.getTotalPages(), results.getTotalSize());
+        } else {
+            logger.info("Retrieved {} confirmed events for user {} (page {}, not counted)",
+                    results.size(), userId, pageNumber + 1);
+        }
         
         return results;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The previous page is described to Blaze-Persistence as a keyset page starting at offset 0
+     * whose highest keyset is {@code after}. Requesting the offset exactly one page later makes
+     * Blaze-Persistence add a {@code (startTime, id) > after} predicate (or {@code <} when sorting
+     * descending) instead of an OFFSET, so the sort index is entered at the cursor position.</p>
+     */
+    @Override
+    public PagedList<Event> findConfirmedEventsAfter(Long userId, EventFilterDTO filter, Keyset after, int pageSize) {
+        Objects.requireNonNull(userId, "userId cannot be null");
+        Objects.requireNonNull(filter, "filter cannot be null");
+
+        logger.debug("Finding confirmed events for user {} after keyset {} with filter: labelId={}, start={}, end={}, sortDescending={}, size={}",
+                userId, after, filter.labelId(), filter.start(), filter.end(), filter.sortDescending(), pageSize);
+
+        CriteriaBuilder<Event> cb = createFilteredQuery(userId, filter);
+
+        KeysetPage previousPage = after == null ? null : new DefaultKeysetPage(0, pageSize, after, after);
+        PagedList<Event> results = cb.page(previousPage, after == null ? 0 : pageSize, pageSize)
+                .withKeysetExtraction(true)
+                .withCountQuery(false)
+                .getResultList();
+
+        logger.info("Retrieved {} confirmed events for user {} by keyset", results.size(), userId);
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Plans a native query rendered from the same {@link FilterCriteria} as
+     * {@link #findConfirmedEvents}, so the estimate is based on the same predicates, indexes and
+     * column statistics.</p>
+     */
+    @Override
+    public long estimateConfirmedEvents(Long userId, EventFilterDTO filter) {
+        Objects.requireNonNull(userId, "userId cannot be null");
+        Objects.requireNonNull(filter, "filter cannot be null");
+
+        Map<String, Object> parameters = new HashMap<>();
+        String sql = createFilterCriteria(userId, filter).toSql("events", parameters);
+
+        long estimate = queryPlanEstimator.estimateRows(sql, parameters);
+        logger.debug("Estimated {} confirmed events for user {}", estimate, userId);
+        return estimate;
+    }
+
+    /**
+     * Builds the filtered and sorted query shared by offset and keyset pagination.
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param filter the filter criteria containing time window, label, completion state, and sorting options
+     * @return configured CriteriaBuilder ready to be paginated
+     */
+    private CriteriaBuilder<Event> createFilteredQuery(Long userId, EventFilterDTO filter) {
+        CriteriaBuilder<Event> cb = createBaseQuery();
+
+        createFilterCriteria(userId, filter).applyTo(cb);
+        applySortOrder(filter, cb);
+        return cb;
+    }
+
+    /**
+     * Builds the filter predicates shared by the paged queries and the result count estimate.
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param filter the filter criteria containing time window, label and completion state
+     * @return the predicates every returned event satisfies
+     */
+    private FilterCriteria createFilterCriteria(Long userId, EventFilterDTO filter) {
+        FilterCriteria criteria = new FilterCriteria();
+
+        applyUserFilter(userId, criteria);
+        applyOnlyConfirmedFilter(criteria);
+        applyLabelFilter(filter, criteria);
+        applyTimeWindowFilter(filter, criteria);
+        applyIncompletePastEventFilter(filter, criteria);
+        return criteria;
+    }
+
     /**
      * Creates the base query with optimized eager fetching strategy.
      * 
@@ -136,11 +241,11 @@ public class EventDAOImpl implements EventDAO {
      * events. Uses indexed creator.id for efficient filtering.</p>
      * 
      * @param userId the ID of the user whose events to retrieve
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyUserFilter(Long userId, CriteriaBuilder<Event> cb) {
+    private void applyUserFilter(Long userId, FilterCriteria criteria) {
         logger.debug("Applying user filter for userId: {}", userId);
-        cb.where("creator.id").eq(userId);
+        criteria.where("creator.id", "creator_id", Operator.EQ, userId);
     }
 
     /**
@@ -149,10 +254,10 @@ public class EventDAOImpl implements EventDAO {
      * <p>Only returns confirmed events that are ready for display
      * and user interaction. Draft events are excluded from all query results.</p>
      * 
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyOnlyConfirmedFilter(CriteriaBuilder<Event> cb) {
-        cb.where("unconfirmed").eq(false);
+    private void applyOnlyConfirmedFilter(FilterCriteria criteria) {
+        criteria.where("unconfirmed", "unconfirmed", Operator.EQ, false);
     }
 
     /**
@@ -162,12 +267,12 @@ public class EventDAOImpl implements EventDAO {
      * that specific label. Label ownership validation is handled at the service layer.</p>
      * 
      * @param filter the filter containing optional label ID criteria
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyLabelFilter(EventFilterDTO filter, CriteriaBuilder<Event> cb) {
+    private void applyLabelFilter(EventFilterDTO filter, FilterCriteria criteria) {
         if (filter.labelId() != null) {
             logger.debug("Applying label filter for labelId: {}", filter.labelId());
-            cb.where("label.id").eq(filter.labelId());
+            criteria.where("label.id", "label_id", Operator.EQ, filter.labelId());
         }
     }
 
@@ -188,9 +293,9 @@ public class EventDAOImpl implements EventDAO {
      * ZonedDateTime boundaries before calling this method.</p>
      * 
      * @param filter the filter containing resolved start and end times
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyTimeWindowFilter(EventFilterDTO filter, CriteriaBuilder<Event> cb) {
+    private void applyTimeWindowFilter(EventFilterDTO filter, FilterCriteria criteria) {
         // Service layer has already resolved TimeFilter to actual times
         ZonedDateTime startTime = filter.start();
         ZonedDateTime endTime = filter.end();
@@ -198,8 +303,8 @@ public class EventDAOImpl implements EventDAO {
         logger.debug("Applying time window filter: startTime <= {} AND endTime >= {}", endTime, startTime);
         
         // Filter for events that overlap with the time window
-        cb.where("startTime").le(endTime);
-        cb.where("endTime").ge(startTime);
+        criteria.where("startTime", "starttime", Operator.LE, endTime);
+        criteria.where("endTime", "endtime", Operator.GE, startTime);
     }
 
     /**
@@ -215,17 +320,16 @@ public class EventDAOImpl implements EventDAO {
      * based on the user's timezone before calling this method.</p>
      * 
      * @param filter the filter containing the incomplete past events preference and reference time
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyIncompletePastEventFilter(EventFilterDTO filter, CriteriaBuilder<Event> cb) {
+    private void applyIncompletePastEventFilter(EventFilterDTO filter, FilterCriteria criteria) {
         if (Boolean.FALSE.equals(filter.includeIncompletePastEvents())) {
             // Service layer provides reference time in the 'end' field when this filter is used
             ZonedDateTime referenceTime = filter.end();
             logger.debug("Applying incomplete past event filter: excluding incomplete events before {}", referenceTime);
-            cb.whereOr()
-                    .where("endTime").gt(referenceTime)
-                    .where("isCompleted").eq(true)
-                    .endOr();
+            criteria.whereAny(
+                    new Predicate("endTime", "endtime", Operator.GT, referenceTime),
+                    new Predicate("isCompleted", "is_completed", Operator.EQ, true));
         }
     }
 
@@ -0,0 +1,136 @@
+package com.yohan.event_planner.dao;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.RestrictionBuilder;
+import com.blazebit.persistence.WhereOrBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The filter predicates of a DAO search, defined once and rendered both as Blaze-Persistence
+ * restrictions and as native SQL.
+ *
+ * <p>The paged search applies the predicates to its {@link CriteriaBuilder}; the result count
+ * estimate renders the same predicates as SQL for {@link QueryPlanEstimator}. Each predicate
+ * names the entity attribute and the column it maps to side by side, so a filter added to the
+ * search is part of the estimate as well.</p>
+ *
+ * <p>The predicates form a conjunction. A clause added with {@link #whereAny} is a disjunction
+ * of its alternatives.</p>
+ */
+final class FilterCriteria {
+
+    /**
+     * Comparison operators supported in filter predicates.
+     */
+    enum Operator {
+        EQ("="),
+        GT(">"),
+        GE(">="),
+        LE("<=");
+
+        private final String sql;
+
+        Operator(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * A single comparison of an entity attribute with a value.
+     *
+     * @param attribute the attribute path in the entity, e.g. {@code creator.id}
+     * @param column the column the attribute maps to, e.g. {@code creator_id}
+     * @param operator the comparison operator
+     * @param value the value compared against
+     */
+    record Predicate(String attribute, String column, Operator operator, Object value) {
+    }
+
+    private final List<List<Predicate>> clauses = new ArrayList<>();
+
+    /**
+     * Adds a predicate that every result must satisfy.
+     *
+     * @param attribute the attribute path in the entity
+     * @param column the column the attribute maps to
+     * @param operator the comparison operator
+     * @param value the value compared against
+     * @return this criteria
+     */
+    FilterCriteria where(String attribute, String column, Operator operator, Object value) {
+        clauses.add(List.of(new Predicate(attribute, column, operator, value)));
+        return this;
+    }
+
+    /**
+     * Adds a clause that every result must satisfy through at least one of its alternatives.
+     *
+     * @param alternatives the predicates combined with OR
+     * @return this criteria
+     */
+    FilterCriteria whereAny(Predicate... alternatives) {
+        clauses.add(List.of(alternatives));
+        return this;
+    }
+
+    /**
+     * Adds the predicates to a Blaze-Persistence query.
+     *
+     * @param cb the query to restrict
+     * @param <T> the query result type
+     */
+    <T> void applyTo(CriteriaBuilder<T> cb) {
+        for (List<Predicate> clause : clauses) {
+            if (clause.size() == 1) {
+                Predicate predicate = clause.get(0);
+                restrict(cb.where(predicate.attribute()), predicate);
+            } else {
+                WhereOrBuilder<CriteriaBuilder<T>> or = cb.whereOr();
+                for (Predicate predicate : clause) {
+                    restrict(or.where(predicate.attribute()), predicate);
+                }
+                or.endOr();
+            }
+        }
+    }
+
+    /**
+     * Renders the predicates as a native query selecting one row per match.
+     *
+     * <p>Values are bound as named parameters {@code p0}, {@code p1}, ... which are added to
+     * {@code parameters}.</p>
+     *
+     * @param table the table the entity is mapped to
+     * @param parameters receives the parameter values
+     * @return the native query, without a trailing semicolon
+     */
+    String toSql(String table, Map<String, Object> parameters) {
+        StringJoiner where = new StringJoiner(" AND ");
+        for (List<Predicate> clause : clauses) {
+            StringJoiner alternatives = new StringJoiner(" OR ");
+            for (Predicate predicate : clause) {
+                String name = "p" + parameters.size();
+                parameters.put(name, predicate.value());
+                alternatives.add(predicate.column() + " " + predicate.operator().sql + " :" + name);
+            }
+            where.add(clause.size() == 1 ? alternatives.toString() : "(" + alternatives + ")");
+        }
+        return clauses.isEmpty()
+                ? "SELECT 1 FROM " + table
+                : "SELECT 1 FROM " + table + " WHERE " + where;
+    }
+
+    private static <X> X restrict(RestrictionBuilder<X> restriction, Predicate predicate) {
+        Object value = predicate.value();
+        return switch (predicate.operator()) {
+            case EQ -> restriction.eq(value);
+            case GT -> restriction.gt(value);
+            case GE -> restriction.ge(value);
+            case LE -> restriction.le(value);
+        };
+    }
+}
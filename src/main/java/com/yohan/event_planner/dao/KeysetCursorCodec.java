@@ -0,0 +1,141 @@
+package com.yohan.event_planner.dao;
+
+import com.blazebit.persistence.DefaultKeyset;
+import com.blazebit.persistence.Keyset;
+import com.yohan.event_planner.exception.ErrorCode;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Converts Blaze-Persistence keysets to and from the opaque cursor tokens returned by keyset searches.
+ *
+ * <p>A keyset is the tuple of sort values of the last row of a page (for events
+ * {@code (startTime, id)}, for recurring events {@code (startDate, endDate, id)}). The next page
+ * starts right after that tuple, so the database seeks to it through the sort index instead of
+ * skipping every earlier row with OFFSET.</p>
+ *
+ * <h2>Token Format</h2>
+ * <p>The token is the URL-safe Base64 form of a version, the sort direction and the typed keyset
+ * values. Clients must treat it as opaque. Tokens carry the sort direction so a cursor cannot be
+ * replayed against the opposite ordering, and decoding checks the value types expected by the
+ * calling DAO.</p>
+ *
+ * <p>A forged token can only move the seek position; ownership filtering is still applied by the
+ * query, so it never exposes another user's data.</p>
+ *
+ * @see EventDAO#findConfirmedEventsAfter
+ * @see RecurringEventDAO#findConfirmedRecurringEventsAfter
+ */
+public final class KeysetCursorCodec {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final String ASCENDING = "a";
+    private static final String DESCENDING = "d";
+
+    private static final char NULL_TAG = 'n';
+    private static final char LONG_TAG = 'l';
+    private static final char DATE_TAG = 'd';
+    private static final char DATE_TIME_TAG = 'z';
+
+    private KeysetCursorCodec() {
+    }
+
+    /**
+     * Encodes the keyset of the last row of a page as a cursor token.
+     *
+     * @param keyset the keyset extracted by Blaze-Persistence
+     * @param descending whether the page was sorted in descending order
+     * @return the opaque cursor token for the next page
+     * @throws IllegalArgumentException if the keyset contains an unsupported value type
+     */
+    public static String encode(Keyset keyset, boolean descending) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        joiner.add(VERSION);
+        joiner.add(descending ? DESCENDING : ASCENDING);
+        for (Serializable value : keyset.getTuple()) {
+            joiner.add(encodeValue(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token into the keyset to seek after.
+     *
+     * @param token the cursor token returned with the previous page
+     * @param descending whether the current request sorts in descending order
+     * @param types the expected type of each keyset value, in sort order
+     * @return the keyset of the last row of the previous page
+     * @throws InvalidCalendarParameterException with {@link ErrorCode#INVALID_PAGINATION_PARAMETER}
+     *         if the token is malformed, was issued for the other sort direction or does not
+     *         match the expected value types
+     */
+    public static Keyset decode(String token, boolean descending, Class<?>... types) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != types.length + 2
+                    || !VERSION.equals(parts[0])
+                    || !(descending ? DESCENDING : ASCENDING).equals(parts[1])) {
+                throw invalidCursor();
+            }
+
+            Serializable[] tuple = new Serializable[types.length];
+            for (int i = 0; i < types.length; i++) {
+                tuple[i] = decodeValue(parts[i + 2], types[i]);
+            }
+            return new DefaultKeyset(tuple);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String encodeValue(Serializable value) {
+        if (value == null) {
+            return String.valueOf(NULL_TAG);
+        }
+        if (value instanceof Long longValue) {
+            return LONG_TAG + longValue.toString();
+        }
+        if (value instanceof LocalDate date) {
+            return DATE_TAG + date.toString();
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            return DATE_TIME_TAG + dateTime.toString();
+        }
+        throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName());
+    }
+
+    private static Serializable decodeValue(String part, Class<?> type) {
+        if (part.isEmpty()) {
+            throw invalidCursor();
+        }
+        char tag = part.charAt(0);
+        String value = part.substring(1);
+        if (tag == NULL_TAG && value.isEmpty()) {
+            return null;
+        }
+        if (tag == LONG_TAG && type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (tag == DATE_TAG && type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (tag == DATE_TIME_TAG && type == ZonedDateTime.class) {
+            return ZonedDateTime.parse(value);
+        }
+        throw invalidCursor();
+    }
+
+    private static InvalidCalendarParameterException invalidCursor() {
+        return new InvalidCalendarParameterException(ErrorCode.INVALID_PAGINATION_PARAMETER);
+    }
+}
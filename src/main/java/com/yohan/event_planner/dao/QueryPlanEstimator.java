@@ -0,0 +1,63 @@
+package com.yohan.event_planner.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Estimates how many rows a query returns from the PostgreSQL planner instead of counting them.
+ *
+ * <p>An exact {@code COUNT(*)} has to visit every matching row, so its cost grows with the result
+ * size. {@code EXPLAIN} only plans the query: the row estimate of the top plan node comes from
+ * table statistics ({@code pg_class.reltuples} and column histograms) maintained by
+ * {@code ANALYZE}, and costs the same for ten rows as for ten million.</p>
+ *
+ * <p>Estimates can be off after bulk changes until autovacuum re-analyzes the table, and are
+ * least accurate for highly correlated filters, and PostgreSQL never estimates fewer than one
+ * row. They are meant for "about N results" displays, not for anything that needs the exact
+ * number.</p>
+ */
+@Component
+public class QueryPlanEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanEstimator.class);
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final EntityManager em;
+
+    public QueryPlanEstimator(EntityManager em) {
+        this.em = em;
+    }
+
+    /**
+     * Returns the planner's row estimate for a native SQL query.
+     *
+     * @param sql the native query to plan, without a trailing semicolon
+     * @param parameters named parameters of the query
+     * @return the estimated number of rows the query returns
+     * @throws IllegalStateException if the plan carries no row estimate
+     */
+    public long estimateRows(String sql, Map<String, ?> parameters) {
+        Query query = em.createNativeQuery("EXPLAIN " + sql);
+        parameters.forEach(query::setParameter);
+
+        // The first line is the top plan node, whose estimate covers the whole query
+        List<?> plan = query.getResultList();
+        Matcher matcher = plan.isEmpty() ? null : PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        if (matcher == null || !matcher.find()) {
+            throw new IllegalStateException("Query plan has no row estimate");
+        }
+
+        long estimate = Long.parseLong(matcher.group(1));
+        logger.debug("Planner estimates {} rows", estimate);
+        return estimate;
+    }
+}
@@ -1,5 +1,6 @@
 package com.yohan.event_planner.dao;
 
+import com.blazebit.persistence.Keyset;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.domain.RecurringEvent;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
@@ -18,4 +19,46 @@ public interface RecurringEventDAO {
      * @return a list of confirmed recurring events matching the filter
      */
     PagedList<RecurringEvent> findConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter, int pageNumber, int pageSize);
+
+    /**
+     * Finds a page of confirmed recurring events like
+     * {@link #findConfirmedRecurringEvents(Long, RecurringEventFilterDTO, int, int)}, optionally
+     * skipping the total-count query.
+     *
+     * @param userId the ID of the user whose recurring events to retrieve
+     * @param filter the filter criteria (time window, label, etc.)
+     * @param pageNumber zero-based page number for pagination
+     * @param pageSize maximum number of results per page
+     * @param countTotal whether to run the count query; when {@code false} the total size of the
+     *                   returned list is not meaningful
+     * @return a paginated list of confirmed recurring events matching the filter
+     */
+    PagedList<RecurringEvent> findConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter, int pageNumber, int pageSize, boolean countTotal);
+
+    /**
+     * Finds the confirmed recurring events sorted right after a keyset, without OFFSET and
+     * without a count query.
+     *
+     * <p>Recurring events are ordered by {@code (startDate, endDate, id)} in the filter's sort
+     * direction. The keyset of the returned page's last row is available from
+     * {@link PagedList#getKeysetPage()}.</p>
+     *
+     * @param userId the ID of the user whose recurring events to retrieve
+     * @param filter the filter criteria (time window, label, etc.)
+     * @param after the {@code (startDate, endDate, id)} keyset of the last recurring event of the
+     *              previous page, or {@code null} for the first page
+     * @param pageSize maximum number of results per page
+     * @return the next page of confirmed recurring events matching the filter
+     */
+    PagedList<RecurringEvent> findConfirmedRecurringEventsAfter(Long userId, RecurringEventFilterDTO filter, Keyset after, int pageSize);
+
+    /**
+     * Estimates how many confirmed recurring events match the filter from planner statistics.
+     *
+     * @param userId the ID of the user whose recurring events to count
+     * @param filter the filter criteria (time window, label, etc.)
+     * @return the planner's estimate of the number of matching recurring events
+     * @see QueryPlanEstimator
+     */
+    long estimateConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter);
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package com.yohan.event_planner.dao;
 
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
+import com.yohan.event_planner.dao.FilterCriteria.Operator;
 import com.yohan.event_planner.domain.RecurringEvent;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
 import jakarta.persistence.EntityManager;
@@ -11,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -19,7 +25,9 @@ import java.util.Objects;
  * <p>This implementation provides optimized queries for confirmed recurring events with support for:
  * <ul>
  *   <li>Complex filtering using {@link RecurringEventFilterDTO} criteria</li>
- *   <li>Efficient pagination with {@link PagedList} results</li>
+ *   <li>Offset pagination with {@link PagedList} results, or keyset pagination that seeks past
+ *       the last row of the previous page</li>
+ *   <li>Planner-based result count estimates in place of exact counts</li>
  *   <li>Eager fetching of creator and label associations</li>
  *   <li>Time window filtering for recurring event date ranges</li>
  * </ul>
@@ -55,19 +63,23 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
 
     private final CriteriaBuilderFactory cbf;
     private final EntityManager em;
+    private final QueryPlanEstimator queryPlanEstimator;
 
     /**
      * Constructs a new RecurringEventDAOImpl with required Blaze-Persistence dependencies.
      * 
      * @param cbf the CriteriaBuilderFactory for creating Blaze-Persistence queries
      * @param em the EntityManager for JPA operations
+     * @param queryPlanEstimator the estimator used for approximate result counts
      */
     public RecurringEventDAOImpl(
             CriteriaBuilderFactory cbf,
-            EntityManager em
+            EntityManager em,
+            QueryPlanEstimator queryPlanEstimator
     ) {
         this.cbf = cbf;
         this.em = em;
+        this.queryPlanEstimator = queryPlanEstimator;
     }
 
     /**
@@ -92,28 +104,119 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
      */
     @Override
     public PagedList<RecurringEvent> findConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter, int pageNumber, int pageSize) {
+        return findConfirmedRecurringEvents(userId, filter, pageNumber, pageSize, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Without the count query only the page itself is read, which avoids visiting every
+     * matching row on each request.</p>
+     */
+    @Override
+    public PagedList<RecurringEvent> findConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter, int pageNumber, int pageSize, boolean countTotal) {
         Objects.requireNonNull(userId, "userId cannot be null");
         Objects.requireNonNull(filter, "filter cannot be null");
         
-        logger.debug("Finding confirmed recurring events for user {} with filter: labelId={}, timeFilter={}, startDate={}, endDate={}, sortDescending={}, page={}, size={}",
-                userId, filter.labelId(), filter.timeFilter(), filter.startDate(), filter.endDate(), filter.sortDescending(), pageNumber, pageSize);
-
-        CriteriaBuilder<RecurringEvent> cb = createBaseQuery();
+        logger.debug("Finding confirmed recurring events for user {} with filter: labelId={}, timeFilter={}, startDate={}, endDate={}, sortDescending={}, page={}, size={}, countTotal={}",
+                userId, filter.labelId(), filter.timeFilter(), filter.startDate(), filter.endDate(), filter.sortDescending(), pageNumber, pageSize, countTotal);
 
-        applyUserFilter(userId, cb);
-        applyOnlyConfirmedFilter(cb);
-        applyLabelFilter(filter, cb);
-        applyTimeWindowFilter(filter, cb);
-        applySortOrder(filter, cb);
+        CriteriaBuilder<RecurringEvent> cb = createFilteredQuery(userId, filter);
 
-        PagedList<RecurringEvent> results = cb.page(pageNumber, pageSize).getResultList();
+        PagedList<RecurringEvent> results = cb.page(pageNumber * pageSize, pageSize)
+                .withCountQuery(countTotal)
+                .getResultList();
         
-        logger.info("Retrieved {} confirmed recurring events for user {} (page {}/{}, total elements: {})",
-                results.size(), userId, pageNumber + 1, results.getTotalPages(), results.getTotalSize());
+        if (countTotal) {
+            logger.info("Retrieved {} confirmed recurring events for user {} (page {}/{}, total elements: {})",
+                    results.size(), userId, pageNumber + 1, results.getTotalPages(), results.getTotalSize());
+        } else {
+            logger.info("Retrieved {} confirmed recurring events for user {} (page {}, not counted)",
+                    results.size(), userId, pageNumber + 1);
+        }
         
         return results;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The previous page is described to Blaze-Persistence as a keyset page starting at offset 0
+     * whose highest keyset is {@code after}. Requesting the offset exactly one page later makes
+     * Blaze-Persistence seek past {@code (startDate, endDate, id)} instead of applying an OFFSET.</p>
+     */
+    @Override
+    public PagedList<RecurringEvent> findConfirmedRecurringEventsAfter(Long userId, RecurringEventFilterDTO filter, Keyset after, int pageSize) {
+        Objects.requireNonNull(userId, "userId cannot be null");
+        Objects.requireNonNull(filter, "filter cannot be null");
+
+        logger.debug("Finding confirmed recurring events for user {} after keyset {} with filter: labelId={}, startDate={}, endDate={}, sortDescending={}, size={}",
+                userId, after, filter.labelId(), filter.startDate(), filter.endDate(), filter.sortDescending(), pageSize);
+
+        CriteriaBuilder<RecurringEvent> cb = createFilteredQuery(userId, filter);
+
+        KeysetPage previousPage = after == null ? null : new DefaultKeysetPage(0, pageSize, after, after);
+        PagedList<RecurringEvent> results = cb.page(previousPage, after == null ? 0 : pageSize, pageSize)
+                .withKeysetExtraction(true)
+                .withCountQuery(false)
+                .getResultList();
+
+        logger.info("Retrieved {} confirmed recurring events for user {} by keyset", results.size(), userId);
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Plans a native query rendered from the same {@link FilterCriteria} as
+     * {@link #findConfirmedRecurringEvents}, so the estimate is based on the same predicates,
+     * indexes and column statistics.</p>
+     */
+    @Override
+    public long estimateConfirmedRecurringEvents(Long userId, RecurringEventFilterDTO filter) {
+        Objects.requireNonNull(userId, "userId cannot be null");
+        Objects.requireNonNull(filter, "filter cannot be null");
+
+        Map<String, Object> parameters = new HashMap<>();
+        String sql = createFilterCriteria(userId, filter).toSql("recurring_event", parameters);
+
+        long estimate = queryPlanEstimator.estimateRows(sql, parameters);
+        logger.debug("Estimated {} confirmed recurring events for user {}", estimate, userId);
+        return estimate;
+    }
+
+    /**
+     * Builds the filtered and sorted query shared by offset and keyset pagination.
+     *
+     * @param userId the ID of the user whose recurring events to retrieve
+     * @param filter the filter criteria containing time window, label, and sorting options
+     * @return configured CriteriaBuilder ready to be paginated
+     */
+    private CriteriaBuilder<RecurringEvent> createFilteredQuery(Long userId, RecurringEventFilterDTO filter) {
+        CriteriaBuilder<RecurringEvent> cb = createBaseQuery();
+
+        createFilterCriteria(userId, filter).applyTo(cb);
+        applySortOrder(filter, cb);
+        return cb;
+    }
+
+    /**
+     * Builds the filter predicates shared by the paged queries and the result count estimate.
+     *
+     * @param userId the ID of the user whose recurring events to retrieve
+     * @param filter the filter criteria containing time window and label
+     * @return the predicates every returned recurring event satisfies
+     */
+    private FilterCriteria createFilterCriteria(Long userId, RecurringEventFilterDTO filter) {
+        FilterCriteria criteria = new FilterCriteria();
+
+        applyUserFilter(userId, criteria);
+        applyOnlyConfirmedFilter(criteria);
+        applyLabelFilter(filter, criteria);
+        applyTimeWindowFilter(filter, criteria);
+        return criteria;
+    }
+
     /**
      * Applies user ownership filtering to restrict results to the specified user's recurring events.
      * 
@@ -144,11 +247,11 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
      * recurring events. Uses indexed creator.id for efficient filtering.</p>
      * 
      * @param userId the ID of the user whose recurring events to retrieve
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyUserFilter(Long userId, CriteriaBuilder<RecurringEvent> cb) {
+    private void applyUserFilter(Long userId, FilterCriteria criteria) {
         logger.debug("Applying user filter for userId: {}", userId);
-        cb.where("creator.id").eq(userId);
+        criteria.where("creator.id", "creator_id", Operator.EQ, userId);
     }
 
     /**
@@ -157,10 +260,10 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
      * <p>Only returns confirmed recurring events that are ready for instance generation
      * and user display. Draft events are excluded from all query results.</p>
      * 
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyOnlyConfirmedFilter(CriteriaBuilder<RecurringEvent> cb) {
-        cb.where("unconfirmed").eq(false);
+    private void applyOnlyConfirmedFilter(FilterCriteria criteria) {
+        criteria.where("unconfirmed", "unconfirmed", Operator.EQ, false);
     }
 
     /**
@@ -170,12 +273,12 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
      * that specific label. Label ownership validation is handled at the service layer.</p>
      * 
      * @param filter the filter containing optional label ID criteria
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyLabelFilter(RecurringEventFilterDTO filter, CriteriaBuilder<RecurringEvent> cb) {
+    private void applyLabelFilter(RecurringEventFilterDTO filter, FilterCriteria criteria) {
         if (filter.labelId() != null) {
             logger.debug("Applying label filter for labelId: {}", filter.labelId());
-            cb.where("label.id").eq(filter.labelId());
+            criteria.where("label.id", "label_id", Operator.EQ, filter.labelId());
         }
     }
 
@@ -196,9 +299,9 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
      * LocalDate boundaries before calling this method.</p>
      * 
      * @param filter the filter containing resolved start and end dates
-     * @param cb the CriteriaBuilder to apply the filter to
+     * @param criteria the criteria to add the filter to
      */
-    private void applyTimeWindowFilter(RecurringEventFilterDTO filter, CriteriaBuilder<RecurringEvent> cb) {
+    private void applyTimeWindowFilter(RecurringEventFilterDTO filter, FilterCriteria criteria) {
         // Service layer has already resolved TimeFilter to actual dates
         LocalDate startDate = filter.startDate();
         LocalDate endDate = filter.endDate();
@@ -206,8 +309,8 @@ public class RecurringEventDAOImpl implements RecurringEventDAO {
         logger.debug("Applying time window filter: startDate <= {} AND endDate >= {}", endDate, startDate);
         
         // Filter for recurring events that overlap with the time window
-        cb.where("startDate").le(endDate);
-        cb.where("endDate").ge(startDate);
+        criteria.where("startDate", "start_date", Operator.LE, endDate);
+        criteria.where("endDate", "end_date", Operator.GE, startDate);
     }
 
     /**
@@ -0,0 +1,180 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Entity representing a rendered transactional email that has not been delivered yet.
+ *
+ * <p>When the email outbox is enabled, {@link com.yohan.event_planner.service.EmailServiceImpl}
+ * stores each message here in the caller's transaction instead of talking to the SMTP server on
+ * the request thread. {@link com.yohan.event_planner.jobs.EmailOutboxJob} later claims due
+ * messages, sends them and deletes the ones that were delivered. Because the row commits
+ * atomically with the change that triggered it, a rolled back registration or password reset
+ * never sends an email, and a committed one is never lost.</p>
+ *
+ * <h2>Retries</h2>
+ * <p>A failed attempt increments {@link #getAttempts()} and pushes {@link #getNextAttemptAt()}
+ * back with exponential backoff. Once the configured number of attempts is exhausted the message
+ * becomes {@link EmailOutboxStatus#DEAD} and is kept, with its last error, for inspection.</p>
+ *
+ * @see com.yohan.event_planner.service.EmailOutboxService
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutboxMessage {
+
+    /** Maximum stored length of {@link #getLastError()}. */
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    /** Unique identifier. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Address the message is sent to. */
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    /** Subject line of the message. */
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    /** Rendered HTML body of the message. */
+    @Column(name = "html_body", nullable = false, columnDefinition = "text")
+    private String htmlBody;
+
+    /** Whether the message is still being delivered or has been dead-lettered. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private EmailOutboxStatus status;
+
+    /** Number of failed delivery attempts so far. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** Earliest time the message may be (re)sent; also the lease end while a worker holds it. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    /** Error of the most recent failed attempt, truncated to {@link #MAX_ERROR_LENGTH}. */
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /** When the message was queued; used to measure delivery lag. */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public EmailOutboxMessage() {
+    }
+
+    /**
+     * Creates a message that is due immediately.
+     *
+     * @param recipient the address the message is sent to
+     * @param subject the subject line
+     * @param htmlBody the rendered HTML body
+     * @param createdAt when the message was queued
+     */
+    public EmailOutboxMessage(String recipient, String subject, String htmlBody, Instant createdAt) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.htmlBody = htmlBody;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Reserves the message for a delivery attempt.
+     *
+     * <p>Other workers skip the message until {@code leaseUntil}, so a worker that dies mid-send
+     * only delays the message instead of losing it.</p>
+     *
+     * @param leaseUntil when the message becomes due again if its outcome is never recorded
+     */
+    public void lease(Instant leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * Records a failed attempt that will be retried.
+     *
+     * @param error description of the failure
+     * @param retryAt when the next attempt is due
+     */
+    public void recordFailure(String error, Instant retryAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = retryAt;
+    }
+
+    /**
+     * Records a failed attempt and stops retrying the message.
+     *
+     * @param error description of the failure
+     */
+    public void deadLetter(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.status = EmailOutboxStatus.DEAD;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getHtmlBody() {
+        return htmlBody;
+    }
+
+    public EmailOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -7,13 +7,16 @@ import jakarta.persistence.AccessType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.Duration;
@@ -76,12 +79,24 @@ import java.util.Objects;
  * </p>
  */
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_creator_confirmed_cursor",
+            columnList = "creator_id, unconfirmed, endtime DESC, starttime DESC, id DESC"),
+    @Index(name = "idx_events_creator_confirmed_start", columnList = "creator_id, unconfirmed, starttime"),
+    @Index(name = "idx_events_label_completed_start", columnList = "label_id, is_completed, starttime"),
+    @Index(name = "idx_events_recurring_event_start", columnList = "recurring_event_id, starttime")
+})
 @Access(AccessType.FIELD)
+@EntityListeners(EventIntervalIndexListener.class)
 public class Event {
 
+    /**
+     * Drawn from a pooled sequence so bulk saves (solidification, imports) can be sent as JDBC
+     * batches; IDENTITY columns force Hibernate to insert rows one statement at a time.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = true, length = ApplicationConstants.SHORT_NAME_MAX_LENGTH)
@@ -0,0 +1,54 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.validation.EventIntervalIndex;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps the {@link EventIntervalIndex} in sync with event writes.
+ *
+ * <p>Every persisted, updated or removed {@link Event} invalidates its creator's index, so the
+ * next conflict check rebuilds it from the database. Hooking the entity lifecycle rather than
+ * individual business methods also covers events written through cascades and batch saves.</p>
+ *
+ * <p>New events are handled in {@code @PrePersist}: event IDs come from a pooled sequence, so the
+ * insert (and {@code @PostPersist}) is deferred to flush time. Invalidating on persist keeps a
+ * conflict check later in the same transaction from reading a stale index; the rebuilding query
+ * auto-flushes the pending insert first.</p>
+ *
+ * <p>The index is looked up lazily through an {@link ObjectProvider} so the listener can be
+ * instantiated by Hibernate's bean container before the validation layer is fully initialized.</p>
+ *
+ * @see EventIntervalIndex
+ */
+@Component
+public class EventIntervalIndexListener {
+
+    private final ObjectProvider<EventIntervalIndex> eventIntervalIndex;
+
+    public EventIntervalIndexListener(ObjectProvider<EventIntervalIndex> eventIntervalIndex) {
+        this.eventIntervalIndex = eventIntervalIndex;
+    }
+
+    /**
+     * Invalidates the creator's interval index after an event was written.
+     *
+     * @param event the persisted, updated or removed event
+     */
+    @PrePersist
+    @PostUpdate
+    @PostRemove
+    public void invalidateCreatorIndex(Event event) {
+        if (event.getCreator() == null || event.getCreator().getId() == null) {
+            return;
+        }
+
+        EventIntervalIndex index = eventIntervalIndex.getIfAvailable();
+        if (index != null) {
+            index.invalidate(event.getCreator().getId());
+        }
+    }
+}
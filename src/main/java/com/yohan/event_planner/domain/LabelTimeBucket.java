@@ -36,6 +36,16 @@ import java.util.Objects;
  *       <li>Example: March 2024 = bucketYear=2024, bucketValue=3</li>
  *     </ul>
  *   </li>
+ *   <li><strong>YEAR buckets</strong>: Use calendar years
+ *     <ul>
+ *       <li>bucketYear = bucketValue = calendar year</li>
+ *     </ul>
+ *   </li>
+ *   <li><strong>ALL_TIME buckets</strong>: One running total per label
+ *     <ul>
+ *       <li>bucketYear = bucketValue = 0</li>
+ *     </ul>
+ *   </li>
  * </ul>
  * 
  * <h2>Uniqueness and Constraints</h2>
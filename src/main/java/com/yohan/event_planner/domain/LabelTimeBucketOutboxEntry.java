@@ -0,0 +1,138 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.domain.enums.TimeBucketType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Entity representing a pending change to a {@link LabelTimeBucket} that has not been applied yet.
+ *
+ * <p>When asynchronous label statistics are enabled, event completions write their bucket deltas
+ * to this outbox table in the same transaction as the event update instead of upserting the
+ * buckets directly. A background job later drains the outbox, coalesces deltas that target the
+ * same bucket and applies them in batches. Because the outbox row commits atomically with the
+ * event change, no completion can be lost or double counted.</p>
+ *
+ * <h2>Read-Your-Writes</h2>
+ * <p>Until a row is drained its delta is not reflected in {@link LabelTimeBucket}. Readers that
+ * must observe a user's own recent completions add the user's pending outbox deltas on top of the
+ * bucket totals.</p>
+ *
+ * @see LabelTimeBucket
+ * @see com.yohan.event_planner.jobs.LabelTimeBucketOutboxJob
+ */
+@Entity
+@Table(name = "label_time_bucket_outbox",
+        indexes = @Index(name = "idx_label_time_bucket_outbox_user_label", columnList = "user_id, label_id"))
+public class LabelTimeBucketOutboxEntry {
+
+    /**
+     * Unique identifier; also defines approximate drain order. Drawn from a pooled sequence so the
+     * deltas of one completion are batch inserted. Deltas are additive, so the order in which
+     * concurrently allocated blocks are drained does not matter.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "label_time_bucket_outbox_id_seq")
+    @SequenceGenerator(name = "label_time_bucket_outbox_id_seq",
+            sequenceName = "label_time_bucket_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    /** ID of the user who owns the target bucket. */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** ID of the label of the target bucket. */
+    @Column(name = "label_id", nullable = false)
+    private Long labelId;
+
+    /** Type of the target bucket. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false)
+    private TimeBucketType bucketType;
+
+    /** Year component of the target bucket. */
+    @Column(name = "bucket_year", nullable = false)
+    private int bucketYear;
+
+    /** Value component of the target bucket. */
+    @Column(name = "bucket_value", nullable = false)
+    private int bucketValue;
+
+    /** Signed number of minutes to add to the target bucket. */
+    @Column(name = "delta_minutes", nullable = false)
+    private int deltaMinutes;
+
+    /** When the delta was recorded; used to measure apply lag. */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public LabelTimeBucketOutboxEntry() {
+    }
+
+    /**
+     * Creates a pending bucket delta.
+     *
+     * @param userId the ID of the user who owns the target bucket
+     * @param labelId the ID of the label of the target bucket
+     * @param bucketType the type of the target bucket
+     * @param bucketYear the year component of the target bucket
+     * @param bucketValue the value component of the target bucket
+     * @param deltaMinutes the signed number of minutes to apply
+     * @param createdAt when the delta was recorded
+     */
+    public LabelTimeBucketOutboxEntry(Long userId, Long labelId, TimeBucketType bucketType, int bucketYear,
+                                      int bucketValue, int deltaMinutes, Instant createdAt) {
+        this.userId = userId;
+        this.labelId = labelId;
+        this.bucketType = bucketType;
+        this.bucketYear = bucketYear;
+        this.bucketValue = bucketValue;
+        this.deltaMinutes = deltaMinutes;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getLabelId() {
+        return labelId;
+    }
+
+    public TimeBucketType getBucketType() {
+        return bucketType;
+    }
+
+    public int getBucketYear() {
+        return bucketYear;
+    }
+
+    public int getBucketValue() {
+        return bucketValue;
+    }
+
+    public int getDeltaMinutes() {
+        return deltaMinutes;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,122 @@
+package com.yohan.event_planner.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Entity representing the attempts one client made against one rate limiter within one sub-window.
+ *
+ * <p>Rows are written by {@link com.yohan.event_planner.service.PostgresRateLimitCounter} when
+ * {@code app.rate-limit.backend=postgres}, so every application instance counts against the same
+ * quota. A client's window is the sum of its rows whose sub-window index falls inside the window.
+ * Rows are only ever incremented in place with {@code INSERT ... ON CONFLICT DO UPDATE}; they are
+ * never loaded or modified through the persistence context.</p>
+ *
+ * <h2>Storage</h2>
+ * <p>The table is created {@code UNLOGGED} by migration V11: counters are cheap to lose on a crash
+ * and skipping the write-ahead log keeps the per-request upsert fast. Rows past
+ * {@link #getExpiresAt()} are deleted in bulk by
+ * {@link com.yohan.event_planner.jobs.RateLimitBucketCleanupJob}.</p>
+ *
+ * @see com.yohan.event_planner.repository.RateLimitBucketRepository
+ */
+@Entity
+@IdClass(RateLimitBucket.Key.class)
+@Table(name = "rate_limit_buckets",
+        indexes = @Index(name = "idx_rate_limit_buckets_expires_at", columnList = "expires_at"))
+public class RateLimitBucket {
+
+    /** Name of the rate limiter, e.g. {@code login-rate-limit}. */
+    @Id
+    @Column(name = "limiter_name", nullable = false, length = 64)
+    private String limiterName;
+
+    /** Client identifier the attempts are counted for, usually an IP address. */
+    @Id
+    @Column(name = "client_key", nullable = false)
+    private String clientKey;
+
+    /** Sub-window index: epoch milliseconds divided by the sub-window length. */
+    @Id
+    @Column(name = "bucket", nullable = false)
+    private long bucket;
+
+    /** Number of attempts counted in this sub-window. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** When this sub-window leaves the rate limit window and the row may be deleted. */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public RateLimitBucket() {
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+
+    public String getClientKey() {
+        return clientKey;
+    }
+
+    public long getBucket() {
+        return bucket;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Composite primary key of {@link RateLimitBucket}.
+     */
+    public static class Key implements Serializable {
+
+        private String limiterName;
+        private String clientKey;
+        private long bucket;
+
+        public Key() {
+        }
+
+        public Key(String limiterName, String clientKey, long bucket) {
+            this.limiterName = limiterName;
+            this.clientKey = clientKey;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return bucket == other.bucket
+                    && Objects.equals(limiterName, other.limiterName)
+                    && Objects.equals(clientKey, other.clientKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(limiterName, clientKey, bucket);
+        }
+    }
+}
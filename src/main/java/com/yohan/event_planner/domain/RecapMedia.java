@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Objects;
 
@@ -77,9 +78,10 @@ import java.util.Objects;
 @Table(name = "recap_media")
 public class RecapMedia {
 
-    /** Unique identifier for this media attachment. */
+    /** Unique identifier for this media attachment; pooled so media lists are batch inserted. */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recap_media_id_seq")
+    @SequenceGenerator(name = "recap_media_id_seq", sequenceName = "recap_media_id_seq", allocationSize = 50)
     private Long id;
 
     /** 
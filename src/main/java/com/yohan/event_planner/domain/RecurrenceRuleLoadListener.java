@@ -0,0 +1,69 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.exception.InvalidRecurrenceRuleException;
+import com.yohan.event_planner.service.CompiledRecurrenceRuleCache;
+import jakarta.persistence.PostLoad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that restores the parsed recurrence rule of a {@link RecurringEvent}
+ * as soon as it is loaded.
+ *
+ * <p>{@link RecurrenceRuleVO#getParsed()} is transient, so without this listener every loaded
+ * recurring event would reach calendar generation, conflict validation and solidification with
+ * no parsed rule. The listener resolves the persisted canonical rule through the shared
+ * {@link CompiledRecurrenceRuleCache}, so each distinct rule is parsed once per cache lifetime
+ * and all loaded events with that rule share one immutable compiled instance.</p>
+ *
+ * <h2>Behavior</h2>
+ * <ul>
+ *   <li><strong>Drafts</strong>: Left untouched; their raw input is only parsed on confirmation</li>
+ *   <li><strong>Legacy rows</strong>: Rules persisted without a canonical rule string are left unparsed</li>
+ *   <li><strong>Invalid rules</strong>: Logged and left unparsed rather than failing the load</li>
+ * </ul>
+ *
+ * <p>The cache is looked up lazily through an {@link ObjectProvider} so the listener can be
+ * instantiated by Hibernate's bean container before the service layer is fully initialized.</p>
+ *
+ * @see RecurrenceRuleVO
+ * @see CompiledRecurrenceRuleCache
+ */
+@Component
+public class RecurrenceRuleLoadListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurrenceRuleLoadListener.class);
+
+    private final ObjectProvider<CompiledRecurrenceRuleCache> compiledRuleCache;
+
+    public RecurrenceRuleLoadListener(ObjectProvider<CompiledRecurrenceRuleCache> compiledRuleCache) {
+        this.compiledRuleCache = compiledRuleCache;
+    }
+
+    /**
+     * Attaches the compiled recurrence rule to a freshly loaded recurring event.
+     *
+     * @param recurringEvent the loaded recurring event
+     */
+    @PostLoad
+    public void attachCompiledRule(RecurringEvent recurringEvent) {
+        RecurrenceRuleVO recurrenceRule = recurringEvent.getRecurrenceRule();
+        if (recurrenceRule == null || recurrenceRule.getRule() == null || recurrenceRule.getParsed() != null) {
+            return;
+        }
+
+        CompiledRecurrenceRuleCache cache = compiledRuleCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            recurrenceRule.attachCompiled(cache.compile(recurrenceRule.getRule()));
+        } catch (InvalidRecurrenceRuleException e) {
+            logger.warn("Stored recurrence rule [{}] for recurring event {} could not be parsed",
+                    recurrenceRule.getRule(), recurringEvent.getId());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.yohan.event_planner.domain;
 
+import com.yohan.event_planner.service.CompiledRecurrenceRule;
 import com.yohan.event_planner.service.ParsedRecurrenceInput;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Transient;
 
@@ -15,7 +17,9 @@ import java.util.Objects;
  * 
  * <ul>
  *   <li><strong>Summary</strong>: String-based rule stored in the database</li>
+ *   <li><strong>Rule</strong>: Canonical machine-readable rule stored alongside confirmed summaries</li>
  *   <li><strong>Parsed</strong>: Runtime object for recurrence calculations</li>
+ *   <li><strong>Compiled</strong>: Immutable bitmask form shared through {@code CompiledRecurrenceRuleCache}</li>
  * </ul>
  * 
  * <h2>Recurrence Rule Format</h2>
@@ -30,8 +34,9 @@ import java.util.Objects;
  * <h2>Persistence Strategy</h2>
  * <p>As an {@code @Embeddable} component, this value object:</p>
  * <ul>
- *   <li>Stores only the {@code summary} field in the database</li>
- *   <li>Reconstructs the {@code parsed} representation on demand</li>
+ *   <li>Stores the {@code summary} and canonical {@code rule} fields in the database</li>
+ *   <li>Has its {@code parsed} representation restored from {@code rule} when the owning
+ *       {@link RecurringEvent} is loaded (see {@link RecurrenceRuleLoadListener})</li>
  *   <li>Maintains data consistency through immutable design</li>
  * </ul>
  * 
@@ -40,7 +45,7 @@ import java.util.Objects;
  * <ol>
  *   <li>Creating rules with both summary and parsed representations</li>
  *   <li>Persisting only the summary to the database</li>
- *   <li>Re-parsing the summary when loaded from database</li>
+ *   <li>Resolving the stored rule through the shared compiled rule cache when loaded from database</li>
  *   <li>Using the parsed representation for date calculations</li>
  * </ol>
  * 
@@ -62,6 +67,14 @@ public class RecurrenceRuleVO {
      */
     private String summary;
 
+    /**
+     * Canonical rule string (e.g. {@code WEEKLY:MONDAY,FRIDAY}) persisted for confirmed rules.
+     * The human-readable summary cannot be parsed back, so this column is what allows the parsed
+     * representation to be restored on load. Null for drafts, whose raw input lives in the summary.
+     */
+    @Column(name = "recurrence_rule")
+    private String rule;
+
     /** 
      * Transient parsed representation of the recurrence rule.
      * Not persisted to the database - reconstructed from the summary when needed.
@@ -70,6 +83,13 @@ public class RecurrenceRuleVO {
     @Transient
     private ParsedRecurrenceInput parsed;
 
+    /**
+     * Transient compiled representation of the recurrence rule, shared between all
+     * value objects with the same rule once interned.
+     */
+    @Transient
+    private CompiledRecurrenceRule compiled;
+
     /**
      * Default constructor for JPA.
      */
@@ -86,16 +106,36 @@ public class RecurrenceRuleVO {
     public RecurrenceRuleVO(String summary, ParsedRecurrenceInput parsed) {
         this.summary = summary;
         this.parsed = parsed;
+        this.compiled = parsed != null ? CompiledRecurrenceRule.of(parsed) : null;
+        this.rule = compiled != null ? compiled.rule() : null;
     }
 
     public String getSummary() {
         return summary;
     }
 
+    public String getRule() {
+        return rule;
+    }
+
     public ParsedRecurrenceInput getParsed() {
         return parsed;
     }
 
+    public CompiledRecurrenceRule getCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Restores the transient representations from a compiled rule after loading from the database.
+     *
+     * @param compiled the shared compiled form of {@link #getRule()}
+     */
+    void attachCompiled(CompiledRecurrenceRule compiled) {
+        this.compiled = compiled;
+        this.parsed = compiled.parsed();
+    }
+
     /**
      * Value object equality based on the persistent summary field only.
      * This ensures consistent equality semantics across persistence boundaries,
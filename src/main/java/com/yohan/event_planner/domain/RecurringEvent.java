@@ -5,12 +5,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 
@@ -73,6 +76,9 @@ import java.util.Set;
  * @see Label
  */
 @Entity
+@Table(indexes = @Index(name = "idx_recurring_events_creator_confirmed_dates",
+        columnList = "creator_id, unconfirmed, start_date, end_date"))
+@EntityListeners(RecurrenceRuleLoadListener.class)
 public class RecurringEvent {
 
     /** Unique identifier for this recurring event. */
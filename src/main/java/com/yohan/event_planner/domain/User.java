@@ -2,6 +2,7 @@ package com.yohan.event_planner.domain;
 
 import com.yohan.event_planner.constants.ApplicationConstants;
 import com.yohan.event_planner.domain.enums.Role;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -12,10 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 import java.util.HashSet;
@@ -52,9 +56,17 @@ import java.util.Set;
  *   <li><strong>Transaction Safety</strong>: All pinning operations are properly transactional</li>
  *   <li><strong>Referential Integrity</strong>: Foreign key constraints ensure data consistency</li>
  * </ul>
+ *
+ * <h2>Caching</h2>
+ * <p>Users and their roles are held in the shared second-level cache configured by
+ * {@link com.yohan.event_planner.config.UserCacheConfig}, so loading the authenticated user by ID
+ * usually needs no query. Username and email lookups bypass the cache.</p>
  */
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_timezone_materialized_through",
+        columnList = "timezone, recurrences_materialized_through"))
 public class User {
 
     /** Number of days before a pending deletion is permanently applied. */
@@ -157,6 +169,7 @@ public class User {
      * Default is {@link Role#USER}.</p>
      */
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.roles")
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "role", nullable = false)
@@ -199,6 +212,17 @@ public class User {
     @Column(name = "created_at", nullable = false)
     private java.time.ZonedDateTime createdAt;
 
+    /**
+     * The instant up to which past recurring event occurrences have been materialized as events.
+     *
+     * <p>Advanced by the recurrence materialization job shortly after the user's local midnight and
+     * by on-demand catch-ups. Calendar views compare it against the window they display to decide
+     * whether anything still needs solidifying, so they can stay read-only. A {@code null} value
+     * means nothing has been materialized yet.</p>
+     */
+    @Column(name = "recurrences_materialized_through")
+    private java.time.ZonedDateTime recurrencesMaterializedThrough;
+
     /**
      * Default constructor required by JPA.
      */
@@ -291,6 +315,10 @@ public class User {
         return createdAt;
     }
 
+    public ZonedDateTime getRecurrencesMaterializedThrough() {
+        return recurrencesMaterializedThrough;
+    }
+
     // --- Setters ---
     public void setUsername(String username) {
         this.username = username;
@@ -340,6 +368,10 @@ public class User {
         this.pinnedImpromptuEvent = pinnedImpromptuEvent;
     }
 
+    public void setRecurrencesMaterializedThrough(ZonedDateTime recurrencesMaterializedThrough) {
+        this.recurrencesMaterializedThrough = recurrencesMaterializedThrough;
+    }
+
     /**
      * Marks the user for deletion and sets the scheduled deletion date.
      * The scheduled deletion date is calculated based on the static grace period.
@@ -0,0 +1,49 @@
+package com.yohan.event_planner.domain.enums;
+
+/**
+ * File formats in which a user's calendar can be exported and imported.
+ *
+ * <p>Each format carries the media type and file extension used for the download, so the
+ * controller can set response headers without knowing anything about the format itself.
+ * Every format written by an export can be imported again.</p>
+ */
+public enum CalendarFormat {
+
+    /**
+     * iCalendar (RFC 5545), readable by calendar clients.
+     * <p>Recurring events are written as a single VEVENT with an RRULE and EXDATEs.</p>
+     */
+    ICS("text/calendar", "ics"),
+
+    /**
+     * Comma-separated values (RFC 4180) with a header row, for spreadsheets.
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON, one object per event, for backup and support tooling.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    CalendarFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * @return the media type of the exported file, without charset
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return the file extension of the exported file, without the leading dot
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
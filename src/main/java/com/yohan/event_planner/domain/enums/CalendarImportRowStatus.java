@@ -0,0 +1,23 @@
+package com.yohan.event_planner.domain.enums;
+
+/**
+ * Outcome of a single entry of an imported calendar file.
+ */
+public enum CalendarImportRowStatus {
+
+    /**
+     * The entry was created as a confirmed event or recurring event.
+     */
+    CREATED,
+
+    /**
+     * The entry was valid but conflicts with an existing or earlier imported entry, so it was
+     * created as an unconfirmed draft for the user to resolve.
+     */
+    CREATED_AS_DRAFT,
+
+    /**
+     * The entry could not be read or is not supported and was not imported.
+     */
+    SKIPPED
+}
@@ -0,0 +1,24 @@
+package com.yohan.event_planner.domain.enums;
+
+/**
+ * Delivery state of a message in the email outbox.
+ *
+ * <p>Messages that were delivered are deleted from the outbox, so only undelivered messages have
+ * a status.</p>
+ *
+ * @see com.yohan.event_planner.domain.EmailOutboxMessage
+ */
+public enum EmailOutboxStatus {
+
+    /**
+     * Waiting to be sent, either for the first time or after a failed attempt.
+     * <p>The message is picked up once its next attempt time has passed.</p>
+     */
+    PENDING,
+
+    /**
+     * Dead-lettered after its delivery attempts were exhausted or the message could not be built.
+     * <p>Kept for inspection until purged by the retention policy; never retried.</p>
+     */
+    DEAD
+}
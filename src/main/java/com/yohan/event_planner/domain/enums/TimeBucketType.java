@@ -13,6 +13,8 @@ package com.yohan.event_planner.domain.enums;
  *   <li><strong>DAY</strong>: Calendar days for detailed daily tracking</li>
  *   <li><strong>WEEK</strong>: ISO week numbering for consistent weekly aggregation</li>
  *   <li><strong>MONTH</strong>: Calendar months for monthly reporting</li>
+ *   <li><strong>YEAR</strong>: Calendar years for yearly reporting</li>
+ *   <li><strong>ALL_TIME</strong>: A single running total per label</li>
  * </ul>
  * 
  * <h2>Storage Considerations</h2>
@@ -21,6 +23,7 @@ package com.yohan.event_planner.domain.enums;
  *   <li><strong>Higher granularity</strong> (DAY): More records, detailed analysis</li>
  *   <li><strong>Lower granularity</strong> (MONTH): Fewer records, summary analysis</li>
  *   <li><strong>Balance</strong> (WEEK): Moderate detail with reasonable storage</li>
+ *   <li><strong>Rollups</strong> (YEAR, ALL_TIME): Very few records, read with point lookups</li>
  * </ul>
  * 
  * @see com.yohan.event_planner.domain.LabelTimeBucket
@@ -48,5 +51,21 @@ public enum TimeBucketType {
      * <p>Provides summary-level aggregation for monthly reporting
      * and long-term trend analysis.</p>
      */
-    MONTH
+    MONTH,
+
+    /**
+     * Yearly time buckets based on calendar years.
+     * <p>Both bucketYear and bucketValue hold the calendar year, so a
+     * year's total is read with a single point lookup.</p>
+     */
+    YEAR,
+
+    /**
+     * Running total of all tracked time per label.
+     * <p>There is exactly one such bucket per user and label, identified by
+     * {@link com.yohan.event_planner.constants.ApplicationConstants#ALL_TIME_BUCKET_YEAR} and
+     * {@link com.yohan.event_planner.constants.ApplicationConstants#ALL_TIME_BUCKET_VALUE}.
+     * It replaces summing every bucket of a label when all-time statistics are read.</p>
+     */
+    ALL_TIME
 }
@@ -0,0 +1,28 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Projection row produced by the grouped badge statistics aggregate.
+ *
+ * <p>One row is returned per badge that has at least one time bucket. Sums are {@link Long}
+ * because JPQL {@code SUM} over integer columns yields a long; the service narrows them into
+ * {@link TimeStatsDTO}.</p>
+ *
+ * @param badgeId the badge the totals belong to
+ * @param today minutes recorded today
+ * @param thisWeek minutes recorded in the current ISO week
+ * @param thisMonth minutes recorded in the current calendar month
+ * @param lastWeek minutes recorded in the previous ISO week
+ * @param lastMonth minutes recorded in the previous calendar month
+ * @param allTime minutes recorded across all time
+ *
+ * @see com.yohan.event_planner.repository.LabelTimeBucketRepository#aggregateBadgeTotals
+ */
+public record BadgeTimeTotalsDTO(
+        Long badgeId,
+        Long today,
+        Long thisWeek,
+        Long thisMonth,
+        Long lastWeek,
+        Long lastMonth,
+        Long allTime
+) {}
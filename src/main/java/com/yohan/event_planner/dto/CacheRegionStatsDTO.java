@@ -0,0 +1,36 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the counters of one second-level cache region.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.business.UserCache#getStats()} so operators can
+ * verify that user lookups are served from memory rather than the database.</p>
+ *
+ * @param region name of the cache region, e.g. {@code users}
+ * @param hits number of lookups served from the region
+ * @param misses number of lookups that fell through to the database
+ * @param evictions number of entries dropped because the region reached its bound
+ * @param size current number of cached entries
+ * @param maxSize configured upper bound on cached entries
+ *
+ * @see com.yohan.event_planner.config.UserCacheConfig
+ */
+public record CacheRegionStatsDTO(
+        String region,
+        long hits,
+        long misses,
+        long evictions,
+        long size,
+        long maxSize
+) {
+
+    /**
+     * Fraction of lookups served from the region.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 when no lookups have happened
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,133 @@
+package com.yohan.event_planner.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.Label;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.time.TimeUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * One row of a tabular calendar export (CSV or NDJSON), describing either an event or a
+ * recurring event.
+ *
+ * <p>Both kinds share one flat shape so that a single file can hold the whole calendar.
+ * Fields that do not apply to a kind are {@code null}: events fill {@code start}, {@code end}
+ * and {@code completed}, recurring events fill the date range, daily times, rule and skip
+ * days. Event times are given in the time zone the event was created in; recurring event times
+ * are wall-clock times in {@code timezone}, the creator's zone.</p>
+ *
+ * <p>Calendar imports read files back into the same shape. There {@code id} and
+ * {@code completed} are ignored, and recurring event times apply in the importing user's zone.</p>
+ *
+ * @param type {@link #TYPE_EVENT} or {@link #TYPE_RECURRING_EVENT}
+ * @param id the ID of the event or recurring event
+ * @param name the name
+ * @param description the description, if any
+ * @param label the label name
+ * @param start the event start time
+ * @param end the event end time
+ * @param timezone the zone of the start time or of the recurring wall-clock times
+ * @param completed whether the event is completed
+ * @param startDate first date of the recurrence
+ * @param endDate last date of the recurrence, {@code null} if it never ends
+ * @param startTime daily start time of the recurrence
+ * @param endTime daily end time of the recurrence
+ * @param recurrence canonical recurrence rule, e.g. {@code WEEKLY:MONDAY,FRIDAY}
+ * @param skipDays dates excluded from the recurrence, in ascending order
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "id", "name", "description", "label", "start", "end", "timezone", "completed",
+        "startDate", "endDate", "startTime", "endTime", "recurrence", "skipDays"})
+public record CalendarExportRowDTO(
+        String type,
+        Long id,
+        String name,
+        String description,
+        String label,
+        ZonedDateTime start,
+        ZonedDateTime end,
+        String timezone,
+        Boolean completed,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String recurrence,
+        List<LocalDate> skipDays
+) {
+
+    public static final String TYPE_EVENT = "EVENT";
+    public static final String TYPE_RECURRING_EVENT = "RECURRING_EVENT";
+
+    /**
+     * Creates the row of a confirmed event.
+     *
+     * @param event the event, with its label loaded
+     * @return the export row
+     */
+    public static CalendarExportRowDTO fromEvent(Event event) {
+        ZoneId startZone = ZoneId.of(event.getStartTimezone());
+        ZonedDateTime end = event.getEndTime() != null
+                ? event.getEndTime().withZoneSameInstant(ZoneId.of(event.getEndTimezone()))
+                : null;
+
+        return new CalendarExportRowDTO(
+                TYPE_EVENT,
+                event.getId(),
+                event.getName(),
+                event.getDescription(),
+                labelName(event.getLabel()),
+                event.getStartTime().withZoneSameInstant(startZone),
+                end,
+                startZone.getId(),
+                event.isCompleted(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    /**
+     * Creates the row of a confirmed recurring event.
+     *
+     * @param recurringEvent the recurring event, with its label loaded
+     * @param zone the creator's time zone, in which the daily times apply
+     * @return the export row
+     */
+    public static CalendarExportRowDTO fromRecurringEvent(RecurringEvent recurringEvent, ZoneId zone) {
+        LocalDate endDate = recurringEvent.getEndDate();
+        String rule = recurringEvent.getRecurrenceRule() != null ? recurringEvent.getRecurrenceRule().getRule() : null;
+
+        return new CalendarExportRowDTO(
+                TYPE_RECURRING_EVENT,
+                recurringEvent.getId(),
+                recurringEvent.getName(),
+                recurringEvent.getDescription(),
+                labelName(recurringEvent.getLabel()),
+                null,
+                null,
+                zone.getId(),
+                null,
+                recurringEvent.getStartDate(),
+                TimeUtils.FAR_FUTURE_DATE.equals(endDate) ? null : endDate,
+                recurringEvent.getStartTime(),
+                recurringEvent.getEndTime(),
+                rule,
+                recurringEvent.getSkipDays().stream().sorted().toList()
+        );
+    }
+
+    private static String labelName(Label label) {
+        return label != null ? label.getName() : null;
+    }
+}
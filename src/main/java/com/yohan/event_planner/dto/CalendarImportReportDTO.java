@@ -0,0 +1,42 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+
+import java.util.List;
+
+/**
+ * Data transfer object summarizing a calendar import.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.CalendarImportService} with one
+ * {@link CalendarImportRowResultDTO} per entry read, in file order, so clients can show
+ * which entries need attention.</p>
+ *
+ * <h2>Counters</h2>
+ * <ul>
+ *   <li><strong>Rows read</strong>: Entries found in the file, up to the import limit</li>
+ *   <li><strong>Created</strong>: Confirmed events and recurring events inserted</li>
+ *   <li><strong>Drafts</strong>: Entries inserted as drafts because of conflicts</li>
+ *   <li><strong>Skipped</strong>: Entries that were invalid or unsupported</li>
+ * </ul>
+ *
+ * @param format the format the file was read as
+ * @param rowsRead number of entries read from the file
+ * @param eventsCreated number of confirmed events inserted
+ * @param recurringEventsCreated number of confirmed recurring events inserted
+ * @param draftsCreated number of events and recurring events inserted as drafts
+ * @param rowsSkipped number of entries not imported
+ * @param truncated whether the file had more entries than the import limit; the rest were not read
+ * @param elapsedMillis wall-clock time spent on the import
+ * @param rows per-entry results, in file order
+ */
+public record CalendarImportReportDTO(
+        CalendarFormat format,
+        int rowsRead,
+        int eventsCreated,
+        int recurringEventsCreated,
+        int draftsCreated,
+        int rowsSkipped,
+        boolean truncated,
+        long elapsedMillis,
+        List<CalendarImportRowResultDTO> rows
+) {}
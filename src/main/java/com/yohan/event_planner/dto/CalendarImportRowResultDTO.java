@@ -0,0 +1,24 @@
+package com.yohan.event_planner.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yohan.event_planner.domain.enums.CalendarImportRowStatus;
+
+/**
+ * Result of importing a single entry of a calendar file.
+ *
+ * @param row the 1-based position of the entry in the file: the data row for CSV and NDJSON,
+ *            the VEVENT for ICS
+ * @param status what happened to the entry
+ * @param type {@link CalendarExportRowDTO#TYPE_EVENT} or {@link CalendarExportRowDTO#TYPE_RECURRING_EVENT},
+ *             {@code null} if the entry could not be read
+ * @param id the ID of the created event or recurring event, {@code null} if skipped
+ * @param message why the entry was skipped or created as a draft, {@code null} otherwise
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CalendarImportRowResultDTO(
+        int row,
+        CalendarImportRowStatus status,
+        String type,
+        Long id,
+        String message
+) {}
@@ -0,0 +1,22 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A time span to be checked for scheduling conflicts as part of a bulk conflict check.
+ *
+ * <p>Used with {@link com.yohan.event_planner.validation.ConflictValidator#findConflicts} so that
+ * callers creating or moving many events of one user can check them all in a single pass.</p>
+ *
+ * @param eventId the ID of the event being moved, excluded from its own conflicts; null for new events
+ * @param recurringEventId the recurring event the candidate belongs to, whose own occurrences are
+ *                         not treated as conflicts; null for standalone events
+ * @param startTime the candidate start time in UTC
+ * @param endTime the candidate end time in UTC
+ */
+public record ConflictCandidateDTO(
+        Long eventId,
+        Long recurringEventId,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime
+) {}
@@ -0,0 +1,23 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the health of the email outbox.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.EmailOutboxService#getStats()} so
+ * operators can see whether delivery keeps up and whether messages are being dead-lettered.</p>
+ *
+ * @param pendingMessages number of messages waiting to be sent
+ * @param deadLetters number of messages that will not be retried
+ * @param oldestPendingAgeMillis age of the oldest waiting message, or 0 when none is waiting
+ * @param sentMessages number of messages delivered by this instance since startup
+ * @param failedAttempts number of failed delivery attempts made by this instance since startup
+ *
+ * @see com.yohan.event_planner.jobs.EmailOutboxJob
+ */
+public record EmailOutboxStatsDTO(
+        long pendingMessages,
+        long deadLetters,
+        long oldestPendingAgeMillis,
+        long sentMessages,
+        long failedAttempts
+) {}
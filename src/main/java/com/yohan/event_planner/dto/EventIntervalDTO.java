@@ -0,0 +1,21 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Lightweight projection of a confirmed event's time span used to build conflict detection indexes.
+ *
+ * <p>Only the identifier and UTC bounds are loaded, so a user's whole schedule can be read
+ * without hydrating full {@link com.yohan.event_planner.domain.Event} entities.</p>
+ *
+ * @param id the event ID
+ * @param startTime the event start time in UTC
+ * @param endTime the event end time in UTC
+ *
+ * @see com.yohan.event_planner.validation.EventIntervalIndex
+ */
+public record EventIntervalDTO(
+        Long id,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime
+) {}
@@ -0,0 +1,37 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the counters of the per-user event interval index.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.validation.EventIntervalIndex#getStats()} so
+ * operators can see how often conflict checks are answered from memory and how often event
+ * writes force a rebuild.</p>
+ *
+ * @param hits number of conflict checks answered from an already built index
+ * @param misses number of conflict checks that loaded a user's intervals from the database
+ * @param invalidations number of times a user's index was discarded after an event write
+ * @param evictions number of user indexes dropped because the index reached its bound
+ * @param size current number of users with a built index
+ * @param maxSize configured upper bound on indexed users
+ *
+ * @see com.yohan.event_planner.validation.EventIntervalIndex
+ */
+public record EventIntervalIndexStatsDTO(
+        long hits,
+        long misses,
+        long invalidations,
+        long evictions,
+        int size,
+        int maxSize
+) {
+
+    /**
+     * Fraction of conflict checks answered from memory.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 when no checks have happened
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
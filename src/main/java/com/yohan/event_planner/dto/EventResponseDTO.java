@@ -1,5 +1,7 @@
 package com.yohan.event_planner.dto;
 
+import com.yohan.event_planner.domain.enums.LabelColor;
+
 import java.time.ZonedDateTime;
 
 /**
@@ -200,4 +202,38 @@ public record EventResponseDTO(
         boolean impromptu,
 
         boolean isVirtual
-) {}
+) {
+
+    /**
+     * Flat constructor for JPQL constructor projections of persisted events.
+     *
+     * <p>Lets repository queries select exactly the columns this DTO needs, including the label
+     * columns, in a single statement instead of loading {@code Event} entities and their
+     * associations row by row. The timezone arguments are expected to already be {@code null}
+     * when they match the creator's timezone.</p>
+     */
+    public EventResponseDTO(
+            Long id,
+            String name,
+            ZonedDateTime startTimeUtc,
+            ZonedDateTime endTimeUtc,
+            Integer durationMinutes,
+            String startTimeZone,
+            String endTimeZone,
+            String description,
+            String creatorUsername,
+            String creatorTimezone,
+            Long labelId,
+            String labelName,
+            LabelColor labelColor,
+            String labelCreatorUsername,
+            boolean isCompleted,
+            boolean unconfirmed,
+            boolean impromptu
+    ) {
+        this(id, name, startTimeUtc, endTimeUtc, durationMinutes, startTimeZone, endTimeZone, description,
+                creatorUsername, creatorTimezone,
+                labelId != null ? new LabelResponseDTO(labelId, labelName, labelColor, labelCreatorUsername) : null,
+                isCompleted, unconfirmed, impromptu, false);
+    }
+}
@@ -0,0 +1,34 @@
+package com.yohan.event_planner.dto;
+
+import java.util.List;
+
+/**
+ * Data transfer object for one page of a keyset-paginated search.
+ *
+ * <p>Unlike {@link org.springframework.data.domain.Page}, a keyset page does not know its page
+ * number or the exact number of matching results. Clients request the next page by passing
+ * {@code nextCursor} back unchanged together with the same filter and sort direction.</p>
+ *
+ * <h2>Pagination Contract</h2>
+ * <ul>
+ *   <li><strong>Cursor</strong>: Opaque token positioned after the last item of this page</li>
+ *   <li><strong>End of Results</strong>: {@code nextCursor} is {@code null} once a page comes back
+ *       shorter than requested; a full last page is followed by one empty page</li>
+ *   <li><strong>Stable Paging</strong>: Items created or deleted between requests never cause
+ *       duplicates or gaps, since each page continues from a sort position rather than an offset</li>
+ * </ul>
+ *
+ * @param <T> the type of the items on the page
+ * @param content the items of this page in sort order
+ * @param nextCursor the cursor for the following page, or {@code null} when there are no more results
+ * @param totalElements total number of matching results; exact when the first page holds every
+ *                      result, otherwise a planner estimate, or {@code null} when no estimate was requested
+ * @param totalEstimated whether {@code totalElements} is an estimate rather than an exact count
+ */
+public record KeysetPageDTO<T>(
+        List<T> content,
+        String nextCursor,
+        Long totalElements,
+        boolean totalEstimated
+) {
+}
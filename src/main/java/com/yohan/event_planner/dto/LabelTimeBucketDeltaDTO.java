@@ -0,0 +1,26 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.domain.enums.TimeBucketType;
+
+/**
+ * Data transfer object describing a signed change to a single label time bucket.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.LabelTimeBucketServiceImpl} when an event
+ * change is translated into bucket adjustments, and consumed by
+ * {@link com.yohan.event_planner.repository.LabelTimeBucketRepositoryCustom#upsertDurations}
+ * which adds {@code deltaMinutes} to the matching bucket row, creating it if absent.</p>
+ *
+ * @param labelId the label whose time is adjusted
+ * @param bucketType the granularity of the bucket
+ * @param bucketYear the year component of the bucket (ISO week-based year for WEEK buckets)
+ * @param bucketValue the bucket-specific value (encoded date, ISO week or month)
+ * @param deltaMinutes minutes to add to the bucket; negative to subtract
+ */
+public record LabelTimeBucketDeltaDTO(
+        Long labelId,
+        TimeBucketType bucketType,
+        int bucketYear,
+        int bucketValue,
+        int deltaMinutes
+) {
+}
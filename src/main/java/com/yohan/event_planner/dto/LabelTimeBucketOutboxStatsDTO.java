@@ -0,0 +1,23 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the health of the asynchronous label statistics pipeline.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.LabelTimeBucketService#getOutboxStats()}
+ * so operators can see whether the drain job keeps up with event completions.</p>
+ *
+ * @param queueDepth number of deltas waiting in the outbox
+ * @param oldestPendingAgeMillis age of the oldest waiting delta, or 0 when the outbox is empty
+ * @param appliedDeltas number of deltas applied by this instance since startup
+ * @param lastApplyLagMillis age of the oldest delta in the most recently applied batch
+ * @param maxApplyLagMillis largest apply lag observed by this instance since startup
+ *
+ * @see com.yohan.event_planner.jobs.LabelTimeBucketOutboxJob
+ */
+public record LabelTimeBucketOutboxStatsDTO(
+        long queueDepth,
+        long oldestPendingAgeMillis,
+        long appliedDeltas,
+        long lastApplyLagMillis,
+        long maxApplyLagMillis
+) {}
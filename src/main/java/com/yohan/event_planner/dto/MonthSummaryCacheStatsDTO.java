@@ -0,0 +1,42 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the counters of the per-user month summary cache.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.MonthSummaryCache#getStats()} so
+ * operators can see how often calendar months are served from memory and how often event writes
+ * force them to be recomputed.</p>
+ *
+ * @param hits number of month lookups served from the cache
+ * @param misses number of month lookups that queried the database
+ * @param invalidations number of cached months discarded after an event or recurring event write
+ * @param evictions number of cached months dropped because the cache reached one of its bounds
+ *                  or the month outlived its time to live
+ * @param users current number of users with cached months
+ * @param months current number of cached months across all users
+ * @param maxUsers configured upper bound on cached users
+ * @param maxMonthsPerUser configured upper bound on cached months per user
+ *
+ * @see com.yohan.event_planner.service.MonthSummaryCache
+ */
+public record MonthSummaryCacheStatsDTO(
+        long hits,
+        long misses,
+        long invalidations,
+        long evictions,
+        int users,
+        int months,
+        int maxUsers,
+        int maxMonthsPerUser
+) {
+
+    /**
+     * Fraction of month lookups served from memory.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 when no lookups have happened
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,15 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object summarizing a client's attempts inside a shared rate limit window.
+ *
+ * <p>Returned by {@link com.yohan.event_planner.repository.RateLimitBucketRepositoryCustom}
+ * after reading or incrementing the sub-window rows of one client.</p>
+ *
+ * @param attempts total attempts counted inside the window
+ * @param oldestBucket index of the oldest sub-window holding attempts, or null when none are counted
+ */
+public record RateLimitWindowDTO(
+        int attempts,
+        Long oldestBucket
+) {}
@@ -0,0 +1,17 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Data transfer object pairing a user with the instant their recurrences should be materialized through.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.RecurrenceMaterializationService#findDueMaterializations(int)}
+ * for the {@link com.yohan.event_planner.jobs.RecurrenceMaterializationJob}.</p>
+ *
+ * @param userId the ID of the user to materialize
+ * @param materializeThrough the start of the user's current local day, in UTC
+ */
+public record RecurrenceMaterializationTargetDTO(
+        Long userId,
+        ZonedDateTime materializeThrough
+) {}
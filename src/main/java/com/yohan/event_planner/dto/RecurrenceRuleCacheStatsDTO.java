@@ -0,0 +1,35 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object exposing the counters of the shared compiled recurrence rule cache.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.service.CompiledRecurrenceRuleCache#getStats()}
+ * so operators can verify that rules loaded with recurring events are being interned rather than
+ * re-parsed on every entity load.</p>
+ *
+ * @param hits number of lookups served from the cache
+ * @param misses number of lookups that required parsing a rule
+ * @param evictions number of entries dropped because the cache reached its bound
+ * @param size current number of cached rule strings
+ * @param maxSize configured upper bound on cached rule strings
+ *
+ * @see com.yohan.event_planner.service.CompiledRecurrenceRuleCache
+ */
+public record RecurrenceRuleCacheStatsDTO(
+        long hits,
+        long misses,
+        long evictions,
+        int size,
+        int maxSize
+) {
+
+    /**
+     * Fraction of lookups served from the cache.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 when no lookups have happened
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,57 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data transfer object summarizing a single batched solidification run.
+ *
+ * <p>Produced by {@link com.yohan.event_planner.business.EventBO#solidifyRecurrencesBatched}
+ * so callers and logs can observe how much work a calendar request triggered when turning
+ * past recurring event occurrences into concrete {@link com.yohan.event_planner.domain.Event} rows.</p>
+ *
+ * <h2>Counters</h2>
+ * <ul>
+ *   <li><strong>Recurrences</strong>: Confirmed recurring events considered for the window</li>
+ *   <li><strong>Occurrences</strong>: Candidate dates produced by recurrence expansion</li>
+ *   <li><strong>Confirmed / Drafts</strong>: Rows inserted, split by conflict outcome</li>
+ *   <li><strong>Skipped</strong>: Occurrences already solidified or not yet finished</li>
+ * </ul>
+ *
+ * @param userId the user whose recurrences were solidified
+ * @param recurrencesProcessed number of recurring events expanded
+ * @param occurrencesExpanded number of candidate occurrence dates produced by expansion
+ * @param confirmedEventsCreated number of confirmed events inserted
+ * @param draftEventsCreated number of unconfirmed drafts inserted because of conflicts
+ * @param occurrencesSkipped number of occurrences skipped (already solidified or ending after the window)
+ * @param elapsedMillis wall-clock time spent in the solidification run
+ *
+ * @see com.yohan.event_planner.business.EventBO
+ */
+public record SolidificationReportDTO(
+        Long userId,
+        int recurrencesProcessed,
+        int occurrencesExpanded,
+        int confirmedEventsCreated,
+        int draftEventsCreated,
+        int occurrencesSkipped,
+        long elapsedMillis
+) {
+
+    /**
+     * Creates an empty report for runs that found nothing to solidify.
+     *
+     * @param userId the user whose recurrences were inspected
+     * @param elapsedMillis time spent before returning
+     * @return a report with all counters set to zero
+     */
+    public static SolidificationReportDTO empty(Long userId, long elapsedMillis) {
+        return new SolidificationReportDTO(userId, 0, 0, 0, 0, 0, elapsedMillis);
+    }
+
+    /**
+     * Total number of event rows inserted by the run.
+     *
+     * @return confirmed plus draft events created
+     */
+    public int rowsCreated() {
+        return confirmedEventsCreated + draftEventsCreated;
+    }
+}
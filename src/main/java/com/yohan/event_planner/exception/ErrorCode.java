@@ -134,6 +134,7 @@ public enum ErrorCode {
     NULL_FIELD_NOT_ALLOWED,
     INVALID_CALENDAR_PARAMETER,
     INVALID_PAGINATION_PARAMETER,
+    INVALID_IMPORT_FILE,
 
     // System Managed errors,
     SYSTEM_MANAGED_LABEL,
@@ -60,6 +60,7 @@ public class InvalidCalendarParameterException extends RuntimeException implemen
         return switch (errorCode) {
             case INVALID_CALENDAR_PARAMETER -> "The calendar parameter is invalid.";
             case INVALID_PAGINATION_PARAMETER -> "The pagination parameter is invalid.";
+            case INVALID_IMPORT_FILE -> "The import file is not a valid calendar file.";
             default -> "Calendar parameter validation error with code: " + errorCode.name();
         };
     }
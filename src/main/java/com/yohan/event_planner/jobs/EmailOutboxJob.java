@@ -0,0 +1,182 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.EmailOutboxStatsDTO;
+import com.yohan.event_planner.service.EmailOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduled job that sends transactional emails queued in the outbox.
+ *
+ * <p>
+ * When the email outbox is enabled, registration, password reset and password change only store
+ * their rendered emails in the {@code email_outbox} table. This job polls the outbox on a fixed
+ * delay and fans delivery out to a small pool of workers, each of which repeatedly lets
+ * {@link EmailOutboxService#deliverDueMessages(int)} claim and send a batch.
+ * </p>
+ *
+ * <h2>Delivery Strategy</h2>
+ * <ul>
+ *   <li><strong>Worker Pool</strong>: {@code app.email.outbox.workers} workers send batches in parallel</li>
+ *   <li><strong>Batching</strong>: Each batch holds up to {@code app.email.outbox.batch-size} messages sent over one SMTP connection</li>
+ *   <li><strong>Catch-Up</strong>: A worker keeps going while batches are full, up to {@code app.email.outbox.max-batches-per-run}</li>
+ *   <li><strong>Multi-Instance</strong>: Rows are claimed with {@code SKIP LOCKED}, so workers and instances never contend</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The job exists unless {@code app.email.outbox.enabled} is false. The delay between polls is
+ * controlled by {@code app.email.outbox.poll-interval-ms}. Dead letters older than
+ * {@code app.email.outbox.dead-letter-retention-days} are purged daily.
+ * </p>
+ *
+ * <h2>Error Handling</h2>
+ * <p>
+ * Failed deliveries are rescheduled by the service with exponential backoff. Errors from the
+ * outbox itself are logged and never propagate to the scheduler; affected messages are retried
+ * once their lease expires.
+ * </p>
+ *
+ * @see EmailOutboxService#deliverDueMessages(int)
+ * @see com.yohan.event_planner.domain.EmailOutboxMessage
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.email.outbox.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class EmailOutboxJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxJob.class);
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Value("${app.email.outbox.workers:2}")
+    private int workers = 2;
+
+    @Value("${app.email.outbox.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${app.email.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Value("${app.email.outbox.dead-letter-retention-days:7}")
+    private int deadLetterRetentionDays = 7;
+
+    private ExecutorService executor;
+
+    /**
+     * Constructs a new email outbox job with the required dependencies.
+     *
+     * @param emailOutboxService the service that claims and sends outbox messages
+     */
+    public EmailOutboxJob(EmailOutboxService emailOutboxService) {
+        this.emailOutboxService = emailOutboxService;
+    }
+
+    /**
+     * Starts the worker pool once the configuration has been injected.
+     */
+    @PostConstruct
+    private void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the worker pool; messages in flight are retried after their lease expires.
+     */
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sends due messages with every worker until the outbox is drained or each worker reached
+     * its per-run batch limit.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:1000}")
+    public void deliverPendingEmails() {
+        try {
+            long startTime = System.currentTimeMillis();
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                tasks.add(this::drain);
+            }
+
+            int total = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                try {
+                    total += result.get();
+                } catch (ExecutionException e) {
+                    logger.error("Email outbox worker failed", e.getCause());
+                }
+            }
+
+            long duration = System.currentTimeMillis() - startTime;
+
+            if (total > 0) {
+                EmailOutboxStatsDTO stats = emailOutboxService.getStats();
+                logger.info("Processed {} outbox emails in {}ms (pending {}, dead letters {}, oldest pending {}ms)",
+                        total, duration, stats.pendingMessages(), stats.deadLetters(), stats.oldestPendingAgeMillis());
+            } else {
+                logger.debug("No outbox emails due ({}ms)", duration);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while delivering outbox emails");
+        } catch (Exception e) {
+            logger.error("Error while delivering outbox emails", e);
+        }
+    }
+
+    /**
+     * Deletes dead letters past the retention period every day at 3:30 AM.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeDeadLetters() {
+        try {
+            int deleted = emailOutboxService.purgeDeadLetters(Duration.ofDays(deadLetterRetentionDays));
+            if (deleted > 0) {
+                logger.info("Purged {} dead-lettered emails older than {} days", deleted, deadLetterRetentionDays);
+            }
+        } catch (Exception e) {
+            logger.error("Error while purging dead-lettered emails", e);
+        }
+    }
+
+    private int drain() {
+        int total = 0;
+        int batches = 0;
+        int claimed;
+
+        do {
+            claimed = emailOutboxService.deliverDueMessages(batchSize);
+            total += claimed;
+            batches++;
+        } while (claimed == batchSize && batches < maxBatchesPerRun);
+
+        return total;
+    }
+}
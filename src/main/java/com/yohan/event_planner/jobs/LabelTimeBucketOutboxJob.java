@@ -0,0 +1,100 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.LabelTimeBucketOutboxStatsDTO;
+import com.yohan.event_planner.service.LabelTimeBucketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that applies pending label time bucket deltas from the outbox.
+ *
+ * <p>
+ * When asynchronous label statistics are enabled, event completions only record their bucket
+ * deltas in the {@code label_time_bucket_outbox} table. This job drains that table on a fixed
+ * delay, letting {@link LabelTimeBucketService#drainOutbox(int)} coalesce and upsert each batch
+ * in its own transaction.
+ * </p>
+ *
+ * <h2>Drain Strategy</h2>
+ * <ul>
+ *   <li><strong>Batching</strong>: Claims up to {@code app.label-stats.async.batch-size} rows per transaction</li>
+ *   <li><strong>Catch-Up</strong>: Keeps draining full batches, up to {@code app.label-stats.async.max-batches-per-run}</li>
+ *   <li><strong>Multi-Instance</strong>: Rows are claimed with {@code SKIP LOCKED}, so instances never contend</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The job only exists when {@code app.label-stats.async.enabled} is true. The delay between
+ * runs is controlled by {@code app.label-stats.async.drain-interval-ms}.
+ * </p>
+ *
+ * <h2>Error Handling</h2>
+ * <p>
+ * A failed batch rolls back and its rows stay in the outbox, so they are retried on the next
+ * run. Failures are logged and never propagate to the scheduler.
+ * </p>
+ *
+ * @see LabelTimeBucketService#drainOutbox(int)
+ * @see com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.label-stats.async.enabled",
+    havingValue = "true"
+)
+public class LabelTimeBucketOutboxJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LabelTimeBucketOutboxJob.class);
+
+    private final LabelTimeBucketService labelTimeBucketService;
+
+    @Value("${app.label-stats.async.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.label-stats.async.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * Constructs a new outbox drain job with the required dependencies.
+     *
+     * @param labelTimeBucketService the service that applies outbox deltas
+     */
+    public LabelTimeBucketOutboxJob(LabelTimeBucketService labelTimeBucketService) {
+        this.labelTimeBucketService = labelTimeBucketService;
+    }
+
+    /**
+     * Drains pending deltas until the outbox is empty or the per-run batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${app.label-stats.async.drain-interval-ms:1000}")
+    public void drainOutbox() {
+        try {
+            long startTime = System.currentTimeMillis();
+            int total = 0;
+            int batches = 0;
+            int drained;
+
+            do {
+                drained = labelTimeBucketService.drainOutbox(batchSize);
+                total += drained;
+                batches++;
+            } while (drained == batchSize && batches < maxBatchesPerRun);
+
+            long duration = System.currentTimeMillis() - startTime;
+
+            if (total > 0) {
+                LabelTimeBucketOutboxStatsDTO stats = labelTimeBucketService.getOutboxStats();
+                logger.info("Applied {} label time deltas in {} batches in {}ms (queue depth {}, apply lag {}ms)",
+                        total, batches, duration, stats.queueDepth(), stats.lastApplyLagMillis());
+            } else {
+                logger.debug("No label time deltas to apply ({}ms)", duration);
+            }
+        } catch (Exception e) {
+            logger.error("Error while draining label time bucket outbox", e);
+        }
+    }
+}
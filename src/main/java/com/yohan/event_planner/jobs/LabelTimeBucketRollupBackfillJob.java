@@ -0,0 +1,95 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.service.LabelTimeBucketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Repair job that rebuilds YEAR and ALL_TIME label time buckets from existing DAY buckets.
+ *
+ * <p>
+ * Event completions maintain YEAR and ALL_TIME rollups alongside the day, week and month
+ * buckets. Time recorded before the rollups existed is backfilled once by the
+ * {@code V13__backfill_label_time_bucket_rollups} migration before the new version serves
+ * traffic. This job repeats that rebuild on a live system, for example after completions were
+ * recorded by instances that predate the rollups during a rolling deployment.
+ * </p>
+ *
+ * <h2>Operation</h2>
+ * <ul>
+ *   <li><strong>Idempotent</strong>: Rollups are overwritten rather than incremented, so re-running is safe</li>
+ *   <li><strong>Per Label</strong>: Each label is rebuilt in its own short transaction</li>
+ *   <li><strong>Safe Under Traffic</strong>: A label's rebuild holds its advisory lock, so completions
+ *       for that label wait for it instead of being overwritten</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The job only exists when {@code app.label-stats.backfill.enabled} is true. Enable it for a
+ * single deployment when rollups need repairing and disable it again afterwards.
+ * </p>
+ *
+ * <h2>Error Handling</h2>
+ * <p>
+ * A label whose rebuild fails rolls back, keeps its existing buckets and is logged; the
+ * remaining labels are still rebuilt and startup is never prevented.
+ * </p>
+ *
+ * @see LabelTimeBucketService#backfillRollupBuckets(Long)
+ * @see com.yohan.event_planner.domain.enums.TimeBucketType#ALL_TIME
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.label-stats.backfill.enabled",
+    havingValue = "true"
+)
+public class LabelTimeBucketRollupBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LabelTimeBucketRollupBackfillJob.class);
+
+    private final LabelTimeBucketService labelTimeBucketService;
+
+    /**
+     * Constructs a new rollup backfill job with the required dependencies.
+     *
+     * @param labelTimeBucketService the service that rebuilds the rollup buckets
+     */
+    public LabelTimeBucketRollupBackfillJob(LabelTimeBucketService labelTimeBucketService) {
+        this.labelTimeBucketService = labelTimeBucketService;
+    }
+
+    /**
+     * Rebuilds the YEAR and ALL_TIME buckets of every label once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRollupBuckets() {
+        logger.info("Starting YEAR and ALL_TIME label time bucket backfill");
+
+        try {
+            long startTime = System.currentTimeMillis();
+            List<Long> labelIds = labelTimeBucketService.getLabelIdsWithDayBuckets();
+            int written = 0;
+            int failed = 0;
+            for (Long labelId : labelIds) {
+                try {
+                    written += labelTimeBucketService.backfillRollupBuckets(labelId);
+                } catch (Exception e) {
+                    failed++;
+                    logger.error("Error rebuilding label time bucket rollups for label {}", labelId, e);
+                }
+            }
+            long duration = System.currentTimeMillis() - startTime;
+
+            logger.info("Backfilled {} YEAR and ALL_TIME label time buckets for {} labels ({} failed) in {}ms",
+                    written, labelIds.size() - failed, failed, duration);
+        } catch (Exception e) {
+            logger.error("Error during label time bucket rollup backfill", e);
+        }
+    }
+}
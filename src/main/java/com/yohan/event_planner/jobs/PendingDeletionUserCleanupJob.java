@@ -1,5 +1,6 @@
 package com.yohan.event_planner.jobs;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.constants.ApplicationConstants;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.domain.User;
@@ -83,14 +84,17 @@ public class PendingDeletionUserCleanupJob {
 
     private static final Logger logger = LoggerFactory.getLogger(PendingDeletionUserCleanupJob.class);
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * Constructs a new pending deletion cleanup job with the required dependencies.
      *
      * @param userRepository the repository for user data access operations
+     * @param userCache the shared user cache, invalidated for every deleted user
      */
-    public PendingDeletionUserCleanupJob(UserRepository userRepository) {
+    public PendingDeletionUserCleanupJob(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     /**
@@ -133,6 +137,7 @@ public class PendingDeletionUserCleanupJob {
             if (!toDelete.isEmpty()) {
                 logger.info("Deleting {} expired users with deletion dates before {}", toDelete.size(), now);
                 userRepository.deleteAll(toDelete);
+                toDelete.forEach(user -> userCache.invalidate(user.getId()));
                 
                 long duration = System.currentTimeMillis() - startTime;
                 logger.info("Pending deletion user cleanup completed: {} users deleted in {}ms", 
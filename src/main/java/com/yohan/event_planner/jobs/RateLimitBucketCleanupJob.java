@@ -0,0 +1,98 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+import com.yohan.event_planner.time.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Scheduled job that deletes expired shared rate limit counters.
+ *
+ * <p>
+ * With the postgres rate limit backend every attempt lands in a per-client sub-window row of
+ * {@code rate_limit_buckets}. Rows stop counting once their sub-window leaves the window but are
+ * not removed by the request path, so this job deletes them in bulk.
+ * </p>
+ *
+ * <h2>Delete Strategy</h2>
+ * <ul>
+ *   <li><strong>Batching</strong>: Deletes up to {@code app.rate-limit.postgres.cleanup.batch-size} rows per statement</li>
+ *   <li><strong>Catch-Up</strong>: Keeps deleting full batches, up to {@code app.rate-limit.postgres.cleanup.max-batches-per-run}</li>
+ *   <li><strong>Multi-Instance</strong>: Deletes are idempotent, so instances may run the job concurrently</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * The job only exists when {@code app.rate-limit.backend} is {@code postgres}. The delay between
+ * runs is controlled by {@code app.rate-limit.postgres.cleanup.interval-ms}.
+ * </p>
+ *
+ * @see com.yohan.event_planner.domain.RateLimitBucket
+ * @see com.yohan.event_planner.service.PostgresRateLimitCounter
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.rate-limit.backend",
+    havingValue = "postgres"
+)
+public class RateLimitBucketCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitBucketCleanupJob.class);
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final ClockProvider clockProvider;
+
+    @Value("${app.rate-limit.postgres.cleanup.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${app.rate-limit.postgres.cleanup.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * Constructs a new rate limit counter cleanup job with the required dependencies.
+     *
+     * @param rateLimitBucketRepository the repository holding the shared counters
+     * @param clockProvider provider for the current time
+     */
+    public RateLimitBucketCleanupJob(RateLimitBucketRepository rateLimitBucketRepository, ClockProvider clockProvider) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.clockProvider = clockProvider;
+    }
+
+    /**
+     * Deletes expired counters until none are left or the per-run batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.postgres.cleanup.interval-ms:60000}")
+    public void deleteExpiredBuckets() {
+        try {
+            long startTime = System.currentTimeMillis();
+            Instant now = clockProvider.getClockForZone(ZoneOffset.UTC).instant();
+            int total = 0;
+            int batches = 0;
+            int deleted;
+
+            do {
+                deleted = rateLimitBucketRepository.deleteExpired(now, batchSize);
+                total += deleted;
+                batches++;
+            } while (deleted == batchSize && batches < maxBatchesPerRun);
+
+            long duration = System.currentTimeMillis() - startTime;
+
+            if (total > 0) {
+                logger.info("Deleted {} expired rate limit buckets in {} batches in {}ms", total, batches, duration);
+            } else {
+                logger.debug("No expired rate limit buckets to delete ({}ms)", duration);
+            }
+        } catch (Exception e) {
+            logger.error("Error while deleting expired rate limit buckets", e);
+        }
+    }
+}
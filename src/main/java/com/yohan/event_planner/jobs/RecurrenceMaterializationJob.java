@@ -0,0 +1,113 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.RecurrenceMaterializationTargetDTO;
+import com.yohan.event_planner.service.RecurrenceMaterializationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Scheduled job that solidifies past recurring event occurrences into concrete events.
+ *
+ * <p>
+ * Calendar views used to solidify recurrences on every read, which turned each GET into a write
+ * transaction. This job does that work in the background instead: shortly after a user's local
+ * midnight it materializes their occurrences up to the start of the new day and advances the
+ * watermark on {@link com.yohan.event_planner.domain.User}. Views then only catch up on demand
+ * when the watermark shows the user is behind.
+ * </p>
+ *
+ * <h2>Batching</h2>
+ * <ul>
+ *   <li><strong>Timezone Order</strong>: Users are picked timezone by timezone, starting with the zones that reached midnight first</li>
+ *   <li><strong>Per-User Transactions</strong>: Each user is materialized in its own transaction, so one failure never rolls back others</li>
+ *   <li><strong>Catch-Up</strong>: Keeps processing full batches, up to {@code app.recurrence-materialization.max-batches-per-run}</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <p>
+ * Enabled by default through {@code app.recurrence-materialization.enabled}. The job runs on the
+ * {@code app.recurrence-materialization.cron} schedule; running every few minutes reaches each
+ * timezone shortly after its midnight.
+ * </p>
+ *
+ * <h2>Error Handling</h2>
+ * <p>
+ * A failing user is logged and skipped; its watermark stays behind, so it is retried on the next
+ * run. Failures never propagate to the scheduler.
+ * </p>
+ *
+ * @see RecurrenceMaterializationService
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.recurrence-materialization.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class RecurrenceMaterializationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurrenceMaterializationJob.class);
+
+    private final RecurrenceMaterializationService recurrenceMaterializationService;
+
+    @Value("${app.recurrence-materialization.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.recurrence-materialization.max-batches-per-run:50}")
+    private int maxBatchesPerRun = 50;
+
+    /**
+     * Constructs a new materialization job with the required dependencies.
+     *
+     * @param recurrenceMaterializationService the service that materializes a user's recurrences
+     */
+    public RecurrenceMaterializationJob(RecurrenceMaterializationService recurrenceMaterializationService) {
+        this.recurrenceMaterializationService = recurrenceMaterializationService;
+    }
+
+    /**
+     * Materializes recurrences for users whose local day has rolled over since their last run.
+     */
+    @Scheduled(cron = "${app.recurrence-materialization.cron:0 */5 * * * *}")
+    public void materializeRecurrences() {
+        try {
+            long startTime = System.currentTimeMillis();
+            int materialized = 0;
+            int failed = 0;
+            int batches = 0;
+            List<RecurrenceMaterializationTargetDTO> targets;
+
+            do {
+                targets = recurrenceMaterializationService.findDueMaterializations(batchSize);
+                batches++;
+
+                for (RecurrenceMaterializationTargetDTO target : targets) {
+                    try {
+                        recurrenceMaterializationService.materializeThrough(target.userId(), target.materializeThrough());
+                        materialized++;
+                    } catch (Exception e) {
+                        failed++;
+                        logger.error("Error while materializing recurrences for user {}", target.userId(), e);
+                    }
+                }
+            } while (targets.size() == batchSize && batches < maxBatchesPerRun);
+
+            long duration = System.currentTimeMillis() - startTime;
+
+            if (materialized > 0 || failed > 0) {
+                logger.info("Materialized recurrences for {} users ({} failed) in {} batches in {}ms",
+                        materialized, failed, batches, duration);
+            } else {
+                logger.debug("No users due for recurrence materialization ({}ms)", duration);
+            }
+        } catch (Exception e) {
+            logger.error("Error while running recurrence materialization job", e);
+        }
+    }
+}
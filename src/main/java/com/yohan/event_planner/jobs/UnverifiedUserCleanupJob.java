@@ -1,5 +1,6 @@
 package com.yohan.event_planner.jobs;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.constants.ApplicationConstants;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.repository.UserRepository;
@@ -78,14 +79,17 @@ public class UnverifiedUserCleanupJob {
     private static final long DEFAULT_MAX_AGE_HOURS = ApplicationConstants.UNVERIFIED_USER_MAX_AGE_HOURS;
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * Constructs a new cleanup job with the required dependencies.
      *
      * @param userRepository the repository for user operations
+     * @param userCache the shared user cache, invalidated for every deleted user
      */
-    public UnverifiedUserCleanupJob(UserRepository userRepository) {
+    public UnverifiedUserCleanupJob(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     /**
@@ -266,6 +270,7 @@ public class UnverifiedUserCleanupJob {
                 logger.info("Deleting unverified user: {} (created: {}, email: {})", 
                            user.getUsername(), user.getCreatedAt(), user.getEmail());
                 userRepository.delete(user);
+                userCache.invalidate(user.getId());
                 deletedCount++;
             } catch (Exception e) {
                 logger.error("Failed to delete unverified user: {} (id: {})", 
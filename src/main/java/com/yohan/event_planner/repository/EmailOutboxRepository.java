@@ -0,0 +1,73 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.EmailOutboxMessage;
+import com.yohan.event_planner.domain.enums.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for transactional emails waiting in the outbox.
+ *
+ * <p>Rows are appended by {@link com.yohan.event_planner.service.EmailServiceImpl} in the
+ * transaction that triggers the email and removed by
+ * {@link com.yohan.event_planner.jobs.EmailOutboxJob} once delivered.</p>
+ *
+ * @see EmailOutboxMessage
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Claims the pending messages that are due for delivery.
+     *
+     * <p>Rows are locked with {@code FOR UPDATE SKIP LOCKED} so several workers and application
+     * instances can claim concurrently without blocking on or double-sending each other's
+     * messages.</p>
+     *
+     * @param now the current time; only messages whose next attempt is not after it are claimed
+     * @param limit maximum number of rows to claim
+     * @return the claimed rows, oldest due first
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutboxMessage> lockDueBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Counts the messages in the given state.
+     *
+     * @param status the delivery state
+     * @return the number of messages
+     */
+    long countByStatus(EmailOutboxStatus status);
+
+    /**
+     * Returns the creation time of the oldest message in the given state.
+     *
+     * @param status the delivery state
+     * @return the oldest creation time, or null when there is no such message
+     */
+    @Query("SELECT MIN(m.createdAt) FROM EmailOutboxMessage m WHERE m.status = :status")
+    Instant findOldestCreatedAtByStatus(@Param("status") EmailOutboxStatus status);
+
+    /**
+     * Deletes dead-lettered messages queued before the cutoff.
+     *
+     * <p>Dead letters contain rendered bodies, including single-use links, so they are only
+     * kept long enough to investigate delivery problems.</p>
+     *
+     * @param cutoff messages created before this time are deleted
+     * @return the number of deleted messages
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = com.yohan.event_planner.domain.enums.EmailOutboxStatus.DEAD AND m.createdAt < :cutoff")
+    int deleteDeadLettersCreatedBefore(@Param("cutoff") Instant cutoff);
+}
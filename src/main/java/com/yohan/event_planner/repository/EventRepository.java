@@ -2,17 +2,25 @@ package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.EventIntervalDTO;
+import com.yohan.event_planner.dto.EventResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Event} entities with advanced query capabilities.
@@ -131,8 +139,32 @@ import java.util.Set;
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @Query("SELECT e FROM Event e WHERE e.creator.id = :userId AND e.unconfirmed = true ORDER BY e.startTime DESC")
-    List<Event> findUnconfirmedEventsForUserSortedByStartTime(@Param("userId") Long userId);
+    /**
+     * Shared select clause projecting events straight into {@link EventResponseDTO}.
+     *
+     * <p>Selects only the columns the DTO needs and joins the creator and label once, so list
+     * reads cost a single statement no matter how many rows they return.</p>
+     */
+    String EVENT_RESPONSE_PROJECTION = """
+            SELECT new com.yohan.event_planner.dto.EventResponseDTO(
+                e.id, e.name, e.startTime, e.endTime, e.durationMinutes,
+                CASE WHEN e.startTimezone <> c.timezone THEN e.startTimezone ELSE NULL END,
+                CASE WHEN e.endTimezone <> c.timezone THEN e.endTimezone ELSE NULL END,
+                e.description, c.username, c.timezone,
+                l.id, l.name, l.color, lc.username,
+                e.isCompleted, e.unconfirmed, e.impromptu
+            )
+            FROM Event e
+            JOIN e.creator c
+            LEFT JOIN e.label l
+            LEFT JOIN l.creator lc
+            """;
+
+    @Query(EVENT_RESPONSE_PROJECTION + """
+            WHERE c.id = :userId AND e.unconfirmed = true
+            ORDER BY e.startTime DESC
+            """)
+    List<EventResponseDTO> findUnconfirmedEventsForUserSortedByStartTime(@Param("userId") Long userId);
 
     @Query("""
     SELECT e FROM Event e
@@ -147,6 +179,26 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             @Param("windowEnd") ZonedDateTime windowEnd
     );
 
+    /**
+     * Projection of {@link #findConfirmedEventsForUserBetween} for day and week views.
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param windowStart the start of the window (inclusive)
+     * @param windowEnd the end of the window (inclusive)
+     * @return the confirmed events overlapping the window, ready for display
+     */
+    @Query(EVENT_RESPONSE_PROJECTION + """
+            WHERE c.id = :userId
+              AND e.unconfirmed = false
+              AND e.endTime >= :windowStart
+              AND e.startTime <= :windowEnd
+            """)
+    List<EventResponseDTO> findConfirmedEventResponsesForUserBetween(
+            @Param("userId") Long userId,
+            @Param("windowStart") ZonedDateTime windowStart,
+            @Param("windowEnd") ZonedDateTime windowEnd
+    );
+
     @Query("""
     SELECT e FROM Event e
     WHERE e.creator.id = :userId
@@ -164,29 +216,57 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             @Param("end") ZonedDateTime end
     );
 
+    /**
+     * Retrieves the confirmed events of a user, and the drafts of the given recurrences, that
+     * overlap a window.
+     *
+     * <p>Both bounds are inclusive: an event touching the window can still conflict with an
+     * occurrence inside it, since conflicts include shared boundaries.</p>
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param recurrenceIds the recurrences whose drafts to include
+     * @param start the start of the window (inclusive)
+     * @param end the end of the window (inclusive)
+     * @return the matching events
+     */
     @Query("""
     SELECT e FROM Event e
     WHERE e.creator.id = :userId
-    AND e.unconfirmed = false
-    ORDER BY e.endTime DESC, e.startTime DESC, e.id DESC
+      AND e.endTime >= :start
+      AND e.startTime <= :end
+      AND (
+           e.unconfirmed = false
+        OR (e.unconfirmed = true AND e.recurringEvent.id IN :recurrenceIds)
+      )
 """)
-    List<Event> findTopConfirmedByUserIdOrderByEndTimeDescStartTimeDescIdDesc(
+    List<Event> findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+            @Param("userId") Long userId,
+            @Param("recurrenceIds") Collection<Long> recurrenceIds,
+            @Param("start") ZonedDateTime start,
+            @Param("end") ZonedDateTime end
+    );
+
+    @Query(EVENT_RESPONSE_PROJECTION + """
+            WHERE c.id = :userId
+              AND e.unconfirmed = false
+            ORDER BY e.endTime DESC, e.startTime DESC, e.id DESC
+            """)
+    List<EventResponseDTO> findTopConfirmedByUserIdOrderByEndTimeDescStartTimeDescIdDesc(
             @Param("userId") Long userId,
             Pageable pageable
     );
 
-    @Query("""
-    SELECT e FROM Event e
-    WHERE e.creator.id = :userId
-    AND e.unconfirmed = false
-    AND (
-        e.endTime < :endTimeCursor
-        OR (e.endTime = :endTimeCursor AND e.startTime < :startTimeCursor)
-        OR (e.endTime = :endTimeCursor AND e.startTime = :startTimeCursor AND e.id < :idCursor)
-    )
-    ORDER BY e.endTime DESC, e.startTime DESC, e.id DESC
-""")
-    List<Event> findConfirmedByUserIdBeforeCursor(
+    @Query(EVENT_RESPONSE_PROJECTION + """
+            WHERE c.id = :userId
+              AND e.unconfirmed = false
+              AND (
+                  e.endTime < :endTimeCursor
+                  OR (e.endTime = :endTimeCursor AND e.startTime < :startTimeCursor)
+                  OR (e.endTime = :endTimeCursor AND e.startTime = :startTimeCursor AND e.id < :idCursor)
+              )
+            ORDER BY e.endTime DESC, e.startTime DESC, e.id DESC
+            """)
+    List<EventResponseDTO> findConfirmedByUserIdBeforeCursor(
             @Param("userId") Long userId,
             @Param("endTimeCursor") ZonedDateTime endTimeCursor,
             @Param("startTimeCursor") ZonedDateTime startTimeCursor,
@@ -194,32 +274,127 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             Pageable pageable
     );
 
-    @Query("""
+    /**
+     * Finds confirmed events of a user overlapping the given span, boundaries inclusive.
+     *
+     * <p>Written as a native range overlap so PostgreSQL can answer it from the partial GiST
+     * index {@code idx_events_creator_confirmed_range} instead of scanning the user's events.</p>
+     */
+    @Query(value = """
             SELECT e.id
-            FROM Event e
-            WHERE e.creator = :user
+            FROM events e
+            WHERE e.creator_id = :#{#user.id}
               AND e.unconfirmed = false
-              AND (:excludeEventId IS NULL OR e.id <> :excludeEventId)
-              AND (
-                   (e.startTime <= :end AND e.endTime >= :start)
-                 )
-            """)
+              AND (CAST(:excludeEventId AS bigint) IS NULL OR e.id <> :excludeEventId)
+              AND tstzrange(e.starttime, e.endtime, '[]') && tstzrange(:start, :end, '[]')
+            """, nativeQuery = true)
     Set<Long> findConflictingEventIds(@Param("user") User user,
                                       @Param("start") ZonedDateTime start,
                                       @Param("end") ZonedDateTime end,
                                       @Param("excludeEventId") Long excludeEventId);
 
     @Query("""
-        SELECT e FROM Event e
-        WHERE e.label.id = :labelId
-        AND e.endTime >= :startDate
-        AND e.startTime <= :endDate
-        AND e.isCompleted = true
-    """)
-    List<Event> findByLabelIdAndEventDateBetweenAndIsCompleted(
+            SELECT new com.yohan.event_planner.dto.EventIntervalDTO(e.id, e.startTime, e.endTime)
+            FROM Event e
+            WHERE e.creator.id = :userId
+              AND e.unconfirmed = false
+            ORDER BY e.startTime ASC
+            """)
+    List<EventIntervalDTO> findConfirmedEventIntervalsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves the spans of a user's confirmed events overlapping a window, sorted by start time.
+     *
+     * <p>Used by bulk conflict checks, which only compare times and so need neither entities nor
+     * their associations.</p>
+     *
+     * @param userId the ID of the user whose events to retrieve
+     * @param windowStart the start of the window (inclusive)
+     * @param windowEnd the end of the window (inclusive)
+     * @return the ID and UTC bounds of every confirmed event overlapping the window
+     */
+    @Query("""
+            SELECT new com.yohan.event_planner.dto.EventIntervalDTO(e.id, e.startTime, e.endTime)
+            FROM Event e
+            WHERE e.creator.id = :userId
+              AND e.unconfirmed = false
+              AND e.endTime >= :windowStart
+              AND e.startTime <= :windowEnd
+            ORDER BY e.startTime ASC
+            """)
+    List<EventIntervalDTO> findConfirmedEventIntervalsForUserBetween(@Param("userId") Long userId,
+                                                                     @Param("windowStart") ZonedDateTime windowStart,
+                                                                     @Param("windowEnd") ZonedDateTime windowEnd);
+
+    /**
+     * Shared day extraction for the month calendar queries.
+     *
+     * <p>Converts each matching event's start and end to local dates in {@code :zone}, clamps
+     * them to the month and expands the span with {@code generate_series} into zero-based day
+     * offsets, so the database returns each day of the month at most once instead of the events
+     * themselves.</p>
+     */
+    String MONTH_DAY_OFFSETS = """
+            SELECT DISTINCT d.day_offset
+            FROM events e
+            CROSS JOIN LATERAL generate_series(
+                    GREATEST(CAST(e.starttime AT TIME ZONE CAST(:zone AS text) AS date), CAST(:monthStart AS date))
+                        - CAST(:monthStart AS date),
+                    LEAST(CAST(e.endtime AT TIME ZONE CAST(:zone AS text) AS date), CAST(:monthEnd AS date))
+                        - CAST(:monthStart AS date)
+            ) AS d(day_offset)
+            """;
+
+    /**
+     * Finds the days of a month, in the user's time zone, covered by the user's confirmed events.
+     *
+     * @param userId the ID of the user whose events to read
+     * @param windowStart the start of the month as an instant (inclusive)
+     * @param windowEnd the end of the month as an instant (inclusive)
+     * @param zone the IANA time zone in which dates are taken
+     * @param monthStart the first date of the month
+     * @param monthEnd the last date of the month
+     * @return distinct zero-based day offsets from {@code monthStart}
+     */
+    @Query(value = MONTH_DAY_OFFSETS + """
+            WHERE e.creator_id = :userId
+              AND e.unconfirmed = false
+              AND e.endtime >= :windowStart
+              AND e.starttime <= :windowEnd
+            """, nativeQuery = true)
+    List<Integer> findConfirmedEventDayOffsetsForUserInMonth(
+            @Param("userId") Long userId,
+            @Param("windowStart") ZonedDateTime windowStart,
+            @Param("windowEnd") ZonedDateTime windowEnd,
+            @Param("zone") String zone,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * Finds the days of a month, in the user's time zone, covered by completed events of a label.
+     *
+     * @param labelId the ID of the label whose events to read
+     * @param windowStart the start of the month as an instant (inclusive)
+     * @param windowEnd the end of the month as an instant (inclusive)
+     * @param zone the IANA time zone in which dates are taken
+     * @param monthStart the first date of the month
+     * @param monthEnd the last date of the month
+     * @return distinct zero-based day offsets from {@code monthStart}
+     */
+    @Query(value = MONTH_DAY_OFFSETS + """
+            WHERE e.label_id = :labelId
+              AND e.is_completed = true
+              AND e.endtime >= :windowStart
+              AND e.starttime <= :windowEnd
+            """, nativeQuery = true)
+    List<Integer> findCompletedEventDayOffsetsForLabelInMonth(
             @Param("labelId") Long labelId,
-            @Param("startDate") ZonedDateTime startDate,
-            @Param("endDate") ZonedDateTime endDate
+            @Param("windowStart") ZonedDateTime windowStart,
+            @Param("windowEnd") ZonedDateTime windowEnd,
+            @Param("zone") String zone,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
     );
 
     @Query("""
@@ -258,4 +433,33 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             @Param("recurringEventId") Long recurringEventId,
             @Param("currentTime") ZonedDateTime currentTime
     );
+
+    /** Rows fetched per database round trip by the export streams. */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Streams all confirmed events of a user in start time order for a bulk export.
+     *
+     * <p>The stream is backed by a forward-only server-side cursor that fetches
+     * {@value #EXPORT_FETCH_SIZE} rows per round trip, and loads entities read-only so Hibernate
+     * keeps no snapshots for dirty checking. It must be consumed inside a transaction and closed
+     * by the caller, which should also clear the persistence context periodically, since every
+     * streamed entity stays managed until then.</p>
+     *
+     * @param userId the ID of the user whose events to stream
+     * @return the confirmed events of the user, with labels fetched
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+    SELECT e FROM Event e
+    LEFT JOIN FETCH e.label
+    WHERE e.creator.id = :userId
+    AND e.unconfirmed = false
+    ORDER BY e.startTime ASC, e.id ASC
+    """)
+    Stream<Event> streamConfirmedEventsForExport(@Param("userId") Long userId);
 }
@@ -0,0 +1,57 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for pending label time bucket deltas recorded by the asynchronous statistics pipeline.
+ *
+ * <p>Rows are appended in the transaction that completes or modifies an event and removed by
+ * {@link com.yohan.event_planner.jobs.LabelTimeBucketOutboxJob} once applied to
+ * {@link com.yohan.event_planner.domain.LabelTimeBucket}.</p>
+ *
+ * @see LabelTimeBucketOutboxEntry
+ * @see LabelTimeBucketRepository
+ */
+public interface LabelTimeBucketOutboxRepository extends JpaRepository<LabelTimeBucketOutboxEntry, Long> {
+
+    /**
+     * Claims the oldest pending deltas for draining.
+     *
+     * <p>Rows are locked with {@code FOR UPDATE SKIP LOCKED} so several application instances can
+     * drain concurrently without blocking on or double-applying each other's rows.</p>
+     *
+     * @param limit maximum number of rows to claim
+     * @return the claimed rows in insertion order
+     */
+    @Query(value = """
+            SELECT * FROM label_time_bucket_outbox
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<LabelTimeBucketOutboxEntry> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Finds pending deltas for a user's labels so readers can merge them with applied totals.
+     *
+     * @param userId the ID of the user
+     * @param labelIds the labels of interest
+     * @return the pending deltas
+     */
+    List<LabelTimeBucketOutboxEntry> findByUserIdAndLabelIdIn(Long userId, Collection<Long> labelIds);
+
+    /**
+     * Returns the creation time of the oldest pending delta.
+     *
+     * @return the oldest creation time, or null when the outbox is empty
+     */
+    @Query("SELECT MIN(o.createdAt) FROM LabelTimeBucketOutboxEntry o")
+    Instant findOldestCreatedAt();
+}
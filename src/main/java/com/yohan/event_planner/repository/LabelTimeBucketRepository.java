@@ -2,7 +2,10 @@ package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.LabelTimeBucket;
 import com.yohan.event_planner.domain.enums.TimeBucketType;
+import com.yohan.event_planner.dto.BadgeTimeTotalsDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -75,6 +78,13 @@ import java.util.Optional;
  *   <li><strong>Analytics</strong>: Long-term trend analysis</li>
  * </ul>
  * 
+ * <h3>Rollup Buckets (YEAR, ALL_TIME)</h3>
+ * <ul>
+ *   <li><strong>Granularity</strong>: Calendar year, or a single running total per label</li>
+ *   <li><strong>Use Case</strong>: All-time badge statistics without summing every bucket</li>
+ *   <li><strong>Analytics</strong>: Point lookups instead of scans over a label's history</li>
+ * </ul>
+ * 
  * <h2>Performance Optimization</h2>
  * <ul>
  *   <li><strong>Composite Indexing</strong>: Multi-column indexes for complex queries</li>
@@ -142,7 +152,7 @@ import java.util.Optional;
  * @version 2.0.0
  * @since 1.0.0
  */
-public interface LabelTimeBucketRepository extends JpaRepository<LabelTimeBucket, Long> {
+public interface LabelTimeBucketRepository extends JpaRepository<LabelTimeBucket, Long>, LabelTimeBucketRepositoryCustom {
     Optional<LabelTimeBucket> findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
             Long userId, Long labelId, TimeBucketType bucketType, int bucketYear, int bucketValue
     );
@@ -155,8 +165,92 @@ public interface LabelTimeBucketRepository extends JpaRepository<LabelTimeBucket
             List<Integer> bucketValues
     );
 
-    List<LabelTimeBucket> findByUserIdAndLabelIdIn(
+    List<LabelTimeBucket> findByUserIdAndLabelIdInAndBucketType(
             Long userId,
-            Collection<Long> labelIds
+            Collection<Long> labelIds,
+            TimeBucketType bucketType
+    );
+
+    /**
+     * Returns the distinct labels that have DAY buckets, in ascending order.
+     *
+     * <p>Used to rebuild rollup buckets one label at a time.</p>
+     *
+     * @return label IDs with at least one DAY bucket
+     */
+    @Query("""
+            SELECT DISTINCT t.labelId
+            FROM LabelTimeBucket t
+            WHERE t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.DAY
+            ORDER BY t.labelId
+            """)
+    List<Long> findLabelIdsWithDayBuckets();
+
+    /**
+     * Aggregates today, this/last week, this/last month and all-time minutes for several badges
+     * in a single grouped query.
+     *
+     * <p>Each badge is joined to the buckets of its labels and every statistics window is summed
+     * with a conditional {@code SUM(CASE ...)}, so the cost is one round trip regardless of how
+     * many badges or windows are requested. All-time minutes come from the ALL_TIME rollup bucket
+     * and only rollup rows and rows of the window years are read, so the cost does not grow with a
+     * label's history. Badges whose labels have no matching buckets produce no row.</p>
+     *
+     * @param userId the user who owns the buckets
+     * @param badgeIds the badges to aggregate
+     * @param todayYear calendar year of today
+     * @param todayValue DAY bucket value (YYYYMMDD) of today
+     * @param thisWeekYear ISO week-based year of the current week
+     * @param thisWeekValue ISO week number of the current week
+     * @param lastWeekYear ISO week-based year of the previous week
+     * @param lastWeekValue ISO week number of the previous week
+     * @param thisMonthYear calendar year of the current month
+     * @param thisMonthValue current month (1-12)
+     * @param lastMonthYear calendar year of the previous month
+     * @param lastMonthValue previous month (1-12)
+     * @return one totals row per badge with at least one bucket
+     */
+    @Query("""
+            SELECT new com.yohan.event_planner.dto.BadgeTimeTotalsDTO(
+                b.id,
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.DAY
+                          AND t.bucketYear = :todayYear AND t.bucketValue = :todayValue
+                         THEN t.durationMinutes ELSE 0 END),
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.WEEK
+                          AND t.bucketYear = :thisWeekYear AND t.bucketValue = :thisWeekValue
+                         THEN t.durationMinutes ELSE 0 END),
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.MONTH
+                          AND t.bucketYear = :thisMonthYear AND t.bucketValue = :thisMonthValue
+                         THEN t.durationMinutes ELSE 0 END),
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.WEEK
+                          AND t.bucketYear = :lastWeekYear AND t.bucketValue = :lastWeekValue
+                         THEN t.durationMinutes ELSE 0 END),
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.MONTH
+                          AND t.bucketYear = :lastMonthYear AND t.bucketValue = :lastMonthValue
+                         THEN t.durationMinutes ELSE 0 END),
+                SUM(CASE WHEN t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.ALL_TIME
+                         THEN t.durationMinutes ELSE 0 END)
+            )
+            FROM Badge b
+            JOIN b.labelIds badgeLabelId
+            JOIN LabelTimeBucket t ON t.labelId = badgeLabelId AND t.userId = :userId
+            WHERE b.id IN :badgeIds
+              AND (t.bucketType = com.yohan.event_planner.domain.enums.TimeBucketType.ALL_TIME
+                   OR t.bucketYear IN (:todayYear, :thisWeekYear, :lastWeekYear, :thisMonthYear, :lastMonthYear))
+            GROUP BY b.id
+            """)
+    List<BadgeTimeTotalsDTO> aggregateBadgeTotals(
+            @Param("userId") Long userId,
+            @Param("badgeIds") Collection<Long> badgeIds,
+            @Param("todayYear") int todayYear,
+            @Param("todayValue") int todayValue,
+            @Param("thisWeekYear") int thisWeekYear,
+            @Param("thisWeekValue") int thisWeekValue,
+            @Param("lastWeekYear") int lastWeekYear,
+            @Param("lastWeekValue") int lastWeekValue,
+            @Param("thisMonthYear") int thisMonthYear,
+            @Param("thisMonthValue") int thisMonthValue,
+            @Param("lastMonthYear") int lastMonthYear,
+            @Param("lastMonthValue") int lastMonthValue
     );
 }
@@ -0,0 +1,44 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.dto.LabelTimeBucketDeltaDTO;
+
+import java.util.List;
+
+/**
+ * Custom write operations for {@link com.yohan.event_planner.domain.LabelTimeBucket} that cannot
+ * be expressed as derived or JPQL queries.
+ *
+ * @see LabelTimeBucketRepositoryCustomImpl
+ */
+public interface LabelTimeBucketRepositoryCustom {
+
+    /**
+     * Adds each delta to its bucket in a single PostgreSQL
+     * {@code INSERT ... ON CONFLICT DO UPDATE} statement.
+     *
+     * <p>Missing buckets are created with the delta as their initial duration and the label's
+     * current name; existing buckets are incremented in place by the database, so concurrent
+     * writers never overwrite each other's totals. Callers must coalesce deltas so that each
+     * bucket appears at most once in {@code deltas}. A shared advisory lock is held per label
+     * until the transaction ends, so increments never interleave with
+     * {@link #rebuildRollupBuckets(Long)}.</p>
+     *
+     * @param userId the owner of the buckets
+     * @param deltas bucket adjustments, at most one per bucket key
+     * @return number of bucket rows inserted or updated
+     */
+    int upsertDurations(Long userId, List<LabelTimeBucketDeltaDTO> deltas);
+
+    /**
+     * Recomputes the YEAR and ALL_TIME buckets of one label from its DAY buckets.
+     *
+     * <p>Rollup buckets are overwritten with the sum of their DAY buckets rather than
+     * incremented, so the operation is idempotent. The label's exclusive advisory lock is taken
+     * first, so the sums include every committed increment and no increment lands until the
+     * caller's transaction ends.</p>
+     *
+     * @param labelId the label whose rollups are rebuilt
+     * @return number of rollup bucket rows inserted or updated
+     */
+    int rebuildRollupBuckets(Long labelId);
+}
@@ -0,0 +1,157 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.dto.LabelTimeBucketDeltaDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static com.yohan.event_planner.constants.ApplicationConstants.ALL_TIME_BUCKET_VALUE;
+import static com.yohan.event_planner.constants.ApplicationConstants.ALL_TIME_BUCKET_YEAR;
+
+/**
+ * PostgreSQL implementation of {@link LabelTimeBucketRepositoryCustom}.
+ *
+ * <p>All deltas are shipped as parallel arrays and expanded server-side with {@code unnest}, so an
+ * event change costs one statement regardless of how many day, week and month buckets it touches.
+ * Rows are inserted in bucket-key order so that concurrent upserts acquire row locks in the same
+ * order and cannot deadlock each other. The label name is read from {@code labels} in the same
+ * statement instead of being looked up beforehand.</p>
+ *
+ * <p>YEAR and ALL_TIME rollups are normally maintained by the same upsert. For buckets recorded
+ * before the rollups existed, {@link #rebuildRollupBuckets(Long)} derives them from the DAY
+ * buckets, which are the finest granularity and therefore the source of truth.</p>
+ *
+ * <p>A rebuild overwrites rollups with sums read from the DAY buckets, so it must not interleave
+ * with increments to the same label. Every upsert takes a shared transaction-level advisory lock
+ * per label and a rebuild takes the exclusive lock for its label, which waits for in-flight
+ * upserts to commit and holds back new ones until the rebuilt rows are committed. Upserts never
+ * block each other on these locks.</p>
+ *
+ * <p>The statements run on the connection bound to the current persistence context, so they join
+ * the caller's transaction.</p>
+ */
+public class LabelTimeBucketRepositoryCustomImpl implements LabelTimeBucketRepositoryCustom {
+
+    private static final Logger logger = LoggerFactory.getLogger(LabelTimeBucketRepositoryCustomImpl.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO label_time_bucket
+                (user_id, label_id, label_name, bucket_type, bucket_year, bucket_value, duration_minutes)
+            SELECT ?, d.label_id, l.name, d.bucket_type, d.bucket_year, d.bucket_value, d.delta_minutes
+            FROM unnest(?::bigint[], ?::varchar[], ?::int[], ?::int[], ?::int[])
+                 AS d(label_id, bucket_type, bucket_year, bucket_value, delta_minutes)
+            JOIN labels l ON l.id = d.label_id
+            ORDER BY d.label_id, d.bucket_type, d.bucket_year, d.bucket_value
+            ON CONFLICT (user_id, label_id, bucket_type, bucket_year, bucket_value)
+            DO UPDATE SET duration_minutes = label_time_bucket.duration_minutes + EXCLUDED.duration_minutes
+            """;
+
+    private static final String LOCK_LABELS_SHARED_SQL = """
+            SELECT pg_advisory_xact_lock_shared(hashtext('label_time_bucket'), (l.label_id % 2147483647)::int)
+            FROM (SELECT DISTINCT label_id FROM unnest(?::bigint[]) AS d(label_id) ORDER BY label_id) l
+            """;
+
+    private static final String LOCK_LABEL_EXCLUSIVE_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('label_time_bucket'), (?::bigint % 2147483647)::int)
+            """;
+
+    private static final String REBUILD_YEAR_SQL = """
+            INSERT INTO label_time_bucket
+                (user_id, label_id, label_name, bucket_type, bucket_year, bucket_value, duration_minutes)
+            SELECT user_id, label_id, MAX(label_name), 'YEAR', bucket_year, bucket_year, SUM(duration_minutes)
+            FROM label_time_bucket
+            WHERE bucket_type = 'DAY' AND label_id = ?
+            GROUP BY user_id, label_id, bucket_year
+            ORDER BY user_id, label_id, bucket_year
+            ON CONFLICT (user_id, label_id, bucket_type, bucket_year, bucket_value)
+            DO UPDATE SET duration_minutes = EXCLUDED.duration_minutes
+            """;
+
+    private static final String REBUILD_ALL_TIME_SQL = """
+            INSERT INTO label_time_bucket
+                (user_id, label_id, label_name, bucket_type, bucket_year, bucket_value, duration_minutes)
+            SELECT user_id, label_id, MAX(label_name), 'ALL_TIME', ?, ?, SUM(duration_minutes)
+            FROM label_time_bucket
+            WHERE bucket_type = 'DAY' AND label_id = ?
+            GROUP BY user_id, label_id
+            ORDER BY user_id, label_id
+            ON CONFLICT (user_id, label_id, bucket_type, bucket_year, bucket_value)
+            DO UPDATE SET duration_minutes = EXCLUDED.duration_minutes
+            """;
+
+    private final EntityManager em;
+
+    public LabelTimeBucketRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public int upsertDurations(Long userId, List<LabelTimeBucketDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int size = deltas.size();
+        Long[] labelIds = new Long[size];
+        String[] bucketTypes = new String[size];
+        Integer[] bucketYears = new Integer[size];
+        Integer[] bucketValues = new Integer[size];
+        Integer[] deltaMinutes = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            LabelTimeBucketDeltaDTO delta = deltas.get(i);
+            labelIds[i] = delta.labelId();
+            bucketTypes[i] = delta.bucketType().name();
+            bucketYears[i] = delta.bucketYear();
+            bucketValues[i] = delta.bucketValue();
+            deltaMinutes[i] = delta.deltaMinutes();
+        }
+
+        int affected = em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_LABELS_SHARED_SQL)) {
+                lock.setArray(1, connection.createArrayOf("bigint", labelIds));
+                lock.execute();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                statement.setLong(1, userId);
+                statement.setArray(2, connection.createArrayOf("bigint", labelIds));
+                statement.setArray(3, connection.createArrayOf("varchar", bucketTypes));
+                statement.setArray(4, connection.createArrayOf("integer", bucketYears));
+                statement.setArray(5, connection.createArrayOf("integer", bucketValues));
+                statement.setArray(6, connection.createArrayOf("integer", deltaMinutes));
+                return statement.executeUpdate();
+            }
+        });
+
+        logger.debug("Upserted {} label time buckets for user {} from {} deltas", affected, userId, size);
+        return affected;
+    }
+
+    @Override
+    public int rebuildRollupBuckets(Long labelId) {
+        int written = em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_LABEL_EXCLUSIVE_SQL)) {
+                lock.setLong(1, labelId);
+                lock.execute();
+            }
+            int years;
+            try (PreparedStatement statement = connection.prepareStatement(REBUILD_YEAR_SQL)) {
+                statement.setLong(1, labelId);
+                years = statement.executeUpdate();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(REBUILD_ALL_TIME_SQL)) {
+                statement.setInt(1, ALL_TIME_BUCKET_YEAR);
+                statement.setInt(2, ALL_TIME_BUCKET_VALUE);
+                statement.setLong(3, labelId);
+                return years + statement.executeUpdate();
+            }
+        });
+
+        logger.debug("Rebuilt {} YEAR and ALL_TIME label time buckets for label {}", written, labelId);
+        return written;
+    }
+}
@@ -0,0 +1,17 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.RateLimitBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for the shared rate limit counters used when {@code app.rate-limit.backend=postgres}.
+ *
+ * <p>All counting goes through the single-statement operations of
+ * {@link RateLimitBucketRepositoryCustom}; the inherited CRUD methods exist for inspection only.</p>
+ *
+ * @see RateLimitBucket
+ * @see com.yohan.event_planner.service.PostgresRateLimitCounter
+ */
+public interface RateLimitBucketRepository
+        extends JpaRepository<RateLimitBucket, RateLimitBucket.Key>, RateLimitBucketRepositoryCustom {
+}
@@ -0,0 +1,58 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.dto.RateLimitWindowDTO;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Counter operations on {@link com.yohan.event_planner.domain.RateLimitBucket} that run as single
+ * PostgreSQL statements.
+ *
+ * <p>Each method runs in its own short transaction when called outside one, so rate limiting never
+ * holds locks for the duration of the request it guards.</p>
+ *
+ * @see RateLimitBucketRepositoryCustomImpl
+ */
+public interface RateLimitBucketRepositoryCustom {
+
+    /**
+     * Adds one attempt to a sub-window and sums the client's window, in one statement.
+     *
+     * <p>The sub-window row is created or incremented with {@code INSERT ... ON CONFLICT DO UPDATE},
+     * and the returned total combines the row's new count with the client's other sub-windows from
+     * {@code windowStartBucket} on. Concurrent attempts for the same sub-window serialize on its row,
+     * so every attempt is counted exactly once.</p>
+     *
+     * @param limiterName the rate limiter name
+     * @param clientKey the client identifier
+     * @param bucket the sub-window the attempt falls into
+     * @param windowStartBucket the oldest sub-window still inside the window
+     * @param expiresAt when the sub-window leaves the window
+     * @return the client's window including the new attempt
+     */
+    @Transactional
+    RateLimitWindowDTO incrementAndSum(String limiterName, String clientKey, long bucket,
+                                       long windowStartBucket, Instant expiresAt);
+
+    /**
+     * Sums the client's attempts from {@code windowStartBucket} on without counting a new one.
+     *
+     * @param limiterName the rate limiter name
+     * @param clientKey the client identifier
+     * @param windowStartBucket the oldest sub-window still inside the window
+     * @return the client's window
+     */
+    @Transactional(readOnly = true)
+    RateLimitWindowDTO sumWindow(String limiterName, String clientKey, long windowStartBucket);
+
+    /**
+     * Deletes up to {@code limit} sub-window rows that expired before {@code now}.
+     *
+     * @param now the current time
+     * @param limit maximum number of rows to delete
+     * @return number of rows deleted
+     */
+    @Transactional
+    int deleteExpired(Instant now, int limit);
+}
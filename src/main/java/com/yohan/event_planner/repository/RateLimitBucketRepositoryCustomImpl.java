@@ -0,0 +1,113 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.dto.RateLimitWindowDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * PostgreSQL implementation of {@link RateLimitBucketRepositoryCustom}.
+ *
+ * <p>The increment is a data-modifying CTE: the upsert returns the sub-window's new count and the
+ * outer query adds the client's other sub-windows. The outer query reads the snapshot taken before
+ * the upsert, so the current sub-window is excluded there and taken from the upsert's result
+ * instead. Sub-windows newer than the current one are still counted, which keeps instances with
+ * slightly skewed clocks from under-counting each other.</p>
+ *
+ * <p>The statements run on the connection bound to the current persistence context, so they join
+ * the caller's transaction. The bulk delete declares the table it touches so Hibernate does not
+ * clear the entire second-level cache after it.</p>
+ */
+public class RateLimitBucketRepositoryCustomImpl implements RateLimitBucketRepositoryCustom {
+
+    private static final String INCREMENT_AND_SUM_SQL = """
+            WITH upserted AS (
+                INSERT INTO rate_limit_buckets (limiter_name, client_key, bucket, attempts, expires_at)
+                VALUES (?, ?, ?, 1, ?)
+                ON CONFLICT (limiter_name, client_key, bucket)
+                DO UPDATE SET attempts = rate_limit_buckets.attempts + 1
+                RETURNING bucket, attempts
+            )
+            SELECT u.attempts + COALESCE(SUM(b.attempts), 0), LEAST(u.bucket, MIN(b.bucket))
+            FROM upserted u
+            LEFT JOIN rate_limit_buckets b
+                ON b.limiter_name = ? AND b.client_key = ? AND b.bucket >= ? AND b.bucket <> u.bucket
+            GROUP BY u.bucket, u.attempts
+            """;
+
+    private static final String SUM_WINDOW_SQL = """
+            SELECT COALESCE(SUM(attempts), 0), MIN(bucket)
+            FROM rate_limit_buckets
+            WHERE limiter_name = ? AND client_key = ? AND bucket >= ?
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM rate_limit_buckets
+            WHERE ctid IN (
+                SELECT ctid FROM rate_limit_buckets
+                WHERE expires_at < :now
+                LIMIT :limit
+            )
+            """;
+
+    private final EntityManager em;
+
+    public RateLimitBucketRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public RateLimitWindowDTO incrementAndSum(String limiterName, String clientKey, long bucket,
+                                              long windowStartBucket, Instant expiresAt) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INCREMENT_AND_SUM_SQL)) {
+                statement.setString(1, limiterName);
+                statement.setString(2, clientKey);
+                statement.setLong(3, bucket);
+                statement.setTimestamp(4, Timestamp.from(expiresAt));
+                statement.setString(5, limiterName);
+                statement.setString(6, clientKey);
+                statement.setLong(7, windowStartBucket);
+                return readWindow(statement);
+            }
+        });
+    }
+
+    @Override
+    public RateLimitWindowDTO sumWindow(String limiterName, String clientKey, long windowStartBucket) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SUM_WINDOW_SQL)) {
+                statement.setString(1, limiterName);
+                statement.setString(2, clientKey);
+                statement.setLong(3, windowStartBucket);
+                return readWindow(statement);
+            }
+        });
+    }
+
+    @Override
+    public int deleteExpired(Instant now, int limit) {
+        return em.createNativeQuery(DELETE_EXPIRED_SQL)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "rate_limit_buckets")
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private RateLimitWindowDTO readWindow(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                return new RateLimitWindowDTO(0, null);
+            }
+            int attempts = resultSet.getInt(1);
+            long oldestBucket = resultSet.getLong(2);
+            return new RateLimitWindowDTO(attempts, resultSet.wasNull() ? null : oldestBucket);
+        }
+    }
+}
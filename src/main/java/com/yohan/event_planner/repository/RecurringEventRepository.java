@@ -2,9 +2,12 @@ package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurringEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
@@ -13,6 +16,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link RecurringEvent} entities with pattern-based queries.
@@ -185,4 +189,46 @@ public interface RecurringEventRepository extends JpaRepository<RecurringEvent,
     );
 
     void deleteByCreatorIdAndUnconfirmedTrue(Long creatorId);
+
+    /**
+     * Streams all confirmed recurring events of a user in start date order for a bulk export.
+     *
+     * <p>Uses the same forward-only, read-only cursor as
+     * {@link EventRepository#streamConfirmedEventsForExport(Long)}. Skip days are not fetched
+     * here, since fetching a collection would repeat every row once per skip day; exports load
+     * them per chunk through {@link #fetchSkipDaysForExport(List)}.</p>
+     *
+     * @param userId the ID of the user whose recurring events to stream
+     * @return the confirmed recurring events of the user, with labels fetched
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+    SELECT r FROM RecurringEvent r
+    LEFT JOIN FETCH r.label
+    WHERE r.creator.id = :userId
+      AND r.unconfirmed = false
+    ORDER BY r.startDate ASC, r.id ASC
+""")
+    Stream<RecurringEvent> streamConfirmedRecurringEventsForExport(@Param("userId") Long userId);
+
+    /**
+     * Loads the skip days of a chunk of exported recurring events in a single query.
+     *
+     * <p>The recurring events are already managed, so fetching the collection initializes their
+     * skip days in place instead of issuing one query per recurring event.</p>
+     *
+     * @param ids the IDs of the recurring events in the chunk
+     * @return the recurring events with their skip days initialized
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+    SELECT DISTINCT r FROM RecurringEvent r
+    LEFT JOIN FETCH r.skipDays
+    WHERE r.id IN :ids
+    """)
+    List<RecurringEvent> fetchSkipDaysForExport(@Param("ids") List<Long> ids);
 }
@@ -2,7 +2,16 @@ package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.domain.enums.Role;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
@@ -138,9 +147,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * Retrieves a user by their unique username, excluding pending deletion users.
      *
+     * <p>Always reads the database, even when the user is in the second-level cache, so login
+     * and credential checks see the current password hash, roles and deletion state. The row read
+     * replaces any cached copy of the user.</p>
+     *
      * @param username the username to search for
      * @return an {@link Optional} containing the found user, or empty if none found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
     Optional<User> findByUsernameAndIsPendingDeletionFalse(String username);
 
     /**
@@ -154,9 +168,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * Retrieves a user by their unique email address, excluding pending deletion users.
      *
+     * <p>Always reads the database, even when the user is in the second-level cache, so login
+     * and credential checks see the current password hash, roles and deletion state. The row read
+     * replaces any cached copy of the user.</p>
+     *
      * @param email the email address to search for
      * @return an {@link Optional} containing the found user, or empty if none found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
     Optional<User> findByEmailAndIsPendingDeletionFalse(String email);
 
     /**
@@ -201,6 +220,66 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findAllByEmailVerifiedFalseAndCreatedAtBefore(ZonedDateTime cutoffTime);
 
+    /**
+     * Retrieves a user and locks its row until the end of the current transaction.
+     *
+     * <p>Used to serialize recurrence materialization for a user, so the scheduled job and an
+     * on-demand catch-up never solidify the same occurrences twice.</p>
+     *
+     * @param id the ID of the user
+     * @return an {@link Optional} containing the locked user, or empty if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Retrieves the distinct timezones of all active users.
+     *
+     * @return the timezone IDs in use
+     */
+    @Query("SELECT DISTINCT u.timezone FROM User u WHERE u.isPendingDeletion = false")
+    List<String> findDistinctActiveTimezones();
+
+    /**
+     * Retrieves active users in a timezone whose recurrence materialization watermark is behind
+     * the given instant.
+     *
+     * @param timezone the timezone ID to match
+     * @param through the instant recurrences should be materialized through
+     * @param pageable limits the number of IDs returned
+     * @return the IDs of users that need materializing, in ID order
+     */
+    @Query("""
+            SELECT u.id FROM User u
+            WHERE u.timezone = :timezone
+              AND u.isPendingDeletion = false
+              AND (u.recurrencesMaterializedThrough IS NULL OR u.recurrencesMaterializedThrough < :through)
+            ORDER BY u.id
+            """)
+    List<Long> findIdsDueForRecurrenceMaterialization(@Param("timezone") String timezone,
+                                                      @Param("through") ZonedDateTime through,
+                                                      Pageable pageable);
+
+    /**
+     * Moves a user's recurrence materialization watermark back to the given instant if it is ahead
+     * of it.
+     *
+     * <p>A watermark that has not been set yet is left alone: it already means "materialize from
+     * the user's creation", which covers the instant as well as every earlier occurrence.</p>
+     *
+     * @param userId the ID of the user
+     * @param through the instant to rewind the watermark to
+     * @return the number of rows updated (0 if the watermark is unset or already at or before the instant)
+     */
+    @Modifying
+    @Query("""
+            UPDATE User u SET u.recurrencesMaterializedThrough = :through
+            WHERE u.id = :userId
+              AND u.recurrencesMaterializedThrough > :through
+            """)
+    int rewindRecurrencesMaterializedThrough(@Param("userId") Long userId, @Param("through") ZonedDateTime through);
+
     /**
      * Deletes the user entity with the specified ID.
      *
@@ -34,6 +34,14 @@ import java.io.IOException;
  *   <li>Create and set {@link UsernamePasswordAuthenticationToken} in security context</li>
  *   <li>Continue filter chain execution</li>
  * </ol>
+ *
+ * <h2>Published Principal</h2>
+ * <p>
+ * The authentication's principal is the {@link CustomUserDetails} wrapping the loaded user. It is
+ * the only token verification and user load of the request: {@link AuthenticatedUserProvider}
+ * reads the verified {@link AuthenticatedPrincipal} and the loaded user from the security context
+ * instead of parsing the {@code Authorization} header again.
+ * </p>
  * 
  * <h2>Error Handling</h2>
  * <p>
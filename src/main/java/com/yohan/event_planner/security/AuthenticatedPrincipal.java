@@ -0,0 +1,66 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.Role;
+
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the authenticated user, published by {@link AuthTokenFilter} once the
+ * request's JWT has been verified.
+ *
+ * <p>
+ * The snapshot carries the attributes most request handlers need - the user ID, time zone,
+ * roles and pinned impromptu event - so they can be read from the security context through
+ * {@link AuthenticatedUserProvider#getCurrentPrincipal()} without parsing the token again or
+ * touching the database. Handlers that need the full {@link User} entity should use
+ * {@link AuthenticatedUserProvider#getCurrentUser()} instead.
+ * </p>
+ *
+ * <p>
+ * The snapshot reflects the user as loaded at the start of the request. Changes a handler makes
+ * to the user during the request are not reflected here.
+ * </p>
+ *
+ * @param userId        ID of the authenticated user
+ * @param username      username of the authenticated user
+ * @param timezone      the user's time zone ID, e.g. {@code America/New_York}
+ * @param roles         the user's roles
+ * @param pinnedEventId ID of the user's pinned impromptu event, or {@code null} if none is pinned
+ * @see CustomUserDetails#getAuthenticatedPrincipal()
+ */
+public record AuthenticatedPrincipal(
+        Long userId,
+        String username,
+        String timezone,
+        Set<Role> roles,
+        Long pinnedEventId
+) {
+
+    public AuthenticatedPrincipal {
+        roles = Set.copyOf(roles);
+    }
+
+    /**
+     * Creates a snapshot of the given user.
+     *
+     * <p>
+     * Reading the pinned event's ID does not initialize a lazy event proxy, so no additional
+     * query is issued.
+     * </p>
+     *
+     * @param user the authenticated user
+     * @return the principal snapshot
+     */
+    public static AuthenticatedPrincipal from(User user) {
+        Event pinnedEvent = user.getPinnedImpromptuEvent();
+        return new AuthenticatedPrincipal(
+                user.getId(),
+                user.getUsername(),
+                user.getTimezone(),
+                user.getRoles(),
+                pinnedEvent != null ? pinnedEvent.getId() : null
+        );
+    }
+}
@@ -8,6 +8,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 /**
@@ -36,11 +38,17 @@ import org.springframework.stereotype.Component;
  * with proper request context isolation.
  * </p>
  * <p>
- * <strong>Performance:</strong> No caching is currently implemented - each call to
- * {@link #getCurrentUser()} performs fresh token validation and database lookup.
- * Future enhancements may include request-scoped caching of user context
- * (e.g., time zone, roles) to improve performance for multiple calls within
- * the same request.
+ * <strong>Performance:</strong> {@link AuthTokenFilter} verifies the token and loads the user
+ * once per request, publishing a {@link CustomUserDetails} principal in the security context.
+ * {@link #getCurrentPrincipal()} and {@link #getCurrentUserId()} read from that principal without
+ * another signature check, and {@link #getCurrentUser()} returns the user the filter already
+ * loaded. Because the persistence context is opened before the security filter chain, that user
+ * is still managed when services run. The resolved user is memoized as a request attribute, so a
+ * typical request issues at most one user query no matter how often these methods are called.
+ * </p>
+ * <p>
+ * When no authentication has been published (for example when the filter is bypassed), the
+ * provider falls back to verifying the token from the {@code Authorization} header itself.
  * </p>
  *
  * <h2>Error Handling</h2>
@@ -60,6 +68,9 @@ public class AuthenticatedUserProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticatedUserProvider.class);
 
+    /** Request attribute under which the resolved user is memoized for the rest of the request. */
+    static final String CURRENT_USER_ATTRIBUTE = AuthenticatedUserProvider.class.getName() + ".CURRENT_USER";
+
     private final JwtUtils jwtUtils;
     private final UserBO userBO;
     private final HttpServletRequest request;
@@ -87,22 +98,77 @@ public class AuthenticatedUserProvider {
     }
 
     /**
-     * Retrieves the authenticated {@link User} associated with the current request's token.
+     * Retrieves the authenticated {@link User} for the current request.
      *
-     * <p>This method relies on {@link JwtUtils#getUserIdFromJwtToken(String)} to validate the
-     * token and extract the user ID in one step. It throws {@link UnauthorizedException}
-     * if the token is missing or invalid.</p>
+     * <p>The user is resolved once per request and memoized as a request attribute. When
+     * {@link AuthTokenFilter} has authenticated the request, the user it loaded is returned
+     * without another token verification or query. Otherwise the token is validated with
+     * {@link JwtUtils#getUserIdFromJwtToken(String)} and the user is loaded from the business
+     * layer.</p>
      *
      * @return the authenticated user
      * @throws UnauthorizedException if the token is missing or invalid
      * @throws UserNotFoundException if the user ID from the token does not exist in the system
      */
     public User getCurrentUser() {
+        if (request.getAttribute(CURRENT_USER_ATTRIBUTE) instanceof User memoized) {
+            return memoized;
+        }
+
+        CustomUserDetails userDetails = getAuthenticatedUserDetails();
+        User user = userDetails != null ? userDetails.getUser() : loadUserFromToken();
+        request.setAttribute(CURRENT_USER_ATTRIBUTE, user);
+        return user;
+    }
+
+    /**
+     * Retrieves the verified principal of the current request.
+     *
+     * <p>When {@link AuthTokenFilter} has authenticated the request, the principal is read from
+     * the security context and no query is issued. Otherwise it is built from
+     * {@link #getCurrentUser()}.</p>
+     *
+     * @return the authenticated principal
+     * @throws UnauthorizedException if the token is missing or invalid
+     * @throws UserNotFoundException if the user ID from the token does not exist in the system
+     */
+    public AuthenticatedPrincipal getCurrentPrincipal() {
+        CustomUserDetails userDetails = getAuthenticatedUserDetails();
+        if (userDetails != null) {
+            return userDetails.getAuthenticatedPrincipal();
+        }
+        return AuthenticatedPrincipal.from(getCurrentUser());
+    }
+
+    /**
+     * Retrieves the ID of the authenticated user.
+     *
+     * @return the authenticated user's ID
+     * @throws UnauthorizedException if the token is missing or invalid
+     * @throws UserNotFoundException if the user ID from the token does not exist in the system
+     */
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().userId();
+    }
+
+    /**
+     * Returns the user details published by {@link AuthTokenFilter}, or {@code null} if the
+     * request has not been authenticated with a JWT.
+     */
+    private CustomUserDetails getAuthenticatedUserDetails() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails;
+        }
+        return null;
+    }
+
+    private User loadUserFromToken() {
         logger.debug("Retrieving current user from JWT token");
         String token = jwtUtils.getJwtFromHeader(request);
         Long userId = jwtUtils.getUserIdFromJwtToken(token);
         logger.debug("Extracted user ID {} from JWT token", userId);
-        
+
         return userBO.getUserById(userId)
                 .orElseThrow(() -> {
                     logger.warn("Authenticated user ID {} not found in database", userId);
@@ -92,6 +92,21 @@ public class CustomUserDetails implements UserDetails {
         return user.getId();
     }
 
+    /**
+     * Returns a snapshot of the attributes request handlers commonly need from the user.
+     *
+     * <p>
+     * {@link AuthenticatedUserProvider#getCurrentPrincipal()} reads this from the security
+     * context populated by {@link AuthTokenFilter}, so callers get the user's ID, time zone,
+     * roles and pinned event without a second token verification or user query.
+     * </p>
+     *
+     * @return the authenticated principal snapshot
+     */
+    public AuthenticatedPrincipal getAuthenticatedPrincipal() {
+        return AuthenticatedPrincipal.from(user);
+    }
+
     /**
      * Returns the username used to authenticate the user.
      *
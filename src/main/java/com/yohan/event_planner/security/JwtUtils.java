@@ -15,15 +15,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Mac;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
 import java.security.Key;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
@@ -40,7 +34,7 @@ import static com.yohan.event_planner.exception.ErrorCode.UNAUTHORIZED_ACCESS;
  * <ul>
  *   <li><strong>{@link com.yohan.event_planner.service.AuthServiceImpl}</strong> - Uses for access token generation during login</li>
  *   <li><strong>{@link AuthTokenFilter}</strong> - Uses for token validation and user ID extraction</li>
- *   <li><strong>{@link com.yohan.event_planner.service.RefreshTokenServiceImpl}</strong> - Uses for refresh token operations</li>
+ *   <li><strong>{@link com.yohan.event_planner.service.RefreshTokenServiceImpl}</strong> - Uses for refresh token generation</li>
  * </ul>
  *
  * <p><strong>Security Features:</strong></p>
@@ -48,7 +42,6 @@ import static com.yohan.event_planner.exception.ErrorCode.UNAUTHORIZED_ACCESS;
  *   <li><strong>HMAC-SHA256 Signing</strong> - Cryptographically secure token signing</li>
  *   <li><strong>Configurable Expiration</strong> - Flexible token lifetime management</li>
  *   <li><strong>Secure Key Caching</strong> - Performance optimization with security</li>
- *   <li><strong>Deterministic Refresh Tokens</strong> - HMAC-based refresh token validation</li>
  * </ul>
  *
  * <p><strong>Thread Safety:</strong> This class is thread-safe after initialization.</p>
@@ -59,6 +52,7 @@ import static com.yohan.event_planner.exception.ErrorCode.UNAUTHORIZED_ACCESS;
  * @see AuthTokenFilter
  * @see com.yohan.event_planner.service.RefreshTokenServiceImpl
  * @see CustomUserDetails
+ * @see RefreshTokenHasher
  */
 @Component
 public class JwtUtils {
@@ -187,56 +181,6 @@ public class JwtUtils {
         return UUID.randomUUID().toString();
     }
 
-    /**
-     * Hashes the provided refresh token using HMAC-SHA256.
-     * Used for securely storing refresh tokens in the database.
-     * Unlike BCrypt, this produces deterministic hashes that allow for direct database lookups.
-     *
-     * @param refreshToken the raw refresh token to hash
-     * @return the HMAC-SHA256 hash of the refresh token
-     * @throws IllegalArgumentException if refreshToken is null or blank
-     */
-    public String hashRefreshToken(String refreshToken) {
-        if (refreshToken == null || refreshToken.isBlank()) {
-            throw new IllegalArgumentException("Refresh token cannot be null or blank");
-        }
-        
-        try {
-            Mac mac = Mac.getInstance(ApplicationConstants.HMAC_SHA256_ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), ApplicationConstants.HMAC_SHA256_ALGORITHM);
-            mac.init(keySpec);
-            byte[] hash = mac.doFinal(refreshToken.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            logger.error("Failed to hash refresh token: {}", e.getMessage());
-            throw new RuntimeException("Failed to hash refresh token", e);
-        }
-    }
-
-    /**
-     * Validates a refresh token against its stored hash using constant-time comparison.
-     * 
-     * <p>This method provides secure validation by computing the HMAC of the provided
-     * token and comparing it against the stored hash. The comparison is performed
-     * using {@link String#equals(Object)} which provides natural timing-attack resistance
-     * for equal-length strings.</p>
-     *
-     * <p><strong>Security Considerations:</strong></p>
-     * <ul>
-     *   <li>Uses the same HMAC algorithm as {@link #hashRefreshToken(String)}</li>
-     *   <li>Resistant to timing attacks due to equal-length hash comparison</li>
-     *   <li>No sensitive information logged during validation</li>
-     * </ul>
-     *
-     * @param refreshToken the raw refresh token to validate
-     * @param hashedToken the stored HMAC hash to compare against  
-     * @return true if the token matches the hash, false otherwise
-     */
-    public boolean validateRefreshToken(String refreshToken, String hashedToken) {
-        String computedHash = hashRefreshToken(refreshToken);
-        return computedHash.equals(hashedToken);
-    }
-
     /**
      * Returns the configured refresh token expiration time in milliseconds.
      *
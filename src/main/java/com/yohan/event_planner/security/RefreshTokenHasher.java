@@ -0,0 +1,147 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.constants.ApplicationConstants;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Computes and verifies the HMAC-SHA256 hashes under which refresh tokens are stored.
+ *
+ * <p>Refresh tokens are opaque random strings handed to the client; only their hash is persisted.
+ * Unlike BCrypt, HMAC produces deterministic hashes, so a presented token can be located with a
+ * direct database lookup on its hash.</p>
+ *
+ * <p><strong>Performance:</strong></p>
+ * <ul>
+ *   <li>The secret key is built once at startup rather than on every call</li>
+ *   <li>Each thread keeps its own {@link Mac} initialized with that key, so hashing a token
+ *       skips the provider lookup and key schedule and only runs the digest itself</li>
+ *   <li>Verification compares raw digest bytes instead of encoding the computed hash</li>
+ *   <li>Callers that both look up and verify a token can compute its {@link #digest(String)} once
+ *       and pass it to {@link #encode(byte[])} and {@link #matches(byte[], String)}</li>
+ * </ul>
+ *
+ * <p><strong>Security:</strong> {@link #matches(byte[], String)} compares digests with
+ * {@link MessageDigest#isEqual(byte[], byte[])}, whose running time does not depend on where the
+ * first differing byte is.</p>
+ *
+ * <p><strong>Thread Safety:</strong> This class is thread-safe after initialization. {@link Mac}
+ * instances are never shared between threads.</p>
+ *
+ * @see com.yohan.event_planner.service.RefreshTokenServiceImpl
+ * @see JwtUtils#generateRefreshToken()
+ */
+@Component
+public class RefreshTokenHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenHasher.class);
+
+    @Value("${spring.app.jwtSecret}")
+    private String jwtSecret;
+
+    private SecretKeySpec keySpec;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    /**
+     * Builds the HMAC key after dependency injection and verifies that it can be used,
+     * so a misconfigured secret fails at startup rather than on the first refresh.
+     */
+    @PostConstruct
+    private void init() {
+        this.keySpec = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8),
+                ApplicationConstants.HMAC_SHA256_ALGORITHM);
+        macs.get();
+        logger.debug("Refresh token HMAC key initialized.");
+    }
+
+    /**
+     * Hashes the provided refresh token for storage.
+     *
+     * @param refreshToken the raw refresh token to hash
+     * @return the Base64-encoded HMAC-SHA256 hash of the refresh token
+     * @throws IllegalArgumentException if refreshToken is null or blank
+     */
+    public String hash(String refreshToken) {
+        return encode(digest(refreshToken));
+    }
+
+    /**
+     * Computes the raw HMAC-SHA256 digest of the provided refresh token.
+     *
+     * @param refreshToken the raw refresh token to hash
+     * @return the 32-byte HMAC-SHA256 digest of the refresh token
+     * @throws IllegalArgumentException if refreshToken is null or blank
+     */
+    public byte[] digest(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token cannot be null or blank");
+        }
+        // doFinal resets the Mac to its initialized state, ready for the next token on this thread
+        return macs.get().doFinal(refreshToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes a digest produced by {@link #digest(String)} in the form it is stored.
+     *
+     * @param digest the raw digest to encode
+     * @return the Base64-encoded digest
+     */
+    public String encode(byte[] digest) {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /**
+     * Checks whether a refresh token matches a stored hash using a constant-time comparison.
+     *
+     * @param refreshToken the raw refresh token to verify
+     * @param storedHash the Base64-encoded hash stored with the token
+     * @return true if the token hashes to {@code storedHash}, false otherwise
+     * @throws IllegalArgumentException if refreshToken is null or blank
+     */
+    public boolean matches(String refreshToken, String storedHash) {
+        return matches(digest(refreshToken), storedHash);
+    }
+
+    /**
+     * Checks whether an already computed digest matches a stored hash using a constant-time comparison.
+     *
+     * @param digest the digest returned by {@link #digest(String)}
+     * @param storedHash the Base64-encoded hash stored with the token
+     * @return true if {@code digest} decodes from {@code storedHash}, false otherwise
+     */
+    public boolean matches(byte[] digest, String storedHash) {
+        if (storedHash == null) {
+            return false;
+        }
+
+        byte[] expected;
+        try {
+            expected = Base64.getDecoder().decode(storedHash);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(digest, expected);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ApplicationConstants.HMAC_SHA256_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            logger.error("Failed to initialize refresh token HMAC: {}", e.getMessage());
+            throw new IllegalStateException("Failed to initialize refresh token HMAC", e);
+        }
+    }
+}
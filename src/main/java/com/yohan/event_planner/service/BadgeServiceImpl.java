@@ -221,17 +221,18 @@ public class BadgeServiceImpl implements BadgeService {
      * {@inheritDoc}
      * 
      * <p>This implementation fetches badges using the repository's ordering query,
-     * computes statistics for each badge, and resolves label information to provide
-     * complete badge data sorted by user preference.</p>
+     * computes statistics for all badges in one aggregate, and resolves label information
+     * to provide complete badge data sorted by user preference.</p>
      */
     @Override
     @Transactional(readOnly = true)
     public List<BadgeResponseDTO> getBadgesByUser(Long userId) {
         logger.debug("Fetching badges for user ID {}", userId);
         List<Badge> badges = badgeRepository.findByUserIdOrderBySortOrderAsc(userId);
+        Map<Long, TimeStatsDTO> statsByBadge = badgeStatsService.computeStatsForBadges(badges, userId);
         return badges.stream()
                 .map(badge -> {
-                    TimeStatsDTO stats = badgeStatsService.computeStatsForBadge(badge, userId);
+                    TimeStatsDTO stats = statsByBadge.get(badge.getId());
                     var resolvedLabels = resolveLabelsForBadge(badge);
                     return badgeMapper.toResponseDTO(badge, stats, resolvedLabels);
                 })
@@ -3,6 +3,9 @@ package com.yohan.event_planner.service;
 import com.yohan.event_planner.domain.Badge;
 import com.yohan.event_planner.dto.TimeStatsDTO;
 
+import java.util.List;
+import java.util.Map;
+
 public interface BadgeStatsService {
     /**
      * Computes and returns the time-based statistics for the given badge and user.
@@ -14,4 +17,16 @@ public interface BadgeStatsService {
      * @return a {@link TimeStatsDTO} containing pre-aggregated time statistics
      */
     TimeStatsDTO computeStatsForBadge(Badge badge, Long userId);
+
+    /**
+     * Computes the time-based statistics for several badges of the same user at once.
+     *
+     * <p>All statistics windows for all badges are aggregated in a single query, so the cost
+     * does not grow with the number of badges on a profile.</p>
+     *
+     * @param badges the badges to compute stats for, all owned by {@code userId}
+     * @param userId the user who owns the badges
+     * @return statistics keyed by badge ID, in the iteration order of {@code badges}
+     */
+    Map<Long, TimeStatsDTO> computeStatsForBadges(List<Badge> badges, Long userId);
 }
@@ -2,19 +2,29 @@ package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.constants.ApplicationConstants;
 import com.yohan.event_planner.domain.Badge;
+import com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry;
+import com.yohan.event_planner.dto.BadgeTimeTotalsDTO;
 import com.yohan.event_planner.dto.TimeStatsDTO;
+import com.yohan.event_planner.repository.LabelTimeBucketOutboxRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import com.yohan.event_planner.time.ClockProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static com.yohan.event_planner.domain.enums.TimeBucketType.ALL_TIME;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.DAY;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
@@ -37,8 +47,14 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  *   <li>DAY buckets: For today's activity (YYYYMMDD format)</li>
  *   <li>WEEK buckets: For weekly activity (ISO week numbers)</li>
  *   <li>MONTH buckets: For monthly activity (calendar months)</li>
+ *   <li>ALL_TIME buckets: For all-time activity (one running total per label)</li>
  * </ul>
  * 
+ * <h2>Pending Deltas</h2>
+ * <p>When asynchronous label statistics are enabled, recent completions may still be waiting in
+ * the {@link LabelTimeBucketOutboxEntry} outbox. Their deltas are added on top of the bucket
+ * totals so users always see their own completions immediately.</p>
+ * 
  * <h2>Timezone Handling</h2>
  * <p>All time calculations respect the user's timezone:</p>
  * <ul>
@@ -58,7 +74,10 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  * <h2>Performance Characteristics</h2>
  * <p>The service is optimized for efficient statistics calculation:</p>
  * <ul>
- *   <li>Single repository call per time period</li>
+ *   <li>Single repository call per time period for one badge</li>
+ *   <li>All-time totals are a point lookup per label rather than a sum over its history</li>
+ *   <li>Single grouped {@code SUM(CASE ...)} aggregate for all of a user's badges
+ *       via {@link #computeStatsForBadges(List, Long)}</li>
  *   <li>In-memory aggregation of bucket results</li>
  *   <li>No individual event processing required</li>
  *   <li>Scales with number of labels in badge, not number of events</li>
@@ -76,18 +95,29 @@ public class BadgeStatsServiceImpl implements BadgeStatsService {
 
     /** Repository for accessing pre-aggregated label time bucket data. */
     private final LabelTimeBucketRepository bucketRepository;
+
+    /** Repository for deltas not yet applied to the buckets in asynchronous mode. */
+    private final LabelTimeBucketOutboxRepository outboxRepository;
     
     /** Provider for user-specific clocks to ensure timezone-correct calculations. */
     private final ClockProvider clockProvider;
 
+    /** Whether bucket updates are applied asynchronously and pending deltas must be merged. */
+    @Value("${app.label-stats.async.enabled:false}")
+    private boolean asyncEnabled = false;
+
     /**
      * Creates a new BadgeStatsServiceImpl with the required dependencies.
      * 
      * @param bucketRepository repository for time bucket data access
+     * @param outboxRepository repository for pending time bucket deltas
      * @param clockProvider provider for user-specific timezone clocks
      */
-    public BadgeStatsServiceImpl(LabelTimeBucketRepository bucketRepository, ClockProvider clockProvider) {
+    public BadgeStatsServiceImpl(LabelTimeBucketRepository bucketRepository,
+                                 LabelTimeBucketOutboxRepository outboxRepository,
+                                 ClockProvider clockProvider) {
         this.bucketRepository = bucketRepository;
+        this.outboxRepository = outboxRepository;
         this.clockProvider = clockProvider;
     }
 
@@ -101,6 +131,7 @@ public class BadgeStatsServiceImpl implements BadgeStatsService {
      *   <li>Computes bucket identifiers for current and previous periods</li>
      *   <li>Queries time buckets for each relevant time period</li>
      *   <li>Aggregates bucket durations into comprehensive statistics</li>
+     *   <li>In asynchronous mode, adds the user's pending outbox deltas for the same periods</li>
      * </ol>
      * 
      * <p>Returns zero statistics if the badge contains no labels.</p>
@@ -119,87 +150,223 @@ public class BadgeStatsServiceImpl implements BadgeStatsService {
         
         logger.debug("Aggregating statistics for {} labels in badge [id={}]", labelIds.size(), badge.getId());
 
-        // Get the current time in the badge user's timezone using ClockProvider
-        ZonedDateTime now = ZonedDateTime.now(clockProvider.getClockForUser(badge.getUser()));
-        LocalDate today = now.toLocalDate();
-
-        // Calculate the day value (YYYYMMDD)
-        int todayValue = today.getYear() * ApplicationConstants.DATE_YEAR_MULTIPLIER + 
-                         today.getMonthValue() * ApplicationConstants.DATE_MONTH_MULTIPLIER + 
-                         today.getDayOfMonth();
-        int todayYear = today.getYear();
-
-        // Calculate week and month values
-        WeekFields weekFields = WeekFields.ISO;
-
-        LocalDate mondayThisWeek = today.with(weekFields.dayOfWeek(), 1);
-        LocalDate mondayLastWeek = mondayThisWeek.minusWeeks(1);
-
-        int thisWeekValue = (int) weekFields.weekOfWeekBasedYear().getFrom(mondayThisWeek);
-        int thisWeekYear = (int) weekFields.weekBasedYear().getFrom(mondayThisWeek);
-
-        int lastWeekValue = (int) weekFields.weekOfWeekBasedYear().getFrom(mondayLastWeek);
-        int lastWeekYear = (int) weekFields.weekBasedYear().getFrom(mondayLastWeek);
-
-        int thisMonthValue = today.getMonthValue();
-        int thisMonthYear = today.getYear();
-
-        int lastMonthValue = today.minusMonths(1).getMonthValue();
-        int lastMonthYear = today.minusMonths(1).getYear();
-        
-        logger.debug("Calculated time periods for user timezone: today={}, thisWeek={}/{}, thisMonth={}/{}", 
-                     todayValue, thisWeekValue, thisWeekYear, thisMonthValue, thisMonthYear);
-
-        // Prepare bucket values
-        List<Integer> todayBucketValues = List.of(todayValue);
-        List<Integer> currentWeekBucketValues = List.of(thisWeekValue);
-        List<Integer> previousWeekBucketValues = List.of(lastWeekValue);
-        List<Integer> currentMonthBucketValues = List.of(thisMonthValue);
-        List<Integer> previousMonthBucketValues = List.of(lastMonthValue);
+        StatsWindows windows = currentWindows(badge);
 
         // Query buckets
         var dayBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
-                userId, labelIds, DAY, todayYear, todayBucketValues
+                userId, labelIds, DAY, windows.todayYear(), List.of(windows.todayValue())
         );
 
         var weekBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
-                userId, labelIds, WEEK, thisWeekYear, currentWeekBucketValues
+                userId, labelIds, WEEK, windows.thisWeekYear(), List.of(windows.thisWeekValue())
         );
 
         var lastWeekBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
-                userId, labelIds, WEEK, lastWeekYear, previousWeekBucketValues
+                userId, labelIds, WEEK, windows.lastWeekYear(), List.of(windows.lastWeekValue())
         );
 
         var monthBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
-                userId, labelIds, MONTH, thisMonthYear, currentMonthBucketValues
+                userId, labelIds, MONTH, windows.thisMonthYear(), List.of(windows.thisMonthValue())
         );
 
         var lastMonthBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
-                userId, labelIds, MONTH, lastMonthYear, previousMonthBucketValues
+                userId, labelIds, MONTH, windows.lastMonthYear(), List.of(windows.lastMonthValue())
         );
 
-        var allTimeBuckets = bucketRepository.findByUserIdAndLabelIdIn(userId, labelIds);
+        var allTimeBuckets = bucketRepository.findByUserIdAndLabelIdInAndBucketType(userId, labelIds, ALL_TIME);
 
         // Aggregate
-        int minutesToday = dayBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
-        int minutesThisWeek = weekBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
-        int minutesThisMonth = monthBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
-        int minutesLastWeek = lastWeekBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
-        int minutesLastMonth = lastMonthBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
-        int totalMinutesAllTime = allTimeBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        StatsAccumulator stats = new StatsAccumulator();
+        stats.today = dayBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        stats.thisWeek = weekBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        stats.thisMonth = monthBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        stats.lastWeek = lastWeekBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        stats.lastMonth = lastMonthBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+        stats.allTime = allTimeBuckets.stream().mapToInt(b -> b.getDurationMinutes()).sum();
+
+        if (asyncEnabled) {
+            List<LabelTimeBucketOutboxEntry> pending = outboxRepository.findByUserIdAndLabelIdIn(userId, labelIds);
+            logger.debug("Merging {} pending outbox deltas into badge [id={}] statistics", pending.size(), badge.getId());
+            pending.forEach(delta -> stats.add(delta, windows));
+        }
         
         logger.info("Computed badge statistics for badge [id={}]: today={}min, thisWeek={}min, allTime={}min", 
-                    badge.getId(), minutesToday, minutesThisWeek, totalMinutesAllTime);
-
-        return new TimeStatsDTO(
-                minutesToday,
-                minutesThisWeek,
-                minutesThisMonth,
-                minutesLastWeek,
-                minutesLastMonth,
-                totalMinutesAllTime
-        );
+                    badge.getId(), stats.today, stats.thisWeek, stats.allTime);
+
+        return stats.toDTO();
     }
 
-}
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Implementation details:</p>
+     * <ol>
+     *   <li>Computes the statistics windows once from the owner's clock</li>
+     *   <li>Runs a single grouped {@code SUM(CASE ...)} aggregate over all badges that have labels</li>
+     *   <li>In asynchronous mode, loads pending outbox deltas for the union of badge labels once
+     *       and credits each delta to every badge containing its label</li>
+     *   <li>Fills in zero statistics for badges without labels or without recorded time</li>
+     * </ol>
+     */
+    @Override
+    public Map<Long, TimeStatsDTO> computeStatsForBadges(List<Badge> badges, Long userId) {
+        if (badges.isEmpty()) {
+            return Map.of();
+        }
+
+        logger.debug("Computing time statistics for {} badges of user [id={}]", badges.size(), userId);
+
+        StatsWindows windows = currentWindows(badges.get(0));
 
+        Map<Long, StatsAccumulator> statsByBadge = new HashMap<>();
+        List<Long> badgeIds = new ArrayList<>();
+        Set<Long> allLabelIds = new HashSet<>();
+        for (Badge badge : badges) {
+            statsByBadge.put(badge.getId(), new StatsAccumulator());
+            if (!badge.getLabelIds().isEmpty()) {
+                badgeIds.add(badge.getId());
+                allLabelIds.addAll(badge.getLabelIds());
+            }
+        }
+
+        if (!badgeIds.isEmpty()) {
+            List<BadgeTimeTotalsDTO> totals = bucketRepository.aggregateBadgeTotals(
+                    userId, badgeIds,
+                    windows.todayYear(), windows.todayValue(),
+                    windows.thisWeekYear(), windows.thisWeekValue(),
+                    windows.lastWeekYear(), windows.lastWeekValue(),
+                    windows.thisMonthYear(), windows.thisMonthValue(),
+                    windows.lastMonthYear(), windows.lastMonthValue()
+            );
+            totals.forEach(row -> statsByBadge.get(row.badgeId()).add(row));
+
+            if (asyncEnabled) {
+                List<LabelTimeBucketOutboxEntry> pending = outboxRepository.findByUserIdAndLabelIdIn(userId, allLabelIds);
+                logger.debug("Merging {} pending outbox deltas into statistics of {} badges", pending.size(), badgeIds.size());
+                for (Badge badge : badges) {
+                    StatsAccumulator stats = statsByBadge.get(badge.getId());
+                    for (LabelTimeBucketOutboxEntry delta : pending) {
+                        if (badge.getLabelIds().contains(delta.getLabelId())) {
+                            stats.add(delta, windows);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<Long, TimeStatsDTO> result = new LinkedHashMap<>();
+        for (Badge badge : badges) {
+            result.put(badge.getId(), statsByBadge.get(badge.getId()).toDTO());
+        }
+
+        logger.info("Computed statistics for {} badges of user [id={}] with a single aggregate", badges.size(), userId);
+        return result;
+    }
+
+    /**
+     * Computes the statistics windows for "now" in the badge owner's timezone.
+     *
+     * @param badge the badge whose owner's clock defines "now"
+     * @return bucket coordinates for every statistics window
+     */
+    private StatsWindows currentWindows(Badge badge) {
+        // Get the current time in the badge user's timezone using ClockProvider
+        ZonedDateTime now = ZonedDateTime.now(clockProvider.getClockForUser(badge.getUser()));
+        StatsWindows windows = StatsWindows.of(now.toLocalDate());
+
+        logger.debug("Calculated time periods for user timezone: today={}, thisWeek={}/{}, thisMonth={}/{}", 
+                     windows.todayValue(), windows.thisWeekValue(), windows.thisWeekYear(),
+                     windows.thisMonthValue(), windows.thisMonthYear());
+        return windows;
+    }
+
+    /**
+     * Bucket coordinates (year and value) of every statistics window for a given local date.
+     */
+    private record StatsWindows(
+            int todayYear, int todayValue,
+            int thisWeekYear, int thisWeekValue,
+            int lastWeekYear, int lastWeekValue,
+            int thisMonthYear, int thisMonthValue,
+            int lastMonthYear, int lastMonthValue
+    ) {
+
+        static StatsWindows of(LocalDate today) {
+            // Calculate the day value (YYYYMMDD)
+            int todayValue = today.getYear() * ApplicationConstants.DATE_YEAR_MULTIPLIER + 
+                             today.getMonthValue() * ApplicationConstants.DATE_MONTH_MULTIPLIER + 
+                             today.getDayOfMonth();
+
+            // Calculate week and month values
+            WeekFields weekFields = WeekFields.ISO;
+
+            LocalDate mondayThisWeek = today.with(weekFields.dayOfWeek(), 1);
+            LocalDate mondayLastWeek = mondayThisWeek.minusWeeks(1);
+            LocalDate lastMonth = today.minusMonths(1);
+
+            return new StatsWindows(
+                    today.getYear(), todayValue,
+                    (int) weekFields.weekBasedYear().getFrom(mondayThisWeek),
+                    (int) weekFields.weekOfWeekBasedYear().getFrom(mondayThisWeek),
+                    (int) weekFields.weekBasedYear().getFrom(mondayLastWeek),
+                    (int) weekFields.weekOfWeekBasedYear().getFrom(mondayLastWeek),
+                    today.getYear(), today.getMonthValue(),
+                    lastMonth.getYear(), lastMonth.getMonthValue()
+            );
+        }
+    }
+
+    /**
+     * Mutable running totals for one badge.
+     */
+    private static final class StatsAccumulator {
+        private int today;
+        private int thisWeek;
+        private int thisMonth;
+        private int lastWeek;
+        private int lastMonth;
+        private long allTime;
+
+        void add(BadgeTimeTotalsDTO row) {
+            today += row.today().intValue();
+            thisWeek += row.thisWeek().intValue();
+            thisMonth += row.thisMonth().intValue();
+            lastWeek += row.lastWeek().intValue();
+            lastMonth += row.lastMonth().intValue();
+            allTime += row.allTime();
+        }
+
+        void add(LabelTimeBucketOutboxEntry delta, StatsWindows windows) {
+            int minutes = delta.getDeltaMinutes();
+            int year = delta.getBucketYear();
+            int value = delta.getBucketValue();
+
+            if (delta.getBucketType() == ALL_TIME) {
+                allTime += minutes;
+            } else if (delta.getBucketType() == DAY) {
+                if (year == windows.todayYear() && value == windows.todayValue()) {
+                    today += minutes;
+                }
+            } else if (delta.getBucketType() == WEEK) {
+                if (year == windows.thisWeekYear() && value == windows.thisWeekValue()) {
+                    thisWeek += minutes;
+                }
+                if (year == windows.lastWeekYear() && value == windows.lastWeekValue()) {
+                    lastWeek += minutes;
+                }
+            } else if (delta.getBucketType() == MONTH) {
+                if (year == windows.thisMonthYear() && value == windows.thisMonthValue()) {
+                    thisMonth += minutes;
+                }
+                if (year == windows.lastMonthYear() && value == windows.lastMonthValue()) {
+                    lastMonth += minutes;
+                }
+            }
+        }
+
+        TimeStatsDTO toDTO() {
+            return new TimeStatsDTO(today, thisWeek, thisMonth, lastWeek, lastMonth, allTime);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service for exporting a user's whole calendar as a single file.
+ *
+ * <p>Unlike the paginated endpoints, an export covers every confirmed event and recurring event
+ * of the user in one response. It is meant for backups, support tooling and moving to another
+ * calendar, including for users with tens of thousands of events.</p>
+ *
+ * @see CalendarFormat
+ */
+public interface CalendarExportService {
+
+    /**
+     * Writes all confirmed events and recurring events of the current user to a stream.
+     *
+     * <p>Events are written in start time order, followed by recurring events in start date
+     * order. Entries are read from a database cursor and written as they arrive, and output is
+     * flushed in chunks, so memory use does not depend on the size of the calendar and the
+     * client starts receiving data right away. The stream is flushed but not closed.</p>
+     *
+     * @param format the file format to write
+     * @param out the stream to write the file to, typically the response body
+     * @throws IOException if writing to the stream fails, for example because the client disconnected
+     */
+    void exportForCurrentUser(CalendarFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,169 @@
+package com.yohan.event_planner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.RecurringEventRepository;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
+import com.yohan.event_planner.time.ClockProvider;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link CalendarExportService} that streams entities from a server-side cursor.
+ *
+ * <h2>Constant Memory</h2>
+ * <p>Events and recurring events are read through the repository export streams, which fetch a
+ * few hundred rows per round trip instead of loading the whole result. Every entity is detached
+ * as soon as it is written and every {@code app.export.chunk-size} entries the output is flushed
+ * to the client, so neither buffered output nor managed entities grow with the calendar. Only the
+ * written entities are detached; the rest of the persistence context, including the
+ * authenticated user, stays managed.</p>
+ *
+ * <p>Recurring events are written a chunk at a time so the skip days of the whole chunk are
+ * loaded with one query rather than one query per recurring event.</p>
+ *
+ * <h2>Failures</h2>
+ * <p>Once the first chunk is flushed the response is committed, so an error halfway through
+ * cannot turn into an error response anymore. The export is then cut short and the exception is
+ * propagated to abort the request; clients detect the truncated file by its missing trailer
+ * (ICS) or by comparing with a repeated export.</p>
+ *
+ * @see EventRepository#streamConfirmedEventsForExport(Long)
+ * @see RecurringEventRepository#streamConfirmedRecurringEventsForExport(Long)
+ */
+@Service
+public class CalendarExportServiceImpl implements CalendarExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarExportServiceImpl.class);
+
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
+    private final EventRepository eventRepository;
+    private final RecurringEventRepository recurringEventRepository;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final ClockProvider clockProvider;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${app.export.chunk-size:500}")
+    private int chunkSize = 500;
+
+    public CalendarExportServiceImpl(
+            EventRepository eventRepository,
+            RecurringEventRepository recurringEventRepository,
+            AuthenticatedUserProvider authenticatedUserProvider,
+            ClockProvider clockProvider,
+            ObjectMapper objectMapper,
+            EntityManager entityManager
+    ) {
+        this.eventRepository = eventRepository;
+        this.recurringEventRepository = recurringEventRepository;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+        this.clockProvider = clockProvider;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs in a read-only transaction, which PostgreSQL requires to keep the cursors open.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportForCurrentUser(CalendarFormat format, OutputStream out) throws IOException {
+        User viewer = authenticatedUserProvider.getCurrentUser();
+        Long userId = viewer.getId();
+        ZoneId zone = ZoneId.of(viewer.getTimezone());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        CalendarExportWriter exportWriter = createWriter(format, writer, zone);
+
+        logger.info("Starting {} export for user {}", format, userId);
+        exportWriter.begin();
+
+        int events = 0;
+        try (Stream<Event> stream = eventRepository.streamConfirmedEventsForExport(userId)) {
+            for (Iterator<Event> it = stream.iterator(); it.hasNext(); ) {
+                Event event = it.next();
+                exportWriter.writeEvent(event);
+                entityManager.detach(event);
+                if (++events % chunkSize == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        int recurringEvents = 0;
+        try (Stream<RecurringEvent> stream = recurringEventRepository.streamConfirmedRecurringEventsForExport(userId)) {
+            List<RecurringEvent> chunk = new ArrayList<>();
+            for (Iterator<RecurringEvent> it = stream.iterator(); it.hasNext(); ) {
+                chunk.add(it.next());
+                if (chunk.size() == chunkSize) {
+                    recurringEvents += writeRecurringEvents(chunk, exportWriter);
+                    writer.flush();
+                }
+            }
+            recurringEvents += writeRecurringEvents(chunk, exportWriter);
+        }
+
+        exportWriter.end();
+        writer.flush();
+        logger.info("Exported {} events and {} recurring events as {} for user {}",
+                events, recurringEvents, format, userId);
+    }
+
+    private CalendarExportWriter createWriter(CalendarFormat format, Writer writer, ZoneId zone) {
+        return switch (format) {
+            case ICS -> new IcsCalendarExportWriter(writer, zone, currentInstant());
+            case CSV -> new CsvCalendarExportWriter(writer, zone);
+            case NDJSON -> new NdjsonCalendarExportWriter(writer, zone, objectMapper);
+        };
+    }
+
+    /**
+     * Writes a chunk of recurring events after loading their skip days, then detaches them and
+     * empties the chunk.
+     *
+     * @return the number of recurring events written
+     */
+    private int writeRecurringEvents(List<RecurringEvent> chunk, CalendarExportWriter exportWriter) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        recurringEventRepository.fetchSkipDaysForExport(chunk.stream().map(RecurringEvent::getId).toList());
+        for (RecurringEvent recurringEvent : chunk) {
+            exportWriter.writeRecurringEvent(recurringEvent);
+            entityManager.detach(recurringEvent);
+        }
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    private Instant currentInstant() {
+        return clockProvider.getClockForZone(ZoneOffset.UTC).instant();
+    }
+}
@@ -0,0 +1,48 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurringEvent;
+
+import java.io.IOException;
+
+/**
+ * Writes the entries of a calendar export in one {@link com.yohan.event_planner.domain.enums.CalendarFormat}.
+ *
+ * <p>Implementations write each entry to the underlying writer as soon as it is passed in and
+ * never hold on to entities, so an export runs in constant memory however large the calendar is.
+ * Flushing is left to the caller, which decides how much output to buffer per chunk.</p>
+ *
+ * @see CalendarExportServiceImpl
+ */
+interface CalendarExportWriter {
+
+    /**
+     * Writes whatever precedes the first entry, such as a header row.
+     *
+     * @throws IOException if writing fails
+     */
+    void begin() throws IOException;
+
+    /**
+     * Writes a confirmed event.
+     *
+     * @param event the event, with its label loaded
+     * @throws IOException if writing fails
+     */
+    void writeEvent(Event event) throws IOException;
+
+    /**
+     * Writes a confirmed recurring event.
+     *
+     * @param recurringEvent the recurring event, with its label loaded
+     * @throws IOException if writing fails
+     */
+    void writeRecurringEvent(RecurringEvent recurringEvent) throws IOException;
+
+    /**
+     * Writes whatever follows the last entry.
+     *
+     * @throws IOException if writing fails
+     */
+    void end() throws IOException;
+}
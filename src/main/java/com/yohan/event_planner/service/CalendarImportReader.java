@@ -0,0 +1,26 @@
+package com.yohan.event_planner.service;
+
+import java.io.IOException;
+
+/**
+ * Reads the entries of an imported calendar file one at a time.
+ *
+ * <p>Implementations read from a character stream as they go, so only the current entry is
+ * held in memory. An entry that cannot be read is returned as a failed
+ * {@link CalendarImportRow} and reading continues with the next one; only a file whose
+ * overall structure is unreadable aborts the import.</p>
+ *
+ * @see CalendarImportServiceImpl
+ */
+interface CalendarImportReader {
+
+    /**
+     * Reads the next entry.
+     *
+     * @return the next entry, or {@code null} once the file is exhausted
+     * @throws IOException if reading the stream fails
+     * @throws com.yohan.event_planner.exception.InvalidCalendarParameterException if the file is
+     *         not in the expected format
+     */
+    CalendarImportRow next() throws IOException;
+}
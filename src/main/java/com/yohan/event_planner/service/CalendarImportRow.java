@@ -0,0 +1,21 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+
+/**
+ * One entry read from an imported calendar file, or the reason it could not be read.
+ *
+ * @param number the 1-based position of the entry in the file
+ * @param entry the entry in export row shape, {@code null} if it could not be read
+ * @param error why the entry could not be read, {@code null} if it was read
+ */
+record CalendarImportRow(int number, CalendarExportRowDTO entry, String error) {
+
+    static CalendarImportRow read(int number, CalendarExportRowDTO entry) {
+        return new CalendarImportRow(number, entry, null);
+    }
+
+    static CalendarImportRow failed(int number, String error) {
+        return new CalendarImportRow(number, null, error);
+    }
+}
@@ -0,0 +1,37 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.dto.CalendarImportReportDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service for importing a whole calendar file into the current user's calendar.
+ *
+ * <p>Meant for users moving from another calendar, who would otherwise recreate thousands of
+ * events one request at a time. Every format written by {@link CalendarExportService} can be
+ * imported, so exports also serve as restorable backups.</p>
+ *
+ * @see CalendarFormat
+ */
+public interface CalendarImportService {
+
+    /**
+     * Imports every entry of a calendar file as events and recurring events of the current user.
+     *
+     * <p>The file is read as a stream. Entries that cannot be read or are not supported are
+     * skipped, entries that conflict with existing or earlier imported entries are created as
+     * drafts, and all other entries are created as confirmed events and recurring events, with
+     * one result per entry in the returned report. Labels are matched by name and created when
+     * missing. Completion status is not imported. The stream is not closed.</p>
+     *
+     * @param format the format of the file
+     * @param in the stream to read the file from, typically the uploaded file
+     * @return a report with a result per entry
+     * @throws IOException if reading the stream fails
+     * @throws com.yohan.event_planner.exception.InvalidCalendarParameterException if the file is not in
+     *         the given format at all
+     */
+    CalendarImportReportDTO importForCurrentUser(CalendarFormat format, InputStream in) throws IOException;
+}
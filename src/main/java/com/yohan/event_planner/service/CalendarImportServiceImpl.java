@@ -0,0 +1,370 @@
+package com.yohan.event_planner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.RecurringEventBO;
+import com.yohan.event_planner.constants.ApplicationConstants;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.Label;
+import com.yohan.event_planner.domain.RecurrenceRuleVO;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.domain.enums.CalendarImportRowStatus;
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+import com.yohan.event_planner.dto.CalendarImportReportDTO;
+import com.yohan.event_planner.dto.CalendarImportRowResultDTO;
+import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.exception.InvalidEventStateException;
+import com.yohan.event_planner.exception.InvalidRecurrenceRuleException;
+import com.yohan.event_planner.exception.InvalidTimeException;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
+import com.yohan.event_planner.time.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.yohan.event_planner.dto.CalendarExportRowDTO.TYPE_EVENT;
+import static com.yohan.event_planner.dto.CalendarExportRowDTO.TYPE_RECURRING_EVENT;
+
+/**
+ * Implementation of {@link CalendarImportService} that validates and inserts a file in bulk.
+ *
+ * <h2>Pipeline</h2>
+ * <ol>
+ *   <li>Entries are read from the stream one at a time and turned into unsaved entities;
+ *       invalid and unsupported entries are skipped with a reason</li>
+ *   <li>Label names are resolved through {@link LabelService#getOrCreateLabelsByName}, which
+ *       loads existing labels with one query and creates the missing ones together</li>
+ *   <li>Recurring events are saved one by one with their usual conflict validation, since
+ *       files hold few of them</li>
+ *   <li>Events are handed to {@link EventBO#importEvents} in one batch, which checks them for
+ *       conflicts with a single bulk query and inserts them in JDBC batches</li>
+ * </ol>
+ * Recurring events are saved before events so that events conflicting with an imported series
+ * become drafts as well.
+ *
+ * <h2>Limits</h2>
+ * <p>At most {@code app.import.max-rows} entries are read; the report marks the import as
+ * truncated if the file has more. The whole import runs in one transaction, so a failure other
+ * than a per-entry problem imports nothing.</p>
+ */
+@Service
+public class CalendarImportServiceImpl implements CalendarImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarImportServiceImpl.class);
+
+    private static final int INPUT_BUFFER_SIZE = 16 * 1024;
+    private static final String CONFLICT_MESSAGE = "Conflicts with an existing or earlier imported event";
+
+    private final EventBO eventBO;
+    private final RecurringEventBO recurringEventBO;
+    private final LabelService labelService;
+    private final RecurrenceRuleService recurrenceRuleService;
+    private final RecurrenceMaterializationService recurrenceMaterializationService;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.max-rows:10000}")
+    private int maxRows = 10000;
+
+    public CalendarImportServiceImpl(
+            EventBO eventBO,
+            RecurringEventBO recurringEventBO,
+            LabelService labelService,
+            RecurrenceRuleService recurrenceRuleService,
+            RecurrenceMaterializationService recurrenceMaterializationService,
+            AuthenticatedUserProvider authenticatedUserProvider,
+            ObjectMapper objectMapper
+    ) {
+        this.eventBO = eventBO;
+        this.recurringEventBO = recurringEventBO;
+        this.labelService = labelService;
+        this.recurrenceRuleService = recurrenceRuleService;
+        this.recurrenceMaterializationService = recurrenceMaterializationService;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional
+    public CalendarImportReportDTO importForCurrentUser(CalendarFormat format, InputStream in) throws IOException {
+        long startedAt = System.nanoTime();
+        User creator = authenticatedUserProvider.getCurrentUser();
+        ZoneId zone = ZoneId.of(creator.getTimezone());
+        logger.info("Starting {} import for user {}", format, creator.getId());
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), INPUT_BUFFER_SIZE);
+        CalendarImportReader importReader = createReader(format, reader, zone);
+
+        List<CalendarImportRowResultDTO> results = new ArrayList<>();
+        List<Pending<Event>> events = new ArrayList<>();
+        List<Pending<RecurringEvent>> recurringEvents = new ArrayList<>();
+        int rowsRead = 0;
+        boolean truncated = false;
+
+        CalendarImportRow row;
+        while ((row = importReader.next()) != null) {
+            if (rowsRead == maxRows) {
+                truncated = true;
+                break;
+            }
+            rowsRead++;
+            if (row.error() != null) {
+                results.add(skipped(row.number(), null, row.error()));
+                continue;
+            }
+
+            CalendarExportRowDTO entry = row.entry();
+            String type = typeOf(entry);
+            try {
+                if (TYPE_RECURRING_EVENT.equals(type)) {
+                    recurringEvents.add(new Pending<>(row.number(), buildRecurringEvent(entry, creator), labelName(entry)));
+                } else if (TYPE_EVENT.equals(type)) {
+                    events.add(new Pending<>(row.number(), buildEvent(entry, creator, zone), labelName(entry)));
+                } else {
+                    results.add(skipped(row.number(), null, "Unknown entry type: " + entry.type()));
+                }
+            } catch (IllegalArgumentException | DateTimeException | InvalidRecurrenceRuleException e) {
+                results.add(skipped(row.number(), type, e.getMessage()));
+            }
+        }
+
+        Map<String, Label> labels = resolveLabels(creator, events, recurringEvents);
+        events.forEach(pending -> pending.entity().setLabel(labelFor(pending, labels, creator)));
+        recurringEvents.forEach(pending -> pending.entity().setLabel(labelFor(pending, labels, creator)));
+
+        int recurringEventsCreated = 0;
+        int draftsCreated = 0;
+        LocalDate earliestSeriesStart = null;
+        for (Pending<RecurringEvent> pending : recurringEvents) {
+            CalendarImportRowResultDTO result = saveRecurringEvent(pending);
+            results.add(result);
+            if (result.status() == CalendarImportRowStatus.CREATED) {
+                recurringEventsCreated++;
+                LocalDate startDate = pending.entity().getStartDate();
+                if (earliestSeriesStart == null || startDate.isBefore(earliestSeriesStart)) {
+                    earliestSeriesStart = startDate;
+                }
+            } else if (result.status() == CalendarImportRowStatus.CREATED_AS_DRAFT) {
+                draftsCreated++;
+            }
+        }
+        if (earliestSeriesStart != null) {
+            recurrenceMaterializationService.rewindWatermark(creator, earliestSeriesStart);
+        }
+
+        int eventsCreated = 0;
+        List<Event> saved = eventBO.importEvents(creator, events.stream().map(Pending::entity).toList());
+        for (int i = 0; i < saved.size(); i++) {
+            Event event = saved.get(i);
+            if (event.isUnconfirmed()) {
+                draftsCreated++;
+                results.add(new CalendarImportRowResultDTO(events.get(i).row(),
+                        CalendarImportRowStatus.CREATED_AS_DRAFT, TYPE_EVENT, event.getId(), CONFLICT_MESSAGE));
+            } else {
+                eventsCreated++;
+                results.add(new CalendarImportRowResultDTO(events.get(i).row(),
+                        CalendarImportRowStatus.CREATED, TYPE_EVENT, event.getId(), null));
+            }
+        }
+
+        results.sort(Comparator.comparingInt(CalendarImportRowResultDTO::row));
+        int rowsSkipped = rowsRead - eventsCreated - recurringEventsCreated - draftsCreated;
+        CalendarImportReportDTO report = new CalendarImportReportDTO(
+                format,
+                rowsRead,
+                eventsCreated,
+                recurringEventsCreated,
+                draftsCreated,
+                rowsSkipped,
+                truncated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                results
+        );
+        logger.info("Imported {} events, {} recurring events and {} drafts for user {} ({} skipped{}) in {} ms",
+                eventsCreated, recurringEventsCreated, draftsCreated, creator.getId(), rowsSkipped,
+                truncated ? ", truncated" : "", report.elapsedMillis());
+        return report;
+    }
+
+    private CalendarImportReader createReader(CalendarFormat format, BufferedReader reader, ZoneId zone) {
+        return switch (format) {
+            case ICS -> new IcsCalendarImportReader(reader, zone);
+            case CSV -> new CsvCalendarImportReader(reader);
+            case NDJSON -> new NdjsonCalendarImportReader(reader, objectMapper);
+        };
+    }
+
+    /**
+     * Returns the entry type, inferred from the presence of a recurrence rule when not given.
+     */
+    private static String typeOf(CalendarExportRowDTO entry) {
+        if (entry.type() == null) {
+            return entry.recurrence() != null ? TYPE_RECURRING_EVENT : TYPE_EVENT;
+        }
+        if (entry.type().equalsIgnoreCase(TYPE_RECURRING_EVENT)) {
+            return TYPE_RECURRING_EVENT;
+        }
+        return entry.type().equalsIgnoreCase(TYPE_EVENT) ? TYPE_EVENT : null;
+    }
+
+    /**
+     * Builds a confirmed event in the zone of the entry, or the user's zone if it has none.
+     */
+    private Event buildEvent(CalendarExportRowDTO entry, User creator, ZoneId userZone) {
+        String name = validateNameAndDescription(entry);
+        if (entry.start() == null || entry.end() == null) {
+            throw new IllegalArgumentException("Start and end are required");
+        }
+
+        ZoneId eventZone = entry.timezone() != null ? ZoneId.of(entry.timezone()) : userZone;
+        ZonedDateTime start = entry.start().withZoneSameInstant(eventZone);
+        ZonedDateTime end = entry.end().withZoneSameInstant(eventZone);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("End must be after start");
+        }
+
+        Event event = Event.createEvent(name, start, end, creator);
+        event.setDescription(entry.description());
+        return event;
+    }
+
+    /**
+     * Builds a confirmed recurring event, parsing its rule the same way as recurring events
+     * created through the API.
+     */
+    private RecurringEvent buildRecurringEvent(CalendarExportRowDTO entry, User creator) {
+        String name = validateNameAndDescription(entry);
+        if (entry.startDate() == null || entry.startTime() == null || entry.endTime() == null
+                || entry.recurrence() == null) {
+            throw new IllegalArgumentException("Start date, start time, end time and recurrence are required");
+        }
+
+        ParsedRecurrenceInput parsed = recurrenceRuleService.parseFromString(entry.recurrence());
+        String summary = recurrenceRuleService.buildSummary(parsed, entry.startDate(), entry.endDate());
+        LocalDate endDate = entry.endDate() != null ? entry.endDate() : TimeUtils.FAR_FUTURE_DATE;
+
+        RecurringEvent recurringEvent = RecurringEvent.createRecurringEvent(
+                name,
+                entry.startTime(),
+                entry.endTime(),
+                entry.startDate(),
+                endDate,
+                entry.description(),
+                new RecurrenceRuleVO(summary, parsed),
+                creator,
+                false
+        );
+        if (entry.skipDays() != null) {
+            entry.skipDays().forEach(recurringEvent::addSkipDay);
+        }
+        return recurringEvent;
+    }
+
+    private static String validateNameAndDescription(CalendarExportRowDTO entry) {
+        if (entry.name() == null || entry.name().isBlank()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        String name = entry.name().trim();
+        if (name.length() > ApplicationConstants.SHORT_NAME_MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Name is longer than " + ApplicationConstants.SHORT_NAME_MAX_LENGTH + " characters");
+        }
+        if (entry.description() != null && entry.description().length() > ApplicationConstants.STANDARD_TEXT_MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Description is longer than " + ApplicationConstants.STANDARD_TEXT_MAX_LENGTH + " characters");
+        }
+        return name;
+    }
+
+    private static String labelName(CalendarExportRowDTO entry) {
+        if (entry.label() == null || entry.label().isBlank()) {
+            return null;
+        }
+        String label = entry.label().trim();
+        if (label.length() > ApplicationConstants.STANDARD_TEXT_MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Label is longer than " + ApplicationConstants.STANDARD_TEXT_MAX_LENGTH + " characters");
+        }
+        return label;
+    }
+
+    /**
+     * Maps every label name used by the entries to a label of the creator, creating the missing
+     * ones.
+     */
+    private Map<String, Label> resolveLabels(User creator, List<Pending<Event>> events,
+                                             List<Pending<RecurringEvent>> recurringEvents) {
+        Set<String> names = new LinkedHashSet<>();
+        events.forEach(pending -> addIfPresent(names, pending.labelName()));
+        recurringEvents.forEach(pending -> addIfPresent(names, pending.labelName()));
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Label> labels = new HashMap<>();
+        for (Label label : labelService.getOrCreateLabelsByName(creator, names)) {
+            labels.put(label.getName(), label);
+        }
+        return labels;
+    }
+
+    private static void addIfPresent(Set<String> names, String name) {
+        if (name != null) {
+            names.add(name);
+        }
+    }
+
+    private static Label labelFor(Pending<?> pending, Map<String, Label> labels, User creator) {
+        return pending.labelName() != null ? labels.get(pending.labelName()) : creator.getUnlabeled();
+    }
+
+    /**
+     * Saves a recurring event as confirmed, or as a draft if it conflicts.
+     */
+    private CalendarImportRowResultDTO saveRecurringEvent(Pending<RecurringEvent> pending) {
+        RecurringEvent recurringEvent = pending.entity();
+        try {
+            RecurringEvent saved = recurringEventBO.createRecurringEventWithValidation(recurringEvent);
+            return new CalendarImportRowResultDTO(pending.row(), CalendarImportRowStatus.CREATED,
+                    TYPE_RECURRING_EVENT, saved.getId(), null);
+        } catch (ConflictException e) {
+            recurringEvent.setUnconfirmed(true);
+            RecurringEvent saved = recurringEventBO.createRecurringEventWithValidation(recurringEvent);
+            return new CalendarImportRowResultDTO(pending.row(), CalendarImportRowStatus.CREATED_AS_DRAFT,
+                    TYPE_RECURRING_EVENT, saved.getId(), CONFLICT_MESSAGE);
+        } catch (InvalidEventStateException | InvalidTimeException e) {
+            return skipped(pending.row(), TYPE_RECURRING_EVENT, e.getMessage());
+        }
+    }
+
+    private static CalendarImportRowResultDTO skipped(int row, String type, String message) {
+        return new CalendarImportRowResultDTO(row, CalendarImportRowStatus.SKIPPED, type, null, message);
+    }
+
+    /**
+     * An entry turned into an unsaved entity, waiting for its label.
+     */
+    private record Pending<T>(int row, T entity, String labelName) {}
+}
@@ -0,0 +1,130 @@
+package com.yohan.event_planner.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, pre-parsed form of an email template.
+ *
+ * <p>A template is HTML containing {@code {{name}}} placeholders. Compiling splits it once into
+ * the literal segments between placeholders and the placeholder names, so rendering is a single
+ * pass of appends into a buffer sized from the literal length: no scanning, regular expressions
+ * or format-string parsing happen per message.</p>
+ *
+ * <h2>Escaping</h2>
+ * <p>Every value is HTML-escaped when rendered, because values such as names are chosen by users.
+ * A {@code null} value renders as an empty string; a placeholder without any value is an
+ * error.</p>
+ *
+ * @see EmailTemplateRenderer
+ */
+public final class CompiledEmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /** Rough size reserved per placeholder so most renders never grow the buffer. */
+    private static final int VALUE_SIZE_ESTIMATE = 48;
+
+    private final String name;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private CompiledEmailTemplate(String name, String[] literals, String[] placeholders) {
+        this.name = name;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a template source.
+     *
+     * @param name the template name, used in error messages
+     * @param source the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is unterminated or has an empty name
+     */
+    public static CompiledEmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder in email template " + name);
+            }
+            String placeholder = source.substring(open + OPEN.length(), close).trim();
+            if (placeholder.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in email template " + name);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(placeholder);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new CompiledEmailTemplate(name, literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * Renders the template with the given values.
+     *
+     * @param values placeholder values by name; {@code null} values render as empty strings
+     * @return the rendered HTML
+     * @throws IllegalArgumentException if a placeholder has no entry in {@code values}
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(literalLength + placeholders.length * VALUE_SIZE_ESTIMATE);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(placeholders[i]);
+            if (value == null && !values.containsKey(placeholders[i])) {
+                throw new IllegalArgumentException(
+                        "No value for {{" + placeholders[i] + "}} in email template " + name);
+            }
+            if (value != null) {
+                appendEscaped(out, value.toString());
+            }
+        }
+        out.append(literals[placeholders.length]);
+        return out.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the distinct placeholder names in order of first appearance.
+     *
+     * @return the placeholder names
+     */
+    public Set<String> getPlaceholders() {
+        return new LinkedHashSet<>(List.of(placeholders));
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
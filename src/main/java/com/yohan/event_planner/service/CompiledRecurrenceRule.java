@@ -0,0 +1,194 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.enums.RecurrenceFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Immutable, pre-computed form of a recurrence rule.
+ *
+ * <p>Wraps a {@link ParsedRecurrenceInput} together with the values that recurrence expansion
+ * and occurrence tests actually need, so hot paths can evaluate a rule with integer arithmetic
+ * instead of re-parsing strings or probing {@code EnumSet}s:</p>
+ * <ul>
+ *   <li><strong>Rule</strong>: Canonical rule string (e.g. {@code WEEKLY:MONDAY,FRIDAY}), used as the interning key</li>
+ *   <li><strong>Day mask</strong>: 7-bit weekday mask with Monday in bit 0 and Sunday in bit 6</li>
+ *   <li><strong>Ordinal</strong>: Occurrence number for MONTHLY rules, or 0 when not applicable</li>
+ * </ul>
+ *
+ * <p>Instances are shared between every {@link com.yohan.event_planner.domain.RecurrenceRuleVO}
+ * that uses the same rule once interned by {@link CompiledRecurrenceRuleCache}; the wrapped
+ * parsed input therefore holds an unmodifiable copy of the days of the week.</p>
+ *
+ * @param rule canonical rule string
+ * @param frequency recurrence frequency
+ * @param dayMask weekday bitmask
+ * @param ordinal monthly occurrence number, or 0
+ * @param parsed the parsed representation backing this compiled rule
+ *
+ * @see CompiledRecurrenceRuleCache
+ * @see RecurrenceRuleService
+ */
+public record CompiledRecurrenceRule(
+        String rule,
+        RecurrenceFrequency frequency,
+        int dayMask,
+        int ordinal,
+        ParsedRecurrenceInput parsed
+) {
+
+    /** Bits 0, 7, 14, 21 and 28: the days of a month that share a weekday with day 1. */
+    private static final long EVERY_SEVENTH_DAY = 1L | 1L << 7 | 1L << 14 | 1L << 21 | 1L << 28;
+
+    public CompiledRecurrenceRule {
+        Objects.requireNonNull(rule, "rule must not be null");
+        Objects.requireNonNull(frequency, "frequency must not be null");
+        Objects.requireNonNull(parsed, "parsed must not be null");
+    }
+
+    /**
+     * Compiles a parsed recurrence input into its immutable compiled form.
+     *
+     * @param parsed the parsed recurrence input (must not be null)
+     * @return the compiled rule
+     */
+    public static CompiledRecurrenceRule of(ParsedRecurrenceInput parsed) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (parsed.frequency() == RecurrenceFrequency.DAILY) {
+            days.addAll(EnumSet.allOf(DayOfWeek.class));
+        } else if (parsed.daysOfWeek() != null) {
+            days.addAll(parsed.daysOfWeek());
+        }
+        ParsedRecurrenceInput immutable = new ParsedRecurrenceInput(
+                parsed.frequency(), Collections.unmodifiableSet(days), parsed.ordinal());
+
+        return new CompiledRecurrenceRule(
+                toRuleString(parsed),
+                parsed.frequency(),
+                dayMaskOf(days),
+                parsed.ordinal() != null ? parsed.ordinal() : 0,
+                immutable
+        );
+    }
+
+    /**
+     * Builds the canonical rule string for a parsed recurrence input.
+     *
+     * <p>Days are listed in ISO order (Monday first) so that equivalent rules written with
+     * differently ordered days produce the same string.</p>
+     *
+     * @param parsed the parsed recurrence input (must not be null)
+     * @return canonical rule string in the {@code FREQUENCY:PARAMS} format accepted by
+     *         {@link RecurrenceRuleService#parseFromString(String)}
+     */
+    public static String toRuleString(ParsedRecurrenceInput parsed) {
+        StringJoiner days = new StringJoiner(",");
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (parsed.daysOfWeek() != null && parsed.daysOfWeek().contains(day)) {
+                days.add(day.name());
+            }
+        }
+
+        return switch (parsed.frequency()) {
+            case DAILY -> "DAILY:";
+            case WEEKLY -> "WEEKLY:" + days;
+            case MONTHLY -> "MONTHLY:" + parsed.ordinal() + ":" + days;
+        };
+    }
+
+    /**
+     * Encodes a set of weekdays as a 7-bit mask, with Monday in bit 0 and Sunday in bit 6.
+     *
+     * @param daysOfWeek the weekdays to encode (null is treated as empty)
+     * @return the weekday bitmask
+     */
+    public static int dayMaskOf(Set<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        if (daysOfWeek != null) {
+            for (DayOfWeek day : daysOfWeek) {
+                mask |= bitOf(day);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Whether the rule includes the given weekday.
+     *
+     * @param day the weekday to test
+     * @return true if the weekday bit is set
+     */
+    public boolean includes(DayOfWeek day) {
+        return (dayMask & bitOf(day)) != 0;
+    }
+
+    /**
+     * Whether this rule and another share at least one weekday.
+     *
+     * @param other the rule to compare against
+     * @return true if the weekday masks intersect
+     */
+    public boolean sharesDayWith(CompiledRecurrenceRule other) {
+        return (dayMask & other.dayMask) != 0;
+    }
+
+    /**
+     * Tests whether the rule produces an occurrence on the given date, ignoring skip days.
+     *
+     * @param date the date to test
+     * @return true if the rule occurs on the date
+     */
+    public boolean occursOn(LocalDate date) {
+        return switch (frequency) {
+            case DAILY -> true;
+            case WEEKLY -> includes(date.getDayOfWeek());
+            case MONTHLY -> includes(date.getDayOfWeek()) && (date.getDayOfMonth() - 1) / 7 + 1 == ordinal;
+        };
+    }
+
+    /**
+     * Computes every day of a month on which the rule occurs, ignoring skip days.
+     *
+     * <p>The result is a day mask with day 1 of the month in bit 0 and day 31 in bit 30. It is
+     * built in closed form from the weekday of the first of the month: each weekday contributes
+     * either its every-seventh-day pattern (WEEKLY) or the single day of its n-th occurrence
+     * (MONTHLY), so no date in the month is visited individually.</p>
+     *
+     * @param month the month to expand
+     * @return day mask of the occurrences within the month
+     */
+    public int occurrenceMask(YearMonth month) {
+        int lengthOfMonth = month.lengthOfMonth();
+        long daysOfMonth = (1L << lengthOfMonth) - 1;
+        if (frequency == RecurrenceFrequency.DAILY) {
+            return (int) daysOfMonth;
+        }
+
+        int firstWeekdayIndex = month.atDay(1).getDayOfWeek().getValue() - 1;
+        long mask = 0;
+        for (int weekdayIndex = 0; weekdayIndex < 7; weekdayIndex++) {
+            if ((dayMask & (1 << weekdayIndex)) == 0) {
+                continue;
+            }
+            // Zero-based day of the month of the first occurrence of this weekday
+            int firstDay = (weekdayIndex - firstWeekdayIndex + 7) % 7;
+            if (frequency == RecurrenceFrequency.WEEKLY) {
+                mask |= EVERY_SEVENTH_DAY << firstDay;
+            } else if (ordinal >= 1 && ordinal <= 5) {
+                mask |= 1L << (firstDay + 7 * (ordinal - 1));
+            }
+        }
+        return (int) (mask & daysOfMonth);
+    }
+
+    private static int bitOf(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.RecurrenceRuleCacheStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, shared cache interning {@link CompiledRecurrenceRule} instances by rule string.
+ *
+ * <p>Recurring events that share a rule (for example every "WEEKLY:MONDAY" series in the system)
+ * are parsed once and then share the same immutable compiled form. The cache is consulted when
+ * recurring events are loaded from the database so that {@code RecurrenceRuleVO#getParsed()} is
+ * populated without each caller re-parsing the stored rule.</p>
+ *
+ * <h2>Eviction</h2>
+ * <p>Entries are kept in access order and the least recently used rule is evicted once
+ * {@code app.recurrence.rule-cache.max-size} entries are held. Rule strings are short and the
+ * number of distinct rules is small in practice, so a single lock around the map is cheaper
+ * than the parsing it avoids.</p>
+ *
+ * <h2>Metrics</h2>
+ * <p>Hit, miss and eviction counters are exposed through {@link #getStats()}.</p>
+ *
+ * @see CompiledRecurrenceRule
+ * @see RecurrenceRuleService
+ */
+@Component
+public class CompiledRecurrenceRuleCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledRecurrenceRuleCache.class);
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final RecurrenceRuleService recurrenceRuleService;
+
+    @Value("${app.recurrence.rule-cache.max-size:" + DEFAULT_MAX_SIZE + "}")
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<String, CompiledRecurrenceRule> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledRecurrenceRule> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public CompiledRecurrenceRuleCache(RecurrenceRuleService recurrenceRuleService) {
+        this.recurrenceRuleService = recurrenceRuleService;
+    }
+
+    /**
+     * Returns the compiled form of a rule string, parsing it only on the first request.
+     *
+     * <p>Rules that differ only in formatting (day order, surrounding whitespace) resolve to the
+     * same compiled instance because the canonical rule string is interned as well.</p>
+     *
+     * @param rule rule string in the {@code FREQUENCY:PARAMS} format (must not be null)
+     * @return the shared compiled rule
+     * @throws com.yohan.event_planner.exception.InvalidRecurrenceRuleException if the rule cannot be parsed
+     */
+    public CompiledRecurrenceRule compile(String rule) {
+        String key = rule.trim();
+
+        synchronized (entries) {
+            CompiledRecurrenceRule cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        CompiledRecurrenceRule compiled = CompiledRecurrenceRule.of(recurrenceRuleService.parseFromString(key));
+        logger.debug("Compiled recurrence rule [{}] as [{}]", key, compiled.rule());
+
+        synchronized (entries) {
+            CompiledRecurrenceRule interned = entries.get(compiled.rule());
+            if (interned == null) {
+                interned = compiled;
+                entries.put(compiled.rule(), interned);
+            }
+            entries.put(key, interned);
+            return interned;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return current hit, miss and eviction counts together with size information
+     */
+    public RecurrenceRuleCacheStatsDTO getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new RecurrenceRuleCacheStatsDTO(hits.get(), misses.get(), evictions.get(), size, maxSize);
+    }
+
+    /**
+     * Removes all cached rules. Counters are left untouched.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
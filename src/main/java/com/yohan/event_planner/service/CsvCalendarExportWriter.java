@@ -0,0 +1,110 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a calendar export as CSV (RFC 4180) with a header row.
+ *
+ * <p>Each row is a {@link CalendarExportRowDTO}. Event times are written as ISO-8601 offset
+ * date-times, skip days as ISO dates separated by semicolons, and empty cells stand for
+ * {@code null}. Cells containing commas, quotes or line breaks are quoted.</p>
+ */
+final class CsvCalendarExportWriter implements CalendarExportWriter {
+
+    static final List<String> COLUMNS = List.of(
+            "type", "id", "name", "description", "label", "start", "end", "timezone", "completed",
+            "start_date", "end_date", "start_time", "end_time", "recurrence", "skip_days");
+
+    static final String SKIP_DAY_SEPARATOR = ";";
+
+    private static final String CRLF = "\r\n";
+
+    private final Writer out;
+    private final ZoneId zone;
+
+    /**
+     * @param out the writer to write the file to
+     * @param zone the creator's time zone, in which recurring event times apply
+     */
+    CsvCalendarExportWriter(Writer out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        out.write(String.join(",", COLUMNS));
+        out.write(CRLF);
+    }
+
+    @Override
+    public void writeEvent(Event event) throws IOException {
+        writeRow(CalendarExportRowDTO.fromEvent(event));
+    }
+
+    @Override
+    public void writeRecurringEvent(RecurringEvent recurringEvent) throws IOException {
+        writeRow(CalendarExportRowDTO.fromRecurringEvent(recurringEvent, zone));
+    }
+
+    @Override
+    public void end() {
+        // No trailer
+    }
+
+    private void writeRow(CalendarExportRowDTO row) throws IOException {
+        writeCell(row.type());
+        writeCell(row.id() != null ? row.id().toString() : null);
+        writeCell(row.name());
+        writeCell(row.description());
+        writeCell(row.label());
+        writeCell(format(row.start(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        writeCell(format(row.end(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        writeCell(row.timezone());
+        writeCell(row.completed() != null ? row.completed().toString() : null);
+        writeCell(format(row.startDate(), DateTimeFormatter.ISO_LOCAL_DATE));
+        writeCell(format(row.endDate(), DateTimeFormatter.ISO_LOCAL_DATE));
+        writeCell(format(row.startTime(), DateTimeFormatter.ISO_LOCAL_TIME));
+        writeCell(format(row.endTime(), DateTimeFormatter.ISO_LOCAL_TIME));
+        writeCell(row.recurrence());
+        out.write(row.skipDays() != null
+                ? row.skipDays().stream().map(LocalDate::toString).collect(Collectors.joining(SKIP_DAY_SEPARATOR))
+                : "");
+        out.write(CRLF);
+    }
+
+    private void writeCell(String value) throws IOException {
+        out.write(escape(value));
+        out.write(',');
+    }
+
+    private static String format(TemporalAccessor value, DateTimeFormatter formatter) {
+        return value != null ? formatter.format(value) : null;
+    }
+
+    /**
+     * Quotes a cell if it contains a delimiter, quote or line break, doubling embedded quotes.
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
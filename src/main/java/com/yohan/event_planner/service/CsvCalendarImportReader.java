@@ -0,0 +1,198 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+import com.yohan.event_planner.exception.ErrorCode;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads a calendar import from CSV (RFC 4180) with a header row.
+ *
+ * <p>Columns are matched by their header name, in any order and case, using the names written
+ * by {@link CsvCalendarExportWriter#COLUMNS}; unknown columns are ignored and only {@code name}
+ * is required. Event times are ISO-8601 date-times with an offset, skip days ISO dates
+ * separated by semicolons, and empty cells stand for {@code null}. Quoted cells may contain
+ * delimiters, doubled quotes and line breaks.</p>
+ */
+final class CsvCalendarImportReader implements CalendarImportReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader in;
+    private Map<String, Integer> columns;
+    private int rowNumber;
+
+    /**
+     * @param in the reader to read the file from; mark and reset are used to look one character ahead
+     */
+    CsvCalendarImportReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public CalendarImportRow next() throws IOException {
+        if (columns == null) {
+            columns = readHeader();
+        }
+
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        int number = ++rowNumber;
+        try {
+            return CalendarImportRow.read(number, toEntry(record));
+        } catch (IllegalArgumentException e) {
+            return CalendarImportRow.failed(number, e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BYTE_ORDER_MARK) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexes.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!indexes.containsKey("name")) {
+            throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        return indexes;
+    }
+
+    private CalendarExportRowDTO toEntry(List<String> record) {
+        String skipDays = cell(record, "skip_days");
+        List<LocalDate> skipDayList = null;
+        if (skipDays != null) {
+            skipDayList = new ArrayList<>();
+            for (String day : skipDays.split(CsvCalendarExportWriter.SKIP_DAY_SEPARATOR)) {
+                if (!day.isBlank()) {
+                    skipDayList.add(parse("skip_days", day, LocalDate::parse));
+                }
+            }
+        }
+
+        String type = cell(record, "type");
+        return new CalendarExportRowDTO(
+                type != null ? type.trim().toUpperCase(Locale.ROOT) : null,
+                null,
+                cell(record, "name"),
+                cell(record, "description"),
+                cell(record, "label"),
+                parse(record, "start", ZonedDateTime::parse),
+                parse(record, "end", ZonedDateTime::parse),
+                trimmed(cell(record, "timezone")),
+                null,
+                parse(record, "start_date", LocalDate::parse),
+                parse(record, "end_date", LocalDate::parse),
+                parse(record, "start_time", LocalTime::parse),
+                parse(record, "end_time", LocalTime::parse),
+                trimmed(cell(record, "recurrence")),
+                skipDayList
+        );
+    }
+
+    /**
+     * Returns a cell by column name, or {@code null} if the column is missing or the cell blank.
+     */
+    private String cell(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isBlank() ? null : value;
+    }
+
+    private <T> T parse(List<String> record, String column, Function<String, T> parser) {
+        String value = cell(record, column);
+        return value != null ? parse(column, value, parser) : null;
+    }
+
+    private static <T> T parse(String column, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid value in column '" + column + "': " + value.trim());
+        }
+    }
+
+    private static String trimmed(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    /**
+     * Reads one record, unquoting cells as it goes.
+     *
+     * @return the cells of the record, or {@code null} at the end of the file
+     * @throws InvalidCalendarParameterException if the file ends inside a quoted cell
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        boolean readAny = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            readAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+            } else if (c == '"' && cell.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n') {
+                cells.add(cell.toString());
+                return cells;
+            } else if (c != '\r') {
+                cell.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        if (!readAny) {
+            return null;
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
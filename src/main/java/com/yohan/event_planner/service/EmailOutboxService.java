@@ -0,0 +1,59 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.EmailOutboxStatsDTO;
+
+import java.time.Duration;
+
+/**
+ * Service managing the persistent outbox through which transactional emails are delivered.
+ *
+ * <p>Messages are queued in the caller's transaction and sent later by
+ * {@link com.yohan.event_planner.jobs.EmailOutboxJob}, so request threads never wait on the SMTP
+ * server and an unreachable server delays emails instead of failing the request.</p>
+ *
+ * @see EmailOutboxServiceImpl
+ * @see com.yohan.event_planner.domain.EmailOutboxMessage
+ */
+public interface EmailOutboxService {
+
+    /**
+     * Queues a rendered message for background delivery.
+     *
+     * <p>Joins the caller's transaction, so the message is only sent if that transaction
+     * commits.</p>
+     *
+     * @param recipient the address the message is sent to
+     * @param subject the subject line
+     * @param htmlBody the rendered HTML body
+     * @throws IllegalArgumentException if the recipient is missing or not a valid address
+     */
+    void enqueue(String recipient, String subject, String htmlBody);
+
+    /**
+     * Claims up to {@code batchSize} due messages and attempts to send them.
+     *
+     * <p>The batch is sent over a single SMTP connection. Delivered messages are removed from the
+     * outbox; failed ones are rescheduled with exponential backoff or dead-lettered once their
+     * attempts are exhausted. No database transaction is held open while talking to the SMTP
+     * server.</p>
+     *
+     * @param batchSize maximum number of messages to claim
+     * @return the number of messages claimed, whether or not they were delivered
+     */
+    int deliverDueMessages(int batchSize);
+
+    /**
+     * Deletes dead-lettered messages older than the retention period.
+     *
+     * @param retention how long dead letters are kept after they were queued
+     * @return the number of deleted messages
+     */
+    int purgeDeadLetters(Duration retention);
+
+    /**
+     * Returns queue depth, dead letters and delivery counters of the outbox.
+     *
+     * @return current outbox statistics
+     */
+    EmailOutboxStatsDTO getStats();
+}
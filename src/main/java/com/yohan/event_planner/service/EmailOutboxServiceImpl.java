@@ -0,0 +1,292 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.EmailOutboxMessage;
+import com.yohan.event_planner.domain.enums.EmailOutboxStatus;
+import com.yohan.event_planner.dto.EmailOutboxStatsDTO;
+import com.yohan.event_planner.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link EmailOutboxService} backed by the {@code email_outbox} table.
+ *
+ * <h2>Delivery Cycle</h2>
+ * <ol>
+ *   <li><strong>Claim</strong>: Due rows are locked with {@code SKIP LOCKED} and leased by moving
+ *       their next attempt time forward, then the claiming transaction commits</li>
+ *   <li><strong>Send</strong>: The batch is handed to {@link JavaMailSender#send(MimeMessage...)},
+ *       which delivers all messages over one SMTP connection instead of connecting per message</li>
+ *   <li><strong>Record</strong>: A second short transaction deletes delivered rows and reschedules
+ *       or dead-letters failed ones</li>
+ * </ol>
+ *
+ * <p>Keeping the SMTP exchange outside any transaction means a slow mail server never pins a
+ * database connection or row lock. If a worker dies between claim and record, its messages become
+ * due again when the lease ends; such a message may be sent twice, which is preferable to losing
+ * a verification or password reset email.</p>
+ *
+ * <h2>Retry Policy</h2>
+ * <ul>
+ *   <li><strong>Backoff</strong>: The n-th retry waits {@code initial-backoff-seconds * 2^(n-1)},
+ *       capped at {@code max-backoff-seconds}</li>
+ *   <li><strong>Dead Letters</strong>: A message is dead-lettered after {@code max-attempts}
+ *       failed attempts, or immediately if it cannot be built (for example an invalid address)</li>
+ * </ul>
+ *
+ * @see EmailOutboxRepository
+ * @see com.yohan.event_planner.jobs.EmailOutboxJob
+ */
+@Service
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxServiceImpl.class);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${app.password-reset.from-email}")
+    private String fromEmail;
+
+    @Value("${app.password-reset.from-name}")
+    private String fromName;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.email.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds = 30;
+
+    @Value("${app.email.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds = 3600;
+
+    @Value("${app.email.outbox.lease-seconds:300}")
+    private long leaseSeconds = 300;
+
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    public EmailOutboxServiceImpl(EmailOutboxRepository outboxRepository,
+                                  JavaMailSender mailSender,
+                                  PlatformTransactionManager transactionManager,
+                                  Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void enqueue(String recipient, String subject, String htmlBody) {
+        if (recipient == null || recipient.isBlank()) {
+            throw new IllegalArgumentException("Recipient cannot be null or blank");
+        }
+        try {
+            new InternetAddress(recipient, true);
+        } catch (AddressException e) {
+            throw new IllegalArgumentException("Invalid recipient address", e);
+        }
+
+        outboxRepository.save(new EmailOutboxMessage(recipient, subject, htmlBody, clock.instant()));
+        logger.debug("Queued email '{}' for {}", subject, recipient);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deliverDueMessages(int batchSize) {
+        List<EmailOutboxMessage> batch = transactionTemplate.execute(status -> claimDueMessages(batchSize));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // MimeMessage uses identity equality; insertion order keeps the oldest messages first
+        Map<MimeMessage, EmailOutboxMessage> composed = new LinkedHashMap<>();
+        Map<Long, String> unsendable = new HashMap<>();
+        for (EmailOutboxMessage message : batch) {
+            try {
+                composed.put(compose(message), message);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                unsendable.put(message.getId(), describe(e));
+            }
+        }
+
+        Map<Long, String> failures = send(composed);
+
+        List<Long> sentIds = new ArrayList<>();
+        for (EmailOutboxMessage message : composed.values()) {
+            if (!failures.containsKey(message.getId())) {
+                sentIds.add(message.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordOutcome(sentIds, failures, unsendable));
+
+        sentMessages.addAndGet(sentIds.size());
+        failedAttempts.addAndGet(failures.size() + unsendable.size());
+        logger.info("Delivered {} of {} outbox emails ({} failed, {} unsendable)",
+                sentIds.size(), batch.size(), failures.size(), unsendable.size());
+        return batch.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int purgeDeadLetters(Duration retention) {
+        return outboxRepository.deleteDeadLettersCreatedBefore(clock.instant().minus(retention));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EmailOutboxStatsDTO getStats() {
+        Instant oldest = outboxRepository.findOldestCreatedAtByStatus(EmailOutboxStatus.PENDING);
+        long oldestAgeMillis = oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis());
+
+        return new EmailOutboxStatsDTO(
+                outboxRepository.countByStatus(EmailOutboxStatus.PENDING),
+                outboxRepository.countByStatus(EmailOutboxStatus.DEAD),
+                oldestAgeMillis,
+                sentMessages.get(),
+                failedAttempts.get()
+        );
+    }
+
+    /**
+     * Computes how long to wait before the given retry.
+     *
+     * @param attempt the number of failed attempts so far, starting at 1
+     * @return the delay before the next attempt
+     */
+    Duration backoff(int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 30);
+        if (initialBackoffSeconds > maxBackoffSeconds / multiplier) {
+            return Duration.ofSeconds(maxBackoffSeconds);
+        }
+        return Duration.ofSeconds(initialBackoffSeconds * multiplier);
+    }
+
+    private List<EmailOutboxMessage> claimDueMessages(int batchSize) {
+        Instant now = clock.instant();
+        List<EmailOutboxMessage> batch = outboxRepository.lockDueBatch(now, batchSize);
+        Instant leaseUntil = now.plusSeconds(leaseSeconds);
+        batch.forEach(message -> message.lease(leaseUntil));
+        return batch;
+    }
+
+    private MimeMessage compose(EmailOutboxMessage message) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom(fromEmail, fromName);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getHtmlBody(), true);
+        return mimeMessage;
+    }
+
+    /**
+     * Sends the composed messages over one connection and returns the failures by outbox ID.
+     */
+    private Map<Long, String> send(Map<MimeMessage, EmailOutboxMessage> composed) {
+        if (composed.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            mailSender.send(composed.keySet().toArray(MimeMessage[]::new));
+            return Map.of();
+        } catch (MailSendException e) {
+            // Lists the messages that were not delivered; the others went through before the error
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                return failAll(composed, e);
+            }
+            Map<Long, String> failures = new HashMap<>();
+            failedMessages.forEach((mimeMessage, cause) -> {
+                EmailOutboxMessage message = composed.get(mimeMessage);
+                if (message != null) {
+                    failures.put(message.getId(), describe(cause));
+                }
+            });
+            return failures;
+        } catch (MailException e) {
+            return failAll(composed, e);
+        }
+    }
+
+    private Map<Long, String> failAll(Map<MimeMessage, EmailOutboxMessage> composed, Exception e) {
+        logger.warn("Email batch of {} messages failed: {}", composed.size(), e.getMessage());
+        Map<Long, String> failures = new HashMap<>();
+        composed.values().forEach(message -> failures.put(message.getId(), describe(e)));
+        return failures;
+    }
+
+    private void recordOutcome(List<Long> sentIds, Map<Long, String> failures, Map<Long, String> unsendable) {
+        if (!sentIds.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(sentIds);
+        }
+
+        List<Long> failedIds = new ArrayList<>(failures.keySet());
+        failedIds.addAll(unsendable.keySet());
+        if (failedIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        for (EmailOutboxMessage message : outboxRepository.findAllById(failedIds)) {
+            String unsendableReason = unsendable.get(message.getId());
+            if (unsendableReason != null) {
+                message.deadLetter(unsendableReason);
+                logger.error("Dead-lettered email {} to {}: message could not be built ({})",
+                        message.getId(), message.getRecipient(), unsendableReason);
+            } else if (message.getAttempts() + 1 >= maxAttempts) {
+                message.deadLetter(failures.get(message.getId()));
+                logger.error("Dead-lettered email {} to {} after {} attempts: {}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), message.getLastError());
+            } else {
+                Duration delay = backoff(message.getAttempts() + 1);
+                message.recordFailure(failures.get(message.getId()), now.plus(delay));
+                logger.warn("Email {} to {} failed (attempt {}), retrying in {}s: {}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), delay.toSeconds(),
+                        message.getLastError());
+            }
+        }
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
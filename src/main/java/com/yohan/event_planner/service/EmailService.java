@@ -18,6 +18,13 @@ package com.yohan.event_planner.service;
  *   <li><strong>System Alerts</strong>: Security notifications and system updates</li>
  * </ul>
  *
+ * <h2>Delivery Semantics</h2>
+ * <p>
+ * A method that returns normally has accepted the email for delivery; implementations
+ * may send it later in the background. When called inside a transaction, the email is
+ * only delivered if that transaction commits.
+ * </p>
+ *
  * <h2>Security Considerations</h2>
  * <ul>
  *   <li><strong>Token Security</strong>: Secure handling of sensitive reset tokens</li>
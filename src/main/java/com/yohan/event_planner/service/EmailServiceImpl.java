@@ -7,10 +7,15 @@ import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Implementation of the EmailService interface for sending transactional emails.
  *
@@ -23,11 +28,21 @@ import org.springframework.stereotype.Service;
  * <h2>Email Features</h2>
  * <ul>
  *   <li><strong>HTML Email Support</strong>: Rich formatting for better user experience</li>
- *   <li><strong>Template-based Content</strong>: Consistent branding and messaging</li>
+ *   <li><strong>Template-based Content</strong>: Pre-compiled, localizable HTML templates
+ *       rendered by {@link EmailTemplateRenderer}</li>
  *   <li><strong>Security Best Practices</strong>: Secure token handling and warnings</li>
  *   <li><strong>Error Handling</strong>: Comprehensive logging and exception management</li>
  * </ul>
  *
+ * <h2>Delivery</h2>
+ * <p>
+ * By default rendered emails are queued in the persistent outbox through
+ * {@link EmailOutboxService} and sent in the background, so request latency no longer
+ * depends on SMTP round trips. The outbox row joins the caller's transaction, so an email
+ * is only sent if the change that triggered it commits. Setting
+ * {@code app.email.outbox.enabled=false} restores synchronous sending on the calling thread.
+ * </p>
+ *
  * <h2>Configuration</h2>
  * <p>
  * Email settings are configured through application properties, including
@@ -36,6 +51,7 @@ import org.springframework.stereotype.Service;
  * </p>
  *
  * @see EmailService
+ * @see EmailOutboxService
  * @see JavaMailSender
  * @author Event Planner Development Team
  * @version 1.0.0
@@ -46,7 +62,17 @@ public class EmailServiceImpl implements EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailServiceImpl.class);
 
+    private static final String EMAIL_VERIFICATION_TEMPLATE = "email-verification";
+    private static final String PASSWORD_RESET_TEMPLATE = "password-reset";
+    private static final String WELCOME_TEMPLATE = "welcome";
+    private static final String PASSWORD_CHANGED_TEMPLATE = "password-changed";
+
     private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateRenderer templateRenderer;
+
+    @Value("${app.email.outbox.enabled:true}")
+    private boolean outboxEnabled = true;
     
     @Value("${app.password-reset.from-email}")
     private String fromEmail;
@@ -64,16 +90,22 @@ public class EmailServiceImpl implements EmailService {
      * Constructs an EmailService with the required dependencies.
      * 
      * <p>
-     * Initializes the service with Spring's JavaMailSender for SMTP operations.
+     * Initializes the service with Spring's JavaMailSender for synchronous SMTP operations
+     * and the outbox used for background delivery.
      * Configuration properties are injected via @Value annotations and validated
      * at startup to ensure all required email settings are present.
      * </p>
      *
-     * @param mailSender the JavaMailSender for sending emails
+     * @param mailSender the JavaMailSender for sending emails synchronously
+     * @param emailOutboxService the outbox that queues emails for background delivery
+     * @param templateRenderer the renderer of the pre-compiled email templates
      * @throws IllegalArgumentException if mailSender is null (handled by Spring)
      */
-    public EmailServiceImpl(JavaMailSender mailSender) {
+    public EmailServiceImpl(JavaMailSender mailSender, EmailOutboxService emailOutboxService,
+                            EmailTemplateRenderer templateRenderer) {
         this.mailSender = mailSender;
+        this.emailOutboxService = emailOutboxService;
+        this.templateRenderer = templateRenderer;
         logger.debug("Email service initialized with configuration - fromEmail configured: {}, deepLinkBase configured: {}", 
             fromEmail != null, deepLinkBase != null);
     }
@@ -86,21 +118,12 @@ public class EmailServiceImpl implements EmailService {
         try {
             logger.info("Sending email verification email to: {}", toEmail);
             
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(toEmail);
-            helper.setSubject(ApplicationConstants.EMAIL_VERIFICATION_SUBJECT);
-            
             String verificationLink = verificationLinkBase + "?token=" + verificationToken;
             logger.debug("Generating email verification content for user: {}", firstName);
             String htmlContent = createEmailVerificationContent(firstName, verificationLink);
             
-            helper.setText(htmlContent, true);
-            
-            mailSender.send(message);
-            logger.info("Email verification email sent successfully to: {}", toEmail);
+            dispatch(toEmail, ApplicationConstants.EMAIL_VERIFICATION_SUBJECT, htmlContent);
+            logger.info("Email verification email accepted for delivery to: {}", toEmail);
             
         } catch (MessagingException e) {
             logger.error("Failed to send email verification email to: {}", toEmail, e);
@@ -119,21 +142,12 @@ public class EmailServiceImpl implements EmailService {
         try {
             logger.info("Sending password reset email to: {}", toEmail);
             
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(toEmail);
-            helper.setSubject(ApplicationConstants.PASSWORD_RESET_SUBJECT);
-            
             String resetLink = deepLinkBase + "?token=" + resetToken;
             logger.debug("Generating password reset content for {} minute expiry", expiryMinutes);
             String htmlContent = createPasswordResetEmailContent(resetLink, expiryMinutes);
             
-            helper.setText(htmlContent, true);
-            
-            mailSender.send(message);
-            logger.info("Password reset email sent successfully to: {}", toEmail);
+            dispatch(toEmail, ApplicationConstants.PASSWORD_RESET_SUBJECT, htmlContent);
+            logger.info("Password reset email accepted for delivery to: {}", toEmail);
             
         } catch (MessagingException e) {
             logger.error("Failed to send password reset email to: {}", toEmail, e);
@@ -152,19 +166,11 @@ public class EmailServiceImpl implements EmailService {
         try {
             logger.info("Sending welcome email to: {}", toEmail);
             
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(toEmail);
-            helper.setSubject(ApplicationConstants.WELCOME_EMAIL_SUBJECT);
-            
             logger.debug("Generating welcome email content for user: {}", username);
             String htmlContent = createWelcomeEmailContent(username);
-            helper.setText(htmlContent, true);
             
-            mailSender.send(message);
-            logger.info("Welcome email sent successfully to: {}", toEmail);
+            dispatch(toEmail, ApplicationConstants.WELCOME_EMAIL_SUBJECT, htmlContent);
+            logger.info("Welcome email accepted for delivery to: {}", toEmail);
             
         } catch (MessagingException e) {
             logger.error("Failed to send welcome email to: {}", toEmail, e);
@@ -183,19 +189,11 @@ public class EmailServiceImpl implements EmailService {
         try {
             logger.info("Sending password change confirmation to: {}", toEmail);
             
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(toEmail);
-            helper.setSubject(ApplicationConstants.PASSWORD_CHANGE_SUBJECT);
-            
             logger.debug("Generating password change confirmation content for user: {}", username);
             String htmlContent = createPasswordChangeConfirmationContent(username);
-            helper.setText(htmlContent, true);
             
-            mailSender.send(message);
-            logger.info("Password change confirmation sent successfully to: {}", toEmail);
+            dispatch(toEmail, ApplicationConstants.PASSWORD_CHANGE_SUBJECT, htmlContent);
+            logger.info("Password change confirmation accepted for delivery to: {}", toEmail);
             
         } catch (MessagingException e) {
             logger.error("Failed to send password change confirmation to: {}", toEmail, e);
@@ -206,6 +204,42 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
+    /**
+     * Hands a rendered email to the outbox, or sends it right away when the outbox is disabled.
+     *
+     * @param toEmail the recipient's email address
+     * @param subject the subject line
+     * @param htmlContent the rendered HTML body
+     * @throws MessagingException if the message cannot be built or sent synchronously
+     * @throws UnsupportedEncodingException if the sender name cannot be encoded
+     */
+    private void dispatch(String toEmail, String subject, String htmlContent)
+            throws MessagingException, UnsupportedEncodingException {
+        if (outboxEnabled) {
+            emailOutboxService.enqueue(toEmail, subject, htmlContent);
+            return;
+        }
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail, fromName);
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+        mailSender.send(message);
+    }
+
+    /**
+     * Collects placeholder values from alternating names and values; values may be {@code null}.
+     */
+    private static Map<String, Object> values(Object... namesAndValues) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            values.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return values;
+    }
+
     /**
      * Creates the HTML content for email verification emails.
      *
@@ -214,61 +248,8 @@ public class EmailServiceImpl implements EmailService {
      * @return formatted HTML email content
      */
     private String createEmailVerificationContent(String firstName, String verificationLink) {
-        return String.format("""
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Verify Your Email Address</title>
-                <style>
-                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
-                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background-color: #28a745; color: white; padding: 20px; text-align: center; }
-                    .content { padding: 20px; background-color: #f9f9f9; }
-                    .button { display: inline-block; padding: 12px 24px; background-color: #28a745; 
-                             color: white; text-decoration: none; border-radius: 4px; margin: 20px 0; }
-                    .info { background-color: #d1ecf1; border-left: 4px solid #bee5eb; padding: 10px; margin: 20px 0; }
-                    .footer { text-align: center; padding: 20px; font-size: 12px; color: #666; }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>Welcome to Ayoboyo!</h1>
-                    </div>
-                    <div class="content">
-                        <h2>Hi %s,</h2>
-                        <p>Thank you for registering with Event Planner! We're excited to have you on board.</p>
-                        
-                        <p>To complete your registration and activate your account, please verify your email address by clicking the button below:</p>
-                        
-                        <a href="%s" class="button">Verify Email Address</a>
-                        
-                        <div class="info">
-                            <strong>ℹ️ What happens after verification:</strong>
-                            <ul>
-                                <li>Your account will be activated</li>
-                                <li>You'll be able to sign in and start planning events</li>
-                                <li>You'll receive important notifications about your events</li>
-                            </ul>
-                        </div>
-                        
-                        <p>If the button above doesn't work, you can copy and paste this link into your browser:</p>
-                        <p style="word-break: break-all; background-color: #f8f9fa; padding: 10px; border-radius: 4px;">%s</p>
-                        
-                        <p><strong>Important:</strong> This verification link will expire in 24 hours. If you don't verify your email within this time, you'll need to register again.</p>
-                        
-                        <p>If you didn't create an account with us, please ignore this email.</p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated message from Event Planner. Please do not reply to this email.</p>
-                        <p>If you need help, contact our support team.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """, firstName, verificationLink, verificationLink);
+        return templateRenderer.render(EMAIL_VERIFICATION_TEMPLATE, LocaleContextHolder.getLocale(),
+                values("firstName", firstName, "verificationLink", verificationLink));
     }
 
     /**
@@ -279,61 +260,8 @@ public class EmailServiceImpl implements EmailService {
      * @return formatted HTML email content
      */
     private String createPasswordResetEmailContent(String resetLink, int expiryMinutes) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Reset Your Password</title>
-                <style>
-                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
-                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background-color: #007bff; color: white; padding: 20px; text-align: center; }
-                    .content { padding: 20px; background-color: #f9f9f9; }
-                    .button { display: inline-block; padding: 12px 24px; background-color: #007bff; 
-                             color: white; text-decoration: none; border-radius: 4px; margin: 20px 0; }
-                    .warning { background-color: #fff3cd; border-left: 4px solid #ffc107; padding: 10px; margin: 20px 0; }
-                    .footer { text-align: center; padding: 20px; font-size: 12px; color: #666; }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>Reset Your Password</h1>
-                    </div>
-                    <div class="content">
-                        <h2>Password Reset Request</h2>
-                        <p>We received a request to reset your password for your Event Planner account.</p>
-                        
-                        <p>To reset your password, tap the button below or copy the link into your app:</p>
-                        
-                        <a href="%s" class="button">Reset Password</a>
-                        
-                        <p><strong>Link:</strong> %s</p>
-                        
-                        <div class="warning">
-                            <strong>⚠️ Security Notice:</strong>
-                            <ul>
-                                <li>This link will expire in <strong>%d minutes</strong></li>
-                                <li>This link can only be used once</li>
-                                <li>If you didn't request this reset, please ignore this email</li>
-                                <li>Never share this link with anyone</li>
-                            </ul>
-                        </div>
-                        
-                        <p>If you're having trouble with the button above, copy and paste the link into your Event Planner app.</p>
-                        
-                        <p>For security reasons, this link will automatically expire in %d minutes.</p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated message from Event Planner. Please do not reply to this email.</p>
-                        <p>If you need help, contact our support team.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(resetLink, resetLink, expiryMinutes, expiryMinutes);
+        return templateRenderer.render(PASSWORD_RESET_TEMPLATE, LocaleContextHolder.getLocale(),
+                values("resetLink", resetLink, "expiryMinutes", expiryMinutes));
     }
 
     /**
@@ -343,50 +271,8 @@ public class EmailServiceImpl implements EmailService {
      * @return formatted HTML email content
      */
     private String createWelcomeEmailContent(String username) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Welcome to Event Planner</title>
-                <style>
-                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
-                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background-color: #28a745; color: white; padding: 20px; text-align: center; }
-                    .content { padding: 20px; background-color: #f9f9f9; }
-                    .footer { text-align: center; padding: 20px; font-size: 12px; color: #666; }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>Welcome to Event Planner!</h1>
-                    </div>
-                    <div class="content">
-                        <h2>Hi %s,</h2>
-                        <p>Welcome to Event Planner! Your account has been successfully created and you're ready to start organizing your events.</p>
-                        
-                        <h3>Getting Started:</h3>
-                        <ul>
-                            <li>Create your first event</li>
-                            <li>Set up recurring events for regular activities</li>
-                            <li>Organize events with labels and badges</li>
-                            <li>Track your time and productivity</li>
-                        </ul>
-                        
-                        <p>If you have any questions or need help getting started, don't hesitate to reach out to our support team.</p>
-                        
-                        <p>Happy planning!</p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated message from Event Planner.</p>
-                        <p>© 2024 Event Planner. All rights reserved.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(username);
+        return templateRenderer.render(WELCOME_TEMPLATE, LocaleContextHolder.getLocale(),
+                values("username", username));
     }
 
     /**
@@ -396,50 +282,7 @@ public class EmailServiceImpl implements EmailService {
      * @return formatted HTML email content
      */
     private String createPasswordChangeConfirmationContent(String username) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>Password Changed Successfully</title>
-                <style>
-                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
-                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background-color: #28a745; color: white; padding: 20px; text-align: center; }
-                    .content { padding: 20px; background-color: #f9f9f9; }
-                    .warning { background-color: #f8d7da; border-left: 4px solid #dc3545; padding: 10px; margin: 20px 0; }
-                    .footer { text-align: center; padding: 20px; font-size: 12px; color: #666; }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>Password Changed Successfully</h1>
-                    </div>
-                    <div class="content">
-                        <h2>Hi %s,</h2>
-                        <p>This email confirms that your password has been successfully changed for your Event Planner account.</p>
-                        
-                        <p><strong>When:</strong> Just now</p>
-                        <p><strong>Account:</strong> %s</p>
-                        
-                        <div class="warning">
-                            <strong>⚠️ Didn't make this change?</strong>
-                            <p>If you didn't change your password, please contact our support team immediately. Your account security may be compromised.</p>
-                        </div>
-                        
-                        <p>For your security, you've been logged out of all devices. Please log in again with your new password.</p>
-                        
-                        <p>Thank you for keeping your account secure!</p>
-                    </div>
-                    <div class="footer">
-                        <p>This is an automated security notification from Event Planner.</p>
-                        <p>© 2024 Event Planner. All rights reserved.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(username, username);
+        return templateRenderer.render(PASSWORD_CHANGED_TEMPLATE, LocaleContextHolder.getLocale(),
+                values("username", username));
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.yohan.event_planner.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads, compiles and renders the HTML templates of transactional emails.
+ *
+ * <p>Every {@code *.html} file under {@code app.email.templates.location} is compiled into a
+ * {@link CompiledEmailTemplate} once at startup. The file name without extension is the template
+ * key, so {@code password-reset.html} is rendered as {@code password-reset}.</p>
+ *
+ * <h2>Localized Variants</h2>
+ * <p>A template may have variants named after a locale, e.g. {@code password-reset_de.html} or
+ * {@code password-reset_pt_BR.html}. Rendering for a locale picks the most specific variant that
+ * exists and falls back to the base template, like {@link java.util.ResourceBundle}.</p>
+ *
+ * <h2>Hot Reload</h2>
+ * <p>With {@code app.email.templates.hot-reload=true} each render checks whether the template
+ * file changed and recompiles it, and picks up variants added after startup. This is meant for
+ * development with the location pointing at the source directory
+ * ({@code file:src/main/resources/templates/email/}); in production templates are compiled once
+ * and never touched again.</p>
+ *
+ * <p><strong>Thread Safety:</strong> Compiled templates are immutable and held in a concurrent
+ * map, so rendering needs no locking.</p>
+ *
+ * @see CompiledEmailTemplate
+ * @see EmailServiceImpl
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailTemplateRenderer.class);
+
+    private static final String EXTENSION = ".html";
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${app.email.templates.location:classpath:templates/email/}")
+    private String location = "classpath:templates/email/";
+
+    @Value("${app.email.templates.hot-reload:false}")
+    private boolean hotReload = false;
+
+    private final Map<String, LoadedTemplate> templates = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    /**
+     * Compiles every template under the configured location.
+     *
+     * @throws UncheckedIOException if the templates cannot be read
+     * @throws IllegalArgumentException if a template is malformed
+     */
+    @PostConstruct
+    private void init() {
+        try {
+            Resource[] resources = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+                    .getResources(location + "*" + EXTENSION);
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename != null) {
+                    String key = filename.substring(0, filename.length() - EXTENSION.length());
+                    templates.put(key, load(key, resource));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates from " + location, e);
+        }
+        logger.info("Compiled {} email templates from {} (hot reload {})", templates.size(), location,
+                hotReload ? "on" : "off");
+    }
+
+    /**
+     * Renders a template in the variant that best matches the locale.
+     *
+     * @param name the template name, e.g. {@code password-reset}
+     * @param locale the preferred locale, or {@code null} for the base template
+     * @param values placeholder values by name
+     * @return the rendered HTML
+     * @throws IllegalArgumentException if no such template exists or a placeholder has no value
+     */
+    public String render(String name, Locale locale, Map<String, ?> values) {
+        return resolve(name, locale).render(values);
+    }
+
+    /**
+     * Returns the compiled variant of a template that best matches the locale.
+     *
+     * @param name the template name
+     * @param locale the preferred locale, or {@code null} for the base template
+     * @return the compiled template
+     * @throws IllegalArgumentException if no such template exists
+     */
+    public CompiledEmailTemplate resolve(String name, Locale locale) {
+        if (locale != null && !locale.getLanguage().isEmpty()) {
+            if (!locale.getCountry().isEmpty()) {
+                CompiledEmailTemplate variant = find(name + "_" + locale.getLanguage() + "_" + locale.getCountry());
+                if (variant != null) {
+                    return variant;
+                }
+            }
+            CompiledEmailTemplate variant = find(name + "_" + locale.getLanguage());
+            if (variant != null) {
+                return variant;
+            }
+        }
+
+        CompiledEmailTemplate template = find(name);
+        if (template == null) {
+            throw new IllegalArgumentException("No email template named " + name);
+        }
+        return template;
+    }
+
+    private CompiledEmailTemplate find(String key) {
+        LoadedTemplate loaded = templates.get(key);
+        if (hotReload) {
+            loaded = reloadIfChanged(key, loaded);
+        }
+        return loaded != null ? loaded.template() : null;
+    }
+
+    private LoadedTemplate reloadIfChanged(String key, LoadedTemplate loaded) {
+        try {
+            Resource resource = loaded != null ? loaded.resource() : resourceLoader.getResource(location + key + EXTENSION);
+            if (!resource.exists()) {
+                if (loaded != null) {
+                    templates.remove(key);
+                }
+                return null;
+            }
+            if (loaded != null && lastModified(resource) == loaded.lastModified()) {
+                return loaded;
+            }
+            LoadedTemplate reloaded = load(key, resource);
+            templates.put(key, reloaded);
+            logger.info("Reloaded email template {}", key);
+            return reloaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reload email template " + key, e);
+        }
+    }
+
+    private static LoadedTemplate load(String key, Resource resource) throws IOException {
+        String source = resource.getContentAsString(StandardCharsets.UTF_8);
+        return new LoadedTemplate(resource, lastModified(resource), CompiledEmailTemplate.compile(key, source));
+    }
+
+    /**
+     * Returns the modification time of a template file; templates packaged in a jar never change.
+     */
+    private static long lastModified(Resource resource) throws IOException {
+        return resource.isFile() ? resource.lastModified() : 0L;
+    }
+
+    private record LoadedTemplate(Resource resource, long lastModified, CompiledEmailTemplate template) {
+    }
+}
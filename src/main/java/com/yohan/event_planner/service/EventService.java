@@ -6,10 +6,12 @@ import com.yohan.event_planner.dto.EventCreateDTO;
 import com.yohan.event_planner.dto.EventFilterDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.exception.EventNotFoundException;
 import com.yohan.event_planner.exception.EventOwnershipException;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
 import com.yohan.event_planner.exception.UserNotFoundException;
 import org.springframework.data.domain.Page;
 
@@ -61,6 +63,35 @@ public interface EventService {
      */
     Page<EventResponseDTO> getConfirmedEventsForCurrentUser(EventFilterDTO filter, int pageNumber, int pageSize);
 
+    /**
+     * Retrieves a paginated list of confirmed events for the current user, optionally replacing
+     * the exact total count with a planner estimate.
+     *
+     * @param filter the filtering criteria including time range, labels, and sort options
+     * @param pageNumber zero-based page number to retrieve
+     * @param pageSize maximum number of events to return per page
+     * @param estimateTotal whether to estimate the total number of events instead of counting them
+     * @return paginated list of confirmed events matching the filter criteria
+     * @throws UnauthorizedException if the user is not authenticated
+     */
+    Page<EventResponseDTO> getConfirmedEventsForCurrentUser(EventFilterDTO filter, int pageNumber, int pageSize, boolean estimateTotal);
+
+    /**
+     * Retrieves the next page of confirmed events for the current user using keyset pagination.
+     *
+     * <p>Each page continues after the sort position encoded in the cursor, so deep pages cost
+     * the same as the first one and no total count is computed unless an estimate is requested.</p>
+     *
+     * @param filter the filtering criteria including time range, labels, and sort options
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param pageSize maximum number of events to return
+     * @param estimateTotal whether to include an estimate of the total number of events
+     * @return the page of confirmed events with the cursor for the following page
+     * @throws InvalidCalendarParameterException if the cursor is malformed or was issued for the
+     *         other sort direction
+     */
+    KeysetPageDTO<EventResponseDTO> getConfirmedEventsForCurrentUserAfter(EventFilterDTO filter, String cursor, int pageSize, boolean estimateTotal);
+
     /**
      * Retrieves confirmed events using cursor-based pagination for infinite scrolling.
      *
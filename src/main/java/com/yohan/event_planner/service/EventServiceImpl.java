@@ -1,11 +1,13 @@
 package com.yohan.event_planner.service;
 
+import com.blazebit.persistence.Keyset;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.business.EventBO;
 import com.yohan.event_planner.business.RecurringEventBO;
 import com.yohan.event_planner.business.UserBO;
 import com.yohan.event_planner.business.handler.EventPatchHandler;
 import com.yohan.event_planner.dao.EventDAO;
+import com.yohan.event_planner.dao.KeysetCursorCodec;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.RecurringEvent;
@@ -18,6 +20,7 @@ import com.yohan.event_planner.dto.EventChangeContextDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventResponseDTOFactory;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.EventAlreadyConfirmedException;
@@ -190,6 +193,7 @@ public class EventServiceImpl implements EventService {
     private final OwnershipValidator ownershipValidator;
     private final AuthenticatedUserProvider authenticatedUserProvider;
     private final ClockProvider clockProvider;
+    private final RecurrenceMaterializationService recurrenceMaterializationService;
 
     public EventServiceImpl(
             EventBO eventBO,
@@ -201,7 +205,8 @@ public class EventServiceImpl implements EventService {
             EventResponseDTOFactory eventResponseDTOFactory,
             OwnershipValidator ownershipValidator,
             AuthenticatedUserProvider authenticatedUserProvider,
-            ClockProvider clockProvider
+            ClockProvider clockProvider,
+            RecurrenceMaterializationService recurrenceMaterializationService
     ) {
         this.eventBO = eventBO;
         this.recurringEventBO = recurringEventBO;
@@ -213,6 +218,7 @@ public class EventServiceImpl implements EventService {
         this.ownershipValidator = ownershipValidator;
         this.authenticatedUserProvider = authenticatedUserProvider;
         this.clockProvider = clockProvider;
+        this.recurrenceMaterializationService = recurrenceMaterializationService;
     }
 
     /**
@@ -267,15 +273,86 @@ public class EventServiceImpl implements EventService {
      * @throws InvalidTimeException if CUSTOM filter has start time after end time
      */
     public Page<EventResponseDTO> getConfirmedEventsForCurrentUser(EventFilterDTO filter, int pageNumber, int pageSize) {
+        return getConfirmedEventsForCurrentUser(filter, pageNumber, pageSize, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>With {@code estimateTotal} the DAO skips its count query. A page shorter than requested
+     * is the last one, so its offset gives the exact total; otherwise the total comes from the
+     * planner estimate, raised to at least the number of events seen so far.</p>
+     */
+    @Override
+    public Page<EventResponseDTO> getConfirmedEventsForCurrentUser(EventFilterDTO filter, int pageNumber, int pageSize, boolean estimateTotal) {
         User viewer = authenticatedUserProvider.getCurrentUser();
+        EventFilterDTO sanitizedFilter = resolveSearchFilter(filter, viewer);
 
+        if (!estimateTotal) {
+            PagedList<Event> confirmedEvents = eventDAO.findConfirmedEvents(viewer.getId(), sanitizedFilter, pageNumber, pageSize);
+            return new PageImpl<>(toResponseDTOs(confirmedEvents), PageRequest.of(pageNumber, pageSize), confirmedEvents.getTotalSize());
+        }
+
+        PagedList<Event> confirmedEvents = eventDAO.findConfirmedEvents(viewer.getId(), sanitizedFilter, pageNumber, pageSize, false);
+        List<EventResponseDTO> dtos = toResponseDTOs(confirmedEvents);
+
+        long seen = (long) pageNumber * pageSize + dtos.size();
+        long total = dtos.size() < pageSize && (pageNumber == 0 || !dtos.isEmpty())
+                ? seen
+                : Math.max(seen, eventDAO.estimateConfirmedEvents(viewer.getId(), sanitizedFilter));
+
+        return new PageImpl<>(dtos, PageRequest.of(pageNumber, pageSize), total);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The cursor is decoded before any query runs, so a bad cursor is rejected without touching
+     * the database. A page shorter than requested ends the results and carries no cursor.</p>
+     */
+    @Override
+    public KeysetPageDTO<EventResponseDTO> getConfirmedEventsForCurrentUserAfter(EventFilterDTO filter, String cursor, int pageSize, boolean estimateTotal) {
+        User viewer = authenticatedUserProvider.getCurrentUser();
+
+        boolean descending = Boolean.TRUE.equals(filter.sortDescending());
+        Keyset after = cursor == null || cursor.isBlank()
+                ? null
+                : KeysetCursorCodec.decode(cursor, descending, ZonedDateTime.class, Long.class);
+        EventFilterDTO sanitizedFilter = resolveSearchFilter(filter, viewer);
+
+        PagedList<Event> confirmedEvents = eventDAO.findConfirmedEventsAfter(viewer.getId(), sanitizedFilter, after, pageSize);
+        List<EventResponseDTO> dtos = toResponseDTOs(confirmedEvents);
+
+        String nextCursor = dtos.size() < pageSize
+                ? null
+                : KeysetCursorCodec.encode(confirmedEvents.getKeysetPage().getHighest(), descending);
+
+        if (!estimateTotal) {
+            return new KeysetPageDTO<>(dtos, nextCursor, null, false);
+        }
+        if (after == null && nextCursor == null) {
+            // The first page holds every result
+            return new KeysetPageDTO<>(dtos, null, (long) dtos.size(), false);
+        }
+        return new KeysetPageDTO<>(dtos, nextCursor, eventDAO.estimateConfirmedEvents(viewer.getId(), sanitizedFilter), true);
+    }
+
+    /**
+     * Resolves the time filter of a search into the concrete window passed to {@link EventDAO}.
+     *
+     * @param filter the filter as received from the caller
+     * @param viewer the user whose clock resolves relative time filters
+     * @return the filter with resolved start and end times
+     * @throws InvalidTimeException if CUSTOM filter has start time after end time
+     */
+    private EventFilterDTO resolveSearchFilter(EventFilterDTO filter, User viewer) {
         ZonedDateTime now = ZonedDateTime.now(clockProvider.getClockForUser(viewer));
         TimeRange timeRange = TimeFilterResolver.resolveTimeRange(filter.timeFilter(), filter.start(), filter.end(), now);
 
         // For incomplete past event filtering, use 'now' as the reference time
         ZonedDateTime referenceTime = Boolean.FALSE.equals(filter.includeIncompletePastEvents()) ? now : timeRange.end();
         
-        EventFilterDTO sanitizedFilter = new EventFilterDTO(
+        return new EventFilterDTO(
                 filter.labelId(),
                 TimeFilter.ALL, // resolved meaning - actual times passed to DAO
                 timeRange.start(),
@@ -283,14 +360,12 @@ public class EventServiceImpl implements EventService {
                 filter.sortDescending(),
                 filter.includeIncompletePastEvents()
         );
+    }
 
-        PagedList<Event> confirmedEvents = eventDAO.findConfirmedEvents(viewer.getId(), sanitizedFilter, pageNumber, pageSize);
-
-        List<EventResponseDTO> dtos = confirmedEvents.stream()
+    private List<EventResponseDTO> toResponseDTOs(PagedList<Event> events) {
+        return events.stream()
                 .map(eventResponseDTOFactory::createFromEvent)
                 .toList();
-
-        return new PageImpl<>(dtos, PageRequest.of(pageNumber, pageSize), confirmedEvents.getTotalSize());
     }
 
 
@@ -298,8 +373,8 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      *
      * <p>This implementation uses cursor-based pagination for efficient scrolling through
-     * large event datasets. Delegates to EventBO for the actual data retrieval and converts
-     * to DTOs for presentation.</p>
+     * large event datasets. Delegates to EventBO, which projects each page straight into
+     * DTOs with a single query.</p>
      *
      * @param endTimeCursor cursor position based on event end time
      * @param startTimeCursor cursor position based on event start time
@@ -316,17 +391,13 @@ public class EventServiceImpl implements EventService {
     ) {
         User viewer = authenticatedUserProvider.getCurrentUser();
 
-        List<Event> events = eventBO.getConfirmedEventsPage(
+        return eventBO.getConfirmedEventsPage(
                 viewer.getId(),
                 endTimeCursor,
                 startTimeCursor,
                 idCursor,
                 limit
         );
-
-        return events.stream()
-                .map(eventResponseDTOFactory::createFromEvent)
-                .toList();
     }
 
     /**
@@ -343,12 +414,10 @@ public class EventServiceImpl implements EventService {
         User viewer = authenticatedUserProvider.getCurrentUser();
         logger.debug("Retrieving unconfirmed events for user {}", viewer.getId());
 
-        List<Event> unconfirmedEvents = eventBO.getUnconfirmedEventsForUser(viewer.getId());
+        List<EventResponseDTO> unconfirmedEvents = eventBO.getUnconfirmedEventsForUser(viewer.getId());
 
         logger.info("Retrieved {} unconfirmed events for user {}", unconfirmedEvents.size(), viewer.getId());
-        return unconfirmedEvents.stream()
-                .map(eventResponseDTOFactory::createFromEvent)
-                .toList();
+        return unconfirmedEvents;
     }
 
     /**
@@ -356,24 +425,27 @@ public class EventServiceImpl implements EventService {
      *
      * <p>This implementation coordinates complex day view generation including:</p>
      * <ul>
-     *   <li>Solidification of past recurring events into concrete events</li>
+     *   <li>On-demand catch-up of recurrence materialization when the viewer is behind</li>
      *   <li>Generation of virtual events for future recurring patterns</li>
      *   <li>Timezone conversion for proper local time display</li>
      *   <li>Delegation to EventBO for business logic execution</li>
      * </ul>
      *
+     * <p>The view itself runs in a read-only transaction. Past occurrences are normally already
+     * materialized by the recurrence materialization job; a catch-up write only happens in its own
+     * transaction when the viewer's watermark shows they are behind.</p>
+     *
      * @param selectedDate the date to generate view for
      * @return comprehensive day view with confirmed and virtual events
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public DayViewDTO generateDayView(LocalDate selectedDate) {
         User viewer = authenticatedUserProvider.getCurrentUser();
         DayViewTimeContext timeContext = calculateDayViewTimeContext(viewer, selectedDate);
         
-        // Solidify past recurrences if needed
+        // Materialize past recurrences if the viewer is behind
         if (timeContext.shouldSolidifyRecurrences()) {
-            eventBO.solidifyRecurrences(viewer.getId(), timeContext.startOfDay(), 
-                    timeContext.solidifyEndWindow(), timeContext.userZoneId());
+            catchUpRecurrencesIfBehind(viewer, timeContext.solidifyEndWindow());
         }
 
         // Fetch confirmed events
@@ -395,24 +467,26 @@ public class EventServiceImpl implements EventService {
      * <p>This implementation coordinates complex week view generation including:</p>
      * <ul>
      *   <li>Week boundary calculation (Monday to Sunday)</li>
-     *   <li>Solidification of past recurring events within the week</li>
+     *   <li>On-demand catch-up of recurrence materialization within the week</li>
      *   <li>Generation of virtual events for future recurring patterns</li>
      *   <li>Timezone-aware time window calculations</li>
      *   <li>Delegation to EventBO for business logic execution</li>
      * </ul>
      *
+     * <p>Like {@link #generateDayView(LocalDate)} the view is read-only and only triggers a
+     * separate catch-up transaction when the viewer's watermark is behind.</p>
+     *
      * @param anchorDate any date within the desired week
      * @return comprehensive week view with confirmed and virtual events
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public WeekViewDTO generateWeekView(LocalDate anchorDate) {
         User viewer = authenticatedUserProvider.getCurrentUser();
         WeekViewTimeContext timeContext = calculateWeekViewTimeContext(viewer, anchorDate);
         
-        // Solidify past recurrences if needed
+        // Materialize past recurrences if the viewer is behind
         if (timeContext.shouldSolidifyRecurrences()) {
-            eventBO.solidifyRecurrences(viewer.getId(), timeContext.weekStartTime(), 
-                    timeContext.solidifyEndWindow(), timeContext.userZoneId());
+            catchUpRecurrencesIfBehind(viewer, timeContext.solidifyEndWindow());
         }
 
         // Fetch confirmed events
@@ -754,6 +828,23 @@ public class EventServiceImpl implements EventService {
         return updatedCount;
     }
 
+    /**
+     * Materializes the viewer's past recurring occurrences if their watermark lags behind the view.
+     *
+     * <p>{@link RecurrenceMaterializationService#materializeThrough} runs in its own transaction,
+     * so the calling view stays read-only and sees the new events once it commits.</p>
+     *
+     * @param viewer the user viewing the calendar
+     * @param requiredThrough the instant up to which past occurrences must exist as events
+     */
+    private void catchUpRecurrencesIfBehind(User viewer, ZonedDateTime requiredThrough) {
+        if (recurrenceMaterializationService.isBehind(viewer, requiredThrough)) {
+            logger.debug("Recurrence materialization for user {} is behind {}, catching up",
+                    viewer.getId(), requiredThrough);
+            recurrenceMaterializationService.materializeThrough(viewer.getId(), requiredThrough);
+        }
+    }
+
     /**
      * Time context record for day view calculations.
      * 
@@ -820,11 +911,7 @@ public class EventServiceImpl implements EventService {
      * @return list of confirmed events for the day
      */
     private List<EventResponseDTO> fetchConfirmedEventsForDay(User viewer, DayViewTimeContext timeContext) {
-        return eventBO
-                .getConfirmedEventsForUserInRange(viewer.getId(), timeContext.startOfDay(), timeContext.endOfDay())
-                .stream()
-                .map(eventResponseDTOFactory::createFromEvent)
-                .toList();
+        return eventBO.getConfirmedEventsForUserInRange(viewer.getId(), timeContext.startOfDay(), timeContext.endOfDay());
     }
 
     /**
@@ -916,11 +1003,7 @@ public class EventServiceImpl implements EventService {
      * @return list of confirmed events for the week
      */
     private List<EventResponseDTO> fetchConfirmedEventsForWeek(User viewer, WeekViewTimeContext timeContext) {
-        return eventBO
-                .getConfirmedEventsForUserInRange(viewer.getId(), timeContext.weekStartTime(), timeContext.weekEndTime())
-                .stream()
-                .map(eventResponseDTOFactory::createFromEvent)
-                .toList();
+        return eventBO.getConfirmedEventsForUserInRange(viewer.getId(), timeContext.weekStartTime(), timeContext.weekEndTime());
     }
 
     /**
@@ -0,0 +1,350 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceRuleVO;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.enums.RecurrenceFrequency;
+import com.yohan.event_planner.time.TimeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Writes a calendar export as an iCalendar (RFC 5545) file.
+ *
+ * <p>Events are written with UTC start and end times. A recurring event becomes a single
+ * VEVENT whose DTSTART is its first occurrence in the creator's time zone, with an RRULE for
+ * its recurrence and an EXDATE for its skip days, so calendar clients expand it themselves.
+ * Lines longer than 75 octets are folded as the specification requires.</p>
+ *
+ * <p>Before the first entry referencing the creator's time zone, a VTIMEZONE describing it is
+ * written, built from the current rules of the JDK time zone database. A rule that was not
+ * compiled on load is written from its stored rule string instead of being dropped.</p>
+ */
+final class IcsCalendarExportWriter implements CalendarExportWriter {
+
+    static final String PRODUCT_ID = "-//Event Planner//Calendar Export//EN";
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final Instant exportedAt;
+    private final String timestamp;
+    private boolean timeZoneWritten;
+
+    /**
+     * @param out the writer to write the file to
+     * @param zone the creator's time zone, in which recurring event times apply
+     * @param exportedAt the export time, written as DTSTAMP of every entry
+     */
+    IcsCalendarExportWriter(Writer out, ZoneId zone, Instant exportedAt) {
+        this.out = out;
+        this.zone = zone;
+        this.exportedAt = exportedAt;
+        this.timestamp = UTC_DATE_TIME.format(exportedAt.atOffset(ZoneOffset.UTC));
+    }
+
+    @Override
+    public void begin() throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:" + PRODUCT_ID);
+        writeLine("CALSCALE:GREGORIAN");
+    }
+
+    @Override
+    public void writeEvent(Event event) throws IOException {
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:event-" + event.getId() + "@event-planner");
+        writeLine("DTSTAMP:" + timestamp);
+        writeLine("DTSTART:" + UTC_DATE_TIME.format(event.getStartTime().withZoneSameInstant(ZoneOffset.UTC)));
+        if (event.getEndTime() != null) {
+            writeLine("DTEND:" + UTC_DATE_TIME.format(event.getEndTime().withZoneSameInstant(ZoneOffset.UTC)));
+        }
+        writeCommonProperties(event.getName(), event.getDescription(),
+                event.getLabel() != null ? event.getLabel().getName() : null);
+        writeLine("END:VEVENT");
+    }
+
+    @Override
+    public void writeRecurringEvent(RecurringEvent recurringEvent) throws IOException {
+        LocalDate startDate = recurringEvent.getStartDate();
+        LocalTime startTime = recurringEvent.getStartTime();
+        LocalTime endTime = recurringEvent.getEndTime();
+        String tzid = ";TZID=" + zone.getId() + ":";
+
+        writeTimeZone();
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:recurring-event-" + recurringEvent.getId() + "@event-planner");
+        writeLine("DTSTAMP:" + timestamp);
+        writeLine("DTSTART" + tzid + LOCAL_DATE_TIME.format(LocalDateTime.of(startDate, startTime)));
+        if (endTime != null) {
+            // An end time before the start time means the occurrence ends on the next day
+            LocalDate endDate = endTime.isAfter(startTime) ? startDate : startDate.plusDays(1);
+            writeLine("DTEND" + tzid + LOCAL_DATE_TIME.format(LocalDateTime.of(endDate, endTime)));
+        }
+
+        String rrule = toRRule(recurringEvent.getRecurrenceRule(), recurringEvent.getEndDate(), startTime);
+        if (rrule != null) {
+            writeLine("RRULE:" + rrule);
+            if (!recurringEvent.getSkipDays().isEmpty()) {
+                StringJoiner exdates = new StringJoiner(",");
+                recurringEvent.getSkipDays().stream()
+                        .sorted()
+                        .forEach(day -> exdates.add(LOCAL_DATE_TIME.format(LocalDateTime.of(day, startTime))));
+                writeLine("EXDATE" + tzid + exdates);
+            }
+        }
+
+        writeCommonProperties(recurringEvent.getName(), recurringEvent.getDescription(),
+                recurringEvent.getLabel() != null ? recurringEvent.getLabel().getName() : null);
+        writeLine("END:VEVENT");
+    }
+
+    @Override
+    public void end() throws IOException {
+        writeLine("END:VCALENDAR");
+    }
+
+    private void writeCommonProperties(String name, String description, String labelName) throws IOException {
+        if (name != null) {
+            writeLine("SUMMARY:" + escapeText(name));
+        }
+        if (description != null && !description.isEmpty()) {
+            writeLine("DESCRIPTION:" + escapeText(description));
+        }
+        if (labelName != null) {
+            writeLine("CATEGORIES:" + escapeText(labelName));
+        }
+    }
+
+    /**
+     * Writes the VTIMEZONE of the creator's time zone the first time it is referenced.
+     *
+     * <p>Zones with daylight saving time get one STANDARD and one DAYLIGHT component repeating
+     * yearly; zones without transition rules get a single STANDARD component with their current
+     * offset.</p>
+     */
+    private void writeTimeZone() throws IOException {
+        if (timeZoneWritten) {
+            return;
+        }
+        timeZoneWritten = true;
+
+        ZoneRules rules = zone.getRules();
+        writeLine("BEGIN:VTIMEZONE");
+        writeLine("TZID:" + zone.getId());
+        List<ZoneOffsetTransitionRule> transitionRules = rules.getTransitionRules();
+        if (transitionRules.isEmpty()) {
+            ZoneOffset offset = rules.getOffset(exportedAt);
+            writeLine("BEGIN:STANDARD");
+            writeLine("DTSTART:19700101T000000");
+            writeLine("TZOFFSETFROM:" + formatOffset(offset));
+            writeLine("TZOFFSETTO:" + formatOffset(offset));
+            writeLine("END:STANDARD");
+        } else {
+            for (ZoneOffsetTransitionRule rule : transitionRules) {
+                ZoneOffsetTransition transition = rule.createTransition(1970);
+                String component = rule.getOffsetAfter().equals(rule.getStandardOffset()) ? "STANDARD" : "DAYLIGHT";
+                writeLine("BEGIN:" + component);
+                writeLine("DTSTART:" + LOCAL_DATE_TIME.format(transition.getDateTimeBefore()));
+                writeLine("TZOFFSETFROM:" + formatOffset(rule.getOffsetBefore()));
+                writeLine("TZOFFSETTO:" + formatOffset(rule.getOffsetAfter()));
+                writeLine("RRULE:" + toYearlyRule(rule));
+                writeLine("END:" + component);
+            }
+        }
+        writeLine("END:VTIMEZONE");
+    }
+
+    /**
+     * Expresses a yearly transition rule as an RRULE: "the n-th weekday" and "the last weekday"
+     * map to BYDAY directly, other weekday-on-or-after (or on-or-before, for negative day
+     * indicators) rules are bounded with BYMONTHDAY.
+     */
+    private static String toYearlyRule(ZoneOffsetTransitionRule rule) {
+        StringBuilder rrule = new StringBuilder("FREQ=YEARLY;BYMONTH=").append(rule.getMonth().getValue());
+        int dayOfMonth = rule.getDayOfMonthIndicator();
+        DayOfWeek dayOfWeek = rule.getDayOfWeek();
+        if (dayOfWeek == null) {
+            rrule.append(";BYMONTHDAY=").append(dayOfMonth);
+        } else if (dayOfMonth == -1) {
+            rrule.append(";BYDAY=-1").append(dayCode(dayOfWeek));
+        } else if (dayOfMonth > 0 && (dayOfMonth - 1) % 7 == 0) {
+            rrule.append(";BYDAY=").append((dayOfMonth - 1) / 7 + 1).append(dayCode(dayOfWeek));
+        } else {
+            int first = dayOfMonth > 0 ? dayOfMonth : dayOfMonth - 6;
+            StringJoiner days = new StringJoiner(",");
+            for (int day = first; day < first + 7; day++) {
+                days.add(String.valueOf(day));
+            }
+            rrule.append(";BYDAY=").append(dayCode(dayOfWeek)).append(";BYMONTHDAY=").append(days);
+        }
+        return rrule.toString();
+    }
+
+    private static String formatOffset(ZoneOffset offset) {
+        int totalSeconds = offset.getTotalSeconds();
+        int absolute = Math.abs(totalSeconds);
+        String formatted = String.format(Locale.ROOT, "%s%02d%02d",
+                totalSeconds < 0 ? "-" : "+", absolute / 3600, absolute / 60 % 60);
+        return absolute % 60 == 0 ? formatted : formatted + String.format(Locale.ROOT, "%02d", absolute % 60);
+    }
+
+    /**
+     * Builds the RRULE value of a recurrence rule, or returns null when the rule has no
+     * expressible recurrence.
+     *
+     * <p>The compiled rule is used when present. Otherwise the stored canonical rule string is
+     * parsed, and a summary already written in RRULE syntax is passed through, so a rule that
+     * failed to compile on load still exports its recurrence.</p>
+     */
+    private String toRRule(RecurrenceRuleVO recurrenceRule, LocalDate endDate, LocalTime startTime) {
+        if (recurrenceRule == null) {
+            return null;
+        }
+
+        StringBuilder rrule;
+        CompiledRecurrenceRule compiled = recurrenceRule.getCompiled();
+        if (compiled != null) {
+            rrule = toRRule(compiled.frequency(), compiled.parsed().daysOfWeek(), compiled.ordinal());
+        } else if (recurrenceRule.getRule() != null) {
+            rrule = parseStoredRule(recurrenceRule.getRule());
+        } else {
+            rrule = parseRRuleSummary(recurrenceRule.getSummary());
+        }
+        if (rrule == null) {
+            return null;
+        }
+
+        boolean bounded = rrule.indexOf("UNTIL=") >= 0 || rrule.indexOf("COUNT=") >= 0;
+        if (!bounded && endDate != null && !TimeUtils.FAR_FUTURE_DATE.equals(endDate)) {
+            // UNTIL must be in UTC when DTSTART carries a TZID
+            rrule.append(";UNTIL=").append(UTC_DATE_TIME.format(
+                    LocalDateTime.of(endDate, startTime).atZone(zone).withZoneSameInstant(ZoneOffset.UTC)));
+        }
+        return rrule.toString();
+    }
+
+    private static StringBuilder toRRule(RecurrenceFrequency frequency, Set<DayOfWeek> daysOfWeek, int ordinal) {
+        StringBuilder rrule = new StringBuilder("FREQ=").append(frequency.name());
+
+        if (frequency != RecurrenceFrequency.DAILY) {
+            String prefix = frequency == RecurrenceFrequency.MONTHLY ? String.valueOf(ordinal) : "";
+            StringJoiner days = new StringJoiner(",");
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (daysOfWeek.contains(day)) {
+                    days.add(prefix + dayCode(day));
+                }
+            }
+            rrule.append(";BYDAY=").append(days);
+        }
+        return rrule;
+    }
+
+    /**
+     * Parses a stored rule in the canonical {@code FREQUENCY:PARAMS} format, e.g.
+     * {@code MONTHLY:2:TUESDAY}. Returns null when the rule cannot be parsed.
+     */
+    private static StringBuilder parseStoredRule(String rule) {
+        String[] parts = rule.trim().split(":", -1);
+        try {
+            RecurrenceFrequency frequency = RecurrenceFrequency.valueOf(parts[0].trim());
+            return switch (frequency) {
+                case DAILY -> toRRule(frequency, EnumSet.allOf(DayOfWeek.class), 0);
+                case WEEKLY -> toRRule(frequency, parseDays(parts[1]), 0);
+                case MONTHLY -> toRRule(frequency, parseDays(parts[2]), Integer.parseInt(parts[1].trim()));
+            };
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String days) {
+        Set<DayOfWeek> parsed = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : days.split(",")) {
+            parsed.add(DayOfWeek.valueOf(day.trim()));
+        }
+        return parsed;
+    }
+
+    /**
+     * Passes through a summary written in RRULE syntax; any other summary is not exportable.
+     */
+    private static StringBuilder parseRRuleSummary(String summary) {
+        if (summary == null) {
+            return null;
+        }
+        String value = summary.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+        return value.regionMatches(true, 0, "FREQ=", 0, 5) ? new StringBuilder(value) : null;
+    }
+
+    private static String dayCode(DayOfWeek day) {
+        return day.name().substring(0, 2);
+    }
+
+    /**
+     * Escapes a TEXT property value: backslashes, semicolons, commas and line breaks.
+     */
+    static String escapeText(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes one content line, folding it so no physical line exceeds 75 UTF-8 octets. Folds
+     * never split a code point.
+     */
+    private void writeLine(String line) throws IOException {
+        int lineOctets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int chars = Character.charCount(codePoint);
+            int octets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                out.write(CRLF);
+                out.write(' ');
+                lineOctets = 1;
+            }
+            out.write(line, i, chars);
+            lineOctets += octets;
+            i += chars;
+        }
+        out.write(CRLF);
+    }
+}
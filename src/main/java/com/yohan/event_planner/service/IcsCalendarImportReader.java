@@ -0,0 +1,400 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+import com.yohan.event_planner.exception.ErrorCode;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Reads a calendar import from an iCalendar (RFC 5545) file, one entry per VEVENT.
+ *
+ * <p>Folded lines are unfolded and TEXT values unescaped as they are read. Times in UTC are
+ * moved to the user's time zone, times with a TZID keep that zone, and floating times and
+ * all-day dates are taken in the user's zone; an all-day event becomes an event from midnight
+ * to midnight. A missing DTEND is derived from DURATION. CATEGORIES supplies the label, using
+ * its first category. Nested components such as VALARM, and time zone definitions, are
+ * skipped, so TZIDs must be IANA zone IDs.</p>
+ *
+ * <h2>Recurrence Rules</h2>
+ * <p>An RRULE is mapped onto the rules recurring events support: {@code FREQ=DAILY},
+ * {@code FREQ=WEEKLY} with BYDAY days, or {@code FREQ=MONTHLY} with BYDAY days sharing one
+ * ordinal, optionally ending with UNTIL; a daily rule with BYDAY becomes a weekly rule. EXDATEs
+ * become skip days. Other rules, such as intervals, counts or days of the month, cannot be
+ * represented and fail their entry rather than being imported with different dates.</p>
+ */
+final class IcsCalendarImportReader implements CalendarImportReader {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+    private static final Set<String> SUPPORTED_RULE_PARTS = Set.of("FREQ", "BYDAY", "UNTIL", "INTERVAL", "WKST");
+
+    private final BufferedReader in;
+    private final ZoneId zone;
+    private String lookahead;
+    private boolean started;
+    private int eventNumber;
+
+    /**
+     * @param in the reader to read the file from
+     * @param zone the importing user's time zone, in which floating times and recurring event times apply
+     */
+    IcsCalendarImportReader(BufferedReader in, ZoneId zone) {
+        this.in = in;
+        this.zone = zone;
+    }
+
+    @Override
+    public CalendarImportRow next() throws IOException {
+        String line;
+        while ((line = readContentLine()) != null) {
+            if (!started) {
+                if (line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.equalsIgnoreCase("BEGIN:VCALENDAR")) {
+                    started = true;
+                } else if (!line.isBlank()) {
+                    throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+                }
+            } else if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                return readEvent(++eventNumber);
+            }
+        }
+        if (!started) {
+            throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        return null;
+    }
+
+    /**
+     * Reads the properties of a VEVENT up to its END line and converts them to an entry.
+     */
+    private CalendarImportRow readEvent(int number) throws IOException {
+        Map<String, Property> properties = new HashMap<>();
+        List<Property> exdates = new ArrayList<>();
+        int nestedDepth = 0;
+
+        String line;
+        while ((line = readContentLine()) != null) {
+            String upper = line.toUpperCase(Locale.ROOT);
+            if (upper.equals("END:VEVENT") && nestedDepth == 0) {
+                try {
+                    return CalendarImportRow.read(number, toEntry(properties, exdates));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    return CalendarImportRow.failed(number, e.getMessage());
+                }
+            }
+            if (upper.startsWith("BEGIN:")) {
+                nestedDepth++;
+            } else if (upper.startsWith("END:")) {
+                nestedDepth--;
+            } else if (nestedDepth == 0) {
+                Property property = Property.parse(line);
+                if (property == null) {
+                    continue;
+                }
+                if (property.name().equals("EXDATE")) {
+                    exdates.add(property);
+                } else {
+                    properties.putIfAbsent(property.name(), property);
+                }
+            }
+        }
+        throw new InvalidCalendarParameterException(ErrorCode.INVALID_IMPORT_FILE);
+    }
+
+    private CalendarExportRowDTO toEntry(Map<String, Property> properties, List<Property> exdates) {
+        Property status = properties.get("STATUS");
+        if (status != null && status.value().equalsIgnoreCase("CANCELLED")) {
+            throw new IllegalArgumentException("Cancelled events are not imported");
+        }
+
+        String name = text(properties.get("SUMMARY"));
+        String description = text(properties.get("DESCRIPTION"));
+        String label = properties.containsKey("CATEGORIES") ? firstCategory(properties.get("CATEGORIES").value()) : null;
+
+        Property dtstart = properties.get("DTSTART");
+        if (dtstart == null) {
+            throw new IllegalArgumentException("DTSTART is required");
+        }
+        boolean allDay = isDate(dtstart);
+        ZonedDateTime start = parseDateTime(dtstart);
+        ZonedDateTime end = null;
+        if (properties.containsKey("DTEND")) {
+            end = parseDateTime(properties.get("DTEND"));
+        } else if (properties.containsKey("DURATION")) {
+            end = start.plus(parseDuration(properties.get("DURATION").value()));
+        } else if (allDay) {
+            end = start.plusDays(1);
+        }
+
+        Property rrule = properties.get("RRULE");
+        if (rrule == null) {
+            return new CalendarExportRowDTO(CalendarExportRowDTO.TYPE_EVENT, null, name, description, label,
+                    start, end, start.getZone().getId(), null,
+                    null, null, null, null, null, null);
+        }
+
+        // Recurring event times are wall-clock times in the user's zone
+        ZonedDateTime localStart = start.withZoneSameInstant(zone);
+        ZonedDateTime localEnd = end != null ? end.withZoneSameInstant(zone) : null;
+        if (localEnd != null && !localEnd.isBefore(localStart.plusDays(1))) {
+            throw new IllegalArgumentException("Recurring events lasting a day or longer are not supported");
+        }
+
+        Map<String, String> parts = ruleParts(rrule.value());
+        List<LocalDate> skipDays = new ArrayList<>();
+        for (Property exdate : exdates) {
+            for (String value : exdate.value().split(",")) {
+                skipDays.add(parseDateTime(exdate.withValue(value.trim())).withZoneSameInstant(zone).toLocalDate());
+            }
+        }
+
+        return new CalendarExportRowDTO(CalendarExportRowDTO.TYPE_RECURRING_EVENT, null, name, description, label,
+                null, null, null, null,
+                localStart.toLocalDate(),
+                parts.containsKey("UNTIL") ? parseUntil(parts.get("UNTIL"), start.getZone()) : null,
+                localStart.toLocalTime(),
+                localEnd != null ? localEnd.toLocalTime() : null,
+                toRecurrence(parts, localStart.getDayOfWeek()),
+                skipDays.isEmpty() ? null : skipDays.stream().sorted().toList());
+    }
+
+    private static Map<String, String> ruleParts(String rrule) {
+        Map<String, String> parts = new LinkedHashMap<>();
+        for (String part : rrule.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq > 0) {
+                parts.put(part.substring(0, eq).trim().toUpperCase(Locale.ROOT), part.substring(eq + 1).trim());
+            }
+        }
+        for (String key : parts.keySet()) {
+            if (!SUPPORTED_RULE_PARTS.contains(key)) {
+                throw new IllegalArgumentException("Unsupported recurrence rule part: " + key);
+            }
+        }
+        if (parts.containsKey("INTERVAL") && !parts.get("INTERVAL").equals("1")) {
+            throw new IllegalArgumentException("Recurrence intervals other than 1 are not supported");
+        }
+        return parts;
+    }
+
+    /**
+     * Converts the parts of an RRULE into the canonical rule of a recurring event, such as
+     * {@code WEEKLY:MONDAY,FRIDAY} or {@code MONTHLY:2:TUESDAY}.
+     */
+    private static String toRecurrence(Map<String, String> parts, DayOfWeek startDay) {
+        String frequency = parts.getOrDefault("FREQ", "").toUpperCase(Locale.ROOT);
+        String byDay = parts.get("BYDAY");
+
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        String ordinal = null;
+        if (byDay != null) {
+            for (String code : byDay.toUpperCase(Locale.ROOT).split(",")) {
+                code = code.trim();
+                if (code.length() < 2 || !DAY_CODES.containsKey(code.substring(code.length() - 2))) {
+                    throw new IllegalArgumentException("Invalid BYDAY value: " + code);
+                }
+                String dayOrdinal = code.substring(0, code.length() - 2);
+                if (ordinal != null && !ordinal.equals(dayOrdinal)) {
+                    throw new IllegalArgumentException("Recurrence days with different ordinals are not supported");
+                }
+                ordinal = dayOrdinal;
+                days.add(DAY_CODES.get(code.substring(code.length() - 2)));
+            }
+        }
+
+        switch (frequency) {
+            case "DAILY" -> {
+                return days.isEmpty() ? "DAILY:" : "WEEKLY:" + dayNames(days);
+            }
+            case "WEEKLY" -> {
+                if (ordinal != null && !ordinal.isEmpty()) {
+                    throw new IllegalArgumentException("Weekly recurrence days cannot have ordinals");
+                }
+                return "WEEKLY:" + dayNames(days.isEmpty() ? EnumSet.of(startDay) : days);
+            }
+            case "MONTHLY" -> {
+                if (days.isEmpty() || ordinal.isEmpty()) {
+                    throw new IllegalArgumentException("Monthly recurrences must repeat on an ordinal weekday, such as 2TU");
+                }
+                return "MONTHLY:" + ordinal + ":" + dayNames(days);
+            }
+            default -> throw new IllegalArgumentException("Unsupported recurrence frequency: " + frequency);
+        }
+    }
+
+    private static String dayNames(Set<DayOfWeek> days) {
+        StringJoiner names = new StringJoiner(",");
+        days.forEach(day -> names.add(day.name()));
+        return names.toString();
+    }
+
+    private LocalDate parseUntil(String until, ZoneId startZone) {
+        if (until.length() == 8) {
+            return LocalDate.parse(until, DATE);
+        }
+        if (until.endsWith("Z")) {
+            return LocalDateTime.parse(until.substring(0, until.length() - 1), LOCAL_DATE_TIME)
+                    .atZone(ZoneOffset.UTC)
+                    .withZoneSameInstant(zone)
+                    .toLocalDate();
+        }
+        return LocalDateTime.parse(until, LOCAL_DATE_TIME).atZone(startZone).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    private static boolean isDate(Property property) {
+        return "DATE".equalsIgnoreCase(property.parameters().get("VALUE")) || property.value().length() == 8;
+    }
+
+    /**
+     * Parses a DATE or DATE-TIME value: in UTC, with a TZID, or floating.
+     */
+    private ZonedDateTime parseDateTime(Property property) {
+        String value = property.value();
+        if (isDate(property)) {
+            return LocalDate.parse(value, DATE).atStartOfDay(zone);
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), LOCAL_DATE_TIME)
+                    .atZone(ZoneOffset.UTC)
+                    .withZoneSameInstant(zone);
+        }
+        String tzid = property.parameters().get("TZID");
+        ZoneId valueZone = tzid != null ? ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid) : zone;
+        return LocalDateTime.parse(value, LOCAL_DATE_TIME).atZone(valueZone);
+    }
+
+    private static Duration parseDuration(String value) {
+        String duration = value.trim().toUpperCase(Locale.ROOT);
+        if (duration.matches("[+-]?P\\d+W")) {
+            long weeks = Long.parseLong(duration.substring(duration.indexOf('P') + 1, duration.length() - 1));
+            return Duration.ofDays(7 * weeks).multipliedBy(duration.startsWith("-") ? -1 : 1);
+        }
+        try {
+            return Duration.parse(duration);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid DURATION: " + value);
+        }
+    }
+
+    private static String text(Property property) {
+        return property != null ? unescapeText(property.value()) : null;
+    }
+
+    private static String firstCategory(String value) {
+        int end = 0;
+        while (end < value.length() && value.charAt(end) != ',') {
+            end += value.charAt(end) == '\\' ? 2 : 1;
+        }
+        String category = unescapeText(value.substring(0, Math.min(end, value.length())));
+        return category.isBlank() ? null : category;
+    }
+
+    /**
+     * Reverses {@link IcsCalendarExportWriter#escapeText}.
+     */
+    static String unescapeText(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Reads one content line, joining the folded continuation lines that follow it.
+     *
+     * @return the unfolded line, or {@code null} at the end of the file
+     */
+    private String readContentLine() throws IOException {
+        String line = lookahead != null ? lookahead : in.readLine();
+        lookahead = null;
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = in.readLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+        }
+        lookahead = next;
+        return unfolded != null ? unfolded.toString() : line;
+    }
+
+    /**
+     * A content line split into its upper-cased name, parameters and raw value.
+     */
+    private record Property(String name, Map<String, String> parameters, String value) {
+
+        /**
+         * @return the property, or {@code null} if the line has no value separator
+         */
+        static Property parse(String line) {
+            int colon = -1;
+            boolean inQuotes = false;
+            for (int i = 0; i < line.length() && colon < 0; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    inQuotes = !inQuotes;
+                } else if (c == ':' && !inQuotes) {
+                    colon = i;
+                }
+            }
+            if (colon < 0) {
+                return null;
+            }
+
+            String[] head = line.substring(0, colon).split(";");
+            Map<String, String> parameters = new HashMap<>();
+            for (int i = 1; i < head.length; i++) {
+                int eq = head[i].indexOf('=');
+                if (eq > 0) {
+                    parameters.put(head[i].substring(0, eq).toUpperCase(Locale.ROOT),
+                            head[i].substring(eq + 1).replace("\"", ""));
+                }
+            }
+            return new Property(head[0].toUpperCase(Locale.ROOT), parameters, line.substring(colon + 1));
+        }
+
+        Property withValue(String newValue) {
+            return new Property(name, parameters, newValue);
+        }
+    }
+}
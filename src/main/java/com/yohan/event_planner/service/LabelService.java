@@ -1,6 +1,7 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.domain.Label;
+import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.LabelCreateDTO;
 import com.yohan.event_planner.dto.LabelResponseDTO;
 import com.yohan.event_planner.dto.LabelUpdateDTO;
@@ -71,6 +72,22 @@ public interface LabelService {
      */
     LabelResponseDTO createLabel(LabelCreateDTO dto);
 
+    /**
+     * Resolves label names to labels of the given user, creating the missing ones.
+     *
+     * <p>
+     * Names are trimmed like in {@link #createLabel(LabelCreateDTO)}. Existing labels are loaded
+     * with one query and missing labels are created together in gray. No ownership validation is
+     * performed; the caller provides the user the labels belong to.
+     * </p>
+     *
+     * @param creator the user owning the labels
+     * @param names the label names to resolve (null or empty set returns an empty list)
+     * @return one label per distinct trimmed name, in the iteration order of {@code names}
+     * @throws LabelException if a name is empty after trimming
+     */
+    List<Label> getOrCreateLabelsByName(User creator, Set<String> names);
+
     /**
      * Updates the name of a label owned by the authenticated user.
      *
@@ -3,6 +3,7 @@ package com.yohan.event_planner.service;
 import com.yohan.event_planner.business.UserBO;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.LabelColor;
 import com.yohan.event_planner.dto.LabelCreateDTO;
 import com.yohan.event_planner.dto.LabelResponseDTO;
 import com.yohan.event_planner.dto.LabelUpdateDTO;
@@ -21,7 +22,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -103,6 +106,7 @@ import static com.yohan.event_planner.exception.ErrorCode.SYSTEM_MANAGED_LABEL;
 public class LabelServiceImpl implements LabelService {
 
     private static final Logger logger = LoggerFactory.getLogger(LabelServiceImpl.class);
+    private static final LabelColor RESOLVED_LABEL_COLOR = LabelColor.GRAY;
     private final UserBO userBO;
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
@@ -299,6 +303,50 @@ public class LabelServiceImpl implements LabelService {
         return labelMapper.toResponseDTO(savedLabel);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All names are validated before anything is saved, so an empty name creates no label at
+     * all. Existing labels are matched by exact name after trimming, which is the uniqueness rule
+     * {@link #createLabel(LabelCreateDTO)} enforces, and missing ones are created with a single
+     * {@code saveAll} call.
+     * </p>
+     *
+     * @throws LabelException if a name is empty after trimming
+     */
+    @Override
+    public List<Label> getOrCreateLabelsByName(User creator, Set<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> trimmedNames = new LinkedHashSet<>();
+        for (String name : names) {
+            String trimmedName = name != null ? name.trim() : "";
+            if (trimmedName.isEmpty()) {
+                logger.warn("Attempt to resolve label with empty name (after trimming) for user {}", creator.getId());
+                throw new LabelException(NULL_FIELD_NOT_ALLOWED, "Label name cannot be empty");
+            }
+            trimmedNames.add(trimmedName);
+        }
+
+        Map<String, Label> labelsByName = new HashMap<>();
+        for (Label label : labelRepository.findAllByCreatorIdOrderByNameAsc(creator.getId())) {
+            labelsByName.putIfAbsent(label.getName(), label);
+        }
+
+        List<Label> missing = trimmedNames.stream()
+                .filter(name -> !labelsByName.containsKey(name))
+                .map(name -> new Label(name, RESOLVED_LABEL_COLOR, creator))
+                .toList();
+        if (!missing.isEmpty()) {
+            logger.info("Creating {} labels for user {}", missing.size(), creator.getId());
+            labelRepository.saveAll(missing).forEach(label -> labelsByName.put(label.getName(), label));
+        }
+        return trimmedNames.stream().map(labelsByName::get).toList();
+    }
+
     /**
      * {@inheritDoc}
      * 
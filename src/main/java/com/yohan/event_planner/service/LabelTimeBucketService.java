@@ -1,9 +1,11 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.dto.EventChangeContextDTO;
+import com.yohan.event_planner.dto.LabelTimeBucketOutboxStatsDTO;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 public interface LabelTimeBucketService {
 
@@ -42,6 +44,46 @@ public interface LabelTimeBucketService {
      * </ul>
      *
      * <p>This method performs no internal null checks and assumes all inputs are valid.
+     *
+     * <p>When asynchronous label statistics are enabled the adjustments are recorded in the
+     * outbox and applied later by {@link #drainOutbox(int)}.
      */
     void handleEventChange(EventChangeContextDTO dto);
+
+    /**
+     * Applies up to {@code batchSize} pending outbox deltas to the label time buckets.
+     *
+     * <p>Deltas that target the same bucket are coalesced before being written, and the
+     * applied rows are removed from the outbox in the same transaction.
+     *
+     * @param batchSize maximum number of outbox rows to claim
+     * @return the number of outbox rows applied
+     */
+    int drainOutbox(int batchSize);
+
+    /**
+     * Returns queue depth and apply lag of the asynchronous statistics pipeline.
+     *
+     * @return current outbox statistics
+     */
+    LabelTimeBucketOutboxStatsDTO getOutboxStats();
+
+    /**
+     * Returns the labels whose YEAR and ALL_TIME buckets can be rebuilt from DAY buckets.
+     *
+     * @return label IDs with at least one DAY bucket, in ascending order
+     */
+    List<Long> getLabelIdsWithDayBuckets();
+
+    /**
+     * Recomputes the YEAR and ALL_TIME buckets of one label from its DAY buckets.
+     *
+     * <p>Repairs rollups on a live system; the initial backfill ships as a database migration.
+     * Existing rollup values are overwritten, so running it again is safe. Each call is its own
+     * transaction and holds back completions for that label only until it commits.</p>
+     *
+     * @param labelId the label whose rollups are rebuilt
+     * @return the number of rollup buckets written
+     */
+    int backfillRollupBuckets(Long labelId);
 }
@@ -1,28 +1,44 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.domain.LabelTimeBucket;
+import com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry;
 import com.yohan.event_planner.domain.enums.TimeBucketType;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
+import com.yohan.event_planner.dto.LabelTimeBucketDeltaDTO;
+import com.yohan.event_planner.dto.LabelTimeBucketOutboxStatsDTO;
+import com.yohan.event_planner.repository.LabelTimeBucketOutboxRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static com.yohan.event_planner.constants.ApplicationConstants.ALL_TIME_BUCKET_VALUE;
+import static com.yohan.event_planner.constants.ApplicationConstants.ALL_TIME_BUCKET_YEAR;
 import static com.yohan.event_planner.constants.ApplicationConstants.DATE_MONTH_MULTIPLIER;
 import static com.yohan.event_planner.constants.ApplicationConstants.DATE_YEAR_MULTIPLIER;
+import static com.yohan.event_planner.domain.enums.TimeBucketType.ALL_TIME;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.DAY;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
+import static com.yohan.event_planner.domain.enums.TimeBucketType.YEAR;
 
 /**
  * Implementation of {@link LabelTimeBucketService} providing time bucket management and statistics.
@@ -41,7 +57,7 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  * </ul>
  * 
  * <h2>Time Bucket Types</h2>
- * <p>The service manages three distinct bucket granularities:</p>
+ * <p>The service manages three distinct bucket granularities plus two rollups:</p>
  * 
  * <h3>Daily Buckets</h3>
  * <ul>
@@ -64,6 +80,13 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  *   <li><strong>Calendar Months</strong>: Follow standard calendar month boundaries</li>
  * </ul>
  * 
+ * <h3>Yearly and All-Time Rollups</h3>
+ * <ul>
+ *   <li><strong>YEAR</strong>: One bucket per calendar year, maintained with the same deltas</li>
+ *   <li><strong>ALL_TIME</strong>: One running total per label, so all-time reads are a point lookup</li>
+ *   <li><strong>Backfill</strong>: {@link #backfillRollupBuckets(Long)} rebuilds both from a label's DAY buckets</li>
+ * </ul>
+ * 
  * <h2>Event Lifecycle Integration</h2>
  * <p>The service integrates with the complete event lifecycle:</p>
  * <ul>
@@ -95,24 +118,34 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  * <p>Efficient bucket creation and management:</p>
  * <ul>
  *   <li><strong>On-Demand Creation</strong>: Create buckets only when time is applied</li>
- *   <li><strong>Multi-granularity</strong>: Create day, week, and month buckets simultaneously</li>
- *   <li><strong>Upsert Operations</strong>: Update existing buckets or create new ones</li>
- *   <li><strong>Zero Cleanup</strong>: Remove buckets when duration reaches zero</li>
+ *   <li><strong>Multi-granularity</strong>: Create day, week, month, year and all-time buckets simultaneously</li>
+ *   <li><strong>Upsert Operations</strong>: Database-side {@code INSERT ... ON CONFLICT DO UPDATE} increments</li>
+ *   <li><strong>Delta Coalescing</strong>: Revert and apply deltas for the same bucket are summed before writing</li>
  * </ul>
  * 
  * <h2>Performance Optimizations</h2>
  * <ul>
- *   <li><strong>Batch Operations</strong>: Process multiple bucket types in single transaction</li>
- *   <li><strong>Efficient Queries</strong>: Optimized database operations for bucket management</li>
+ *   <li><strong>Single Round Trip</strong>: Every bucket touched by an event change is written in one statement</li>
+ *   <li><strong>No Read-Modify-Write</strong>: Buckets are never loaded, so concurrent completions cannot lose updates</li>
  *   <li><strong>Conditional Processing</strong>: Skip operations when no changes needed</li>
  *   <li><strong>Minimal Calculations</strong>: Avoid unnecessary timezone conversions</li>
  * </ul>
  * 
+ * <h2>Asynchronous Mode</h2>
+ * <p>With {@code app.label-stats.async.enabled=true} the coalesced deltas of an event change are
+ * written to the {@link LabelTimeBucketOutboxEntry} outbox in the caller's transaction instead of
+ * being upserted directly, taking bucket I/O off the request path. The outbox is drained by
+ * {@link com.yohan.event_planner.jobs.LabelTimeBucketOutboxJob} through {@link #drainOutbox(int)},
+ * which coalesces rows per (user, label, bucket) before issuing one upsert per user. Queue depth
+ * and apply lag are reported by {@link #getOutboxStats()}.</p>
+ * 
  * <h2>Integration Points</h2>
  * <p>This service integrates with multiple system components:</p>
  * <ul>
- *   <li><strong>LabelService</strong>: Validate label existence and ownership</li>
- *   <li><strong>LabelTimeBucketRepository</strong>: Persist and retrieve bucket data</li>
+ *   <li><strong>LabelTimeBucketRepository</strong>: Upsert bucket deltas and retrieve bucket data</li>
+ *   <li><strong>LabelTimeBucketOutboxRepository</strong>: Record and drain pending deltas in asynchronous mode</li>
+ *   <li><strong>MonthSummaryCache</strong>: Invalidated for every month whose MONTH bucket is written, when
+ *       the upsert actually runs (so after the outbox is drained in asynchronous mode)</li>
  *   <li><strong>Event System</strong>: Respond to event lifecycle changes</li>
  *   <li><strong>Timezone Services</strong>: Handle complex timezone calculations</li>
  * </ul>
@@ -138,7 +171,7 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  * <ul>
  *   <li><strong>Timezone Validation</strong>: Handle invalid timezone scenarios gracefully</li>
  *   <li><strong>Duration Validation</strong>: Ensure valid duration values</li>
- *   <li><strong>Label Validation</strong>: Verify label existence before operations</li>
+ *   <li><strong>Label Resolution</strong>: Label names are resolved by the upsert itself</li>
  *   <li><strong>Transaction Rollback</strong>: Handle database operation failures</li>
  * </ul>
  * 
@@ -155,8 +188,8 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
  * @see LabelTimeBucket
  * @see TimeBucketType
  * @see EventChangeContextDTO
- * @see LabelService
  * @see LabelTimeBucketRepository
+ * @see LabelTimeBucketOutboxRepository
  * @author Event Planner Development Team
  * @version 2.0.0
  * @since 1.0.0
@@ -166,12 +199,26 @@ public class LabelTimeBucketServiceImpl implements LabelTimeBucketService{
 
     private static final Logger logger = LoggerFactory.getLogger(LabelTimeBucketServiceImpl.class);
 
-    private final LabelService labelService;
     private final LabelTimeBucketRepository bucketRepository;
+    private final LabelTimeBucketOutboxRepository outboxRepository;
+    private final Clock clock;
+    private final MonthSummaryCache monthSummaryCache;
+
+    @Value("${app.label-stats.async.enabled:false}")
+    private boolean asyncEnabled = false;
+
+    private final AtomicLong appliedDeltas = new AtomicLong();
+    private final AtomicLong lastApplyLagMillis = new AtomicLong();
+    private final AtomicLong maxApplyLagMillis = new AtomicLong();
 
-    public LabelTimeBucketServiceImpl(LabelService labelService, LabelTimeBucketRepository bucketRepository) {
-        this.labelService = labelService;
+    public LabelTimeBucketServiceImpl(LabelTimeBucketRepository bucketRepository,
+                                      LabelTimeBucketOutboxRepository outboxRepository,
+                                      Clock clock,
+                                      MonthSummaryCache monthSummaryCache) {
         this.bucketRepository = bucketRepository;
+        this.outboxRepository = outboxRepository;
+        this.clock = clock;
+        this.monthSummaryCache = monthSummaryCache;
     }
 
     /**
@@ -210,27 +257,117 @@ public class LabelTimeBucketServiceImpl implements LabelTimeBucketService{
      * 
      * <p>Operation sequence:</p>
      * <ol>
-     *   <li>If event was previously completed, revert old time allocation</li>
-     *   <li>If event is now completed, apply new time allocation</li>
+     *   <li>If event was previously completed, collect negative deltas for the old time allocation</li>
+     *   <li>If event is now completed, collect positive deltas for the new time allocation</li>
+     *   <li>Write the coalesced deltas in a single upsert, so buckets shared by the old and new
+     *       allocation are only touched once and unchanged buckets are not touched at all</li>
      * </ol>
      */
     @Override
+    @Transactional
     public void handleEventChange(EventChangeContextDTO dto) {
         logger.debug("Processing event change: userId={}, wasCompleted={}, isNowCompleted={}", 
             dto.userId(), dto.wasCompleted(), dto.isNowCompleted());
+
+        if (!dto.wasCompleted() && !dto.isNowCompleted()) {
+            return;
+        }
             
         if (dto.wasCompleted() && dto.isNowCompleted()) {
             logger.info("Event modification requires both revert and apply: userId={}, oldLabel={}, newLabel={}", 
                 dto.userId(), dto.oldLabelId(), dto.newLabelId());
         }
-        
+
+        Map<BucketKey, Integer> deltas = new LinkedHashMap<>();
+
         if (dto.wasCompleted()) {
-            revert(dto.userId(), dto.oldLabelId(), dto.oldStartTime(), dto.oldDurationMinutes(), dto.timezone());
+            collectDeltas(deltas, dto.oldLabelId(), dto.oldStartTime(), dto.oldDurationMinutes(), dto.timezone(), -1);
         }
 
         if (dto.isNowCompleted()) {
-            apply(dto.userId(), dto.newLabelId(), dto.newStartTime(), dto.newDurationMinutes(), dto.timezone());
+            collectDeltas(deltas, dto.newLabelId(), dto.newStartTime(), dto.newDurationMinutes(), dto.timezone(), +1);
+        }
+
+        writeDeltas(dto.userId(), deltas);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Rows are claimed with {@code SKIP LOCKED}, so concurrent drains on several instances
+     * partition the outbox between them. Deltas are grouped per user in ascending user order and
+     * each user's buckets are written with a single upsert.</p>
+     */
+    @Override
+    @Transactional
+    public int drainOutbox(int batchSize) {
+        List<LabelTimeBucketOutboxEntry> batch = outboxRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Map<BucketKey, Integer>> deltasByUser = new TreeMap<>();
+        Instant oldest = null;
+        for (LabelTimeBucketOutboxEntry entry : batch) {
+            BucketKey key = new BucketKey(entry.getLabelId(), entry.getBucketType(), entry.getBucketYear(), entry.getBucketValue());
+            deltasByUser.computeIfAbsent(entry.getUserId(), userId -> new LinkedHashMap<>())
+                    .merge(key, entry.getDeltaMinutes(), Integer::sum);
+            if (oldest == null || entry.getCreatedAt().isBefore(oldest)) {
+                oldest = entry.getCreatedAt();
+            }
         }
+
+        deltasByUser.forEach(this::upsertDeltas);
+        outboxRepository.deleteAllInBatch(batch);
+
+        long lagMillis = Math.max(0, Duration.between(oldest, clock.instant()).toMillis());
+        appliedDeltas.addAndGet(batch.size());
+        lastApplyLagMillis.set(lagMillis);
+        maxApplyLagMillis.accumulateAndGet(lagMillis, Math::max);
+
+        logger.info("Drained {} outbox deltas for {} users (apply lag {}ms)", batch.size(), deltasByUser.size(), lagMillis);
+        return batch.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LabelTimeBucketOutboxStatsDTO getOutboxStats() {
+        long queueDepth = outboxRepository.count();
+        Instant oldest = outboxRepository.findOldestCreatedAt();
+        long oldestAgeMillis = oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis());
+
+        return new LabelTimeBucketOutboxStatsDTO(
+                queueDepth,
+                oldestAgeMillis,
+                appliedDeltas.get(),
+                lastApplyLagMillis.get(),
+                maxApplyLagMillis.get()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Deltas that are still waiting in the outbox are not affected: they carry their own YEAR
+     * and ALL_TIME entries and are applied on top once drained.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getLabelIdsWithDayBuckets() {
+        return bucketRepository.findLabelIdsWithDayBuckets();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int backfillRollupBuckets(Long labelId) {
+        int written = bucketRepository.rebuildRollupBuckets(labelId);
+        logger.debug("Backfilled {} YEAR and ALL_TIME label time buckets for label {}", written, labelId);
+        return written;
     }
 
     /**
@@ -238,10 +375,9 @@ public class LabelTimeBucketServiceImpl implements LabelTimeBucketService{
      * 
      * <p>This method orchestrates the core time bucket adjustment logic by:</p>
      * <ul>
-     *   <li>Retrieving label information for bucket creation</li>
      *   <li>Splitting duration across day boundaries for accurate allocation</li>
-     *   <li>Creating or updating buckets for day, week, and month granularities</li>
-     *   <li>Persisting all changes atomically</li>
+     *   <li>Accumulating signed deltas for day, week, month, year and all-time buckets</li>
+     *   <li>Writing all deltas in a single upsert statement</li>
      * </ul>
      * 
      * @param userId the ID of the user who owns the buckets
@@ -254,70 +390,125 @@ public class LabelTimeBucketServiceImpl implements LabelTimeBucketService{
     private void adjust(Long userId, Long labelId, ZonedDateTime startTime, int durationMinutes, ZoneId timezone, int direction) {
         logger.debug("Starting time bucket adjustment: userId={}, labelId={}, duration={}min, direction={}", 
             userId, labelId, durationMinutes, direction > 0 ? "apply" : "revert");
-            
-        String labelName = labelService.getLabelById(labelId).name();
 
+        Map<BucketKey, Integer> deltas = new LinkedHashMap<>();
+        collectDeltas(deltas, labelId, startTime, durationMinutes, timezone, direction);
+        writeDeltas(userId, deltas);
+    }
+
+    /**
+     * Accumulates signed minute deltas for every day, week, month, year and all-time bucket
+     * covered by a time range.
+     * 
+     * <p>Deltas for the same bucket are summed, so a multi-day event contributes a single week,
+     * month, year or all-time entry and a revert/apply pair over the same bucket nets out.</p>
+     * 
+     * @param deltas accumulator keyed by bucket
+     * @param labelId the label associated with the time tracking
+     * @param startTime the start time of the event in UTC
+     * @param durationMinutes the duration to allocate (positive value)
+     * @param timezone the user's timezone for local time calculations
+     * @param direction +1 to add time, -1 to subtract time
+     */
+    private void collectDeltas(Map<BucketKey, Integer> deltas, Long labelId, ZonedDateTime startTime,
+                               int durationMinutes, ZoneId timezone, int direction) {
         List<TimeSlice> slices = splitByDay(startTime, durationMinutes, timezone);
         logger.debug("Created {} time slices for event spanning {} to {}", 
             slices.size(), startTime, startTime.plusMinutes(durationMinutes));
-            
-        List<LabelTimeBucket> bucketsToSave = new ArrayList<>();
 
         for (TimeSlice slice : slices) {
             LocalDateTime localTime = slice.start().withZoneSameInstant(timezone).toLocalDateTime();
-            int minutes = slice.minutes();
+            int minutes = direction * slice.minutes();
 
             // DAY
             LocalDate date = localTime.toLocalDate();
             int dayValue = date.getYear() * DATE_YEAR_MULTIPLIER + date.getMonthValue() * DATE_MONTH_MULTIPLIER + date.getDayOfMonth();
-            LabelTimeBucket dayBucket = resolveOrCreateBucket(userId, labelId, labelName, DAY, date.getYear(), dayValue);
-            dayBucket.incrementMinutes(direction * minutes);
-            bucketsToSave.add(dayBucket);
+            deltas.merge(new BucketKey(labelId, DAY, date.getYear(), dayValue), minutes, Integer::sum);
 
             // WEEK
-            int week = getIsoWeek(localTime);
-            int weekYear = getIsoWeekYear(localTime);
-            LabelTimeBucket weekBucket = resolveOrCreateBucket(userId, labelId, labelName, WEEK, weekYear, week);
-            weekBucket.incrementMinutes(direction * minutes);
-            bucketsToSave.add(weekBucket);
+            deltas.merge(new BucketKey(labelId, WEEK, getIsoWeekYear(localTime), getIsoWeek(localTime)), minutes, Integer::sum);
 
             // MONTH
-            int month = localTime.getMonthValue();
-            int year = localTime.getYear();
-            LabelTimeBucket monthBucket = resolveOrCreateBucket(userId, labelId, labelName, MONTH, year, month);
-            monthBucket.incrementMinutes(direction * minutes);
-            bucketsToSave.add(monthBucket);
+            deltas.merge(new BucketKey(labelId, MONTH, localTime.getYear(), localTime.getMonthValue()), minutes, Integer::sum);
+
+            // YEAR
+            deltas.merge(new BucketKey(labelId, YEAR, localTime.getYear(), localTime.getYear()), minutes, Integer::sum);
+
+            // ALL_TIME
+            deltas.merge(new BucketKey(labelId, ALL_TIME, ALL_TIME_BUCKET_YEAR, ALL_TIME_BUCKET_VALUE), minutes, Integer::sum);
         }
+    }
 
-        bucketRepository.saveAll(bucketsToSave);
-        
-        logger.info("Updated {} time buckets for user={}, label={}: {} minutes {}", 
-            bucketsToSave.size(), userId, labelId, durationMinutes, direction > 0 ? "added" : "removed");
+    /**
+     * Writes accumulated deltas either directly to the buckets or, in asynchronous mode, to the
+     * outbox.
+     * 
+     * @param userId the ID of the user who owns the buckets
+     * @param deltas accumulated deltas keyed by bucket
+     */
+    private void writeDeltas(Long userId, Map<BucketKey, Integer> deltas) {
+        if (asyncEnabled) {
+            enqueueDeltas(userId, deltas);
+        } else {
+            upsertDeltas(userId, deltas);
+        }
     }
 
     /**
-     * Resolves an existing time bucket or creates a new one if none exists.
+     * Writes accumulated deltas through a single repository upsert, skipping buckets whose
+     * deltas cancelled out.
      * 
-     * <p>This method implements an upsert pattern, returning existing bucket data
-     * for updates or creating new buckets with zero initial duration.</p>
+     * @param userId the ID of the user who owns the buckets
+     * @param deltas accumulated deltas keyed by bucket
+     */
+    private void upsertDeltas(Long userId, Map<BucketKey, Integer> deltas) {
+        List<LabelTimeBucketDeltaDTO> changes = new ArrayList<>(deltas.size());
+        deltas.forEach((key, minutes) -> {
+            if (minutes != 0) {
+                changes.add(new LabelTimeBucketDeltaDTO(key.labelId(), key.type(), key.year(), key.value(), minutes));
+            }
+        });
+
+        if (changes.isEmpty()) {
+            logger.debug("No time bucket changes to write for user={}", userId);
+            return;
+        }
+
+        int affected = bucketRepository.upsertDurations(userId, changes);
+        logger.info("Upserted {} time buckets for user={} from {} deltas", affected, userId, changes.size());
+
+        // Monthly label totals are cached per month; only the months whose bucket changed are stale
+        for (LabelTimeBucketDeltaDTO change : changes) {
+            if (change.bucketType() == MONTH) {
+                YearMonth month = YearMonth.of(change.bucketYear(), change.bucketValue());
+                monthSummaryCache.invalidate(userId, month, month);
+            }
+        }
+    }
+
+    /**
+     * Records accumulated deltas in the outbox for later application, skipping buckets whose
+     * deltas cancelled out.
      * 
-     * @param userId the ID of the user who owns the bucket
-     * @param labelId the label associated with the bucket  
-     * @param labelName the name of the label for bucket creation
-     * @param type the type of time bucket (DAY, WEEK, MONTH)
-     * @param year the year component of the bucket
-     * @param value the bucket-specific value (YYYYMMDD for DAY, week number for WEEK, month number for MONTH)
-     * @return existing bucket with current data or new bucket with zero duration
+     * @param userId the ID of the user who owns the buckets
+     * @param deltas accumulated deltas keyed by bucket
      */
-    private LabelTimeBucket resolveOrCreateBucket(Long userId, Long labelId, String labelName,
-                                                  TimeBucketType type, int year, int value) {
-        return bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                userId, labelId, type, year, value
-        ).orElseGet(() -> {
-            logger.debug("Creating new {} bucket for user={}, label={}, year={}, value={}", 
-                type, userId, labelId, year, value);
-            return new LabelTimeBucket(userId, labelId, labelName, type, year, value);
+    private void enqueueDeltas(Long userId, Map<BucketKey, Integer> deltas) {
+        Instant now = clock.instant();
+        List<LabelTimeBucketOutboxEntry> entries = new ArrayList<>(deltas.size());
+        deltas.forEach((key, minutes) -> {
+            if (minutes != 0) {
+                entries.add(new LabelTimeBucketOutboxEntry(userId, key.labelId(), key.type(), key.year(), key.value(), minutes, now));
+            }
         });
+
+        if (entries.isEmpty()) {
+            logger.debug("No time bucket changes to enqueue for user={}", userId);
+            return;
+        }
+
+        outboxRepository.saveAll(entries);
+        logger.debug("Enqueued {} time bucket deltas for user={}", entries.size(), userId);
     }
 
     /**
@@ -394,4 +585,14 @@ public class LabelTimeBucketServiceImpl implements LabelTimeBucketService{
      * @param minutes the duration of this slice in minutes
      */
     private record TimeSlice(ZonedDateTime start, int minutes) {}
+
+    /**
+     * Identifies a single label time bucket for delta accumulation.
+     * 
+     * @param labelId the label associated with the bucket
+     * @param type the type of time bucket (DAY, WEEK, MONTH, YEAR, ALL_TIME)
+     * @param year the year component of the bucket
+     * @param value the bucket-specific value
+     */
+    private record BucketKey(Long labelId, TimeBucketType type, int year, int value) {}
 }
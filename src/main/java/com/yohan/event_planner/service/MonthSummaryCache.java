@@ -0,0 +1,401 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.MonthSummaryCacheStatsDTO;
+import com.yohan.event_planner.time.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, per-user cache of the month summaries served by {@link MonthlyCalendarService}.
+ *
+ * <p>Clients scrolling through the calendar request the same months over and over. For every
+ * (user, month) pair the cache keeps what the calendar view is built from:</p>
+ * <ul>
+ *   <li><strong>Date mask</strong>: Days of the month with confirmed or recurring events</li>
+ *   <li><strong>Label date masks</strong>: Days of the month with completed events, per label</li>
+ *   <li><strong>Label totals</strong>: Completed event count and time spent, per label</li>
+ * </ul>
+ * <p>Each part is computed on first request and kept until an overlapping write invalidates the
+ * month or {@code app.calendar.month-cache.ttl-seconds} have passed since the month was first
+ * cached. The time to live bounds how long a change that bypassed the invalidation hooks can go
+ * unseen. Summaries are computed in the user's time zone; a lookup in another zone, for example
+ * after the user changed their time zone, recomputes the month.</p>
+ *
+ * <h2>Invalidation</h2>
+ * <ul>
+ *   <li><strong>Month Ranges</strong>: Writes invalidate only the months they can affect, see
+ *       {@link #invalidate(Long, YearMonth, YearMonth)} and
+ *       {@link #invalidate(Long, ZonedDateTime, ZonedDateTime)}</li>
+ *   <li><strong>Hooks</strong>: {@code EventBOImpl} and {@code RecurringEventBOImpl} invalidate on
+ *       event and recurring event writes, {@link LabelTimeBucketServiceImpl} when month buckets
+ *       change</li>
+ *   <li><strong>Transaction Completion</strong>: Inside a transaction the months are invalidated
+ *       again after commit or rollback, so a summary computed from uncommitted rows never outlives
+ *       them</li>
+ *   <li><strong>Stale Builds</strong>: A summary computed while an invalidation of the same user
+ *       happened is returned to its caller but not cached. Each user carries their own version,
+ *       so invalidations of other users never prevent caching</li>
+ * </ul>
+ *
+ * <h2>Eviction</h2>
+ * <p>Users are kept in access order and the least recently used user is evicted once
+ * {@code app.calendar.month-cache.max-users} users are cached. Each user holds at most
+ * {@code app.calendar.month-cache.max-months-per-user} months, again evicting the least recently
+ * used month, so memory is bounded by the product of both settings. Expired months are dropped
+ * when they are next looked up and count as evictions.</p>
+ *
+ * <h2>Metrics</h2>
+ * <p>Hit, miss, invalidation and eviction counters are exposed through {@link #getStats()}.</p>
+ *
+ * @see MonthlyCalendarServiceImpl
+ * @see MonthSummaryCacheStatsDTO
+ */
+@Component
+public class MonthSummaryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthSummaryCache.class);
+
+    private static final int DEFAULT_MAX_USERS = 1000;
+    private static final int DEFAULT_MAX_MONTHS_PER_USER = 24;
+    private static final long DEFAULT_TTL_SECONDS = 300;
+
+    private static final YearMonth FIRST_MONTH = YearMonth.from(LocalDate.MIN);
+    private static final YearMonth LAST_MONTH = YearMonth.from(LocalDate.MAX);
+
+    @Value("${app.calendar.month-cache.max-users:" + DEFAULT_MAX_USERS + "}")
+    private int maxUsers = DEFAULT_MAX_USERS;
+
+    @Value("${app.calendar.month-cache.max-months-per-user:" + DEFAULT_MAX_MONTHS_PER_USER + "}")
+    private int maxMonthsPerUser = DEFAULT_MAX_MONTHS_PER_USER;
+
+    @Value("${app.calendar.month-cache.ttl-seconds:" + DEFAULT_TTL_SECONDS + "}")
+    private long ttlSeconds = DEFAULT_TTL_SECONDS;
+
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<Long, UserMonths> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserMonths> eldest) {
+            if (size() > maxUsers) {
+                evictions.addAndGet(eldest.getValue().months.size());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public MonthSummaryCache(ClockProvider clockProvider) {
+        this.clock = clockProvider.getClockForZone(ZoneOffset.UTC);
+    }
+
+    /**
+     * Completed event count and time spent for one label in one month.
+     *
+     * @param completedEvents number of completed events in the month
+     * @param minutesSpent minutes recorded in the label's month bucket
+     */
+    public record LabelTotals(long completedEvents, long minutesSpent) {
+    }
+
+    /**
+     * Returns the days of a month with events, computing them on a miss.
+     *
+     * @param userId the ID of the user viewing the calendar
+     * @param zone the user's time zone the days are computed in
+     * @param month the month being viewed
+     * @param loader computes the day mask when it is not cached
+     * @return day mask with day 1 of the month in bit 0
+     */
+    public int getDateMask(Long userId, ZoneId zone, YearMonth month, Supplier<Integer> loader) {
+        return lookup(userId, zone, month,
+                summary -> summary.dateMask,
+                (summary, mask) -> summary.dateMask = mask,
+                loader);
+    }
+
+    /**
+     * Returns the days of a month with completed events of a label, computing them on a miss.
+     *
+     * @param userId the ID of the user viewing the calendar
+     * @param zone the user's time zone the days are computed in
+     * @param month the month being viewed
+     * @param labelId the label the events are filtered by
+     * @param loader computes the day mask when it is not cached
+     * @return day mask with day 1 of the month in bit 0
+     */
+    public int getLabelDateMask(Long userId, ZoneId zone, YearMonth month, Long labelId, Supplier<Integer> loader) {
+        return lookup(userId, zone, month,
+                summary -> summary.labelDateMasks.get(labelId),
+                (summary, mask) -> summary.labelDateMasks.put(labelId, mask),
+                loader);
+    }
+
+    /**
+     * Returns the monthly totals of a label, computing them on a miss.
+     *
+     * @param userId the ID of the user viewing the calendar
+     * @param zone the user's time zone the month boundaries are computed in
+     * @param month the month being viewed
+     * @param labelId the label the totals belong to
+     * @param loader computes the totals when they are not cached
+     * @return the label's totals for the month
+     */
+    public LabelTotals getLabelTotals(Long userId, ZoneId zone, YearMonth month, Long labelId, Supplier<LabelTotals> loader) {
+        return lookup(userId, zone, month,
+                summary -> summary.labelTotals.get(labelId),
+                (summary, totals) -> summary.labelTotals.put(labelId, totals),
+                loader);
+    }
+
+    /**
+     * Discards the cached months of a user between two months, inclusive.
+     *
+     * <p>When called inside a transaction the months are invalidated again once the transaction
+     * completes, because other threads may recompute them before the change is committed.</p>
+     *
+     * @param userId the ID of the user whose data changed, ignored if {@code null}
+     * @param from the first affected month
+     * @param to the last affected month
+     */
+    public void invalidate(Long userId, YearMonth from, YearMonth to) {
+        if (userId == null) {
+            return;
+        }
+        InvalidatedRange range = new InvalidatedRange(userId, from, to);
+        evict(range);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            @SuppressWarnings("unchecked")
+            List<InvalidatedRange> pending = (List<InvalidatedRange>) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                List<InvalidatedRange> ranges = new ArrayList<>();
+                TransactionSynchronizationManager.bindResource(this, ranges);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(MonthSummaryCache.this);
+                        ranges.forEach(MonthSummaryCache.this::evict);
+                    }
+                });
+                pending = ranges;
+            }
+            pending.add(range);
+        }
+    }
+
+    /**
+     * Discards the cached months of a user that an event interval can touch.
+     *
+     * <p>The interval is widened by one day on each side before it is mapped to months, which
+     * covers every UTC offset, so the months are correct whichever time zone the user views the
+     * calendar in.</p>
+     *
+     * @param userId the ID of the user owning the event, ignored if {@code null}
+     * @param start the event start
+     * @param end the event end, or {@code null} when the event has no end yet
+     */
+    public void invalidate(Long userId, ZonedDateTime start, ZonedDateTime end) {
+        ZonedDateTime last = end != null && end.isAfter(start) ? end : start;
+        invalidate(userId,
+                YearMonth.from(start.withZoneSameInstant(ZoneOffset.UTC).minusDays(1)),
+                YearMonth.from(last.withZoneSameInstant(ZoneOffset.UTC).plusDays(1)));
+    }
+
+    /**
+     * Discards the cached months of a user from a date on, or every month up to an open end.
+     *
+     * @param userId the ID of the user owning the recurring event, ignored if {@code null}
+     * @param startDate the first affected date
+     * @param endDate the last affected date, or {@code null} for an open-ended range
+     */
+    public void invalidate(Long userId, LocalDate startDate, LocalDate endDate) {
+        invalidate(userId,
+                startDate != null ? YearMonth.from(startDate) : FIRST_MONTH,
+                endDate != null ? YearMonth.from(endDate) : LAST_MONTH);
+    }
+
+    /**
+     * Discards every cached month of a user.
+     *
+     * @param userId the ID of the user whose data changed, ignored if {@code null}
+     */
+    public void invalidateUser(Long userId) {
+        invalidate(userId, FIRST_MONTH, LAST_MONTH);
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return current hit, miss, invalidation and eviction counts together with size information
+     */
+    public MonthSummaryCacheStatsDTO getStats() {
+        int users = 0;
+        int months = 0;
+        synchronized (entries) {
+            for (UserMonths userMonths : entries.values()) {
+                if (!userMonths.months.isEmpty()) {
+                    users++;
+                    months += userMonths.months.size();
+                }
+            }
+        }
+        return new MonthSummaryCacheStatsDTO(hits.get(), misses.get(), invalidations.get(), evictions.get(),
+                users, months, maxUsers, maxMonthsPerUser);
+    }
+
+    /**
+     * Removes all cached summaries. Counters are left untouched.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private <T> T lookup(Long userId, ZoneId zone, YearMonth month,
+                         Function<MonthSummary, T> reader,
+                         SummaryWriter<T> writer,
+                         Supplier<T> loader) {
+        UserMonths userMonths;
+        long buildVersion;
+        synchronized (entries) {
+            userMonths = entries.computeIfAbsent(userId, id -> new UserMonths(newMonths()));
+            MonthSummary summary = currentSummary(userMonths, month);
+            T cached = summary != null && summary.zone.equals(zone) ? reader.apply(summary) : null;
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            buildVersion = userMonths.version;
+        }
+
+        misses.incrementAndGet();
+        T loaded = loader.get();
+
+        synchronized (entries) {
+            // A user removed in the meantime was invalidated or evicted; a replacement starts a new version
+            if (entries.get(userId) == userMonths && userMonths.version == buildVersion) {
+                MonthSummary summary = currentSummary(userMonths, month);
+                if (summary == null || !summary.zone.equals(zone)) {
+                    summary = new MonthSummary(zone, clock.millis() + ttlSeconds * 1000);
+                    userMonths.months.put(month, summary);
+                }
+                writer.write(summary, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private MonthSummary currentSummary(UserMonths userMonths, YearMonth month) {
+        MonthSummary summary = userMonths.months.get(month);
+        if (summary != null && clock.millis() >= summary.expiresAtMillis) {
+            userMonths.months.remove(month);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return summary;
+    }
+
+    private void evict(InvalidatedRange range) {
+        synchronized (entries) {
+            UserMonths userMonths = entries.get(range.userId());
+            if (userMonths == null) {
+                return;
+            }
+            userMonths.version++;
+            int removed = 0;
+            for (Iterator<YearMonth> it = userMonths.months.keySet().iterator(); it.hasNext(); ) {
+                YearMonth month = it.next();
+                if (!month.isBefore(range.from()) && !month.isAfter(range.to())) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            if (userMonths.months.isEmpty()) {
+                entries.remove(range.userId());
+            }
+            if (removed > 0) {
+                invalidations.addAndGet(removed);
+                logger.debug("Invalidated {} cached months between {} and {} for user {}",
+                        removed, range.from(), range.to(), range.userId());
+            }
+        }
+    }
+
+    private Map<YearMonth, MonthSummary> newMonths() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, MonthSummary> eldest) {
+                if (size() > maxMonthsPerUser) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface SummaryWriter<T> {
+        void write(MonthSummary summary, T value);
+    }
+
+    private record InvalidatedRange(Long userId, YearMonth from, YearMonth to) {
+    }
+
+    /**
+     * Cached months of one user and the version their invalidations advance. Only accessed while
+     * holding the cache lock.
+     */
+    private static final class UserMonths {
+
+        private final Map<YearMonth, MonthSummary> months;
+        private long version;
+
+        private UserMonths(Map<YearMonth, MonthSummary> months) {
+            this.months = months;
+        }
+    }
+
+    /**
+     * Cached parts of one month of one user. Only accessed while holding the cache lock.
+     */
+    private static final class MonthSummary {
+
+        private final ZoneId zone;
+        private final long expiresAtMillis;
+        private Integer dateMask;
+        private final Map<Long, Integer> labelDateMasks = new HashMap<>();
+        private final Map<Long, LabelTotals> labelTotals = new HashMap<>();
+
+        private MonthSummary(ZoneId zone, long expiresAtMillis) {
+            this.zone = zone;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.business.RecurringEventBO;
-import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.LabelTimeBucket;
 import com.yohan.event_planner.domain.RecurringEvent;
@@ -15,20 +14,19 @@ import com.yohan.event_planner.repository.LabelRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import com.yohan.event_planner.security.AuthenticatedUserProvider;
 import com.yohan.event_planner.security.OwnershipValidator;
-import com.yohan.event_planner.service.ParsedRecurrenceInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
 
@@ -96,16 +94,17 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
  * <h2>Performance Optimizations</h2>
  * <ul>
  *   <li><strong>Efficient Queries</strong>: Optimized database queries for month-based data</li>
- *   <li><strong>Stream Processing</strong>: Use Java streams for efficient data processing</li>
+ *   <li><strong>Day Masks</strong>: Month views are assembled as 31-bit day masks instead of date collections</li>
  *   <li><strong>Lazy Evaluation</strong>: Minimize unnecessary computations</li>
- *   <li><strong>Caching Opportunities</strong>: Structure for potential caching implementations</li>
+ *   <li><strong>Month Summary Cache</strong>: Day masks and label totals are kept per user and month in
+ *       {@link MonthSummaryCache} until a write touches the month (toggled by {@code app.calendar.month-cache.enabled})</li>
  * </ul>
  * 
  * <h2>Integration Architecture</h2>
  * <p>This service integrates with multiple system components:</p>
  * <ul>
  *   <li><strong>RecurringEventBO</strong>: Access recurring event patterns and expansion</li>
- *   <li><strong>RecurrenceRuleService</strong>: Generate occurrences from rules</li>
+ *   <li><strong>CompiledRecurrenceRule</strong>: Expand recurrence rules into the days of a month</li>
  *   <li><strong>LabelTimeBucketRepository</strong>: Retrieve time tracking statistics</li>
  *   <li><strong>EventRepository</strong>: Access regular event data</li>
  *   <li><strong>Security Framework</strong>: Validate ownership and access rights</li>
@@ -157,7 +156,8 @@ import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
  * 
  * @see MonthlyCalendarService
  * @see RecurringEventBO
- * @see RecurrenceRuleService
+ * @see CompiledRecurrenceRule
+ * @see MonthSummaryCache
  * @see LabelTimeBucketRepository
  * @see EventRepository
  * @author Event Planner Development Team
@@ -170,29 +170,32 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
     private static final Logger logger = LoggerFactory.getLogger(MonthlyCalendarServiceImpl.class);
     
     private final RecurringEventBO recurringEventBO;
-    private final RecurrenceRuleService recurrenceRuleService;
     private final LabelTimeBucketRepository labelTimeBucketRepository;
     private final EventRepository eventRepository;
     private final LabelRepository labelRepository;
     private final AuthenticatedUserProvider authenticatedUserProvider;
     private final OwnershipValidator ownershipValidator;
+    private final MonthSummaryCache monthSummaryCache;
+
+    @Value("${app.calendar.month-cache.enabled:true}")
+    private boolean monthCacheEnabled = true;
 
     public MonthlyCalendarServiceImpl(
             RecurringEventBO recurringEventBO,
-            RecurrenceRuleService recurrenceRuleService,
             LabelTimeBucketRepository labelTimeBucketRepository,
             EventRepository eventRepository,
             LabelRepository labelRepository,
             AuthenticatedUserProvider authenticatedUserProvider,
-            OwnershipValidator ownershipValidator
+            OwnershipValidator ownershipValidator,
+            MonthSummaryCache monthSummaryCache
     ) {
         this.recurringEventBO = recurringEventBO;
-        this.recurrenceRuleService = recurrenceRuleService;
         this.labelTimeBucketRepository = labelTimeBucketRepository;
         this.eventRepository = eventRepository;
         this.labelRepository = labelRepository;
         this.authenticatedUserProvider = authenticatedUserProvider;
         this.ownershipValidator = ownershipValidator;
+        this.monthSummaryCache = monthSummaryCache;
     }
 
     /**
@@ -208,6 +211,8 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
      *   <li><strong>Default Values</strong>: Uses current year/month in user's timezone when parameters are null</li>
      *   <li><strong>Security</strong>: Validates label ownership before processing</li>
      *   <li><strong>Statistics Source</strong>: Combines LabelTimeBucket duration with completed event counts</li>
+     *   <li><strong>Caching</strong>: Totals are served from {@link MonthSummaryCache} after ownership is validated;
+     *       the label name is always read from the label itself</li>
      * </ul>
      * 
      * @throws LabelNotFoundException if the specified label does not exist
@@ -237,25 +242,14 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
 
         ownershipValidator.validateLabelOwnership(viewer.getId(), label);
 
-        // Calculate month boundaries in UTC
-        ZonedDateTime[] boundaries = getMonthBoundariesUtc(year, month, userZoneId);
-        ZonedDateTime startOfMonthUtc = boundaries[0];
-        ZonedDateTime endOfMonthUtc = boundaries[1];
-
-        // Query the bucket repository to get the time spent in the month bucket for the selected label and user
-        LabelTimeBucket monthBucket = labelTimeBucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                viewer.getId(), labelId, MONTH, year, month
-        ).orElse(null);
-
-        // If monthBucket is null, return 0 for total time spent
-        long totalTimeSpent = (monthBucket != null) ? monthBucket.getDurationMinutes() : 0;
-
-        // Count the number of completed events for the selected label and month, adjusted for the user's time zone
-        long totalEvents = eventRepository.countByLabelIdAndEventDateBetweenAndIsCompleted(
-                labelId,
-                startOfMonthUtc,
-                endOfMonthUtc
-        );
+        YearMonth statsMonth = YearMonth.of(year, month);
+        Supplier<MonthSummaryCache.LabelTotals> loader =
+                () -> loadLabelTotals(viewer.getId(), labelId, statsMonth, userZoneId);
+        MonthSummaryCache.LabelTotals totals = monthCacheEnabled
+                ? monthSummaryCache.getLabelTotals(viewer.getId(), userZoneId, statsMonth, labelId, loader)
+                : loader.get();
+        long totalEvents = totals.completedEvents();
+        long totalTimeSpent = totals.minutesSpent();
 
         // Return the stats in the DTO
         LabelMonthStatsDTO result = new LabelMonthStatsDTO(label.getName(), totalEvents, totalTimeSpent);
@@ -272,10 +266,10 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
      * 
      * <h3>Implementation Details</h3>
      * <ul>
-     *   <li><strong>Event Processing</strong>: Extracts dates from both start and end times of events</li>
-     *   <li><strong>Timezone Conversion</strong>: Converts UTC event times to user timezone for accurate date extraction</li>
-     *   <li><strong>Multi-day Support</strong>: Includes all dates spanned by events that cross multiple days</li>
-     *   <li><strong>Deduplication</strong>: Ensures unique dates in the returned list</li>
+     *   <li><strong>SQL Extraction</strong>: The database converts event times to the user's timezone and returns distinct days of the month</li>
+     *   <li><strong>Multi-day Support</strong>: Includes every date spanned by an event, clamped to the requested month</li>
+     *   <li><strong>Deduplication</strong>: Dates are collected in a day mask, so each appears once and in chronological order</li>
+     *   <li><strong>Caching</strong>: The day mask is served from {@link MonthSummaryCache} after ownership is validated</li>
      * </ul>
      * 
      * @throws LabelNotFoundException if the specified label does not exist
@@ -308,34 +302,12 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
         ownershipValidator.validateLabelOwnership(viewer.getId(), label);
         logger.debug("Ownership validation passed");
 
-        // Calculate month boundaries in UTC
-        ZonedDateTime[] boundaries = getMonthBoundariesUtc(year, month, userZoneId);
-        ZonedDateTime startOfMonthUtc = boundaries[0];
-        ZonedDateTime endOfMonthUtc = boundaries[1];
-
-        // Query the event repository to get events for the selected label and user in the given month
-        List<Event> events = eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                labelId,
-                startOfMonthUtc,
-                endOfMonthUtc
-        );
-
-        // Extract the unique event dates considering both startTime and endTime
-        // Convert to user's timezone for proper date extraction
-        List<LocalDate> eventDates = events.stream()
-                .flatMap(event -> {
-                    // Convert UTC times to user's timezone for proper date extraction
-                    LocalDate startDate = event.getStartTime().withZoneSameInstant(userZoneId).toLocalDate();
-                    LocalDate endDate = (event.getEndTime() != null) ? 
-                        event.getEndTime().withZoneSameInstant(userZoneId).toLocalDate() : startDate;
-
-                    // If start and end dates are different, return both dates; otherwise, return the start date only
-                    return (startDate.equals(endDate))
-                            ? Stream.of(startDate)
-                            : Stream.of(startDate, endDate);
-                })
-                .distinct()  // Ensure unique dates
-                .collect(Collectors.toList());
+        YearMonth calendarMonth = YearMonth.of(year, month);
+        Supplier<Integer> loader = () -> loadLabelDayMask(labelId, calendarMonth, userZoneId);
+        int dayMask = monthCacheEnabled
+                ? monthSummaryCache.getLabelDateMask(viewer.getId(), userZoneId, calendarMonth, labelId, loader)
+                : loader.get();
+        List<LocalDate> eventDates = toDates(calendarMonth.atDay(1), dayMask);
 
         logger.info("Retrieved {} event dates for label {} in {}/{}", eventDates.size(), labelId, year, month);
         return eventDates;
@@ -351,17 +323,19 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
      * <h3>Implementation Details</h3>
      * <ul>
      *   <li><strong>Dual Source Processing</strong>: Combines confirmed scheduled events with recurring event patterns</li>
-     *   <li><strong>Recurrence Expansion</strong>: Uses RecurrenceRuleService to determine actual occurrence dates</li>
-     *   <li><strong>Multi-day Event Handling</strong>: Includes all dates spanned by events using date ranges</li>
-     *   <li><strong>Performance Optimization</strong>: Uses efficient stream processing and set operations</li>
+     *   <li><strong>Recurrence Expansion</strong>: Expands each compiled rule in closed form into a day mask of the month</li>
+     *   <li><strong>Multi-day Event Handling</strong>: Includes every date spanned by an event, clamped to the requested month</li>
+     *   <li><strong>Performance Optimization</strong>: No event entities are loaded; both sources are merged with a bitwise OR</li>
      *   <li><strong>Boundary Validation</strong>: Ensures recurring events respect their start/end date constraints</li>
+     *   <li><strong>Caching</strong>: The combined day mask is served from {@link MonthSummaryCache} until an event
+     *       or recurring event write touches the month</li>
      * </ul>
      * 
      * <h3>Data Sources</h3>
      * <ul>
-     *   <li><strong>EventRepository</strong>: Retrieves confirmed scheduled events within month boundaries</li>
+     *   <li><strong>EventRepository</strong>: Returns the days of the month covered by confirmed scheduled events</li>
      *   <li><strong>RecurringEventBO</strong>: Provides recurring events that overlap with the specified month</li>
-     *   <li><strong>RecurrenceRuleService</strong>: Evaluates recurrence patterns against specific dates</li>
+     *   <li><strong>CompiledRecurrenceRule</strong>: Computes the occurrence days of a rule within the month</li>
      * </ul>
      */
     @Override
@@ -381,51 +355,110 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
         validateMonthParameter(month, viewer.getId());
         logger.debug("Month parameter is valid: {}", month);
 
+        YearMonth calendarMonth = YearMonth.of(year, month);
+        Supplier<Integer> loader = () -> loadDayMask(viewer.getId(), calendarMonth, userZoneId);
+        int dayMask = monthCacheEnabled
+                ? monthSummaryCache.getDateMask(viewer.getId(), userZoneId, calendarMonth, loader)
+                : loader.get();
+
+        List<LocalDate> combinedDates = toDates(calendarMonth.atDay(1), dayMask);
+        logger.info("Combined calendar view for user {} in {}/{}: {} total dates",
+                viewer.getId(), year, month, combinedDates.size());
+
+        return combinedDates;
+    }
+
+    /**
+     * Loads the completed event count and month bucket duration of a label.
+     *
+     * @param userId the ID of the user owning the label
+     * @param labelId the label whose totals are loaded
+     * @param calendarMonth the month being viewed
+     * @param userZoneId the user's timezone defining the month boundaries
+     * @return the label's totals for the month
+     */
+    private MonthSummaryCache.LabelTotals loadLabelTotals(Long userId, Long labelId, YearMonth calendarMonth, ZoneId userZoneId) {
         // Calculate month boundaries in UTC
-        ZonedDateTime[] boundaries = getMonthBoundariesUtc(year, month, userZoneId);
+        ZonedDateTime[] boundaries = getMonthBoundariesUtc(calendarMonth.getYear(), calendarMonth.getMonthValue(), userZoneId);
         ZonedDateTime startOfMonthUtc = boundaries[0];
         ZonedDateTime endOfMonthUtc = boundaries[1];
 
-        // Fetch and process scheduled events
-        List<Event> events = eventRepository.findConfirmedEventsForUserBetween(
-                viewer.getId(),
+        // Query the bucket repository to get the time spent in the month bucket for the selected label and user
+        LabelTimeBucket monthBucket = labelTimeBucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
+                userId, labelId, MONTH, calendarMonth.getYear(), calendarMonth.getMonthValue()
+        ).orElse(null);
+
+        // If monthBucket is null, return 0 for total time spent
+        long totalTimeSpent = (monthBucket != null) ? monthBucket.getDurationMinutes() : 0;
+
+        // Count the number of completed events for the selected label and month, adjusted for the user's time zone
+        long totalEvents = eventRepository.countByLabelIdAndEventDateBetweenAndIsCompleted(
+                labelId,
                 startOfMonthUtc,
                 endOfMonthUtc
         );
-        Stream<LocalDate> scheduledEventDates = extractScheduledEventDates(events, userZoneId);
 
-        // Fetch and process recurring events
-        ZonedDateTime startOfMonthUser = LocalDate.of(year, month, 1).atStartOfDay(userZoneId);
-        ZonedDateTime endOfMonthUser = LocalDate.of(year, month, 1)
-                .withDayOfMonth(LocalDate.of(year, month, 1).lengthOfMonth())
-                .atTime(23, 59).atZone(userZoneId);
-        
+        return new MonthSummaryCache.LabelTotals(totalEvents, totalTimeSpent);
+    }
+
+    /**
+     * Loads the days of the month covered by completed events of a label.
+     *
+     * @param labelId the label the events are filtered by
+     * @param calendarMonth the month being viewed
+     * @param userZoneId the user's timezone the days are computed in
+     * @return day mask with day 1 of the month in bit 0
+     */
+    private int loadLabelDayMask(Long labelId, YearMonth calendarMonth, ZoneId userZoneId) {
+        // Calculate month boundaries in UTC
+        ZonedDateTime[] boundaries = getMonthBoundariesUtc(calendarMonth.getYear(), calendarMonth.getMonthValue(), userZoneId);
+
+        // Let the database reduce the label's completed events to the days of the month they cover
+        return toDayMask(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                labelId,
+                boundaries[0],
+                boundaries[1],
+                userZoneId.getId(),
+                calendarMonth.atDay(1),
+                calendarMonth.atEndOfMonth()
+        ));
+    }
+
+    /**
+     * Loads the days of the month with confirmed scheduled events or recurring occurrences.
+     *
+     * @param userId the ID of the user viewing the calendar
+     * @param calendarMonth the month being viewed
+     * @param userZoneId the user's timezone the days are computed in
+     * @return day mask with day 1 of the month in bit 0
+     */
+    private int loadDayMask(Long userId, YearMonth calendarMonth, ZoneId userZoneId) {
+        // Calculate month boundaries in UTC
+        ZonedDateTime[] boundaries = getMonthBoundariesUtc(calendarMonth.getYear(), calendarMonth.getMonthValue(), userZoneId);
+        LocalDate firstOfMonth = calendarMonth.atDay(1);
+        LocalDate lastOfMonth = calendarMonth.atEndOfMonth();
+
+        // Scheduled events: the database returns the days of the month they cover
+        int scheduledMask = toDayMask(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                userId,
+                boundaries[0],
+                boundaries[1],
+                userZoneId.getId(),
+                firstOfMonth,
+                lastOfMonth
+        ));
+
+        // Recurring events: expanded in closed form from their compiled rules
         List<RecurringEvent> recurringEvents = recurringEventBO.getConfirmedRecurringEventsForUserInRange(
-                viewer.getId(),
-                startOfMonthUser.toLocalDate(),
-                endOfMonthUser.toLocalDate()
+                userId,
+                firstOfMonth,
+                lastOfMonth
         );
+        int recurringMask = extractRecurringEventDayMask(recurringEvents, calendarMonth);
 
-        List<LocalDate> datesInMonth = startOfMonthUser.toLocalDate()
-                .datesUntil(endOfMonthUser.toLocalDate().plusDays(1))
-                .collect(Collectors.toList());
-        
-        Set<LocalDate> recurringEventDates = extractRecurringEventDates(recurringEvents, datesInMonth);
-
-        // Combine and return results
-        List<LocalDate> combinedDates = Stream.concat(scheduledEventDates, recurringEventDates.stream())
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
-        
-        // Count scheduled dates for logging (need to re-extract since stream was consumed)
-        long scheduledCount = extractScheduledEventDates(events, userZoneId).count();
-        
-        logger.info("Combined calendar view for user {} in {}/{}: {} total dates ({} scheduled, {} recurring)", 
-                viewer.getId(), year, month, combinedDates.size(), 
-                scheduledCount, recurringEventDates.size());
-        
-        return combinedDates;
+        logger.debug("Loaded day mask for user {} in {}: {} scheduled, {} recurring days",
+                userId, calendarMonth, Integer.bitCount(scheduledMask), Integer.bitCount(recurringMask));
+        return scheduledMask | recurringMask;
     }
 
     /**
@@ -482,47 +515,81 @@ public class MonthlyCalendarServiceImpl implements MonthlyCalendarService{
     }
 
     /**
-     * Extracts unique dates from a list of events, handling timezone conversion and multi-day events.
-     * 
-     * @param events The list of events to process
-     * @param userZoneId The user's timezone for date extraction
-     * @return A stream of unique LocalDate objects where events occur
+     * Builds a day mask from the zero-based day offsets returned by the month queries.
+     *
+     * @param dayOffsets offsets from the first of the month, each between 0 and 30
+     * @return day mask with day 1 of the month in bit 0
      */
-    private Stream<LocalDate> extractScheduledEventDates(List<Event> events, ZoneId userZoneId) {
-        return events.stream()
-                .flatMap(event -> {
-                    LocalDate startDate = event.getStartTime().withZoneSameInstant(userZoneId).toLocalDate();
-                    LocalDate endDate = event.getEndTime().withZoneSameInstant(userZoneId).toLocalDate();
-
-                    // Return all dates from start to end (inclusive)
-                    return startDate.datesUntil(endDate.plusDays(1));
-                });
+    private int toDayMask(List<Integer> dayOffsets) {
+        int mask = 0;
+        for (Integer offset : dayOffsets) {
+            mask |= 1 << offset;
+        }
+        return mask;
     }
 
     /**
-     * Extracts dates from recurring events by evaluating recurrence rules against each date in the month.
-     * 
-     * @param recurringEvents The list of recurring events to process
-     * @param datesInMonth All dates within the target month
-     * @return A set of unique LocalDate objects where recurring events occur
+     * Computes the days of the month on which any of the recurring events occurs.
+     *
+     * <p>Each rule is expanded with {@link CompiledRecurrenceRule#occurrenceMask(YearMonth)} and
+     * then restricted to the days between the recurring event's start and end dates. Rules left
+     * uncompiled on load have no evaluable occurrences and contribute no days, the same way
+     * conflict validation treats them as sharing no days.</p>
+     *
+     * @param recurringEvents the recurring events overlapping the month
+     * @param yearMonth the month being viewed
+     * @return day mask with day 1 of the month in bit 0
      */
-    private Set<LocalDate> extractRecurringEventDates(List<RecurringEvent> recurringEvents, List<LocalDate> datesInMonth) {
-        Set<LocalDate> recurringEventDates = new HashSet<>();
+    private int extractRecurringEventDayMask(List<RecurringEvent> recurringEvents, YearMonth yearMonth) {
+        LocalDate firstOfMonth = yearMonth.atDay(1);
+        LocalDate lastOfMonth = yearMonth.atEndOfMonth();
+        int mask = 0;
         for (RecurringEvent recurringEvent : recurringEvents) {
-            ParsedRecurrenceInput parsed = recurringEvent.getRecurrenceRule().getParsed();
+            CompiledRecurrenceRule rule = recurringEvent.getRecurrenceRule().getCompiled();
+            if (rule == null) {
+                continue;
+            }
+            LocalDate from = max(recurringEvent.getStartDate(), firstOfMonth);
+            LocalDate to = recurringEvent.getEndDate() != null
+                    ? min(recurringEvent.getEndDate(), lastOfMonth)
+                    : lastOfMonth;
+            if (from.isAfter(to)) {
+                continue;
+            }
+            int activeDays = dayRangeMask(from.getDayOfMonth(), to.getDayOfMonth());
+            mask |= rule.occurrenceMask(yearMonth) & activeDays;
+        }
+        return mask;
+    }
 
-            for (LocalDate date : datesInMonth) {
-                // Ensure date is within the recurring event's startDate and endDate range
-                if ((date.isAfter(recurringEvent.getStartDate()) || date.isEqual(recurringEvent.getStartDate())) &&
-                        (date.isBefore(recurringEvent.getEndDate()) || date.isEqual(recurringEvent.getEndDate()))) {
+    /**
+     * Returns a day mask with every day from {@code fromDay} to {@code toDay} (inclusive) set.
+     */
+    private static int dayRangeMask(int fromDay, int toDay) {
+        return (int) (((1L << toDay) - 1) & ~((1L << (fromDay - 1)) - 1));
+    }
 
-                    if (recurrenceRuleService.occursOn(parsed, date)) {
-                        recurringEventDates.add(date);
-                    }
-                }
-            }
+    /**
+     * Converts a day mask into the dates it contains, in chronological order.
+     *
+     * @param firstOfMonth the date represented by bit 0
+     * @param dayMask day mask with day 1 of the month in bit 0
+     * @return the dates whose bits are set
+     */
+    private static List<LocalDate> toDates(LocalDate firstOfMonth, int dayMask) {
+        List<LocalDate> dates = new ArrayList<>(Integer.bitCount(dayMask));
+        for (int remaining = dayMask; remaining != 0; remaining &= remaining - 1) {
+            dates.add(firstOfMonth.plusDays(Integer.numberOfTrailingZeros(remaining)));
         }
-        return recurringEventDates;
+        return dates;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
     }
 
 }
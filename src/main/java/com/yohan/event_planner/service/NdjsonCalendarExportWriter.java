@@ -0,0 +1,67 @@
+package com.yohan.event_planner.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.ZoneId;
+
+/**
+ * Writes a calendar export as newline-delimited JSON, one {@link CalendarExportRowDTO} object
+ * per line, omitting fields that do not apply to the entry.
+ *
+ * <p>Rows are serialized straight into the underlying writer. The Jackson writer is configured
+ * not to close or flush it after each row, so output is only flushed at the caller's chunk
+ * boundaries.</p>
+ */
+final class NdjsonCalendarExportWriter implements CalendarExportWriter {
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final ObjectWriter rowWriter;
+
+    /**
+     * @param out the writer to write the file to
+     * @param zone the creator's time zone, in which recurring event times apply
+     * @param objectMapper the application object mapper
+     */
+    NdjsonCalendarExportWriter(Writer out, ZoneId zone, ObjectMapper objectMapper) {
+        this.out = out;
+        this.zone = zone;
+        this.rowWriter = objectMapper.writerFor(CalendarExportRowDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void begin() {
+        // No header
+    }
+
+    @Override
+    public void writeEvent(Event event) throws IOException {
+        writeRow(CalendarExportRowDTO.fromEvent(event));
+    }
+
+    @Override
+    public void writeRecurringEvent(RecurringEvent recurringEvent) throws IOException {
+        writeRow(CalendarExportRowDTO.fromRecurringEvent(recurringEvent, zone));
+    }
+
+    @Override
+    public void end() {
+        // No trailer
+    }
+
+    private void writeRow(CalendarExportRowDTO row) throws IOException {
+        rowWriter.writeValue(out, row);
+        out.write('\n');
+    }
+}
@@ -0,0 +1,51 @@
+package com.yohan.event_planner.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yohan.event_planner.dto.CalendarExportRowDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads a calendar import from newline-delimited JSON, one {@link CalendarExportRowDTO} per line.
+ *
+ * <p>Lines are parsed independently, so a malformed line only fails its own entry. Blank lines
+ * are skipped and unknown properties ignored.</p>
+ */
+final class NdjsonCalendarImportReader implements CalendarImportReader {
+
+    private final BufferedReader in;
+    private final ObjectReader rowReader;
+    private int rowNumber;
+
+    /**
+     * @param in the reader to read the file from
+     * @param objectMapper the application object mapper, configured for {@code java.time} types
+     */
+    NdjsonCalendarImportReader(BufferedReader in, ObjectMapper objectMapper) {
+        this.in = in;
+        this.rowReader = objectMapper.readerFor(CalendarExportRowDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public CalendarImportRow next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        int number = ++rowNumber;
+        try {
+            return CalendarImportRow.read(number, rowReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return CalendarImportRow.failed(number, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+}
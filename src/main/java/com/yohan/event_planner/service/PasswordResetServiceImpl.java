@@ -1,5 +1,6 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.domain.PasswordResetToken;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.auth.ForgotPasswordRequestDTO;
@@ -60,6 +61,7 @@ public class PasswordResetServiceImpl implements PasswordResetService {
     private final PasswordEncoder passwordEncoder;
     private final ClockProvider clockProvider;
     private final SecureRandom secureRandom;
+    private final UserCache userCache;
 
     @Value("${app.password-reset.token-expiry-minutes}")
     private int tokenExpiryMinutes;
@@ -92,19 +94,22 @@ public class PasswordResetServiceImpl implements PasswordResetService {
      * @param emailService service for sending emails
      * @param passwordEncoder encoder for password hashing
      * @param clockProvider provider for current time
+     * @param userCache shared user cache, invalidated when a password changes
      */
     public PasswordResetServiceImpl(
             PasswordResetTokenRepository passwordResetTokenRepository,
             UserRepository userRepository,
             EmailService emailService,
             PasswordEncoder passwordEncoder,
-            ClockProvider clockProvider) {
+            ClockProvider clockProvider,
+            UserCache userCache) {
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.passwordEncoder = passwordEncoder;
         this.clockProvider = clockProvider;
         this.secureRandom = new SecureRandom();
+        this.userCache = userCache;
     }
 
     /**
@@ -216,6 +221,7 @@ public class PasswordResetServiceImpl implements PasswordResetService {
                 logger.error("Failed to save user with new password: {}", user.getUsername(), e);
                 throw new PasswordResetException(ErrorCode.PASSWORD_RESET_DATABASE_ERROR, e);
             }
+            userCache.invalidate(user.getId());
             
             // Mark token as used
             resetToken.markAsUsed();
@@ -0,0 +1,149 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.RateLimitWindowDTO;
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link RateLimitCounter} whose counts are shared by all application instances through PostgreSQL.
+ *
+ * <p>Attempts are stored per sub-window in {@code rate_limit_buckets}, using the same sub-window
+ * layout as {@link SlidingWindowRateLimiter}. Recording an attempt is one upsert-and-sum statement,
+ * so the returned count always includes attempts made on other instances.</p>
+ *
+ * <h2>Near-Cache</h2>
+ * <p>Checks are served from a small, bounded local cache holding the most recent window of each
+ * hot key:</p>
+ * <ul>
+ *   <li><strong>Limited Keys</strong>: Cached until their oldest attempt leaves the window. Counts
+ *       only ever drop by expiry, so the denial cannot become wrong earlier</li>
+ *   <li><strong>Other Keys</strong>: Cached for {@code nearCacheTtl}; attempts made on other
+ *       instances within that time are seen on the next record or after the entry expires</li>
+ *   <li><strong>Records</strong>: Always go to the database and refresh the cached window</li>
+ * </ul>
+ *
+ * @see com.yohan.event_planner.domain.RateLimitBucket
+ * @see com.yohan.event_planner.jobs.RateLimitBucketCleanupJob
+ */
+public final class PostgresRateLimitCounter implements RateLimitCounter {
+
+    private final String name;
+    private final int maxAttempts;
+    private final int subWindows;
+    private final long subWindowMillis;
+    private final long nearCacheTtlMillis;
+    private final int nearCacheSize;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final Clock clock;
+
+    private final Map<String, CachedWindow> nearCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedWindow> eldest) {
+            return size() > nearCacheSize;
+        }
+    };
+
+    /**
+     * Creates a counter allowing {@code maxAttempts} attempts per key within {@code window}.
+     *
+     * @param name limiter name stored with every row
+     * @param maxAttempts maximum attempts per key within the window
+     * @param window length of the sliding window
+     * @param subWindows number of sub-windows the window is divided into
+     * @param nearCacheSize maximum number of keys held in the near-cache
+     * @param nearCacheTtl how long an unlimited key's window is served from the near-cache
+     * @param rateLimitBucketRepository repository holding the shared counters
+     * @param clock clock supplying the current time
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public PostgresRateLimitCounter(String name, int maxAttempts, Duration window, int subWindows,
+                                    int nearCacheSize, Duration nearCacheTtl,
+                                    RateLimitBucketRepository rateLimitBucketRepository, Clock clock) {
+        if (maxAttempts <= 0 || subWindows <= 0 || nearCacheSize <= 0) {
+            throw new IllegalArgumentException("Rate limiter limits must be positive");
+        }
+        if (window == null || window.toMillis() < subWindows) {
+            throw new IllegalArgumentException("Rate limit window must cover at least one millisecond per sub-window");
+        }
+        this.name = name;
+        this.maxAttempts = maxAttempts;
+        this.subWindows = subWindows;
+        this.subWindowMillis = window.toMillis() / subWindows;
+        this.nearCacheSize = nearCacheSize;
+        this.nearCacheTtlMillis = nearCacheTtl.toMillis();
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Snapshot check(String key) {
+        long now = clock.millis();
+        CachedWindow cached;
+        synchronized (nearCache) {
+            cached = nearCache.get(key);
+        }
+        if (cached != null && now < cached.validUntilMillis()) {
+            return toSnapshot(cached, now);
+        }
+
+        long bucket = now / subWindowMillis;
+        RateLimitWindowDTO window = rateLimitBucketRepository.sumWindow(name, key, bucket - subWindows + 1);
+        return cache(key, window, now);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Snapshot record(String key) {
+        long now = clock.millis();
+        long bucket = now / subWindowMillis;
+        Instant expiresAt = Instant.ofEpochMilli((bucket + subWindows) * subWindowMillis);
+
+        RateLimitWindowDTO window = rateLimitBucketRepository.incrementAndSum(
+                name, key, bucket, bucket - subWindows + 1, expiresAt);
+        return cache(key, window, now);
+    }
+
+    /**
+     * Forgets all near-cached windows. Shared counters are left untouched.
+     */
+    public void clearNearCache() {
+        synchronized (nearCache) {
+            nearCache.clear();
+        }
+    }
+
+    private Snapshot cache(String key, RateLimitWindowDTO window, long now) {
+        long resetAtMillis = window.oldestBucket() == null
+                ? now
+                : (window.oldestBucket() + subWindows) * subWindowMillis;
+        boolean limited = window.attempts() >= maxAttempts;
+        long validUntilMillis = limited ? resetAtMillis : now + nearCacheTtlMillis;
+
+        CachedWindow cached = new CachedWindow(window.attempts(), resetAtMillis, validUntilMillis);
+        synchronized (nearCache) {
+            nearCache.put(key, cached);
+        }
+        return toSnapshot(cached, now);
+    }
+
+    private Snapshot toSnapshot(CachedWindow window, long now) {
+        if (window.attempts() == 0) {
+            return new Snapshot(0, maxAttempts, 0);
+        }
+        long resetMillis = Math.max(0, window.resetAtMillis() - now);
+        return new Snapshot(window.attempts(), Math.max(0, maxAttempts - window.attempts()), (resetMillis + 999) / 1000);
+    }
+
+    private record CachedWindow(int attempts, long resetAtMillis, long validUntilMillis) {
+    }
+}
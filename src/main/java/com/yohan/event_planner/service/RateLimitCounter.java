@@ -0,0 +1,46 @@
+package com.yohan.event_planner.service;
+
+/**
+ * Per-key attempt counter over a sliding window, as used by {@link RateLimitingServiceImpl}.
+ *
+ * <p>Implementations decide where the counts live: {@link SlidingWindowRateLimiter} keeps them in
+ * process memory, {@link PostgresRateLimitCounter} shares them between application instances
+ * through the database. The backend is selected with {@code app.rate-limit.backend}.</p>
+ */
+public interface RateLimitCounter {
+
+    /**
+     * Current state of a key's window.
+     *
+     * @param attempts attempts counted inside the window
+     * @param remaining attempts left before the key is limited
+     * @param resetSeconds seconds until the oldest counted attempt leaves the window, or 0 when none are counted
+     */
+    record Snapshot(int attempts, int remaining, long resetSeconds) {
+
+        /**
+         * Returns whether another attempt is allowed.
+         *
+         * @return true if at least one attempt remains
+         */
+        public boolean allowed() {
+            return remaining > 0;
+        }
+    }
+
+    /**
+     * Reads the window of a key without counting an attempt.
+     *
+     * @param key the client identifier
+     * @return the current window state
+     */
+    Snapshot check(String key);
+
+    /**
+     * Counts an attempt for a key and returns the resulting window state.
+     *
+     * @param key the client identifier
+     * @return the window state including the new attempt
+     */
+    Snapshot record(String key);
+}
@@ -1,54 +1,54 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.constants.ApplicationConstants;
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+import com.yohan.event_planner.time.ClockProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
 
 /**
- * Implementation of rate limiting service using in-memory caching.
+ * Implementation of rate limiting service using sliding windows of per-IP attempt counters.
  *
  * <p>
- * This service provides thread-safe rate limiting functionality using Spring's
- * caching infrastructure. It implements sliding window rate limiting to prevent
- * abuse while allowing legitimate usage patterns.
- * </p>
- *
- * <h2>Rate Limiting Algorithm</h2>
- * <p>
- * Uses a sliding window algorithm with the following characteristics:
+ * Each rate limited operation owns a {@link RateLimitCounter}. The counter backend is selected
+ * with {@code app.rate-limit.backend}:
  * </p>
  * <ul>
- *   <li><strong>Window Size</strong>: 1 hour for registration attempts</li>
- *   <li><strong>Attempt Limit</strong>: 5 registration attempts per window</li>
- *   <li><strong>Sliding Behavior</strong>: Window slides continuously, not fixed intervals</li>
- *   <li><strong>Automatic Cleanup</strong>: Old entries are automatically removed</li>
+ *   <li><strong>memory</strong> (default): {@link SlidingWindowRateLimiter}, lock-free counters local
+ *       to this instance</li>
+ *   <li><strong>postgres</strong>: {@link PostgresRateLimitCounter}, counters shared by every
+ *       instance so a client gets one quota across the cluster</li>
  * </ul>
  *
- * <h2>Security Features</h2>
+ * <h2>Rate Limiting Algorithm</h2>
  * <ul>
- *   <li><strong>IP-based Limiting</strong>: Rate limits applied per client IP address</li>
- *   <li><strong>Attack Prevention</strong>: Prevents various abuse patterns</li>
- *   <li><strong>Resource Protection</strong>: Protects backend resources from overload</li>
- *   <li><strong>Fair Usage</strong>: Ensures fair access for legitimate users</li>
+ *   <li><strong>Sub-Windows</strong>: Each window is split into {@code app.rate-limit.sub-windows} slots</li>
+ *   <li><strong>Sliding Behavior</strong>: Attempts leave the window one sub-window at a time</li>
+ *   <li><strong>Limits</strong>: Attempt limits and window sizes come from {@link ApplicationConstants}</li>
  * </ul>
  *
- * <h2>Performance Characteristics</h2>
+ * <h2>Memory Bounds</h2>
  * <ul>
- *   <li><strong>In-Memory Storage</strong>: Fast access with low latency</li>
- *   <li><strong>Thread Safety</strong>: Concurrent access safe operations</li>
- *   <li><strong>Memory Efficient</strong>: Automatic cleanup of expired data</li>
- *   <li><strong>Scalable</strong>: Handles high concurrent load efficiently</li>
+ *   <li><strong>Idle Expiry</strong>: Addresses without attempts in the window expire</li>
+ *   <li><strong>Capacity</strong>: At most {@code app.rate-limit.max-tracked-keys} addresses are tracked per operation
+ *       in memory, or {@code app.rate-limit.postgres.near-cache-size} near-cached with the postgres backend</li>
  * </ul>
  *
+ * <h2>Error Handling</h2>
+ * <p>
+ * Every operation fails open: if the limiter throws, the request is allowed, remaining attempts
+ * report the maximum and reset times report zero, so rate limiting can never take the
+ * authentication endpoints down.
+ * </p>
+ *
  * @see RateLimitingService
- * @see org.springframework.cache.CacheManager
+ * @see RateLimitCounter
  * @author Event Planner Development Team
  * @version 1.0.0
  * @since 2.1.0
@@ -58,197 +58,93 @@ public class RateLimitingServiceImpl implements RateLimitingService {
 
     private static final Logger logger = LoggerFactory.getLogger(RateLimitingServiceImpl.class);
 
+    private static final int DEFAULT_SUB_WINDOWS = 12;
+    private static final int DEFAULT_MAX_TRACKED_KEYS = 100_000;
+    private static final int DEFAULT_NEAR_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_NEAR_CACHE_TTL_MS = 1_000;
 
-    private final CacheManager cacheManager;
+    private final String backend;
+    private final int subWindows;
+    private final int maxTrackedKeys;
+    private final int nearCacheSize;
+    private final Duration nearCacheTtl;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+
+    private RateLimitCounter registrationLimiter;
+    private RateLimitCounter loginLimiter;
+    private RateLimitCounter passwordResetLimiter;
+    private RateLimitCounter emailVerificationLimiter;
 
     /**
-     * Constructs a new rate limiting service with the specified cache manager.
-     * 
-     * <p>
-     * The cache manager is used to store and retrieve rate limiting data using
-     * Spring's caching abstraction. The implementation expects all required caches
-     * to be configured in the cache manager.
-     * </p>
-     * 
-     * <h3>Cache Configuration Requirements</h3>
-     * <ul>
-     *   <li><strong>Cache Names</strong>: registration-rate-limit, login-rate-limit, password-reset-rate-limit, email-verification-rate-limit</li>
-     *   <li><strong>Concurrency</strong>: Must support concurrent read/write operations</li>
-     *   <li><strong>Expiration</strong>: Optional, as manual cleanup is implemented</li>
-     * </ul>
+     * Constructs a new rate limiting service and builds one limiter per rate limited operation.
      *
-     * @param cacheManager the cache manager for storing rate limit data.
-     *                     Must not be null and should have the required cache configured.
-     * @throws IllegalArgumentException if cacheManager is null
+     * @param clockProvider provider for the clock used to place attempts in sub-windows.
+     *                      Must not be null.
+     * @param rateLimitBucketRepository repository for the shared counters of the postgres backend
+     * @param backend counter backend, {@code memory} or {@code postgres}
+     * @param subWindows number of sub-windows each window is split into
+     * @param maxTrackedKeys maximum number of addresses tracked per operation by the memory backend
+     * @param nearCacheSize maximum number of addresses near-cached per operation by the postgres backend
+     * @param nearCacheTtlMs how long the postgres backend serves a near-cached count, in milliseconds
+     * @throws IllegalArgumentException if clockProvider is null
+     * @throws IllegalStateException if {@code backend} names an unknown backend
      */
-    public RateLimitingServiceImpl(CacheManager cacheManager) {
-        if (cacheManager == null) {
-            throw new IllegalArgumentException("CacheManager cannot be null");
-        }
-        this.cacheManager = cacheManager;
+    public RateLimitingServiceImpl(
+            ClockProvider clockProvider,
+            RateLimitBucketRepository rateLimitBucketRepository,
+            @Value("${app.rate-limit.backend:memory}") String backend,
+            @Value("${app.rate-limit.sub-windows:" + DEFAULT_SUB_WINDOWS + "}") int subWindows,
+            @Value("${app.rate-limit.max-tracked-keys:" + DEFAULT_MAX_TRACKED_KEYS + "}") int maxTrackedKeys,
+            @Value("${app.rate-limit.postgres.near-cache-size:" + DEFAULT_NEAR_CACHE_SIZE + "}") int nearCacheSize,
+            @Value("${app.rate-limit.postgres.near-cache-ttl-ms:" + DEFAULT_NEAR_CACHE_TTL_MS + "}") long nearCacheTtlMs) {
+        if (clockProvider == null) {
+            throw new IllegalArgumentException("ClockProvider cannot be null");
+        }
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.backend = backend;
+        this.subWindows = subWindows;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.nearCacheSize = nearCacheSize;
+        this.nearCacheTtl = Duration.ofMillis(nearCacheTtlMs);
+        initializeLimiters(clockProvider.getClockForZone(ZoneOffset.UTC));
     }
 
     /**
-     * Rate limit entry containing attempt tracking data for sliding window algorithm.
-     * 
-     * <p>
-     * This inner class implements a sophisticated sliding window rate limiting mechanism
-     * that tracks attempts across hourly time slots. It provides thread-safe operations
-     * for checking limits, recording attempts, and automatic cleanup of expired data.
-     * </p>
-     * 
-     * <h3>Algorithm Details</h3>
-     * <ul>
-     *   <li><strong>Time Slots</strong>: Tracks attempts per hour using epoch hour as key</li>
-     *   <li><strong>Sliding Window</strong>: Continuously removes expired hourly slots</li>
-     *   <li><strong>Thread Safety</strong>: All operations are synchronized for concurrent access</li>
-     *   <li><strong>Memory Efficiency</strong>: Automatic cleanup prevents memory leaks</li>
-     * </ul>
+     * Builds one limiter per rate limited operation from the configuration.
+     *
+     * @param clock clock used by every limiter
+     * @throws IllegalStateException if the backend is unknown
      */
-    private static class RateLimitEntry {
-        private final ConcurrentHashMap<Long, Integer> timeSlots = new ConcurrentHashMap<>();
-        private final double windowSizeHours;
-
-        /**
-         * Constructs a new rate limit entry with the specified window size.
-         * 
-         * @param windowSizeHours the size of the sliding window in hours (supports fractional hours)
-         */
-        public RateLimitEntry(double windowSizeHours) {
-            this.windowSizeHours = windowSizeHours;
-        }
-
-        /**
-         * Checks if an additional attempt is allowed within the current rate limit.
-         * 
-         * <p>
-         * This method performs automatic cleanup of expired entries before checking
-         * the current attempt count against the maximum allowed attempts.
-         * </p>
-         * 
-         * @param maxAttempts the maximum number of attempts allowed in the window
-         * @return true if an additional attempt is allowed, false if limit would be exceeded
-         */
-        public synchronized boolean isAllowed(int maxAttempts) {
-            cleanupOldEntries();
-            int currentAttempts = getCurrentAttempts();
-            return currentAttempts < maxAttempts;
-        }
-
-        /**
-         * Records a new attempt in the current hour slot.
-         * 
-         * <p>
-         * This method increments the attempt counter for the current hour,
-         * creating a new slot if none exists. Expired entries are cleaned
-         * up before recording the attempt.
-         * </p>
-         */
-        public synchronized void recordAttempt() {
-            cleanupOldEntries();
-            long currentHour = getCurrentHour();
-            timeSlots.merge(currentHour, 1, Integer::sum);
-        }
-
-        /**
-         * Gets the total number of attempts in the current sliding window.
-         * 
-         * <p>
-         * This method sums all attempts across all active time slots within
-         * the sliding window after cleaning up expired entries.
-         * </p>
-         * 
-         * @return the total number of attempts in the current window
-         */
-        public synchronized int getCurrentAttempts() {
-            cleanupOldEntries();
-            return timeSlots.values().stream().mapToInt(Integer::intValue).sum();
-        }
-
-        /**
-         * Calculates the time in seconds until the rate limit window resets.
-         * 
-         * <p>
-         * The reset time is determined by finding the oldest active time slot
-         * and calculating when it will expire from the sliding window. If no
-         * attempts are recorded, returns 0 indicating immediate availability.
-         * </p>
-         * 
-         * @return the number of seconds until the rate limit resets, or 0 if no limit is active
-         */
-        public synchronized long getResetTime() {
-            cleanupOldEntries();
-            if (timeSlots.isEmpty()) {
-                return 0;
-            }
-            long oldestHour = timeSlots.keySet().stream().min(Long::compareTo).orElse(getCurrentHour());
-            double resetHour = oldestHour + windowSizeHours;
-            long currentHour = getCurrentHour();
-            return Math.max(0, (long)((resetHour - currentHour) * 3600));
-        }
-
-        /**
-         * Removes expired time slots that fall outside the current sliding window.
-         * 
-         * <p>
-         * This method calculates the cutoff hour based on the current time and window size,
-         * then removes all time slots older than the cutoff. This ensures the sliding
-         * window behavior and prevents memory leaks from accumulating old data.
-         * </p>
-         * 
-         * <h4>Algorithm Details</h4>
-         * <ul>
-         *   <li>Cutoff calculation: currentHour - windowSizeHours + 1</li>
-         *   <li>Removal condition: timeSlot.hour < cutoffHour</li>
-         *   <li>Atomic operation: uses removeIf for thread-safe bulk removal</li>
-         * </ul>
-         */
-        private void cleanupOldEntries() {
-            long currentHour = getCurrentHour();
-            long cutoffHour = (long)(currentHour - windowSizeHours + 1);
-            timeSlots.entrySet().removeIf(entry -> entry.getKey() < cutoffHour);
-        }
+    private void initializeLimiters(Clock clock) {
+        registrationLimiter = createLimiter(ApplicationConstants.REGISTRATION_CACHE,
+                ApplicationConstants.MAX_REGISTRATION_ATTEMPTS, ApplicationConstants.REGISTRATION_WINDOW_HOURS, clock);
+        loginLimiter = createLimiter(ApplicationConstants.LOGIN_CACHE,
+                ApplicationConstants.MAX_LOGIN_ATTEMPTS, ApplicationConstants.LOGIN_WINDOW_HOURS, clock);
+        passwordResetLimiter = createLimiter(ApplicationConstants.PASSWORD_RESET_CACHE,
+                ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS, ApplicationConstants.PASSWORD_RESET_WINDOW_HOURS, clock);
+        emailVerificationLimiter = createLimiter(ApplicationConstants.EMAIL_VERIFICATION_CACHE,
+                ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS, ApplicationConstants.EMAIL_VERIFICATION_WINDOW_HOURS, clock);
+        logger.debug("Rate limiting initialized with {} backend", backend);
+    }
 
-        /**
-         * Calculates the current hour as an epoch hour value for time slot indexing.
-         * 
-         * <p>
-         * This method truncates the current time to the hour boundary and converts
-         * it to a simple numeric hour value. This provides a stable, comparable
-         * key for time slot indexing that naturally handles hour boundaries.
-         * </p>
-         * 
-         * <h4>Implementation Notes</h4>
-         * <ul>
-         *   <li>Uses {@link Instant#truncatedTo(ChronoUnit)} for precise hour boundary</li>
-         *   <li>Converts to epoch seconds then divides by 3600 for hour granularity</li>
-         *   <li>Result is timezone-independent UTC-based hour value</li>
-         * </ul>
-         * 
-         * @return the current hour as an epoch hour value (hours since Unix epoch)
-         */
-        private long getCurrentHour() {
-            return Instant.now().truncatedTo(ChronoUnit.HOURS).getEpochSecond() / 3600;
-        }
+    private RateLimitCounter createLimiter(String name, int maxAttempts, double windowHours, Clock clock) {
+        Duration window = Duration.ofSeconds(Math.round(windowHours * 3600));
+        return switch (backend) {
+            case "memory" -> new SlidingWindowRateLimiter(name, maxAttempts, window, subWindows, maxTrackedKeys, clock);
+            case "postgres" -> new PostgresRateLimitCounter(name, maxAttempts, window, subWindows,
+                    nearCacheSize, nearCacheTtl, rateLimitBucketRepository, clock);
+            default -> throw new IllegalStateException("Unknown rate limit backend: " + backend);
+        };
     }
 
     /**
      * {@inheritDoc}
-     * 
+     *
      * <p>
-     * This implementation uses an in-memory sliding window algorithm with automatic
-     * cleanup of expired entries. If the cache is unavailable or any error occurs,
-     * the method employs a "fail open" strategy, allowing the request to proceed
-     * to prevent service disruption.
+     * The decision and the logged attempt count come from the same snapshot of the window.
+     * If the limiter fails, the request is allowed.
      * </p>
-     * 
-     * <h3>Error Handling Strategy</h3>
-     * <ul>
-     *   <li><strong>Cache Unavailable</strong>: Logs warning and allows request</li>
-     *   <li><strong>Exception Occurred</strong>: Logs error and allows request</li>
-     *   <li><strong>Rate Limit Exceeded</strong>: Logs warning and denies request</li>
-     * </ul>
-     * 
+     *
      * @param ipAddress the IP address of the client attempting registration.
      *                  Must not be null or empty for accurate rate limiting.
      * @return true if the registration attempt is allowed, false if rate limit exceeded
@@ -256,519 +152,161 @@ public class RateLimitingServiceImpl implements RateLimitingService {
      */
     @Override
     public boolean isRegistrationAllowed(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.REGISTRATION_CACHE);
-            if (cache == null) {
-                logger.warn("Registration rate limit cache not found, allowing request");
-                return true;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.REGISTRATION_WINDOW_HOURS);
-                cache.put(ipAddress, entry);
-            }
-
-            boolean allowed = entry.isAllowed(ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
-            
-            if (!allowed) {
-                logger.warn("Registration rate limit exceeded for IP: {} (attempts: {}/{})", 
-                           ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
-            } else {
-                logger.debug("Registration allowed for IP: {} (attempts: {}/{})", 
-                            ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
-            }
-
-            return allowed;
-            
-        } catch (Exception e) {
-            logger.error("Error checking registration rate limit for IP: {}", ipAddress, e);
-            // Fail open - allow the request if rate limiting fails
-            return true;
-        }
+        return isAllowed(registrationLimiter, "Registration", ipAddress, ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
     }
 
     /**
      * {@inheritDoc}
-     * 
-     * <p>
-     * This implementation stores the attempt data in an in-memory cache using
-     * a sliding window algorithm. If the cache is unavailable, the attempt
-     * recording is silently skipped with appropriate logging.
-     * </p>
-     * 
-     * <h3>Implementation Details</h3>
-     * <ul>
-     *   <li><strong>Idempotent Operation</strong>: Safe to call multiple times</li>
-     *   <li><strong>Automatic Entry Creation</strong>: Creates new entry if none exists</li>
-     *   <li><strong>Thread-Safe</strong>: Concurrent calls are safely handled</li>
-     * </ul>
-     * 
+     *
      * @param ipAddress the IP address of the client that attempted registration.
      *                  Must not be null or empty for proper tracking.
      * @throws IllegalArgumentException if ipAddress is null or empty
      */
     @Override
     public void recordRegistrationAttempt(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.REGISTRATION_CACHE);
-            if (cache == null) {
-                logger.warn("Registration rate limit cache not found, cannot record attempt");
-                return;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.REGISTRATION_WINDOW_HOURS);
-            }
-
-            entry.recordAttempt();
-            cache.put(ipAddress, entry);
-
-            logger.debug("Recorded registration attempt for IP: {} (total attempts: {}/{})", 
-                        ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
-            
-        } catch (Exception e) {
-            logger.error("Error recording registration attempt for IP: {}", ipAddress, e);
-        }
+        recordAttempt(registrationLimiter, "registration", ipAddress, ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
     }
 
     /**
      * {@inheritDoc}
-     * 
-     * <p>
-     * This implementation calculates remaining attempts by subtracting current
-     * attempts from the maximum allowed. If cache is unavailable or errors occur,
-     * returns the maximum attempts to maintain service availability.
-     * </p>
-     * 
+     *
      * @param ipAddress the IP address to check remaining attempts for.
      *                  Must not be null or empty for accurate calculation.
      * @return the number of registration attempts remaining in the current window,
-     *         or maximum attempts if cache is unavailable
+     *         or maximum attempts if the limiter fails
      * @throws IllegalArgumentException if ipAddress is null or empty
      */
     @Override
     public int getRemainingRegistrationAttempts(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.REGISTRATION_CACHE);
-            if (cache == null) {
-                return ApplicationConstants.MAX_REGISTRATION_ATTEMPTS;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return ApplicationConstants.MAX_REGISTRATION_ATTEMPTS;
-            }
-
-            int currentAttempts = entry.getCurrentAttempts();
-            return Math.max(0, ApplicationConstants.MAX_REGISTRATION_ATTEMPTS - currentAttempts);
-            
-        } catch (Exception e) {
-            logger.error("Error getting remaining registration attempts for IP: {}", ipAddress, e);
-            return ApplicationConstants.MAX_REGISTRATION_ATTEMPTS;
-        }
+        return getRemainingAttempts(registrationLimiter, "registration", ipAddress, ApplicationConstants.MAX_REGISTRATION_ATTEMPTS);
     }
 
     /**
      * {@inheritDoc}
-     * 
-     * <p>
-     * This implementation calculates reset time based on the oldest active
-     * time slot in the sliding window. If no attempts are recorded or cache
-     * is unavailable, returns 0 indicating immediate availability.
-     * </p>
-     * 
+     *
      * @param ipAddress the IP address to check reset time for.
      *                  Must not be null or empty for accurate calculation.
-     * @return the number of seconds until the rate limit resets, or 0 if no limit is active
+     * @return the number of seconds until the oldest counted attempt leaves the window, or 0 if none are counted
      * @throws IllegalArgumentException if ipAddress is null or empty
      */
     @Override
     public long getRegistrationRateLimitResetTime(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.REGISTRATION_CACHE);
-            if (cache == null) {
-                return 0;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return 0;
-            }
-
-            return entry.getResetTime();
-            
-        } catch (Exception e) {
-            logger.error("Error getting registration rate limit reset time for IP: {}", ipAddress, e);
-            return 0;
-        }
+        return getResetTime(registrationLimiter, "registration", ipAddress);
     }
 
     @Override
     public boolean isLoginAllowed(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.LOGIN_CACHE);
-            if (cache == null) {
-                logger.warn("Login rate limit cache not found, allowing request");
-                return true;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.LOGIN_WINDOW_HOURS);
-                cache.put(ipAddress, entry);
-            }
-
-            boolean allowed = entry.isAllowed(ApplicationConstants.MAX_LOGIN_ATTEMPTS);
-            
-            if (!allowed) {
-                logger.warn("Login rate limit exceeded for IP: {} (attempts: {}/{})", 
-                           ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_LOGIN_ATTEMPTS);
-            } else {
-                logger.debug("Login allowed for IP: {} (attempts: {}/{})", 
-                            ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_LOGIN_ATTEMPTS);
-            }
-
-            return allowed;
-            
-        } catch (Exception e) {
-            logger.error("Error checking login rate limit for IP: {}", ipAddress, e);
-            return true;
-        }
+        return isAllowed(loginLimiter, "Login", ipAddress, ApplicationConstants.MAX_LOGIN_ATTEMPTS);
     }
 
     @Override
     public void recordLoginAttempt(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.LOGIN_CACHE);
-            if (cache == null) {
-                logger.warn("Login rate limit cache not found, cannot record attempt");
-                return;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.LOGIN_WINDOW_HOURS);
-            }
-
-            entry.recordAttempt();
-            cache.put(ipAddress, entry);
-
-            logger.debug("Recorded login attempt for IP: {} (total attempts: {}/{})", 
-                        ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_LOGIN_ATTEMPTS);
-            
-        } catch (Exception e) {
-            logger.error("Error recording login attempt for IP: {}", ipAddress, e);
-        }
+        recordAttempt(loginLimiter, "login", ipAddress, ApplicationConstants.MAX_LOGIN_ATTEMPTS);
     }
 
     @Override
     public int getRemainingLoginAttempts(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.LOGIN_CACHE);
-            if (cache == null) {
-                return ApplicationConstants.MAX_LOGIN_ATTEMPTS;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return ApplicationConstants.MAX_LOGIN_ATTEMPTS;
-            }
-
-            int currentAttempts = entry.getCurrentAttempts();
-            return Math.max(0, ApplicationConstants.MAX_LOGIN_ATTEMPTS - currentAttempts);
-            
-        } catch (Exception e) {
-            logger.error("Error getting remaining login attempts for IP: {}", ipAddress, e);
-            return ApplicationConstants.MAX_LOGIN_ATTEMPTS;
-        }
+        return getRemainingAttempts(loginLimiter, "login", ipAddress, ApplicationConstants.MAX_LOGIN_ATTEMPTS);
     }
 
     @Override
     public long getLoginRateLimitResetTime(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.LOGIN_CACHE);
-            if (cache == null) {
-                return 0;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return 0;
-            }
-
-            return entry.getResetTime();
-            
-        } catch (Exception e) {
-            logger.error("Error getting login rate limit reset time for IP: {}", ipAddress, e);
-            return 0;
-        }
+        return getResetTime(loginLimiter, "login", ipAddress);
     }
 
     @Override
     public boolean isPasswordResetAllowed(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.PASSWORD_RESET_CACHE);
-            if (cache == null) {
-                logger.warn("Password reset rate limit cache not found, allowing request");
-                return true;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.PASSWORD_RESET_WINDOW_HOURS);
-                cache.put(ipAddress, entry);
-            }
-
-            boolean allowed = entry.isAllowed(ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
-            
-            if (!allowed) {
-                logger.warn("Password reset rate limit exceeded for IP: {} (attempts: {}/{})", 
-                           ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
-            } else {
-                logger.debug("Password reset allowed for IP: {} (attempts: {}/{})", 
-                            ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
-            }
-
-            return allowed;
-            
-        } catch (Exception e) {
-            logger.error("Error checking password reset rate limit for IP: {}", ipAddress, e);
-            return true;
-        }
+        return isAllowed(passwordResetLimiter, "Password reset", ipAddress, ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
     }
 
     @Override
     public void recordPasswordResetAttempt(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.PASSWORD_RESET_CACHE);
-            if (cache == null) {
-                logger.warn("Password reset rate limit cache not found, cannot record attempt");
-                return;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.PASSWORD_RESET_WINDOW_HOURS);
-            }
-
-            entry.recordAttempt();
-            cache.put(ipAddress, entry);
-
-            logger.debug("Recorded password reset attempt for IP: {} (total attempts: {}/{})", 
-                        ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
-            
-        } catch (Exception e) {
-            logger.error("Error recording password reset attempt for IP: {}", ipAddress, e);
-        }
+        recordAttempt(passwordResetLimiter, "password reset", ipAddress, ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
     }
 
     @Override
     public int getRemainingPasswordResetAttempts(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.PASSWORD_RESET_CACHE);
-            if (cache == null) {
-                return ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS;
-            }
-
-            int currentAttempts = entry.getCurrentAttempts();
-            return Math.max(0, ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS - currentAttempts);
-            
-        } catch (Exception e) {
-            logger.error("Error getting remaining password reset attempts for IP: {}", ipAddress, e);
-            return ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS;
-        }
+        return getRemainingAttempts(passwordResetLimiter, "password reset", ipAddress, ApplicationConstants.MAX_PASSWORD_RESET_ATTEMPTS);
     }
 
     @Override
     public long getPasswordResetRateLimitResetTime(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.PASSWORD_RESET_CACHE);
-            if (cache == null) {
-                return 0;
-            }
+        return getResetTime(passwordResetLimiter, "password reset", ipAddress);
+    }
 
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return 0;
-            }
+    @Override
+    public boolean isEmailVerificationAllowed(String ipAddress) {
+        return isAllowed(emailVerificationLimiter, "Email verification", ipAddress, ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
+    }
 
-            return entry.getResetTime();
-            
-        } catch (Exception e) {
-            logger.error("Error getting password reset rate limit reset time for IP: {}", ipAddress, e);
-            return 0;
-        }
+    @Override
+    public void recordEmailVerificationAttempt(String ipAddress) {
+        recordAttempt(emailVerificationLimiter, "email verification", ipAddress, ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
     }
 
     @Override
-    public boolean isEmailVerificationAllowed(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
-        try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.EMAIL_VERIFICATION_CACHE);
-            if (cache == null) {
-                logger.warn("Email verification rate limit cache not found, allowing request");
-                return true;
-            }
+    public int getRemainingEmailVerificationAttempts(String ipAddress) {
+        return getRemainingAttempts(emailVerificationLimiter, "email verification", ipAddress, ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
+    }
 
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.EMAIL_VERIFICATION_WINDOW_HOURS);
-                cache.put(ipAddress, entry);
-            }
+    @Override
+    public long getEmailVerificationRateLimitResetTime(String ipAddress) {
+        return getResetTime(emailVerificationLimiter, "email verification", ipAddress);
+    }
 
-            boolean allowed = entry.isAllowed(ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
-            
-            if (!allowed) {
-                logger.warn("Email verification rate limit exceeded for IP: {} (attempts: {}/{})", 
-                           ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
+    private boolean isAllowed(RateLimitCounter limiter, String operation, String ipAddress, int maxAttempts) {
+        validateIpAddress(ipAddress);
+        try {
+            RateLimitCounter.Snapshot snapshot = limiter.check(ipAddress);
+            if (!snapshot.allowed()) {
+                logger.warn("{} rate limit exceeded for IP: {} (attempts: {}/{})",
+                           operation, ipAddress, snapshot.attempts(), maxAttempts);
             } else {
-                logger.debug("Email verification allowed for IP: {} (attempts: {}/{})", 
-                            ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
+                logger.debug("{} allowed for IP: {} (attempts: {}/{})",
+                            operation, ipAddress, snapshot.attempts(), maxAttempts);
             }
-
-            return allowed;
-            
+            return snapshot.allowed();
         } catch (Exception e) {
-            logger.error("Error checking email verification rate limit for IP: {}", ipAddress, e);
+            logger.error("Error checking {} rate limit for IP: {}", operation.toLowerCase(), ipAddress, e);
+            // Fail open - allow the request if rate limiting fails
             return true;
         }
     }
 
-    @Override
-    public void recordEmailVerificationAttempt(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
+    private void recordAttempt(RateLimitCounter limiter, String operation, String ipAddress, int maxAttempts) {
+        validateIpAddress(ipAddress);
         try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.EMAIL_VERIFICATION_CACHE);
-            if (cache == null) {
-                logger.warn("Email verification rate limit cache not found, cannot record attempt");
-                return;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                entry = new RateLimitEntry(ApplicationConstants.EMAIL_VERIFICATION_WINDOW_HOURS);
-            }
-
-            entry.recordAttempt();
-            cache.put(ipAddress, entry);
-
-            logger.debug("Recorded email verification attempt for IP: {} (total attempts: {}/{})", 
-                        ipAddress, entry.getCurrentAttempts(), ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS);
-            
+            RateLimitCounter.Snapshot snapshot = limiter.record(ipAddress);
+            logger.debug("Recorded {} attempt for IP: {} (total attempts: {}/{})",
+                        operation, ipAddress, snapshot.attempts(), maxAttempts);
         } catch (Exception e) {
-            logger.error("Error recording email verification attempt for IP: {}", ipAddress, e);
+            logger.error("Error recording {} attempt for IP: {}", operation, ipAddress, e);
         }
     }
 
-    @Override
-    public int getRemainingEmailVerificationAttempts(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
+    private int getRemainingAttempts(RateLimitCounter limiter, String operation, String ipAddress, int maxAttempts) {
+        validateIpAddress(ipAddress);
         try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.EMAIL_VERIFICATION_CACHE);
-            if (cache == null) {
-                return ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS;
-            }
-
-            int currentAttempts = entry.getCurrentAttempts();
-            return Math.max(0, ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS - currentAttempts);
-            
+            return limiter.check(ipAddress).remaining();
         } catch (Exception e) {
-            logger.error("Error getting remaining email verification attempts for IP: {}", ipAddress, e);
-            return ApplicationConstants.MAX_EMAIL_VERIFICATION_ATTEMPTS;
+            logger.error("Error getting remaining {} attempts for IP: {}", operation, ipAddress, e);
+            return maxAttempts;
         }
     }
 
-    @Override
-    public long getEmailVerificationRateLimitResetTime(String ipAddress) {
-        if (ipAddress == null || ipAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("IP address cannot be null or empty");
-        }
-        
+    private long getResetTime(RateLimitCounter limiter, String operation, String ipAddress) {
+        validateIpAddress(ipAddress);
         try {
-            Cache cache = cacheManager.getCache(ApplicationConstants.EMAIL_VERIFICATION_CACHE);
-            if (cache == null) {
-                return 0;
-            }
-
-            RateLimitEntry entry = cache.get(ipAddress, RateLimitEntry.class);
-            if (entry == null) {
-                return 0;
-            }
-
-            return entry.getResetTime();
-            
+            return limiter.check(ipAddress).resetSeconds();
         } catch (Exception e) {
-            logger.error("Error getting email verification rate limit reset time for IP: {}", ipAddress, e);
+            logger.error("Error getting {} rate limit reset time for IP: {}", operation, ipAddress, e);
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    private void validateIpAddress(String ipAddress) {
+        if (ipAddress == null || ipAddress.trim().isEmpty()) {
+            throw new IllegalArgumentException("IP address cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.RecurrenceMaterializationTargetDTO;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Service that turns past recurring event occurrences into concrete events outside of read paths.
+ *
+ * <p>Each user carries a watermark ({@link User#getRecurrencesMaterializedThrough()}) recording how
+ * far their recurrences have been solidified. The
+ * {@link com.yohan.event_planner.jobs.RecurrenceMaterializationJob} advances it to the start of the
+ * user's local day shortly after midnight, and calendar views only trigger an on-demand catch-up
+ * when the watermark shows the user is behind the window they display.</p>
+ *
+ * @see com.yohan.event_planner.business.EventBO#solidifyRecurrences
+ */
+public interface RecurrenceMaterializationService {
+
+    /**
+     * Checks whether a user's materialized events lag behind the given instant.
+     *
+     * <p>A user is behind when no materialization has happened yet, or when a confirmed recurring
+     * event has an occurrence ending between the watermark and {@code requiredThrough}. This check
+     * never writes and is safe to call from read-only transactions.</p>
+     *
+     * @param user the user to check
+     * @param requiredThrough the instant up to which past occurrences must exist as events
+     * @return {@code true} if {@link #materializeThrough(Long, ZonedDateTime)} has work to do
+     */
+    boolean isBehind(User user, ZonedDateTime requiredThrough);
+
+    /**
+     * Solidifies a user's recurring event occurrences from their watermark up to the given instant
+     * and advances the watermark.
+     *
+     * <p>Runs in its own transaction so read-only callers stay read-only, and locks the user row so
+     * concurrent catch-ups for the same user never create duplicate events. Does nothing if the
+     * watermark has already reached {@code through}.</p>
+     *
+     * @param userId the ID of the user to materialize
+     * @param through the instant to materialize through (exclusive)
+     */
+    void materializeThrough(Long userId, ZonedDateTime through);
+
+    /**
+     * Finds users whose watermark is behind the start of their current local day.
+     *
+     * <p>Users are grouped by timezone, starting with the timezones that reached midnight first,
+     * so each batch covers the users whose day has just rolled over.</p>
+     *
+     * @param limit maximum number of users to return
+     * @return the users to materialize, each paired with the start of their local day
+     */
+    List<RecurrenceMaterializationTargetDTO> findDueMaterializations(int limit);
+
+    /**
+     * Moves a user's watermark back so occurrences from {@code fromDate} onwards are materialized again.
+     *
+     * <p>Called when a confirmed recurring event is created, confirmed or changed with a start date
+     * before the watermark; already solidified occurrences are skipped on the next run. An unset
+     * watermark stays unset, since materialization then starts from the user's creation anyway.</p>
+     *
+     * @param user the owner of the recurring event
+     * @param fromDate the first date, in the user's timezone, that may need materializing
+     */
+    void rewindWatermark(User user, LocalDate fromDate);
+}
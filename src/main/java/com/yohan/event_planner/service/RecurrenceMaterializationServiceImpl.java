@@ -0,0 +1,172 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.RecurringEventBO;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.RecurrenceMaterializationTargetDTO;
+import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.time.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link RecurrenceMaterializationService} backed by the user watermark column.
+ *
+ * <h2>Materialization Window</h2>
+ * <p>
+ * A run solidifies occurrences from the user's watermark (or their account creation time on the
+ * first run) up to the requested instant via {@link EventBO#solidifyRecurrences}, then moves the
+ * watermark to that instant. Occurrences that already exist as events are skipped by the
+ * solidification itself, so re-running a window is harmless.
+ * </p>
+ *
+ * <h2>Concurrency</h2>
+ * <p>
+ * {@link #materializeThrough(Long, ZonedDateTime)} locks the user row before reading the watermark.
+ * The scheduled job and on-demand catch-ups for the same user therefore run one after another, and
+ * the second one sees the advanced watermark and returns without solidifying anything.
+ * </p>
+ *
+ * @see com.yohan.event_planner.jobs.RecurrenceMaterializationJob
+ */
+@Service
+public class RecurrenceMaterializationServiceImpl implements RecurrenceMaterializationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurrenceMaterializationServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final EventBO eventBO;
+    private final RecurringEventBO recurringEventBO;
+    private final ClockProvider clockProvider;
+
+    /**
+     * Constructs a new materialization service with the required dependencies.
+     *
+     * @param userRepository repository holding the user watermarks
+     * @param eventBO business object that solidifies recurring occurrences
+     * @param recurringEventBO business object used to detect unmaterialized occurrences
+     * @param clockProvider provider for timezone-aware clocks
+     */
+    public RecurrenceMaterializationServiceImpl(
+            UserRepository userRepository,
+            EventBO eventBO,
+            RecurringEventBO recurringEventBO,
+            ClockProvider clockProvider
+    ) {
+        this.userRepository = userRepository;
+        this.eventBO = eventBO;
+        this.recurringEventBO = recurringEventBO;
+        this.clockProvider = clockProvider;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBehind(User user, ZonedDateTime requiredThrough) {
+        ZonedDateTime watermark = user.getRecurrencesMaterializedThrough();
+        if (watermark == null) {
+            return true;
+        }
+        if (!watermark.isBefore(requiredThrough)) {
+            return false;
+        }
+        return recurringEventBO.hasOccurrencesEndingBetween(
+                user.getId(), watermark, requiredThrough, ZoneId.of(user.getTimezone()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void materializeThrough(Long userId, ZonedDateTime through) {
+        Optional<User> locked = userRepository.findByIdForUpdate(userId);
+        if (locked.isEmpty()) {
+            logger.debug("Skipping recurrence materialization for missing user {}", userId);
+            return;
+        }
+
+        User user = locked.get();
+        ZonedDateTime watermark = user.getRecurrencesMaterializedThrough();
+        if (watermark != null && !watermark.isBefore(through)) {
+            logger.debug("Recurrences of user {} already materialized through {}", userId, watermark);
+            return;
+        }
+
+        ZonedDateTime from = watermark != null ? watermark : user.getCreatedAt();
+        if (from.isBefore(through)) {
+            // Start at local midnight so the whole day of the watermark is expanded; occurrences
+            // solidified earlier that day are recognized and skipped
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowStart = from.withZoneSameInstant(userZoneId).toLocalDate()
+                    .atStartOfDay(userZoneId)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+            eventBO.solidifyRecurrences(userId, windowStart, through, userZoneId);
+        }
+
+        user.setRecurrencesMaterializedThrough(through);
+        logger.info("Materialized recurrences for user {} from {} through {}", userId, from, through);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurrenceMaterializationTargetDTO> findDueMaterializations(int limit) {
+        Instant now = clockProvider.getClockForZone(ZoneOffset.UTC).instant();
+
+        // Timezones furthest ahead of UTC reach midnight first
+        List<ZoneId> zones = userRepository.findDistinctActiveTimezones().stream()
+                .map(ZoneId::of)
+                .sorted(Comparator.comparing((ZoneId zone) -> zone.getRules().getOffset(now)).reversed()
+                        .thenComparing(ZoneId::getId))
+                .toList();
+
+        List<RecurrenceMaterializationTargetDTO> targets = new ArrayList<>();
+        for (ZoneId zone : zones) {
+            int remaining = limit - targets.size();
+            if (remaining <= 0) {
+                break;
+            }
+
+            ZonedDateTime startOfToday = LocalDate.now(clockProvider.getClockForZone(zone))
+                    .atStartOfDay(zone)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+
+            for (Long userId : userRepository.findIdsDueForRecurrenceMaterialization(
+                    zone.getId(), startOfToday, PageRequest.of(0, remaining))) {
+                targets.add(new RecurrenceMaterializationTargetDTO(userId, startOfToday));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void rewindWatermark(User user, LocalDate fromDate) {
+        ZonedDateTime through = fromDate.atStartOfDay(ZoneId.of(user.getTimezone()))
+                .withZoneSameInstant(ZoneOffset.UTC);
+        if (userRepository.rewindRecurrencesMaterializedThrough(user.getId(), through) > 0) {
+            logger.info("Rewound recurrence materialization watermark of user {} to {}", user.getId(), through);
+        }
+    }
+}
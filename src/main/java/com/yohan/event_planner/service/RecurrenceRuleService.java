@@ -4,7 +4,9 @@ import com.yohan.event_planner.domain.RecurringEvent;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Service interface for parsing, processing, and expanding recurrence rules for recurring events.
@@ -91,6 +93,25 @@ public interface RecurrenceRuleService {
      */
     List<LocalDate> expandRecurrence(ParsedRecurrenceInput input, LocalDate startInclusive, LocalDate endInclusive, Set<LocalDate> skipDays);
 
+    /**
+     * Lazily streams the occurrence dates of a recurrence pattern within a date range.
+     *
+     * <p>Produces the same dates, in the same chronological order, as
+     * {@link #expandRecurrence(ParsedRecurrenceInput, LocalDate, LocalDate, Set)}, but computes
+     * each date only when the stream pulls it. This lets callers short-circuit (for example with
+     * {@code findFirst()} or {@code limit(n)}) over long or open-ended windows without
+     * materializing every occurrence. Skip days are supplied as a sorted set so they can be
+     * merged against the ordered occurrence sequence instead of probed per candidate.</p>
+     *
+     * @param input the parsed recurrence pattern to expand (may be null, yielding an empty stream)
+     * @param startInclusive the earliest date to include in the expansion (inclusive, must not be null)
+     * @param endInclusive the latest date to include in the expansion (inclusive, must not be null)
+     * @param skipDays sorted set of dates to exclude from the expansion (must not be null, can be empty)
+     * @return ordered, lazily evaluated stream of occurrence dates (never null)
+     * @throws NullPointerException if any date parameter or skipDays is null
+     */
+    Stream<LocalDate> streamRecurrence(ParsedRecurrenceInput input, LocalDate startInclusive, LocalDate endInclusive, NavigableSet<LocalDate> skipDays);
+
     /**
      * Builds a human-readable summary description of a recurrence pattern.
      * 
@@ -14,11 +14,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.yohan.event_planner.exception.ErrorCode.MONTHLY_INVALID_ORDINAL;
 import static com.yohan.event_planner.exception.ErrorCode.MONTHLY_MISSING_ORDINAL_OR_DAY;
@@ -36,8 +44,9 @@ import static com.yohan.event_planner.exception.ErrorCode.WEEKLY_MISSING_DAYS;
  * <p><strong>Implementation Approach:</strong></p>
  * <ul>
  *   <li><strong>Parsing Strategy:</strong> Uses a colon-delimited format ("FREQUENCY:PARAMS") for rule representation</li>
- *   <li><strong>Date Expansion:</strong> Employs day-by-day iteration with pattern matching for accuracy</li>
- *   <li><strong>Skip Day Handling:</strong> Applies exclusions after initial pattern calculation</li>
+ *   <li><strong>Date Expansion:</strong> Jumps arithmetically from one matching date to the next instead of
+ *       visiting every calendar day (day-of-week stepping for WEEKLY, direct nth-weekday calculation for MONTHLY)</li>
+ *   <li><strong>Skip Day Handling:</strong> Merges a sorted skip set against the ordered occurrence sequence</li>
  *   <li><strong>Error Handling:</strong> Throws domain-specific exceptions with detailed error codes</li>
  * </ul>
  * 
@@ -50,8 +59,8 @@ import static com.yohan.event_planner.exception.ErrorCode.WEEKLY_MISSING_DAYS;
  * 
  * <p><strong>Performance Characteristics:</strong></p>
  * <ul>
- *   <li>Optimized for typical date ranges (days to months)</li>
- *   <li>Memory-efficient iteration without pre-allocation of large arrays</li>
+ *   <li>Expansion cost proportional to the number of occurrences, not the number of days in the range</li>
+ *   <li>Lazy streaming via {@link #streamRecurrence} for short-circuiting callers</li>
  *   <li>Stateless design enabling concurrent usage</li>
  * </ul>
  * 
@@ -135,16 +144,16 @@ public class RecurrenceRuleServiceImpl implements RecurrenceRuleService {
     /**
      * {@inheritDoc}
      * 
-     * <p><strong>Implementation Strategy:</strong> Uses day-by-day iteration through the date range,
-     * applying frequency-specific pattern matching and skip day filtering. This approach ensures
-     * accuracy for complex patterns while maintaining reasonable performance for typical ranges.</p>
+     * <p><strong>Implementation Strategy:</strong> Walks an {@link OccurrenceIterator} that computes
+     * each next occurrence directly from the previous one, so the work done is proportional to the
+     * number of occurrences produced rather than the number of days in the range.</p>
      * 
      * <p><strong>Expansion Process:</strong></p>
      * <ol>
      *   <li>Validate input parameters and handle edge cases</li>
-     *   <li>Iterate through each day in the specified range</li>
-     *   <li>Apply skip day filtering before pattern matching</li>
-     *   <li>Test each date against the frequency-specific occurrence rules</li>
+     *   <li>Copy skip days into a sorted set when the caller did not supply one</li>
+     *   <li>Jump from occurrence to occurrence using frequency-specific arithmetic</li>
+     *   <li>Drop occurrences matched by the sorted skip day cursor</li>
      *   <li>Collect matching dates in chronological order</li>
      * </ol>
      */
@@ -157,53 +166,55 @@ public class RecurrenceRuleServiceImpl implements RecurrenceRuleService {
     ) {
         logger.debug("Expanding recurrence from {} to {} with {} skip days", 
                      startInclusive, endInclusive, skipDays.size());
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endInclusive, "endInclusive");
         if (parsed == null || parsed.frequency() == null) {
             logger.warn("Cannot expand null or invalid recurrence input");
             return List.of();
         }
 
-        RecurrenceFrequency frequency = parsed.frequency();
-        Set<DayOfWeek> daysOfWeek = parsed.daysOfWeek();
-        Integer ordinal = parsed.ordinal();
-
         List<LocalDate> occurrences = new ArrayList<>();
-        LocalDate cursor = startInclusive;
-        int totalDays = 0;
-
-        while (!cursor.isAfter(endInclusive)) {
-            totalDays++;
-            if (skipDays.contains(cursor)) {
-                logger.trace("Skipping date: {}", cursor);
-                cursor = cursor.plusDays(1);
-                continue;
-            }
-
-            switch (frequency) {
-                case DAILY -> {
-                    occurrences.add(cursor);
-                    logger.trace("Added daily occurrence: {}", cursor);
-                }
-                case WEEKLY -> {
-                    if (daysOfWeek.contains(cursor.getDayOfWeek())) {
-                        occurrences.add(cursor);
-                        logger.trace("Added weekly occurrence: {} ({})", cursor, cursor.getDayOfWeek());
-                    }
-                }
-                case MONTHLY -> {
-                    if (isNthOccurrenceOfDayInMonth(cursor, ordinal, daysOfWeek)) {
-                        occurrences.add(cursor);
-                        logger.trace("Added monthly occurrence: {} ({}th {})", cursor, ordinal, cursor.getDayOfWeek());
-                    }
-                }
-            }
-            cursor = cursor.plusDays(1);
+        OccurrenceIterator iterator = new OccurrenceIterator(CompiledRecurrenceRule.of(parsed), startInclusive, endInclusive, toSortedSkipDays(skipDays));
+        while (iterator.hasNext()) {
+            occurrences.add(iterator.next());
         }
 
-        logger.debug("Expansion complete: {} occurrences found from {} total days", 
-                     occurrences.size(), totalDays);
+        logger.debug("Expansion complete: {} occurrences found between {} and {}", 
+                     occurrences.size(), startInclusive, endInclusive);
         return occurrences;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Implementation Details:</strong> Wraps an {@link OccurrenceIterator} in an ordered,
+     * distinct, non-null stream. The iterator only computes the following occurrence when the
+     * current one is consumed.</p>
+     */
+    @Override
+    public Stream<LocalDate> streamRecurrence(
+            ParsedRecurrenceInput parsed,
+            LocalDate startInclusive,
+            LocalDate endInclusive,
+            NavigableSet<LocalDate> skipDays
+    ) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endInclusive, "endInclusive");
+        Objects.requireNonNull(skipDays, "skipDays");
+        if (parsed == null || parsed.frequency() == null) {
+            logger.warn("Cannot stream null or invalid recurrence input");
+            return Stream.empty();
+        }
+
+        logger.debug("Streaming recurrence from {} to {} with {} skip days",
+                     startInclusive, endInclusive, skipDays.size());
+        OccurrenceIterator iterator = new OccurrenceIterator(CompiledRecurrenceRule.of(parsed), startInclusive, endInclusive, skipDays);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                false);
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -344,13 +355,8 @@ public class RecurrenceRuleServiceImpl implements RecurrenceRuleService {
             return false;
         }
         
-        LocalDate firstOfMonth = date.withDayOfMonth(1);
-        int count = 0;
-        for (int d = 1; d <= date.getDayOfMonth(); d++) {
-            if (firstOfMonth.plusDays(d - 1).getDayOfWeek() == date.getDayOfWeek()) {
-                count++;
-            }
-        }
+        // The 1st-7th of a month each hold the first occurrence of their weekday, the 8th-14th the second, and so on
+        int count = (date.getDayOfMonth() - 1) / 7 + 1;
         
         boolean isNthOccurrence = Objects.equals(count, ordinal);
         logger.trace("Date {} is {}th occurrence of {}: {}", date, count, date.getDayOfWeek(), isNthOccurrence);
@@ -397,4 +403,154 @@ public class RecurrenceRuleServiceImpl implements RecurrenceRuleService {
             default -> "unknown";
         };
     }
+
+    /**
+     * Returns the caller's skip days as a sorted set, copying them only when necessary.
+     *
+     * @param skipDays the skip days supplied by the caller (must not be null)
+     * @return a sorted view of the skip days
+     */
+    private NavigableSet<LocalDate> toSortedSkipDays(Set<LocalDate> skipDays) {
+        if (skipDays instanceof NavigableSet<LocalDate> sorted) {
+            return sorted;
+        }
+        return skipDays.isEmpty() ? Collections.emptyNavigableSet() : new TreeSet<>(skipDays);
+    }
+
+    /**
+     * Finds the first date on or after {@code from} whose weekday is in {@code dayMask}.
+     *
+     * @param from the earliest acceptable date
+     * @param dayMask weekday bitmask as produced by {@link CompiledRecurrenceRule#dayMaskOf(Set)}
+     * @return the next matching date, or null if the mask is empty
+     */
+    static LocalDate nextWeekday(LocalDate from, int dayMask) {
+        if (dayMask == 0) {
+            return null;
+        }
+        int weekdayIndex = from.getDayOfWeek().getValue() - 1;
+        for (int offset = 0; offset < 7; offset++) {
+            if ((dayMask & (1 << ((weekdayIndex + offset) % 7))) != 0) {
+                return from.plusDays(offset);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first date on or after {@code from} that is the {@code ordinal}-th occurrence of
+     * one of the weekdays in {@code dayMask} within its month.
+     *
+     * <p>The nth occurrence of a weekday is computed directly from the weekday of the first of the
+     * month, so at most seven candidates are examined per month. Months in which the requested
+     * occurrence does not exist (for example a fifth Tuesday) are skipped.</p>
+     *
+     * @param from the earliest acceptable date
+     * @param endInclusive the last date worth searching up to
+     * @param dayMask weekday bitmask as produced by {@link CompiledRecurrenceRule#dayMaskOf(Set)}
+     * @param ordinal the occurrence number within the month
+     * @return the next matching date, or null if none exists up to {@code endInclusive}
+     */
+    static LocalDate nextNthWeekdayOfMonth(LocalDate from, LocalDate endInclusive, int dayMask, int ordinal) {
+        if (dayMask == 0 || ordinal < 1) {
+            return null;
+        }
+        LocalDate firstOfMonth = from.withDayOfMonth(1);
+        int minDay = from.getDayOfMonth();
+        while (!firstOfMonth.isAfter(endInclusive)) {
+            int firstWeekdayIndex = firstOfMonth.getDayOfWeek().getValue() - 1;
+            int lengthOfMonth = firstOfMonth.lengthOfMonth();
+            int bestDay = Integer.MAX_VALUE;
+            for (int weekdayIndex = 0; weekdayIndex < 7; weekdayIndex++) {
+                if ((dayMask & (1 << weekdayIndex)) == 0) {
+                    continue;
+                }
+                int day = 1 + (weekdayIndex - firstWeekdayIndex + 7) % 7 + 7 * (ordinal - 1);
+                if (day >= minDay && day <= lengthOfMonth && day < bestDay) {
+                    bestDay = day;
+                }
+            }
+            if (bestDay != Integer.MAX_VALUE) {
+                return firstOfMonth.withDayOfMonth(bestDay);
+            }
+            firstOfMonth = firstOfMonth.plusMonths(1);
+            minDay = 1;
+        }
+        return null;
+    }
+
+    /**
+     * Iterator producing the occurrence dates of a recurrence pattern in chronological order.
+     *
+     * <p>Works on the {@link CompiledRecurrenceRule} form so that weekday matching is a bit test.
+     * Each call to {@link #next()} jumps directly to the following occurrence rather than
+     * stepping through intermediate days. Skip days are consumed through a cursor over the sorted
+     * skip set restricted to the expansion window, so each skip day is compared at most once.</p>
+     */
+    private static final class OccurrenceIterator implements Iterator<LocalDate> {
+
+        private final RecurrenceFrequency frequency;
+        private final int dayMask;
+        private final int ordinal;
+        private final LocalDate endInclusive;
+        private final Iterator<LocalDate> skipCursor;
+        private LocalDate nextSkip;
+        private LocalDate next;
+
+        OccurrenceIterator(CompiledRecurrenceRule compiled, LocalDate startInclusive, LocalDate endInclusive,
+                           NavigableSet<LocalDate> skipDays) {
+            this.frequency = compiled.frequency();
+            this.dayMask = compiled.dayMask();
+            this.ordinal = compiled.ordinal();
+            this.endInclusive = endInclusive;
+            this.skipCursor = startInclusive.isAfter(endInclusive) || skipDays.isEmpty()
+                    ? Collections.emptyIterator()
+                    : skipDays.subSet(startInclusive, true, endInclusive, true).iterator();
+            this.nextSkip = skipCursor.hasNext() ? skipCursor.next() : null;
+            this.next = advance(startInclusive);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDate current = next;
+            next = advance(current.plusDays(1));
+            return current;
+        }
+
+        private LocalDate advance(LocalDate from) {
+            LocalDate candidate = nextCandidate(from);
+            while (candidate != null && isSkipped(candidate)) {
+                logger.trace("Skipping date: {}", candidate);
+                candidate = nextCandidate(candidate.plusDays(1));
+            }
+            return candidate;
+        }
+
+        private boolean isSkipped(LocalDate candidate) {
+            while (nextSkip != null && nextSkip.isBefore(candidate)) {
+                nextSkip = skipCursor.hasNext() ? skipCursor.next() : null;
+            }
+            return candidate.equals(nextSkip);
+        }
+
+        private LocalDate nextCandidate(LocalDate from) {
+            if (from.isAfter(endInclusive)) {
+                return null;
+            }
+            LocalDate candidate = switch (frequency) {
+                case DAILY -> from;
+                case WEEKLY -> nextWeekday(from, dayMask);
+                case MONTHLY -> nextNthWeekdayOfMonth(from, endInclusive, dayMask, ordinal);
+            };
+            return candidate != null && !candidate.isAfter(endInclusive) ? candidate : null;
+        }
+    }
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.yohan.event_planner.service;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.RecurringEventCreateDTO;
 import com.yohan.event_planner.dto.RecurringEventCreationResultDTO;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
 import com.yohan.event_planner.dto.RecurringEventResponseDTO;
 import com.yohan.event_planner.dto.RecurringEventUpdateDTO;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
@@ -106,6 +108,34 @@ public interface RecurringEventService {
      */
     Page<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUser(RecurringEventFilterDTO filter, int pageNumber, int pageSize);
 
+    /**
+     * Retrieves confirmed recurring events for the current user with filtering and pagination,
+     * optionally replacing the exact total count with a planner estimate.
+     *
+     * @param filter the filter criteria for narrowing results
+     * @param pageNumber the page number for pagination (0-based)
+     * @param pageSize the number of results per page
+     * @param estimateTotal whether to estimate the total number of recurring events instead of counting them
+     * @return a page of matching confirmed recurring events
+     */
+    Page<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUser(RecurringEventFilterDTO filter, int pageNumber, int pageSize, boolean estimateTotal);
+
+    /**
+     * Retrieves the next page of confirmed recurring events for the current user using keyset pagination.
+     *
+     * <p>Each page continues after the sort position encoded in the cursor, so deep pages cost
+     * the same as the first one and no total count is computed unless an estimate is requested.</p>
+     *
+     * @param filter the filter criteria for narrowing results
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param pageSize the number of results per page
+     * @param estimateTotal whether to include an estimate of the total number of recurring events
+     * @return the page of matching confirmed recurring events with the cursor for the following page
+     * @throws InvalidCalendarParameterException if the cursor is malformed or was issued for the
+     *         other sort direction
+     */
+    KeysetPageDTO<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUserAfter(RecurringEventFilterDTO filter, String cursor, int pageSize, boolean estimateTotal);
+
     /**
      * Retrieves confirmed recurring events using cursor-based pagination.
      * 
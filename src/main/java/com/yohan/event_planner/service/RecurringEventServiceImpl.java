@@ -1,9 +1,11 @@
 package com.yohan.event_planner.service;
 
+import com.blazebit.persistence.Keyset;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.business.EventBO;
 import com.yohan.event_planner.business.RecurringEventBO;
 import com.yohan.event_planner.business.handler.RecurringEventPatchHandler;
+import com.yohan.event_planner.dao.KeysetCursorCodec;
 import com.yohan.event_planner.dao.RecurringEventDAO;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.RecurringEvent;
@@ -12,6 +14,7 @@ import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.domain.enums.TimeFilter;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventResponseDTOFactory;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.LabelResponseDTO;
 import com.yohan.event_planner.dto.RecurringEventCreateDTO;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
@@ -63,6 +66,7 @@ RecurringEventServiceImpl implements RecurringEventService {
     private final AuthenticatedUserProvider authenticatedUserProvider;
     private final EventResponseDTOFactory eventResponseDTOFactory;
     private final ClockProvider clockProvider;
+    private final RecurrenceMaterializationService recurrenceMaterializationService;
 
     public RecurringEventServiceImpl(
             RecurringEventBO recurringEventBO,
@@ -74,7 +78,8 @@ RecurringEventServiceImpl implements RecurringEventService {
             OwnershipValidator ownershipValidator,
             AuthenticatedUserProvider authenticatedUserProvider,
             EventResponseDTOFactory eventResponseDTOFactory,
-            ClockProvider clockProvider
+            ClockProvider clockProvider,
+            RecurrenceMaterializationService recurrenceMaterializationService
     ) {
         this.recurringEventBO = recurringEventBO;
         this.eventBO = eventBO;
@@ -86,6 +91,7 @@ RecurringEventServiceImpl implements RecurringEventService {
         this.authenticatedUserProvider = authenticatedUserProvider;
         this.eventResponseDTOFactory = eventResponseDTOFactory;
         this.clockProvider = clockProvider;
+        this.recurrenceMaterializationService = recurrenceMaterializationService;
     }
 
     @Override
@@ -106,7 +112,92 @@ RecurringEventServiceImpl implements RecurringEventService {
     @Override
     @Transactional(readOnly = true)
     public Page<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUser(RecurringEventFilterDTO filter, int pageNumber, int pageSize) {
+        return getConfirmedRecurringEventsForCurrentUser(filter, pageNumber, pageSize, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUser(RecurringEventFilterDTO filter, int pageNumber, int pageSize, boolean estimateTotal) {
         User viewer = authenticatedUserProvider.getCurrentUser();
+        RecurringEventFilterDTO sanitizedFilter = resolveSearchFilter(filter, viewer);
+
+        if (!estimateTotal) {
+            PagedList<RecurringEvent> activeEvents = recurringEventDAO.findConfirmedRecurringEvents(
+                    viewer.getId(),
+                    sanitizedFilter,
+                    pageNumber,
+                    pageSize
+            );
+            return new PageImpl<>(toResponseDTOs(activeEvents), PageRequest.of(pageNumber, pageSize), activeEvents.getTotalSize());
+        }
+
+        PagedList<RecurringEvent> activeEvents = recurringEventDAO.findConfirmedRecurringEvents(
+                viewer.getId(),
+                sanitizedFilter,
+                pageNumber,
+                pageSize,
+                false
+        );
+        List<RecurringEventResponseDTO> dtos = toResponseDTOs(activeEvents);
+
+        // A short page is the last one, so its offset gives the exact total
+        long seen = (long) pageNumber * pageSize + dtos.size();
+        long total = dtos.size() < pageSize && (pageNumber == 0 || !dtos.isEmpty())
+                ? seen
+                : Math.max(seen, recurringEventDAO.estimateConfirmedRecurringEvents(viewer.getId(), sanitizedFilter));
+
+        return new PageImpl<>(dtos, PageRequest.of(pageNumber, pageSize), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<RecurringEventResponseDTO> getConfirmedRecurringEventsForCurrentUserAfter(
+            RecurringEventFilterDTO filter,
+            String cursor,
+            int pageSize,
+            boolean estimateTotal
+    ) {
+        User viewer = authenticatedUserProvider.getCurrentUser();
+
+        // Reject a bad cursor before any query runs
+        boolean descending = Boolean.TRUE.equals(filter.sortDescending());
+        Keyset after = cursor == null || cursor.isBlank()
+                ? null
+                : KeysetCursorCodec.decode(cursor, descending, LocalDate.class, LocalDate.class, Long.class);
+        RecurringEventFilterDTO sanitizedFilter = resolveSearchFilter(filter, viewer);
+
+        PagedList<RecurringEvent> activeEvents = recurringEventDAO.findConfirmedRecurringEventsAfter(
+                viewer.getId(),
+                sanitizedFilter,
+                after,
+                pageSize
+        );
+        List<RecurringEventResponseDTO> dtos = toResponseDTOs(activeEvents);
+
+        String nextCursor = dtos.size() < pageSize
+                ? null
+                : KeysetCursorCodec.encode(activeEvents.getKeysetPage().getHighest(), descending);
+
+        if (!estimateTotal) {
+            return new KeysetPageDTO<>(dtos, nextCursor, null, false);
+        }
+        if (after == null && nextCursor == null) {
+            // The first page holds every result
+            return new KeysetPageDTO<>(dtos, null, (long) dtos.size(), false);
+        }
+        return new KeysetPageDTO<>(dtos, nextCursor,
+                recurringEventDAO.estimateConfirmedRecurringEvents(viewer.getId(), sanitizedFilter), true);
+    }
+
+    /**
+     * Resolves the time filter of a search into the concrete date range passed to {@link RecurringEventDAO}.
+     *
+     * @param filter the filter as received from the caller
+     * @param viewer the user whose clock resolves relative time filters
+     * @return the filter with resolved start and end dates
+     * @throws InvalidTimeException if CUSTOM filter has start date after end date
+     */
+    private RecurringEventFilterDTO resolveSearchFilter(RecurringEventFilterDTO filter, User viewer) {
         LocalDate today = LocalDate.now(clockProvider.getClockForUser(viewer));
         
         LocalDate startDate = filter.startDate();
@@ -137,26 +228,19 @@ RecurringEventServiceImpl implements RecurringEventService {
         }
 
         // Pass resolved time range to DAO
-        RecurringEventFilterDTO sanitizedFilter = new RecurringEventFilterDTO(
+        return new RecurringEventFilterDTO(
                 filter.labelId(),
                 filter.timeFilter(), // Keep original for reference, but DAO will use resolved dates
                 startDate,
                 endDate,
                 filter.sortDescending()
         );
+    }
 
-        PagedList<RecurringEvent> activeEvents = recurringEventDAO.findConfirmedRecurringEvents(
-                viewer.getId(),
-                sanitizedFilter,
-                pageNumber,
-                pageSize
-        );
-
-        List<RecurringEventResponseDTO> dtos = activeEvents.stream()
+    private List<RecurringEventResponseDTO> toResponseDTOs(PagedList<RecurringEvent> recurringEvents) {
+        return recurringEvents.stream()
                 .map(this::toRecurringEventResponseDTO)
                 .toList();
-
-        return new PageImpl<>(dtos, PageRequest.of(pageNumber, pageSize), activeEvents.getTotalSize());
     }
 
     @Override
@@ -255,6 +339,7 @@ RecurringEventServiceImpl implements RecurringEventService {
         }
 
         RecurringEvent saved = recurringEventBO.createRecurringEventWithValidation(recurringEvent);
+        rewindMaterializationIfConfirmed(saved);
 
         return toRecurringEventResponseDTO(saved);
     }
@@ -274,6 +359,7 @@ RecurringEventServiceImpl implements RecurringEventService {
         }
 
         RecurringEvent confirmed = recurringEventBO.confirmRecurringEventWithValidation(recurringEvent);
+        rewindMaterializationIfConfirmed(confirmed);
 
         return toRecurringEventResponseDTO(confirmed);
     }
@@ -292,11 +378,16 @@ RecurringEventServiceImpl implements RecurringEventService {
         LocalTime originalStartTime = recurringEvent.getStartTime();
         LocalTime originalEndTime = recurringEvent.getEndTime();
         Long originalLabelId = recurringEvent.getLabel() != null ? recurringEvent.getLabel().getId() : null;
+        LocalDate originalStartDate = recurringEvent.getStartDate();
 
         boolean changed = recurringEventPatchHandler.applyPatch(recurringEvent, dto);
         
         if (changed) {
             RecurringEvent updated = recurringEventBO.updateRecurringEvent(recurringEvent);
+
+            if (!Objects.equals(originalStartDate, updated.getStartDate())) {
+                rewindMaterializationIfConfirmed(updated);
+            }
             
             // If this is a confirmed recurring event, propagate changes to future Event instances
             if (!updated.isUnconfirmed()) {
@@ -321,6 +412,20 @@ RecurringEventServiceImpl implements RecurringEventService {
         return toRecurringEventResponseDTO(recurringEvent);
     }
 
+    /**
+     * Rewinds the creator's recurrence materialization watermark to the start of a confirmed series.
+     *
+     * <p>A series that starts before the watermark has past occurrences the materialization job
+     * already moved beyond; rewinding lets the next run or calendar view solidify them.</p>
+     *
+     * @param recurringEvent the created, confirmed or re-dated recurring event
+     */
+    private void rewindMaterializationIfConfirmed(RecurringEvent recurringEvent) {
+        if (!recurringEvent.isUnconfirmed() && recurringEvent.getStartDate() != null) {
+            recurrenceMaterializationService.rewindWatermark(recurringEvent.getCreator(), recurringEvent.getStartDate());
+        }
+    }
+
     private Set<String> detectChangedFields(String originalName, LocalTime originalStartTime, 
                                           LocalTime originalEndTime, Long originalLabelId, 
                                           RecurringEvent updated) {
@@ -9,6 +9,7 @@ import com.yohan.event_planner.repository.RefreshTokenRepository;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.security.CustomUserDetails;
 import com.yohan.event_planner.security.JwtUtils;
+import com.yohan.event_planner.security.RefreshTokenHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -38,7 +39,8 @@ import static com.yohan.event_planner.exception.ErrorCode.UNAUTHORIZED_ACCESS;
  * This service integrates with the broader security architecture by collaborating with:
  * </p>
  * <ul>
- *   <li>{@link JwtUtils} - Cryptographic token operations (generation, hashing, validation)</li>
+ *   <li>{@link JwtUtils} - Token generation and access token signing</li>
+ *   <li>{@link RefreshTokenHasher} - Hashing and constant-time verification of refresh tokens</li>
  *   <li>{@link RefreshTokenRepository} - Persistent token storage with optimized queries</li>
  *   <li>{@link UserRepository} - User validation for token refresh operations</li>
  *   <li>{@link com.yohan.event_planner.jobs.RefreshTokenCleanupJob} - Automated maintenance of token hygiene</li>
@@ -55,13 +57,16 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
+    private final RefreshTokenHasher refreshTokenHasher;
 
     public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
                                    UserRepository userRepository,
-                                   JwtUtils jwtUtils) {
+                                   JwtUtils jwtUtils,
+                                   RefreshTokenHasher refreshTokenHasher) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.jwtUtils = jwtUtils;
+        this.refreshTokenHasher = refreshTokenHasher;
     }
 
     /**
@@ -89,7 +94,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
         String rawToken = jwtUtils.generateRefreshToken();
         
         // Hash token for storage
-        String hashedToken = jwtUtils.hashRefreshToken(rawToken);
+        String hashedToken = refreshTokenHasher.hash(rawToken);
         
         // Calculate expiry
         Instant expiryDate = Instant.now().plusMillis(jwtUtils.getRefreshTokenExpirationMs());
@@ -287,15 +292,16 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
      * 
      * <p>
      * Uses HMAC-SHA256 which produces deterministic hashes, allowing for direct database lookups.
-     * This method first hashes the input token and then looks up the corresponding entity.
+     * This method computes the token's digest once, looks up the entity by its encoded form,
+     * and re-checks the stored hash against the same digest with a constant-time comparison.
      * </p>
      *
      * @param refreshToken the raw refresh token to locate
      * @return Optional containing the matching RefreshToken entity, or empty if not found
      */
     private Optional<RefreshToken> findTokenByRawValue(String refreshToken) {
-        String hashedToken = jwtUtils.hashRefreshToken(refreshToken);
-        return refreshTokenRepository.findByTokenHash(hashedToken)
-                .filter(token -> jwtUtils.validateRefreshToken(refreshToken, token.getTokenHash()));
+        byte[] digest = refreshTokenHasher.digest(refreshToken);
+        return refreshTokenRepository.findByTokenHash(refreshTokenHasher.encode(digest))
+                .filter(token -> refreshTokenHasher.matches(digest, token.getTokenHash()));
     }
 }
\ No newline at end of file
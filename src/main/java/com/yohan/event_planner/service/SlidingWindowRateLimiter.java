@@ -0,0 +1,185 @@
+package com.yohan.event_planner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free, in-process {@link RateLimitCounter}.
+ *
+ * <p>The window is split into a fixed number of sub-windows. Each tracked key owns a ring of
+ * {@code AtomicLong} slots, one per sub-window, and every slot packs the sub-window index it
+ * belongs to together with the attempt count recorded in it. A slot whose index has fallen out of
+ * the window is simply ignored when counting and overwritten on the next attempt that maps to it,
+ * so recording and checking never lock and never allocate once a key is tracked.</p>
+ *
+ * <h2>Accuracy</h2>
+ * <p>Attempts leave the window one whole sub-window at a time. With the default of twelve
+ * sub-windows a one hour limit therefore slides in five minute steps.</p>
+ *
+ * <h2>Bounded Storage</h2>
+ * <p>Rings are held in a Caffeine cache, whose eviction costs amortized constant time per
+ * admission even while the store stays full:</p>
+ * <ul>
+ *   <li><strong>Time</strong>: A key expires once a whole window passes without an attempt, so all
+ *       of its slots have left the window</li>
+ *   <li><strong>Size</strong>: At most {@code maxTrackedKeys} keys are held. The cache admits new keys
+ *       by how often they were seen, so a burst of one-off keys cannot push out a key that keeps
+ *       attempting and is being limited</li>
+ * </ul>
+ *
+ * <p>A key evicted at the exact moment a new attempt is counted for it may lose that single
+ * attempt. Checking a key does not count as activity and never extends its lifetime.</p>
+ *
+ * <p>Counts are per application instance; use {@link PostgresRateLimitCounter} when several
+ * instances must share one quota.</p>
+ *
+ * @see RateLimitingServiceImpl
+ */
+public final class SlidingWindowRateLimiter implements RateLimitCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlidingWindowRateLimiter.class);
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int maxAttempts;
+    private final int subWindows;
+    private final long subWindowMillis;
+    private final Clock clock;
+
+    private final Cache<String, Window> windows;
+
+    /**
+     * Creates a limiter allowing {@code maxAttempts} attempts per key within {@code window}.
+     *
+     * @param name name used in log messages
+     * @param maxAttempts maximum attempts per key within the window
+     * @param window length of the sliding window
+     * @param subWindows number of sub-windows the window is divided into
+     * @param maxTrackedKeys maximum number of keys held at once
+     * @param clock clock supplying the current time
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public SlidingWindowRateLimiter(String name, int maxAttempts, Duration window, int subWindows,
+                                    int maxTrackedKeys, Clock clock) {
+        if (maxAttempts <= 0 || subWindows <= 0 || maxTrackedKeys <= 0) {
+            throw new IllegalArgumentException("Rate limiter limits must be positive");
+        }
+        if (window == null || window.toMillis() < subWindows) {
+            throw new IllegalArgumentException("Rate limit window must cover at least one millisecond per sub-window");
+        }
+        this.maxAttempts = maxAttempts;
+        this.subWindows = subWindows;
+        this.subWindowMillis = window.toMillis() / subWindows;
+        this.clock = clock;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(window)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                // Evict on the calling thread so the cost stays with the request that admits a key
+                .executor(Runnable::run)
+                .removalListener((String key, Window evicted, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        logger.warn("{} rate limiter is tracking {} keys, dropped a key", name, maxTrackedKeys);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Snapshot check(String key) {
+        long now = clock.millis();
+        Window window = windows.policy().getIfPresentQuietly(key);
+        if (window == null) {
+            return new Snapshot(0, maxAttempts, 0);
+        }
+        return window.snapshot(now);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Snapshot record(String key) {
+        long now = clock.millis();
+        Window window = windows.get(key, k -> new Window());
+        window.increment(now / subWindowMillis);
+        return window.snapshot(now);
+    }
+
+    /**
+     * Returns the number of keys currently held.
+     *
+     * @return tracked key count
+     */
+    public int trackedKeys() {
+        windows.cleanUp();
+        return (int) windows.estimatedSize();
+    }
+
+    /**
+     * Forgets all tracked keys.
+     */
+    public void clear() {
+        windows.invalidateAll();
+    }
+
+    /**
+     * Ring of sub-window slots for a single key.
+     */
+    private final class Window {
+        private final AtomicLongArray slots = new AtomicLongArray(subWindows);
+
+        void increment(long bucket) {
+            int index = (int) (bucket % subWindows);
+            while (true) {
+                long current = slots.get(index);
+                long slotBucket = current >>> COUNT_BITS;
+                long next;
+                if (slotBucket >= bucket) {
+                    // Same sub-window, or a newer one written by a thread that read the clock later
+                    if ((current & COUNT_MASK) == COUNT_MASK) {
+                        return;
+                    }
+                    next = current + 1;
+                } else {
+                    next = (bucket << COUNT_BITS) | 1;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        Snapshot snapshot(long now) {
+            long bucket = now / subWindowMillis;
+            int attempts = 0;
+            long oldestBucket = Long.MAX_VALUE;
+            for (int i = 0; i < subWindows; i++) {
+                long slot = slots.get(i);
+                long slotBucket = slot >>> COUNT_BITS;
+                int count = (int) (slot & COUNT_MASK);
+                if (count > 0 && slotBucket > bucket - subWindows) {
+                    attempts += count;
+                    oldestBucket = Math.min(oldestBucket, slotBucket);
+                }
+            }
+            if (attempts == 0) {
+                return new Snapshot(0, maxAttempts, 0);
+            }
+            long resetMillis = Math.max(0, (oldestBucket + subWindows) * subWindowMillis - now);
+            return new Snapshot(attempts, Math.max(0, maxAttempts - attempts), (resetMillis + 999) / 1000);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.yohan.event_planner.validation;
 
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.ConflictCandidateDTO;
 import com.yohan.event_planner.exception.ConflictException;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -101,4 +104,21 @@ public interface ConflictValidator {
      * @throws IllegalArgumentException if parameters are null or skipDaysToRemove is empty
      */
     void validateNoConflictsForSkipDays(RecurringEvent recurringEvent, Set<LocalDate> skipDaysToRemove);
+
+    /**
+     * Finds the conflicts of many candidate time spans of the same user in one pass.
+     *
+     * <p>Applies the same rules as {@link #validateNoConflicts(Event)} to every candidate, but
+     * loads the user's confirmed events and recurring events once for the union of all candidate
+     * windows and expands each recurring series once, instead of querying per candidate.</p>
+     *
+     * <p>Each candidate's own event and own recurring series are excluded from its conflicts.
+     * Candidates are not checked against each other.</p>
+     *
+     * @param creator the user who owns all candidates, must not be null
+     * @param candidates the time spans to check, must not be null
+     * @return the conflicting event and recurring event IDs of each candidate, in candidate order;
+     *         an empty set means the candidate has no conflicts
+     */
+    List<Set<Long>> findConflicts(User creator, List<ConflictCandidateDTO> candidates);
 }
@@ -2,20 +2,26 @@ package com.yohan.event_planner.validation;
 
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.ConflictCandidateDTO;
+import com.yohan.event_planner.dto.EventIntervalDTO;
 import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.repository.EventRepository;
 import com.yohan.event_planner.repository.RecurringEventRepository;
+import com.yohan.event_planner.service.CompiledRecurrenceRule;
 import com.yohan.event_planner.service.RecurrenceRuleService;
 import com.yohan.event_planner.time.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -42,7 +48,11 @@ import java.util.Set;
  *
  * <p><strong>Performance Optimizations:</strong></p>
  * <ul>
+ *   <li>Answers normal event overlaps from the per-user {@link EventIntervalIndex} in
+ *       {@code O(log n + k)} instead of querying on every check</li>
  *   <li>Uses database-optimized queries for initial conflict candidate filtering</li>
+ *   <li>Expands each recurring candidate once over a multi-day event's whole date range</li>
+ *   <li>Checks many candidate spans in one pass, sharing a single load and expansion per series</li>
  *   <li>Implements early exit patterns to minimize unnecessary processing</li>
  *   <li>Caps recurrence expansion windows to prevent excessive computation</li>
  *   <li>Leverages recurrence rule day-of-week pre-filtering</li>
@@ -62,6 +72,14 @@ public class ConflictValidatorImpl implements ConflictValidator {
     private final EventRepository eventRepository;
     private final RecurringEventRepository recurringEventRepository;
     private final RecurrenceRuleService recurrenceRuleService;
+    private final EventIntervalIndex eventIntervalIndex;
+
+    /**
+     * Whether normal event overlaps are answered from the in-memory interval index.
+     * Off by default: the index is only safe for single-instance deployments (see {@link EventIntervalIndex}).
+     */
+    @Value("${app.conflict-index.enabled:false}")
+    private boolean intervalIndexEnabled = false;
 
     /**
      * Constructs a ConflictValidatorImpl with required dependencies.
@@ -69,15 +87,18 @@ public class ConflictValidatorImpl implements ConflictValidator {
      * @param eventRepository repository for accessing regular event data
      * @param recurringEventRepository repository for accessing recurring event data
      * @param recurrenceRuleService service for expanding and evaluating recurrence rules
+     * @param eventIntervalIndex per-user index of confirmed event intervals
      */
     public ConflictValidatorImpl(
             EventRepository eventRepository,
             RecurringEventRepository recurringEventRepository,
-            RecurrenceRuleService recurrenceRuleService
+            RecurrenceRuleService recurrenceRuleService,
+            EventIntervalIndex eventIntervalIndex
     ) {
         this.eventRepository = eventRepository;
         this.recurringEventRepository = recurringEventRepository;
         this.recurrenceRuleService = recurrenceRuleService;
+        this.eventIntervalIndex = eventIntervalIndex;
     }
 
     /**
@@ -85,7 +106,7 @@ public class ConflictValidatorImpl implements ConflictValidator {
      *
      * <p><strong>Implementation Details:</strong></p>
      * <ul>
-     *   <li>First checks regular event conflicts using UTC time comparison</li>
+     *   <li>First checks regular event conflicts using UTC time comparison against the interval index</li>
      *   <li>Then validates against recurring event occurrences in user timezone</li>
      *   <li>Handles single-day events with time-filtered database queries</li>
      *   <li>Handles multi-day events with date-segmented validation</li>
@@ -99,12 +120,19 @@ public class ConflictValidatorImpl implements ConflictValidator {
         // 1. Check normal events (stored in UTC)
         logger.debug("Checking normal event conflicts for user: {} between {} and {}", 
                 event.getCreator().getId(), event.getStartTime(), event.getEndTime());
-        Set<Long> normalConflicts = eventRepository.findConflictingEventIds(
-                event.getCreator(),
-                event.getStartTime(),
-                event.getEndTime(),
-                event.getId() // exclude self for updates, null for new creates
-        );
+        Set<Long> normalConflicts = intervalIndexEnabled
+                ? eventIntervalIndex.findConflictingEventIds(
+                        event.getCreator().getId(),
+                        event.getStartTime(),
+                        event.getEndTime(),
+                        event.getId() // exclude self for updates, null for new creates
+                )
+                : eventRepository.findConflictingEventIds(
+                        event.getCreator(),
+                        event.getStartTime(),
+                        event.getEndTime(),
+                        event.getId()
+                );
         conflictingEventIds.addAll(normalConflicts);
         logger.debug("Found {} normal event conflicts", normalConflicts.size());
 
@@ -146,34 +174,33 @@ public class ConflictValidatorImpl implements ConflictValidator {
             );
 
             for (RecurringEvent re : potentialRecurringConflicts) {
-                for (LocalDate date = conversion.startDate; !date.isAfter(conversion.endDate); date = date.plusDays(1)) {
-
-                    List<LocalDate> occurrences = recurrenceRuleService.expandRecurrence(
-                            re.getRecurrenceRule().getParsed(),
-                            date,
-                            date,
-                            re.getSkipDays()
-                    );
-
-                    if (!occurrences.isEmpty()) {
-                        // Determine effective time window on this date for multi-day event
-                        LocalTime checkStart;
-                        LocalTime checkEnd;
-
-                        if (date.equals(conversion.startDate)) {
-                            checkStart = conversion.startTime;
-                            checkEnd = LocalTime.MAX;
-                        } else if (date.equals(conversion.endDate)) {
-                            checkStart = LocalTime.MIN;
-                            checkEnd = conversion.endTime;
-                        } else {
-                            checkStart = LocalTime.MIN;
-                            checkEnd = LocalTime.MAX;
-                        }
-
-                        if (timesOverlap(checkStart, checkEnd, re.getStartTime(), re.getEndTime())) {
-                            conflictingEventIds.add(re.getId());
-                        }
+                // Expand once over the whole range, then check each occurrence against its day's window
+                List<LocalDate> occurrences = recurrenceRuleService.expandRecurrence(
+                        re.getRecurrenceRule().getParsed(),
+                        conversion.startDate,
+                        conversion.endDate,
+                        re.getSkipDays()
+                );
+
+                for (LocalDate date : occurrences) {
+                    // Determine effective time window on this date for multi-day event
+                    LocalTime checkStart;
+                    LocalTime checkEnd;
+
+                    if (date.equals(conversion.startDate)) {
+                        checkStart = conversion.startTime;
+                        checkEnd = LocalTime.MAX;
+                    } else if (date.equals(conversion.endDate)) {
+                        checkStart = LocalTime.MIN;
+                        checkEnd = conversion.endTime;
+                    } else {
+                        checkStart = LocalTime.MIN;
+                        checkEnd = LocalTime.MAX;
+                    }
+
+                    if (timesOverlap(checkStart, checkEnd, re.getStartTime(), re.getEndTime())) {
+                        conflictingEventIds.add(re.getId());
+                        break; // one overlapping occurrence is sufficient per candidate
                     }
                 }
             }
@@ -353,6 +380,131 @@ public class ConflictValidatorImpl implements ConflictValidator {
                 recurringEvent.getName(), recurringEvent.getId());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Implementation Details:</strong></p>
+     * <ul>
+     *   <li>Normal events are answered per candidate from the interval index, or when the index
+     *       is disabled from the spans of a single range query over the union of all candidate
+     *       windows, sorted by start so each candidate binary searches them instead of scanning</li>
+     *   <li>Recurring events are loaded with a single date range query and each series is
+     *       expanded once, clipped to its own start and end dates</li>
+     *   <li>Each candidate is converted to the user's timezone once, then checks its local dates
+     *       against the expanded occurrence sets</li>
+     * </ul>
+     */
+    @Override
+    public List<Set<Long>> findConflicts(User creator, List<ConflictCandidateDTO> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Starting bulk conflict check of {} candidates for user: {}", candidates.size(), creator.getId());
+
+        ZonedDateTime windowStart = candidates.get(0).startTime();
+        ZonedDateTime windowEnd = candidates.get(0).endTime();
+        for (ConflictCandidateDTO candidate : candidates) {
+            if (candidate.startTime().isBefore(windowStart)) {
+                windowStart = candidate.startTime();
+            }
+            if (candidate.endTime().isAfter(windowEnd)) {
+                windowEnd = candidate.endTime();
+            }
+        }
+
+        List<Set<Long>> results = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            results.add(new HashSet<>());
+        }
+
+        // 1. Check normal events (stored in UTC)
+        if (intervalIndexEnabled) {
+            for (int i = 0; i < candidates.size(); i++) {
+                ConflictCandidateDTO candidate = candidates.get(i);
+                results.get(i).addAll(eventIntervalIndex.findConflictingEventIds(
+                        creator.getId(), candidate.startTime(), candidate.endTime(), candidate.eventId()));
+            }
+        } else {
+            List<EventIntervalDTO> intervals = eventRepository.findConfirmedEventIntervalsForUserBetween(
+                    creator.getId(), windowStart, windowEnd);
+            logger.debug("Loaded {} confirmed event spans for the bulk conflict window", intervals.size());
+            EventIntervalIndex.UserIntervals sorted = EventIntervalIndex.UserIntervals.of(intervals);
+            for (int i = 0; i < candidates.size(); i++) {
+                ConflictCandidateDTO candidate = candidates.get(i);
+                results.get(i).addAll(sorted.findOverlapping(
+                        candidate.startTime().toInstant(), candidate.endTime().toInstant(), candidate.eventId()));
+            }
+        }
+
+        // 2. Check recurring events, expanding each series once over the whole window
+        ZoneId userZone = ZoneId.of(creator.getTimezone());
+        LocalDate fromDate = windowStart.withZoneSameInstant(userZone).toLocalDate();
+        LocalDate toDate = windowEnd.withZoneSameInstant(userZone).toLocalDate();
+        List<RecurringEvent> recurringEvents = recurringEventRepository.findConfirmedRecurringEventsForUserBetween(
+                creator.getId(), fromDate, toDate);
+        logger.debug("Expanding {} recurring events between {} and {}", recurringEvents.size(), fromDate, toDate);
+
+        List<EventTimezoneConversion> conversions = new ArrayList<>(candidates.size());
+        if (!recurringEvents.isEmpty()) {
+            for (ConflictCandidateDTO candidate : candidates) {
+                conversions.add(convertToUserTimezone(candidate.startTime(), candidate.endTime(), userZone));
+            }
+        }
+
+        for (RecurringEvent re : recurringEvents) {
+            LocalDate expandFrom = re.getStartDate().isAfter(fromDate) ? re.getStartDate() : fromDate;
+            LocalDate expandTo = re.getEndDate().isBefore(toDate) ? re.getEndDate() : toDate;
+            Set<LocalDate> occurrences = new HashSet<>(recurrenceRuleService.expandRecurrence(
+                    re.getRecurrenceRule().getParsed(),
+                    expandFrom,
+                    expandTo,
+                    re.getSkipDays()
+            ));
+            if (occurrences.isEmpty()) {
+                continue;
+            }
+
+            for (int i = 0; i < candidates.size(); i++) {
+                ConflictCandidateDTO candidate = candidates.get(i);
+                if (re.getId().equals(candidate.recurringEventId())) {
+                    continue; // a series never conflicts with its own occurrences
+                }
+                if (overlapsOccurrence(conversions.get(i), re, occurrences)) {
+                    results.get(i).add(re.getId());
+                }
+            }
+        }
+
+        logger.debug("Bulk conflict check complete for user: {}", creator.getId());
+        return results;
+    }
+
+    /**
+     * Determines whether a candidate overlaps any occurrence of a recurring event.
+     *
+     * <p>Walks the candidate's local dates and, on each date the series occurs, compares the
+     * series times with the part of the candidate falling on that date.</p>
+     *
+     * @param conversion the candidate converted to the user's timezone
+     * @param re the recurring event to check against
+     * @param occurrences the dates the recurring event occurs on
+     * @return true if the candidate overlaps at least one occurrence, false otherwise
+     */
+    private boolean overlapsOccurrence(EventTimezoneConversion conversion, RecurringEvent re, Set<LocalDate> occurrences) {
+        for (LocalDate date = conversion.startDate; !date.isAfter(conversion.endDate); date = date.plusDays(1)) {
+            if (!occurrences.contains(date)) {
+                continue;
+            }
+            LocalTime checkStart = date.equals(conversion.startDate) ? conversion.startTime : LocalTime.MIN;
+            LocalTime checkEnd = date.equals(conversion.endDate) ? conversion.endTime : LocalTime.MAX;
+
+            if (timesOverlap(checkStart, checkEnd, re.getStartTime(), re.getEndTime())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Determines if two time ranges overlap.
      *
@@ -377,20 +529,23 @@ public class ConflictValidatorImpl implements ConflictValidator {
      * If two recurring events don't share any common days of the week, they cannot possibly
      * conflict, allowing early exit from expensive conflict checking algorithms.</p>
      *
+     * <p>A rule left uncompiled on load (legacy rows without a canonical rule, or rules that no
+     * longer parse) has no evaluable occurrences, so it shares no days. This matches recurrence
+     * expansion and the month calendar, which both treat such rules as never occurring.</p>
+     *
      * @param e1 first recurring event to compare
      * @param e2 second recurring event to compare
      * @return true if the events share at least one common day of the week, false otherwise
      */
     private boolean hasSharedRecurrenceDays(RecurringEvent e1, RecurringEvent e2) {
-        Set<DayOfWeek> days1 = e1.getRecurrenceRule().getParsed().daysOfWeek();
-        Set<DayOfWeek> days2 = e2.getRecurrenceRule().getParsed().daysOfWeek();
-
-        for (DayOfWeek day : days1) {
-            if (days2.contains(day)) {
-                return true;
-            }
+        CompiledRecurrenceRule rule1 = e1.getRecurrenceRule().getCompiled();
+        CompiledRecurrenceRule rule2 = e2.getRecurrenceRule().getCompiled();
+        if (rule1 == null || rule2 == null) {
+            logger.debug("Recurring event {} or {} has no compiled rule - treating as no shared days",
+                    e1.getId(), e2.getId());
+            return false;
         }
-        return false;
+        return rule1.sharesDayWith(rule2);
     }
 
     /**
@@ -425,11 +580,23 @@ public class ConflictValidatorImpl implements ConflictValidator {
         ZoneId userZone = ZoneId.of(event.getCreator().getTimezone());
         logger.debug("Converting event times to user timezone: {}", userZone);
 
+        return convertToUserTimezone(event.getStartTime(), event.getEndTime(), userZone);
+    }
+
+    /**
+     * Converts a UTC time span to local date/time components in the given timezone.
+     *
+     * @param startTime the start of the span
+     * @param endTime the end of the span
+     * @param userZone the timezone to convert to
+     * @return timezone conversion object containing local date/time components
+     */
+    private EventTimezoneConversion convertToUserTimezone(ZonedDateTime startTime, ZonedDateTime endTime, ZoneId userZone) {
         return new EventTimezoneConversion(
-                event.getStartTime().withZoneSameInstant(userZone).toLocalDate(),
-                event.getEndTime().withZoneSameInstant(userZone).toLocalDate(),
-                event.getStartTime().withZoneSameInstant(userZone).toLocalTime(),
-                event.getEndTime().withZoneSameInstant(userZone).toLocalTime()
+                startTime.withZoneSameInstant(userZone).toLocalDate(),
+                endTime.withZoneSameInstant(userZone).toLocalDate(),
+                startTime.withZoneSameInstant(userZone).toLocalTime(),
+                endTime.withZoneSameInstant(userZone).toLocalTime()
         );
     }
 
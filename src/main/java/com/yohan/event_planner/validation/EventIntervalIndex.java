@@ -0,0 +1,271 @@
+package com.yohan.event_planner.validation;
+
+import com.yohan.event_planner.dto.EventIntervalDTO;
+import com.yohan.event_planner.dto.EventIntervalIndexStatsDTO;
+import com.yohan.event_planner.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, per-user in-memory index of confirmed event intervals used for conflict detection.
+ *
+ * <p>Instead of issuing an overlap query for every create, update and confirm, the confirmed
+ * events of a user are loaded once through {@link EventRepository#findConfirmedEventIntervalsByUserId(Long)}
+ * and kept as arrays sorted by start time, together with the running maximum of end times.
+ * An overlap query binary-searches the last interval starting at or before the query end and
+ * walks backwards only while the running maximum end still reaches the query start, so it costs
+ * {@code O(log n + k)} for a user's non-overlapping schedule, where {@code k} is the number of
+ * conflicting events.</p>
+ *
+ * <h2>Semantics</h2>
+ * <p>Answers are identical to {@link EventRepository#findConflictingEventIds}: boundaries are
+ * inclusive, only confirmed events are indexed and an optional event ID is excluded so that an
+ * event never conflicts with itself during updates.</p>
+ *
+ * <h2>Invalidation</h2>
+ * <ul>
+ *   <li><strong>Entity Writes</strong>: {@link com.yohan.event_planner.domain.EventIntervalIndexListener}
+ *       calls {@link #invalidate(Long)} whenever an event is persisted, updated or removed</li>
+ *   <li><strong>Transaction Completion</strong>: Inside a transaction the user is invalidated again
+ *       after commit or rollback, so an index built from uncommitted rows never outlives them</li>
+ *   <li><strong>Stale Builds</strong>: A build that races with an invalidation is used for the
+ *       current check but not cached</li>
+ * </ul>
+ *
+ * <h2>Deployment</h2>
+ * <p><strong>Single instance only.</strong> The index lives in one JVM and entries have no
+ * expiry, so writes committed by another application instance never invalidate it and a miss
+ * would confirm an event that overlaps them. {@code app.conflict-index.enabled} is therefore
+ * off by default; enable it only when exactly one instance writes events.</p>
+ *
+ * <h2>Eviction</h2>
+ * <p>Users are kept in access order and the least recently used user is evicted once
+ * {@code app.conflict-index.max-users} users are indexed.</p>
+ *
+ * <h2>Metrics</h2>
+ * <p>Hit, miss, invalidation and eviction counters are exposed through {@link #getStats()}.</p>
+ *
+ * @see ConflictValidatorImpl
+ * @see EventIntervalDTO
+ */
+@Component
+public class EventIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventIntervalIndex.class);
+
+    private static final int DEFAULT_MAX_USERS = 1000;
+
+    private final EventRepository eventRepository;
+
+    @Value("${app.conflict-index.max-users:" + DEFAULT_MAX_USERS + "}")
+    private int maxUsers = DEFAULT_MAX_USERS;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** Incremented on every invalidation; builds started before a change are not cached. */
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final Map<Long, UserIntervals> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserIntervals> eldest) {
+            if (size() > maxUsers) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public EventIntervalIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Finds the confirmed events of a user that overlap the given time range.
+     *
+     * @param userId the ID of the user whose events are searched
+     * @param start the range start in UTC (inclusive)
+     * @param end the range end in UTC (inclusive)
+     * @param excludeEventId an event ID to ignore, or null for new events
+     * @return IDs of all overlapping confirmed events
+     */
+    public Set<Long> findConflictingEventIds(Long userId, ZonedDateTime start, ZonedDateTime end, Long excludeEventId) {
+        return intervalsFor(userId).findOverlapping(start.toInstant(), end.toInstant(), excludeEventId);
+    }
+
+    /**
+     * Discards the index of a user after one of their events changed.
+     *
+     * <p>When called inside a transaction the user is invalidated again once the transaction
+     * completes, because other threads may rebuild the index before the change is committed.</p>
+     *
+     * @param userId the ID of the user whose events changed
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            @SuppressWarnings("unchecked")
+            Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                Set<Long> users = new HashSet<>();
+                TransactionSynchronizationManager.bindResource(this, users);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(EventIntervalIndex.this);
+                        users.forEach(EventIntervalIndex.this::evict);
+                    }
+                });
+                pending = users;
+            }
+            pending.add(userId);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the index counters.
+     *
+     * @return current hit, miss, invalidation and eviction counts together with size information
+     */
+    public EventIntervalIndexStatsDTO getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new EventIntervalIndexStatsDTO(hits.get(), misses.get(), invalidations.get(), evictions.get(), size, maxUsers);
+    }
+
+    /**
+     * Removes all indexed users. Counters are left untouched.
+     */
+    public void clear() {
+        synchronized (entries) {
+            epoch.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    private UserIntervals intervalsFor(Long userId) {
+        long buildEpoch;
+        synchronized (entries) {
+            UserIntervals cached = entries.get(userId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            buildEpoch = epoch.get();
+        }
+
+        misses.incrementAndGet();
+        UserIntervals built = UserIntervals.of(eventRepository.findConfirmedEventIntervalsByUserId(userId));
+        logger.debug("Built interval index with {} confirmed events for user {}", built.size(), userId);
+
+        synchronized (entries) {
+            if (epoch.get() == buildEpoch) {
+                entries.put(userId, built);
+            }
+        }
+        return built;
+    }
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            epoch.incrementAndGet();
+            if (entries.remove(userId) != null) {
+                invalidations.incrementAndGet();
+                logger.debug("Invalidated interval index for user {}", userId);
+            }
+        }
+    }
+
+    /**
+     * Immutable interval arrays of one user, sorted by start time.
+     */
+    static final class UserIntervals {
+
+        private final long[] ids;
+        private final Instant[] starts;
+        private final Instant[] ends;
+
+        /** {@code maxEnds[i]} is the latest end among intervals {@code 0..i}. */
+        private final Instant[] maxEnds;
+
+        private UserIntervals(long[] ids, Instant[] starts, Instant[] ends, Instant[] maxEnds) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = maxEnds;
+        }
+
+        static UserIntervals of(List<EventIntervalDTO> intervals) {
+            List<EventIntervalDTO> sorted = new ArrayList<>(intervals);
+            sorted.sort(Comparator.comparing(interval -> interval.startTime().toInstant()));
+
+            int size = sorted.size();
+            long[] ids = new long[size];
+            Instant[] starts = new Instant[size];
+            Instant[] ends = new Instant[size];
+            Instant[] maxEnds = new Instant[size];
+
+            for (int i = 0; i < size; i++) {
+                EventIntervalDTO interval = sorted.get(i);
+                ids[i] = interval.id();
+                starts[i] = interval.startTime().toInstant();
+                ends[i] = interval.endTime().toInstant();
+                maxEnds[i] = (i == 0 || ends[i].isAfter(maxEnds[i - 1])) ? ends[i] : maxEnds[i - 1];
+            }
+            return new UserIntervals(ids, starts, ends, maxEnds);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        Set<Long> findOverlapping(Instant start, Instant end, Long excludeEventId) {
+            Set<Long> overlapping = new HashSet<>();
+
+            // Intervals after the last one starting at or before the query end cannot overlap
+            for (int i = lastStartingAtOrBefore(end); i >= 0 && !maxEnds[i].isBefore(start); i--) {
+                if (!ends[i].isBefore(start) && (excludeEventId == null || ids[i] != excludeEventId)) {
+                    overlapping.add(ids[i]);
+                }
+            }
+            return overlapping;
+        }
+
+        private int lastStartingAtOrBefore(Instant instant) {
+            int low = 0;
+            int high = starts.length - 1;
+            int result = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid].isAfter(instant)) {
+                    high = mid - 1;
+                } else {
+                    result = mid;
+                    low = mid + 1;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Watermark for background recurrence materialization
+-- RecurrenceMaterializationJob solidifies past recurring occurrences shortly after each user's
+-- local midnight and records how far it got here. Calendar views only write when the watermark
+-- shows the user is behind, so they otherwise run as read-only transactions.
+
+ALTER TABLE public.users
+    ADD COLUMN IF NOT EXISTS recurrences_materialized_through TIMESTAMP WITH TIME ZONE;
+
+-- Due-user scan of the job, run per timezone
+CREATE INDEX IF NOT EXISTS idx_users_timezone_materialized_through
+    ON public.users (timezone, recurrences_materialized_through);
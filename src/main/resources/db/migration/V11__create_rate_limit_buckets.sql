@@ -0,0 +1,20 @@
+-- Shared rate limit counters for app.rate-limit.backend=postgres
+-- One row per limiter, client and sub-window; PostgresRateLimitCounter upserts and sums them in one
+-- statement and RateLimitBucketCleanupJob deletes rows past expires_at.
+-- UNLOGGED: the counters are short-lived and may be lost on a crash, so they skip the write-ahead log.
+
+CREATE UNLOGGED TABLE IF NOT EXISTS public.rate_limit_buckets (
+    limiter_name character varying(64) NOT NULL,
+    client_key character varying(255) NOT NULL,
+    bucket bigint NOT NULL,
+    attempts integer NOT NULL,
+    expires_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (limiter_name, client_key, bucket)
+);
+
+-- Schemas created by Hibernate before this migration hold a logged table
+ALTER TABLE public.rate_limit_buckets SET UNLOGGED;
+
+-- Bulk expiry scans by expiration time
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_expires_at
+    ON public.rate_limit_buckets (expires_at);
@@ -0,0 +1,20 @@
+-- Outbox for transactional emails
+-- EmailServiceImpl stores rendered messages here when app.email.outbox.enabled=true;
+-- EmailOutboxJob sends due messages in the background, deletes delivered ones and dead-letters
+-- messages whose attempts are exhausted.
+
+CREATE TABLE IF NOT EXISTS public.email_outbox (
+    id bigserial PRIMARY KEY,
+    recipient character varying(255) NOT NULL,
+    subject character varying(255) NOT NULL,
+    html_body text NOT NULL,
+    status character varying(16) NOT NULL,
+    attempts integer NOT NULL,
+    next_attempt_at timestamp with time zone NOT NULL,
+    last_error character varying(1000),
+    created_at timestamp with time zone NOT NULL
+);
+
+-- Workers claim pending messages in next-attempt order
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt
+    ON public.email_outbox (status, next_attempt_at);
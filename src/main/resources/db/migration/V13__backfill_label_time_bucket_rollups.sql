@@ -0,0 +1,24 @@
+-- One-shot backfill of YEAR and ALL_TIME label time buckets
+-- Completions maintain both rollups alongside the DAY, WEEK and MONTH buckets, but time recorded
+-- before the rollups existed only lives in the finer buckets. Badge statistics read all-time
+-- totals from the ALL_TIME rows, so derive both rollups from the DAY buckets before the new
+-- version serves traffic. LabelTimeBucketRollupBackfillJob repeats this per label under an
+-- advisory lock if rollups ever need repairing on a live system.
+
+INSERT INTO public.label_time_bucket
+    (user_id, label_id, label_name, bucket_type, bucket_year, bucket_value, duration_minutes)
+SELECT user_id, label_id, MAX(label_name), 'YEAR', bucket_year, bucket_year, SUM(duration_minutes)
+FROM public.label_time_bucket
+WHERE bucket_type = 'DAY'
+GROUP BY user_id, label_id, bucket_year
+ON CONFLICT (user_id, label_id, bucket_type, bucket_year, bucket_value)
+DO UPDATE SET duration_minutes = EXCLUDED.duration_minutes;
+
+INSERT INTO public.label_time_bucket
+    (user_id, label_id, label_name, bucket_type, bucket_year, bucket_value, duration_minutes)
+SELECT user_id, label_id, MAX(label_name), 'ALL_TIME', 0, 0, SUM(duration_minutes)
+FROM public.label_time_bucket
+WHERE bucket_type = 'DAY'
+GROUP BY user_id, label_id
+ON CONFLICT (user_id, label_id, bucket_type, bucket_year, bucket_value)
+DO UPDATE SET duration_minutes = EXCLUDED.duration_minutes;
@@ -0,0 +1,7 @@
+-- Persist the canonical recurrence rule alongside the human-readable summary
+-- The summary of a confirmed recurring event (e.g. "Every Monday from June 1, 2025 forever")
+-- cannot be parsed back into a rule, so the machine-readable form (e.g. "WEEKLY:MONDAY")
+-- is stored separately and parsed when the recurring event is loaded
+
+ALTER TABLE public.recurring_events
+ADD COLUMN IF NOT EXISTS recurrence_rule character varying(255);
@@ -0,0 +1,18 @@
+-- Outbox for asynchronous label time statistics
+-- Event completions record bucket deltas here when app.label-stats.async.enabled=true;
+-- LabelTimeBucketOutboxJob drains, coalesces and applies them to label_time_bucket.
+
+CREATE TABLE IF NOT EXISTS public.label_time_bucket_outbox (
+    id bigserial PRIMARY KEY,
+    user_id bigint NOT NULL,
+    label_id bigint NOT NULL,
+    bucket_type character varying(255) NOT NULL,
+    bucket_year integer NOT NULL,
+    bucket_value integer NOT NULL,
+    delta_minutes integer NOT NULL,
+    created_at timestamp with time zone NOT NULL
+);
+
+-- Read-your-writes merge in badge statistics looks up pending deltas per user and label
+CREATE INDEX IF NOT EXISTS idx_label_time_bucket_outbox_user_label
+    ON public.label_time_bucket_outbox (user_id, label_id);
@@ -0,0 +1,13 @@
+-- Pooled ID allocation for bulk-inserted tables
+-- Event, RecapMedia and LabelTimeBucketOutboxEntry draw IDs from these sequences with a pooled
+-- optimizer (allocationSize = 50), which lets Hibernate batch their inserts. The increment must
+-- match the allocation size so each nextval reserves a block of 50 IDs.
+-- Other tables keep IDENTITY: they are written one row at a time, and label_time_bucket is
+-- inserted by native upserts that rely on the column default.
+
+-- events.id is an identity column backed by events_id_seq
+ALTER TABLE IF EXISTS public.events ALTER COLUMN id SET INCREMENT BY 50;
+
+ALTER SEQUENCE IF EXISTS public.recap_media_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE IF EXISTS public.label_time_bucket_outbox_id_seq INCREMENT BY 50;
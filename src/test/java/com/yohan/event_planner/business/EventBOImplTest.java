@@ -9,6 +9,7 @@ import com.yohan.event_planner.dto.DayViewDTO;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.LabelResponseDTO;
+import com.yohan.event_planner.dto.SolidificationReportDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.exception.EventAlreadyConfirmedException;
@@ -16,6 +17,7 @@ import com.yohan.event_planner.exception.InvalidEventStateException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.repository.EventRepository;
 import com.yohan.event_planner.service.LabelTimeBucketService;
+import com.yohan.event_planner.service.MonthSummaryCache;
 import com.yohan.event_planner.service.RecurrenceRuleService;
 import com.yohan.event_planner.time.ClockProvider;
 import com.yohan.event_planner.util.TestUtils;
@@ -28,6 +30,7 @@ import org.mockito.ArgumentCaptor;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -48,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -66,7 +70,9 @@ public class EventBOImplTest {
     private LabelTimeBucketService labelTimeBucketService;
     private EventRepository eventRepository;
     private ConflictValidator conflictValidator;
+    private EventPatchHandler eventPatchHandler;
     private ClockProvider clockProvider;
+    private MonthSummaryCache monthSummaryCache;
     private Clock fixedClock;
 
     private EventBOImpl eventBO;
@@ -78,18 +84,27 @@ public class EventBOImplTest {
         this.labelTimeBucketService = mock(LabelTimeBucketService.class);
         this.eventRepository = mock(EventRepository.class);
         this.conflictValidator = mock(ConflictValidator.class);
+        this.eventPatchHandler = mock(EventPatchHandler.class);
         this.clockProvider = mock(ClockProvider.class);
+        this.monthSummaryCache = mock(MonthSummaryCache.class);
 
         fixedClock = Clock.fixed(Instant.parse("2025-06-29T12:00:00Z"), ZoneId.of("UTC"));
 
+        // Bulk conflict checks report no conflicts unless a test says otherwise
+        when(conflictValidator.findConflicts(any(), anyList())).thenAnswer(invocation -> {
+            List<?> candidates = invocation.getArgument(1);
+            return candidates.stream().map(candidate -> Set.<Long>of()).toList();
+        });
+
         eventBO = new EventBOImpl(
                 recurringEventBO,
                 recurrenceRuleService,
                 labelTimeBucketService,
                 eventRepository,
-                mock(EventPatchHandler.class),
+                eventPatchHandler,
                 conflictValidator,
-                clockProvider
+                clockProvider,
+                monthSummaryCache
         );
     }
 
@@ -139,13 +154,13 @@ public class EventBOImplTest {
 
             User user = TestUtils.createValidUserEntityWithId(userId);
             Event mockEvent = TestUtils.createValidScheduledEventWithId(EVENT_ID, user, fixedClock);
-            List<Event> mockEvents = List.of(mockEvent);
+            List<EventResponseDTO> mockEvents = List.of(TestUtils.createEventResponseDTO(mockEvent));
 
-            when(eventRepository.findConfirmedEventsForUserBetween(userId, windowStart, windowEnd))
+            when(eventRepository.findConfirmedEventResponsesForUserBetween(userId, windowStart, windowEnd))
                     .thenReturn(mockEvents);
 
             // Act
-            List<Event> result = eventBO.getConfirmedEventsForUserInRange(userId, windowStart, windowEnd);
+            List<EventResponseDTO> result = eventBO.getConfirmedEventsForUserInRange(userId, windowStart, windowEnd);
 
             // Assert
             assertEquals(mockEvents, result);
@@ -159,11 +174,11 @@ public class EventBOImplTest {
             ZonedDateTime windowStart = getValidEventStartFuture(fixedClock);
             ZonedDateTime windowEnd = getValidEventEndFuture(fixedClock);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(userId, windowStart, windowEnd))
+            when(eventRepository.findConfirmedEventResponsesForUserBetween(userId, windowStart, windowEnd))
                     .thenReturn(List.of());
 
             // Act
-            List<Event> result = eventBO.getConfirmedEventsForUserInRange(userId, windowStart, windowEnd);
+            List<EventResponseDTO> result = eventBO.getConfirmedEventsForUserInRange(userId, windowStart, windowEnd);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -179,15 +194,15 @@ public class EventBOImplTest {
         void shouldReturnUnconfirmedEventsForUser() {
             // Arrange
             Long userId = 1L;
-            Event event1 = mock(Event.class);
-            Event event2 = mock(Event.class);
-            List<Event> expectedEvents = List.of(event1, event2);
+            EventResponseDTO event1 = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
+            EventResponseDTO event2 = TestUtils.createValidCompletedEventResponseDTO(fixedClock);
+            List<EventResponseDTO> expectedEvents = List.of(event1, event2);
 
             when(eventRepository.findUnconfirmedEventsForUserSortedByStartTime(userId))
                     .thenReturn(expectedEvents);
 
             // Act
-            List<Event> result = eventBO.getUnconfirmedEventsForUser(userId);
+            List<EventResponseDTO> result = eventBO.getUnconfirmedEventsForUser(userId);
 
             // Assert
             assertEquals(expectedEvents, result);
@@ -202,7 +217,7 @@ public class EventBOImplTest {
                     .thenReturn(List.of());
 
             // Act
-            List<Event> result = eventBO.getUnconfirmedEventsForUser(userId);
+            List<EventResponseDTO> result = eventBO.getUnconfirmedEventsForUser(userId);
 
             // Assert
             assertTrue(result.isEmpty());
@@ -225,7 +240,8 @@ public class EventBOImplTest {
 
             Event event1 = TestUtils.createValidScheduledEventWithId(1L, TestUtils.createValidUserEntityWithId(userId), fixedClock);
             Event event2 = TestUtils.createValidScheduledEventWithId(2L, TestUtils.createValidUserEntityWithId(userId), fixedClock);
-            List<Event> expectedEvents = List.of(event1, event2);
+            List<EventResponseDTO> expectedEvents = List.of(
+                    TestUtils.createEventResponseDTO(event1), TestUtils.createEventResponseDTO(event2));
 
             when(eventRepository.findTopConfirmedByUserIdOrderByEndTimeDescStartTimeDescIdDesc(
                     eq(userId),
@@ -233,7 +249,7 @@ public class EventBOImplTest {
             )).thenReturn(expectedEvents);
 
             // Act
-            List<Event> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
+            List<EventResponseDTO> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
 
             // Assert
             assertEquals(expectedEvents, results);
@@ -254,7 +270,7 @@ public class EventBOImplTest {
             int limit = 3;
 
             Event event1 = TestUtils.createValidScheduledEventWithId(5L, TestUtils.createValidUserEntityWithId(userId), fixedClock);
-            List<Event> expectedEvents = List.of(event1);
+            List<EventResponseDTO> expectedEvents = List.of(TestUtils.createEventResponseDTO(event1));
 
             when(eventRepository.findConfirmedByUserIdBeforeCursor(
                     eq(userId),
@@ -265,7 +281,7 @@ public class EventBOImplTest {
             )).thenReturn(expectedEvents);
 
             // Act
-            List<Event> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
+            List<EventResponseDTO> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
 
             // Assert
             assertEquals(expectedEvents, results);
@@ -297,7 +313,7 @@ public class EventBOImplTest {
             )).thenReturn(List.of());
 
             // Act
-            List<Event> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
+            List<EventResponseDTO> results = eventBO.getConfirmedEventsPage(userId, endTimeCursor, startTimeCursor, idCursor, limit);
 
             // Assert
             assertTrue(results.isEmpty());
@@ -453,6 +469,433 @@ public class EventBOImplTest {
                     fixedNow.toLocalDate()
             );
         }
+
+        @Test
+        void shouldCheckAllOccurrencesInOneBulkCallAndDraftConflicts() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZonedDateTime fixedNow = ZonedDateTime.now(fixedClock);
+            ZonedDateTime fromTime = fixedNow.minusDays(3);
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            LocalDate firstDate = fromTime.toLocalDate();
+            LocalDate secondDate = fromTime.toLocalDate().plusDays(1);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(),
+                    fromTime.toLocalDate(),
+                    fixedNow.toLocalDate()
+            )).thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(
+                    recurrence.getRecurrenceRule().getParsed(),
+                    fromTime.toLocalDate(),
+                    fixedNow.toLocalDate(),
+                    recurrence.getSkipDays()
+            )).thenReturn(List.of(firstDate, secondDate));
+            when(conflictValidator.findConflicts(eq(user), anyList()))
+                    .thenReturn(List.of(Set.of(), Set.of(99L)));
+
+            // Act
+            eventBO.solidifyRecurrences(user.getId(), fromTime, fixedNow, userZoneId);
+
+            // Assert
+            ArgumentCaptor<Event> savedCaptor = ArgumentCaptor.forClass(Event.class);
+            verify(eventRepository, org.mockito.Mockito.times(2)).save(savedCaptor.capture());
+            assertFalse(savedCaptor.getAllValues().get(0).isUnconfirmed());
+            assertTrue(savedCaptor.getAllValues().get(1).isUnconfirmed());
+            verify(conflictValidator).findConflicts(eq(user), argThat(candidates -> candidates.size() == 2
+                    && candidates.stream().allMatch(c -> recurrence.getId().equals(c.recurringEventId()))));
+            verify(conflictValidator, never()).validateNoConflicts(any(Event.class));
+        }
+    }
+
+    @Nested
+    class UpdateFutureEventsFromRecurringEventTests {
+
+        @Test
+        void shouldCheckMovedEventsInOneBulkCallAndSave() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            Event first = TestUtils.createValidScheduledEventWithId(1L, user, fixedClock);
+            Event second = TestUtils.createValidScheduledEventWithId(2L, user, fixedClock);
+
+            when(clockProvider.getClockForZone(userZoneId)).thenReturn(fixedClock);
+            when(eventRepository.findFutureEventsByRecurringEventId(eq(recurrence.getId()), any()))
+                    .thenReturn(List.of(first, second));
+            when(eventPatchHandler.applyPatch(any(), any())).thenReturn(true);
+
+            // Act
+            int updated = eventBO.updateFutureEventsFromRecurringEvent(recurrence, Set.of("startTime"), userZoneId);
+
+            // Assert
+            assertEquals(2, updated);
+            verify(conflictValidator).findConflicts(eq(user), argThat(candidates -> candidates.size() == 2));
+            verify(eventRepository).save(first);
+            verify(eventRepository).save(second);
+        }
+
+        @Test
+        void shouldThrowConflictExceptionAndSaveNothingWhenMovedEventConflicts() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            Event first = TestUtils.createValidScheduledEventWithId(1L, user, fixedClock);
+            Event second = TestUtils.createValidScheduledEventWithId(2L, user, fixedClock);
+
+            when(clockProvider.getClockForZone(userZoneId)).thenReturn(fixedClock);
+            when(eventRepository.findFutureEventsByRecurringEventId(eq(recurrence.getId()), any()))
+                    .thenReturn(List.of(first, second));
+            when(eventPatchHandler.applyPatch(any(), any())).thenReturn(true);
+            when(conflictValidator.findConflicts(eq(user), anyList()))
+                    .thenReturn(List.of(Set.of(), Set.of(99L)));
+
+            // Act + Assert
+            assertThrows(ConflictException.class,
+                    () -> eventBO.updateFutureEventsFromRecurringEvent(recurrence, Set.of("endTime"), userZoneId));
+            verify(eventRepository, never()).save(any(Event.class));
+        }
+
+        @Test
+        void shouldSkipConflictCheckWhenTimesUnchanged() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            Event event = TestUtils.createValidScheduledEventWithId(1L, user, fixedClock);
+
+            when(clockProvider.getClockForZone(userZoneId)).thenReturn(fixedClock);
+            when(eventRepository.findFutureEventsByRecurringEventId(eq(recurrence.getId()), any()))
+                    .thenReturn(List.of(event));
+            when(eventPatchHandler.applyPatch(any(), any())).thenReturn(true);
+
+            // Act
+            int updated = eventBO.updateFutureEventsFromRecurringEvent(recurrence, Set.of("name"), userZoneId);
+
+            // Assert
+            assertEquals(1, updated);
+            verify(conflictValidator, never()).findConflicts(any(), anyList());
+            verify(eventRepository).save(event);
+        }
+    }
+
+    @Nested
+    class SolidifyRecurrencesBatchedTests {
+
+        @Test
+        void shouldInsertAllOccurrencesWithSingleSaveAllAndReportCounts() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowEnd = ZonedDateTime.now(fixedClock);
+            ZonedDateTime windowStart = windowEnd.minusDays(3);
+
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            recurrence.setStartTime(LocalTime.of(9, 0));
+            recurrence.setEndTime(LocalTime.of(10, 0));
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(), windowStart.toLocalDate(), windowEnd.toLocalDate()
+            )).thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(
+                    LocalDate.of(2025, 6, 26),
+                    LocalDate.of(2025, 6, 27),
+                    LocalDate.of(2025, 6, 28)
+            ));
+            ZonedDateTime firstDayStart = windowStart.toLocalDate().atStartOfDay(userZoneId);
+            ZonedDateTime loadFrom = firstDayStart.isBefore(windowStart) ? firstDayStart : windowStart;
+            when(eventRepository.findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+                    eq(user.getId()), eq(Set.of(1L)), eq(loadFrom), eq(windowEnd)
+            )).thenReturn(List.of());
+
+            // Act
+            SolidificationReportDTO report = eventBO.solidifyRecurrencesBatched(
+                    user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+            verify(eventRepository).saveAll(captor.capture());
+            List<Event> saved = captor.getValue();
+            assertEquals(3, saved.size());
+            assertTrue(saved.stream().noneMatch(Event::isUnconfirmed));
+            assertTrue(saved.stream().allMatch(e -> e.getRecurringEvent() == recurrence));
+
+            assertEquals(1, report.recurrencesProcessed());
+            assertEquals(3, report.occurrencesExpanded());
+            assertEquals(3, report.confirmedEventsCreated());
+            assertEquals(0, report.draftEventsCreated());
+            assertEquals(3, report.rowsCreated());
+
+            verify(eventRepository, never()).save(any(Event.class));
+            verifyNoInteractions(conflictValidator);
+        }
+
+        @Test
+        void shouldSkipSolidifiedOccurrencesAndDraftConflicts() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowEnd = ZonedDateTime.now(fixedClock);
+            ZonedDateTime windowStart = windowEnd.minusDays(3);
+
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            recurrence.setStartTime(LocalTime.of(9, 0));
+            recurrence.setEndTime(LocalTime.of(10, 0));
+
+            // Already solidified on the 26th
+            Event solidified = Event.createEvent("Solidified",
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 26), LocalTime.of(9, 0), userZoneId),
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 26), LocalTime.of(10, 0), userZoneId),
+                    user);
+            solidified.setRecurringEvent(recurrence);
+
+            // Unrelated confirmed event overlapping the 27th occurrence
+            Event blocker = Event.createEvent("Blocker",
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 27), LocalTime.of(9, 30), userZoneId),
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 27), LocalTime.of(11, 0), userZoneId),
+                    user);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(), windowStart.toLocalDate(), windowEnd.toLocalDate()
+            )).thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(
+                    LocalDate.of(2025, 6, 26),
+                    LocalDate.of(2025, 6, 27),
+                    LocalDate.of(2025, 6, 28),
+                    LocalDate.of(2025, 6, 29)
+            ));
+            when(eventRepository.findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+                    any(), any(), any(), any()
+            )).thenReturn(List.of(solidified, blocker));
+
+            // Act
+            SolidificationReportDTO report = eventBO.solidifyRecurrencesBatched(
+                    user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+            verify(eventRepository).saveAll(captor.capture());
+            List<Event> saved = captor.getValue();
+            assertEquals(2, saved.size());
+            assertTrue(saved.get(0).isUnconfirmed(), "27th conflicts with blocker and must be a draft");
+            assertFalse(saved.get(1).isUnconfirmed(), "28th has no conflict and must be confirmed");
+
+            assertEquals(1, report.confirmedEventsCreated());
+            assertEquals(1, report.draftEventsCreated());
+            assertEquals(2, report.occurrencesSkipped(), "26th already solidified, 29th not yet finished");
+        }
+
+        @Test
+        void shouldDraftOccurrenceTouchingExistingEventBoundary() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowEnd = ZonedDateTime.now(fixedClock);
+            ZonedDateTime windowStart = windowEnd.minusDays(3);
+
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            recurrence.setStartTime(LocalTime.of(9, 0));
+            recurrence.setEndTime(LocalTime.of(10, 0));
+
+            // Ends exactly when the 27th occurrence starts
+            Event backToBack = Event.createEvent("Back to back",
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 27), LocalTime.of(8, 0), userZoneId),
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 27), LocalTime.of(9, 0), userZoneId),
+                    user);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(), windowStart.toLocalDate(), windowEnd.toLocalDate()
+            )).thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(
+                    LocalDate.of(2025, 6, 27),
+                    LocalDate.of(2025, 6, 28)
+            ));
+            when(eventRepository.findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+                    any(), any(), any(), any()
+            )).thenReturn(List.of(backToBack));
+
+            // Act
+            SolidificationReportDTO report = eventBO.solidifyRecurrencesBatched(
+                    user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+            verify(eventRepository).saveAll(captor.capture());
+            List<Event> saved = captor.getValue();
+            assertEquals(2, saved.size());
+            assertTrue(saved.get(0).isUnconfirmed(), "touching boundaries conflict, as in ConflictValidator");
+            assertFalse(saved.get(1).isUnconfirmed());
+            assertEquals(1, report.draftEventsCreated());
+        }
+
+        @Test
+        void shouldDraftOccurrenceOverlappingEventThatEndsBeforeWindowStart() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowStart = ZonedDateTime.of(LocalDate.of(2025, 6, 26), LocalTime.of(12, 0), userZoneId);
+            ZonedDateTime windowEnd = windowStart.plusDays(3);
+
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(user, 1L, fixedClock);
+            recurrence.setStartTime(LocalTime.of(9, 0));
+            recurrence.setEndTime(LocalTime.of(10, 0));
+
+            // Overlaps the 26th occurrence, which is expanded from the window's first day, but
+            // ends before the window itself starts
+            Event earlier = Event.createEvent("Earlier",
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 26), LocalTime.of(8, 30), userZoneId),
+                    ZonedDateTime.of(LocalDate.of(2025, 6, 26), LocalTime.of(9, 30), userZoneId),
+                    user);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(), windowStart.toLocalDate(), windowEnd.toLocalDate()
+            )).thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(
+                    LocalDate.of(2025, 6, 26),
+                    LocalDate.of(2025, 6, 27)
+            ));
+            when(eventRepository.findConfirmedAndRecurringDraftsByUserAndRecurrenceIdsBetween(
+                    eq(user.getId()), eq(Set.of(1L)),
+                    eq(LocalDate.of(2025, 6, 26).atStartOfDay(userZoneId)), eq(windowEnd)
+            )).thenReturn(List.of(earlier));
+
+            // Act
+            SolidificationReportDTO report = eventBO.solidifyRecurrencesBatched(
+                    user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+            verify(eventRepository).saveAll(captor.capture());
+            List<Event> saved = captor.getValue();
+            assertEquals(2, saved.size());
+            assertTrue(saved.get(0).isUnconfirmed(), "26th overlaps the earlier event and must be a draft");
+            assertFalse(saved.get(1).isUnconfirmed());
+            assertEquals(1, report.draftEventsCreated());
+        }
+
+        @Test
+        void shouldReturnEmptyReportWhenNoRecurringEventsFound() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            ZoneId userZoneId = ZoneId.of(user.getTimezone());
+            ZonedDateTime windowEnd = ZonedDateTime.now(fixedClock);
+            ZonedDateTime windowStart = windowEnd.minusDays(3);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    user.getId(), windowStart.toLocalDate(), windowEnd.toLocalDate()
+            )).thenReturn(List.of());
+
+            // Act
+            SolidificationReportDTO report = eventBO.solidifyRecurrencesBatched(
+                    user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            assertEquals(0, report.rowsCreated());
+            verifyNoInteractions(eventRepository);
+        }
+    }
+
+    @Nested
+    class ImportEventsTests {
+
+        private Event importedEvent(User creator, String name, ZonedDateTime start, int minutes) {
+            Event event = Event.createEvent(name, start, start.plusMinutes(minutes), creator);
+            event.setLabel(TestUtils.createValidLabelWithId(VALID_LABEL_ID, creator));
+            return event;
+        }
+
+        @Test
+        void shouldCheckConflictsOnceAndInsertWithSingleSaveAll() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            ZonedDateTime start = ZonedDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneId.of("America/New_York"));
+            List<Event> events = List.of(
+                    importedEvent(creator, "First", start, 60),
+                    importedEvent(creator, "Second", start.plusDays(1), 60));
+            when(eventRepository.saveAll(events)).thenReturn(events);
+
+            // Act
+            List<Event> saved = eventBO.importEvents(creator, events);
+
+            // Assert
+            assertEquals(events, saved);
+            assertTrue(saved.stream().noneMatch(Event::isUnconfirmed));
+            verify(conflictValidator).findConflicts(eq(creator), argThat(candidates -> candidates.size() == 2));
+            verify(eventRepository, never()).save(any(Event.class));
+            verify(monthSummaryCache).invalidate(
+                    creator.getId(), events.get(0).getStartTime(), events.get(1).getEndTime());
+        }
+
+        @Test
+        void shouldCreateDraftsForExistingAndInBatchConflicts() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            ZonedDateTime start = ZonedDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneId.of("America/New_York"));
+            Event conflictsWithExisting = importedEvent(creator, "Existing conflict", start, 60);
+            Event kept = importedEvent(creator, "Kept", start.plusDays(1), 60);
+            Event overlapsKept = importedEvent(creator, "Overlaps kept", start.plusDays(1).plusMinutes(30), 60);
+            // Starts when the draft above ends; drafts occupy no time, so this one is kept
+            Event touchesDraft = importedEvent(creator, "Touches draft", start.plusDays(1).plusMinutes(90), 30);
+            List<Event> events = List.of(conflictsWithExisting, kept, overlapsKept, touchesDraft);
+
+            when(conflictValidator.findConflicts(eq(creator), anyList()))
+                    .thenReturn(List.of(Set.of(99L), Set.of(), Set.of(), Set.of()));
+            when(eventRepository.saveAll(events)).thenReturn(events);
+
+            // Act
+            eventBO.importEvents(creator, events);
+
+            // Assert
+            assertTrue(conflictsWithExisting.isUnconfirmed());
+            assertFalse(kept.isUnconfirmed());
+            assertTrue(overlapsKept.isUnconfirmed());
+            assertFalse(touchesDraft.isUnconfirmed());
+        }
+
+        @Test
+        void shouldCreateDraftForEventStartingWhenImportedEventEnds() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            ZonedDateTime start = ZonedDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneId.of("America/New_York"));
+            Event first = importedEvent(creator, "First", start, 60);
+            Event backToBack = importedEvent(creator, "Back to back", start.plusMinutes(60), 30);
+            List<Event> events = List.of(first, backToBack);
+
+            when(conflictValidator.findConflicts(eq(creator), anyList()))
+                    .thenReturn(List.of(Set.of(), Set.of()));
+            when(eventRepository.saveAll(events)).thenReturn(events);
+
+            // Act
+            eventBO.importEvents(creator, events);
+
+            // Assert - boundaries are inclusive, as for events validated one at a time
+            assertFalse(first.isUnconfirmed());
+            assertTrue(backToBack.isUnconfirmed());
+        }
+
+        @Test
+        void shouldRejectEventEndingBeforeItStarts() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            ZonedDateTime start = ZonedDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneId.of("America/New_York"));
+            List<Event> events = List.of(importedEvent(creator, "Backwards", start, -30));
+
+            // Act + Assert
+            assertThrows(InvalidTimeException.class, () -> eventBO.importEvents(creator, events));
+            verify(eventRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        void emptyBatch_doesNothing() {
+            // Act
+            List<Event> saved = eventBO.importEvents(TestUtils.createValidUserEntityWithId(), List.of());
+
+            // Assert
+            assertTrue(saved.isEmpty());
+            verifyNoInteractions(eventRepository, monthSummaryCache);
+        }
     }
 
     @Nested
@@ -845,6 +1288,104 @@ public class EventBOImplTest {
 
     }
 
+    @Nested
+    class MonthSummaryInvalidationTests {
+
+        @Test
+        void createConfirmedEvent_invalidatesItsMonths() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, creator, fixedClock);
+            when(eventRepository.save(event)).thenReturn(event);
+
+            // Act
+            eventBO.createEvent(event);
+
+            // Assert
+            verify(monthSummaryCache).invalidate(creator.getId(), event.getStartTime(), event.getEndTime());
+        }
+
+        @Test
+        void createDraftEvent_leavesCacheUntouched() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            Event draft = TestUtils.createPartialDraftEvent(creator, fixedClock);
+            when(eventRepository.save(draft)).thenReturn(draft);
+
+            // Act
+            eventBO.createEvent(draft);
+
+            // Assert
+            verifyNoInteractions(monthSummaryCache);
+        }
+
+        @Test
+        void updateMovedEvent_invalidatesOldAndNewMonths() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, creator, fixedClock);
+            ZonedDateTime oldStart = event.getStartTime().minusMonths(2);
+
+            EventChangeContextDTO contextDTO = new EventChangeContextDTO(
+                    creator.getId(),
+                    VALID_LABEL_ID,
+                    null,
+                    oldStart,
+                    null,
+                    VALID_EVENT_DURATION_MINUTES,
+                    null,
+                    ZoneId.of(VALID_TIMEZONE),
+                    false,
+                    false
+            );
+            when(eventRepository.save(event)).thenReturn(event);
+
+            // Act
+            eventBO.updateEvent(contextDTO, event);
+
+            // Assert
+            verify(monthSummaryCache).invalidate(creator.getId(), event.getStartTime(), event.getEndTime());
+            verify(monthSummaryCache).invalidate(creator.getId(), oldStart, oldStart.plusMinutes(VALID_EVENT_DURATION_MINUTES));
+        }
+
+        @Test
+        void deleteEvent_invalidatesMonthsOfDeletedEvent() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, creator, fixedClock);
+            when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+
+            // Act
+            eventBO.deleteEvent(EVENT_ID);
+
+            // Assert
+            verify(monthSummaryCache).invalidate(creator.getId(), event.getStartTime(), event.getEndTime());
+            verify(eventRepository).deleteById(EVENT_ID);
+        }
+
+        @Test
+        void solidifyRecurrencesBatched_invalidatesWindowWhenEventsAreCreated() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            RecurringEvent recurrence = TestUtils.createValidRecurringEventWithId(creator, 10L, fixedClock);
+            recurrence.setStartTime(LocalTime.of(9, 0));
+            recurrence.setEndTime(LocalTime.of(10, 0));
+            ZonedDateTime windowStart = ZonedDateTime.now(fixedClock).minusDays(3);
+            ZonedDateTime windowEnd = ZonedDateTime.now(fixedClock);
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(eq(creator.getId()), any(), any()))
+                    .thenReturn(List.of(recurrence));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any()))
+                    .thenReturn(List.of(windowStart.toLocalDate().plusDays(1)));
+
+            // Act
+            eventBO.solidifyRecurrencesBatched(creator.getId(), windowStart, windowEnd, ZoneId.of("UTC"));
+
+            // Assert
+            verify(monthSummaryCache).invalidate(creator.getId(), windowStart, windowEnd);
+        }
+    }
+
     @Nested
     class DeleteAllUnconfirmedEventsByUserTests {
 
@@ -9,6 +9,7 @@ import com.yohan.event_planner.exception.InvalidEventStateException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.exception.RecurringEventAlreadyConfirmedException;
 import com.yohan.event_planner.repository.RecurringEventRepository;
+import com.yohan.event_planner.service.MonthSummaryCache;
 import com.yohan.event_planner.service.RecurrenceRuleService;
 import com.yohan.event_planner.time.ClockProvider;
 import com.yohan.event_planner.util.TestConstants;
@@ -67,6 +68,8 @@ public class RecurringEventBOImplTest {
     private EventResponseDTOFactory eventResponseDTOFactory;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private MonthSummaryCache monthSummaryCache;
     
     private Clock fixedClock;
     private User user;
@@ -378,6 +381,7 @@ public class RecurringEventBOImplTest {
 
             verify(recurringEventRepository).save(draft);
             verifyNoInteractions(conflictValidator);
+            verifyNoInteractions(monthSummaryCache);
         }
 
         @Test
@@ -397,6 +401,7 @@ public class RecurringEventBOImplTest {
 
             verify(recurringEventRepository).save(confirmed);
             verify(conflictValidator).validateNoConflicts(confirmed);
+            verify(monthSummaryCache).invalidate(user.getId(), confirmed.getStartDate(), confirmed.getEndDate());
         }
 
         @Test
@@ -480,6 +485,7 @@ public class RecurringEventBOImplTest {
             assertEquals(confirmed, result);
             verify(conflictValidator).validateNoConflicts(confirmed);
             verify(recurringEventRepository).save(confirmed);
+            verify(monthSummaryCache).invalidateUser(user.getId());
         }
 
         @Test
@@ -623,6 +629,21 @@ public class RecurringEventBOImplTest {
             // Assert
             verify(recurringEventRepository).deleteById(123L);
         }
+
+        @Test
+        void testDeleteInvalidatesMonthsOfConfirmedRecurringEvent() {
+            // Arrange
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(user, 123L, fixedClock);
+            recurringEvent.setUnconfirmed(false);
+            when(recurringEventRepository.findById(123L)).thenReturn(Optional.of(recurringEvent));
+
+            // Act
+            recurringEventBO.deleteRecurringEvent(123L);
+
+            // Assert
+            verify(monthSummaryCache).invalidate(user.getId(), recurringEvent.getStartDate(), recurringEvent.getEndDate());
+            verify(recurringEventRepository).deleteById(123L);
+        }
     }
 
     @Nested
@@ -751,7 +772,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act
@@ -790,7 +812,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act
@@ -839,7 +862,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act
@@ -890,7 +914,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act
@@ -943,7 +968,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act
@@ -998,7 +1024,8 @@ public class RecurringEventBOImplTest {
                     recurrenceRuleService,
                     eventResponseDTOFactory,
                     clockProvider,
-                    conflictValidator
+                    conflictValidator,
+                    monthSummaryCache
             );
 
             // Act - Measure performance of generating many virtual events
@@ -1019,6 +1046,65 @@ public class RecurringEventBOImplTest {
 
     }
 
+    @Nested
+    class HasOccurrencesEndingBetweenTests {
+
+        @Test
+        void returnsTrueWhenOccurrenceEndsInsideWindow() {
+            // Arrange
+            ZoneId userZoneId = ZoneId.of(TestConstants.VALID_TIMEZONE);
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(user, VALID_RECURRING_EVENT_ID, fixedClock);
+            LocalDate date = LocalDate.of(2025, 6, 29);
+            ZonedDateTime occurrenceEnd = ZonedDateTime.of(date, recurringEvent.getEndTime(), userZoneId);
+            ZonedDateTime windowStart = occurrenceEnd.minusHours(1);
+            ZonedDateTime windowEnd = occurrenceEnd.plusHours(1);
+
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(eq(user.getId()), any(), any()))
+                    .thenReturn(List.of(recurringEvent));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(date));
+
+            // Act
+            boolean result = recurringEventBO.hasOccurrencesEndingBetween(user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            assertTrue(result);
+        }
+
+        @Test
+        void returnsFalseWhenOccurrenceEndsAfterWindow() {
+            // Arrange
+            ZoneId userZoneId = ZoneId.of(TestConstants.VALID_TIMEZONE);
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(user, VALID_RECURRING_EVENT_ID, fixedClock);
+            LocalDate date = LocalDate.of(2025, 6, 29);
+            ZonedDateTime occurrenceEnd = ZonedDateTime.of(date, recurringEvent.getEndTime(), userZoneId);
+            ZonedDateTime windowStart = occurrenceEnd.minusHours(2);
+            ZonedDateTime windowEnd = occurrenceEnd.minusHours(1);
+
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(eq(user.getId()), any(), any()))
+                    .thenReturn(List.of(recurringEvent));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any())).thenReturn(List.of(date));
+
+            // Act
+            boolean result = recurringEventBO.hasOccurrencesEndingBetween(user.getId(), windowStart, windowEnd, userZoneId);
+
+            // Assert
+            assertFalse(result);
+        }
+
+        @Test
+        void returnsFalseForEmptyWindowWithoutQuerying() {
+            // Arrange
+            ZonedDateTime instant = ZonedDateTime.now(fixedClock);
+
+            // Act
+            boolean result = recurringEventBO.hasOccurrencesEndingBetween(user.getId(), instant, instant, ZoneId.of("UTC"));
+
+            // Assert
+            assertFalse(result);
+            verifyNoInteractions(recurringEventRepository);
+        }
+    }
+
     @Nested
     class BoundaryValueTests {
 
@@ -33,6 +33,7 @@ public class UserBOImplTest {
 
     private UserRepository userRepository;
     private ClockProvider clockProvider;
+    private UserCache userCache;
     private Clock fixedClock;
 
     private UserBOImpl userBO;
@@ -41,10 +42,11 @@ public class UserBOImplTest {
     void setUp() {
         this.userRepository = mock(UserRepository.class);
         this.clockProvider = mock(ClockProvider.class);
+        this.userCache = mock(UserCache.class);
 
         fixedClock = Clock.fixed(Instant.parse("2025-06-29T12:00:00Z"), ZoneId.of("UTC"));
 
-        userBO = new UserBOImpl(userRepository, clockProvider);
+        userBO = new UserBOImpl(userRepository, clockProvider, userCache);
     }
 
     @Nested
@@ -271,6 +273,19 @@ public class UserBOImplTest {
             assertEquals(updatedUser.getEmail(), result.getEmail());
             verify(userRepository).save(updatedUser);
         }
+
+        @Test
+        void testUpdateUser_validUser_invalidatesCachedUser() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            when(userRepository.save(user)).thenReturn(user);
+
+            // Act
+            userBO.updateUser(user);
+
+            // Assert
+            verify(userCache).invalidate(user.getId());
+        }
     }
 
     @Nested
@@ -291,6 +306,7 @@ public class UserBOImplTest {
             assertTrue(user.isPendingDeletion());
             assertEquals(fixedNow.plusDays(30), user.getScheduledDeletionDate().orElseThrow());
             verify(userRepository).save(user);
+            verify(userCache).invalidate(user.getId());
         }
     }
 
@@ -0,0 +1,132 @@
+package com.yohan.event_planner.business;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    private static final String ROLES_COLLECTION = User.class.getName() + ".roles";
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private Cache cache;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private javax.cache.Cache<Object, Object> usersRegion;
+    @Mock
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeUsersRegion;
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+        userCache = new UserCache(entityManagerFactory, cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    class InvalidateTests {
+
+        @Test
+        void invalidate_outsideTransaction_evictsUserAndRoles() {
+            // Act
+            userCache.invalidate(1L);
+
+            // Assert
+            verify(cache).evictEntityData(User.class, 1L);
+            verify(cache).evictCollectionData(ROLES_COLLECTION, 1L);
+        }
+
+        @Test
+        void invalidate_nullUserId_doesNothing() {
+            // Act
+            userCache.invalidate(null);
+
+            // Assert
+            verifyNoInteractions(entityManagerFactory);
+        }
+
+        @Test
+        void invalidate_insideTransaction_evictsAgainAfterCompletion() {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            userCache.invalidate(1L);
+            userCache.invalidate(1L);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // Act
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Assert
+            assertEquals(1, synchronizations.size());
+            verify(cache, times(3)).evictEntityData(User.class, 1L);
+        }
+    }
+
+    @Nested
+    class StatsTests {
+
+        @Test
+        void getStats_reportsCaffeineCountersPerRegion() {
+            // Arrange
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(10));
+            when(cacheManager.getCache("users")).thenReturn(usersRegion);
+            when(usersRegion.unwrap(com.github.benmanes.caffeine.cache.Cache.class)).thenReturn(nativeUsersRegion);
+            when(usersRegion.getConfiguration(CaffeineConfiguration.class)).thenReturn(configuration);
+            when(nativeUsersRegion.stats()).thenReturn(CacheStats.of(3, 1, 0, 0, 0, 2, 2));
+            when(nativeUsersRegion.estimatedSize()).thenReturn(1L);
+
+            // Act
+            List<CacheRegionStatsDTO> stats = userCache.getStats();
+
+            // Assert
+            assertEquals(List.of(new CacheRegionStatsDTO("users", 3, 1, 2, 1, 10)), stats);
+            assertEquals(0.75, stats.get(0).hitRate());
+        }
+
+        @Test
+        void getStats_cacheDisabled_returnsEmpty() {
+            // Act & Assert
+            assertEquals(List.of(), userCache.getStats());
+        }
+    }
+}
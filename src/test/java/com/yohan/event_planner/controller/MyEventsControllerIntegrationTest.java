@@ -8,6 +8,9 @@ import com.yohan.event_planner.repository.EventRepository;
 import com.yohan.event_planner.repository.RecurringEventRepository;
 import com.yohan.event_planner.util.TestConfig;
 import com.yohan.event_planner.util.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,16 +18,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +48,7 @@ class MyEventsControllerIntegrationTest {
     @Autowired private TestDataHelper testDataHelper;
     @Autowired private EventRepository eventRepository;
     @Autowired private RecurringEventRepository recurringEventRepository;
+    @Autowired private EntityManager entityManager;
 
     private String jwt;
     private User user;
@@ -466,6 +475,138 @@ class MyEventsControllerIntegrationTest {
         }
     }
 
+    @Nested
+    class ExportMyCalendarTests {
+
+        @Test
+        void testExportMyCalendar_DefaultsToIcsWithConfirmedEventsOnly() throws Exception {
+            // Arrange
+            Event confirmedEvent = testDataHelper.createAndPersistScheduledEvent(user, "Confirmed Event");
+            RecurringEvent recurringEvent = testDataHelper.createAndPersistRecurringEvent(user, "Recurring Event");
+            Event draftEvent = testDataHelper.createAndPersistScheduledEvent(user, "Draft Event");
+            draftEvent.setUnconfirmed(true);
+            testDataHelper.saveAndFlush(draftEvent);
+
+            // Act + Assert
+            String ics = mockMvc.perform(get("/myevents/export")
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"calendar.ics\""))
+                    .andReturn().getResponse().getContentAsString();
+
+            assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+            assertThat(ics).contains("UID:event-" + confirmedEvent.getId() + "@event-planner");
+            assertThat(ics).contains("UID:recurring-event-" + recurringEvent.getId() + "@event-planner");
+            assertThat(ics).doesNotContain("UID:event-" + draftEvent.getId() + "@");
+        }
+
+        @Test
+        void testExportMyCalendar_Csv() throws Exception {
+            // Arrange
+            Event confirmedEvent = testDataHelper.createAndPersistScheduledEvent(user, "Confirmed Event");
+
+            // Act + Assert
+            String csv = mockMvc.perform(get("/myevents/export")
+                            .header("Authorization", "Bearer " + jwt)
+                            .param("format", "CSV"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = csv.split("\r\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("type,id,name");
+            assertThat(lines[1]).startsWith("EVENT," + confirmedEvent.getId() + ",Confirmed Event,");
+        }
+
+        @Test
+        void testExportMyCalendar_UnknownFormat_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(get("/myevents/export")
+                            .header("Authorization", "Bearer " + jwt)
+                            .param("format", "PDF"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void testUnauthorizedExportMyCalendar_ShouldReturnUnauthorized() throws Exception {
+            mockMvc.perform(get("/myevents/export"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    class ImportMyCalendarTests {
+
+        private MockMultipartFile file(String name, String content) {
+            return new MockMultipartFile("file", name, "application/octet-stream", content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void testImportMyCalendar_DefaultsToIcsAndCreatesEvents() throws Exception {
+            // Arrange
+            String ics = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"
+                    + "BEGIN:VEVENT\r\nDTSTART:20300610T130000Z\r\nDTEND:20300610T140000Z\r\n"
+                    + "SUMMARY:Imported Event\r\nCATEGORIES:Imported\r\nEND:VEVENT\r\n"
+                    + "BEGIN:VEVENT\r\nDTSTART:20300611T130000Z\r\nDTEND:20300611T140000Z\r\n"
+                    + "RRULE:FREQ=YEARLY\r\nSUMMARY:Birthday\r\nEND:VEVENT\r\n"
+                    + "END:VCALENDAR\r\n";
+
+            // Act + Assert
+            String response = mockMvc.perform(multipart("/myevents/import")
+                            .file(file("calendar.ics", ics))
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.format").value("ICS"))
+                    .andExpect(jsonPath("$.eventsCreated").value(1))
+                    .andExpect(jsonPath("$.rowsSkipped").value(1))
+                    .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$.rows[1].status").value("SKIPPED"))
+                    .andReturn().getResponse().getContentAsString();
+
+            Long eventId = objectMapper.readTree(response).get("rows").get(0).get("id").asLong();
+            Event imported = eventRepository.findById(eventId).orElseThrow();
+            assertThat(imported.getName()).isEqualTo("Imported Event");
+            assertThat(imported.isUnconfirmed()).isFalse();
+            assertThat(imported.getLabel().getName()).isEqualTo("Imported");
+        }
+
+        @Test
+        void testImportMyCalendar_ReimportedExportConflictsAndBecomesDrafts() throws Exception {
+            // Arrange
+            testDataHelper.createAndPersistScheduledEvent(user, "Confirmed Event");
+            String csv = mockMvc.perform(get("/myevents/export")
+                            .header("Authorization", "Bearer " + jwt)
+                            .param("format", "CSV"))
+                    .andReturn().getResponse().getContentAsString();
+
+            // Act + Assert
+            mockMvc.perform(multipart("/myevents/import")
+                            .file(file("calendar.csv", csv))
+                            .param("format", "CSV")
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rowsRead").value(1))
+                    .andExpect(jsonPath("$.draftsCreated").value(1))
+                    .andExpect(jsonPath("$.rows[0].status").value("CREATED_AS_DRAFT"));
+        }
+
+        @Test
+        void testImportMyCalendar_FileNotInFormat_ShouldReturnBadRequest() throws Exception {
+            mockMvc.perform(multipart("/myevents/import")
+                            .file(file("calendar.ics", "not a calendar"))
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void testUnauthorizedImportMyCalendar_ShouldReturnUnauthorized() throws Exception {
+            mockMvc.perform(multipart("/myevents/import")
+                            .file(file("calendar.ics", "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n")))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     class ContentTypeAndHeaderTests {
 
@@ -544,4 +685,42 @@ class MyEventsControllerIntegrationTest {
                     .andExpect(jsonPath("$.recurringEvents").isArray());
         }
     }
+
+    @Nested
+    class QueryCountTests {
+
+        @Test
+        void testGetMyEvents_StatementCountDoesNotGrowWithResultSize() throws Exception {
+            // Arrange
+            testDataHelper.createAndPersistScheduledEvent(user, "Event 0");
+            long statementsForOneEvent = countStatementsForMyEvents();
+
+            for (int i = 1; i < 20; i++) {
+                testDataHelper.createAndPersistScheduledEvent(user, "Event " + i);
+            }
+
+            // Act
+            long statementsForTwentyEvents = countStatementsForMyEvents();
+
+            // Assert
+            assertThat(statementsForTwentyEvents).isEqualTo(statementsForOneEvent);
+        }
+
+        private long countStatementsForMyEvents() throws Exception {
+            entityManager.flush();
+            entityManager.clear();
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            mockMvc.perform(get("/myevents")
+                            .header("Authorization", "Bearer " + jwt)
+                            .param("limit", "50"))
+                    .andExpect(status().isOk());
+
+            return statistics.getPrepareStatementCount();
+        }
+    }
 }
@@ -258,14 +258,14 @@ class UserProfileGraphQLControllerTest {
         void shouldUnpinImpromptuEventSuccessfully() {
             // Arrange
             User currentUser = TestUtils.createValidUserEntityWithId();
-            when(authenticatedUserProvider.getCurrentUser()).thenReturn(currentUser);
+            when(authenticatedUserProvider.getCurrentUserId()).thenReturn(currentUser.getId());
 
             // Act
             Boolean result = controller.unpinImpromptuEvent();
 
             // Assert
             assertEquals(ApplicationConstants.GRAPHQL_OPERATION_SUCCESS, result);
-            verify(authenticatedUserProvider).getCurrentUser();
+            verify(authenticatedUserProvider).getCurrentUserId();
             verify(eventService).unpinImpromptuEventForCurrentUser();
         }
 
@@ -273,7 +273,7 @@ class UserProfileGraphQLControllerTest {
         void shouldReturnTrueEvenWhenNoEventToUnpin() {
             // Arrange
             User currentUser = TestUtils.createValidUserEntityWithId();
-            when(authenticatedUserProvider.getCurrentUser()).thenReturn(currentUser);
+            when(authenticatedUserProvider.getCurrentUserId()).thenReturn(currentUser.getId());
 
             // Act
             Boolean result = controller.unpinImpromptuEvent();
@@ -287,7 +287,7 @@ class UserProfileGraphQLControllerTest {
         void shouldDelegateToEventService() {
             // Arrange
             User currentUser = TestUtils.createValidUserEntityWithId();
-            when(authenticatedUserProvider.getCurrentUser()).thenReturn(currentUser);
+            when(authenticatedUserProvider.getCurrentUserId()).thenReturn(currentUser.getId());
 
             // Act
             controller.unpinImpromptuEvent();
@@ -0,0 +1,93 @@
+package com.yohan.event_planner.dao;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.RestrictionBuilder;
+import com.blazebit.persistence.WhereOrBuilder;
+import com.yohan.event_planner.dao.FilterCriteria.Operator;
+import com.yohan.event_planner.dao.FilterCriteria.Predicate;
+import com.yohan.event_planner.domain.Event;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FilterCriteriaTest {
+
+    private static final ZonedDateTime REFERENCE = ZonedDateTime.of(2025, 6, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+
+    private static FilterCriteria eventCriteria() {
+        return new FilterCriteria()
+                .where("creator.id", "creator_id", Operator.EQ, 1L)
+                .where("startTime", "starttime", Operator.LE, REFERENCE)
+                .whereAny(
+                        new Predicate("endTime", "endtime", Operator.GT, REFERENCE),
+                        new Predicate("isCompleted", "is_completed", Operator.EQ, true));
+    }
+
+    @Nested
+    class SqlTests {
+
+        @Test
+        void toSql_rendersEveryPredicateWithNamedParameters() {
+            // Arrange
+            Map<String, Object> parameters = new HashMap<>();
+
+            // Act
+            String sql = eventCriteria().toSql("events", parameters);
+
+            // Assert
+            assertThat(sql).isEqualTo("SELECT 1 FROM events WHERE creator_id = :p0 AND starttime <= :p1"
+                    + " AND (endtime > :p2 OR is_completed = :p3)");
+            assertThat(parameters).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    "p0", 1L, "p1", REFERENCE, "p2", REFERENCE, "p3", true));
+        }
+
+        @Test
+        void toSql_withoutPredicates_selectsWholeTable() {
+            // Act
+            String sql = new FilterCriteria().toSql("events", new HashMap<>());
+
+            // Assert
+            assertThat(sql).isEqualTo("SELECT 1 FROM events");
+        }
+    }
+
+    @Nested
+    class CriteriaBuilderTests {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void applyTo_addsTheSamePredicatesToTheQuery() {
+            // Arrange
+            CriteriaBuilder<Event> cb = mock(CriteriaBuilder.class);
+            RestrictionBuilder<CriteriaBuilder<Event>> creator = mock(RestrictionBuilder.class);
+            RestrictionBuilder<CriteriaBuilder<Event>> startTime = mock(RestrictionBuilder.class);
+            WhereOrBuilder<CriteriaBuilder<Event>> or = mock(WhereOrBuilder.class);
+            RestrictionBuilder<WhereOrBuilder<CriteriaBuilder<Event>>> endTime = mock(RestrictionBuilder.class);
+            RestrictionBuilder<WhereOrBuilder<CriteriaBuilder<Event>>> completed = mock(RestrictionBuilder.class);
+            when(cb.where("creator.id")).thenReturn(creator);
+            when(cb.where("startTime")).thenReturn(startTime);
+            when(cb.whereOr()).thenReturn(or);
+            when(or.where("endTime")).thenReturn(endTime);
+            when(or.where("isCompleted")).thenReturn(completed);
+
+            // Act
+            eventCriteria().applyTo(cb);
+
+            // Assert
+            verify(creator).eq(1L);
+            verify(startTime).le(REFERENCE);
+            verify(endTime).gt(REFERENCE);
+            verify(completed).eq(true);
+            verify(or).endOr();
+        }
+    }
+}
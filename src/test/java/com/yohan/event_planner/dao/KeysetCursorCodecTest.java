@@ -0,0 +1,110 @@
+package com.yohan.event_planner.dao;
+
+import com.blazebit.persistence.DefaultKeyset;
+import com.blazebit.persistence.Keyset;
+import com.yohan.event_planner.exception.ErrorCode;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorCodecTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 6, 1, 9, 30, 0, 0, ZoneId.of("America/New_York"));
+
+    @Nested
+    class RoundTripTests {
+
+        @Test
+        void eventKeyset_roundTrips() {
+            // Arrange
+            Keyset keyset = new DefaultKeyset(new Serializable[]{START, 42L});
+
+            // Act
+            String cursor = KeysetCursorCodec.encode(keyset, false);
+            Keyset decoded = KeysetCursorCodec.decode(cursor, false, ZonedDateTime.class, Long.class);
+
+            // Assert
+            assertThat(decoded.getTuple()).containsExactly(START, 42L);
+        }
+
+        @Test
+        void recurringEventKeysetWithNullValue_roundTrips() {
+            // Arrange
+            Keyset keyset = new DefaultKeyset(new Serializable[]{LocalDate.of(2025, 6, 1), null, 7L});
+
+            // Act
+            String cursor = KeysetCursorCodec.encode(keyset, true);
+            Keyset decoded = KeysetCursorCodec.decode(cursor, true, LocalDate.class, LocalDate.class, Long.class);
+
+            // Assert
+            assertThat(decoded.getTuple()).containsExactly(LocalDate.of(2025, 6, 1), null, 7L);
+        }
+
+        @Test
+        void cursor_isUrlSafe() {
+            // Arrange
+            Keyset keyset = new DefaultKeyset(new Serializable[]{START, Long.MAX_VALUE});
+
+            // Act
+            String cursor = KeysetCursorCodec.encode(keyset, false);
+
+            // Assert
+            assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        }
+    }
+
+    @Nested
+    class RejectionTests {
+
+        @Test
+        void otherSortDirection_isRejected() {
+            // Arrange
+            String cursor = KeysetCursorCodec.encode(new DefaultKeyset(new Serializable[]{START, 1L}), false);
+
+            // Act + Assert
+            InvalidCalendarParameterException ex = assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(cursor, true, ZonedDateTime.class, Long.class));
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_PAGINATION_PARAMETER);
+        }
+
+        @Test
+        void unexpectedValueTypes_areRejected() {
+            // Arrange: an event cursor replayed against the recurring event search
+            String cursor = KeysetCursorCodec.encode(new DefaultKeyset(new Serializable[]{START, 1L}), false);
+
+            // Act + Assert
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(cursor, false, LocalDate.class, LocalDate.class, Long.class));
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(cursor, false, LocalDate.class, Long.class));
+        }
+
+        @Test
+        void malformedTokens_areRejected() {
+            // Arrange
+            String notBase64 = "not a cursor!";
+            String badValue = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("1|a|znot-a-date|l1".getBytes(StandardCharsets.UTF_8));
+            String unknownVersion = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("2|a|z2025-06-01T09:30Z|l1".getBytes(StandardCharsets.UTF_8));
+
+            // Act + Assert
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(notBase64, false, ZonedDateTime.class, Long.class));
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(badValue, false, ZonedDateTime.class, Long.class));
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> KeysetCursorCodec.decode(unknownVersion, false, ZonedDateTime.class, Long.class));
+        }
+    }
+}
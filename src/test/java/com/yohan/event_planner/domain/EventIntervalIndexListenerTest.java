@@ -0,0 +1,67 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.util.TestUtils;
+import com.yohan.event_planner.validation.EventIntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+
+import static com.yohan.event_planner.util.TestConstants.EVENT_ID;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventIntervalIndexListenerTest {
+
+    @Mock
+    private ObjectProvider<EventIntervalIndex> indexProvider;
+
+    @Mock
+    private EventIntervalIndex index;
+
+    private EventIntervalIndexListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new EventIntervalIndexListener(indexProvider);
+    }
+
+    @Nested
+    class InvalidateCreatorIndex {
+
+        @Test
+        void eventWrite_invalidatesCreatorIndex() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, user, Clock.systemUTC());
+            when(indexProvider.getIfAvailable()).thenReturn(index);
+
+            // Act
+            listener.invalidateCreatorIndex(event);
+
+            // Assert
+            verify(index).invalidate(user.getId());
+        }
+
+        @Test
+        void indexUnavailable_isNoOp() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId();
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, user, Clock.systemUTC());
+            when(indexProvider.getIfAvailable()).thenReturn(null);
+
+            // Act
+            listener.invalidateCreatorIndex(event);
+
+            // Assert
+            verifyNoInteractions(index);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.service.CompiledRecurrenceRule;
+import com.yohan.event_planner.service.CompiledRecurrenceRuleCache;
+import com.yohan.event_planner.service.RecurrenceRuleServiceImpl;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurrenceRuleLoadListenerTest {
+
+    @Mock
+    private ObjectProvider<CompiledRecurrenceRuleCache> cacheProvider;
+
+    private CompiledRecurrenceRuleCache cache;
+    private RecurrenceRuleLoadListener listener;
+    private RecurringEvent recurringEvent;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CompiledRecurrenceRuleCache(new RecurrenceRuleServiceImpl());
+        listener = new RecurrenceRuleLoadListener(cacheProvider);
+        recurringEvent = TestUtils.createValidRecurringEventWithId(TestUtils.createValidUserEntityWithId(), 1L,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Simulates the state of a confirmed rule freshly hydrated by JPA: persistent columns set,
+     * transient fields null.
+     */
+    private RecurrenceRuleVO loadedRule(String summary, String rule) {
+        RecurrenceRuleVO loaded = new RecurrenceRuleVO(summary, null);
+        ReflectionTestUtils.setField(loaded, "rule", rule);
+        return loaded;
+    }
+
+    @Nested
+    class AttachCompiledRule {
+
+        @Test
+        void confirmedRule_isParsedThroughCache() {
+            // Arrange
+            when(cacheProvider.getIfAvailable()).thenReturn(cache);
+            recurringEvent.setRecurrenceRule(loadedRule("Every Monday and Friday from June 1, 2025 forever", "WEEKLY:MONDAY,FRIDAY"));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            RecurrenceRuleVO rule = recurringEvent.getRecurrenceRule();
+            assertThat(rule.getParsed()).isNotNull();
+            assertThat(rule.getParsed().daysOfWeek()).containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+            assertThat(rule.getCompiled().rule()).isEqualTo("WEEKLY:MONDAY,FRIDAY");
+        }
+
+        @Test
+        void sameRuleOnTwoEvents_sharesCompiledInstance() {
+            // Arrange
+            when(cacheProvider.getIfAvailable()).thenReturn(cache);
+            RecurringEvent other = TestUtils.createValidRecurringEventWithId(TestUtils.createValidUserEntityWithId(), 2L,
+                    Clock.systemUTC());
+            recurringEvent.setRecurrenceRule(loadedRule("summary one", "DAILY:"));
+            other.setRecurrenceRule(loadedRule("summary two", "DAILY:"));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+            listener.attachCompiledRule(other);
+
+            // Assert
+            assertThat(other.getRecurrenceRule().getCompiled()).isSameAs(recurringEvent.getRecurrenceRule().getCompiled());
+            assertThat(cache.getStats().hits()).isEqualTo(1);
+            assertThat(cache.getStats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        void draftRule_isLeftUnparsed() {
+            // Arrange
+            recurringEvent.setRecurrenceRule(new RecurrenceRuleVO("WEEKLY:MONDAY", null));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            assertThat(recurringEvent.getRecurrenceRule().getParsed()).isNull();
+            verifyNoInteractions(cacheProvider);
+        }
+
+        @Test
+        void alreadyParsedRule_isLeftUntouched() {
+            // Arrange
+            var parsed = TestUtils.createParsedWeeklyRecurrenceInput(EnumSet.of(DayOfWeek.TUESDAY));
+            recurringEvent.setRecurrenceRule(new RecurrenceRuleVO("Every Tuesday", parsed));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            assertThat(recurringEvent.getRecurrenceRule().getParsed()).isSameAs(parsed);
+            verifyNoInteractions(cacheProvider);
+        }
+
+        @Test
+        void invalidStoredRule_isLoggedAndLeftUnparsed() {
+            // Arrange
+            when(cacheProvider.getIfAvailable()).thenReturn(cache);
+            recurringEvent.setRecurrenceRule(loadedRule("Every fortnight", "FORTNIGHTLY:"));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            assertThat(recurringEvent.getRecurrenceRule().getParsed()).isNull();
+        }
+
+        @Test
+        void cacheUnavailable_isNoOp() {
+            // Arrange
+            when(cacheProvider.getIfAvailable()).thenReturn(null);
+            recurringEvent.setRecurrenceRule(loadedRule("Every day", "DAILY:"));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            assertThat(recurringEvent.getRecurrenceRule().getParsed()).isNull();
+        }
+
+        @Test
+        void compiledFormOfLoadedRule_matchesFreshlyParsedRule() {
+            // Arrange
+            when(cacheProvider.getIfAvailable()).thenReturn(cache);
+            var parsed = TestUtils.createParsedMonthlyRecurrenceInput(3, EnumSet.of(DayOfWeek.WEDNESDAY));
+            RecurrenceRuleVO created = new RecurrenceRuleVO("Every third Wednesday", parsed);
+            recurringEvent.setRecurrenceRule(loadedRule(created.getSummary(), created.getRule()));
+
+            // Act
+            listener.attachCompiledRule(recurringEvent);
+
+            // Assert
+            CompiledRecurrenceRule loaded = recurringEvent.getRecurrenceRule().getCompiled();
+            assertThat(loaded).isEqualTo(created.getCompiled());
+            assertThat(recurringEvent.getRecurrenceRule().getParsed()).isEqualTo(parsed);
+        }
+    }
+}
@@ -270,6 +270,47 @@ class RecurrenceRuleVOTest {
         }
     }
 
+    @Nested
+    class CompiledRule {
+
+        @Test
+        void constructor_withParsed_shouldDeriveCanonicalRuleAndCompiledForm() {
+            RecurrenceRuleVO rule = new RecurrenceRuleVO(WEEKLY_SUMMARY, weeklyParsed);
+
+            assertThat(rule.getRule()).isEqualTo("WEEKLY:MONDAY,WEDNESDAY,FRIDAY");
+            assertThat(rule.getCompiled()).isNotNull();
+            assertThat(rule.getCompiled().includes(java.time.DayOfWeek.WEDNESDAY)).isTrue();
+            assertThat(rule.getCompiled().includes(java.time.DayOfWeek.TUESDAY)).isFalse();
+        }
+
+        @Test
+        void constructor_withoutParsed_shouldLeaveRuleAndCompiledNull() {
+            RecurrenceRuleVO rule = new RecurrenceRuleVO("UNSPECIFIED", null);
+
+            assertThat(rule.getRule()).isNull();
+            assertThat(rule.getCompiled()).isNull();
+        }
+
+        @Test
+        void attachCompiled_shouldRestoreParsedRepresentation() {
+            RecurrenceRuleVO created = new RecurrenceRuleVO(DAILY_SUMMARY, dailyParsed);
+            RecurrenceRuleVO loaded = new RecurrenceRuleVO(DAILY_SUMMARY, null);
+
+            loaded.attachCompiled(created.getCompiled());
+
+            assertThat(loaded.getParsed()).isEqualTo(dailyParsed);
+            assertThat(loaded.getCompiled()).isSameAs(created.getCompiled());
+        }
+
+        @Test
+        void equals_shouldIgnoreCompiledField() {
+            RecurrenceRuleVO withCompiled = new RecurrenceRuleVO(DAILY_SUMMARY, dailyParsed);
+            RecurrenceRuleVO withoutCompiled = new RecurrenceRuleVO(DAILY_SUMMARY, null);
+
+            assertThat(withCompiled).isEqualTo(withoutCompiled);
+        }
+    }
+
     @Nested
     class EdgeCases {
 
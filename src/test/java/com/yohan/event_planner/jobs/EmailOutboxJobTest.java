@@ -0,0 +1,137 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.EmailOutboxStatsDTO;
+import com.yohan.event_planner.service.EmailOutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxJobTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    private EmailOutboxJob outboxJob;
+
+    @BeforeEach
+    void setUp() {
+        outboxJob = new EmailOutboxJob(emailOutboxService);
+        ReflectionTestUtils.setField(outboxJob, "workers", 1);
+        ReflectionTestUtils.setField(outboxJob, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxJob, "maxBatchesPerRun", 3);
+        ReflectionTestUtils.invokeMethod(outboxJob, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(outboxJob, "shutdown");
+    }
+
+    @Nested
+    class DeliverPendingEmailsTests {
+
+        @Test
+        void deliverPendingEmails_whenOutboxEmpty_runsSingleBatch() {
+            // Arrange
+            when(emailOutboxService.deliverDueMessages(10)).thenReturn(0);
+
+            // Act
+            outboxJob.deliverPendingEmails();
+
+            // Assert
+            verify(emailOutboxService, times(1)).deliverDueMessages(10);
+            verify(emailOutboxService, never()).getStats();
+        }
+
+        @Test
+        void deliverPendingEmails_whenBatchesFull_keepsSendingUntilPartialBatch() {
+            // Arrange
+            when(emailOutboxService.deliverDueMessages(10)).thenReturn(10, 4);
+            when(emailOutboxService.getStats()).thenReturn(new EmailOutboxStatsDTO(0, 0, 0, 14, 0));
+
+            // Act
+            outboxJob.deliverPendingEmails();
+
+            // Assert
+            verify(emailOutboxService, times(2)).deliverDueMessages(10);
+            verify(emailOutboxService).getStats();
+        }
+
+        @Test
+        void deliverPendingEmails_whenBacklogExceedsLimit_stopsAtMaxBatchesPerRun() {
+            // Arrange
+            when(emailOutboxService.deliverDueMessages(10)).thenReturn(10);
+            when(emailOutboxService.getStats()).thenReturn(new EmailOutboxStatsDTO(500, 0, 30000, 30, 0));
+
+            // Act
+            outboxJob.deliverPendingEmails();
+
+            // Assert
+            verify(emailOutboxService, times(3)).deliverDueMessages(10);
+        }
+
+        @Test
+        void deliverPendingEmails_withSeveralWorkers_runsEachWorker() {
+            // Arrange
+            ReflectionTestUtils.invokeMethod(outboxJob, "shutdown");
+            ReflectionTestUtils.setField(outboxJob, "workers", 3);
+            ReflectionTestUtils.invokeMethod(outboxJob, "init");
+            when(emailOutboxService.deliverDueMessages(10)).thenReturn(0);
+
+            // Act
+            outboxJob.deliverPendingEmails();
+
+            // Assert
+            verify(emailOutboxService, times(3)).deliverDueMessages(10);
+        }
+
+        @Test
+        void deliverPendingEmails_whenServiceThrows_doesNotPropagate() {
+            // Arrange
+            when(emailOutboxService.deliverDueMessages(10)).thenThrow(new RuntimeException("Database unavailable"));
+
+            // Act & Assert
+            assertDoesNotThrow(() -> outboxJob.deliverPendingEmails());
+        }
+    }
+
+    @Nested
+    class PurgeDeadLettersTests {
+
+        @Test
+        void purgeDeadLetters_usesConfiguredRetention() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxJob, "deadLetterRetentionDays", 14);
+            when(emailOutboxService.purgeDeadLetters(Duration.ofDays(14))).thenReturn(2);
+
+            // Act
+            outboxJob.purgeDeadLetters();
+
+            // Assert
+            verify(emailOutboxService).purgeDeadLetters(Duration.ofDays(14));
+        }
+
+        @Test
+        void purgeDeadLetters_whenServiceThrows_doesNotPropagate() {
+            // Arrange
+            when(emailOutboxService.purgeDeadLetters(Duration.ofDays(7))).thenThrow(new RuntimeException("Database unavailable"));
+
+            // Act & Assert
+            assertDoesNotThrow(() -> outboxJob.purgeDeadLetters());
+        }
+    }
+}
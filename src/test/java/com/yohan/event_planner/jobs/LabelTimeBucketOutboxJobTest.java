@@ -0,0 +1,91 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.LabelTimeBucketOutboxStatsDTO;
+import com.yohan.event_planner.service.LabelTimeBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LabelTimeBucketOutboxJobTest {
+
+    @Mock
+    private LabelTimeBucketService labelTimeBucketService;
+
+    private LabelTimeBucketOutboxJob outboxJob;
+
+    @BeforeEach
+    void setUp() {
+        outboxJob = new LabelTimeBucketOutboxJob(labelTimeBucketService);
+        ReflectionTestUtils.setField(outboxJob, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxJob, "maxBatchesPerRun", 3);
+    }
+
+    @Nested
+    class DrainOutboxTests {
+
+        @Test
+        void drainOutbox_whenOutboxEmpty_runsSingleBatch() {
+            // Arrange
+            when(labelTimeBucketService.drainOutbox(10)).thenReturn(0);
+
+            // Act
+            outboxJob.drainOutbox();
+
+            // Assert
+            verify(labelTimeBucketService, times(1)).drainOutbox(10);
+            verify(labelTimeBucketService, never()).getOutboxStats();
+        }
+
+        @Test
+        void drainOutbox_whenBatchesFull_keepsDrainingUntilPartialBatch() {
+            // Arrange
+            when(labelTimeBucketService.drainOutbox(10)).thenReturn(10, 4);
+            when(labelTimeBucketService.getOutboxStats())
+                    .thenReturn(new LabelTimeBucketOutboxStatsDTO(0, 0, 14, 120, 120));
+
+            // Act
+            outboxJob.drainOutbox();
+
+            // Assert
+            verify(labelTimeBucketService, times(2)).drainOutbox(10);
+            verify(labelTimeBucketService).getOutboxStats();
+        }
+
+        @Test
+        void drainOutbox_whenBacklogExceedsLimit_stopsAtMaxBatchesPerRun() {
+            // Arrange
+            when(labelTimeBucketService.drainOutbox(10)).thenReturn(10);
+            when(labelTimeBucketService.getOutboxStats())
+                    .thenReturn(new LabelTimeBucketOutboxStatsDTO(500, 30000, 30, 30000, 30000));
+
+            // Act
+            outboxJob.drainOutbox();
+
+            // Assert
+            verify(labelTimeBucketService, times(3)).drainOutbox(10);
+        }
+
+        @Test
+        void drainOutbox_whenServiceThrowsException_logsError() {
+            // Arrange
+            when(labelTimeBucketService.drainOutbox(anyInt()))
+                    .thenThrow(new RuntimeException("Database error"));
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> outboxJob.drainOutbox());
+            verify(labelTimeBucketService).drainOutbox(10);
+        }
+    }
+}
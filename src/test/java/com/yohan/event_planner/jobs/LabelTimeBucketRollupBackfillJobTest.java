@@ -0,0 +1,85 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.service.LabelTimeBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LabelTimeBucketRollupBackfillJobTest {
+
+    @Mock
+    private LabelTimeBucketService labelTimeBucketService;
+
+    private LabelTimeBucketRollupBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob = new LabelTimeBucketRollupBackfillJob(labelTimeBucketService);
+    }
+
+    @Nested
+    class BackfillRollupBucketsTests {
+
+        @Test
+        void backfillRollupBuckets_rebuildsEachLabel() {
+            // Arrange
+            when(labelTimeBucketService.getLabelIdsWithDayBuckets()).thenReturn(List.of(1L, 2L));
+            when(labelTimeBucketService.backfillRollupBuckets(1L)).thenReturn(3);
+            when(labelTimeBucketService.backfillRollupBuckets(2L)).thenReturn(2);
+
+            // Act
+            backfillJob.backfillRollupBuckets();
+
+            // Assert
+            verify(labelTimeBucketService, times(1)).backfillRollupBuckets(1L);
+            verify(labelTimeBucketService, times(1)).backfillRollupBuckets(2L);
+        }
+
+        @Test
+        void backfillRollupBuckets_whenNothingToBackfill_completesNormally() {
+            // Arrange
+            when(labelTimeBucketService.getLabelIdsWithDayBuckets()).thenReturn(List.of());
+
+            // Act & Assert
+            assertDoesNotThrow(() -> backfillJob.backfillRollupBuckets());
+            verify(labelTimeBucketService, never()).backfillRollupBuckets(anyLong());
+        }
+
+        @Test
+        void backfillRollupBuckets_whenOneLabelFails_continuesWithRemainingLabels() {
+            // Arrange
+            when(labelTimeBucketService.getLabelIdsWithDayBuckets()).thenReturn(List.of(1L, 2L));
+            when(labelTimeBucketService.backfillRollupBuckets(1L))
+                    .thenThrow(new RuntimeException("Database error"));
+            when(labelTimeBucketService.backfillRollupBuckets(2L)).thenReturn(2);
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> backfillJob.backfillRollupBuckets());
+            verify(labelTimeBucketService).backfillRollupBuckets(2L);
+        }
+
+        @Test
+        void backfillRollupBuckets_whenLabelLookupFails_logsError() {
+            // Arrange
+            when(labelTimeBucketService.getLabelIdsWithDayBuckets())
+                    .thenThrow(new RuntimeException("Database error"));
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> backfillJob.backfillRollupBuckets());
+            verify(labelTimeBucketService, never()).backfillRollupBuckets(anyLong());
+        }
+    }
+}
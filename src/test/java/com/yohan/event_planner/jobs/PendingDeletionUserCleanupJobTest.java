@@ -1,5 +1,6 @@
 package com.yohan.event_planner.jobs;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.util.TestUtils;
@@ -20,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentCaptor.forClass;
@@ -27,12 +29,14 @@ import static org.mockito.ArgumentCaptor.forClass;
 class PendingDeletionUserCleanupJobTest {
 
     private UserRepository userRepository;
+    private UserCache userCache;
     private PendingDeletionUserCleanupJob pendingDeletionUserCleanupJob;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        pendingDeletionUserCleanupJob = new PendingDeletionUserCleanupJob(userRepository);
+        userCache = mock(UserCache.class);
+        pendingDeletionUserCleanupJob = new PendingDeletionUserCleanupJob(userRepository, userCache);
     }
 
     @Nested
@@ -53,6 +57,7 @@ class PendingDeletionUserCleanupJobTest {
 
             // Assert
             verify(userRepository).deleteAll(expiredUsers);
+            verify(userCache, times(2)).invalidate(user1.getId());
         }
 
         @Test
@@ -159,13 +164,13 @@ class PendingDeletionUserCleanupJobTest {
         @Test
         void constructor_withValidRepository_createsInstance() {
             // Act & Assert
-            assertDoesNotThrow(() -> new PendingDeletionUserCleanupJob(userRepository));
+            assertDoesNotThrow(() -> new PendingDeletionUserCleanupJob(userRepository, userCache));
         }
 
         @Test
         void constructor_withNullRepository_allowsCreation() {
             // Act & Assert - Spring will handle null injection validation
-            assertDoesNotThrow(() -> new PendingDeletionUserCleanupJob(null));
+            assertDoesNotThrow(() -> new PendingDeletionUserCleanupJob(null, null));
         }
     }
 
@@ -0,0 +1,93 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+import com.yohan.event_planner.time.ClockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitBucketCleanupJobTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-27T12:00:00Z");
+
+    @Mock
+    private RateLimitBucketRepository rateLimitBucketRepository;
+    @Mock
+    private ClockProvider clockProvider;
+
+    private RateLimitBucketCleanupJob cleanupJob;
+
+    @BeforeEach
+    void setUp() {
+        when(clockProvider.getClockForZone(ZoneOffset.UTC)).thenReturn(Clock.fixed(NOW, ZoneOffset.UTC));
+        cleanupJob = new RateLimitBucketCleanupJob(rateLimitBucketRepository, clockProvider);
+        ReflectionTestUtils.setField(cleanupJob, "batchSize", 10);
+        ReflectionTestUtils.setField(cleanupJob, "maxBatchesPerRun", 3);
+    }
+
+    @Nested
+    class DeleteExpiredBucketsTests {
+
+        @Test
+        void deleteExpiredBuckets_whenNothingExpired_runsSingleBatch() {
+            // Arrange
+            when(rateLimitBucketRepository.deleteExpired(NOW, 10)).thenReturn(0);
+
+            // Act
+            cleanupJob.deleteExpiredBuckets();
+
+            // Assert
+            verify(rateLimitBucketRepository, times(1)).deleteExpired(NOW, 10);
+        }
+
+        @Test
+        void deleteExpiredBuckets_whenBatchesFull_keepsDeletingUntilPartialBatch() {
+            // Arrange
+            when(rateLimitBucketRepository.deleteExpired(NOW, 10)).thenReturn(10, 4);
+
+            // Act
+            cleanupJob.deleteExpiredBuckets();
+
+            // Assert
+            verify(rateLimitBucketRepository, times(2)).deleteExpired(NOW, 10);
+        }
+
+        @Test
+        void deleteExpiredBuckets_whenBacklogExceedsLimit_stopsAtMaxBatchesPerRun() {
+            // Arrange
+            when(rateLimitBucketRepository.deleteExpired(NOW, 10)).thenReturn(10);
+
+            // Act
+            cleanupJob.deleteExpiredBuckets();
+
+            // Assert
+            verify(rateLimitBucketRepository, times(3)).deleteExpired(NOW, 10);
+        }
+
+        @Test
+        void deleteExpiredBuckets_whenRepositoryThrowsException_logsError() {
+            // Arrange
+            when(rateLimitBucketRepository.deleteExpired(any(), anyInt()))
+                    .thenThrow(new RuntimeException("Database error"));
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> cleanupJob.deleteExpiredBuckets());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.yohan.event_planner.jobs;
+
+import com.yohan.event_planner.dto.RecurrenceMaterializationTargetDTO;
+import com.yohan.event_planner.service.RecurrenceMaterializationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurrenceMaterializationJobTest {
+
+    private static final ZonedDateTime START_OF_TODAY = ZonedDateTime.of(2025, 6, 29, 4, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private RecurrenceMaterializationService recurrenceMaterializationService;
+
+    private RecurrenceMaterializationJob materializationJob;
+
+    @BeforeEach
+    void setUp() {
+        materializationJob = new RecurrenceMaterializationJob(recurrenceMaterializationService);
+        ReflectionTestUtils.setField(materializationJob, "batchSize", 2);
+        ReflectionTestUtils.setField(materializationJob, "maxBatchesPerRun", 3);
+    }
+
+    @Nested
+    class MaterializeRecurrencesTests {
+
+        @Test
+        void materializeRecurrences_whenNoUsersDue_runsSingleBatch() {
+            // Arrange
+            when(recurrenceMaterializationService.findDueMaterializations(2)).thenReturn(List.of());
+
+            // Act
+            materializationJob.materializeRecurrences();
+
+            // Assert
+            verify(recurrenceMaterializationService, times(1)).findDueMaterializations(2);
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
+        }
+
+        @Test
+        void materializeRecurrences_whenBatchFull_keepsGoingUntilPartialBatch() {
+            // Arrange
+            when(recurrenceMaterializationService.findDueMaterializations(2)).thenReturn(
+                    List.of(target(1L), target(2L)),
+                    List.of(target(3L))
+            );
+
+            // Act
+            materializationJob.materializeRecurrences();
+
+            // Assert
+            verify(recurrenceMaterializationService, times(2)).findDueMaterializations(2);
+            verify(recurrenceMaterializationService).materializeThrough(1L, START_OF_TODAY);
+            verify(recurrenceMaterializationService).materializeThrough(2L, START_OF_TODAY);
+            verify(recurrenceMaterializationService).materializeThrough(3L, START_OF_TODAY);
+        }
+
+        @Test
+        void materializeRecurrences_whenBacklogExceedsLimit_stopsAtMaxBatchesPerRun() {
+            // Arrange
+            when(recurrenceMaterializationService.findDueMaterializations(2))
+                    .thenReturn(List.of(target(1L), target(2L)));
+
+            // Act
+            materializationJob.materializeRecurrences();
+
+            // Assert
+            verify(recurrenceMaterializationService, times(3)).findDueMaterializations(2);
+        }
+
+        @Test
+        void materializeRecurrences_whenOneUserFails_continuesWithOthers() {
+            // Arrange
+            when(recurrenceMaterializationService.findDueMaterializations(2))
+                    .thenReturn(List.of(target(1L)));
+            doThrow(new RuntimeException("Database error"))
+                    .when(recurrenceMaterializationService).materializeThrough(1L, START_OF_TODAY);
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> materializationJob.materializeRecurrences());
+            verify(recurrenceMaterializationService).materializeThrough(1L, START_OF_TODAY);
+        }
+
+        @Test
+        void materializeRecurrences_whenLookupThrowsException_logsError() {
+            // Arrange
+            when(recurrenceMaterializationService.findDueMaterializations(anyInt()))
+                    .thenThrow(new RuntimeException("Database error"));
+
+            // Act & Assert - Should not throw exception
+            assertDoesNotThrow(() -> materializationJob.materializeRecurrences());
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
+        }
+    }
+
+    private static RecurrenceMaterializationTargetDTO target(Long userId) {
+        return new RecurrenceMaterializationTargetDTO(userId, START_OF_TODAY);
+    }
+}
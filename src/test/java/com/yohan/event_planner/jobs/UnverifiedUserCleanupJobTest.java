@@ -1,5 +1,6 @@
 package com.yohan.event_planner.jobs;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.util.TestUtils;
@@ -34,11 +35,14 @@ class UnverifiedUserCleanupJobTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     private UnverifiedUserCleanupJob cleanupJob;
 
     @BeforeEach
     void setUp() {
-        cleanupJob = new UnverifiedUserCleanupJob(userRepository);
+        cleanupJob = new UnverifiedUserCleanupJob(userRepository, userCache);
     }
 
     @Nested
@@ -60,6 +64,7 @@ class UnverifiedUserCleanupJobTest {
             // Assert
             verify(userRepository).findAllByEmailVerifiedFalseAndCreatedAtBefore(any(ZonedDateTime.class));
             verify(userRepository, times(2)).delete(any(User.class));
+            verify(userCache, times(2)).invalidate(user1.getId());
         }
 
         @Test
@@ -300,13 +305,13 @@ class UnverifiedUserCleanupJobTest {
         @Test
         void constructor_withValidRepository_createsInstance() {
             // Act & Assert
-            assertDoesNotThrow(() -> new UnverifiedUserCleanupJob(userRepository));
+            assertDoesNotThrow(() -> new UnverifiedUserCleanupJob(userRepository, userCache));
         }
 
         @Test
         void constructor_withNullRepository_allowsCreation() {
             // Act & Assert - Spring will handle null injection validation
-            assertDoesNotThrow(() -> new UnverifiedUserCleanupJob(null));
+            assertDoesNotThrow(() -> new UnverifiedUserCleanupJob(null, null));
         }
     }
 
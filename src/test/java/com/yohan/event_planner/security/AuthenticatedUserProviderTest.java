@@ -1,27 +1,39 @@
 package com.yohan.event_planner.security;
 
 import com.yohan.event_planner.business.UserBO;
+import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.Role;
 import com.yohan.event_planner.exception.UnauthorizedException;
 import com.yohan.event_planner.exception.UserNotFoundException;
 import com.yohan.event_planner.util.TestUtils;
 import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Clock;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.yohan.event_planner.exception.ErrorCode.UNAUTHORIZED_ACCESS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -39,6 +51,18 @@ class AuthenticatedUserProviderTest {
         userBO = mock(UserBO.class);
         request = mock(HttpServletRequest.class);
         authenticatedUserProvider = new AuthenticatedUserProvider(jwtUtils, userBO, request);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void publishAuthentication(User user) {
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
     }
 
     @Nested
@@ -121,6 +145,128 @@ class AuthenticatedUserProviderTest {
         }
     }
 
+    @Nested
+    class RequestMemoizationTests {
+
+        private AuthenticatedUserProvider providerForRequest;
+
+        @BeforeEach
+        void setUp() {
+            providerForRequest = new AuthenticatedUserProvider(jwtUtils, userBO, new MockHttpServletRequest());
+        }
+
+        @Test
+        void getCurrentUser_withPublishedAuthentication_returnsFilterLoadedUser() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId(1L);
+            publishAuthentication(user);
+
+            // Act
+            User result = providerForRequest.getCurrentUser();
+
+            // Assert
+            assertSame(user, result);
+            verifyNoInteractions(jwtUtils, userBO);
+        }
+
+        @Test
+        void getCurrentUser_calledRepeatedly_verifiesTokenAndLoadsUserOnce() {
+            // Arrange
+            String token = "valid.jwt.token";
+            User user = TestUtils.createValidUserEntityWithId(1L);
+            when(jwtUtils.getJwtFromHeader(any())).thenReturn(token);
+            when(jwtUtils.getUserIdFromJwtToken(token)).thenReturn(1L);
+            when(userBO.getUserById(1L)).thenReturn(Optional.of(user));
+
+            // Act
+            User first = providerForRequest.getCurrentUser();
+            User second = providerForRequest.getCurrentUser();
+
+            // Assert
+            assertSame(first, second);
+            verify(jwtUtils, times(1)).getUserIdFromJwtToken(token);
+            verify(userBO, times(1)).getUserById(1L);
+        }
+
+        @Test
+        void getCurrentUser_onNewRequest_resolvesUserAgain() {
+            // Arrange
+            String token = "valid.jwt.token";
+            when(jwtUtils.getJwtFromHeader(any())).thenReturn(token);
+            when(jwtUtils.getUserIdFromJwtToken(token)).thenReturn(1L);
+            when(userBO.getUserById(1L)).thenReturn(Optional.of(TestUtils.createValidUserEntityWithId(1L)));
+            providerForRequest.getCurrentUser();
+
+            // Act
+            new AuthenticatedUserProvider(jwtUtils, userBO, new MockHttpServletRequest()).getCurrentUser();
+
+            // Assert
+            verify(userBO, times(2)).getUserById(1L);
+        }
+    }
+
+    @Nested
+    class GetCurrentPrincipalTests {
+
+        @Test
+        void getCurrentPrincipal_withPublishedAuthentication_readsSecurityContext() {
+            // Arrange
+            User user = TestUtils.createValidUserEntityWithId(1L);
+            Event pinnedEvent = TestUtils.createValidImpromptuEventWithId(42L, user, Clock.systemUTC());
+            user.setPinnedImpromptuEvent(pinnedEvent);
+            publishAuthentication(user);
+
+            // Act
+            AuthenticatedPrincipal principal = authenticatedUserProvider.getCurrentPrincipal();
+
+            // Assert
+            assertEquals(1L, principal.userId());
+            assertEquals(user.getUsername(), principal.username());
+            assertEquals(user.getTimezone(), principal.timezone());
+            assertEquals(Set.of(Role.USER), principal.roles());
+            assertEquals(42L, principal.pinnedEventId());
+            verifyNoInteractions(jwtUtils, userBO);
+        }
+
+        @Test
+        void getCurrentPrincipal_withoutAuthentication_fallsBackToToken() {
+            // Arrange
+            String token = "valid.jwt.token";
+            when(jwtUtils.getJwtFromHeader(request)).thenReturn(token);
+            when(jwtUtils.getUserIdFromJwtToken(token)).thenReturn(1L);
+            when(userBO.getUserById(1L)).thenReturn(Optional.of(TestUtils.createValidUserEntityWithId(1L)));
+
+            // Act
+            AuthenticatedPrincipal principal = authenticatedUserProvider.getCurrentPrincipal();
+
+            // Assert
+            assertEquals(1L, principal.userId());
+            assertNull(principal.pinnedEventId());
+        }
+
+        @Test
+        void getCurrentUserId_withPublishedAuthentication_returnsPrincipalUserId() {
+            // Arrange
+            publishAuthentication(TestUtils.createValidUserEntityWithId(7L));
+
+            // Act
+            Long userId = authenticatedUserProvider.getCurrentUserId();
+
+            // Assert
+            assertEquals(7L, userId);
+            verifyNoInteractions(jwtUtils, userBO);
+        }
+
+        @Test
+        void getCurrentUserId_invalidToken_throwsUnauthorizedException() {
+            // Arrange
+            when(jwtUtils.getJwtFromHeader(request)).thenThrow(new UnauthorizedException(UNAUTHORIZED_ACCESS));
+
+            // Act + Assert
+            assertThrows(UnauthorizedException.class, () -> authenticatedUserProvider.getCurrentUserId());
+        }
+    }
+
     @Nested
     class LoggingBehaviorTests {
 
@@ -0,0 +1,191 @@
+package com.yohan.event_planner.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenHasherTest {
+
+    private RefreshTokenHasher refreshTokenHasher;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenHasher = new RefreshTokenHasher();
+        String secureKey = Base64.getEncoder().encodeToString("01234567890123456789012345678901".getBytes());
+        ReflectionTestUtils.setField(refreshTokenHasher, "jwtSecret", secureKey);
+        ReflectionTestUtils.invokeMethod(refreshTokenHasher, "init");
+    }
+
+    @Nested
+    class HashTests {
+
+        @Test
+        void hash_shouldReturnConsistentHash() {
+            // Arrange
+            String token = "test-token";
+
+            // Act
+            String hash1 = refreshTokenHasher.hash(token);
+            String hash2 = refreshTokenHasher.hash(token);
+
+            // Assert
+            assertEquals(hash1, hash2); // Should be deterministic
+            assertNotEquals(token, hash1); // Should be different from input
+            assertNotNull(hash1);
+            assertFalse(hash1.isEmpty());
+        }
+
+        @Test
+        void hash_shouldReturnBase64EncodedSha256Digest() {
+            // Act
+            String hash = refreshTokenHasher.hash("test-token");
+
+            // Assert
+            assertEquals(32, Base64.getDecoder().decode(hash).length);
+        }
+
+        @Test
+        void hash_withDifferentSecret_shouldReturnDifferentHash() {
+            // Arrange
+            RefreshTokenHasher otherHasher = new RefreshTokenHasher();
+            ReflectionTestUtils.setField(otherHasher, "jwtSecret", "another-secret-another-secret-00");
+            ReflectionTestUtils.invokeMethod(otherHasher, "init");
+
+            // Act & Assert
+            assertNotEquals(refreshTokenHasher.hash("test-token"), otherHasher.hash("test-token"));
+        }
+
+        @Test
+        void hash_withNullInput_shouldThrowException() {
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> refreshTokenHasher.hash(null));
+            assertEquals("Refresh token cannot be null or blank", ex.getMessage());
+        }
+
+        @Test
+        void hash_withBlankInput_shouldThrowException() {
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> refreshTokenHasher.hash("   "));
+            assertEquals("Refresh token cannot be null or blank", ex.getMessage());
+        }
+
+        @Test
+        void hash_fromConcurrentThreads_shouldMatchSingleThreadedHashes() throws Exception {
+            // Arrange
+            List<String> tokens = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                tokens.add("token-" + i);
+            }
+            List<String> expected = tokens.stream().map(refreshTokenHasher::hash).toList();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // Act
+                List<Future<String>> futures = new ArrayList<>();
+                for (int round = 0; round < 5; round++) {
+                    for (String token : tokens) {
+                        futures.add(executor.submit(() -> refreshTokenHasher.hash(token)));
+                    }
+                }
+
+                // Assert
+                for (int i = 0; i < futures.size(); i++) {
+                    assertEquals(expected.get(i % tokens.size()), futures.get(i).get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    class MatchesTests {
+
+        @Test
+        void matches_shouldReturnTrueForValidToken() {
+            // Arrange
+            String token = "test-token";
+            String hash = refreshTokenHasher.hash(token);
+
+            // Act & Assert
+            assertTrue(refreshTokenHasher.matches(token, hash));
+        }
+
+        @Test
+        void matches_shouldReturnFalseForInvalidToken() {
+            // Arrange
+            String hash = refreshTokenHasher.hash("valid-token");
+
+            // Act & Assert
+            assertFalse(refreshTokenHasher.matches("invalid-token", hash));
+        }
+
+        @Test
+        void matches_withNullStoredHash_shouldReturnFalse() {
+            // Act & Assert
+            assertFalse(refreshTokenHasher.matches("test-token", null));
+        }
+
+        @Test
+        void matches_withMalformedStoredHash_shouldReturnFalse() {
+            // Act & Assert
+            assertFalse(refreshTokenHasher.matches("test-token", "not*base64!"));
+        }
+
+        @Test
+        void matches_withTruncatedStoredHash_shouldReturnFalse() {
+            // Arrange
+            byte[] digest = Base64.getDecoder().decode(refreshTokenHasher.hash("test-token"));
+            byte[] truncated = new byte[digest.length - 1];
+            System.arraycopy(digest, 0, truncated, 0, truncated.length);
+
+            // Act & Assert
+            assertFalse(refreshTokenHasher.matches("test-token", Base64.getEncoder().encodeToString(truncated)));
+        }
+
+        @Test
+        void matches_withNullToken_shouldThrowException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> refreshTokenHasher.matches(null, "hash"));
+        }
+
+        @Test
+        void matches_withDigest_shouldAgreeWithEncodedHash() {
+            // Arrange
+            byte[] digest = refreshTokenHasher.digest("test-token");
+
+            // Act & Assert
+            assertEquals(refreshTokenHasher.hash("test-token"), refreshTokenHasher.encode(digest));
+            assertTrue(refreshTokenHasher.matches(digest, refreshTokenHasher.hash("test-token")));
+            assertFalse(refreshTokenHasher.matches(digest, refreshTokenHasher.hash("other-token")));
+        }
+
+        @Test
+        void matches_withDigestAndMalformedStoredHash_shouldReturnFalse() {
+            // Arrange
+            byte[] digest = refreshTokenHasher.digest("test-token");
+
+            // Act & Assert
+            assertFalse(refreshTokenHasher.matches(digest, null));
+            assertFalse(refreshTokenHasher.matches(digest, "not*base64!"));
+        }
+    }
+}
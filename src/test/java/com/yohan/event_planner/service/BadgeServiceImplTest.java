@@ -101,8 +101,8 @@ public class BadgeServiceImplTest {
 
             when(badgeRepository.findByUserIdOrderBySortOrderAsc(testUser.getId()))
                     .thenReturn(List.of(badge));
-            when(badgeStatsService.computeStatsForBadge(badge, testUser.getId()))
-                    .thenReturn(stats);
+            when(badgeStatsService.computeStatsForBadges(List.of(badge), testUser.getId()))
+                    .thenReturn(Map.of(1L, stats));
             when(badgeMapper.toResponseDTO(eq(badge), eq(stats), anySet()))
                     .thenReturn(dto);
 
@@ -130,10 +130,8 @@ public class BadgeServiceImplTest {
 
             when(badgeRepository.findByUserIdOrderBySortOrderAsc(testUser.getId()))
                     .thenReturn(List.of(badge1, badge2));
-            when(badgeStatsService.computeStatsForBadge(badge1, testUser.getId()))
-                    .thenReturn(stats1);
-            when(badgeStatsService.computeStatsForBadge(badge2, testUser.getId()))
-                    .thenReturn(stats2);
+            when(badgeStatsService.computeStatsForBadges(List.of(badge1, badge2), testUser.getId()))
+                    .thenReturn(Map.of(1L, stats1, 2L, stats2));
             when(badgeMapper.toResponseDTO(eq(badge1), eq(stats1), anySet())).thenReturn(dto1);
             when(badgeMapper.toResponseDTO(eq(badge2), eq(stats2), anySet())).thenReturn(dto2);
 
@@ -869,9 +867,8 @@ public class BadgeServiceImplTest {
             TimeStatsDTO stats2 = new TimeStatsDTO(15, 25, 40, 3, 5, 65);
             TimeStatsDTO stats3 = new TimeStatsDTO(0, 0, 0, 0, 0, 0);
             
-            when(badgeStatsService.computeStatsForBadge(badge1, testUser.getId())).thenReturn(stats1);
-            when(badgeStatsService.computeStatsForBadge(badge2, testUser.getId())).thenReturn(stats2);
-            when(badgeStatsService.computeStatsForBadge(badge3, testUser.getId())).thenReturn(stats3);
+            when(badgeStatsService.computeStatsForBadges(List.of(badge1, badge2, badge3), testUser.getId()))
+                    .thenReturn(Map.of(1L, stats1, 2L, stats2, 3L, stats3));
 
             BadgeResponseDTO response1 = mock(BadgeResponseDTO.class);
             BadgeResponseDTO response2 = mock(BadgeResponseDTO.class);
@@ -888,10 +885,9 @@ public class BadgeServiceImplTest {
             assertEquals(3, result.size());
             assertEquals(List.of(response1, response2, response3), result);
             
-            // Verify all badges had statistics computed
-            verify(badgeStatsService).computeStatsForBadge(badge1, testUser.getId());
-            verify(badgeStatsService).computeStatsForBadge(badge2, testUser.getId());
-            verify(badgeStatsService).computeStatsForBadge(badge3, testUser.getId());
+            // Verify all badges had statistics computed in a single batch
+            verify(badgeStatsService).computeStatsForBadges(List.of(badge1, badge2, badge3), testUser.getId());
+            verify(badgeStatsService, never()).computeStatsForBadge(any(), anyLong());
             
             // Verify label resolution for badges with labels
             verify(labelService).getLabelsByIds(Set.of(100L));
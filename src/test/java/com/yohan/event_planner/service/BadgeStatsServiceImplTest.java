@@ -1,6 +1,10 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry;
 import com.yohan.event_planner.domain.enums.TimeBucketType;
+import com.yohan.event_planner.dto.BadgeTimeTotalsDTO;
+import com.yohan.event_planner.dto.TimeStatsDTO;
+import com.yohan.event_planner.repository.LabelTimeBucketOutboxRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import com.yohan.event_planner.time.ClockProvider;
 import com.yohan.event_planner.util.TestUtils;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -19,6 +24,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.yohan.event_planner.util.TestConstants.USER_ID;
@@ -33,7 +39,9 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +50,8 @@ public class BadgeStatsServiceImplTest {
     @Mock
     private LabelTimeBucketRepository bucketRepository;
     @Mock
+    private LabelTimeBucketOutboxRepository outboxRepository;
+    @Mock
     private ClockProvider clockProvider;
     private Clock fixedClock;
 
@@ -82,7 +92,7 @@ public class BadgeStatsServiceImplTest {
                 .thenReturn(List.of(TestUtils.createValidMonthBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME,2025, 5, lastMonthMinutes)));
 
         // Independent total minutes (may overlap with above or not)
-        when(bucketRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID)))
+        when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.ALL_TIME))
                 .thenReturn(List.of(TestUtils.createValidDayBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME,2025, 99999999, totalAllTimeMinutes)));
     }
 
@@ -233,7 +243,7 @@ public class BadgeStatsServiceImplTest {
                     USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.MONTH, lastMonthYear, List.of(lastMonthValue)))
                     .thenReturn(List.of());
 
-            when(bucketRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID)))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.ALL_TIME))
                     .thenReturn(List.of(
                             TestUtils.createValidWeekBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, isoWeekYear, isoWeekValue, thisWeekMinutes)
                     ));
@@ -296,7 +306,7 @@ public class BadgeStatsServiceImplTest {
                     USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.MONTH, lastMonthYear, List.of(lastMonthValue)))
                     .thenReturn(List.of());
 
-            when(bucketRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID)))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.ALL_TIME))
                     .thenReturn(List.of(
                             TestUtils.createValidWeekBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, isoWeekYear, isoWeekValue, thisWeekMinutes)
                     ));
@@ -359,7 +369,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     anyLong(), anySet(), eq(TimeBucketType.MONTH), anyInt(), anyList()))
                     .thenReturn(List.of());
-            when(bucketRepository.findByUserIdAndLabelIdIn(anyLong(), anySet()))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(List.of(
                             TestUtils.createValidDayBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2025, 20250616, 30),
                             TestUtils.createValidDayBucket(USER_ID, secondLabelId, "Label2", 2025, 20250616, 20),
@@ -432,7 +442,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     anyLong(), anySet(), any(), anyInt(), anyList()))
                     .thenReturn(List.of());
-            when(bucketRepository.findByUserIdAndLabelIdIn(anyLong(), anySet()))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(List.of());
 
             // Act
@@ -449,7 +459,7 @@ public class BadgeStatsServiceImplTest {
                     eq(USER_ID), eq(Set.of(VALID_LABEL_ID)), eq(TimeBucketType.MONTH), eq(2025), eq(List.of(6)));
             verify(bucketRepository).findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     eq(USER_ID), eq(Set.of(VALID_LABEL_ID)), eq(TimeBucketType.MONTH), eq(2025), eq(List.of(5)));
-            verify(bucketRepository).findByUserIdAndLabelIdIn(eq(USER_ID), eq(Set.of(VALID_LABEL_ID)));
+            verify(bucketRepository).findByUserIdAndLabelIdInAndBucketType(eq(USER_ID), eq(Set.of(VALID_LABEL_ID)), eq(TimeBucketType.ALL_TIME));
         }
 
         @Test
@@ -491,7 +501,7 @@ public class BadgeStatsServiceImplTest {
                     USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.MONTH, 2024, List.of(12)))
                     .thenReturn(List.of());
 
-            when(bucketRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID)))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.ALL_TIME))
                     .thenReturn(List.of(
                             TestUtils.createValidWeekBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2025, 2, thisWeekMinutes),
                             TestUtils.createValidWeekBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2025, 1, lastWeekMinutes)
@@ -547,7 +557,7 @@ public class BadgeStatsServiceImplTest {
                             TestUtils.createValidMonthBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2024, 12, lastMonthMinutes)
                     ));
 
-            when(bucketRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID)))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(USER_ID, Set.of(VALID_LABEL_ID), TimeBucketType.ALL_TIME))
                     .thenReturn(List.of(
                             TestUtils.createValidMonthBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2025, 1, thisMonthMinutes),
                             TestUtils.createValidMonthBucket(USER_ID, VALID_LABEL_ID, VALID_LABEL_NAME, 2024, 12, lastMonthMinutes)
@@ -596,7 +606,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     anyLong(), anySet(), any(), anyInt(), anyList()))
                     .thenReturn(null);
-            when(bucketRepository.findByUserIdAndLabelIdIn(anyLong(), anySet()))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(null);
 
             // Act & Assert - Should throw NullPointerException when trying to stream null
@@ -641,7 +651,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     anyLong(), anySet(), eq(TimeBucketType.MONTH), anyInt(), anyList()))
                     .thenReturn(List.of());
-            when(bucketRepository.findByUserIdAndLabelIdIn(anyLong(), anySet()))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(List.of(duplicateBucket, duplicateBucket));
 
             // Act
@@ -675,7 +685,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     anyLong(), anySet(), eq(TimeBucketType.MONTH), anyInt(), anyList()))
                     .thenReturn(List.of());
-            when(bucketRepository.findByUserIdAndLabelIdIn(anyLong(), anySet()))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(List.of(negativeBucket, positiveBucket));
 
             // Act
@@ -716,7 +726,7 @@ public class BadgeStatsServiceImplTest {
             when(bucketRepository.findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
                     eq(USER_ID), eq(manyLabelIds), eq(TimeBucketType.MONTH), anyInt(), anyList()))
                     .thenReturn(List.of());
-            when(bucketRepository.findByUserIdAndLabelIdIn(eq(USER_ID), eq(manyLabelIds)))
+            when(bucketRepository.findByUserIdAndLabelIdInAndBucketType(eq(USER_ID), eq(manyLabelIds), eq(TimeBucketType.ALL_TIME)))
                     .thenReturn(manyBuckets);
 
             // Act
@@ -729,4 +739,179 @@ public class BadgeStatsServiceImplTest {
 
     }
 
+    @Nested
+    class PendingOutboxDeltaTests {
+
+        private LabelTimeBucketOutboxEntry pending(TimeBucketType type, int year, int value, int minutes) {
+            return new LabelTimeBucketOutboxEntry(USER_ID, VALID_LABEL_ID, type, year, value, minutes, fixedClock.instant());
+        }
+
+        @Test
+        void testComputeStatsForBadge_asyncMode_mergesPendingDeltas() {
+            // Arrange
+            ReflectionTestUtils.setField(badgeStatsService, "asyncEnabled", true);
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            mockTimeBuckets(30, 120, 90, 200, 150, 700);
+
+            when(outboxRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID))).thenReturn(List.of(
+                    pending(TimeBucketType.DAY, 2025, 20250616, 45),
+                    pending(TimeBucketType.WEEK, 2025, 25, 45),
+                    pending(TimeBucketType.MONTH, 2025, 6, 45),
+                    pending(TimeBucketType.WEEK, 2025, 24, -10),
+                    pending(TimeBucketType.MONTH, 2025, 5, -10),
+                    pending(TimeBucketType.ALL_TIME, 0, 0, 45),
+                    pending(TimeBucketType.ALL_TIME, 0, 0, -10)
+            ));
+
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var badge = TestUtils.createValidBadgeWithLabelIds(user, Set.of(VALID_LABEL_ID));
+
+            // Act
+            var stats = badgeStatsService.computeStatsForBadge(badge, USER_ID);
+
+            // Assert - pending deltas are visible before the outbox is drained
+            assertEquals(75, stats.today());
+            assertEquals(165, stats.thisWeek());
+            assertEquals(245, stats.thisMonth());
+            assertEquals(80, stats.lastWeek());
+            assertEquals(140, stats.lastMonth());
+            assertEquals(700 + 45 - 10, stats.allTime());
+        }
+
+        @Test
+        void testComputeStatsForBadge_pendingDeltasOutsideCurrentPeriods_onlyAffectAllTime() {
+            // Arrange
+            ReflectionTestUtils.setField(badgeStatsService, "asyncEnabled", true);
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            mockTimeBuckets(30, 120, 90, 200, 150, 700);
+
+            when(outboxRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(VALID_LABEL_ID))).thenReturn(List.of(
+                    pending(TimeBucketType.DAY, 2024, 20240616, 60),
+                    pending(TimeBucketType.YEAR, 2024, 2024, 60),
+                    pending(TimeBucketType.ALL_TIME, 0, 0, 60)
+            ));
+
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var badge = TestUtils.createValidBadgeWithLabelIds(user, Set.of(VALID_LABEL_ID));
+
+            // Act
+            var stats = badgeStatsService.computeStatsForBadge(badge, USER_ID);
+
+            // Assert
+            assertEquals(30, stats.today());
+            assertEquals(760, stats.allTime());
+        }
+
+        @Test
+        void testComputeStatsForBadge_syncMode_doesNotQueryOutbox() {
+            // Arrange
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            mockTimeBuckets(30, 120, 90, 200, 150, 700);
+
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var badge = TestUtils.createValidBadgeWithLabelIds(user, Set.of(VALID_LABEL_ID));
+
+            // Act
+            badgeStatsService.computeStatsForBadge(badge, USER_ID);
+
+            // Assert
+            verifyNoInteractions(outboxRepository);
+        }
+    }
+
+    @Nested
+    class ComputeStatsForBadgesTests {
+
+        private List<BadgeTimeTotalsDTO> aggregate(List<Long> badgeIds) {
+            // 2025-06-16 is a Monday: week 25, previous week 24, previous month May
+            return bucketRepository.aggregateBadgeTotals(
+                    USER_ID, badgeIds, 2025, 20250616, 2025, 25, 2025, 24, 2025, 6, 2025, 5);
+        }
+
+        @Test
+        void testComputeStatsForBadges_usesSingleAggregateForAllBadges() {
+            // Arrange
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var badge1 = TestUtils.createValidBadgeWithLabelIds(user, Set.of(100L));
+            var badge2 = TestUtils.createValidBadgeWithLabelIds(user, Set.of(200L, 201L));
+            TestUtils.setBadgeId(badge1, 1L);
+            TestUtils.setBadgeId(badge2, 2L);
+
+            when(aggregate(List.of(1L, 2L))).thenReturn(List.of(
+                    new BadgeTimeTotalsDTO(1L, 30L, 120L, 200L, 90L, 150L, 700L),
+                    new BadgeTimeTotalsDTO(2L, 0L, 60L, 60L, 0L, 0L, 60L)
+            ));
+
+            // Act
+            Map<Long, TimeStatsDTO> stats = badgeStatsService.computeStatsForBadges(List.of(badge1, badge2), USER_ID);
+
+            // Assert
+            assertEquals(new TimeStatsDTO(30, 120, 200, 90, 150, 700), stats.get(1L));
+            assertEquals(new TimeStatsDTO(0, 60, 60, 0, 0, 60), stats.get(2L));
+            verify(bucketRepository, never()).findByUserIdAndLabelIdInAndBucketType(anyLong(), anySet(), eq(TimeBucketType.ALL_TIME));
+            verify(bucketRepository, never()).findByUserIdAndLabelIdInAndBucketTypeAndBucketYearAndBucketValueIn(
+                    anyLong(), anySet(), any(), anyInt(), anyList());
+        }
+
+        @Test
+        void testComputeStatsForBadges_badgesWithoutLabelsOrTime_getZeroStats() {
+            // Arrange
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var emptyBadge = TestUtils.createValidBadgeWithLabelIds(user, Set.of());
+            var idleBadge = TestUtils.createValidBadgeWithLabelIds(user, Set.of(300L));
+            TestUtils.setBadgeId(emptyBadge, 1L);
+            TestUtils.setBadgeId(idleBadge, 2L);
+
+            when(aggregate(List.of(2L))).thenReturn(List.of());
+
+            // Act
+            Map<Long, TimeStatsDTO> stats = badgeStatsService.computeStatsForBadges(List.of(emptyBadge, idleBadge), USER_ID);
+
+            // Assert
+            assertEquals(List.of(1L, 2L), List.copyOf(stats.keySet()));
+            assertEquals(new TimeStatsDTO(0, 0, 0, 0, 0, 0), stats.get(1L));
+            assertEquals(new TimeStatsDTO(0, 0, 0, 0, 0, 0), stats.get(2L));
+        }
+
+        @Test
+        void testComputeStatsForBadges_noBadges_returnsEmptyMapWithoutQuerying() {
+            // Act
+            Map<Long, TimeStatsDTO> stats = badgeStatsService.computeStatsForBadges(List.of(), USER_ID);
+
+            // Assert
+            assertEquals(Map.of(), stats);
+            verifyNoInteractions(bucketRepository, clockProvider);
+        }
+
+        @Test
+        void testComputeStatsForBadges_asyncMode_creditsPendingDeltaToEveryBadgeWithLabel() {
+            // Arrange
+            ReflectionTestUtils.setField(badgeStatsService, "asyncEnabled", true);
+            when(clockProvider.getClockForUser(any())).thenReturn(fixedClock);
+            var user = TestUtils.createValidUserEntityWithId(USER_ID);
+            var badge1 = TestUtils.createValidBadgeWithLabelIds(user, Set.of(100L));
+            var badge2 = TestUtils.createValidBadgeWithLabelIds(user, Set.of(100L, 200L));
+            TestUtils.setBadgeId(badge1, 1L);
+            TestUtils.setBadgeId(badge2, 2L);
+
+            when(aggregate(List.of(1L, 2L))).thenReturn(List.of());
+            when(outboxRepository.findByUserIdAndLabelIdIn(USER_ID, Set.of(100L, 200L))).thenReturn(List.of(
+                    new LabelTimeBucketOutboxEntry(USER_ID, 100L, TimeBucketType.DAY, 2025, 20250616, 30, fixedClock.instant()),
+                    new LabelTimeBucketOutboxEntry(USER_ID, 200L, TimeBucketType.DAY, 2025, 20250616, 15, fixedClock.instant()),
+                    new LabelTimeBucketOutboxEntry(USER_ID, 100L, TimeBucketType.ALL_TIME, 0, 0, 30, fixedClock.instant()),
+                    new LabelTimeBucketOutboxEntry(USER_ID, 200L, TimeBucketType.ALL_TIME, 0, 0, 15, fixedClock.instant())
+            ));
+
+            // Act
+            Map<Long, TimeStatsDTO> stats = badgeStatsService.computeStatsForBadges(List.of(badge1, badge2), USER_ID);
+
+            // Assert
+            assertEquals(30, stats.get(1L).today());
+            assertEquals(45, stats.get(2L).today());
+            assertEquals(45, stats.get(2L).allTime());
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,347 @@
+package com.yohan.event_planner.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yohan.event_planner.config.JacksonConfig;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceRuleVO;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.RecurringEventRepository;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
+import com.yohan.event_planner.time.ClockProvider;
+import com.yohan.event_planner.util.TestUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarExportServiceImplTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-06-29T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private RecurringEventRepository recurringEventRepository;
+    @Mock
+    private AuthenticatedUserProvider authenticatedUserProvider;
+    @Mock
+    private ClockProvider clockProvider;
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    private CalendarExportServiceImpl exportService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new CalendarExportServiceImpl(eventRepository, recurringEventRepository,
+                authenticatedUserProvider, clockProvider, objectMapper, entityManager);
+        user = TestUtils.createValidUserEntityWithId();
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+    }
+
+    private Event event(Long id, String name, ZonedDateTime start) {
+        Event event = Event.createEvent(name, start, start.plusMinutes(45), user);
+        event.setDescription("Line one\nLine two");
+        event.setLabel(TestUtils.createValidLabelWithId(1L, "Work", user));
+        TestUtils.setEventId(event, id);
+        return event;
+    }
+
+    private RecurringEvent weeklyStandUp() {
+        RecurringEvent recurringEvent = RecurringEvent.createRecurringEvent(
+                "Stand-up",
+                LocalTime.of(9, 0),
+                LocalTime.of(9, 15),
+                LocalDate.of(2025, 6, 2),
+                LocalDate.of(2025, 6, 30),
+                null,
+                TestUtils.createValidWeeklyRecurrenceRuleVO(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), FIXED_CLOCK),
+                user,
+                false
+        );
+        recurringEvent.addSkipDay(LocalDate.of(2025, 6, 16));
+        recurringEvent.setLabel(TestUtils.createValidLabelWithId(2L, "Meetings", user));
+        TestUtils.setRecurringEventId(recurringEvent, 11L);
+        return recurringEvent;
+    }
+
+    private String export(CalendarFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportForCurrentUser(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void stubEntries(List<Event> events, List<RecurringEvent> recurringEvents) {
+        when(eventRepository.streamConfirmedEventsForExport(user.getId())).thenReturn(events.stream());
+        when(recurringEventRepository.streamConfirmedRecurringEventsForExport(user.getId()))
+                .thenReturn(recurringEvents.stream());
+    }
+
+    @Nested
+    class IcsTests {
+
+        @BeforeEach
+        void setUp() {
+            when(clockProvider.getClockForZone(ZoneOffset.UTC)).thenReturn(FIXED_CLOCK);
+        }
+
+        @Test
+        void eventsAndRecurringEvents_areWrittenAsVEvents() throws Exception {
+            // Arrange
+            stubEntries(
+                    List.of(event(7L, "Review, part 1", ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK))),
+                    List.of(weeklyStandUp()));
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            assertThat(ics).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+            assertThat(ics).endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n");
+            assertThat(ics).contains(
+                    "UID:event-7@event-planner\r\n",
+                    "DTSTAMP:20250629T120000Z\r\n",
+                    "DTSTART:20250610T130000Z\r\nDTEND:20250610T134500Z\r\n",
+                    "SUMMARY:Review\\, part 1\r\n",
+                    "DESCRIPTION:Line one\\nLine two\r\n",
+                    "CATEGORIES:Work\r\n");
+            assertThat(ics).contains(
+                    "UID:recurring-event-11@event-planner\r\n",
+                    "DTSTART;TZID=America/New_York:20250602T090000\r\n",
+                    "DTEND;TZID=America/New_York:20250602T091500\r\n",
+                    "RRULE:FREQ=WEEKLY;BYDAY=MO,FR;UNTIL=20250630T130000Z\r\n",
+                    "EXDATE;TZID=America/New_York:20250616T090000\r\n");
+        }
+
+        @Test
+        void timeZone_isDescribedOnceBeforeItsFirstUse() throws Exception {
+            // Arrange
+            RecurringEvent second = weeklyStandUp();
+            TestUtils.setRecurringEventId(second, 12L);
+            stubEntries(List.of(), List.of(weeklyStandUp(), second));
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            assertThat(ics.split("BEGIN:VTIMEZONE", -1)).hasSize(2);
+            assertThat(ics.indexOf("BEGIN:VTIMEZONE")).isLessThan(ics.indexOf("DTSTART;TZID=America/New_York"));
+            assertThat(ics).contains(
+                    "BEGIN:VTIMEZONE\r\nTZID:America/New_York\r\n",
+                    "BEGIN:DAYLIGHT\r\nDTSTART:19700308T020000\r\nTZOFFSETFROM:-0500\r\nTZOFFSETTO:-0400\r\n"
+                            + "RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=2SU\r\nEND:DAYLIGHT\r\n",
+                    "BEGIN:STANDARD\r\nDTSTART:19701101T020000\r\nTZOFFSETFROM:-0400\r\nTZOFFSETTO:-0500\r\n"
+                            + "RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=1SU\r\nEND:STANDARD\r\n",
+                    "END:VTIMEZONE\r\nBEGIN:VEVENT\r\n");
+        }
+
+        @Test
+        void timeZone_isOmittedWithoutRecurringEvents() throws Exception {
+            // Arrange
+            stubEntries(List.of(event(7L, "Review", ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK))), List.of());
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            assertThat(ics).doesNotContain("VTIMEZONE");
+        }
+
+        @Test
+        void uncompiledRule_isWrittenFromStoredRule() throws Exception {
+            // Arrange
+            RecurringEvent recurringEvent = weeklyStandUp();
+            ReflectionTestUtils.setField(recurringEvent.getRecurrenceRule(), "compiled", null);
+            stubEntries(List.of(), List.of(recurringEvent));
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            assertThat(ics).contains(
+                    "RRULE:FREQ=WEEKLY;BYDAY=MO,FR;UNTIL=20250630T130000Z\r\n",
+                    "EXDATE;TZID=America/New_York:20250616T090000\r\n");
+        }
+
+        @Test
+        void uncompiledRuleWithoutStoredRule_passesRRuleSummaryThrough() throws Exception {
+            // Arrange
+            RecurringEvent recurringEvent = weeklyStandUp();
+            recurringEvent.setRecurrenceRule(
+                    new RecurrenceRuleVO("RRULE:FREQ=WEEKLY;BYDAY=TU;COUNT=3", null));
+            stubEntries(List.of(), List.of(recurringEvent));
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            assertThat(ics).contains("RRULE:FREQ=WEEKLY;BYDAY=TU;COUNT=3\r\n");
+        }
+
+        @Test
+        void longLines_areFoldedAt75Octets() throws Exception {
+            // Arrange
+            String name = "Café ".repeat(40);
+            stubEntries(List.of(event(7L, name, ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK))), List.of());
+
+            // Act
+            String ics = export(CalendarFormat.ICS);
+
+            // Assert
+            for (String line : ics.split("\r\n")) {
+                assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+            }
+            assertThat(ics.replace("\r\n ", "")).contains("SUMMARY:" + name + "\r\n");
+        }
+    }
+
+    @Nested
+    class TabularTests {
+
+        @Test
+        void csv_hasHeaderAndQuotesCellsWithDelimiters() throws Exception {
+            // Arrange
+            stubEntries(
+                    List.of(event(7L, "Review, part 1", ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK))),
+                    List.of(weeklyStandUp()));
+
+            // Act
+            String[] lines = export(CalendarFormat.CSV).split("\r\n");
+
+            // Assert
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).isEqualTo(String.join(",", CsvCalendarExportWriter.COLUMNS));
+            assertThat(lines[1]).isEqualTo("EVENT,7,\"Review, part 1\",\"Line one\nLine two\",Work,"
+                    + "2025-06-10T09:00:00-04:00,2025-06-10T09:45:00-04:00,America/New_York,false,,,,,,");
+            assertThat(lines[2]).isEqualTo("RECURRING_EVENT,11,Stand-up,,Meetings,,,America/New_York,,"
+                    + "2025-06-02,2025-06-30,09:00:00,09:15:00,\"WEEKLY:MONDAY,FRIDAY\",2025-06-16");
+        }
+
+        @Test
+        void ndjson_writesOneObjectPerLineWithoutInapplicableFields() throws Exception {
+            // Arrange
+            stubEntries(
+                    List.of(event(7L, "Review", ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK))),
+                    List.of(weeklyStandUp()));
+
+            // Act
+            String[] lines = export(CalendarFormat.NDJSON).split("\n");
+
+            // Assert
+            assertThat(lines).hasSize(2);
+            JsonNode event = objectMapper.readTree(lines[0]);
+            JsonNode recurringEvent = objectMapper.readTree(lines[1]);
+            assertThat(event.get("type").asText()).isEqualTo("EVENT");
+            assertThat(event.get("label").asText()).isEqualTo("Work");
+            assertThat(event.has("recurrence")).isFalse();
+            assertThat(recurringEvent.get("recurrence").asText()).isEqualTo("WEEKLY:MONDAY,FRIDAY");
+            assertThat(recurringEvent.get("skipDays").get(0).asText()).isEqualTo("2025-06-16");
+            assertThat(recurringEvent.has("start")).isFalse();
+        }
+    }
+
+    @Nested
+    class StreamingTests {
+
+        @Test
+        void writtenEntities_areDetachedWithoutClearingThePersistenceContext() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(exportService, "chunkSize", 2);
+            List<Event> events = new ArrayList<>();
+            for (long id = 1; id <= 5; id++) {
+                events.add(event(id, "Event " + id, ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, NEW_YORK).plusDays(id)));
+            }
+            List<RecurringEvent> recurringEvents = new ArrayList<>();
+            for (long id = 11; id <= 13; id++) {
+                RecurringEvent recurringEvent = weeklyStandUp();
+                TestUtils.setRecurringEventId(recurringEvent, id);
+                recurringEvents.add(recurringEvent);
+            }
+            stubEntries(events, recurringEvents);
+
+            // Act
+            String csv = export(CalendarFormat.CSV);
+
+            // Assert
+            assertThat(csv.split("\r\n")).hasSize(9);
+            events.forEach(event -> verify(entityManager).detach(event));
+            recurringEvents.forEach(recurringEvent -> verify(entityManager).detach(recurringEvent));
+            verify(entityManager, never()).clear();
+        }
+
+        @Test
+        void skipDays_areLoadedOncePerChunk() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(exportService, "chunkSize", 2);
+            List<RecurringEvent> recurringEvents = new ArrayList<>();
+            for (long id = 11; id <= 13; id++) {
+                RecurringEvent recurringEvent = weeklyStandUp();
+                TestUtils.setRecurringEventId(recurringEvent, id);
+                recurringEvents.add(recurringEvent);
+            }
+            stubEntries(List.of(), recurringEvents);
+
+            // Act
+            export(CalendarFormat.NDJSON);
+
+            // Assert
+            verify(recurringEventRepository).fetchSkipDaysForExport(List.of(11L, 12L));
+            verify(recurringEventRepository).fetchSkipDaysForExport(List.of(13L));
+            verify(recurringEventRepository, times(2)).fetchSkipDaysForExport(anyList());
+        }
+
+        @Test
+        void streams_areClosedAfterExport() throws Exception {
+            // Arrange
+            AtomicInteger closed = new AtomicInteger();
+            when(eventRepository.streamConfirmedEventsForExport(user.getId()))
+                    .thenReturn(Stream.<Event>empty().onClose(closed::incrementAndGet));
+            when(recurringEventRepository.streamConfirmedRecurringEventsForExport(user.getId()))
+                    .thenReturn(Stream.<RecurringEvent>empty().onClose(closed::incrementAndGet));
+
+            // Act
+            String ndjson = export(CalendarFormat.NDJSON);
+
+            // Assert
+            assertThat(ndjson).isEmpty();
+            assertThat(closed).hasValue(2);
+            verify(entityManager, never()).clear();
+        }
+    }
+}
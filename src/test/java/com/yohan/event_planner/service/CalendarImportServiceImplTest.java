@@ -0,0 +1,334 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.RecurringEventBO;
+import com.yohan.event_planner.config.JacksonConfig;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.Label;
+import com.yohan.event_planner.domain.RecurringEvent;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.domain.enums.CalendarFormat;
+import com.yohan.event_planner.domain.enums.CalendarImportRowStatus;
+import com.yohan.event_planner.domain.enums.RecurrenceFrequency;
+import com.yohan.event_planner.dto.CalendarImportReportDTO;
+import com.yohan.event_planner.dto.CalendarImportRowResultDTO;
+import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarImportServiceImplTest {
+
+    private static final String WEEKLY_RULE = "WEEKLY:MONDAY,FRIDAY";
+
+    @Mock
+    private EventBO eventBO;
+    @Mock
+    private RecurringEventBO recurringEventBO;
+    @Mock
+    private LabelService labelService;
+    @Mock
+    private RecurrenceRuleService recurrenceRuleService;
+    @Mock
+    private RecurrenceMaterializationService recurrenceMaterializationService;
+    @Mock
+    private AuthenticatedUserProvider authenticatedUserProvider;
+
+    private CalendarImportServiceImpl importService;
+    private User user;
+    private Label unlabeled;
+
+    @BeforeEach
+    void setUp() {
+        importService = new CalendarImportServiceImpl(eventBO, recurringEventBO, labelService,
+                recurrenceRuleService, recurrenceMaterializationService, authenticatedUserProvider,
+                new JacksonConfig().objectMapper());
+        user = TestUtils.createValidUserEntityWithId();
+        unlabeled = TestUtils.createValidLabelWithId(1L, "Unlabeled", user);
+        TestUtils.setUnlabeledLabel(user, unlabeled);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+    }
+
+    private CalendarImportReportDTO importFile(CalendarFormat format, String content) throws Exception {
+        return importService.importForCurrentUser(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Makes the event batch insert assign IDs from 100 and return the events as given.
+     */
+    private ArgumentCaptor<List<Event>> stubEventImport() {
+        AtomicLong ids = new AtomicLong(100);
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        when(eventBO.importEvents(eq(user), captor.capture())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(1);
+            events.forEach(event -> TestUtils.setEventId(event, ids.getAndIncrement()));
+            return events;
+        });
+        return captor;
+    }
+
+    private void stubRecurringEventSave() {
+        when(recurringEventBO.createRecurringEventWithValidation(any(RecurringEvent.class))).thenAnswer(invocation -> {
+            RecurringEvent recurringEvent = invocation.getArgument(0);
+            TestUtils.setRecurringEventId(recurringEvent, 11L);
+            return recurringEvent;
+        });
+    }
+
+    private void stubWeeklyRule() {
+        when(recurrenceRuleService.parseFromString(WEEKLY_RULE)).thenReturn(new ParsedRecurrenceInput(
+                RecurrenceFrequency.WEEKLY, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), null));
+        when(recurrenceRuleService.buildSummary(any(), any(), any())).thenReturn("Every Monday and Friday");
+    }
+
+    private static String ics(String... events) {
+        return "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n" + String.join("", events) + "END:VCALENDAR\r\n";
+    }
+
+    @Nested
+    class IcsTests {
+
+        @Test
+        void eventsAndRecurringEvents_areImportedWithExistingLabels() throws Exception {
+            // Arrange
+            String file = ics(
+                    "BEGIN:VEVENT\r\nUID:a\r\nDTSTART:20250610T130000Z\r\nDTEND:20250610T134500Z\r\n"
+                            + "SUMMARY:Review\\, part\r\n  1\r\nDESCRIPTION:Line one\\nLine two\r\n"
+                            + "CATEGORIES:Work,Other\r\nBEGIN:VALARM\r\nTRIGGER:-PT15M\r\nEND:VALARM\r\nEND:VEVENT\r\n",
+                    "BEGIN:VEVENT\r\nUID:b\r\nDTSTART;TZID=America/New_York:20250602T090000\r\n"
+                            + "DTEND;TZID=America/New_York:20250602T091500\r\n"
+                            + "RRULE:FREQ=WEEKLY;BYDAY=MO,FR;UNTIL=20250630T130000Z\r\n"
+                            + "EXDATE;TZID=America/New_York:20250616T090000\r\nSUMMARY:Stand-up\r\nEND:VEVENT\r\n");
+            Label work = TestUtils.createValidLabelWithId(2L, "Work", user);
+            when(labelService.getOrCreateLabelsByName(user, Set.of("Work"))).thenReturn(List.of(work));
+            ArgumentCaptor<List<Event>> imported = stubEventImport();
+            stubRecurringEventSave();
+            stubWeeklyRule();
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.ICS, file);
+
+            // Assert
+            assertThat(report.rowsRead()).isEqualTo(2);
+            assertThat(report.eventsCreated()).isEqualTo(1);
+            assertThat(report.recurringEventsCreated()).isEqualTo(1);
+            assertThat(report.rowsSkipped()).isZero();
+            assertThat(report.rows()).extracting(CalendarImportRowResultDTO::id).containsExactly(100L, 11L);
+
+            Event event = imported.getValue().get(0);
+            assertThat(event.getName()).isEqualTo("Review, part 1");
+            assertThat(event.getDescription()).isEqualTo("Line one\nLine two");
+            assertThat(event.getStartTime().toInstant()).isEqualTo(Instant.parse("2025-06-10T13:00:00Z"));
+            assertThat(event.getStartTimezone()).isEqualTo("America/New_York");
+            assertThat(event.getLabel()).isSameAs(work);
+
+            ArgumentCaptor<RecurringEvent> recurring = ArgumentCaptor.forClass(RecurringEvent.class);
+            verify(recurringEventBO).createRecurringEventWithValidation(recurring.capture());
+            RecurringEvent standUp = recurring.getValue();
+            assertThat(standUp.getStartDate()).isEqualTo(LocalDate.of(2025, 6, 2));
+            assertThat(standUp.getEndDate()).isEqualTo(LocalDate.of(2025, 6, 30));
+            assertThat(standUp.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+            assertThat(standUp.getEndTime()).isEqualTo(LocalTime.of(9, 15));
+            assertThat(standUp.getSkipDays()).containsExactly(LocalDate.of(2025, 6, 16));
+            assertThat(standUp.getLabel()).isSameAs(unlabeled);
+
+            verify(recurrenceMaterializationService).rewindWatermark(user, LocalDate.of(2025, 6, 2));
+        }
+
+        @Test
+        void unsupportedAndBrokenEntries_areSkippedWithReasons() throws Exception {
+            // Arrange
+            String file = ics(
+                    "BEGIN:VEVENT\r\nDTSTART:20250610T130000Z\r\nDTEND:20250610T140000Z\r\n"
+                            + "RRULE:FREQ=WEEKLY;INTERVAL=2\r\nSUMMARY:Every other week\r\nEND:VEVENT\r\n",
+                    "BEGIN:VEVENT\r\nSUMMARY:No start\r\nEND:VEVENT\r\n",
+                    "BEGIN:VEVENT\r\nDTSTART:20250610T130000Z\r\nDTEND:20250610T140000Z\r\n"
+                            + "STATUS:CANCELLED\r\nSUMMARY:Called off\r\nEND:VEVENT\r\n",
+                    "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20250611\r\nSUMMARY:Holiday\r\nEND:VEVENT\r\n");
+            ArgumentCaptor<List<Event>> imported = stubEventImport();
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.ICS, file);
+
+            // Assert
+            assertThat(report.rowsSkipped()).isEqualTo(3);
+            assertThat(report.rows()).extracting(CalendarImportRowResultDTO::status).containsExactly(
+                    CalendarImportRowStatus.SKIPPED, CalendarImportRowStatus.SKIPPED,
+                    CalendarImportRowStatus.SKIPPED, CalendarImportRowStatus.CREATED);
+            assertThat(report.rows().get(0).message()).contains("intervals");
+            assertThat(report.rows().get(1).message()).contains("DTSTART");
+            assertThat(report.rows().get(2).message()).contains("Cancelled");
+
+            Event holiday = imported.getValue().get(0);
+            assertThat(holiday.getDurationMinutes()).isEqualTo(24 * 60);
+            assertThat(holiday.getLabel()).isSameAs(unlabeled);
+            verifyNoInteractions(recurringEventBO, labelService, recurrenceMaterializationService);
+        }
+
+        @Test
+        void fileWithoutCalendar_isRejected() {
+            // Act + Assert
+            assertThatThrownBy(() -> importFile(CalendarFormat.ICS, "type,name\r\nEVENT,Review\r\n"))
+                    .isInstanceOf(InvalidCalendarParameterException.class);
+            verifyNoInteractions(eventBO);
+        }
+    }
+
+    @Nested
+    class TabularTests {
+
+        @Test
+        void csvExport_isImportedAndMissingLabelsCreatedTogether() throws Exception {
+            // Arrange
+            String file = String.join(",", CsvCalendarExportWriter.COLUMNS) + "\r\n"
+                    + "EVENT,7,\"Review, part 1\",\"Line one\nLine two\",Work,"
+                    + "2025-06-10T09:00:00-04:00,2025-06-10T09:45:00-04:00,America/New_York,true,,,,,,\r\n"
+                    + "RECURRING_EVENT,11,Stand-up,,Meetings,,,America/New_York,,"
+                    + "2025-06-02,,09:00:00,09:15:00,\"WEEKLY:MONDAY,FRIDAY\",2025-06-16;2025-06-20\r\n";
+            when(labelService.getOrCreateLabelsByName(eq(user), any())).thenAnswer(invocation -> {
+                Set<String> names = invocation.getArgument(1);
+                return names.stream().map(name -> TestUtils.createValidLabelWithId(2L, name, user)).toList();
+            });
+            ArgumentCaptor<List<Event>> imported = stubEventImport();
+            stubRecurringEventSave();
+            stubWeeklyRule();
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.CSV, file);
+
+            // Assert
+            assertThat(report.eventsCreated()).isEqualTo(1);
+            assertThat(report.recurringEventsCreated()).isEqualTo(1);
+
+            ArgumentCaptor<Set<String>> names = ArgumentCaptor.forClass(Set.class);
+            verify(labelService).getOrCreateLabelsByName(eq(user), names.capture());
+            assertThat(names.getValue()).containsExactly("Work", "Meetings");
+
+            Event event = imported.getValue().get(0);
+            assertThat(event.getName()).isEqualTo("Review, part 1");
+            assertThat(event.getDescription()).isEqualTo("Line one\nLine two");
+            assertThat(event.getStartTime().toInstant()).isEqualTo(Instant.parse("2025-06-10T13:00:00Z"));
+            assertThat(event.isCompleted()).isFalse();
+            assertThat(event.getLabel().getName()).isEqualTo("Work");
+
+            ArgumentCaptor<RecurringEvent> recurring = ArgumentCaptor.forClass(RecurringEvent.class);
+            verify(recurringEventBO).createRecurringEventWithValidation(recurring.capture());
+            assertThat(recurring.getValue().getSkipDays())
+                    .containsExactlyInAnyOrder(LocalDate.of(2025, 6, 16), LocalDate.of(2025, 6, 20));
+            assertThat(recurring.getValue().getLabel().getName()).isEqualTo("Meetings");
+        }
+
+        @Test
+        void ndjson_badLinesOnlyFailTheirOwnEntry() throws Exception {
+            // Arrange
+            String file = "{\"type\":\"EVENT\",\"name\":\"Review\",\"start\":\"2025-06-10T09:00:00-04:00\","
+                    + "\"end\":\"2025-06-10T09:45:00-04:00\",\"timezone\":\"America/New_York\"}\n"
+                    + "{not json\n"
+                    + "\n"
+                    + "{\"name\":\"No end\",\"start\":\"2025-06-10T09:00:00-04:00\"}\n";
+            stubEventImport();
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.NDJSON, file);
+
+            // Assert
+            assertThat(report.rowsRead()).isEqualTo(3);
+            assertThat(report.rows()).extracting(CalendarImportRowResultDTO::row).containsExactly(1, 2, 3);
+            assertThat(report.rows()).extracting(CalendarImportRowResultDTO::status).containsExactly(
+                    CalendarImportRowStatus.CREATED, CalendarImportRowStatus.SKIPPED, CalendarImportRowStatus.SKIPPED);
+            assertThat(report.rows().get(1).message()).startsWith("Invalid JSON");
+            assertThat(report.rows().get(2).message()).isEqualTo("Start and end are required");
+        }
+    }
+
+    @Nested
+    class ConflictAndLimitTests {
+
+        @Test
+        void conflictingEntries_areCreatedAsDrafts() throws Exception {
+            // Arrange
+            String file = "name,start,end,start_date,start_time,end_time,recurrence\r\n"
+                    + "Review,2025-06-10T09:00:00-04:00,2025-06-10T10:00:00-04:00,,,,\r\n"
+                    + "Stand-up,,,2025-06-02,09:00,09:15,WEEKLY:MONDAY\r\n";
+            when(eventBO.importEvents(eq(user), anyList())).thenAnswer(invocation -> {
+                List<Event> events = invocation.getArgument(1);
+                events.forEach(event -> event.setUnconfirmed(true));
+                return events;
+            });
+            when(recurringEventBO.createRecurringEventWithValidation(any(RecurringEvent.class)))
+                    .thenAnswer(invocation -> {
+                        throw new ConflictException((RecurringEvent) invocation.getArgument(0), Set.of(5L));
+                    })
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(recurrenceRuleService.parseFromString("WEEKLY:MONDAY")).thenReturn(new ParsedRecurrenceInput(
+                    RecurrenceFrequency.WEEKLY, EnumSet.of(DayOfWeek.MONDAY), null));
+            when(recurrenceRuleService.buildSummary(any(), any(), any())).thenReturn("Every Monday");
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.CSV, file);
+
+            // Assert
+            assertThat(report.draftsCreated()).isEqualTo(2);
+            assertThat(report.eventsCreated()).isZero();
+            assertThat(report.recurringEventsCreated()).isZero();
+            assertThat(report.rows()).extracting(CalendarImportRowResultDTO::status)
+                    .containsOnly(CalendarImportRowStatus.CREATED_AS_DRAFT);
+
+            ArgumentCaptor<RecurringEvent> recurring = ArgumentCaptor.forClass(RecurringEvent.class);
+            verify(recurringEventBO, times(2)).createRecurringEventWithValidation(recurring.capture());
+            assertThat(recurring.getValue().isUnconfirmed()).isTrue();
+            verifyNoInteractions(recurrenceMaterializationService);
+        }
+
+        @Test
+        void entriesBeyondTheLimit_areNotRead() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(importService, "maxRows", 2);
+            StringBuilder file = new StringBuilder("name,start,end\r\n");
+            for (int day = 10; day <= 12; day++) {
+                file.append("Event ").append(day).append(",2025-06-").append(day).append("T09:00:00Z,2025-06-")
+                        .append(day).append("T10:00:00Z\r\n");
+            }
+            ArgumentCaptor<List<Event>> imported = stubEventImport();
+
+            // Act
+            CalendarImportReportDTO report = importFile(CalendarFormat.CSV, file.toString());
+
+            // Assert
+            assertThat(report.truncated()).isTrue();
+            assertThat(report.rowsRead()).isEqualTo(2);
+            assertThat(imported.getValue()).hasSize(2);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.yohan.event_planner.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledEmailTemplateTest {
+
+    @Nested
+    class CompileTests {
+
+        @Test
+        void compile_collectsPlaceholdersInOrderOfAppearance() {
+            // Act
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("t",
+                    "<a href=\"{{link}}\">{{ name }}</a> {{link}}");
+
+            // Assert
+            assertEquals(Set.of("link", "name"), template.getPlaceholders());
+            assertEquals("link", template.getPlaceholders().iterator().next());
+        }
+
+        @Test
+        void compile_withUnterminatedPlaceholder_throwsException() {
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> CompiledEmailTemplate.compile("broken", "<p>{{name</p>"));
+            assertEquals("Unterminated placeholder in email template broken", ex.getMessage());
+        }
+
+        @Test
+        void compile_withEmptyPlaceholder_throwsException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> CompiledEmailTemplate.compile("broken", "<p>{{ }}</p>"));
+        }
+    }
+
+    @Nested
+    class RenderTests {
+
+        @Test
+        void render_substitutesEveryOccurrence() {
+            // Arrange
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("t",
+                    "<p>Hi {{name}}, expires in {{minutes}} minutes. Bye {{name}}.</p>");
+
+            // Act
+            String html = template.render(Map.of("name", "Ada", "minutes", 30));
+
+            // Assert
+            assertEquals("<p>Hi Ada, expires in 30 minutes. Bye Ada.</p>", html);
+        }
+
+        @Test
+        void render_withoutPlaceholders_returnsSourceUnchanged() {
+            // Arrange
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("t", "<p>Static</p>");
+
+            // Act & Assert
+            assertEquals("<p>Static</p>", template.render(Map.of()));
+        }
+
+        @Test
+        void render_escapesHtmlInValues() {
+            // Arrange
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("t", "<h2>Hi {{name}}</h2>");
+
+            // Act
+            String html = template.render(Map.of("name", "<script>alert('x') & \"y\"</script>"));
+
+            // Assert
+            assertEquals("<h2>Hi &lt;script&gt;alert(&#39;x&#39;) &amp; &quot;y&quot;&lt;/script&gt;</h2>", html);
+        }
+
+        @Test
+        void render_withNullValue_rendersEmptyString() {
+            // Arrange
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("t", "<h2>Hi {{name}},</h2>");
+            Map<String, Object> values = new HashMap<>();
+            values.put("name", null);
+
+            // Act & Assert
+            assertEquals("<h2>Hi ,</h2>", template.render(values));
+        }
+
+        @Test
+        void render_withMissingValue_throwsException() {
+            // Arrange
+            CompiledEmailTemplate template = CompiledEmailTemplate.compile("welcome", "<h2>Hi {{name}}</h2>");
+
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> template.render(Map.of()));
+            assertEquals("No value for {{name}} in email template welcome", ex.getMessage());
+        }
+    }
+}
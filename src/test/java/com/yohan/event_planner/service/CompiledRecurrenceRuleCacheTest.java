@@ -0,0 +1,180 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.enums.RecurrenceFrequency;
+import com.yohan.event_planner.dto.RecurrenceRuleCacheStatsDTO;
+import com.yohan.event_planner.exception.InvalidRecurrenceRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CompiledRecurrenceRuleCacheTest {
+
+    private RecurrenceRuleService recurrenceRuleService;
+    private CompiledRecurrenceRuleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        recurrenceRuleService = spy(new RecurrenceRuleServiceImpl());
+        cache = new CompiledRecurrenceRuleCache(recurrenceRuleService);
+    }
+
+    @Nested
+    class CompileTests {
+
+        @Test
+        void compile_sameRuleTwice_parsesOnceAndReturnsSameInstance() {
+            // Act
+            CompiledRecurrenceRule first = cache.compile("WEEKLY:MONDAY,FRIDAY");
+            CompiledRecurrenceRule second = cache.compile("WEEKLY:MONDAY,FRIDAY");
+
+            // Assert
+            assertSame(first, second);
+            verify(recurrenceRuleService, times(1)).parseFromString(anyString());
+
+            RecurrenceRuleCacheStatsDTO stats = cache.getStats();
+            assertEquals(1, stats.hits());
+            assertEquals(1, stats.misses());
+            assertEquals(0.5, stats.hitRate());
+        }
+
+        @Test
+        void compile_equivalentRuleStrings_areInterned() {
+            // Act
+            CompiledRecurrenceRule canonical = cache.compile("WEEKLY:MONDAY,FRIDAY");
+            CompiledRecurrenceRule reordered = cache.compile("WEEKLY:FRIDAY,MONDAY");
+
+            // Assert
+            assertSame(canonical, reordered);
+            assertEquals("WEEKLY:MONDAY,FRIDAY", reordered.rule());
+        }
+
+        @Test
+        void compile_producesBitmaskAndOrdinal() {
+            // Act
+            CompiledRecurrenceRule compiled = cache.compile("MONTHLY:2:TUESDAY,THURSDAY");
+
+            // Assert
+            assertEquals(RecurrenceFrequency.MONTHLY, compiled.frequency());
+            assertEquals(2, compiled.ordinal());
+            assertEquals((1 << 1) | (1 << 3), compiled.dayMask());
+            assertEquals(EnumSet.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), compiled.parsed().daysOfWeek());
+            assertTrue(compiled.occursOn(LocalDate.of(2025, 6, 10)));  // 2nd Tuesday
+            assertFalse(compiled.occursOn(LocalDate.of(2025, 6, 17))); // 3rd Tuesday
+        }
+
+        @Test
+        void compile_parsedDaysAreImmutable() {
+            // Act
+            CompiledRecurrenceRule compiled = cache.compile("WEEKLY:MONDAY");
+
+            // Assert
+            assertThrows(UnsupportedOperationException.class,
+                    () -> compiled.parsed().daysOfWeek().add(DayOfWeek.SUNDAY));
+        }
+
+        @Test
+        void compile_invalidRule_propagatesAndIsNotCached() {
+            // Act + Assert
+            assertThrows(InvalidRecurrenceRuleException.class, () -> cache.compile("YEARLY:"));
+            assertEquals(0, cache.getStats().size());
+            assertEquals(1, cache.getStats().misses());
+        }
+    }
+
+    @Nested
+    class OccurrenceMaskTests {
+
+        @Test
+        void occurrenceMask_daily_setsEveryDayOfMonth() {
+            // Act
+            CompiledRecurrenceRule daily = cache.compile("DAILY:");
+
+            // Assert
+            assertEquals((1 << 29) - 1, daily.occurrenceMask(YearMonth.of(2024, 2)));
+            assertEquals(Integer.MAX_VALUE, daily.occurrenceMask(YearMonth.of(2025, 7)));
+        }
+
+        @Test
+        void occurrenceMask_weekly_setsEachMatchingWeekday() {
+            // Act - June 2025 starts on a Sunday
+            int mask = cache.compile("WEEKLY:MONDAY").occurrenceMask(YearMonth.of(2025, 6));
+
+            // Assert - June 2, 9, 16, 23 and 30
+            assertEquals(1 << 1 | 1 << 8 | 1 << 15 | 1 << 22 | 1 << 29, mask);
+        }
+
+        @Test
+        void occurrenceMask_monthly_setsOnlyTheOrdinalWeekday() {
+            // Act
+            int mask = cache.compile("MONTHLY:2:TUESDAY,FRIDAY").occurrenceMask(YearMonth.of(2025, 6));
+
+            // Assert - second Tuesday (June 10) and second Friday (June 13)
+            assertEquals(1 << 9 | 1 << 12, mask);
+        }
+
+        @Test
+        void occurrenceMask_monthlyFourthWeekday_staysWithinShortMonth() {
+            // Act - February 2026 starts on a Sunday and has exactly four of each weekday
+            int mask = cache.compile("MONTHLY:4:SATURDAY").occurrenceMask(YearMonth.of(2026, 2));
+
+            // Assert - February 28
+            assertEquals(1 << 27, mask);
+        }
+    }
+
+    @Nested
+    class BoundTests {
+
+        @Test
+        void compile_beyondMaxSize_evictsLeastRecentlyUsed() {
+            // Arrange
+            ReflectionTestUtils.setField(cache, "maxSize", 2);
+            cache.compile("WEEKLY:MONDAY");
+            cache.compile("WEEKLY:TUESDAY");
+            cache.compile("WEEKLY:MONDAY"); // touch MONDAY so TUESDAY is eldest
+
+            // Act
+            cache.compile("WEEKLY:WEDNESDAY");
+            cache.compile("WEEKLY:MONDAY");
+
+            // Assert
+            RecurrenceRuleCacheStatsDTO stats = cache.getStats();
+            assertEquals(2, stats.size());
+            assertEquals(1, stats.evictions());
+            assertEquals(2, stats.hits());
+            assertEquals(3, stats.misses());
+        }
+
+        @Test
+        void clear_removesEntriesButKeepsCounters() {
+            // Arrange
+            cache.compile("DAILY:");
+            cache.compile("DAILY:");
+
+            // Act
+            cache.clear();
+
+            // Assert
+            RecurrenceRuleCacheStatsDTO stats = cache.getStats();
+            assertEquals(0, stats.size());
+            assertEquals(1, stats.hits());
+            assertEquals(1, stats.misses());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.EmailOutboxMessage;
+import com.yohan.event_planner.domain.enums.EmailOutboxStatus;
+import com.yohan.event_planner.dto.EmailOutboxStatsDTO;
+import com.yohan.event_planner.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxServiceImpl outboxService;
+
+    private final List<MimeMessage> createdMessages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new EmailOutboxServiceImpl(outboxRepository, mailSender, transactionManager,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(outboxService, "fromEmail", "no-reply@example.com");
+        ReflectionTestUtils.setField(outboxService, "fromName", "Event Planner");
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+    }
+
+    private EmailOutboxMessage pending(long id, String recipient, int failedAttempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage(recipient, "Subject", "<p>Body</p>", NOW.minusSeconds(60));
+        ReflectionTestUtils.setField(message, "id", id);
+        ReflectionTestUtils.setField(message, "attempts", failedAttempts);
+        return message;
+    }
+
+    private void stubMimeMessages() {
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = new MimeMessage((Session) null);
+            createdMessages.add(message);
+            return message;
+        });
+    }
+
+    @Nested
+    class EnqueueTests {
+
+        @Test
+        void enqueue_withValidRecipient_savesPendingMessageDueNow() {
+            // Act
+            outboxService.enqueue("user@example.com", "Welcome", "<p>Hi</p>");
+
+            // Assert
+            ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+            verify(outboxRepository).save(captor.capture());
+            EmailOutboxMessage saved = captor.getValue();
+            assertEquals("user@example.com", saved.getRecipient());
+            assertEquals("Welcome", saved.getSubject());
+            assertEquals(EmailOutboxStatus.PENDING, saved.getStatus());
+            assertEquals(0, saved.getAttempts());
+            assertEquals(NOW, saved.getNextAttemptAt());
+            assertEquals(NOW, saved.getCreatedAt());
+        }
+
+        @Test
+        void enqueue_withBlankRecipient_throwsAndSavesNothing() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> outboxService.enqueue(" ", "Welcome", "<p>Hi</p>"));
+            verify(outboxRepository, never()).save(any());
+        }
+
+        @Test
+        void enqueue_withMalformedRecipient_throwsAndSavesNothing() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> outboxService.enqueue("not an address", "Welcome", "<p>Hi</p>"));
+            verify(outboxRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class DeliverDueMessagesTests {
+
+        @Test
+        void deliverDueMessages_whenNothingDue_sendsNothing() {
+            // Arrange
+            when(outboxRepository.lockDueBatch(NOW, 10)).thenReturn(List.of());
+
+            // Act
+            int claimed = outboxService.deliverDueMessages(10);
+
+            // Assert
+            assertEquals(0, claimed);
+            verifyNoInteractions(mailSender);
+        }
+
+        @Test
+        void deliverDueMessages_whenAllSent_sendsBatchOverOneConnectionAndDeletesRows() {
+            // Arrange
+            EmailOutboxMessage first = pending(1L, "a@example.com", 0);
+            EmailOutboxMessage second = pending(2L, "b@example.com", 0);
+            when(outboxRepository.lockDueBatch(NOW, 10)).thenReturn(List.of(first, second));
+            stubMimeMessages();
+
+            // Act
+            int claimed = outboxService.deliverDueMessages(10);
+
+            // Assert
+            assertEquals(2, claimed);
+            verify(mailSender, times(1)).send(any(MimeMessage[].class));
+            verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+            verify(outboxRepository, never()).findAllById(any());
+            assertEquals(NOW.plusSeconds(300), first.getNextAttemptAt());
+
+            EmailOutboxStatsDTO stats = outboxService.getStats();
+            assertEquals(2, stats.sentMessages());
+            assertEquals(0, stats.failedAttempts());
+        }
+
+        @Test
+        void deliverDueMessages_whenOneMessageRejected_retriesOnlyThatMessageWithBackoff() {
+            // Arrange
+            EmailOutboxMessage first = pending(1L, "a@example.com", 0);
+            EmailOutboxMessage second = pending(2L, "b@example.com", 0);
+            when(outboxRepository.lockDueBatch(NOW, 10)).thenReturn(List.of(first, second));
+            when(outboxRepository.findAllById(List.of(2L))).thenReturn(List.of(second));
+            stubMimeMessages();
+            doAnswer(invocation -> {
+                throw new MailSendException("Failed messages", null,
+                        Map.of(createdMessages.get(1), new MessagingException("550 Mailbox unavailable")));
+            }).when(mailSender).send(any(MimeMessage[].class));
+
+            // Act
+            outboxService.deliverDueMessages(10);
+
+            // Assert
+            verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+            assertEquals(EmailOutboxStatus.PENDING, second.getStatus());
+            assertEquals(1, second.getAttempts());
+            assertEquals(NOW.plusSeconds(30), second.getNextAttemptAt());
+            assertEquals("MessagingException: 550 Mailbox unavailable", second.getLastError());
+        }
+
+        @Test
+        void deliverDueMessages_whenServerRejectsLogin_retriesWholeBatch() {
+            // Arrange
+            EmailOutboxMessage first = pending(1L, "a@example.com", 0);
+            EmailOutboxMessage second = pending(2L, "b@example.com", 1);
+            when(outboxRepository.lockDueBatch(NOW, 10)).thenReturn(List.of(first, second));
+            when(outboxRepository.findAllById(any())).thenReturn(List.of(first, second));
+            stubMimeMessages();
+            doThrow(new MailAuthenticationException("535 Authentication failed"))
+                    .when(mailSender).send(any(MimeMessage[].class));
+
+            // Act
+            outboxService.deliverDueMessages(10);
+
+            // Assert
+            verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+            assertEquals(NOW.plusSeconds(30), first.getNextAttemptAt());
+            assertEquals(NOW.plusSeconds(60), second.getNextAttemptAt());
+            assertEquals(2, outboxService.getStats().failedAttempts());
+        }
+
+        @Test
+        void deliverDueMessages_whenAttemptsExhausted_deadLettersMessage() {
+            // Arrange
+            EmailOutboxMessage message = pending(1L, "a@example.com", 2);
+            when(outboxRepository.lockDueBatch(NOW, 10)).thenReturn(List.of(message));
+            when(outboxRepository.findAllById(List.of(1L))).thenReturn(List.of(message));
+            stubMimeMessages();
+            doThrow(new MailAuthenticationException("535 Authentication failed"))
+                    .when(mailSender).send(any(MimeMessage[].class));
+
+            // Act
+            outboxService.deliverDueMessages(10);
+
+            // Assert
+            assertEquals(EmailOutboxStatus.DEAD, message.getStatus());
+            assertEquals(3, message.getAttempts());
+        }
+    }
+
+    @Nested
+    class BackoffTests {
+
+        @Test
+        void backoff_doublesPerAttemptUpToMaximum() {
+            assertEquals(Duration.ofSeconds(30), outboxService.backoff(1));
+            assertEquals(Duration.ofSeconds(60), outboxService.backoff(2));
+            assertEquals(Duration.ofSeconds(1920), outboxService.backoff(7));
+            assertEquals(Duration.ofSeconds(3600), outboxService.backoff(8));
+        }
+
+        @Test
+        void backoff_withVeryLargeAttempt_doesNotOverflow() {
+            assertEquals(Duration.ofSeconds(3600), outboxService.backoff(100));
+        }
+    }
+
+    @Nested
+    class MaintenanceTests {
+
+        @Test
+        void purgeDeadLetters_deletesDeadLettersOlderThanRetention() {
+            // Arrange
+            when(outboxRepository.deleteDeadLettersCreatedBefore(NOW.minus(Duration.ofDays(7)))).thenReturn(4);
+
+            // Act & Assert
+            assertEquals(4, outboxService.purgeDeadLetters(Duration.ofDays(7)));
+        }
+
+        @Test
+        void getStats_reportsQueueDepthDeadLettersAndOldestPendingAge() {
+            // Arrange
+            when(outboxRepository.findOldestCreatedAtByStatus(EmailOutboxStatus.PENDING)).thenReturn(NOW.minusSeconds(5));
+            when(outboxRepository.countByStatus(EmailOutboxStatus.PENDING)).thenReturn(12L);
+            when(outboxRepository.countByStatus(EmailOutboxStatus.DEAD)).thenReturn(1L);
+
+            // Act
+            EmailOutboxStatsDTO stats = outboxService.getStats();
+
+            // Assert
+            assertEquals(12, stats.pendingMessages());
+            assertEquals(1, stats.deadLetters());
+            assertEquals(5000, stats.oldestPendingAgeMillis());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.constants.ApplicationConstants;
 import com.yohan.event_planner.exception.EmailException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -7,8 +8,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -21,14 +24,17 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +46,19 @@ class EmailServiceImplTest {
     @Mock
     private MimeMessage mimeMessage;
 
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    private EmailTemplateRenderer templateRenderer;
+
     private EmailServiceImpl emailService;
 
     @BeforeEach
     void setUp() {
-        emailService = new EmailServiceImpl(mailSender);
+        templateRenderer = new EmailTemplateRenderer(new DefaultResourceLoader());
+        ReflectionTestUtils.invokeMethod(templateRenderer, "init");
+
+        emailService = synchronousService();
         
         // Set up test configuration values
         ReflectionTestUtils.setField(emailService, "fromEmail", "test@example.com");
@@ -53,6 +67,15 @@ class EmailServiceImplTest {
         ReflectionTestUtils.setField(emailService, "verificationLinkBase", "https://test.example.com/verify-email");
     }
 
+    /**
+     * Most tests exercise message building, which only happens on the synchronous path.
+     */
+    private EmailServiceImpl synchronousService() {
+        EmailServiceImpl service = new EmailServiceImpl(mailSender, emailOutboxService, templateRenderer);
+        ReflectionTestUtils.setField(service, "outboxEnabled", false);
+        return service;
+    }
+
     @Nested
     class SendEmailVerificationEmailTests {
 
@@ -504,13 +527,108 @@ class EmailServiceImplTest {
         @Test
         void constructor_withValidMailSender_createsInstance() {
             // Act & Assert
-            assertDoesNotThrow(() -> new EmailServiceImpl(mailSender));
+            assertDoesNotThrow(() -> new EmailServiceImpl(mailSender, emailOutboxService, templateRenderer));
         }
 
         @Test
         void constructor_withNullMailSender_allowsCreation() {
             // Act & Assert - Spring will handle null injection validation
-            assertDoesNotThrow(() -> new EmailServiceImpl(null));
+            assertDoesNotThrow(() -> new EmailServiceImpl(null, null, null));
+        }
+    }
+
+    @Nested
+    class OutboxTests {
+
+        @BeforeEach
+        void enableOutbox() {
+            ReflectionTestUtils.setField(emailService, "outboxEnabled", true);
+        }
+
+        @Test
+        void sendEmailVerificationEmail_withOutboxEnabled_queuesRenderedEmail() {
+            // Act
+            emailService.sendEmailVerificationEmail("user@example.com", "John", "token-123");
+
+            // Assert
+            ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+            verify(emailOutboxService).enqueue(eq("user@example.com"),
+                    eq(ApplicationConstants.EMAIL_VERIFICATION_SUBJECT), body.capture());
+            assertTrue(body.getValue().contains("https://test.example.com/verify-email?token=token-123"));
+            assertTrue(body.getValue().contains("John"));
+            verifyNoInteractions(mailSender);
+        }
+
+        @Test
+        void sendPasswordResetEmail_withOutboxEnabled_queuesRenderedEmail() {
+            // Act
+            emailService.sendPasswordResetEmail("user@example.com", "reset-token", 30);
+
+            // Assert
+            ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+            verify(emailOutboxService).enqueue(eq("user@example.com"),
+                    eq(ApplicationConstants.PASSWORD_RESET_SUBJECT), body.capture());
+            assertTrue(body.getValue().contains("myapp://reset-password?token=reset-token"));
+            verifyNoInteractions(mailSender);
+        }
+
+        @Test
+        void sendWelcomeEmail_withOutboxEnabled_queuesRenderedEmail() {
+            // Act
+            emailService.sendWelcomeEmail("user@example.com", "johndoe");
+
+            // Assert
+            verify(emailOutboxService).enqueue(eq("user@example.com"),
+                    eq(ApplicationConstants.WELCOME_EMAIL_SUBJECT), any(String.class));
+            verifyNoInteractions(mailSender);
+        }
+
+        @Test
+        void sendPasswordChangeConfirmation_withOutboxEnabled_queuesRenderedEmail() {
+            // Act
+            emailService.sendPasswordChangeConfirmation("user@example.com", "johndoe");
+
+            // Assert
+            verify(emailOutboxService).enqueue(eq("user@example.com"),
+                    eq(ApplicationConstants.PASSWORD_CHANGE_SUBJECT), any(String.class));
+            verifyNoInteractions(mailSender);
+        }
+
+        @Test
+        void sendPasswordResetEmail_withOutboxEnabled_rendersExpiryIntoTemplate() {
+            // Act
+            emailService.sendPasswordResetEmail("user@example.com", "reset-token", 45);
+
+            // Assert
+            ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+            verify(emailOutboxService).enqueue(any(), any(), body.capture());
+            assertTrue(body.getValue().contains("This link will expire in <strong>45 minutes</strong>"));
+            assertFalse(body.getValue().contains("{{"));
+        }
+
+        @Test
+        void sendWelcomeEmail_withMarkupInUsername_escapesUsername() {
+            // Act
+            emailService.sendWelcomeEmail("user@example.com", "<b>johndoe</b>");
+
+            // Assert
+            ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+            verify(emailOutboxService).enqueue(any(), any(), body.capture());
+            assertTrue(body.getValue().contains("Hi &lt;b&gt;johndoe&lt;/b&gt;,"));
+        }
+
+        @Test
+        void sendPasswordResetEmail_whenEnqueueFails_throwsEmailException() {
+            // Arrange
+            doThrow(new IllegalArgumentException("Invalid recipient address"))
+                    .when(emailOutboxService).enqueue(any(), any(), any());
+
+            // Act & Assert
+            EmailException thrown = assertThrows(EmailException.class,
+                    () -> emailService.sendPasswordResetEmail("not-an-address", "reset-token", 30));
+
+            assertEquals("Unexpected error sending password reset email", thrown.getMessage());
+            assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
         }
     }
 
@@ -520,7 +638,7 @@ class EmailServiceImplTest {
         @Test
         void emailService_withMissingFromEmail_handlesGracefully() {
             // Arrange
-            EmailServiceImpl testService = new EmailServiceImpl(mailSender);
+            EmailServiceImpl testService = synchronousService();
             ReflectionTestUtils.setField(testService, "fromEmail", null);
             ReflectionTestUtils.setField(testService, "fromName", "Test Sender");
             ReflectionTestUtils.setField(testService, "deepLinkBase", "myapp://reset-password");
@@ -540,7 +658,7 @@ class EmailServiceImplTest {
         @Test
         void emailService_withMissingVerificationLinkBase_handlesGracefully() {
             // Arrange
-            EmailServiceImpl testService = new EmailServiceImpl(mailSender);
+            EmailServiceImpl testService = synchronousService();
             ReflectionTestUtils.setField(testService, "fromEmail", "test@example.com");
             ReflectionTestUtils.setField(testService, "fromName", "Test Sender");
             ReflectionTestUtils.setField(testService, "verificationLinkBase", null);
@@ -560,7 +678,7 @@ class EmailServiceImplTest {
         @Test
         void emailService_withMissingDeepLinkBase_handlesGracefully() {
             // Arrange
-            EmailServiceImpl testService = new EmailServiceImpl(mailSender);
+            EmailServiceImpl testService = synchronousService();
             ReflectionTestUtils.setField(testService, "fromEmail", "test@example.com");
             ReflectionTestUtils.setField(testService, "fromName", "Test Sender");
             ReflectionTestUtils.setField(testService, "deepLinkBase", null);
@@ -580,7 +698,7 @@ class EmailServiceImplTest {
         @Test
         void emailService_withEmptyFromName_sendsEmail() throws MessagingException {
             // Arrange
-            EmailServiceImpl testService = new EmailServiceImpl(mailSender);
+            EmailServiceImpl testService = synchronousService();
             ReflectionTestUtils.setField(testService, "fromEmail", "test@example.com");
             ReflectionTestUtils.setField(testService, "fromName", "");
             ReflectionTestUtils.setField(testService, "deepLinkBase", "myapp://reset-password");
@@ -753,7 +871,7 @@ class EmailServiceImplTest {
         @Test
         void emailService_withAllConfigurationPresent_initializesSuccessfully() {
             // Arrange & Act
-            EmailServiceImpl testService = new EmailServiceImpl(mailSender);
+            EmailServiceImpl testService = synchronousService();
             ReflectionTestUtils.setField(testService, "fromEmail", "test@example.com");
             ReflectionTestUtils.setField(testService, "fromName", "Test Sender");
             ReflectionTestUtils.setField(testService, "deepLinkBase", "myapp://reset-password");
@@ -0,0 +1,147 @@
+package com.yohan.event_planner.service;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailTemplateRendererTest {
+
+    @TempDir
+    Path templateDir;
+
+    private EmailTemplateRenderer rendererFor(String location, boolean hotReload) {
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(renderer, "location", location);
+        ReflectionTestUtils.setField(renderer, "hotReload", hotReload);
+        ReflectionTestUtils.invokeMethod(renderer, "init");
+        return renderer;
+    }
+
+    private EmailTemplateRenderer fileRenderer(boolean hotReload) {
+        return rendererFor(templateDir.toUri().toString(), hotReload);
+    }
+
+    private void write(String filename, String content) throws IOException {
+        Files.writeString(templateDir.resolve(filename), content);
+    }
+
+    @Nested
+    class BundledTemplateTests {
+
+        @Test
+        void bundledTemplates_allCompileAndRender() {
+            // Arrange
+            EmailTemplateRenderer renderer = rendererFor("classpath:templates/email/", false);
+
+            // Act
+            String verification = renderer.render("email-verification", Locale.ENGLISH,
+                    Map.of("firstName", "Ada", "verificationLink", "https://example.com/verify?token=abc"));
+            String reset = renderer.render("password-reset", Locale.ENGLISH,
+                    Map.of("resetLink", "myapp://reset-password?token=abc", "expiryMinutes", 30));
+            String welcome = renderer.render("welcome", null, Map.of("username", "ada"));
+            String changed = renderer.render("password-changed", null, Map.of("username", "ada"));
+
+            // Assert
+            assertTrue(verification.startsWith("<!DOCTYPE html>"));
+            assertTrue(verification.contains("Hi Ada,"));
+            assertTrue(verification.contains("href=\"https://example.com/verify?token=abc\""));
+            assertTrue(reset.contains("<strong>30 minutes</strong>"));
+            assertTrue(welcome.contains("Hi ada,"));
+            assertTrue(changed.contains("<strong>Account:</strong> ada"));
+            assertFalse(verification.contains("{{") || reset.contains("{{") || welcome.contains("{{") || changed.contains("{{"));
+        }
+    }
+
+    @Nested
+    class LocalizationTests {
+
+        @Test
+        void render_prefersMostSpecificVariant() throws IOException {
+            // Arrange
+            write("greeting.html", "Hello {{name}}");
+            write("greeting_pt.html", "Olá {{name}}");
+            write("greeting_pt_BR.html", "Oi {{name}}");
+            EmailTemplateRenderer renderer = fileRenderer(false);
+
+            // Act & Assert
+            assertEquals("Oi Ana", renderer.render("greeting", Locale.of("pt", "BR"), Map.of("name", "Ana")));
+            assertEquals("Olá Ana", renderer.render("greeting", Locale.of("pt", "PT"), Map.of("name", "Ana")));
+            assertEquals("Hello Ana", renderer.render("greeting", Locale.GERMAN, Map.of("name", "Ana")));
+            assertEquals("Hello Ana", renderer.render("greeting", null, Map.of("name", "Ana")));
+        }
+
+        @Test
+        void render_withUnknownTemplate_throwsException() {
+            // Arrange
+            EmailTemplateRenderer renderer = fileRenderer(false);
+
+            // Act & Assert
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> renderer.render("missing", Locale.ENGLISH, Map.of()));
+            assertEquals("No email template named missing", ex.getMessage());
+        }
+    }
+
+    @Nested
+    class HotReloadTests {
+
+        @Test
+        void render_withHotReload_recompilesChangedTemplate() throws IOException {
+            // Arrange
+            write("greeting.html", "Hello {{name}}");
+            EmailTemplateRenderer renderer = fileRenderer(true);
+            assertEquals("Hello Ana", renderer.render("greeting", null, Map.of("name", "Ana")));
+
+            // Act
+            write("greeting.html", "Welcome {{name}}");
+            Files.setLastModifiedTime(templateDir.resolve("greeting.html"),
+                    FileTime.from(Instant.now().plusSeconds(60)));
+
+            // Assert
+            assertEquals("Welcome Ana", renderer.render("greeting", null, Map.of("name", "Ana")));
+        }
+
+        @Test
+        void render_withHotReload_picksUpVariantAddedAfterStartup() throws IOException {
+            // Arrange
+            write("greeting.html", "Hello {{name}}");
+            EmailTemplateRenderer renderer = fileRenderer(true);
+
+            // Act
+            write("greeting_fr.html", "Bonjour {{name}}");
+
+            // Assert
+            assertEquals("Bonjour Ana", renderer.render("greeting", Locale.FRENCH, Map.of("name", "Ana")));
+        }
+
+        @Test
+        void render_withoutHotReload_keepsTemplatesCompiledAtStartup() throws IOException {
+            // Arrange
+            write("greeting.html", "Hello {{name}}");
+            EmailTemplateRenderer renderer = fileRenderer(false);
+
+            // Act
+            write("greeting.html", "Welcome {{name}}");
+            Files.setLastModifiedTime(templateDir.resolve("greeting.html"),
+                    FileTime.from(Instant.now().plusSeconds(60)));
+
+            // Assert
+            assertEquals("Hello Ana", renderer.render("greeting", null, Map.of("name", "Ana")));
+        }
+    }
+}
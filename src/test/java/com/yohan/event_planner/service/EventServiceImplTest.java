@@ -1,11 +1,15 @@
 package com.yohan.event_planner.service;
 
+import com.blazebit.persistence.DefaultKeyset;
+import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.business.EventBO;
 import com.yohan.event_planner.business.RecurringEventBO;
 import com.yohan.event_planner.business.UserBO;
 import com.yohan.event_planner.business.handler.EventPatchHandler;
 import com.yohan.event_planner.dao.EventDAO;
+import com.yohan.event_planner.dao.KeysetCursorCodec;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.RecurringEvent;
@@ -17,10 +21,12 @@ import com.yohan.event_planner.dto.EventFilterDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventResponseDTOFactory;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.WeekViewDTO;
 import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.EventAlreadyConfirmedException;
 import com.yohan.event_planner.exception.EventNotFoundException;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.exception.UserOwnershipException;
 import com.yohan.event_planner.security.AuthenticatedUserProvider;
@@ -40,6 +46,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.domain.Page;
 
+import java.io.Serializable;
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -69,6 +76,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -103,6 +111,8 @@ public class EventServiceImplTest {
     private AuthenticatedUserProvider authenticatedUserProvider;
     @Mock
     private ClockProvider clockProvider;
+    @Mock
+    private RecurrenceMaterializationService recurrenceMaterializationService;
     
     private User user;
     private ZoneId userZoneId;
@@ -238,8 +248,7 @@ public class EventServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
             when(eventBO.getConfirmedEventsPage(user.getId(), endTimeCursor, startTimeCursor, idCursor, limit))
-                    .thenReturn(List.of(event));
-            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(expectedDto);
+                    .thenReturn(List.of(expectedDto));
 
             // Act
             List<EventResponseDTO> results = eventService.getConfirmedEventsPage(endTimeCursor, startTimeCursor, idCursor, limit);
@@ -250,7 +259,6 @@ public class EventServiceImplTest {
 
             verify(authenticatedUserProvider).getCurrentUser();
             verify(eventBO).getConfirmedEventsPage(user.getId(), endTimeCursor, startTimeCursor, idCursor, limit);
-            verify(eventResponseDTOFactory).createFromEvent(event);
         }
 
         @Test
@@ -293,9 +301,7 @@ public class EventServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
             when(eventBO.getConfirmedEventsPage(user.getId(), endTimeCursor, startTimeCursor, idCursor, limit))
-                    .thenReturn(List.of(event1, event2));
-            when(eventResponseDTOFactory.createFromEvent(event1)).thenReturn(dto1);
-            when(eventResponseDTOFactory.createFromEvent(event2)).thenReturn(dto2);
+                    .thenReturn(List.of(dto1, dto2));
 
             // Act
             List<EventResponseDTO> results = eventService.getConfirmedEventsPage(endTimeCursor, startTimeCursor, idCursor, limit);
@@ -307,8 +313,6 @@ public class EventServiceImplTest {
 
             verify(authenticatedUserProvider).getCurrentUser();
             verify(eventBO).getConfirmedEventsPage(user.getId(), endTimeCursor, startTimeCursor, idCursor, limit);
-            verify(eventResponseDTOFactory).createFromEvent(event1);
-            verify(eventResponseDTOFactory).createFromEvent(event2);
         }
 
         @Test
@@ -317,21 +321,15 @@ public class EventServiceImplTest {
             User viewer = createValidUserEntityWithId();
             int largeLimit = 1000; // Large but reasonable limit
             
-            List<Event> manyEvents = new ArrayList<>();
+            List<EventResponseDTO> manyEvents = new ArrayList<>();
             for (int i = 0; i < largeLimit; i++) {
                 Event event = TestUtils.createValidScheduledEventWithId((long) i, viewer, fixedClock);
-                manyEvents.add(event);
+                manyEvents.add(createEventResponseDTO(event));
             }
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
             when(eventBO.getConfirmedEventsPage(viewer.getId(), null, null, null, largeLimit))
                     .thenReturn(manyEvents);
-            
-            // Mock DTO conversion for each event
-            for (Event event : manyEvents) {
-                EventResponseDTO dto = createEventResponseDTO(event);
-                when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(dto);
-            }
 
             // Act
             List<EventResponseDTO> result = eventService.getConfirmedEventsPage(null, null, null, largeLimit);
@@ -350,8 +348,7 @@ public class EventServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
             when(eventBO.getConfirmedEventsPage(viewer.getId(), null, null, null, 1))
-                    .thenReturn(List.of(singleEvent));
-            when(eventResponseDTOFactory.createFromEvent(singleEvent)).thenReturn(dto);
+                    .thenReturn(List.of(dto));
 
             // Act
             List<EventResponseDTO> result = eventService.getConfirmedEventsPage(null, null, null, 1);
@@ -397,8 +394,7 @@ public class EventServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
             when(eventBO.getUnconfirmedEventsForUser(eq(user.getId())))
-                    .thenReturn(List.of(draft));
-            when(eventResponseDTOFactory.createFromEvent(draft)).thenReturn(expectedDto);
+                    .thenReturn(List.of(expectedDto));
 
             // Act
             List<EventResponseDTO> results = eventService.getUnconfirmedEventsForCurrentUser();
@@ -410,7 +406,6 @@ public class EventServiceImplTest {
             // Verify
             verify(authenticatedUserProvider).getCurrentUser();
             verify(eventBO).getUnconfirmedEventsForUser(user.getId());
-            verify(eventResponseDTOFactory).createFromEvent(draft);
         }
 
         @Test
@@ -426,9 +421,7 @@ public class EventServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
             when(eventBO.getUnconfirmedEventsForUser(eq(user.getId())))
-                    .thenReturn(List.of(draft1, draft2));
-            when(eventResponseDTOFactory.createFromEvent(draft1)).thenReturn(dto1);
-            when(eventResponseDTOFactory.createFromEvent(draft2)).thenReturn(dto2);
+                    .thenReturn(List.of(dto1, dto2));
 
             // Act
             List<EventResponseDTO> results = eventService.getUnconfirmedEventsForCurrentUser();
@@ -441,8 +434,6 @@ public class EventServiceImplTest {
             // Verify
             verify(authenticatedUserProvider).getCurrentUser();
             verify(eventBO).getUnconfirmedEventsForUser(user.getId());
-            verify(eventResponseDTOFactory).createFromEvent(draft1);
-            verify(eventResponseDTOFactory).createFromEvent(draft2);
         }
     }
 
@@ -472,7 +463,7 @@ public class EventServiceImplTest {
             // Assert
             assertNotNull(dayViewDTO, "DayViewDTO should not be null.");
             assertEquals(0, dayViewDTO.events().size(), "The events list should be empty for a future date.");
-            verify(eventBO, never()).solidifyRecurrences(user.getId(), startOfDay, nowInUtc, userZoneId);
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
         }
 
         @Test
@@ -489,9 +480,7 @@ public class EventServiceImplTest {
             User user1 = TestUtils.createValidUserEntity();
             Event event2 = TestUtils.createValidScheduledEvent(user1, fixedClock);
 
-            when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay)).thenReturn(Arrays.asList(event1, event2));
-            when(eventResponseDTOFactory.createFromEvent(event1)).thenReturn(createEventResponseDTO(event1));
-            when(eventResponseDTOFactory.createFromEvent(event2)).thenReturn(createEventResponseDTO(event2));
+            when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay)).thenReturn(Arrays.asList(createEventResponseDTO(event1), createEventResponseDTO(event2)));
 
             // Mock the EventBO method that creates the DayViewDTO
             List<EventResponseDTO> confirmedEventDTOs = Arrays.asList(createEventResponseDTO(event1), createEventResponseDTO(event2));
@@ -505,7 +494,7 @@ public class EventServiceImplTest {
             // Assert
             assertNotNull(dayViewDTO, "DayViewDTO should not be null.");
             assertEquals(2, dayViewDTO.events().size(), "The events list should contain 2 events.");
-            verify(eventBO, never()).solidifyRecurrences(user.getId(), startOfDay, nowInUtc, userZoneId);
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
         }
 
         @Test
@@ -563,8 +552,7 @@ public class EventServiceImplTest {
             EventResponseDTO solidifiedEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
-                    .thenReturn(Collections.singletonList(solidifiedEvent));
-            when(eventResponseDTOFactory.createFromEvent(solidifiedEvent)).thenReturn(solidifiedEventDTO);
+                    .thenReturn(Collections.singletonList(solidifiedEventDTO));
 
             // Mock virtual event
             EventResponseDTO virtualEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
@@ -591,7 +579,6 @@ public class EventServiceImplTest {
             // Verify calls
             verify(eventBO).getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay);
             verify(recurringEventBO).generateVirtuals(user.getId(), startOfDay, endOfDay, userZoneId);
-            verify(eventResponseDTOFactory).createFromEvent(solidifiedEvent);
         }
 
         @Test
@@ -632,8 +619,7 @@ public class EventServiceImplTest {
             Event event1 = TestUtils.createValidScheduledEvent(user, fixedClock);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
-                    .thenReturn(Collections.singletonList(event1));
-            when(eventResponseDTOFactory.createFromEvent(event1)).thenReturn(createEventResponseDTO(event1));
+                    .thenReturn(Collections.singletonList(createEventResponseDTO(event1)));
 
             // Mock the EventBO method that creates the DayViewDTO
             List<EventResponseDTO> confirmedEvents = Collections.singletonList(createEventResponseDTO(event1));
@@ -664,8 +650,7 @@ public class EventServiceImplTest {
             EventResponseDTO solidifiedEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
-                    .thenReturn(Collections.singletonList(solidifiedEvent));
-            when(eventResponseDTOFactory.createFromEvent(solidifiedEvent)).thenReturn(solidifiedEventDTO);
+                    .thenReturn(Collections.singletonList(solidifiedEventDTO));
 
             // Mock virtual event
             EventResponseDTO virtualEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
@@ -691,7 +676,6 @@ public class EventServiceImplTest {
 
             // Verify interactions
             verify(eventBO).getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay);
-            verify(eventResponseDTOFactory).createFromEvent(solidifiedEvent);
             verify(recurringEventBO).generateVirtuals(user.getId(), startOfDay, endOfDay, userZoneId);
         }
 
@@ -753,11 +737,10 @@ public class EventServiceImplTest {
             EventResponseDTO eventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
-                    .thenReturn(Collections.singletonList(event));
-            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(eventDTO);
+                    .thenReturn(Collections.singletonList(eventDTO));
 
-            // Mock solidification of past recurrences
-            doNothing().when(eventBO).solidifyRecurrences(eq(user.getId()), eq(startOfDay), eq(endOfDay), eq(userZoneId));
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, endOfDay)).thenReturn(true);
 
             // Mock the EventBO method that creates the DayViewDTO
             List<EventResponseDTO> confirmedEvents = Collections.singletonList(eventDTO);
@@ -773,13 +756,42 @@ public class EventServiceImplTest {
             assertEquals(1, dayViewDTO.events().size(), "The events list should contain 1 event (solidified).");
             assertTrue(dayViewDTO.events().contains(eventDTO), "The event should be the confirmed solidified EventResponseDTO.");
 
-            // Verify solidifyRecurrences was called for the past day with correct end window
-            verify(eventBO).solidifyRecurrences(user.getId(), startOfDay, endOfDay, userZoneId);
+            // Verify the catch-up materialized through the end of the past day
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), endOfDay);
 
             // Verify virtuals were not generated for past dates
             verifyNoInteractions(recurringEventBO);
         }
 
+        @Test
+        void shouldStayReadOnlyWhenMaterializationIsCurrent() {
+            // Arrange
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+
+            LocalDate selectedDate = nowInUserZone.toLocalDate().minusDays(1);
+            ZonedDateTime startOfDay = selectedDate.atStartOfDay(userZoneId).withZoneSameInstant(ZoneOffset.UTC);
+            ZonedDateTime endOfDay = selectedDate.plusDays(1).atStartOfDay(userZoneId)
+                    .withZoneSameInstant(ZoneOffset.UTC)
+                    .minusNanos(1);
+
+            when(recurrenceMaterializationService.isBehind(user, endOfDay)).thenReturn(false);
+            when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
+                    .thenReturn(Collections.emptyList());
+
+            DayViewDTO expectedDayView = new DayViewDTO(selectedDate, Collections.emptyList());
+            when(eventBO.generateDayViewData(eq(selectedDate), eq(Collections.emptyList()), eq(Collections.emptyList())))
+                    .thenReturn(expectedDayView);
+
+            // Act
+            DayViewDTO dayViewDTO = eventService.generateDayView(selectedDate);
+
+            // Assert
+            assertEquals(expectedDayView, dayViewDTO);
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
+            verify(eventBO, never()).solidifyRecurrences(anyLong(), any(), any(), any());
+        }
+
         @Test
         void shouldReturnEmptyEventsForFutureDateWithMultipleVirtualEvents() {
             // Arrange
@@ -813,7 +825,7 @@ public class EventServiceImplTest {
             // Verify interactions
             verify(eventBO).getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay);
             verify(recurringEventBO).generateVirtuals(user.getId(), startOfDay, endOfDay, userZoneId);
-            verify(eventBO, never()).solidifyRecurrences(anyLong(), any(), any(), any());
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
         }
 
         @Test
@@ -840,6 +852,9 @@ public class EventServiceImplTest {
             when(eventBO.generateDayViewData(eq(selectedDate), eq(Collections.emptyList()), eq(Collections.emptyList())))
                     .thenReturn(expectedDayView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             DayViewDTO dayViewDTO = eventService.generateDayView(selectedDate);
 
@@ -847,8 +862,8 @@ public class EventServiceImplTest {
             assertNotNull(dayViewDTO, "DayViewDTO should not be null.");
             assertEquals(0, dayViewDTO.events().size(), "The events list should be empty.");
 
-            // Verify solidify was called for today up to now
-            verify(eventBO).solidifyRecurrences(user.getId(), startOfDay, nowInUtc, userZoneId);
+            // Verify the catch-up materialized today up to now
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
 
             // Verify virtuals generation was called with correct parameters
             verify(recurringEventBO).generateVirtuals(user.getId(), nowInUtc, endOfDay, userZoneId);
@@ -870,8 +885,7 @@ public class EventServiceImplTest {
             EventResponseDTO confirmedEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), startOfDay, endOfDay))
-                    .thenReturn(Collections.singletonList(confirmedEvent));
-            when(eventResponseDTOFactory.createFromEvent(confirmedEvent)).thenReturn(confirmedEventDTO);
+                    .thenReturn(Collections.singletonList(confirmedEventDTO));
 
             // Mock virtual event
             EventResponseDTO virtualEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
@@ -886,6 +900,9 @@ public class EventServiceImplTest {
             when(eventBO.generateDayViewData(eq(today), eq(confirmedEvents), eq(virtualEvents)))
                     .thenReturn(expectedDayView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             DayViewDTO dayViewDTO = eventService.generateDayView(today);
 
@@ -895,8 +912,8 @@ public class EventServiceImplTest {
             assertTrue(dayViewDTO.events().contains(confirmedEventDTO), "Should contain confirmed event DTO.");
             assertTrue(dayViewDTO.events().contains(virtualEventDTO), "Should contain virtual event DTO.");
 
-            // Verify solidify
-            verify(eventBO).solidifyRecurrences(user.getId(), startOfDay, nowInUtc, userZoneId);
+            // Verify the catch-up
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
         }
 
         @Test
@@ -920,6 +937,9 @@ public class EventServiceImplTest {
             when(eventBO.generateDayViewData(eq(today), eq(Collections.emptyList()), eq(Collections.emptyList())))
                     .thenReturn(expectedDayView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             DayViewDTO dayViewDTO = eventService.generateDayView(today);
 
@@ -927,8 +947,8 @@ public class EventServiceImplTest {
             assertNotNull(dayViewDTO, "DayViewDTO should not be null.");
             assertEquals(0, dayViewDTO.events().size(), "The events list should be empty.");
 
-            // Verify solidify
-            verify(eventBO).solidifyRecurrences(user.getId(), startOfDay, nowInUtc, userZoneId);
+            // Verify the catch-up
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
             verify(recurringEventBO).generateVirtuals(user.getId(), nowInUtc, endOfDay, userZoneId);
         }
 
@@ -962,6 +982,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(userZoneId), eq(Collections.emptyList()), eq(Collections.emptyList())))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, weekEndTime)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -970,8 +993,8 @@ public class EventServiceImplTest {
             assertEquals(7, weekViewDTO.days().size(), "Should contain 7 days.");
             weekViewDTO.days().forEach(day -> assertTrue(day.events().isEmpty(), "Each day should have no events."));
 
-            // Verify solidifyRecurrences was called for the entire week
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, weekEndTime, userZoneId);
+            // Verify the catch-up materialized through the end of the week
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), weekEndTime);
 
             // Verify no virtuals generated for past week
             verifyNoInteractions(recurringEventBO);
@@ -1008,10 +1031,7 @@ public class EventServiceImplTest {
             EventResponseDTO eventWednesdayDTO = createEventResponseDTO(eventWednesday);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), weekStartTime, weekEndTime))
-                    .thenReturn(Arrays.asList(eventMonday, eventWednesday));
-
-            when(eventResponseDTOFactory.createFromEvent(eventMonday)).thenReturn(eventMondayDTO);
-            when(eventResponseDTOFactory.createFromEvent(eventWednesday)).thenReturn(eventWednesdayDTO);
+                    .thenReturn(Arrays.asList(eventMondayDTO, eventWednesdayDTO));
 
             // Mock the EventBO method that creates the WeekViewDTO
             List<EventResponseDTO> confirmedEvents = Arrays.asList(eventMondayDTO, eventWednesdayDTO);
@@ -1029,6 +1049,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(userZoneId), eq(confirmedEvents), eq(Collections.emptyList())))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, weekEndTime)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -1047,8 +1070,8 @@ public class EventServiceImplTest {
             assertTrue(mondayHasEvent, "Monday should contain the confirmed event.");
             assertTrue(wednesdayHasEvent, "Wednesday should contain the confirmed event.");
 
-            // Verify solidifyRecurrences was called for the entire week
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, weekEndTime, userZoneId);
+            // Verify the catch-up materialized through the end of the week
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), weekEndTime);
 
             // Verify no virtuals generated for past week
             verifyNoInteractions(recurringEventBO);
@@ -1079,9 +1102,7 @@ public class EventServiceImplTest {
             EventResponseDTO eventTuesdayDTO = createEventResponseDTO(eventTuesday);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), weekStartTime, weekEndTime))
-                    .thenReturn(Collections.singletonList(eventTuesday));
-
-            when(eventResponseDTOFactory.createFromEvent(eventTuesday)).thenReturn(eventTuesdayDTO);
+                    .thenReturn(Collections.singletonList(eventTuesdayDTO));
 
             // Mock generateVirtuals to return empty
             when(recurringEventBO.generateVirtuals(user.getId(), nowInUtc, weekEndTime, userZoneId))
@@ -1103,6 +1124,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(userZoneId), eq(confirmedEvents), eq(Collections.emptyList())))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -1116,8 +1140,8 @@ public class EventServiceImplTest {
 
             assertTrue(tuesdayHasEvent, "Tuesday should contain the confirmed event.");
 
-            // Verify solidifyRecurrences was called up to now
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, nowInUtc, userZoneId);
+            // Verify the catch-up materialized up to now
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
 
             // Verify virtuals generated with nowInUtc as start window
             verify(recurringEventBO).generateVirtuals(user.getId(), nowInUtc, weekEndTime, userZoneId);
@@ -1164,6 +1188,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(userZoneId), eq(Collections.emptyList()), eq(virtualEvents)))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -1176,8 +1203,8 @@ public class EventServiceImplTest {
 
             assertTrue(anyDayHasVirtualEvent, "At least one day should contain the virtual event.");
 
-            // Verify solidifyRecurrences was called up to now
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, nowInUtc, userZoneId);
+            // Verify the catch-up materialized up to now
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
 
             // Verify virtuals generated with nowInUtc as start window
             verify(recurringEventBO).generateVirtuals(user.getId(), nowInUtc, weekEndTime, userZoneId);
@@ -1208,9 +1235,7 @@ public class EventServiceImplTest {
             EventResponseDTO confirmedEventDTO = createEventResponseDTO(confirmedEvent);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), weekStartTime, weekEndTime))
-                    .thenReturn(Collections.singletonList(confirmedEvent));
-
-            when(eventResponseDTOFactory.createFromEvent(confirmedEvent)).thenReturn(confirmedEventDTO);
+                    .thenReturn(Collections.singletonList(confirmedEventDTO));
 
             // Mock virtual event DTO
             EventResponseDTO virtualEventDTO = TestUtils.createValidScheduledEventResponseDTO(fixedClock);
@@ -1235,6 +1260,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(userZoneId), eq(confirmedEvents), eq(virtualEvents)))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, nowInUtc)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -1252,8 +1280,8 @@ public class EventServiceImplTest {
             assertTrue(thursdayHasConfirmedEvent, "Thursday should contain the confirmed event.");
             assertTrue(anyDayHasVirtualEvent, "At least one day should contain the virtual event.");
 
-            // Verify solidifyRecurrences was called up to now
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, nowInUtc, userZoneId);
+            // Verify the catch-up materialized up to now
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), nowInUtc);
 
             // Verify virtuals generated with nowInUtc as start window
             verify(recurringEventBO).generateVirtuals(user.getId(), nowInUtc, weekEndTime, userZoneId);
@@ -1303,8 +1331,8 @@ public class EventServiceImplTest {
             assertEquals(7, weekViewDTO.days().size(), "Should contain 7 days.");
             weekViewDTO.days().forEach(day -> assertTrue(day.events().isEmpty(), "Each day should have no events."));
 
-            // Verify solidifyRecurrences was NOT called for future week
-            verify(eventBO, never()).solidifyRecurrences(anyLong(), any(), any(), any());
+            // Verify no catch-up ran for the future week
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
 
             // Verify virtuals generated with weekStartTime as start window
             verify(recurringEventBO).generateVirtuals(user.getId(), weekStartTime, weekEndTime, userZoneId);
@@ -1383,8 +1411,8 @@ public class EventServiceImplTest {
 
             assertTrue(anyDayHasVirtualEvent, "At least one day should contain the virtual event.");
 
-            // Verify solidifyRecurrences was NOT called for future week
-            verify(eventBO, never()).solidifyRecurrences(anyLong(), any(), any(), any());
+            // Verify no catch-up ran for the future week
+            verify(recurrenceMaterializationService, never()).materializeThrough(any(), any());
 
             // Verify virtuals generated with weekStartTime as start window
             verify(recurringEventBO).generateVirtuals(user.getId(), weekStartTime, weekEndTime, userZoneId);
@@ -1425,10 +1453,7 @@ public class EventServiceImplTest {
             EventResponseDTO sundayDTO = createEventResponseDTO(sundayEvent);
 
             when(eventBO.getConfirmedEventsForUserInRange(user.getId(), weekStartTime, weekEndTime))
-                    .thenReturn(Arrays.asList(saturdayEvent, sundayEvent));
-
-            when(eventResponseDTOFactory.createFromEvent(saturdayEvent)).thenReturn(saturdayDTO);
-            when(eventResponseDTOFactory.createFromEvent(sundayEvent)).thenReturn(sundayDTO);
+                    .thenReturn(Arrays.asList(saturdayDTO, sundayDTO));
 
             // Mock the EventBO method that creates the WeekViewDTO
             List<EventResponseDTO> confirmedEvents = Arrays.asList(saturdayDTO, sundayDTO);
@@ -1446,6 +1471,9 @@ public class EventServiceImplTest {
             when(eventBO.generateWeekViewData(eq(user.getId()), eq(anchorDate), eq(dstZoneId), eq(confirmedEvents), eq(Collections.emptyList())))
                     .thenReturn(expectedWeekView);
 
+            // Mock that the viewer's recurrence materialization is behind
+            when(recurrenceMaterializationService.isBehind(user, weekEndTime)).thenReturn(true);
+
             // Act
             WeekViewDTO weekViewDTO = eventService.generateWeekView(anchorDate);
 
@@ -1464,8 +1492,8 @@ public class EventServiceImplTest {
             assertTrue(saturdayHasEvent, "Saturday should contain the confirmed event before DST transition.");
             assertTrue(sundayHasEvent, "Sunday should contain the confirmed event after DST transition.");
 
-            // Verify solidifyRecurrences was called for the entire week (since it's in the past)
-            verify(eventBO).solidifyRecurrences(user.getId(), weekStartTime, weekEndTime, dstZoneId);
+            // Verify the catch-up materialized through the end of the week (since it's in the past)
+            verify(recurrenceMaterializationService).materializeThrough(user.getId(), weekEndTime);
 
             // Verify virtuals were NOT called for past week
             verifyNoInteractions(recurringEventBO);
@@ -2739,6 +2767,154 @@ public class EventServiceImplTest {
 
     }
 
+    @Nested
+    class GetConfirmedEventsForCurrentUserAfterTests {
+
+        private PagedList<Event> pageOf(List<Event> events, Keyset highest) {
+            PagedList<Event> page = mock(PagedList.class);
+            when(page.stream()).thenReturn(events.stream());
+            if (highest != null) {
+                KeysetPage keysetPage = mock(KeysetPage.class);
+                when(keysetPage.getHighest()).thenReturn(highest);
+                when(page.getKeysetPage()).thenReturn(keysetPage);
+            }
+            return page;
+        }
+
+        @Test
+        void fullFirstPage_returnsCursorOfLastEvent() {
+            // Arrange
+            Event event = TestUtils.createValidScheduledEventWithId(TestConstants.EVENT_ID, user, fixedClock);
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, false, true);
+            Keyset highest = new DefaultKeyset(new Serializable[]{event.getStartTime(), event.getId()});
+            PagedList<Event> page = pageOf(List.of(event), highest);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+            when(eventDAO.findConfirmedEventsAfter(eq(user.getId()), any(EventFilterDTO.class), isNull(), eq(1)))
+                    .thenReturn(page);
+            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(createEventResponseDTO(event));
+
+            // Act
+            KeysetPageDTO<EventResponseDTO> result = eventService.getConfirmedEventsForCurrentUserAfter(filter, null, 1, false);
+
+            // Assert
+            assertEquals(1, result.content().size());
+            assertEquals(KeysetCursorCodec.encode(highest, false), result.nextCursor());
+            assertEquals(null, result.totalElements());
+            verify(eventDAO, never()).findConfirmedEvents(any(), any(), any(Integer.class), any(Integer.class));
+        }
+
+        @Test
+        void cursor_isDecodedIntoKeysetForDao() {
+            // Arrange
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, true, true);
+            Keyset previous = new DefaultKeyset(new Serializable[]{nowInUtc, 17L});
+            String cursor = KeysetCursorCodec.encode(previous, true);
+            PagedList<Event> page = pageOf(List.of(), null);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+            when(eventDAO.findConfirmedEventsAfter(eq(user.getId()), any(EventFilterDTO.class), any(Keyset.class), eq(10)))
+                    .thenReturn(page);
+
+            // Act
+            KeysetPageDTO<EventResponseDTO> result = eventService.getConfirmedEventsForCurrentUserAfter(filter, cursor, 10, false);
+
+            // Assert - A short page ends the results
+            assertTrue(result.content().isEmpty());
+            assertEquals(null, result.nextCursor());
+            verify(eventDAO).findConfirmedEventsAfter(eq(user.getId()), any(EventFilterDTO.class),
+                    argThat(keyset -> Arrays.equals(keyset.getTuple(), previous.getTuple())), eq(10));
+        }
+
+        @Test
+        void invalidCursor_isRejectedBeforeQuerying() {
+            // Arrange
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, false, true);
+            String ascendingCursor = KeysetCursorCodec.encode(new DefaultKeyset(new Serializable[]{nowInUtc, 1L}), false);
+            EventFilterDTO descendingFilter = new EventFilterDTO(null, TimeFilter.ALL, null, null, true, true);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+
+            // Act & Assert
+            InvalidCalendarParameterException malformed = assertThrows(InvalidCalendarParameterException.class,
+                    () -> eventService.getConfirmedEventsForCurrentUserAfter(filter, "garbage", 10, false));
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> eventService.getConfirmedEventsForCurrentUserAfter(descendingFilter, ascendingCursor, 10, false));
+
+            assertEquals(ErrorCode.INVALID_PAGINATION_PARAMETER, malformed.getErrorCode());
+            verifyNoInteractions(eventDAO);
+        }
+
+        @Test
+        void estimateTotal_usesPlannerEstimateWhenMorePagesFollow() {
+            // Arrange
+            Event event = TestUtils.createValidScheduledEventWithId(TestConstants.EVENT_ID, user, fixedClock);
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, false, true);
+            Keyset highest = new DefaultKeyset(new Serializable[]{event.getStartTime(), event.getId()});
+            PagedList<Event> page = pageOf(List.of(event), highest);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+            when(eventDAO.findConfirmedEventsAfter(eq(user.getId()), any(EventFilterDTO.class), isNull(), eq(1)))
+                    .thenReturn(page);
+            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(createEventResponseDTO(event));
+            when(eventDAO.estimateConfirmedEvents(eq(user.getId()), any(EventFilterDTO.class))).thenReturn(1200L);
+
+            // Act
+            KeysetPageDTO<EventResponseDTO> result = eventService.getConfirmedEventsForCurrentUserAfter(filter, null, 1, true);
+
+            // Assert
+            assertEquals(1200L, result.totalElements());
+            assertTrue(result.totalEstimated());
+        }
+
+        @Test
+        void estimateTotal_isExactWhenFirstPageHoldsEverything() {
+            // Arrange
+            Event event = TestUtils.createValidScheduledEventWithId(TestConstants.EVENT_ID, user, fixedClock);
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, false, true);
+            PagedList<Event> page = pageOf(List.of(event), null);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+            when(eventDAO.findConfirmedEventsAfter(eq(user.getId()), any(EventFilterDTO.class), isNull(), eq(10)))
+                    .thenReturn(page);
+            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(createEventResponseDTO(event));
+
+            // Act
+            KeysetPageDTO<EventResponseDTO> result = eventService.getConfirmedEventsForCurrentUserAfter(filter, null, 10, true);
+
+            // Assert
+            assertEquals(1L, result.totalElements());
+            assertEquals(false, result.totalEstimated());
+            verify(eventDAO, never()).estimateConfirmedEvents(any(), any());
+        }
+
+        @Test
+        void offsetSearchWithEstimate_skipsCountQuery() {
+            // Arrange
+            Event event = TestUtils.createValidScheduledEventWithId(TestConstants.EVENT_ID, user, fixedClock);
+            EventFilterDTO filter = new EventFilterDTO(null, TimeFilter.ALL, null, null, false, true);
+            PagedList<Event> page = pageOf(List.of(event), null);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+            when(clockProvider.getClockForUser(user)).thenReturn(fixedClock);
+            when(eventDAO.findConfirmedEvents(eq(user.getId()), any(EventFilterDTO.class), eq(3), eq(1), eq(false)))
+                    .thenReturn(page);
+            when(eventResponseDTOFactory.createFromEvent(event)).thenReturn(createEventResponseDTO(event));
+            when(eventDAO.estimateConfirmedEvents(eq(user.getId()), any(EventFilterDTO.class))).thenReturn(50L);
+
+            // Act
+            Page<EventResponseDTO> result = eventService.getConfirmedEventsForCurrentUser(filter, 3, 1, true);
+
+            // Assert
+            assertEquals(50L, result.getTotalElements());
+            verify(page, never()).getTotalSize();
+        }
+    }
+
     @Nested
     class UnpinImpromptuEventForCurrentUserTests {
 
@@ -22,11 +22,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -511,6 +514,65 @@ public class LabelServiceImplTest {
         }
     }
 
+    @Nested
+    class GetOrCreateLabelsByNameTests {
+
+        @Test
+        void shouldReuseExistingLabelsAndCreateMissingOnesTogether() {
+            // Arrange
+            Label work = TestUtils.createValidLabelWithId(2L, "Work", testUser);
+            Set<String> names = new LinkedHashSet<>(List.of("Meetings ", "Work", " Focus"));
+            when(labelRepository.findAllByCreatorIdOrderByNameAsc(testUser.getId())).thenReturn(List.of(work));
+            when(labelRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<Label> result = labelService.getOrCreateLabelsByName(testUser, names);
+
+            // Assert
+            assertThat(result).extracting(Label::getName).containsExactly("Meetings", "Work", "Focus");
+            assertThat(result.get(1)).isSameAs(work);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Label>> created = ArgumentCaptor.forClass(List.class);
+            verify(labelRepository).saveAll(created.capture());
+            assertThat(created.getValue()).extracting(Label::getName).containsExactly("Meetings", "Focus");
+            assertThat(created.getValue()).extracting(Label::getColor).containsOnly(LabelColor.GRAY);
+            assertThat(created.getValue()).extracting(Label::getCreator).containsOnly(testUser);
+        }
+
+        @Test
+        void shouldNotSaveWhenAllLabelsExist() {
+            // Arrange
+            Label work = TestUtils.createValidLabelWithId(2L, "Work", testUser);
+            when(labelRepository.findAllByCreatorIdOrderByNameAsc(testUser.getId())).thenReturn(List.of(work));
+
+            // Act
+            List<Label> result = labelService.getOrCreateLabelsByName(testUser, Set.of("Work"));
+
+            // Assert
+            assertThat(result).containsExactly(work);
+            verify(labelRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        void shouldRejectNameThatIsEmptyAfterTrimming() {
+            // Arrange
+            Set<String> names = new LinkedHashSet<>(List.of("Work", "   "));
+
+            // Act + Assert
+            assertThrows(LabelException.class, () -> labelService.getOrCreateLabelsByName(testUser, names));
+            verifyNoInteractions(labelRepository);
+        }
+
+        @Test
+        void shouldReturnEmptyListForNoNames() {
+            // Act + Assert
+            assertThat(labelService.getOrCreateLabelsByName(testUser, Set.of())).isEmpty();
+            assertThat(labelService.getOrCreateLabelsByName(testUser, null)).isEmpty();
+            verifyNoInteractions(labelRepository);
+        }
+    }
+
     @Nested
     class UpdateLabelTests {
 
@@ -1,9 +1,11 @@
 package com.yohan.event_planner.service;
 
-import com.yohan.event_planner.domain.LabelTimeBucket;
-import com.yohan.event_planner.domain.enums.LabelColor;
+import com.yohan.event_planner.domain.LabelTimeBucketOutboxEntry;
+import com.yohan.event_planner.domain.enums.TimeBucketType;
 import com.yohan.event_planner.dto.EventChangeContextDTO;
-import com.yohan.event_planner.dto.LabelResponseDTO;
+import com.yohan.event_planner.dto.LabelTimeBucketDeltaDTO;
+import com.yohan.event_planner.dto.LabelTimeBucketOutboxStatsDTO;
+import com.yohan.event_planner.repository.LabelTimeBucketOutboxRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,29 +13,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Optional;
 
 
+import static com.yohan.event_planner.domain.enums.TimeBucketType.ALL_TIME;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.DAY;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
 import static com.yohan.event_planner.domain.enums.TimeBucketType.WEEK;
+import static com.yohan.event_planner.domain.enums.TimeBucketType.YEAR;
 import static com.yohan.event_planner.util.TestConstants.USER_ID;
 import static com.yohan.event_planner.util.TestConstants.VALID_EVENT_DURATION_MINUTES;
 import static com.yohan.event_planner.util.TestConstants.VALID_LABEL_ID;
-import static com.yohan.event_planner.util.TestConstants.VALID_LABEL_NAME;
 import static com.yohan.event_planner.util.TestConstants.VALID_TIMEZONE;
 import static com.yohan.event_planner.util.TestConstants.getValidEventStartFuture;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -45,32 +49,47 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @ExtendWith(MockitoExtension.class)
 public class LabelTimeBucketServiceImplTest {
 
-    private LabelService labelService;
     private LabelTimeBucketRepository bucketRepository;
+    private LabelTimeBucketOutboxRepository outboxRepository;
+    private MonthSummaryCache monthSummaryCache;
     private Clock fixedClock;
 
     private LabelTimeBucketServiceImpl bucketService;
 
     @BeforeEach
     void setUp() {
-        labelService = mock(LabelService.class);
         bucketRepository = mock(LabelTimeBucketRepository.class);
+        outboxRepository = mock(LabelTimeBucketOutboxRepository.class);
+        monthSummaryCache = mock(MonthSummaryCache.class);
 
         fixedClock = Clock.fixed(Instant.parse("2025-06-29T12:00:00Z"), ZoneId.of("UTC"));
 
 
-        bucketService = new LabelTimeBucketServiceImpl(labelService, bucketRepository);
+        bucketService = new LabelTimeBucketServiceImpl(bucketRepository, outboxRepository, fixedClock, monthSummaryCache);
+    }
+
+    /**
+     * Captures the deltas passed to the single upsert issued for the given user.
+     */
+    @SuppressWarnings("unchecked")
+    private List<LabelTimeBucketDeltaDTO> captureDeltas(long userId) {
+        ArgumentCaptor<List<LabelTimeBucketDeltaDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bucketRepository, times(1)).upsertDurations(eq(userId), captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<LabelTimeBucketDeltaDTO> ofType(List<LabelTimeBucketDeltaDTO> deltas, TimeBucketType type) {
+        return deltas.stream().filter(delta -> delta.bucketType() == type).toList();
     }
 
     @Nested
     class RevertTests {
 
         @Test
-        void testRevert_removesAllRelevantTimeBuckets() {
+        void testRevert_upsertsNegativeDeltaForAllRelevantTimeBuckets() {
             // Arrange
             long userId = 1L;
             long labelId = 10L;
-            int originalDuration = 90;
             int revertAmount = 30;
             ZoneId timezone = ZoneId.of("America/New_York");
 
@@ -78,49 +97,18 @@ public class LabelTimeBucketServiceImplTest {
                     2024, 1, 1, 0, 0, 0, 0, timezone
             );
 
-            LabelTimeBucket dayBucket = new LabelTimeBucket(userId, labelId, VALID_LABEL_NAME, DAY, 2024, 20240101);
-            dayBucket.setDurationMinutes(originalDuration);
-
-            LabelTimeBucket weekBucket = new LabelTimeBucket(userId, labelId, VALID_LABEL_NAME, WEEK, 2024, 1);
-            weekBucket.setDurationMinutes(originalDuration);
-
-            LabelTimeBucket monthBucket = new LabelTimeBucket(userId, labelId, VALID_LABEL_NAME, MONTH, 2024, 1);
-            monthBucket.setDurationMinutes(originalDuration);
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240101)).thenReturn(Optional.of(dayBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 1)).thenReturn(Optional.of(weekBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 1)).thenReturn(Optional.of(monthBucket));
-
-            // Mock labelService to provide label name
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(
-                            labelId,
-                            "Test Label",
-                            LabelColor.BLUE,
-                            "testuser"
-                    ));
-
             // Act
             bucketService.revert(userId, labelId, startTime, revertAmount, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).hasSize(3);
-
-            assertThat(saved).allSatisfy(bucket -> {
-                assertThat(bucket.getUserId()).isEqualTo(userId);
-                assertThat(bucket.getLabelId()).isEqualTo(labelId);
-                assertThat(bucket.getDurationMinutes()).isEqualTo(originalDuration - revertAmount);
-            });
-
-            assertThat(saved).extracting(LabelTimeBucket::getBucketType)
-                    .containsExactlyInAnyOrder(DAY, WEEK, MONTH);
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(deltas).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2024, 20240101, -revertAmount),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 1, -revertAmount),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 1, -revertAmount),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2024, 2024, -revertAmount),
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, -revertAmount)
+            );
         }
 
     }
@@ -129,7 +117,7 @@ public class LabelTimeBucketServiceImplTest {
     class ApplyTests {
 
         @Test
-        void testApply_addsAllRelevantTimeBuckets() {
+        void testApply_upsertsPositiveDeltaForAllRelevantTimeBuckets() {
             // Arrange
             long userId = 1L;
             long labelId = 10L;
@@ -139,51 +127,61 @@ public class LabelTimeBucketServiceImplTest {
                     2024, 1, 1, 0, 0, 0, 0, timezone
             );
 
-            int durationMinutes = 60;
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    eq(userId), eq(labelId), eq(DAY), eq(2024), eq(20240101)
-            )).thenReturn(Optional.empty());
+            // Act
+            bucketService.apply(userId, labelId, startTime, 60, timezone);
 
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    eq(userId), eq(labelId), eq(WEEK), eq(2024), eq(1)
-            )).thenReturn(Optional.empty());
+            // Assert
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(deltas).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2024, 20240101, 60),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 1, 60),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 1, 60),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2024, 2024, 60),
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, 60)
+            );
+        }
 
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    eq(userId), eq(labelId), eq(MONTH), eq(2024), eq(1)
-            )).thenReturn(Optional.empty());
+        @Test
+        void testApply_invalidatesCachedMonthSummaryOfChangedMonth() {
+            // Arrange
+            long userId = 1L;
+            long labelId = 10L;
+            ZoneId timezone = ZoneId.of("America/New_York");
 
-            // Mock labelService to provide label name
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(
-                            labelId,
-                            "Test Label",
-                            LabelColor.BLUE,
-                            "testuser"
-                    ));
+            ZonedDateTime startTime = ZonedDateTime.of(
+                    2024, 3, 15, 9, 0, 0, 0, timezone
+            );
 
             // Act
-            bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
+            bucketService.apply(userId, labelId, startTime, 60, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).hasSize(3);
+            verify(monthSummaryCache).invalidate(userId, YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        }
 
-            assertThat(saved).extracting(LabelTimeBucket::getBucketType)
-                    .containsExactlyInAnyOrder(DAY, WEEK, MONTH);
+        @Test
+        void testApply_multiDayEventCoalescesWeekAndMonthDeltas() {
+            // Arrange: Three full days inside one ISO week and one month
+            long userId = 1L;
+            long labelId = 10L;
+            ZoneId timezone = ZoneId.of("UTC");
+            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 11, 0, 0, 0, 0, timezone);
+            int durationMinutes = 3 * 24 * 60;
 
-            assertThat(saved).extracting(LabelTimeBucket::getBucketValue)
-                    .containsExactlyInAnyOrder(20240101, 1, 1);
+            // Act
+            bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
-            assertThat(saved).allSatisfy(bucket -> {
-                assertThat(bucket.getUserId()).isEqualTo(userId);
-                assertThat(bucket.getLabelId()).isEqualTo(labelId);
-                assertThat(bucket.getBucketYear()).isEqualTo(2024);
-                assertThat(bucket.getDurationMinutes()).isEqualTo(60);
-            });
+            // Assert
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(ofType(deltas, DAY)).hasSize(3);
+            assertThat(ofType(deltas, WEEK)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 24, durationMinutes));
+            assertThat(ofType(deltas, MONTH)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 6, durationMinutes));
+            assertThat(ofType(deltas, YEAR)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2024, 2024, durationMinutes));
+            assertThat(ofType(deltas, ALL_TIME)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, durationMinutes));
         }
     }
 
@@ -209,117 +207,127 @@ public class LabelTimeBucketServiceImplTest {
                     true    // isNowCompleted
             );
 
-            when(labelService.getLabelById(VALID_LABEL_ID))
-                    .thenReturn(new LabelResponseDTO(
-                            VALID_LABEL_ID,
-                            "Test Label",
-                            LabelColor.BLUE,
-                            "testuser"
-                    ));
+            // Act
+            bucketService.handleEventChange(context);
+
+            // Assert
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(USER_ID);
+            assertThat(deltas).isNotEmpty();
+            assertThat(deltas).allSatisfy(delta -> assertThat(delta.deltaMinutes()).isPositive());
+        }
+
+        @Test
+        void testHandleEventChange_revertsWhenNoLongerCompleted() {
+            // Arrange
+            ZonedDateTime startTime = getValidEventStartFuture(fixedClock);
+            ZoneId zoneId = ZoneId.of(VALID_TIMEZONE);
+
+            EventChangeContextDTO context = new EventChangeContextDTO(
+                    USER_ID,
+                    VALID_LABEL_ID,
+                    null,
+                    startTime,
+                    null,
+                    VALID_EVENT_DURATION_MINUTES,
+                    null,
+                    zoneId,
+                    true,   // wasCompleted
+                    false   // isNowCompleted
+            );
 
             // Act
             bucketService.handleEventChange(context);
 
             // Assert
-            verify(bucketRepository, times(1)).saveAll(any(List.class));
-            verify(bucketRepository, never()).deleteAll(any(List.class));
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(USER_ID);
+            assertThat(deltas).isNotEmpty();
+            assertThat(deltas).allSatisfy(delta -> assertThat(delta.deltaMinutes()).isNegative());
         }
 
-    }
+        @Test
+        void testHandleEventChange_revertsAndAppliesInSingleUpsertWhenStillCompleted() {
+            // Arrange: 60 minutes moved to 90 minutes one hour later on the same day
+            long userId = 1L;
+            ZoneId zoneId = ZoneId.of("UTC");
+            ZonedDateTime oldStart = ZonedDateTime.of(2024, 6, 12, 9, 0, 0, 0, zoneId);
+            ZonedDateTime newStart = oldStart.plusHours(1);
 
-    @Test
-    void testHandleEventChange_revertsWhenNoLongerCompleted() {
-        // Arrange
-        ZonedDateTime startTime = getValidEventStartFuture(fixedClock);
-        ZoneId zoneId = ZoneId.of(VALID_TIMEZONE);
-
-        EventChangeContextDTO context = new EventChangeContextDTO(
-                USER_ID,
-                VALID_LABEL_ID,
-                null,
-                startTime,
-                null,
-                VALID_EVENT_DURATION_MINUTES,
-                null,
-                zoneId,
-                true,   // wasCompleted
-                false   // isNowCompleted
-        );
-
-        when(labelService.getLabelById(VALID_LABEL_ID))
-                .thenReturn(new LabelResponseDTO(
-                        VALID_LABEL_ID,
-                        "Test Label",
-                        LabelColor.BLUE,
-                        "testuser"
-                ));
-
-        // Act
-        bucketService.handleEventChange(context);
-
-        // Assert
-        verify(bucketRepository).saveAll(any(List.class));
-        verify(bucketRepository, never()).deleteAll(any(List.class));
-    }
+            EventChangeContextDTO context = new EventChangeContextDTO(
+                    userId,
+                    VALID_LABEL_ID,
+                    VALID_LABEL_ID,
+                    oldStart,
+                    newStart,
+                    60,   // old duration
+                    90,   // new duration
+                    zoneId,
+                    true,  // wasCompleted
+                    true   // isNowCompleted
+            );
 
-    @Test
-    void testHandleEventChange_revertsAndAppliesWhenStillCompleted() {
-        // Arrange
-        ZonedDateTime oldStart = getValidEventStartFuture(fixedClock);
-        ZonedDateTime newStart = oldStart.plusHours(1);
-        ZoneId zoneId = ZoneId.of(VALID_TIMEZONE);
-
-        EventChangeContextDTO context = new EventChangeContextDTO(
-                USER_ID,
-                VALID_LABEL_ID,
-                VALID_LABEL_ID, // same label ID, still mocked
-                oldStart,
-                newStart,
-                60,   // old duration
-                90,   // new duration
-                zoneId,
-                true,  // wasCompleted
-                true   // isNowCompleted
-        );
-
-        when(labelService.getLabelById(VALID_LABEL_ID))
-                .thenReturn(new LabelResponseDTO(
-                        VALID_LABEL_ID,
-                        "Test Label",
-                        LabelColor.BLUE,
-                        "testuser"
-                ));
-
-        // Act
-        bucketService.handleEventChange(context);
-
-        // Assert
-        verify(bucketRepository, times(2)).saveAll(any(List.class)); // revert + apply
-        verify(bucketRepository, never()).deleteAll(any(List.class));
-    }
+            // Act
+            bucketService.handleEventChange(context);
+
+            // Assert - revert and apply net out into one delta per bucket
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(deltas).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, DAY, 2024, 20240612, 30),
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, WEEK, 2024, 24, 30),
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, MONTH, 2024, 6, 30),
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, YEAR, 2024, 2024, 30),
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, ALL_TIME, 0, 0, 30)
+            );
+        }
 
-    @Test
-    void testHandleEventChange_noopWhenStillIncomplete() {
-        // Arrange
-        EventChangeContextDTO context = new EventChangeContextDTO(
-                USER_ID,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                ZoneId.of(VALID_TIMEZONE),
-                false,  // wasCompleted
-                false   // isNowCompleted
-        );
-
-        // Act
-        bucketService.handleEventChange(context);
-
-        // Assert
-        verifyNoInteractions(bucketRepository);
-        
+        @Test
+        void testHandleEventChange_unchangedAllocationSkipsUpsert() {
+            // Arrange: Completed event re-saved with identical time and label
+            ZonedDateTime startTime = getValidEventStartFuture(fixedClock);
+            ZoneId zoneId = ZoneId.of(VALID_TIMEZONE);
+
+            EventChangeContextDTO context = new EventChangeContextDTO(
+                    USER_ID,
+                    VALID_LABEL_ID,
+                    VALID_LABEL_ID,
+                    startTime,
+                    startTime,
+                    60,
+                    60,
+                    zoneId,
+                    true,
+                    true
+            );
+
+            // Act
+            bucketService.handleEventChange(context);
+
+            // Assert
+            verifyNoInteractions(bucketRepository);
+        }
+
+        @Test
+        void testHandleEventChange_noopWhenStillIncomplete() {
+            // Arrange
+            EventChangeContextDTO context = new EventChangeContextDTO(
+                    USER_ID,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    ZoneId.of(VALID_TIMEZONE),
+                    false,  // wasCompleted
+                    false   // isNowCompleted
+            );
+
+            // Act
+            bucketService.handleEventChange(context);
+
+            // Assert
+            verifyNoInteractions(bucketRepository);
+
+        }
     }
 
     @Nested
@@ -331,60 +339,29 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("America/New_York");
-            
+
             // December 31, 2023 11:30 PM EST
             ZonedDateTime startTime = ZonedDateTime.of(2023, 12, 31, 23, 30, 0, 0, timezone);
             int durationMinutes = 120; // 2 hours total
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
-            // Mock repository responses for all bucket types for both days
-            // Day buckets
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2023, 20231231)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240101)).thenReturn(Optional.empty());
-            
-            // Week buckets (Dec 31, 2023 is week 52 of 2023, Jan 1, 2024 is week 1 of 2024)
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2023, 52)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 1)).thenReturn(Optional.empty());
-            
-            // Month buckets
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2023, 12)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 1)).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            
-            // Should create buckets for both days
-            List<LabelTimeBucket> dayBuckets = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .toList();
-            
-            assertThat(dayBuckets).hasSize(2);
-            
-            // First day (Dec 31) should have 30 minutes (11:30 PM to midnight)
-            LabelTimeBucket dec31Bucket = dayBuckets.stream()
-                    .filter(bucket -> bucket.getBucketValue() == 20231231)
-                    .findFirst().orElseThrow();
-            assertThat(dec31Bucket.getDurationMinutes()).isEqualTo(30);
-            
-            // Second day (Jan 1) should have 90 minutes (midnight to 1:30 AM)
-            LabelTimeBucket jan1Bucket = dayBuckets.stream()
-                    .filter(bucket -> bucket.getBucketValue() == 20240101)
-                    .findFirst().orElseThrow();
-            assertThat(jan1Bucket.getDurationMinutes()).isEqualTo(90);
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+
+            // Dec 31, 2023 is week 52 of 2023, Jan 1, 2024 is week 1 of 2024
+            assertThat(deltas).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2023, 20231231, 30),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2023, 52, 30),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2023, 12, 30),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2023, 2023, 30),
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2024, 20240101, 90),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 1, 90),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 1, 90),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2024, 2024, 90),
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, 120)
+            );
         }
 
         @Test
@@ -393,30 +370,18 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("America/New_York");
-            
+
             // March 10, 2024 1:30 AM EST (before DST transition)
             ZonedDateTime startTime = ZonedDateTime.of(2024, 3, 10, 1, 30, 0, 0, timezone);
             int durationMinutes = 120; // 2 hours
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "DST Label", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
             // Assert - should handle DST transition gracefully
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).isNotEmpty();
-            
-            // Verify DST transition handled gracefully without exceptions
-            verify(bucketRepository).saveAll(any(List.class));
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(ofType(deltas, DAY))
+                    .containsExactly(new LabelTimeBucketDeltaDTO(labelId, DAY, 2024, 20240310, durationMinutes));
         }
 
         @Test
@@ -425,32 +390,19 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("UTC");
-            
+
             ZonedDateTime startTime = ZonedDateTime.of(2023, 12, 31, 23, 0, 0, 0, timezone);
             int durationMinutes = 120; // 2 hours
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Year Boundary", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
 
-            List<LabelTimeBucket> saved = captor.getValue();
-            
             // Check that we have buckets for both years
-            boolean has2023Buckets = saved.stream().anyMatch(bucket -> bucket.getBucketYear() == 2023);
-            boolean has2024Buckets = saved.stream().anyMatch(bucket -> bucket.getBucketYear() == 2024);
-            
-            assertThat(has2023Buckets).isTrue();
-            assertThat(has2024Buckets).isTrue();
+            assertThat(deltas).anyMatch(delta -> delta.bucketYear() == 2023);
+            assertThat(deltas).anyMatch(delta -> delta.bucketYear() == 2024);
         }
 
         @Test
@@ -459,33 +411,19 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("Europe/London");
-            
+
             // January 1, 2024 is a Monday (week 1 of 2024)
             ZonedDateTime startTime = ZonedDateTime.of(2024, 1, 1, 10, 0, 0, 0, timezone);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "ISO Week", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            
-            LabelTimeBucket weekBucket = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == WEEK)
-                    .findFirst().orElseThrow();
-            
-            assertThat(weekBucket.getBucketYear()).isEqualTo(2024);
-            assertThat(weekBucket.getBucketValue()).isEqualTo(1); // Week 1
+            LabelTimeBucketDeltaDTO weekDelta = ofType(captureDeltas(userId), WEEK).get(0);
+
+            assertThat(weekDelta.bucketYear()).isEqualTo(2024);
+            assertThat(weekDelta.bucketValue()).isEqualTo(1); // Week 1
         }
 
         @Test
@@ -497,93 +435,17 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
             int durationMinutes = 0;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Zero Duration", LabelColor.BLUE, "testuser"));
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
-            // Assert - When duration is 0, no time slices are created, so no buckets are processed
-            verify(labelService).getLabelById(labelId); // Label is still retrieved
-            
-            // saveAll should be called with an empty list since no time slices are created
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-            
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).isEmpty(); // No buckets created when duration is 0
-            
-            // Verify no repository lookups were made since no slices were created
-            verify(bucketRepository, never()).findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class));
-        }
-
-        @Test
-        void testRevert_existingBucketsWithSufficientTime() {
-            // Arrange
-            long userId = 1L;
-            long labelId = 10L;
-            ZoneId timezone = ZoneId.of("UTC");
-            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
-            int durationToRevert = 30;
-
-            // Create existing buckets with sufficient time
-            LabelTimeBucket existingDayBucket = new LabelTimeBucket(userId, labelId, "Test", DAY, 2024, 20240615);
-            existingDayBucket.setDurationMinutes(60);
-            
-            LabelTimeBucket existingWeekBucket = new LabelTimeBucket(userId, labelId, "Test", WEEK, 2024, 24);
-            existingWeekBucket.setDurationMinutes(120);
-            
-            LabelTimeBucket existingMonthBucket = new LabelTimeBucket(userId, labelId, "Test", MONTH, 2024, 6);
-            existingMonthBucket.setDurationMinutes(180);
-
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240615
-            )).thenReturn(Optional.of(existingDayBucket));
-            
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 24
-            )).thenReturn(Optional.of(existingWeekBucket));
-            
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 6
-            )).thenReturn(Optional.of(existingMonthBucket));
-
-            // Act
-            bucketService.revert(userId, labelId, startTime, durationToRevert, timezone);
-
-            // Assert
-            assertThat(existingDayBucket.getDurationMinutes()).isEqualTo(30);
-            assertThat(existingWeekBucket.getDurationMinutes()).isEqualTo(90);
-            assertThat(existingMonthBucket.getDurationMinutes()).isEqualTo(150);
+            // Assert - When duration is 0, no time slices are created, so no round trip is made
+            verify(bucketRepository, never()).upsertDurations(any(), anyList());
         }
     }
 
     @Nested
     class ErrorScenarioTests {
 
-        @Test
-        void testAdjust_labelServiceThrowsException() {
-            // Arrange
-            long userId = 1L;
-            long labelId = 999L; // Non-existent label
-            ZoneId timezone = ZoneId.of("UTC");
-            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
-            int durationMinutes = 60;
-
-            when(labelService.getLabelById(labelId))
-                    .thenThrow(new RuntimeException("Label not found"));
-
-            // Act & Assert
-            assertThrows(RuntimeException.class, () -> 
-                bucketService.apply(userId, labelId, startTime, durationMinutes, timezone));
-            
-            verify(bucketRepository, never()).saveAll(any());
-        }
-
         @Test
         void testAdjust_repositoryThrowsException() {
             // Arrange
@@ -593,18 +455,11 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
-            doThrow(new RuntimeException("Database error"))
-                    .when(bucketRepository).saveAll(any(List.class));
+            when(bucketRepository.upsertDurations(eq(userId), anyList()))
+                    .thenThrow(new RuntimeException("Database error"));
 
             // Act & Assert
-            assertThrows(RuntimeException.class, () -> 
+            assertThrows(RuntimeException.class, () ->
                 bucketService.apply(userId, labelId, startTime, durationMinutes, timezone));
         }
     }
@@ -618,32 +473,16 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("America/Los_Angeles"); // UTC-8/UTC-7
-            
+
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, ZoneOffset.UTC);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Pacific Time", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
-            // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).isNotEmpty();
-            
-            // Event at 12:00 UTC should be 5:00 AM PDT, so bucket should be for June 15
-            LabelTimeBucket dayBucket = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .findFirst().orElseThrow();
-            assertThat(dayBucket.getBucketValue()).isEqualTo(20240615);
+            // Assert - Event at 12:00 UTC should be 5:00 AM PDT, so bucket should be for June 15
+            LabelTimeBucketDeltaDTO dayDelta = ofType(captureDeltas(userId), DAY).get(0);
+            assertThat(dayDelta.bucketValue()).isEqualTo(20240615);
         }
 
         @Test
@@ -652,31 +491,16 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("Asia/Tokyo"); // UTC+9
-            
+
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 20, 0, 0, 0, ZoneOffset.UTC);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Tokyo Time", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
-            // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            
-            // Event at 20:00 UTC should be 5:00 AM JST on June 16
-            LabelTimeBucket dayBucket = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .findFirst().orElseThrow();
-            assertThat(dayBucket.getBucketValue()).isEqualTo(20240616); // Next day in JST
+            // Assert - Event at 20:00 UTC should be 5:00 AM JST on June 16
+            LabelTimeBucketDeltaDTO dayDelta = ofType(captureDeltas(userId), DAY).get(0);
+            assertThat(dayDelta.bucketValue()).isEqualTo(20240616); // Next day in JST
         }
     }
 
@@ -693,44 +517,27 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 23, 0, 0, 0, timezone); // Start at 11 PM
             int durationMinutes = 25 * 60; // 25 hours to ensure day boundary crossing
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Long Event", LabelColor.BLUE, "testuser"));
-
-            // Mock repository responses for both days (June 15 and 16, 2024)
-            // Day buckets
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240615)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240616)).thenReturn(Optional.empty());
-            
-            // Week buckets (both days are in week 24 of 2024)
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 24)).thenReturn(Optional.empty());
-            
-            // Month buckets (both days are in June 2024)
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 6)).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
 
-            List<LabelTimeBucket> saved = captor.getValue();
-            
             // Should span two days
-            List<LabelTimeBucket> dayBuckets = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .toList();
-            assertThat(dayBuckets).hasSize(2);
-            
+            List<LabelTimeBucketDeltaDTO> dayDeltas = ofType(deltas, DAY);
+            assertThat(dayDeltas).hasSize(2);
+
             // Total duration should equal original
-            int totalDuration = dayBuckets.stream()
-                    .mapToInt(LabelTimeBucket::getDurationMinutes)
+            int totalDuration = dayDeltas.stream()
+                    .mapToInt(LabelTimeBucketDeltaDTO::deltaMinutes)
                     .sum();
             assertThat(totalDuration).isEqualTo(durationMinutes);
+
+            // Both days are in week 24 and June 2024
+            assertThat(ofType(deltas, WEEK))
+                    .containsExactly(new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 24, durationMinutes));
+            assertThat(ofType(deltas, MONTH))
+                    .containsExactly(new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 6, durationMinutes));
         }
 
         @Test
@@ -739,32 +546,20 @@ public class LabelTimeBucketServiceImplTest {
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("UTC");
-            
+
             // June 16, 2024 is a Sunday
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 16, 20, 0, 0, 0, timezone);
             int durationMinutes = 3 * 24 * 60; // 3 days
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Multi Week", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, startTime, durationMinutes, timezone);
 
-            // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            
-            // Should have buckets for both weeks
-            List<LabelTimeBucket> weekBuckets = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == WEEK)
-                    .toList();
-            assertThat(weekBuckets.size()).isGreaterThanOrEqualTo(1); // At least one week bucket
+            // Assert - Sunday evening lands in week 24, the rest in week 25
+            List<LabelTimeBucketDeltaDTO> weekDeltas = ofType(captureDeltas(userId), WEEK);
+            assertThat(weekDeltas).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 24, 4 * 60),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 25, durationMinutes - 4 * 60)
+            );
         }
     }
 
@@ -780,18 +575,12 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
             int negativeDuration = -30;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
             // Act - Service should handle negative duration gracefully
-            // Note: Negative duration may result in empty time slices
+            // Note: Negative duration results in no time slices
             bucketService.apply(userId, labelId, startTime, negativeDuration, timezone);
-            
-            // Assert - Verify the service processes it without throwing exception
-            verify(labelService).getLabelById(labelId);
-            
-            // The service may or may not call saveAll depending on slice generation
-            // This test primarily verifies no exceptions are thrown
+
+            // Assert - Verify the service processes it without throwing exception or writing
+            verify(bucketRepository, never()).upsertDurations(any(), anyList());
         }
     }
 
@@ -807,30 +596,17 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime leapYearDate = ZonedDateTime.of(2024, 2, 29, 10, 0, 0, 0, timezone);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Leap Year", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240229)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 9)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 2)).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, leapYearDate, durationMinutes, timezone);
 
             // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            LabelTimeBucket dayBucket = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .findFirst().orElseThrow();
-            
-            // Verify correct day bucket value for Feb 29
-            assertThat(dayBucket.getBucketValue()).isEqualTo(20240229);
+            assertThat(captureDeltas(userId)).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2024, 20240229, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2024, 9, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2024, 2, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2024, 2024, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, durationMinutes)
+            );
         }
 
         @Test
@@ -842,31 +618,17 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime edgeCaseDate = ZonedDateTime.of(2021, 1, 1, 10, 0, 0, 0, timezone);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "ISO Week Edge", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2021, 20210101)).thenReturn(Optional.empty());
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2020, 53)).thenReturn(Optional.empty()); // Week 53 of 2020!
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2021, 1)).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, edgeCaseDate, durationMinutes, timezone);
 
-            // Assert
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            LabelTimeBucket weekBucket = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == WEEK)
-                    .findFirst().orElseThrow();
-            
-            // Jan 1, 2021 should belong to week 53 of 2020 per ISO 8601
-            assertThat(weekBucket.getBucketYear()).isEqualTo(2020);
-            assertThat(weekBucket.getBucketValue()).isEqualTo(53);
+            // Assert - Jan 1, 2021 should belong to week 53 of 2020 per ISO 8601
+            assertThat(captureDeltas(userId)).containsExactlyInAnyOrder(
+                    new LabelTimeBucketDeltaDTO(labelId, DAY, 2021, 20210101, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, WEEK, 2020, 53, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, MONTH, 2021, 1, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, YEAR, 2021, 2021, durationMinutes),
+                    new LabelTimeBucketDeltaDTO(labelId, ALL_TIME, 0, 0, durationMinutes)
+            );
         }
 
         @Test
@@ -878,29 +640,13 @@ public class LabelTimeBucketServiceImplTest {
             ZonedDateTime midnightStart = ZonedDateTime.of(2024, 6, 15, 0, 0, 0, 0, timezone);
             int durationMinutes = 60;
 
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Midnight Test", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.apply(userId, labelId, midnightStart, durationMinutes, timezone);
 
-            // Assert - Should handle midnight boundary correctly
-            ArgumentCaptor<List<LabelTimeBucket>> captor = ArgumentCaptor.forClass(List.class);
-            verify(bucketRepository).saveAll(captor.capture());
-
-            List<LabelTimeBucket> saved = captor.getValue();
-            assertThat(saved).isNotEmpty();
-            
-            // All buckets should be for June 15, not split across days
-            List<LabelTimeBucket> dayBuckets = saved.stream()
-                    .filter(bucket -> bucket.getBucketType() == DAY)
-                    .toList();
-            assertThat(dayBuckets).hasSize(1);
-            assertThat(dayBuckets.get(0).getBucketValue()).isEqualTo(20240615);
+            // Assert - All time should be for June 15, not split across days
+            List<LabelTimeBucketDeltaDTO> dayDeltas = ofType(captureDeltas(userId), DAY);
+            assertThat(dayDeltas).hasSize(1);
+            assertThat(dayDeltas.get(0).bucketValue()).isEqualTo(20240615);
         }
     }
 
@@ -910,13 +656,14 @@ public class LabelTimeBucketServiceImplTest {
         @Test
         void testHandleEventChange_labelChangeWithoutCompletionChange() {
             // Arrange: Event stays completed but changes labels
-            ZonedDateTime startTime = getValidEventStartFuture(fixedClock);
-            ZoneId timezone = ZoneId.of(VALID_TIMEZONE);
-            
+            long userId = 1L;
+            ZoneId timezone = ZoneId.of("UTC");
+            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 12, 9, 0, 0, 0, timezone);
+
             EventChangeContextDTO context = new EventChangeContextDTO(
-                    USER_ID,
+                    userId,
                     VALID_LABEL_ID,      // old label
-                    VALID_LABEL_ID + 1,  // new label  
+                    VALID_LABEL_ID + 1,  // new label
                     startTime,           // same time
                     startTime,           // same time
                     60,                  // same duration
@@ -926,22 +673,18 @@ public class LabelTimeBucketServiceImplTest {
                     true                 // still completed
             );
 
-            when(labelService.getLabelById(VALID_LABEL_ID))
-                    .thenReturn(new LabelResponseDTO(VALID_LABEL_ID, "Old Label", LabelColor.BLUE, "testuser"));
-            when(labelService.getLabelById(VALID_LABEL_ID + 1))
-                    .thenReturn(new LabelResponseDTO(VALID_LABEL_ID + 1, "New Label", LabelColor.GREEN, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.handleEventChange(context);
 
-            // Assert - Should revert old label and apply new label
-            verify(bucketRepository, times(2)).saveAll(any(List.class)); // revert + apply
-            verify(labelService).getLabelById(VALID_LABEL_ID);      // for revert
-            verify(labelService).getLabelById(VALID_LABEL_ID + 1);  // for apply
+            // Assert - Old label debited and new label credited in one round trip
+            List<LabelTimeBucketDeltaDTO> deltas = captureDeltas(userId);
+            assertThat(deltas).hasSize(10);
+            assertThat(deltas).filteredOn(delta -> delta.labelId().equals(VALID_LABEL_ID))
+                    .hasSize(5)
+                    .allSatisfy(delta -> assertThat(delta.deltaMinutes()).isEqualTo(-60));
+            assertThat(deltas).filteredOn(delta -> delta.labelId().equals(VALID_LABEL_ID + 1))
+                    .hasSize(5)
+                    .allSatisfy(delta -> assertThat(delta.deltaMinutes()).isEqualTo(60));
         }
 
         @Test
@@ -960,103 +703,172 @@ public class LabelTimeBucketServiceImplTest {
                     true                 // now completed
             );
 
-            when(labelService.getLabelById(VALID_LABEL_ID))
-                    .thenReturn(new LabelResponseDTO(VALID_LABEL_ID, "New Label", LabelColor.GREEN, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    any(Long.class), any(Long.class), any(), any(Integer.class), any(Integer.class)
-            )).thenReturn(Optional.empty());
-
             // Act
             bucketService.handleEventChange(context);
 
             // Assert - Should only apply (no revert since wasn't completed)
-            verify(bucketRepository, times(1)).saveAll(any(List.class)); // apply only
-            verify(labelService, times(1)).getLabelById(VALID_LABEL_ID); // for apply only
+            assertThat(captureDeltas(USER_ID))
+                    .allSatisfy(delta -> {
+                        assertThat(delta.labelId()).isEqualTo(VALID_LABEL_ID);
+                        assertThat(delta.deltaMinutes()).isPositive();
+                    });
         }
     }
 
     @Nested
-    class BucketStateManagementTests {
+    class AsyncOutboxTests {
+
+        @BeforeEach
+        void enableAsync() {
+            ReflectionTestUtils.setField(bucketService, "asyncEnabled", true);
+        }
+
+        private LabelTimeBucketOutboxEntry pending(long userId, TimeBucketType type, int year, int value,
+                                                   int minutes, Instant createdAt) {
+            return new LabelTimeBucketOutboxEntry(userId, VALID_LABEL_ID, type, year, value, minutes, createdAt);
+        }
 
         @Test
-        void testApply_existingBucketIncrement() {
-            // Arrange: Test adding time to existing buckets with various initial durations
+        @SuppressWarnings("unchecked")
+        void testApply_asyncMode_enqueuesDeltasInsteadOfUpserting() {
+            // Arrange
             long userId = 1L;
             long labelId = 10L;
             ZoneId timezone = ZoneId.of("UTC");
-            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
-            int additionalDuration = 30;
-
-            // Create existing buckets with different initial durations
-            LabelTimeBucket existingDayBucket = new LabelTimeBucket(userId, labelId, "Test", DAY, 2024, 20240615);
-            existingDayBucket.setDurationMinutes(45);
-            
-            LabelTimeBucket existingWeekBucket = new LabelTimeBucket(userId, labelId, "Test", WEEK, 2024, 24);
-            existingWeekBucket.setDurationMinutes(120);
-            
-            LabelTimeBucket existingMonthBucket = new LabelTimeBucket(userId, labelId, "Test", MONTH, 2024, 6);
-            existingMonthBucket.setDurationMinutes(300);
-
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240615)).thenReturn(Optional.of(existingDayBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 24)).thenReturn(Optional.of(existingWeekBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 6)).thenReturn(Optional.of(existingMonthBucket));
+            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 12, 9, 0, 0, 0, timezone);
 
             // Act
-            bucketService.apply(userId, labelId, startTime, additionalDuration, timezone);
-
-            // Assert - Verify buckets were incremented correctly
-            assertThat(existingDayBucket.getDurationMinutes()).isEqualTo(75);   // 45 + 30
-            assertThat(existingWeekBucket.getDurationMinutes()).isEqualTo(150); // 120 + 30
-            assertThat(existingMonthBucket.getDurationMinutes()).isEqualTo(330); // 300 + 30
-            
-            verify(bucketRepository).saveAll(any(List.class));
+            bucketService.apply(userId, labelId, startTime, 60, timezone);
+
+            // Assert
+            ArgumentCaptor<List<LabelTimeBucketOutboxEntry>> captor = ArgumentCaptor.forClass(List.class);
+            verify(outboxRepository).saveAll(captor.capture());
+            verify(bucketRepository, never()).upsertDurations(any(), anyList());
+
+            assertThat(captor.getValue()).hasSize(5).allSatisfy(entry -> {
+                assertThat(entry.getUserId()).isEqualTo(userId);
+                assertThat(entry.getLabelId()).isEqualTo(labelId);
+                assertThat(entry.getDeltaMinutes()).isEqualTo(60);
+                assertThat(entry.getCreatedAt()).isEqualTo(fixedClock.instant());
+            });
         }
 
         @Test
-        void testRevert_bucketBelowZero() {
-            // Arrange: Test reverting more time than exists in bucket
-            long userId = 1L;
+        void testHandleEventChange_asyncModeWithNoNetChange_enqueuesNothing() {
+            // Arrange
+            ZonedDateTime startTime = getValidEventStartFuture(fixedClock);
+            EventChangeContextDTO context = new EventChangeContextDTO(
+                    USER_ID, VALID_LABEL_ID, VALID_LABEL_ID, startTime, startTime, 60, 60,
+                    ZoneId.of(VALID_TIMEZONE), true, true);
+
+            // Act
+            bucketService.handleEventChange(context);
+
+            // Assert
+            verifyNoInteractions(outboxRepository);
+        }
+
+        @Test
+        void testDrainOutbox_coalescesPerUserAndBucketAndDeletesRows() {
+            // Arrange
+            Instant enqueuedAt = fixedClock.instant().minusSeconds(5);
+            List<LabelTimeBucketOutboxEntry> batch = List.of(
+                    pending(1L, DAY, 2024, 20240612, 60, enqueuedAt),
+                    pending(2L, DAY, 2024, 20240612, 15, enqueuedAt.plusSeconds(1)),
+                    pending(1L, DAY, 2024, 20240612, -20, enqueuedAt.plusSeconds(2)),
+                    pending(1L, WEEK, 2024, 24, 30, enqueuedAt.plusSeconds(3)),
+                    pending(1L, WEEK, 2024, 24, -30, enqueuedAt.plusSeconds(4))
+            );
+            when(outboxRepository.lockNextBatch(100)).thenReturn(batch);
+
+            // Act
+            int drained = bucketService.drainOutbox(100);
+
+            // Assert
+            assertThat(drained).isEqualTo(5);
+            assertThat(captureDeltas(1L)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, DAY, 2024, 20240612, 40));
+            assertThat(captureDeltas(2L)).containsExactly(
+                    new LabelTimeBucketDeltaDTO(VALID_LABEL_ID, DAY, 2024, 20240612, 15));
+            verify(outboxRepository).deleteAllInBatch(batch);
+
+            LabelTimeBucketOutboxStatsDTO stats = bucketService.getOutboxStats();
+            assertThat(stats.appliedDeltas()).isEqualTo(5);
+            assertThat(stats.lastApplyLagMillis()).isEqualTo(5000);
+            assertThat(stats.maxApplyLagMillis()).isEqualTo(5000);
+        }
+
+        @Test
+        void testDrainOutbox_emptyOutbox_doesNothing() {
+            // Arrange
+            when(outboxRepository.lockNextBatch(100)).thenReturn(List.of());
+
+            // Act
+            int drained = bucketService.drainOutbox(100);
+
+            // Assert
+            assertThat(drained).isZero();
+            verifyNoInteractions(bucketRepository);
+            verify(outboxRepository, never()).deleteAllInBatch(anyList());
+        }
+
+        @Test
+        void testGetOutboxStats_reportsQueueDepthAndOldestAge() {
+            // Arrange
+            when(outboxRepository.count()).thenReturn(42L);
+            when(outboxRepository.findOldestCreatedAt()).thenReturn(fixedClock.instant().minusMillis(1500));
+
+            // Act
+            LabelTimeBucketOutboxStatsDTO stats = bucketService.getOutboxStats();
+
+            // Assert
+            assertThat(stats.queueDepth()).isEqualTo(42);
+            assertThat(stats.oldestPendingAgeMillis()).isEqualTo(1500);
+        }
+
+        @Test
+        void testGetOutboxStats_emptyOutbox_reportsZeroAge() {
+            // Arrange
+            when(outboxRepository.findOldestCreatedAt()).thenReturn(null);
+
+            // Act
+            LabelTimeBucketOutboxStatsDTO stats = bucketService.getOutboxStats();
+
+            // Assert
+            assertThat(stats.queueDepth()).isZero();
+            assertThat(stats.oldestPendingAgeMillis()).isZero();
+        }
+    }
+
+    @Nested
+    class BackfillRollupBucketsTests {
+
+        @Test
+        void testBackfillRollupBuckets_delegatesToRepository() {
+            // Arrange
             long labelId = 10L;
-            ZoneId timezone = ZoneId.of("UTC");
-            ZonedDateTime startTime = ZonedDateTime.of(2024, 6, 15, 12, 0, 0, 0, timezone);
-            int revertAmount = 60; // More than existing
-
-            // Create existing bucket with less time than revert amount
-            LabelTimeBucket existingDayBucket = new LabelTimeBucket(userId, labelId, "Test", DAY, 2024, 20240615);
-            existingDayBucket.setDurationMinutes(30); // Less than revert amount
-            
-            LabelTimeBucket existingWeekBucket = new LabelTimeBucket(userId, labelId, "Test", WEEK, 2024, 24);
-            existingWeekBucket.setDurationMinutes(30);
-            
-            LabelTimeBucket existingMonthBucket = new LabelTimeBucket(userId, labelId, "Test", MONTH, 2024, 6);
-            existingMonthBucket.setDurationMinutes(30);
-
-            when(labelService.getLabelById(labelId))
-                    .thenReturn(new LabelResponseDTO(labelId, "Test Label", LabelColor.BLUE, "testuser"));
-
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, DAY, 2024, 20240615)).thenReturn(Optional.of(existingDayBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, WEEK, 2024, 24)).thenReturn(Optional.of(existingWeekBucket));
-            when(bucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
-                    userId, labelId, MONTH, 2024, 6)).thenReturn(Optional.of(existingMonthBucket));
+            when(bucketRepository.rebuildRollupBuckets(labelId)).thenReturn(12);
 
             // Act
-            bucketService.revert(userId, labelId, startTime, revertAmount, timezone);
+            int written = bucketService.backfillRollupBuckets(labelId);
+
+            // Assert
+            assertThat(written).isEqualTo(12);
+            verify(bucketRepository).rebuildRollupBuckets(labelId);
+            verifyNoInteractions(outboxRepository);
+        }
+
+        @Test
+        void testGetLabelIdsWithDayBuckets_delegatesToRepository() {
+            // Arrange
+            long labelId = 10L;
+            when(bucketRepository.findLabelIdsWithDayBuckets()).thenReturn(List.of(labelId));
+
+            // Act
+            List<Long> labelIds = bucketService.getLabelIdsWithDayBuckets();
 
-            // Assert - Buckets should go negative (business logic allows this)
-            assertThat(existingDayBucket.getDurationMinutes()).isEqualTo(-30);   // 30 - 60
-            assertThat(existingWeekBucket.getDurationMinutes()).isEqualTo(-30);  // 30 - 60
-            assertThat(existingMonthBucket.getDurationMinutes()).isEqualTo(-30); // 30 - 60
-            
-            verify(bucketRepository).saveAll(any(List.class));
+            // Assert
+            assertThat(labelIds).containsExactly(labelId);
         }
     }
 }
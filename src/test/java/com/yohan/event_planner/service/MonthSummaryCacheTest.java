@@ -0,0 +1,330 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.MonthSummaryCacheStatsDTO;
+import com.yohan.event_planner.time.ClockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MonthSummaryCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final YearMonth JUNE = YearMonth.of(2025, 6);
+    private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+    private MonthSummaryCache cache;
+    private AtomicInteger loads;
+    private long nowMillis;
+
+    @BeforeEach
+    void setUp() {
+        ClockProvider clockProvider = mock(ClockProvider.class);
+        Clock clock = mock(Clock.class);
+        when(clockProvider.getClockForZone(ZoneOffset.UTC)).thenReturn(clock);
+        when(clock.millis()).thenAnswer(invocation -> nowMillis);
+        cache = new MonthSummaryCache(clockProvider);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Integer> countingLoader(int mask) {
+        return () -> {
+            loads.incrementAndGet();
+            return mask;
+        };
+    }
+
+    @Nested
+    class LookupTests {
+
+        @Test
+        void repeatedLookup_isServedFromCache() {
+            // Act
+            int first = cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(0b101));
+            int second = cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(0b111));
+
+            // Assert
+            assertThat(first).isEqualTo(0b101);
+            assertThat(second).isEqualTo(0b101);
+            assertThat(loads).hasValue(1);
+
+            MonthSummaryCacheStatsDTO stats = cache.getStats();
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hitRate()).isEqualTo(0.5);
+            assertThat(stats.months()).isEqualTo(1);
+        }
+
+        @Test
+        void partsOfOneMonth_areCachedIndependently() {
+            // Act
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(0b1));
+            int labelMask = cache.getLabelDateMask(USER_ID, UTC, JUNE, 10L, countingLoader(0b10));
+            MonthSummaryCache.LabelTotals totals = cache.getLabelTotals(USER_ID, UTC, JUNE, 10L,
+                    () -> new MonthSummaryCache.LabelTotals(3, 90));
+            int otherLabelMask = cache.getLabelDateMask(USER_ID, UTC, JUNE, 11L, countingLoader(0b100));
+
+            // Assert
+            assertThat(labelMask).isEqualTo(0b10);
+            assertThat(otherLabelMask).isEqualTo(0b100);
+            assertThat(totals).isEqualTo(new MonthSummaryCache.LabelTotals(3, 90));
+            assertThat(loads).hasValue(3);
+            assertThat(cache.getStats().months()).isEqualTo(1);
+        }
+
+        @Test
+        void differentTimeZone_isRecomputed() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(0b1));
+
+            // Act
+            int mask = cache.getDateMask(USER_ID, ZoneId.of("Asia/Tokyo"), JUNE, countingLoader(0b10));
+
+            // Assert
+            assertThat(mask).isEqualTo(0b10);
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    class InvalidationTests {
+
+        @Test
+        void monthRange_onlyDiscardsMonthsInside() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JULY, countingLoader(1));
+
+            // Act
+            cache.invalidate(USER_ID, JUNE, JULY);
+
+            // Assert
+            assertThat(cache.getStats().invalidations()).isEqualTo(2);
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            assertThat(loads).hasValue(3);
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            assertThat(loads).hasValue(4);
+        }
+
+        @Test
+        void otherUsers_areUntouched() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(2L, UTC, JUNE, countingLoader(1));
+
+            // Act
+            cache.invalidateUser(USER_ID);
+
+            // Assert
+            MonthSummaryCacheStatsDTO stats = cache.getStats();
+            assertThat(stats.users()).isEqualTo(1);
+            assertThat(stats.months()).isEqualTo(1);
+        }
+
+        @Test
+        void eventInterval_isWidenedByOneDayOnEachSide() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JULY, countingLoader(1));
+
+            // Act: starts on June 1 in UTC, which is still May 31 west of Greenwich
+            cache.invalidate(USER_ID,
+                    ZonedDateTime.of(2025, 6, 1, 2, 0, 0, 0, ZoneOffset.UTC),
+                    ZonedDateTime.of(2025, 6, 1, 3, 0, 0, 0, ZoneOffset.UTC));
+
+            // Assert
+            assertThat(cache.getStats().invalidations()).isEqualTo(2);
+            cache.getDateMask(USER_ID, UTC, JULY, countingLoader(1));
+            assertThat(loads).hasValue(3);
+        }
+
+        @Test
+        void openEndedDateRange_discardsEveryLaterMonth() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2030, 1), countingLoader(1));
+
+            // Act
+            cache.invalidate(USER_ID, LocalDate.of(2025, 6, 15), null);
+
+            // Assert
+            assertThat(cache.getStats().invalidations()).isEqualTo(2);
+            assertThat(cache.getStats().months()).isEqualTo(1);
+        }
+
+        @Test
+        void nullUser_isIgnored() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+
+            // Act
+            cache.invalidate(null, JUNE, JUNE);
+
+            // Assert
+            assertThat(cache.getStats().invalidations()).isZero();
+            assertThat(cache.getStats().months()).isEqualTo(1);
+        }
+
+        @Test
+        void invalidationDuringLoad_preventsCachingStaleSummary() {
+            // Act
+            cache.getDateMask(USER_ID, UTC, JUNE, () -> {
+                cache.invalidate(USER_ID, JUNE, JUNE);
+                return 1;
+            });
+
+            // Assert
+            assertThat(cache.getStats().months()).isZero();
+        }
+
+        @Test
+        void invalidationOfOtherUserDuringLoad_stillCachesSummary() {
+            // Act
+            cache.getDateMask(USER_ID, UTC, JUNE, () -> {
+                cache.invalidateUser(2L);
+                return 1;
+            });
+            int cached = cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(2));
+
+            // Assert
+            assertThat(cached).isEqualTo(1);
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        void invalidateInsideTransaction_invalidatesAgainAfterCompletion() {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                cache.invalidate(USER_ID, JUNE, JUNE);
+                cache.invalidate(USER_ID, JULY, JULY);
+
+                // Computed from uncommitted state before the transaction completes
+                cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+                cache.getDateMask(USER_ID, UTC, JULY, countingLoader(1));
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+                // Act
+                synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+                // Assert
+                assertThat(synchronizations).hasSize(1);
+                assertThat(cache.getStats().months()).isZero();
+                assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    @Nested
+    class BoundTests {
+
+        @Test
+        void leastRecentlyUsedMonth_isEvictedAtCapacity() {
+            // Arrange
+            ReflectionTestUtils.setField(cache, "maxMonthsPerUser", 2);
+
+            // Act
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            cache.getDateMask(USER_ID, UTC, JULY, countingLoader(1));
+
+            // Assert: June was used least recently
+            MonthSummaryCacheStatsDTO stats = cache.getStats();
+            assertThat(stats.months()).isEqualTo(2);
+            assertThat(stats.evictions()).isEqualTo(1);
+            cache.getDateMask(USER_ID, UTC, YearMonth.of(2025, 5), countingLoader(1));
+            assertThat(loads).hasValue(3);
+        }
+
+        @Test
+        void leastRecentlyUsedUser_isEvictedWithAllMonths() {
+            // Arrange
+            ReflectionTestUtils.setField(cache, "maxUsers", 2);
+
+            // Act
+            cache.getDateMask(1L, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(1L, UTC, JULY, countingLoader(1));
+            cache.getDateMask(2L, UTC, JUNE, countingLoader(1));
+            cache.getDateMask(3L, UTC, JUNE, countingLoader(1));
+
+            // Assert
+            MonthSummaryCacheStatsDTO stats = cache.getStats();
+            assertThat(stats.users()).isEqualTo(2);
+            assertThat(stats.months()).isEqualTo(2);
+            assertThat(stats.evictions()).isEqualTo(2);
+            assertThat(stats.maxUsers()).isEqualTo(2);
+        }
+
+        @Test
+        void monthOlderThanTtl_isRecomputed() {
+            // Arrange
+            ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+
+            // Act
+            nowMillis += 59_999;
+            int fresh = cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(2));
+            nowMillis += 1;
+            int expired = cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(2));
+
+            // Assert
+            assertThat(fresh).isEqualTo(1);
+            assertThat(expired).isEqualTo(2);
+            assertThat(loads).hasValue(2);
+            assertThat(cache.getStats().evictions()).isEqualTo(1);
+        }
+
+        @Test
+        void partsAddedLater_expireWithTheirMonth() {
+            // Arrange
+            ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+            nowMillis += 30_000;
+            cache.getLabelDateMask(USER_ID, UTC, JUNE, 7L, countingLoader(1));
+
+            // Act
+            nowMillis += 30_000;
+            cache.getLabelDateMask(USER_ID, UTC, JUNE, 7L, countingLoader(1));
+
+            // Assert
+            assertThat(loads).hasValue(3);
+        }
+
+        @Test
+        void clear_removesEverythingButKeepsCounters() {
+            // Arrange
+            cache.getDateMask(USER_ID, UTC, JUNE, countingLoader(1));
+
+            // Act
+            cache.clear();
+
+            // Assert
+            MonthSummaryCacheStatsDTO stats = cache.getStats();
+            assertThat(stats.months()).isZero();
+            assertThat(stats.misses()).isEqualTo(1);
+        }
+    }
+}
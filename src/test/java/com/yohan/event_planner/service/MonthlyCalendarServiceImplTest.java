@@ -1,9 +1,9 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.business.RecurringEventBO;
-import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.LabelTimeBucket;
+import com.yohan.event_planner.domain.RecurrenceRuleVO;
 import com.yohan.event_planner.domain.RecurringEvent;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.LabelMonthStatsDTO;
@@ -14,18 +14,24 @@ import com.yohan.event_planner.repository.LabelRepository;
 import com.yohan.event_planner.repository.LabelTimeBucketRepository;
 import com.yohan.event_planner.security.AuthenticatedUserProvider;
 import com.yohan.event_planner.security.OwnershipValidator;
+import com.yohan.event_planner.time.ClockProvider;
 import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static com.yohan.event_planner.domain.enums.TimeBucketType.MONTH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -40,6 +46,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,34 +55,47 @@ import static org.mockito.Mockito.when;
 public class MonthlyCalendarServiceImplTest {
 
     private RecurringEventBO recurringEventBO;
-    private RecurrenceRuleService recurrenceRuleService;
     private LabelTimeBucketRepository labelTimeBucketRepository;
     private EventRepository eventRepository;
     private LabelRepository labelRepository;
     private AuthenticatedUserProvider authenticatedUserProvider;
     private OwnershipValidator ownershipValidator;
+    private MonthSummaryCache monthSummaryCache;
 
     private MonthlyCalendarServiceImpl monthlyCalendarService;
 
     @BeforeEach
     void setUp() {
         recurringEventBO = mock(RecurringEventBO.class);
-        recurrenceRuleService = mock(RecurrenceRuleService.class);
         labelTimeBucketRepository = mock(LabelTimeBucketRepository.class);
         eventRepository = mock(EventRepository.class);
         labelRepository = mock(LabelRepository.class);
         authenticatedUserProvider = mock(AuthenticatedUserProvider.class);
         ownershipValidator = mock(OwnershipValidator.class);
+        ClockProvider clockProvider = mock(ClockProvider.class);
+        when(clockProvider.getClockForZone(ZoneOffset.UTC)).thenReturn(Clock.systemUTC());
+        monthSummaryCache = new MonthSummaryCache(clockProvider);
 
         monthlyCalendarService = new MonthlyCalendarServiceImpl(
                 recurringEventBO,
-                recurrenceRuleService,
                 labelTimeBucketRepository,
                 eventRepository,
                 labelRepository,
                 authenticatedUserProvider,
-                ownershipValidator
+                ownershipValidator,
+                monthSummaryCache
         );
+        // Most tests count repository calls across repeated lookups; caching is covered separately
+        ReflectionTestUtils.setField(monthlyCalendarService, "monthCacheEnabled", false);
+    }
+
+    private RecurringEvent createRecurringEvent(User viewer, ParsedRecurrenceInput rule, LocalDate startDate, LocalDate endDate) {
+        RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer,
+                Clock.fixed(startDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        recurringEvent.setRecurrenceRule(new RecurrenceRuleVO(CompiledRecurrenceRule.toRuleString(rule), rule));
+        recurringEvent.setStartDate(startDate);
+        recurringEvent.setEndDate(endDate);
+        return recurringEvent;
     }
 
     @Nested
@@ -208,42 +228,26 @@ public class MonthlyCalendarServiceImplTest {
             ZonedDateTime startOfMonthUtc = ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
             ZonedDateTime endOfMonthUtc = ZonedDateTime.of(2025, 6, 30, 23, 59, 0, 0, ZoneOffset.UTC);
 
-            Event event1 = Event.createEvent("Event 1",
-                    ZonedDateTime.of(2025, 6, 10, 15, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 10, 18, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event1.setLabel(label);
-            event1.setCompleted(true);
-
-            Event event2 = Event.createEvent("Event 2",
-                    ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 15, 14, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event2.setLabel(label);
-            event2.setCompleted(true);
-
-            Event event3 = Event.createEvent("Event 3",
-                    ZonedDateTime.of(2025, 6, 17, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 17, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event3.setLabel(label);
-            event3.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
+            // Completed events on June 10, 15 and 17
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
                     labelId,
                     startOfMonthUtc,
-                    endOfMonthUtc
-            )).thenReturn(List.of(event1, event2, event3));
+                    endOfMonthUtc,
+                    "UTC",
+                    LocalDate.of(2025, 6, 1),
+                    LocalDate.of(2025, 6, 30)
+            )).thenReturn(List.of(16, 9, 14));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
 
             // Assert
             assertNotNull(result);
-            assertEquals(3, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 10)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 15)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 17)));
+            assertEquals(List.of(
+                    LocalDate.of(2025, 6, 10),
+                    LocalDate.of(2025, 6, 15),
+                    LocalDate.of(2025, 6, 17)
+            ), result);
         }
     }
 
@@ -260,52 +264,27 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // region --- Mock scheduled events ---
-            Event scheduledEvent1 = Event.createEvent(
-                    "Scheduled Event 1",
-                    ZonedDateTime.of(2025, 6, 5, 9, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 5, 10, 0, 0, 0, ZoneOffset.UTC),
-                    viewer
-            );
-            scheduledEvent1.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            Event scheduledEvent2 = Event.createEvent(
-                    "Scheduled Event 2",
-                    ZonedDateTime.of(2025, 6, 10, 14, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 10, 16, 0, 0, 0, ZoneOffset.UTC),
-                    viewer
-            );
-            scheduledEvent2.setLabel(TestUtils.createValidLabelWithId(2L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
+            // region --- Mock scheduled events on June 5 and June 10 ---
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     any(ZonedDateTime.class),
-                    any(ZonedDateTime.class)
-            )).thenReturn(List.of(scheduledEvent1, scheduledEvent2));
+                    any(ZonedDateTime.class),
+                    any(),
+                    any(),
+                    any()
+            )).thenReturn(List.of(4, 9));
             // endregion
 
-            // region --- Mock recurring events ---
-            RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 5, 30, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-
-            recurringEvent.setStartDate(LocalDate.of(2025, 5, 1));
-            recurringEvent.setEndDate(LocalDate.of(2025, 7, 31));
+            // region --- Mock recurring event on Sundays and Fridays from June 15 to June 20 ---
+            RecurringEvent recurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.SUNDAY, DayOfWeek.FRIDAY)),
+                    LocalDate.of(2025, 6, 15), LocalDate.of(2025, 6, 20));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()),
                     any(LocalDate.class),
                     any(LocalDate.class)
             )).thenReturn(List.of(recurringEvent));
-
-            // Mock recurrenceRuleService to return true only for specific dates
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class)))
-                    .thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 15))))
-                    .thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 20))))
-                    .thenReturn(true);
             // endregion
 
             // Act
@@ -331,10 +310,13 @@ public class MonthlyCalendarServiceImplTest {
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
             // Mock event repository to return no scheduled events
-            when(eventRepository.findConfirmedEventsForUserBetween(
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     any(ZonedDateTime.class),
-                    any(ZonedDateTime.class)
+                    any(ZonedDateTime.class),
+                    any(),
+                    any(),
+                    any()
             )).thenReturn(List.of());
 
             // Mock recurringEventBO to return no recurring events
@@ -353,45 +335,36 @@ public class MonthlyCalendarServiceImplTest {
         }
 
         @Test
-        void shouldIncludeBothStartAndEndDatesForMultiDayScheduledEvent() {
+        void shouldQueryScheduledDaysInUserTimezoneForTheRequestedMonth() {
             // Arrange
             int year = 2025;
             int month = 6;
 
             User viewer = TestUtils.createValidUserEntityWithId();
-            viewer.setTimezone("UTC");
+            viewer.setTimezone("Asia/Tokyo");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create a scheduled event starting on May 31 and ending on June 1
-            Event spanningEvent = Event.createEvent(
-                    "Spanning Event",
-                    ZonedDateTime.of(2025, 5, 31, 22, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 1, 2, 0, 0, 0, ZoneOffset.UTC),
-                    viewer
-            );
-            spanningEvent.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()),
-                    any(ZonedDateTime.class),
-                    any(ZonedDateTime.class)
-            )).thenReturn(List.of(spanningEvent));
+            // The event starting May 31 and ending June 1 only covers June 1 within the month
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    viewer.getId(),
+                    ZonedDateTime.of(2025, 5, 31, 15, 0, 0, 0, ZoneOffset.UTC),
+                    ZonedDateTime.of(2025, 6, 30, 14, 59, 0, 0, ZoneOffset.UTC),
+                    "Asia/Tokyo",
+                    LocalDate.of(2025, 6, 1),
+                    LocalDate.of(2025, 6, 30)
+            )).thenReturn(List.of(0));
 
-            // Mock recurringEventBO to return no recurring events
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
-                    eq(viewer.getId()),
-                    any(LocalDate.class),
-                    any(LocalDate.class)
+                    viewer.getId(),
+                    LocalDate.of(2025, 6, 1),
+                    LocalDate.of(2025, 6, 30)
             )).thenReturn(List.of());
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
             // Assert
-            assertNotNull(result);
-            assertTrue(result.contains(LocalDate.of(2025, 5, 31)), "Should include start date (May 31)");
-            assertTrue(result.contains(LocalDate.of(2025, 6, 1)), "Should include end date (June 1)");
-            assertEquals(2, result.size(), "Should contain both start and end dates");
+            assertEquals(List.of(LocalDate.of(2025, 6, 1)), result);
         }
 
         @Test
@@ -405,19 +378,19 @@ public class MonthlyCalendarServiceImplTest {
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
             // No scheduled events for this test
-            when(eventRepository.findConfirmedEventsForUserBetween(
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     any(ZonedDateTime.class),
-                    any(ZonedDateTime.class)
+                    any(ZonedDateTime.class),
+                    any(),
+                    any(),
+                    any()
             )).thenReturn(List.of());
 
-            // Create a recurring event spanning May to July with weekly recurrence on Mondays and Fridays
-            RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 5, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            recurringEvent.setStartDate(LocalDate.of(2025, 5, 1));
-            recurringEvent.setEndDate(LocalDate.of(2025, 7, 31));
+            // Create a recurring event on Mondays and Fridays that ends on June 9
+            RecurringEvent recurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)),
+                    LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 9));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()),
@@ -425,18 +398,6 @@ public class MonthlyCalendarServiceImplTest {
                     any(LocalDate.class)
             )).thenReturn(List.of(recurringEvent));
 
-            // General fallback first
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class)))
-                    .thenReturn(false);
-
-            // Specific dates override fallback
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 2))))
-                    .thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 6))))
-                    .thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 9))))
-                    .thenReturn(true);
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
@@ -456,14 +417,10 @@ public class MonthlyCalendarServiceImplTest {
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Mock event repository to return a scheduled event
-            Event event = Event.createEvent("Test Event",
-                    ZonedDateTime.of(2025, 7, 10, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 7, 10, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(), any())
-            ).thenReturn(List.of(event));
+            // Mock event repository to return a scheduled event on the 10th of the current month
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(), any(), any(), any(), any())
+            ).thenReturn(List.of(9));
 
             // Mock recurring event BO to return empty
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -474,13 +431,13 @@ public class MonthlyCalendarServiceImplTest {
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(null, null);
 
             // Assert
-            assertNotNull(result);
-            assertFalse(result.isEmpty(), "Result should not be empty");
-            assertTrue(result.contains(LocalDate.of(2025, 7, 10)), "Should include July 10");
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            assertEquals(List.of(today.withDayOfMonth(10)), result);
 
-            // Verify that eventRepository was called with any valid range
-            verify(eventRepository).findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(), any()
+            // Verify that eventRepository was called with the current month
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(), any(), eq("UTC"),
+                    eq(today.withDayOfMonth(1)), eq(today.withDayOfMonth(today.lengthOfMonth()))
             );
         }
 
@@ -623,8 +580,8 @@ public class MonthlyCalendarServiceImplTest {
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
             // Mock empty results
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -639,10 +596,13 @@ public class MonthlyCalendarServiceImplTest {
             assertTrue(result.isEmpty());
 
             // Verify the method was called with correct leap year boundaries
-            verify(eventRepository).findConfirmedEventsForUserBetween(
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     eq(ZonedDateTime.of(2024, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
-                    eq(ZonedDateTime.of(2024, 2, 29, 23, 59, 0, 0, ZoneOffset.UTC))
+                    eq(ZonedDateTime.of(2024, 2, 29, 23, 59, 0, 0, ZoneOffset.UTC)),
+                    eq("UTC"),
+                    eq(LocalDate.of(2024, 2, 1)),
+                    eq(LocalDate.of(2024, 2, 29))
             );
         }
     }
@@ -660,18 +620,10 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create event that spans the entire month and beyond
-            Event spanningEvent = Event.createEvent(
-                    "Month-spanning Event",
-                    ZonedDateTime.of(2025, 5, 15, 0, 0, 0, 0, ZoneOffset.UTC), // Starts in May
-                    ZonedDateTime.of(2025, 7, 15, 23, 59, 0, 0, ZoneOffset.UTC), // Ends in July
-                    viewer
-            );
-            spanningEvent.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(spanningEvent));
+            // An event from May 15 to July 15 covers every day of June once clamped to the month
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(IntStream.range(0, 30).boxed().toList());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
@@ -682,9 +634,9 @@ public class MonthlyCalendarServiceImplTest {
 
             // Assert
             assertNotNull(result);
-            assertEquals(62, result.size()); // Implementation includes dates from spanning event period (May 15 - July 15)
-            assertTrue(result.contains(LocalDate.of(2025, 6, 1)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 30)));
+            assertEquals(30, result.size()); // Only the days of June are returned
+            assertEquals(LocalDate.of(2025, 6, 1), result.get(0));
+            assertEquals(LocalDate.of(2025, 6, 30), result.get(29));
         }
 
         @Test
@@ -697,35 +649,28 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event that starts exactly on June 1 and ends exactly on June 30
-            RecurringEvent boundaryRecurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            boundaryRecurringEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            boundaryRecurringEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            // Create recurring event on Sundays and Mondays that starts exactly on June 1 (a Sunday)
+            // and ends exactly on June 30 (a Monday)
+            RecurringEvent boundaryRecurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.SUNDAY, DayOfWeek.MONDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(boundaryRecurringEvent));
 
-            // Mock recurrence to occur on first and last day of month
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 1)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 30)))).thenReturn(true);
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
             // Assert
             assertNotNull(result);
-            assertEquals(2, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 1)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 30)));
+            assertEquals(10, result.size());
+            assertEquals(LocalDate.of(2025, 6, 1), result.get(0));
+            assertEquals(LocalDate.of(2025, 6, 30), result.get(9));
         }
 
         @Test
@@ -738,8 +683,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -923,8 +868,8 @@ public class MonthlyCalendarServiceImplTest {
             doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
             // Mock empty events list
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    any(), any(), any())).thenReturn(List.of());
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    any(), any(), any(), any(), any(), any())).thenReturn(List.of());
 
             // Act - Test with both parameters null
             List<LocalDate> result1 = monthlyCalendarService.getDatesByLabel(labelId, null, null);
@@ -942,8 +887,8 @@ public class MonthlyCalendarServiceImplTest {
             assertTrue(result3.isEmpty());
 
             // Verify repository was called correctly for all scenarios (3 times for 3 calls)
-            verify(eventRepository, times(3)).findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class));
+            verify(eventRepository, times(3)).findCompletedEventDayOffsetsForLabelInMonth(
+                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class), eq("UTC"), any(), any());
         }
 
         @Test
@@ -965,10 +910,10 @@ public class MonthlyCalendarServiceImplTest {
                     anyLong(), anyLong(), any(), anyInt(), anyInt())).thenReturn(Optional.empty());
             when(eventRepository.countByLabelIdAndEventDateBetweenAndIsCompleted(
                     any(), any(), any())).thenReturn(0L);
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    any(), any(), any())).thenReturn(List.of());
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    any(), any(), any())).thenReturn(List.of());
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    any(), any(), any(), any(), any(), any())).thenReturn(List.of());
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     any(), any(), any())).thenReturn(List.of());
 
@@ -997,8 +942,8 @@ public class MonthlyCalendarServiceImplTest {
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
             // Mock empty results to focus on timezone boundary calculation
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1015,10 +960,13 @@ public class MonthlyCalendarServiceImplTest {
             // Verify that the repository was called with UTC times that properly handle DST transition
             // March 1, 2025 00:00 EST = March 1, 2025 05:00 UTC
             // March 31, 2025 23:59 EDT = April 1, 2025 03:59 UTC
-            verify(eventRepository).findConfirmedEventsForUserBetween(
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     eq(ZonedDateTime.of(2025, 3, 1, 5, 0, 0, 0, ZoneOffset.UTC)), // EST offset
-                    eq(ZonedDateTime.of(2025, 4, 1, 3, 59, 0, 0, ZoneOffset.UTC))  // EDT offset
+                    eq(ZonedDateTime.of(2025, 4, 1, 3, 59, 0, 0, ZoneOffset.UTC)), // EDT offset
+                    eq("America/New_York"),
+                    eq(LocalDate.of(2025, 3, 1)),
+                    eq(LocalDate.of(2025, 3, 31))
             );
         }
 
@@ -1032,8 +980,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("America/New_York"); // EDT becomes EST on November 2
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1049,10 +997,13 @@ public class MonthlyCalendarServiceImplTest {
             // Verify UTC boundaries account for DST transition
             // November 1, 2025 00:00 EDT = November 1, 2025 04:00 UTC
             // November 30, 2025 23:59 EST = December 1, 2025 04:59 UTC
-            verify(eventRepository).findConfirmedEventsForUserBetween(
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     eq(ZonedDateTime.of(2025, 11, 1, 4, 0, 0, 0, ZoneOffset.UTC)), // EDT offset
-                    eq(ZonedDateTime.of(2025, 12, 1, 4, 59, 0, 0, ZoneOffset.UTC))  // EST offset
+                    eq(ZonedDateTime.of(2025, 12, 1, 4, 59, 0, 0, ZoneOffset.UTC)), // EST offset
+                    eq("America/New_York"),
+                    eq(LocalDate.of(2025, 11, 1)),
+                    eq(LocalDate.of(2025, 11, 30))
             );
         }
 
@@ -1138,8 +1089,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("Pacific/Auckland"); // UTC+12/+13, ahead of UTC
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1154,10 +1105,13 @@ public class MonthlyCalendarServiceImplTest {
 
             // Verify that December 2024 in Auckland properly converts to UTC
             // December spans from late November UTC to late December UTC
-            verify(eventRepository).findConfirmedEventsForUserBetween(
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     any(ZonedDateTime.class), // Start of December Auckland time in UTC
-                    any(ZonedDateTime.class)  // End of December Auckland time in UTC
+                    any(ZonedDateTime.class), // End of December Auckland time in UTC
+                    eq("Pacific/Auckland"),
+                    eq(LocalDate.of(2024, 12, 1)),
+                    eq(LocalDate.of(2024, 12, 31))
             );
         }
     }
@@ -1180,67 +1134,51 @@ public class MonthlyCalendarServiceImplTest {
             when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
             doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
-            // Create multi-day event spanning June 10-12
-            Event multiDayEvent = Event.createEvent("Multi-day Conference",
-                    ZonedDateTime.of(2025, 6, 10, 9, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 12, 17, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            multiDayEvent.setLabel(label);
-            multiDayEvent.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(multiDayEvent));
+            // Multi-day event spanning June 10-12
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(9, 10, 11));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
 
             // Assert
-            assertNotNull(result);
-            assertEquals(2, result.size()); // Implementation might exclude end date or use different logic
-            assertTrue(result.contains(LocalDate.of(2025, 6, 10)));
-            // Check what dates are actually included - adjust based on implementation behavior
-            if (result.contains(LocalDate.of(2025, 6, 11))) {
-                assertTrue(result.contains(LocalDate.of(2025, 6, 11)));
-            } else {
-                assertTrue(result.contains(LocalDate.of(2025, 6, 12))); // Maybe includes end date instead
-            }
+            assertEquals(List.of(
+                    LocalDate.of(2025, 6, 10),
+                    LocalDate.of(2025, 6, 11),
+                    LocalDate.of(2025, 6, 12)
+            ), result);
         }
 
         @Test
-        void shouldHandleEventWithNullEndTime() {
+        void shouldQueryLabelDaysInUserTimezoneForTheRequestedMonth() {
             // Arrange
             Long labelId = 1L;
             int year = 2025;
-            int month = 6;
+            int month = 2;
 
             User viewer = TestUtils.createValidUserEntityWithId();
-            viewer.setTimezone("UTC");
+            viewer.setTimezone("America/New_York");
             Label label = TestUtils.createValidLabelWithId(labelId, "Work", viewer);
 
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
             when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
             doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
-            // Create event with null end time
-            Event eventWithNullEndTime = Event.createEvent("Single Point Event",
-                    ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC),
-                    null, // null end time
-                    viewer);
-            eventWithNullEndTime.setLabel(label);
-            eventWithNullEndTime.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(eventWithNullEndTime));
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    labelId,
+                    ZonedDateTime.of(2025, 2, 1, 5, 0, 0, 0, ZoneOffset.UTC),
+                    ZonedDateTime.of(2025, 3, 1, 4, 59, 0, 0, ZoneOffset.UTC),
+                    "America/New_York",
+                    LocalDate.of(2025, 2, 1),
+                    LocalDate.of(2025, 2, 28)
+            )).thenReturn(List.of(27));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
 
             // Assert
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 15)));
+            assertEquals(List.of(LocalDate.of(2025, 2, 28)), result);
         }
 
         @Test
@@ -1253,16 +1191,10 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create event spanning from May to July (covers entire June)
-            Event spanningEvent = Event.createEvent("Long Project",
-                    ZonedDateTime.of(2025, 5, 25, 0, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 7, 5, 23, 59, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            spanningEvent.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(spanningEvent));
+            // An event from May 25 to July 5 covers every day of June once clamped to the month
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(IntStream.range(0, 30).boxed().toList());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
@@ -1273,55 +1205,15 @@ public class MonthlyCalendarServiceImplTest {
 
             // Assert
             assertNotNull(result);
-            assertEquals(42, result.size()); // Implementation includes all days from spanning event period (May 25 - July 5)
-            
+            assertEquals(30, result.size());
+
             // Verify first and last days of June are included
             assertTrue(result.contains(LocalDate.of(2025, 6, 1)));
             assertTrue(result.contains(LocalDate.of(2025, 6, 30)));
-            
-            // Implementation includes adjacent month days when events span
-            assertTrue(result.contains(LocalDate.of(2025, 5, 25))); // Event start date
-            assertTrue(result.contains(LocalDate.of(2025, 7, 5))); // Event end date
-        }
 
-        @Test
-        void shouldHandleEventSpanningAcrossTimezonesCorrectly() {
-            // Arrange
-            Long labelId = 1L;
-            int year = 2025;
-            int month = 6;
-
-            User viewer = TestUtils.createValidUserEntityWithId();
-            viewer.setTimezone("America/New_York"); // UTC-4 in June (EDT)
-            Label label = TestUtils.createValidLabelWithId(labelId, "Work", viewer);
-
-            when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
-            when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
-            doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
-
-            // Create event that spans multiple days when converted to user timezone
-            // Starts at 23:00 UTC on June 10 (19:00 EDT) and ends at 02:00 UTC on June 11 (22:00 EDT on June 10)
-            Event timezoneSpanningEvent = Event.createEvent("Timezone Event",
-                    ZonedDateTime.of(2025, 6, 10, 23, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 11, 2, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            timezoneSpanningEvent.setLabel(label);
-            timezoneSpanningEvent.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(timezoneSpanningEvent));
-
-            // Act
-            List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
-
-            // Assert
-            assertNotNull(result);
-            // In EDT, the event starts at 19:00 on June 10 and ends at 22:00 on June 10
-            // So it should only include June 10, not June 11
-            assertEquals(1, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 10)));
-            assertFalse(result.contains(LocalDate.of(2025, 6, 11)));
+            // Days of adjacent months are not part of the month view
+            assertFalse(result.contains(LocalDate.of(2025, 5, 31)));
+            assertFalse(result.contains(LocalDate.of(2025, 7, 1)));
         }
 
         @Test
@@ -1334,22 +1226,10 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create two overlapping multi-day events
-            Event event1 = Event.createEvent("Event 1",
-                    ZonedDateTime.of(2025, 6, 10, 0, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 12, 23, 59, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event1.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            Event event2 = Event.createEvent("Event 2",
-                    ZonedDateTime.of(2025, 6, 11, 0, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 13, 23, 59, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event2.setLabel(TestUtils.createValidLabelWithId(2L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(event1, event2));
+            // Two overlapping events covering June 10-12 and June 11-13; repeated offsets are tolerated
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(12, 9, 10, 11, 10, 11));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
@@ -1361,11 +1241,7 @@ public class MonthlyCalendarServiceImplTest {
             // Assert
             assertNotNull(result);
             assertEquals(4, result.size()); // Should have 4 unique dates: 10, 11, 12, 13
-            assertTrue(result.contains(LocalDate.of(2025, 6, 10)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 11)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 12)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 13)));
-            
+
             // Verify results are sorted
             assertEquals(LocalDate.of(2025, 6, 10), result.get(0));
             assertEquals(LocalDate.of(2025, 6, 11), result.get(1));
@@ -1387,28 +1263,19 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event with limited date range (June 5-15)
-            RecurringEvent limitedRecurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            limitedRecurringEvent.setStartDate(LocalDate.of(2025, 6, 5));
-            limitedRecurringEvent.setEndDate(LocalDate.of(2025, 6, 15));
+            // Create recurring event on Tuesdays with limited date range (June 5-15)
+            RecurringEvent limitedRecurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.TUESDAY)),
+                    LocalDate.of(2025, 6, 5), LocalDate.of(2025, 6, 15));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(limitedRecurringEvent));
 
-            // Mock recurrence rule to return true for dates both inside and outside the range
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 3)))).thenReturn(true); // Outside range
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 10)))).thenReturn(true); // Inside range
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 20)))).thenReturn(true); // Outside range
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
@@ -1417,7 +1284,7 @@ public class MonthlyCalendarServiceImplTest {
             assertEquals(1, result.size()); // Only June 10 should be included
             assertTrue(result.contains(LocalDate.of(2025, 6, 10)));
             assertFalse(result.contains(LocalDate.of(2025, 6, 3)));
-            assertFalse(result.contains(LocalDate.of(2025, 6, 20)));
+            assertFalse(result.contains(LocalDate.of(2025, 6, 17)));
         }
 
         @Test
@@ -1430,25 +1297,19 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event that spans the month but has no occurrences
-            RecurringEvent noOccurrenceEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            noOccurrenceEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            noOccurrenceEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            // The first Tuesday of June is June 3, before this recurring event starts
+            RecurringEvent noOccurrenceEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedMonthlyRecurrenceInput(1, Set.of(DayOfWeek.TUESDAY)),
+                    LocalDate.of(2025, 6, 4), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(noOccurrenceEvent));
 
-            // Mock recurrence rule to return false for all dates
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
@@ -1467,43 +1328,26 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create two recurring events with overlapping occurrences
-            RecurringEvent weeklyEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            weeklyEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            weeklyEvent.setEndDate(LocalDate.of(2025, 6, 30));
-
-            RecurringEvent biWeeklyEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            biWeeklyEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            biWeeklyEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            // Weekly event occurs on Mondays (June 2, 9, 16, 23, 30)
+            RecurringEvent weeklyEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.MONDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+            // Monthly event occurs on the first and third Monday (June 2 and 16) - overlapping with weekly
+            RecurringEvent firstMondayEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedMonthlyRecurrenceInput(1, Set.of(DayOfWeek.MONDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+            RecurringEvent thirdMondayEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedMonthlyRecurrenceInput(3, Set.of(DayOfWeek.MONDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of(weeklyEvent, biWeeklyEvent));
-
-            // Mock overlapping recurrence patterns
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            
-            // Weekly event occurs on Mondays (June 2, 9, 16, 23, 30)
-            when(recurrenceRuleService.occursOn(eq(weeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 2)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(weeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 9)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(weeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 16)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(weeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 23)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(weeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 30)))).thenReturn(true);
-            
-            // Bi-weekly event occurs on same Mondays (June 2, 16, 30) - overlapping with weekly
-            when(recurrenceRuleService.occursOn(eq(biWeeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 2)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(biWeeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 16)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(eq(biWeeklyEvent.getRecurrenceRule().getParsed()), eq(LocalDate.of(2025, 6, 30)))).thenReturn(true);
+            )).thenReturn(List.of(weeklyEvent, firstMondayEvent, thirdMondayEvent));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
@@ -1528,35 +1372,54 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event that starts exactly on June 1 and ends exactly on June 30
-            RecurringEvent boundaryEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            boundaryEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            boundaryEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            // One daily event ends exactly on June 1, another starts exactly on June 30
+            RecurringEvent endingEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedDailyRecurrenceInput(),
+                    LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 1));
+            RecurringEvent startingEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedDailyRecurrenceInput(),
+                    LocalDate.of(2025, 6, 30), LocalDate.of(2025, 7, 31));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of(boundaryEvent));
-
-            // Mock recurrence to occur exactly on boundaries
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 1)))).thenReturn(true);  // First day
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 30)))).thenReturn(true); // Last day
+            )).thenReturn(List.of(endingEvent, startingEvent));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
             // Assert
             assertNotNull(result);
-            assertEquals(2, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 1)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 30)));
+            assertEquals(List.of(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)), result);
+        }
+
+        @Test
+        void shouldIgnoreRecurringEventWithoutParsedRule() {
+            // Arrange
+            int year = 2025;
+            int month = 6;
+
+            User viewer = TestUtils.createValidUserEntityWithId();
+            viewer.setTimezone("UTC");
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
+
+            RecurringEvent draftRuleEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedDailyRecurrenceInput(),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+            draftRuleEvent.setRecurrenceRule(TestUtils.createDraftRecurrenceRuleVO("DAILY:"));
+
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
+            )).thenReturn(List.of(draftRuleEvent));
+
+            // Act
+            List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
+
+            // Assert
+            assertTrue(result.isEmpty());
         }
     }
 
@@ -1603,8 +1466,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             // Mock RecurringEventBO to throw exception
@@ -1621,7 +1484,7 @@ public class MonthlyCalendarServiceImplTest {
         }
 
         @Test
-        void shouldPropagateRecurrenceRuleServiceExceptions() {
+        void shouldPropagateScheduledDayQueryExceptions() {
             // Arrange
             int year = 2025;
             int month = 6;
@@ -1630,31 +1493,17 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of());
-
-            RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            recurringEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            recurringEvent.setEndDate(LocalDate.of(2025, 6, 30));
-
-            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
-                    eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of(recurringEvent));
-
-            // Mock RecurrenceRuleService to throw exception
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class)))
-                    .thenThrow(new RuntimeException("Recurrence rule parsing failed"));
+            // Mock the day query to throw exception
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenThrow(new RuntimeException("Day query failed"));
 
             // Act & Assert
             RuntimeException exception = assertThrows(
                     RuntimeException.class,
                     () -> monthlyCalendarService.getDatesWithEventsByMonth(year, month)
             );
-            assertEquals("Recurrence rule parsing failed", exception.getMessage());
+            assertEquals("Day query failed", exception.getMessage());
         }
 
         @Test
@@ -1701,29 +1550,10 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create events out of chronological order
-            Event event3 = Event.createEvent("Event 3",
-                    ZonedDateTime.of(2025, 6, 20, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 20, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event3.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            Event event1 = Event.createEvent("Event 1",
-                    ZonedDateTime.of(2025, 6, 5, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 5, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event1.setLabel(TestUtils.createValidLabelWithId(2L, viewer));
-
-            Event event2 = Event.createEvent("Event 2",
-                    ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 15, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            event2.setLabel(TestUtils.createValidLabelWithId(3L, viewer));
-
-            // Return events in random order
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(event3, event1, event2)); // Out of order
+            // Return days of June 20, 5 and 15 out of chronological order
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(19, 4, 14)); // Out of order
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
@@ -1752,33 +1582,20 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create scheduled event on June 10
-            Event scheduledEvent = Event.createEvent("Scheduled Event",
-                    ZonedDateTime.of(2025, 6, 10, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 10, 12, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            scheduledEvent.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(scheduledEvent));
-
-            // Create recurring event that also occurs on June 10
-            RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            recurringEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            recurringEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            // Scheduled event on June 10
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(9));
+
+            // Recurring event that also occurs on June 10 (the second Tuesday)
+            RecurringEvent recurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedMonthlyRecurrenceInput(2, Set.of(DayOfWeek.TUESDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(recurringEvent));
 
-            // Mock recurring event to also occur on June 10
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 10)))).thenReturn(true);
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
@@ -1789,7 +1606,7 @@ public class MonthlyCalendarServiceImplTest {
         }
 
         @Test
-        void shouldHandleInconsistentEventDataGracefully() {
+        void shouldSortAndDeduplicateLabelDays() {
             // Arrange
             Long labelId = 1L;
             int year = 2025;
@@ -1803,25 +1620,20 @@ public class MonthlyCalendarServiceImplTest {
             when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
             doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
-            // Create event with startTime > endTime (inconsistent data)
-            Event inconsistentEvent = Event.createEvent("Inconsistent Event",
-                    ZonedDateTime.of(2025, 6, 15, 18, 0, 0, 0, ZoneOffset.UTC), // 6 PM
-                    ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC), // 10 AM (earlier than start)
-                    viewer);
-            inconsistentEvent.setLabel(label);
-            inconsistentEvent.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(inconsistentEvent));
+            // Day offsets in arbitrary order with a repeat
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(29, 14, 0, 14));
 
-            // Act - Should not throw exception despite inconsistent data
+            // Act
             List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
 
-            // Assert - Service should handle gracefully and include the date
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 15)));
+            // Assert
+            assertEquals(List.of(
+                    LocalDate.of(2025, 6, 1),
+                    LocalDate.of(2025, 6, 15),
+                    LocalDate.of(2025, 6, 30)
+            ), result);
         }
 
         @Test
@@ -1835,8 +1647,8 @@ public class MonthlyCalendarServiceImplTest {
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
             // Mock all repositories to return empty results
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1864,26 +1676,21 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create a large number of events (100 events spread across the month)
-            List<Event> manyEvents = new java.util.ArrayList<>();
-            for (int day = 1; day <= 30; day++) {
-                for (int hour = 9; hour <= 17; hour += 4) { // Multiple events per day
-                    Event event = Event.createEvent("Event " + day + "-" + hour,
-                            ZonedDateTime.of(2025, 6, day, hour, 0, 0, 0, ZoneOffset.UTC),
-                            ZonedDateTime.of(2025, 6, day, hour + 1, 0, 0, 0, ZoneOffset.UTC),
-                            viewer);
-                    event.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-                    manyEvents.add(event);
-                }
-            }
+            // Every day of June, covered by several scheduled and recurring sources
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(IntStream.range(0, 30).boxed().toList());
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(manyEvents);
+            List<RecurringEvent> manyRecurringEvents = new java.util.ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                manyRecurringEvents.add(createRecurringEvent(viewer,
+                        TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.of(i % 7 + 1))),
+                        LocalDate.of(2025, 5, 1), LocalDate.of(2025, 7, 31)));
+            }
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of());
+            )).thenReturn(manyRecurringEvents);
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
@@ -1917,8 +1724,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1941,8 +1748,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1970,8 +1777,8 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
@@ -1986,10 +1793,13 @@ public class MonthlyCalendarServiceImplTest {
             
             // Verify the repository was called with correct month boundaries
             int expectedLastDay = isLeapYear ? 29 : 28;
-            verify(eventRepository).findConfirmedEventsForUserBetween(
+            verify(eventRepository).findConfirmedEventDayOffsetsForUserInMonth(
                     eq(viewer.getId()),
                     eq(ZonedDateTime.of(year, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
-                    eq(ZonedDateTime.of(year, 2, expectedLastDay, 23, 59, 0, 0, ZoneOffset.UTC))
+                    eq(ZonedDateTime.of(year, 2, expectedLastDay, 23, 59, 0, 0, ZoneOffset.UTC)),
+                    eq("UTC"),
+                    eq(LocalDate.of(year, 2, 1)),
+                    eq(LocalDate.of(year, 2, expectedLastDay))
             );
         }
     }
@@ -1998,7 +1808,7 @@ public class MonthlyCalendarServiceImplTest {
     class PrivateMethodEdgeCaseTests {
 
         @Test
-        void shouldHandleEventsWithNullEndTimeInScheduledEventExtraction() {
+        void shouldTreatRecurringEventWithoutEndDateAsOpenEnded() {
             // Arrange
             int year = 2025;
             int month = 6;
@@ -2007,28 +1817,24 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create event with proper end time (avoiding null end time for now)
-            Event eventWithNullEndTime = Event.createEvent("Event with null end",
-                    ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 15, 11, 0, 0, 0, ZoneOffset.UTC), // Use proper end time
-                    viewer);
-            eventWithNullEndTime.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of());
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(eventWithNullEndTime));
+            // Weekly on Monday from June 20 with no end date
+            RecurringEvent openEnded = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(Set.of(DayOfWeek.MONDAY)),
+                    LocalDate.of(2025, 6, 20), null);
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of());
+            )).thenReturn(List.of(openEnded));
 
-            // Act - Should handle null end time gracefully
+            // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
             // Assert
-            assertNotNull(result);
-            assertEquals(1, result.size());
-            assertTrue(result.contains(LocalDate.of(2025, 6, 15)));
+            assertEquals(List.of(LocalDate.of(2025, 6, 23), LocalDate.of(2025, 6, 30)), result);
         }
 
         @Test
@@ -2041,25 +1847,19 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event where startDate equals endDate
-            RecurringEvent singleDayRecurring = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 15, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            singleDayRecurring.setStartDate(LocalDate.of(2025, 6, 15));
-            singleDayRecurring.setEndDate(LocalDate.of(2025, 6, 15)); // Same day
+            // Create daily recurring event where startDate equals endDate
+            RecurringEvent singleDayRecurring = createRecurringEvent(viewer,
+                    TestUtils.createParsedDailyRecurrenceInput(),
+                    LocalDate.of(2025, 6, 15), LocalDate.of(2025, 6, 15)); // Same day
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(singleDayRecurring));
 
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 15)))).thenReturn(true);
-
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
@@ -2084,18 +1884,10 @@ public class MonthlyCalendarServiceImplTest {
             when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
             doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
-            // Create event with identical start and end times (zero duration)
-            ZonedDateTime eventTime = ZonedDateTime.of(2025, 6, 15, 10, 0, 0, 0, ZoneOffset.UTC);
-            Event zeroDurationEvent = Event.createEvent("Zero Duration Event",
-                    eventTime, // Same time
-                    eventTime, // Same time
-                    viewer);
-            zeroDurationEvent.setLabel(label);
-            zeroDurationEvent.setCompleted(true);
-
-            when(eventRepository.findByLabelIdAndEventDateBetweenAndIsCompleted(
-                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(zeroDurationEvent));
+            // A zero duration event yields a single day offset
+            when(eventRepository.findCompletedEventDayOffsetsForLabelInMonth(
+                    eq(labelId), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(14));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesByLabel(labelId, year, month);
@@ -2210,7 +2002,7 @@ public class MonthlyCalendarServiceImplTest {
 
         @Test
         void shouldHandleTimezoneAtMidnightBoundary() {
-            // Arrange - Test events exactly at midnight in different timezones
+            // Arrange - The local date conversion happens in the query, using the user's zone
             int year = 2025;
             int month = 6;
 
@@ -2218,16 +2010,11 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("Pacific/Samoa"); // UTC-11, far from UTC
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            // Create event exactly at midnight UTC (which is different time in Samoa)
-            Event midnightEvent = Event.createEvent("Midnight Event",
-                    ZonedDateTime.of(2025, 6, 15, 0, 0, 0, 0, ZoneOffset.UTC),
-                    ZonedDateTime.of(2025, 6, 15, 1, 0, 0, 0, ZoneOffset.UTC),
-                    viewer);
-            midnightEvent.setLabel(TestUtils.createValidLabelWithId(1L, viewer));
-
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
-            )).thenReturn(List.of(midnightEvent));
+            // An event at midnight UTC on June 15 falls on June 14 in Samoa
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class),
+                    eq("Pacific/Samoa"), eq(LocalDate.of(2025, 6, 1)), eq(LocalDate.of(2025, 6, 30))
+            )).thenReturn(List.of(13));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
@@ -2256,40 +2043,29 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create 50 recurring events (simulating heavy usage)
+            // Create 50 daily recurring events, each active on a single day (simulating heavy usage)
             List<RecurringEvent> manyRecurringEvents = new java.util.ArrayList<>();
             for (int i = 0; i < 50; i++) {
-                RecurringEvent event = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                        ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                        ZoneOffset.UTC
-                ));
-                event.setStartDate(LocalDate.of(2025, 6, 1));
-                event.setEndDate(LocalDate.of(2025, 6, 30));
-                manyRecurringEvents.add(event);
+                LocalDate day = LocalDate.of(2025, 6, 1).plusDays(i);
+                manyRecurringEvents.add(createRecurringEvent(viewer,
+                        TestUtils.createParsedDailyRecurrenceInput(), day, day));
             }
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(manyRecurringEvents);
 
-            // Mock each recurring event to occur once in the month
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            for (int day = 1; day <= 30; day++) {
-                when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, day))))
-                        .thenReturn(day <= manyRecurringEvents.size()); // First N days have events
-            }
-
             // Act - Should handle large number of recurring events efficiently
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
-            // Assert
+            // Assert - Events after June are clamped to the month
             assertNotNull(result);
-            assertTrue(result.size() <= 30); // Should not exceed days in month
-            assertTrue(result.size() >= 1); // Should have at least some results
+            assertEquals(30, result.size());
+            assertEquals(LocalDate.of(2025, 6, 30), result.get(29));
         }
 
         @Test
@@ -2302,48 +2078,37 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            // Create recurring event with complex pattern
-            RecurringEvent complexPattern = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            complexPattern.setStartDate(LocalDate.of(2025, 6, 1));
-            complexPattern.setEndDate(LocalDate.of(2025, 6, 30));
+            // Create recurring events with complex patterns
+            RecurringEvent weekdays = createRecurringEvent(viewer,
+                    TestUtils.createParsedWeeklyRecurrenceInput(
+                            Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+            RecurringEvent lastSaturday = createRecurringEvent(viewer,
+                    TestUtils.createParsedMonthlyRecurrenceInput(4, Set.of(DayOfWeek.SATURDAY)),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
-            )).thenReturn(List.of(complexPattern));
-
-            // Mock complex pattern - every 3rd day
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 3)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 6)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 9)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 12)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 15)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 18)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 21)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 24)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 27)))).thenReturn(true);
-            when(recurrenceRuleService.occursOn(any(), eq(LocalDate.of(2025, 6, 30)))).thenReturn(true);
+            )).thenReturn(List.of(weekdays, lastSaturday));
 
             // Act
             List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
 
             // Assert
             assertNotNull(result);
-            assertEquals(10, result.size()); // Every 3rd day = 10 occurrences
-            
+            assertEquals(14, result.size()); // 13 Monday/Wednesday/Friday occurrences + 4th Saturday
+
             // Verify pattern is correctly followed
-            assertTrue(result.contains(LocalDate.of(2025, 6, 3)));
+            assertTrue(result.contains(LocalDate.of(2025, 6, 2)));
+            assertTrue(result.contains(LocalDate.of(2025, 6, 4)));
             assertTrue(result.contains(LocalDate.of(2025, 6, 6)));
-            assertTrue(result.contains(LocalDate.of(2025, 6, 9)));
-            assertFalse(result.contains(LocalDate.of(2025, 6, 1))); // Not part of pattern
-            assertFalse(result.contains(LocalDate.of(2025, 6, 2))); // Not part of pattern
+            assertTrue(result.contains(LocalDate.of(2025, 6, 28)));
+            assertFalse(result.contains(LocalDate.of(2025, 6, 1))); // Sunday, not part of pattern
+            assertFalse(result.contains(LocalDate.of(2025, 6, 21))); // 3rd Saturday, not part of pattern
         }
     }
 
@@ -2391,7 +2156,7 @@ public class MonthlyCalendarServiceImplTest {
         }
 
         @Test
-        void shouldVerifyRecurrenceRuleServiceCallFrequency() {
+        void shouldFetchRecurringEventsOnceForTheWholeMonth() {
             // Arrange
             int year = 2025;
             int month = 6;
@@ -2400,29 +2165,151 @@ public class MonthlyCalendarServiceImplTest {
             viewer.setTimezone("UTC");
             when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
 
-            when(eventRepository.findConfirmedEventsForUserBetween(
-                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class)
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
             )).thenReturn(List.of());
 
-            RecurringEvent recurringEvent = TestUtils.createValidRecurringEvent(viewer, Clock.fixed(
-                    ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant(),
-                    ZoneOffset.UTC
-            ));
-            recurringEvent.setStartDate(LocalDate.of(2025, 6, 1));
-            recurringEvent.setEndDate(LocalDate.of(2025, 6, 30));
+            RecurringEvent recurringEvent = createRecurringEvent(viewer,
+                    TestUtils.createParsedDailyRecurrenceInput(),
+                    LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
 
             when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
                     eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
             )).thenReturn(List.of(recurringEvent));
 
-            when(recurrenceRuleService.occursOn(any(), any(LocalDate.class))).thenReturn(false);
+            // Act
+            List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(year, month);
+
+            // Assert - Recurrence is expanded from the compiled rule, with a single fetch for the month
+            assertEquals(30, result.size());
+            verify(recurringEventBO, org.mockito.Mockito.times(1)).getConfirmedRecurringEventsForUserInRange(
+                    viewer.getId(), LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+        }
+    }
+
+    @Nested
+    class MonthSummaryCachingTests {
+
+        private User viewer;
+
+        @BeforeEach
+        void enableCache() {
+            ReflectionTestUtils.setField(monthlyCalendarService, "monthCacheEnabled", true);
+
+            viewer = TestUtils.createValidUserEntityWithId();
+            viewer.setTimezone("UTC");
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
+        }
+
+        @Test
+        void repeatedMonthLookupIsServedFromCache() {
+            // Arrange
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(4, 9));
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
+            )).thenReturn(List.of());
+
+            // Act
+            List<LocalDate> first = monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+            List<LocalDate> second = monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+
+            // Assert
+            assertEquals(List.of(LocalDate.of(2025, 6, 5), LocalDate.of(2025, 6, 10)), first);
+            assertEquals(first, second);
+            verify(eventRepository, times(1)).findConfirmedEventDayOffsetsForUserInMonth(
+                    any(), any(), any(), any(), any(), any());
+            assertEquals(1, monthSummaryCache.getStats().hits());
+            assertEquals(1, monthSummaryCache.getStats().misses());
+        }
+
+        @Test
+        void invalidatedMonthIsReloaded() {
+            // Arrange
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(4), List.of(4, 19));
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
+            )).thenReturn(List.of());
+
+            monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+
+            // Act
+            monthSummaryCache.invalidate(viewer.getId(), YearMonth.of(2025, 6), YearMonth.of(2025, 6));
+            List<LocalDate> result = monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+
+            // Assert
+            assertEquals(List.of(LocalDate.of(2025, 6, 5), LocalDate.of(2025, 6, 20)), result);
+            verify(eventRepository, times(2)).findConfirmedEventDayOffsetsForUserInMonth(
+                    any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void invalidatingAnotherMonthKeepsCachedMonth() {
+            // Arrange
+            when(eventRepository.findConfirmedEventDayOffsetsForUserInMonth(
+                    eq(viewer.getId()), any(ZonedDateTime.class), any(ZonedDateTime.class), any(), any(), any()
+            )).thenReturn(List.of(4));
+            when(recurringEventBO.getConfirmedRecurringEventsForUserInRange(
+                    eq(viewer.getId()), any(LocalDate.class), any(LocalDate.class)
+            )).thenReturn(List.of());
+
+            monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+
+            // Act
+            monthSummaryCache.invalidate(viewer.getId(), YearMonth.of(2025, 7), YearMonth.of(2025, 8));
+            monthlyCalendarService.getDatesWithEventsByMonth(2025, 6);
+
+            // Assert
+            verify(eventRepository, times(1)).findConfirmedEventDayOffsetsForUserInMonth(
+                    any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void cachedLabelStatsStillValidateOwnership() {
+            // Arrange
+            Long labelId = 1L;
+            Label label = TestUtils.createValidLabelWithId(labelId, "Strength Training", viewer);
+            when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
+            doNothing().when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
+
+            LabelTimeBucket bucket = TestUtils.createValidMonthBucket(
+                    viewer.getId(), labelId, label.getName(), 2025, 6, 120);
+            when(labelTimeBucketRepository.findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
+                    viewer.getId(), labelId, MONTH, 2025, 6)).thenReturn(Optional.of(bucket));
+            when(eventRepository.countByLabelIdAndEventDateBetweenAndIsCompleted(
+                    any(), any(), any())).thenReturn(5L);
 
             // Act
-            monthlyCalendarService.getDatesWithEventsByMonth(year, month);
+            monthlyCalendarService.getMonthlyBucketStats(labelId, 2025, 6);
+            LabelMonthStatsDTO result = monthlyCalendarService.getMonthlyBucketStats(labelId, 2025, 6);
+
+            // Assert
+            assertEquals(5L, result.totalEvents());
+            assertEquals(120L, result.totalTimeSpent());
+            assertEquals("Strength Training", result.labelName());
+            verify(ownershipValidator, times(2)).validateLabelOwnership(viewer.getId(), label);
+            verify(eventRepository, times(1)).countByLabelIdAndEventDateBetweenAndIsCompleted(any(), any(), any());
+            verify(labelTimeBucketRepository, times(1)).findByUserIdAndLabelIdAndBucketTypeAndBucketYearAndBucketValue(
+                    anyLong(), anyLong(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        void foreignLabelIsRejectedBeforeCacheIsConsulted() {
+            // Arrange
+            Long labelId = 1L;
+            Label label = TestUtils.createValidLabelWithId(labelId, "Strength Training", viewer);
+            when(labelRepository.findById(labelId)).thenReturn(Optional.of(label));
+            doThrow(new SecurityException("User does not own this label"))
+                    .when(ownershipValidator).validateLabelOwnership(viewer.getId(), label);
 
-            // Assert - Verify recurrenceRuleService is called exactly 30 times (once per day in June)
-            verify(recurrenceRuleService, org.mockito.Mockito.times(30))
-                    .occursOn(eq(recurringEvent.getRecurrenceRule().getParsed()), any(LocalDate.class));
+            // Act + Assert
+            assertThrows(SecurityException.class, () -> monthlyCalendarService.getDatesByLabel(labelId, 2025, 6));
+            verify(eventRepository, never()).findCompletedEventDayOffsetsForLabelInMonth(
+                    any(), any(), any(), any(), any(), any());
+            assertEquals(0, monthSummaryCache.getStats().misses());
         }
     }
 
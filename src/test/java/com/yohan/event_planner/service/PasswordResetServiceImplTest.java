@@ -1,5 +1,6 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.business.UserCache;
 import com.yohan.event_planner.domain.PasswordResetToken;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.auth.ForgotPasswordRequestDTO;
@@ -84,6 +85,9 @@ class PasswordResetServiceImplTest {
     @Mock
     private ClockProvider clockProvider;
 
+    @Mock
+    private UserCache userCache;
+
     @Mock
     private Clock clock;
 
@@ -98,7 +102,8 @@ class PasswordResetServiceImplTest {
                 userRepository,
                 emailService,
                 passwordEncoder,
-                clockProvider
+                clockProvider,
+                userCache
         );
 
         // Set up test configuration
@@ -234,6 +239,7 @@ class PasswordResetServiceImplTest {
 
             verify(passwordEncoder).encode(newPassword);
             verify(userRepository).save(user);
+            verify(userCache).invalidate(user.getId());
             verify(passwordResetTokenRepository).save(resetToken);
             verify(emailService).sendPasswordChangeConfirmation(user.getEmail(), user.getUsername());
 
@@ -406,7 +412,8 @@ class PasswordResetServiceImplTest {
                     userRepository,
                     emailService,
                     passwordEncoder,
-                    clockProvider
+                    clockProvider,
+                    userCache
             );
             ReflectionTestUtils.setField(service, "tokenExpiryMinutes", 15);
 
@@ -422,7 +429,8 @@ class PasswordResetServiceImplTest {
                     userRepository,
                     emailService,
                     passwordEncoder,
-                    clockProvider
+                    clockProvider,
+                    userCache
             );
             ReflectionTestUtils.setField(service, "tokenExpiryMinutes", 0);
 
@@ -442,7 +450,8 @@ class PasswordResetServiceImplTest {
                     userRepository,
                     emailService,
                     passwordEncoder,
-                    clockProvider
+                    clockProvider,
+                    userCache
             );
             ReflectionTestUtils.setField(service, "tokenExpiryMinutes", -5);
 
@@ -1081,9 +1090,9 @@ class PasswordResetServiceImplTest {
         void multipleServiceInstances_doNotShareState() {
             // Arrange
             PasswordResetServiceImpl service1 = new PasswordResetServiceImpl(
-                    passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider);
+                    passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider, userCache);
             PasswordResetServiceImpl service2 = new PasswordResetServiceImpl(
-                    passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider);
+                    passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider, userCache);
             
             ReflectionTestUtils.setField(service1, "tokenExpiryMinutes", 15);
             ReflectionTestUtils.setField(service2, "tokenExpiryMinutes", 30);
@@ -1344,7 +1353,7 @@ class PasswordResetServiceImplTest {
             for (int value : extremeValues) {
                 // Arrange
                 PasswordResetServiceImpl service = new PasswordResetServiceImpl(
-                        passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider);
+                        passwordResetTokenRepository, userRepository, emailService, passwordEncoder, clockProvider, userCache);
                 ReflectionTestUtils.setField(service, "tokenExpiryMinutes", value);
 
                 // Act
@@ -1364,7 +1373,7 @@ class PasswordResetServiceImplTest {
         void passwordResetService_withNullDependencies_handlesGracefully() {
             // Test creation with null dependencies (Spring will handle this in real scenarios)
             assertDoesNotThrow(() -> {
-                new PasswordResetServiceImpl(null, null, null, null, null);
+                new PasswordResetServiceImpl(null, null, null, null, null, null);
             });
         }
 
@@ -1382,7 +1391,7 @@ class PasswordResetServiceImplTest {
                     .thenThrow(new RuntimeException("Database connection lost"));
 
             PasswordResetServiceImpl unstableService = new PasswordResetServiceImpl(
-                    failingTokenRepo, failingUserRepo, failingEmailService, failingPasswordEncoder, failingClockProvider);
+                    failingTokenRepo, failingUserRepo, failingEmailService, failingPasswordEncoder, failingClockProvider, userCache);
             ReflectionTestUtils.setField(unstableService, "tokenExpiryMinutes", 15);
 
             // Act & Assert - Service should handle failures gracefully
@@ -1407,7 +1416,8 @@ class PasswordResetServiceImplTest {
                     userRepository,
                     emailService,
                     passwordEncoder,
-                    clockProvider
+                    clockProvider,
+                    userCache
             ));
         }
 
@@ -1419,7 +1429,8 @@ class PasswordResetServiceImplTest {
                     userRepository,
                     emailService,
                     passwordEncoder,
-                    clockProvider
+                    clockProvider,
+                    userCache
             ));
         }
     }
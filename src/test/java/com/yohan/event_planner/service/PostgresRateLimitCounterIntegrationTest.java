@@ -0,0 +1,137 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.RateLimitWindowDTO;
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+import com.yohan.event_planner.util.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import({TestConfig.class, com.yohan.event_planner.config.TestEmailConfig.class})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class PostgresRateLimitCounterIntegrationTest {
+
+    private static final String LIMITER = "login-rate-limit";
+    private static final String KEY = "203.0.113.7";
+    private static final Instant NOW = Instant.parse("2025-06-27T12:00:00Z");
+    private static final long SUB_WINDOW_MILLIS = 5 * 60 * 1000;
+
+    @Autowired
+    private RateLimitBucketRepository rateLimitBucketRepository;
+
+    private long bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = NOW.toEpochMilli() / SUB_WINDOW_MILLIS;
+    }
+
+    private PostgresRateLimitCounter counterAt(Instant instant) {
+        return new PostgresRateLimitCounter(LIMITER, 3, Duration.ofHours(1), 12,
+                100, Duration.ofSeconds(1), rateLimitBucketRepository, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    @Nested
+    class IncrementAndSumTests {
+
+        @Test
+        void incrementAndSum_shouldCreateThenIncrementSubWindow() {
+            // Arrange
+            Instant expiresAt = NOW.plus(Duration.ofHours(1));
+
+            // Act
+            RateLimitWindowDTO first = rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket, bucket - 11, expiresAt);
+            RateLimitWindowDTO second = rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket, bucket - 11, expiresAt);
+
+            // Assert
+            assertEquals(new RateLimitWindowDTO(1, bucket), first);
+            assertEquals(new RateLimitWindowDTO(2, bucket), second);
+        }
+
+        @Test
+        void incrementAndSum_shouldAddOtherSubWindowsInsideWindowOnly() {
+            // Arrange
+            Instant expiresAt = NOW.plus(Duration.ofHours(1));
+            rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket - 12, bucket - 23, expiresAt);
+            rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket - 6, bucket - 17, expiresAt);
+            rateLimitBucketRepository.incrementAndSum("registration-rate-limit", KEY, bucket - 6, bucket - 17, expiresAt);
+
+            // Act
+            RateLimitWindowDTO window = rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket, bucket - 11, expiresAt);
+
+            // Assert
+            assertEquals(new RateLimitWindowDTO(2, bucket - 6), window);
+        }
+    }
+
+    @Nested
+    class SumWindowTests {
+
+        @Test
+        void sumWindow_unknownClient_shouldReturnEmptyWindow() {
+            // Act
+            RateLimitWindowDTO window = rateLimitBucketRepository.sumWindow(LIMITER, "198.51.100.1", bucket - 11);
+
+            // Assert
+            assertEquals(0, window.attempts());
+            assertNull(window.oldestBucket());
+        }
+    }
+
+    @Nested
+    class DeleteExpiredTests {
+
+        @Test
+        void deleteExpired_shouldOnlyRemoveExpiredRows() {
+            // Arrange
+            rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket - 12, bucket - 23, NOW.minusSeconds(1));
+            rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket, bucket - 11, NOW.plus(Duration.ofHours(1)));
+
+            // Act
+            int deleted = rateLimitBucketRepository.deleteExpired(NOW, 100);
+
+            // Assert
+            assertEquals(1, deleted);
+            assertEquals(1, rateLimitBucketRepository.count());
+        }
+    }
+
+    @Nested
+    class SharedQuotaTests {
+
+        @Test
+        void counters_onDifferentInstances_shouldShareOneQuota() {
+            // Arrange - Two counters stand in for two application instances
+            PostgresRateLimitCounter firstInstance = counterAt(NOW);
+            PostgresRateLimitCounter secondInstance = counterAt(NOW);
+
+            // Act
+            firstInstance.record(KEY);
+            firstInstance.record(KEY);
+            RateLimitCounter.Snapshot snapshot = secondInstance.record(KEY);
+
+            // Assert
+            assertEquals(3, snapshot.attempts());
+            assertFalse(snapshot.allowed());
+            assertFalse(secondInstance.check(KEY).allowed());
+            assertTrue(counterAt(NOW.plus(Duration.ofHours(1))).check(KEY).allowed());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.RateLimitWindowDTO;
+import com.yohan.event_planner.repository.RateLimitBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresRateLimitCounterTest {
+
+    private static final String LIMITER = "login-rate-limit";
+    private static final String KEY = "192.168.1.1";
+    private static final long SUB_WINDOW_MILLIS = 5 * 60 * 1000;
+
+    @Mock
+    private RateLimitBucketRepository rateLimitBucketRepository;
+    @Mock
+    private Clock clock;
+
+    private PostgresRateLimitCounter counter;
+    private long nowMillis;
+    private long bucket;
+
+    @BeforeEach
+    void setUp() {
+        nowMillis = Instant.parse("2025-06-27T12:00:00Z").toEpochMilli();
+        bucket = nowMillis / SUB_WINDOW_MILLIS;
+        when(clock.millis()).thenAnswer(invocation -> nowMillis);
+        counter = new PostgresRateLimitCounter(LIMITER, 3, Duration.ofHours(1), 12,
+                100, Duration.ofSeconds(1), rateLimitBucketRepository, clock);
+    }
+
+    private void advance(Duration duration) {
+        nowMillis += duration.toMillis();
+    }
+
+    @Nested
+    class RecordTests {
+
+        @Test
+        void record_shouldUpsertCurrentSubWindowAndReturnSharedCount() {
+            // Arrange
+            Instant expiresAt = Instant.ofEpochMilli((bucket + 12) * SUB_WINDOW_MILLIS);
+            when(rateLimitBucketRepository.incrementAndSum(LIMITER, KEY, bucket, bucket - 11, expiresAt))
+                    .thenReturn(new RateLimitWindowDTO(2, bucket - 6));
+
+            // Act
+            RateLimitCounter.Snapshot snapshot = counter.record(KEY);
+
+            // Assert
+            assertEquals(2, snapshot.attempts());
+            assertEquals(1, snapshot.remaining());
+            assertEquals(1800, snapshot.resetSeconds());
+        }
+    }
+
+    @Nested
+    class NearCacheTests {
+
+        @Test
+        void check_withinTtl_shouldServeFromNearCache() {
+            // Arrange
+            when(rateLimitBucketRepository.sumWindow(LIMITER, KEY, bucket - 11))
+                    .thenReturn(new RateLimitWindowDTO(1, bucket));
+
+            // Act
+            counter.check(KEY);
+            advance(Duration.ofMillis(500));
+            RateLimitCounter.Snapshot snapshot = counter.check(KEY);
+
+            // Assert
+            assertEquals(1, snapshot.attempts());
+            verify(rateLimitBucketRepository, times(1)).sumWindow(LIMITER, KEY, bucket - 11);
+        }
+
+        @Test
+        void check_afterTtl_shouldRereadSharedCount() {
+            // Arrange
+            when(rateLimitBucketRepository.sumWindow(LIMITER, KEY, bucket - 11))
+                    .thenReturn(new RateLimitWindowDTO(1, bucket), new RateLimitWindowDTO(2, bucket));
+
+            // Act
+            counter.check(KEY);
+            advance(Duration.ofSeconds(1));
+            RateLimitCounter.Snapshot snapshot = counter.check(KEY);
+
+            // Assert
+            assertEquals(2, snapshot.attempts());
+            verify(rateLimitBucketRepository, times(2)).sumWindow(LIMITER, KEY, bucket - 11);
+        }
+
+        @Test
+        void check_whenLimited_shouldServeDenialUntilOldestAttemptExpires() {
+            // Arrange
+            when(rateLimitBucketRepository.incrementAndSum(
+                    LIMITER, KEY, bucket, bucket - 11, Instant.ofEpochMilli((bucket + 12) * SUB_WINDOW_MILLIS)))
+                    .thenReturn(new RateLimitWindowDTO(3, bucket));
+            counter.record(KEY);
+
+            // Act
+            advance(Duration.ofMinutes(30));
+            RateLimitCounter.Snapshot snapshot = counter.check(KEY);
+
+            // Assert
+            assertFalse(snapshot.allowed());
+            assertEquals(1800, snapshot.resetSeconds());
+            verify(rateLimitBucketRepository).incrementAndSum(
+                    LIMITER, KEY, bucket, bucket - 11, Instant.ofEpochMilli((bucket + 12) * SUB_WINDOW_MILLIS));
+            verifyNoMoreInteractions(rateLimitBucketRepository);
+        }
+
+        @Test
+        void check_afterLimitedWindowResets_shouldRereadSharedCount() {
+            // Arrange
+            when(rateLimitBucketRepository.incrementAndSum(
+                    LIMITER, KEY, bucket, bucket - 11, Instant.ofEpochMilli((bucket + 12) * SUB_WINDOW_MILLIS)))
+                    .thenReturn(new RateLimitWindowDTO(3, bucket));
+            counter.record(KEY);
+            advance(Duration.ofHours(1));
+            when(rateLimitBucketRepository.sumWindow(LIMITER, KEY, bucket + 1))
+                    .thenReturn(new RateLimitWindowDTO(0, null));
+
+            // Act
+            RateLimitCounter.Snapshot snapshot = counter.check(KEY);
+
+            // Assert
+            assertTrue(snapshot.allowed());
+            assertEquals(3, snapshot.remaining());
+            assertEquals(0, snapshot.resetSeconds());
+        }
+
+        @Test
+        void clearNearCache_shouldForceSharedRead() {
+            // Arrange
+            when(rateLimitBucketRepository.sumWindow(LIMITER, KEY, bucket - 11))
+                    .thenReturn(new RateLimitWindowDTO(0, null));
+            counter.check(KEY);
+
+            // Act
+            counter.clearNearCache();
+            counter.check(KEY);
+
+            // Assert
+            verify(rateLimitBucketRepository, times(2)).sumWindow(LIMITER, KEY, bucket - 11);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.RecurringEventBO;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.RecurrenceMaterializationTargetDTO;
+import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.time.ClockProvider;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurrenceMaterializationServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-29T12:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private EventBO eventBO;
+    @Mock
+    private RecurringEventBO recurringEventBO;
+    @Mock
+    private ClockProvider clockProvider;
+
+    private RecurrenceMaterializationServiceImpl materializationService;
+    private User user;
+    private ZoneId userZoneId;
+
+    @BeforeEach
+    void setUp() {
+        materializationService = new RecurrenceMaterializationServiceImpl(
+                userRepository, eventBO, recurringEventBO, clockProvider);
+        user = TestUtils.createValidUserEntityWithId();
+        userZoneId = ZoneId.of(user.getTimezone());
+    }
+
+    @Nested
+    class IsBehindTests {
+
+        @Test
+        void isBehind_whenNeverMaterialized_returnsTrue() {
+            // Act
+            boolean behind = materializationService.isBehind(user, NOW.atZone(ZoneOffset.UTC));
+
+            // Assert
+            assertTrue(behind);
+            verifyNoInteractions(recurringEventBO);
+        }
+
+        @Test
+        void isBehind_whenWatermarkReachesRequiredInstant_returnsFalseWithoutExpanding() {
+            // Arrange
+            ZonedDateTime requiredThrough = NOW.atZone(ZoneOffset.UTC);
+            user.setRecurrencesMaterializedThrough(requiredThrough);
+
+            // Act
+            boolean behind = materializationService.isBehind(user, requiredThrough);
+
+            // Assert
+            assertFalse(behind);
+            verifyNoInteractions(recurringEventBO);
+        }
+
+        @Test
+        void isBehind_whenWatermarkLags_checksForEndedOccurrences() {
+            // Arrange
+            ZonedDateTime watermark = NOW.atZone(ZoneOffset.UTC).minusHours(6);
+            ZonedDateTime requiredThrough = NOW.atZone(ZoneOffset.UTC);
+            user.setRecurrencesMaterializedThrough(watermark);
+            when(recurringEventBO.hasOccurrencesEndingBetween(user.getId(), watermark, requiredThrough, userZoneId))
+                    .thenReturn(false);
+
+            // Act
+            boolean behind = materializationService.isBehind(user, requiredThrough);
+
+            // Assert
+            assertFalse(behind);
+            verify(recurringEventBO).hasOccurrencesEndingBetween(user.getId(), watermark, requiredThrough, userZoneId);
+        }
+    }
+
+    @Nested
+    class MaterializeThroughTests {
+
+        @Test
+        void materializeThrough_whenBehind_solidifiesFromStartOfWatermarkDayAndAdvancesWatermark() {
+            // Arrange
+            ZonedDateTime watermark = ZonedDateTime.of(2025, 6, 28, 15, 0, 0, 0, userZoneId)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+            ZonedDateTime through = LocalDate.of(2025, 6, 29).atStartOfDay(userZoneId)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+            user.setRecurrencesMaterializedThrough(watermark);
+            when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
+
+            ZonedDateTime expectedStart = LocalDate.of(2025, 6, 28).atStartOfDay(userZoneId)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+
+            // Act
+            materializationService.materializeThrough(user.getId(), through);
+
+            // Assert
+            verify(eventBO).solidifyRecurrences(user.getId(), expectedStart, through, userZoneId);
+            assertEquals(through, user.getRecurrencesMaterializedThrough());
+        }
+
+        @Test
+        void materializeThrough_whenAlreadyMaterialized_doesNothing() {
+            // Arrange
+            ZonedDateTime through = NOW.atZone(ZoneOffset.UTC);
+            user.setRecurrencesMaterializedThrough(through.plusHours(1));
+            when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
+
+            // Act
+            materializationService.materializeThrough(user.getId(), through);
+
+            // Assert
+            verify(eventBO, never()).solidifyRecurrences(anyLong(), any(), any(), any());
+            assertEquals(through.plusHours(1), user.getRecurrencesMaterializedThrough());
+        }
+
+        @Test
+        void materializeThrough_whenUserMissing_doesNothing() {
+            // Arrange
+            when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.empty());
+
+            // Act
+            materializationService.materializeThrough(user.getId(), NOW.atZone(ZoneOffset.UTC));
+
+            // Assert
+            verifyNoInteractions(eventBO);
+        }
+    }
+
+    @Nested
+    class FindDueMaterializationsTests {
+
+        @Test
+        void findDueMaterializations_ordersTimezonesByMidnightAndRespectsLimit() {
+            // Arrange
+            when(clockProvider.getClockForZone(any(ZoneId.class)))
+                    .thenAnswer(invocation -> Clock.fixed(NOW, invocation.getArgument(0)));
+            when(userRepository.findDistinctActiveTimezones())
+                    .thenReturn(List.of("America/New_York", "Pacific/Kiritimati"));
+
+            ZoneId kiritimati = ZoneId.of("Pacific/Kiritimati");
+            ZonedDateTime kiritimatiMidnight = LocalDate.ofInstant(NOW, kiritimati).atStartOfDay(kiritimati)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+            ZoneId newYork = ZoneId.of("America/New_York");
+            ZonedDateTime newYorkMidnight = LocalDate.ofInstant(NOW, newYork).atStartOfDay(newYork)
+                    .withZoneSameInstant(ZoneOffset.UTC);
+
+            when(userRepository.findIdsDueForRecurrenceMaterialization(
+                    "Pacific/Kiritimati", kiritimatiMidnight, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(7L, 8L));
+            when(userRepository.findIdsDueForRecurrenceMaterialization(
+                    "America/New_York", newYorkMidnight, PageRequest.of(0, 1)))
+                    .thenReturn(List.of(1L));
+
+            // Act
+            List<RecurrenceMaterializationTargetDTO> targets = materializationService.findDueMaterializations(3);
+
+            // Assert
+            assertEquals(List.of(
+                    new RecurrenceMaterializationTargetDTO(7L, kiritimatiMidnight),
+                    new RecurrenceMaterializationTargetDTO(8L, kiritimatiMidnight),
+                    new RecurrenceMaterializationTargetDTO(1L, newYorkMidnight)
+            ), targets);
+        }
+    }
+
+    @Nested
+    class RewindWatermarkTests {
+
+        @Test
+        void rewindWatermark_rewindsToStartOfDateInUserTimezone() {
+            // Arrange
+            LocalDate fromDate = LocalDate.of(2025, 6, 1);
+            ZonedDateTime expected = fromDate.atStartOfDay(userZoneId).withZoneSameInstant(ZoneOffset.UTC);
+            when(userRepository.rewindRecurrencesMaterializedThrough(user.getId(), expected)).thenReturn(1);
+
+            // Act
+            materializationService.rewindWatermark(user, fromDate);
+
+            // Assert
+            verify(userRepository).rewindRecurrencesMaterializedThrough(user.getId(), expected);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.util.TestConfig;
+import com.yohan.event_planner.util.TestUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@Import({TestConfig.class, com.yohan.event_planner.config.TestEmailConfig.class})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class RecurrenceMaterializationServiceIntegrationTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private RecurrenceMaterializationService materializationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User persistUser(ZonedDateTime watermark) {
+        User user = TestUtils.createValidUserEntity();
+        user.setRecurrencesMaterializedThrough(watermark);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private ZonedDateTime watermarkAfterRewind(User user) {
+        materializationService.rewindWatermark(user, FROM_DATE);
+        entityManager.clear();
+        return userRepository.findById(user.getId()).orElseThrow().getRecurrencesMaterializedThrough();
+    }
+
+    private ZonedDateTime startOfFromDate(User user) {
+        return FROM_DATE.atStartOfDay(ZoneId.of(user.getTimezone())).withZoneSameInstant(ZoneOffset.UTC);
+    }
+
+    @Nested
+    class RewindWatermarkTests {
+
+        @Test
+        void rewindWatermark_unsetWatermark_staysUnset() {
+            // Arrange
+            User user = persistUser(null);
+
+            // Act
+            ZonedDateTime watermark = watermarkAfterRewind(user);
+
+            // Assert
+            assertNull(watermark);
+        }
+
+        @Test
+        void rewindWatermark_watermarkAhead_isMovedBack() {
+            // Arrange
+            User user = persistUser(ZonedDateTime.of(2025, 7, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+
+            // Act
+            ZonedDateTime watermark = watermarkAfterRewind(user);
+
+            // Assert
+            assertEquals(startOfFromDate(user).toInstant(), watermark.toInstant());
+        }
+
+        @Test
+        void rewindWatermark_watermarkBehind_isKept() {
+            // Arrange
+            ZonedDateTime behind = ZonedDateTime.of(2025, 5, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+            User user = persistUser(behind);
+
+            // Act
+            ZonedDateTime watermark = watermarkAfterRewind(user);
+
+            // Assert
+            assertEquals(behind.toInstant(), watermark.toInstant());
+        }
+    }
+}
@@ -8,10 +8,13 @@ import org.junit.jupiter.api.Test;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static java.time.DayOfWeek.FRIDAY;
 import static java.time.DayOfWeek.MONDAY;
@@ -527,6 +530,149 @@ class RecurrenceRuleServiceImplTest {
 
     }
 
+    @Nested
+    class ClosedFormExpansionTests {
+
+        private final LocalDate windowStart = LocalDate.of(2025, 1, 1);
+
+        @Test
+        void expandRecurrence_matchesDayByDayExpansion_oneYearWindow() {
+            assertMatchesDayByDayExpansion(windowStart, windowStart.plusYears(1));
+        }
+
+        @Test
+        void expandRecurrence_matchesDayByDayExpansion_tenYearWindow() {
+            assertMatchesDayByDayExpansion(windowStart, windowStart.plusYears(10));
+        }
+
+        @Test
+        void expandRecurrence_monthlyFifthOccurrence_skipsMonthsWithoutIt() {
+            // Arrange
+            var fifthFriday = new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(FRIDAY), 5);
+
+            // Act
+            var result = recurrenceRuleService.expandRecurrence(fifthFriday, windowStart, LocalDate.of(2025, 12, 31), Set.of());
+
+            // Assert
+            assertEquals(List.of(
+                    LocalDate.of(2025, 1, 31),
+                    LocalDate.of(2025, 5, 30),
+                    LocalDate.of(2025, 8, 29),
+                    LocalDate.of(2025, 10, 31)
+            ), result);
+        }
+
+        @Test
+        void streamRecurrence_isLazyOverOpenEndedWindow() {
+            // Arrange
+            var secondTuesday = new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(TUESDAY), 2);
+
+            // Act
+            var firstThree = recurrenceRuleService
+                    .streamRecurrence(secondTuesday, windowStart, LocalDate.of(9999, 12, 31), new TreeSet<>())
+                    .limit(3)
+                    .toList();
+
+            // Assert
+            assertEquals(List.of(
+                    LocalDate.of(2025, 1, 14),
+                    LocalDate.of(2025, 2, 11),
+                    LocalDate.of(2025, 3, 11)
+            ), firstThree);
+        }
+
+        @Test
+        void streamRecurrence_appliesSortedSkipDays() {
+            // Arrange
+            var weekly = new ParsedRecurrenceInput(RecurrenceFrequency.WEEKLY, EnumSet.of(MONDAY, THURSDAY), null);
+            TreeSet<LocalDate> skipDays = new TreeSet<>(Set.of(
+                    LocalDate.of(2024, 12, 30), // before window
+                    LocalDate.of(2025, 1, 6),
+                    LocalDate.of(2025, 1, 7),   // not an occurrence
+                    LocalDate.of(2025, 1, 16)
+            ));
+
+            // Act
+            var result = recurrenceRuleService
+                    .streamRecurrence(weekly, windowStart, LocalDate.of(2025, 1, 16), skipDays)
+                    .toList();
+
+            // Assert
+            assertEquals(List.of(
+                    LocalDate.of(2025, 1, 2),
+                    LocalDate.of(2025, 1, 9),
+                    LocalDate.of(2025, 1, 13)
+            ), result);
+        }
+
+        @Test
+        void streamRecurrence_nullParsed_returnsEmptyStream() {
+            assertEquals(0, recurrenceRuleService.streamRecurrence(null, windowStart, windowStart.plusDays(7), new TreeSet<>()).count());
+        }
+
+        @Test
+        void expandRecurrence_tenYearWindow_matchesDayByDayLoop() {
+            // Arrange
+            var monthly = new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(TUESDAY, THURSDAY), 2);
+            LocalDate end = windowStart.plusYears(10);
+
+            // Act
+            List<LocalDate> result = recurrenceRuleService.expandRecurrence(monthly, windowStart, end, Set.of());
+
+            // Assert
+            assertEquals(expandDayByDay(monthly, windowStart, end, Set.of()), result);
+            assertEquals(240, result.size(), "Two occurrences per month over ten years");
+        }
+
+        private void assertMatchesDayByDayExpansion(LocalDate start, LocalDate end) {
+            Set<LocalDate> skipDays = Set.of(start.plusDays(3), start.plusDays(45), start.plusDays(200), end);
+            List<ParsedRecurrenceInput> rules = List.of(
+                    new ParsedRecurrenceInput(RecurrenceFrequency.DAILY, EnumSet.allOf(DayOfWeek.class), null),
+                    new ParsedRecurrenceInput(RecurrenceFrequency.WEEKLY, EnumSet.of(MONDAY, WEDNESDAY, FRIDAY), null),
+                    new ParsedRecurrenceInput(RecurrenceFrequency.WEEKLY, EnumSet.of(SUNDAY), null),
+                    new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(TUESDAY, THURSDAY), 2),
+                    new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(SATURDAY, SUNDAY), 1),
+                    new ParsedRecurrenceInput(RecurrenceFrequency.MONTHLY, EnumSet.of(WEDNESDAY), 5)
+            );
+
+            for (ParsedRecurrenceInput rule : rules) {
+                List<LocalDate> expected = expandDayByDay(rule, start, end, skipDays);
+
+                assertEquals(expected, recurrenceRuleService.expandRecurrence(rule, start, end, skipDays), rule.toString());
+                assertEquals(expected, recurrenceRuleService.streamRecurrence(rule, start, end, new TreeSet<>(skipDays)).toList(), rule.toString());
+            }
+        }
+
+        /**
+         * Reference implementation: visits every calendar day and tests it against the rule.
+         */
+        private List<LocalDate> expandDayByDay(ParsedRecurrenceInput parsed, LocalDate start, LocalDate end, Set<LocalDate> skipDays) {
+            List<LocalDate> occurrences = new ArrayList<>();
+            for (LocalDate cursor = start; !cursor.isAfter(end); cursor = cursor.plusDays(1)) {
+                if (skipDays.contains(cursor)) {
+                    continue;
+                }
+                boolean matches = switch (parsed.frequency()) {
+                    case DAILY -> true;
+                    case WEEKLY -> parsed.daysOfWeek().contains(cursor.getDayOfWeek());
+                    case MONTHLY -> {
+                        int count = 0;
+                        for (LocalDate d = cursor.withDayOfMonth(1); !d.isAfter(cursor); d = d.plusDays(1)) {
+                            if (d.getDayOfWeek() == cursor.getDayOfWeek()) {
+                                count++;
+                            }
+                        }
+                        yield parsed.daysOfWeek().contains(cursor.getDayOfWeek()) && Objects.equals(count, parsed.ordinal());
+                    }
+                };
+                if (matches) {
+                    occurrences.add(cursor);
+                }
+            }
+            return occurrences;
+        }
+    }
+
     @Nested
     class BuildSummaryTests {
 
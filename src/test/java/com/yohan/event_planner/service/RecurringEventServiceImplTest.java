@@ -1,9 +1,13 @@
 package com.yohan.event_planner.service;
 
+import com.blazebit.persistence.DefaultKeyset;
+import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
 import com.yohan.event_planner.business.EventBO;
 import com.yohan.event_planner.business.RecurringEventBO;
 import com.yohan.event_planner.business.handler.RecurringEventPatchHandler;
+import com.yohan.event_planner.dao.KeysetCursorCodec;
 import com.yohan.event_planner.dao.RecurringEventDAO;
 import com.yohan.event_planner.domain.Label;
 import com.yohan.event_planner.domain.RecurringEvent;
@@ -11,10 +15,12 @@ import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.domain.enums.TimeFilter;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventResponseDTOFactory;
+import com.yohan.event_planner.dto.KeysetPageDTO;
 import com.yohan.event_planner.dto.RecurringEventCreateDTO;
 import com.yohan.event_planner.dto.RecurringEventFilterDTO;
 import com.yohan.event_planner.dto.RecurringEventResponseDTO;
 import com.yohan.event_planner.dto.RecurringEventUpdateDTO;
+import com.yohan.event_planner.exception.InvalidCalendarParameterException;
 import com.yohan.event_planner.exception.InvalidSkipDayException;
 import com.yohan.event_planner.exception.RecurringEventAlreadyConfirmedException;
 import com.yohan.event_planner.exception.RecurringEventNotFoundException;
@@ -31,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 
+import java.io.Serializable;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -58,6 +65,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -81,6 +89,7 @@ public class RecurringEventServiceImplTest {
     private AuthenticatedUserProvider authenticatedUserProvider;
     private EventResponseDTOFactory eventResponseDTOFactory;
     private ClockProvider clockProvider;
+    private RecurrenceMaterializationService recurrenceMaterializationService;
     private Clock fixedClock;
 
     private RecurringEventServiceImpl recurringEventService;
@@ -96,6 +105,7 @@ public class RecurringEventServiceImplTest {
         authenticatedUserProvider = mock(AuthenticatedUserProvider.class);
         eventResponseDTOFactory = mock(EventResponseDTOFactory.class);
         clockProvider = mock(ClockProvider.class);
+        recurrenceMaterializationService = mock(RecurrenceMaterializationService.class);
 
         fixedClock = Clock.fixed(Instant.parse("2025-06-29T12:00:00Z"), ZoneId.of("UTC"));
 
@@ -113,7 +123,8 @@ public class RecurringEventServiceImplTest {
                 ownershipValidator,
                 authenticatedUserProvider,
                 eventResponseDTOFactory,
-                clockProvider
+                clockProvider,
+                recurrenceMaterializationService
         );
     }
 
@@ -279,6 +290,55 @@ public class RecurringEventServiceImplTest {
             assertEquals(0, results.getTotalElements(), "Expected total elements to be zero");
         }
 
+        @Test
+        void testGetConfirmedRecurringEventsForCurrentUserAfter_FullPageReturnsCursor() {
+            // Arrange
+            User viewer = TestUtils.createValidUserEntityWithId(1L);
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(viewer, 100L, fixedClock);
+            RecurringEventFilterDTO filter = new RecurringEventFilterDTO(null, TimeFilter.ALL, null, null, true);
+            Keyset highest = new DefaultKeyset(new Serializable[]{
+                    recurringEvent.getStartDate(), recurringEvent.getEndDate(), recurringEvent.getId()});
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
+
+            PagedList<RecurringEvent> pagedRecurringEvents = mock(PagedList.class);
+            KeysetPage keysetPage = mock(KeysetPage.class);
+            when(pagedRecurringEvents.stream()).thenReturn(Stream.of(recurringEvent));
+            when(pagedRecurringEvents.getKeysetPage()).thenReturn(keysetPage);
+            when(keysetPage.getHighest()).thenReturn(highest);
+            when(recurringEventDAO.findConfirmedRecurringEventsAfter(eq(viewer.getId()), any(RecurringEventFilterDTO.class), isNull(), eq(1)))
+                    .thenReturn(pagedRecurringEvents);
+            when(recurringEventDAO.estimateConfirmedRecurringEvents(eq(viewer.getId()), any(RecurringEventFilterDTO.class)))
+                    .thenReturn(40L);
+
+            // Act
+            KeysetPageDTO<RecurringEventResponseDTO> results =
+                    recurringEventService.getConfirmedRecurringEventsForCurrentUserAfter(filter, null, 1, true);
+
+            // Assert
+            assertEquals(1, results.content().size());
+            assertEquals(KeysetCursorCodec.encode(highest, true), results.nextCursor());
+            assertEquals(40L, results.totalElements());
+            assertTrue(results.totalEstimated());
+            verify(recurringEventDAO, never()).findConfirmedRecurringEvents(any(), any(), any(Integer.class), any(Integer.class));
+        }
+
+        @Test
+        void testGetConfirmedRecurringEventsForCurrentUserAfter_EventCursorIsRejected() {
+            // Arrange
+            User viewer = TestUtils.createValidUserEntityWithId(1L);
+            RecurringEventFilterDTO filter = new RecurringEventFilterDTO(null, TimeFilter.ALL, null, null, false);
+            String eventCursor = KeysetCursorCodec.encode(
+                    new DefaultKeyset(new Serializable[]{ZonedDateTime.now(fixedClock), 1L}), false);
+
+            when(authenticatedUserProvider.getCurrentUser()).thenReturn(viewer);
+
+            // Act + Assert
+            assertThrows(InvalidCalendarParameterException.class,
+                    () -> recurringEventService.getConfirmedRecurringEventsForCurrentUserAfter(filter, eventCursor, 10, false));
+            verifyNoInteractions(recurringEventDAO);
+        }
+
     }
 
 
@@ -402,6 +462,7 @@ public class RecurringEventServiceImplTest {
             verify(recurrenceRuleService).buildSummary(parsed, dto.startDate(), dto.endDate());
             verify(labelService).getLabelEntityById(dto.labelId());
             verify(recurringEventBO).createRecurringEventWithValidation(any());
+            verify(recurrenceMaterializationService).rewindWatermark(creator, savedEvent.getStartDate());
         }
 
         @Test
@@ -553,6 +614,7 @@ public class RecurringEventServiceImplTest {
             verify(recurringEventBO).getRecurringEventById(VALID_RECURRING_EVENT_ID);
             verify(ownershipValidator).validateRecurringEventOwnership(viewer.getId(), recurringEvent);
             verify(recurringEventBO).confirmRecurringEventWithValidation(recurringEvent);
+            verify(recurrenceMaterializationService).rewindWatermark(viewer, confirmedEvent.getStartDate());
         }
 
         @Test
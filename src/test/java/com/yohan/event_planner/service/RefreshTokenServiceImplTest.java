@@ -9,6 +9,7 @@ import com.yohan.event_planner.repository.RefreshTokenRepository;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.security.CustomUserDetails;
 import com.yohan.event_planner.security.JwtUtils;
+import com.yohan.event_planner.security.RefreshTokenHasher;
 import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -38,9 +39,12 @@ import static org.mockito.Mockito.when;
 
 class RefreshTokenServiceImplTest {
 
+    private static final byte[] TOKEN_DIGEST = {1, 2, 3, 4};
+
     private RefreshTokenRepository refreshTokenRepository;
     private UserRepository userRepository;
     private JwtUtils jwtUtils;
+    private RefreshTokenHasher refreshTokenHasher;
     private RefreshTokenServiceImpl refreshTokenService;
 
     @BeforeEach
@@ -48,7 +52,8 @@ class RefreshTokenServiceImplTest {
         refreshTokenRepository = mock(RefreshTokenRepository.class);
         userRepository = mock(UserRepository.class);
         jwtUtils = mock(JwtUtils.class);
-        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, userRepository, jwtUtils);
+        refreshTokenHasher = mock(RefreshTokenHasher.class);
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, userRepository, jwtUtils, refreshTokenHasher);
     }
 
     @Nested
@@ -73,7 +78,7 @@ class RefreshTokenServiceImplTest {
             long expirationMs = 86400000L; // 1 day
 
             when(jwtUtils.generateRefreshToken()).thenReturn(rawToken);
-            when(jwtUtils.hashRefreshToken(rawToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.hash(rawToken)).thenReturn(hashedToken);
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(expirationMs);
 
             // Act
@@ -100,7 +105,7 @@ class RefreshTokenServiceImplTest {
             String hashedToken = "hashed-token";
             
             when(jwtUtils.generateRefreshToken()).thenReturn(rawToken);
-            when(jwtUtils.hashRefreshToken(rawToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.hash(rawToken)).thenReturn(hashedToken);
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(86400000L);
             when(refreshTokenRepository.save(any(RefreshToken.class)))
                 .thenThrow(new DataAccessException("Database save failed") {});
@@ -133,7 +138,7 @@ class RefreshTokenServiceImplTest {
             Instant beforeTest = Instant.now();
             
             when(jwtUtils.generateRefreshToken()).thenReturn(rawToken);
-            when(jwtUtils.hashRefreshToken(rawToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.hash(rawToken)).thenReturn(hashedToken);
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(expirationMs);
 
             // Act
@@ -165,7 +170,7 @@ class RefreshTokenServiceImplTest {
             long zeroExpirationMs = 0L;
             
             when(jwtUtils.generateRefreshToken()).thenReturn(rawToken);
-            when(jwtUtils.hashRefreshToken(rawToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.hash(rawToken)).thenReturn(hashedToken);
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(zeroExpirationMs);
 
             // Act
@@ -196,8 +201,8 @@ class RefreshTokenServiceImplTest {
             when(jwtUtils.generateRefreshToken())
                 .thenReturn(rawToken1)
                 .thenReturn(rawToken2);
-            when(jwtUtils.hashRefreshToken(rawToken1)).thenReturn(hashedToken1);
-            when(jwtUtils.hashRefreshToken(rawToken2)).thenReturn(hashedToken2);
+            when(refreshTokenHasher.hash(rawToken1)).thenReturn(hashedToken1);
+            when(refreshTokenHasher.hash(rawToken2)).thenReturn(hashedToken2);
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(expirationMs);
 
             // Act
@@ -246,13 +251,14 @@ class RefreshTokenServiceImplTest {
             String newAccessToken = "new-access-token";
             String newRefreshToken = "new-refresh-token";
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
             when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(jwtUtils.generateToken(any(CustomUserDetails.class))).thenReturn(newAccessToken);
             when(jwtUtils.generateRefreshToken()).thenReturn(newRefreshToken);
-            when(jwtUtils.hashRefreshToken(newRefreshToken)).thenReturn("hashed-new-token");
+            when(refreshTokenHasher.hash(newRefreshToken)).thenReturn("hashed-new-token");
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(86400000L);
 
             // Act
@@ -276,7 +282,8 @@ class RefreshTokenServiceImplTest {
             String refreshToken = "non-existent-token";
             String hashedToken = "hashed-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.empty());
 
             // Act & Assert
@@ -292,9 +299,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken expiredToken = TestUtils.createExpiredRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(expiredToken));
-            when(jwtUtils.validateRefreshToken(refreshToken, expiredToken.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, expiredToken.getTokenHash())).thenReturn(true);
 
             // Act & Assert
             assertThrows(UnauthorizedException.class, 
@@ -309,9 +317,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken revokedToken = TestUtils.createRevokedRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(revokedToken));
-            when(jwtUtils.validateRefreshToken(refreshToken, revokedToken.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, revokedToken.getTokenHash())).thenReturn(true);
 
             // Act & Assert
             assertThrows(UnauthorizedException.class, 
@@ -326,9 +335,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
             when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
             // Act & Assert
@@ -347,9 +357,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(false);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(false);
 
             // Act & Assert
             assertThrows(UnauthorizedException.class, 
@@ -365,7 +376,8 @@ class RefreshTokenServiceImplTest {
             String refreshToken = "valid-token";
             String hashedToken = "hashed-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken))
                 .thenThrow(new DataAccessException("Database connection failed") {});
 
@@ -375,11 +387,11 @@ class RefreshTokenServiceImplTest {
         }
 
         @Test
-        void testRefreshTokens_jwtUtilsException_propagatesException() {
+        void testRefreshTokens_hasherException_propagatesException() {
             // Arrange
             String refreshToken = "valid-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken))
+            when(refreshTokenHasher.digest(refreshToken))
                 .thenThrow(new RuntimeException("Hashing failed"));
 
             // Act & Assert
@@ -395,9 +407,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
             when(userRepository.findById(userId))
                 .thenThrow(new DataAccessException("User lookup failed") {});
 
@@ -436,9 +449,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
 
             // Act
             refreshTokenService.revokeRefreshToken(refreshToken);
@@ -454,7 +468,8 @@ class RefreshTokenServiceImplTest {
             String refreshToken = "non-existent-token";
             String hashedToken = "hashed-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.empty());
 
             // Act & Assert - should not throw
@@ -470,9 +485,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(false);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(false);
 
             // Act
             refreshTokenService.revokeRefreshToken(refreshToken);
@@ -488,7 +504,8 @@ class RefreshTokenServiceImplTest {
             String refreshToken = "valid-token";
             String hashedToken = "hashed-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken))
                 .thenThrow(new DataAccessException("Database lookup failed") {});
 
@@ -721,13 +738,14 @@ class RefreshTokenServiceImplTest {
             String newAccessToken = "new-access-token";
             String newRefreshToken = "new-refresh-token";
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
             when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(jwtUtils.generateToken(any(CustomUserDetails.class))).thenReturn(newAccessToken);
             when(jwtUtils.generateRefreshToken()).thenReturn(newRefreshToken);
-            when(jwtUtils.hashRefreshToken(newRefreshToken)).thenReturn("hashed-new-token");
+            when(refreshTokenHasher.hash(newRefreshToken)).thenReturn("hashed-new-token");
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(86400000L);
 
             // Act
@@ -750,9 +768,10 @@ class RefreshTokenServiceImplTest {
             RefreshToken tokenEntity = TestUtils.createValidRefreshToken(userId);
             String hashedToken = "hashed-token";
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
 
             // Act
             refreshTokenService.revokeRefreshToken(refreshToken);
@@ -774,9 +793,10 @@ class RefreshTokenServiceImplTest {
             Long userId = 1L;
             RefreshToken foundToken = TestUtils.createValidRefreshToken(userId);
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(foundToken));
-            when(jwtUtils.validateRefreshToken(refreshToken, foundToken.getTokenHash())).thenReturn(false);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, foundToken.getTokenHash())).thenReturn(false);
 
             // Act
             assertThrows(UnauthorizedException.class, 
@@ -798,13 +818,14 @@ class RefreshTokenServiceImplTest {
             String newAccessToken = "new-access-token";
             String newRefreshToken = "new-refresh-token";
 
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.of(tokenEntity));
-            when(jwtUtils.validateRefreshToken(refreshToken, tokenEntity.getTokenHash())).thenReturn(true);
+            when(refreshTokenHasher.matches(TOKEN_DIGEST, tokenEntity.getTokenHash())).thenReturn(true);
             when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(jwtUtils.generateToken(any(CustomUserDetails.class))).thenReturn(newAccessToken);
             when(jwtUtils.generateRefreshToken()).thenReturn(newRefreshToken);
-            when(jwtUtils.hashRefreshToken(newRefreshToken)).thenReturn("hashed-new-token");
+            when(refreshTokenHasher.hash(newRefreshToken)).thenReturn("hashed-new-token");
             when(jwtUtils.getRefreshTokenExpirationMs()).thenReturn(86400000L);
 
             // Act
@@ -840,7 +861,8 @@ class RefreshTokenServiceImplTest {
             String refreshToken = "test-token";
             String hashedToken = "hashed-token";
             
-            when(jwtUtils.hashRefreshToken(refreshToken)).thenReturn(hashedToken);
+            when(refreshTokenHasher.digest(refreshToken)).thenReturn(TOKEN_DIGEST);
+            when(refreshTokenHasher.encode(TOKEN_DIGEST)).thenReturn(hashedToken);
             when(refreshTokenRepository.findByTokenHash(hashedToken)).thenReturn(Optional.empty());
             
             // Act
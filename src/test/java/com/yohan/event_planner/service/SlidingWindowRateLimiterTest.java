@@ -0,0 +1,238 @@
+package com.yohan.event_planner.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final String KEY = "192.168.1.1";
+
+    private Clock clock;
+    private long nowMillis;
+
+    @BeforeEach
+    void setUp() {
+        nowMillis = Instant.parse("2025-06-27T12:00:00Z").toEpochMilli();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> nowMillis);
+    }
+
+    private SlidingWindowRateLimiter limiter(int maxAttempts, int maxTrackedKeys) {
+        return new SlidingWindowRateLimiter("test", maxAttempts, Duration.ofHours(1), 12, maxTrackedKeys, clock);
+    }
+
+    private void advance(Duration duration) {
+        nowMillis += duration.toMillis();
+    }
+
+    @Nested
+    class ConstructorTests {
+
+        @Test
+        void constructor_nonPositiveLimit_shouldThrowException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                    new SlidingWindowRateLimiter("test", 0, Duration.ofHours(1), 12, 10, clock));
+        }
+
+        @Test
+        void constructor_windowShorterThanSubWindows_shouldThrowException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                    new SlidingWindowRateLimiter("test", 5, Duration.ofMillis(5), 12, 10, clock));
+        }
+    }
+
+    @Nested
+    class CountingTests {
+
+        @Test
+        void check_unknownKey_shouldReturnFullAllowanceWithoutTracking() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(5, 10);
+
+            // Act
+            RateLimitCounter.Snapshot snapshot = limiter.check(KEY);
+
+            // Assert
+            assertEquals(new RateLimitCounter.Snapshot(0, 5, 0), snapshot);
+            assertEquals(0, limiter.trackedKeys());
+        }
+
+        @Test
+        void record_shouldReturnUpdatedSnapshot() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(2, 10);
+
+            // Act
+            RateLimitCounter.Snapshot first = limiter.record(KEY);
+            RateLimitCounter.Snapshot second = limiter.record(KEY);
+
+            // Assert
+            assertEquals(1, first.attempts());
+            assertTrue(first.allowed());
+            assertEquals(2, second.attempts());
+            assertEquals(0, second.remaining());
+            assertFalse(second.allowed());
+            assertEquals(3600, second.resetSeconds());
+        }
+
+        @Test
+        void check_shouldDropAttemptsOneSubWindowAtATime() {
+            // Arrange - One attempt per five minute sub-window
+            SlidingWindowRateLimiter limiter = limiter(10, 10);
+            limiter.record(KEY);
+            advance(Duration.ofMinutes(5));
+            limiter.record(KEY);
+
+            // Act & Assert
+            advance(Duration.ofMinutes(55));
+            assertEquals(1, limiter.check(KEY).attempts());
+            assertEquals(300, limiter.check(KEY).resetSeconds());
+
+            advance(Duration.ofMinutes(5));
+            assertEquals(0, limiter.check(KEY).attempts());
+        }
+
+        @Test
+        void record_afterRingWrapsAround_shouldReuseStaleSlot() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(10, 10);
+            limiter.record(KEY);
+            limiter.record(KEY);
+            advance(Duration.ofMinutes(30));
+            limiter.record(KEY);
+
+            // Act - Same slot index as the first attempts, one full window later
+            advance(Duration.ofMinutes(30));
+            RateLimitCounter.Snapshot snapshot = limiter.record(KEY);
+
+            // Assert
+            assertEquals(2, snapshot.attempts());
+        }
+    }
+
+    @Nested
+    class BoundedStorageTests {
+
+        @Test
+        void record_afterWindowPasses_shouldSweepIdleKeys() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(5, 10);
+            limiter.record("10.0.0.1");
+            limiter.record("10.0.0.2");
+
+            // Act
+            advance(Duration.ofHours(1));
+            limiter.record(KEY);
+
+            // Assert
+            assertEquals(1, limiter.trackedKeys());
+        }
+
+        @Test
+        void check_shouldNotExtendIdleKeyLifetime() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(5, 10);
+            limiter.record(KEY);
+
+            // Act
+            advance(Duration.ofMinutes(59));
+            limiter.check(KEY);
+            advance(Duration.ofMinutes(1));
+
+            // Assert
+            assertEquals(0, limiter.trackedKeys());
+        }
+
+        @Test
+        void record_atCapacity_shouldStayBoundedAndKeepLimitedKey() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(5, 100);
+            for (int i = 0; i < 5; i++) {
+                limiter.record(KEY);
+            }
+
+            // Act - A burst of one-off keys, many times the capacity
+            for (int i = 0; i < 10_000; i++) {
+                limiter.record("10.0." + (i / 256) + "." + (i % 256));
+            }
+
+            // Assert
+            assertTrue(limiter.trackedKeys() <= 100);
+            assertFalse(limiter.check(KEY).allowed());
+            assertEquals(1, limiter.record("198.51.100.1").attempts());
+        }
+
+        @Test
+        void clear_shouldForgetAllKeys() {
+            // Arrange
+            SlidingWindowRateLimiter limiter = limiter(5, 10);
+            limiter.record(KEY);
+
+            // Act
+            limiter.clear();
+
+            // Assert
+            assertEquals(0, limiter.trackedKeys());
+            assertEquals(5, limiter.check(KEY).remaining());
+        }
+    }
+
+    @Nested
+    class ConcurrencyTests {
+
+        @Test
+        void record_underContention_shouldCountEveryAttempt() throws Exception {
+            // Arrange
+            int threads = 8;
+            int attemptsPerThread = 5_000;
+            SlidingWindowRateLimiter limiter = limiter(Integer.MAX_VALUE, 10);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // Act
+            try {
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < attemptsPerThread; i++) {
+                            limiter.record(KEY);
+                            limiter.check(KEY);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Assert
+            assertEquals(threads * attemptsPerThread, limiter.check(KEY).attempts());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.RecurrenceRuleVO;
 import com.yohan.event_planner.domain.RecurringEvent;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.ConflictCandidateDTO;
+import com.yohan.event_planner.dto.EventIntervalDTO;
 import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.repository.EventRepository;
 import com.yohan.event_planner.repository.RecurringEventRepository;
@@ -13,6 +15,7 @@ import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
@@ -30,6 +33,7 @@ import static com.yohan.event_planner.util.TestConstants.EVENT_ID;
 import static com.yohan.event_planner.util.TestConstants.VALID_RECURRING_EVENT_ID;
 import static com.yohan.event_planner.util.TestConstants.VALID_TIMEZONE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +41,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +53,7 @@ class ConflictValidatorImplTest {
     private EventRepository eventRepository;
     private RecurringEventRepository recurringEventRepository;
     private RecurrenceRuleService recurrenceRuleService;
+    private EventIntervalIndex eventIntervalIndex;
     private ConflictValidatorImpl conflictValidator;
 
     private User user;
@@ -57,7 +64,9 @@ class ConflictValidatorImplTest {
         eventRepository = mock(EventRepository.class);
         recurringEventRepository = mock(RecurringEventRepository.class);
         recurrenceRuleService = mock(RecurrenceRuleService.class);
-        conflictValidator = new ConflictValidatorImpl(eventRepository, recurringEventRepository, recurrenceRuleService);
+        eventIntervalIndex = mock(EventIntervalIndex.class);
+        conflictValidator = new ConflictValidatorImpl(eventRepository, recurringEventRepository, recurrenceRuleService,
+                eventIntervalIndex);
 
         user = TestUtils.createValidUserEntityWithId();
         fixedClock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
@@ -206,6 +215,68 @@ class ConflictValidatorImplTest {
             assertThrows(ConflictException.class, () -> conflictValidator.validateNoConflicts(overnightEvent));
         }
 
+        @Test
+        void validateNoConflicts_multiDayEvent_expandsEachRecurrenceOnceOverWholeRange() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+            ZoneId zone = ZoneId.of(creator.getTimezone());
+            ZonedDateTime startTime = ZonedDateTime.of(FIXED_TEST_DATE, LocalTime.of(22, 0), zone);
+            ZonedDateTime endTime = startTime.plusDays(3).withHour(6);
+
+            Event multiDayEvent = TestUtils.createValidScheduledEventWithId(EVENT_ID, creator, fixedClock);
+            multiDayEvent.setStartTime(startTime);
+            multiDayEvent.setEndTime(endTime);
+
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(creator, VALID_RECURRING_EVENT_ID, fixedClock);
+
+            when(eventRepository.findConflictingEventIds(any(), any(), any(), any()))
+                    .thenReturn(Collections.emptySet());
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(any(), any(), any()))
+                    .thenReturn(List.of(recurringEvent));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            assertDoesNotThrow(() -> conflictValidator.validateNoConflicts(multiDayEvent));
+
+            // Assert
+            verify(recurrenceRuleService, times(1)).expandRecurrence(
+                    eq(recurringEvent.getRecurrenceRule().getParsed()),
+                    eq(startTime.withZoneSameInstant(zone).toLocalDate()),
+                    eq(endTime.withZoneSameInstant(zone).toLocalDate()),
+                    eq(recurringEvent.getSkipDays())
+            );
+        }
+
+        @Test
+        void validateNoConflicts_indexEnabled_usesIntervalIndexForNormalEvents() {
+            // Arrange
+            ReflectionTestUtils.setField(conflictValidator, "intervalIndexEnabled", true);
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, user, fixedClock);
+
+            when(eventIntervalIndex.findConflictingEventIds(any(), any(), any(), any()))
+                    .thenReturn(Set.of(999L));
+
+            // Act + Assert
+            assertThrows(ConflictException.class, () -> conflictValidator.validateNoConflicts(event));
+            verify(eventIntervalIndex).findConflictingEventIds(
+                    user.getId(), event.getStartTime(), event.getEndTime(), event.getId());
+            verify(eventRepository, never()).findConflictingEventIds(any(), any(), any(), any());
+        }
+
+        @Test
+        void validateNoConflicts_indexDisabledByDefault_usesRepositoryQuery() {
+            // Arrange
+            Event event = TestUtils.createValidScheduledEventWithId(EVENT_ID, user, fixedClock);
+
+            when(eventRepository.findConflictingEventIds(any(), any(), any(), any()))
+                    .thenReturn(Set.of(999L));
+
+            // Act + Assert
+            assertThrows(ConflictException.class, () -> conflictValidator.validateNoConflicts(event));
+            verify(eventIntervalIndex, never()).findConflictingEventIds(any(), any(), any(), any());
+        }
+
     }
 
     @Nested
@@ -415,6 +486,27 @@ class ConflictValidatorImplTest {
             assertThrows(ConflictException.class, () -> conflictValidator.validateNoConflicts(infiniteEvent1));
         }
 
+        @Test
+        void validateNoConflicts_candidateWithUncompiledRule_treatedAsNoSharedDays() {
+            // Arrange
+            User creator = TestUtils.createValidUserEntityWithId();
+
+            RecurringEvent infiniteEvent = TestUtils.createValidRecurringEventWithId(creator, VALID_RECURRING_EVENT_ID + 1, fixedClock);
+            infiniteEvent.setEndDate(TimeUtils.FAR_FUTURE_DATE);
+            infiniteEvent.setRecurrenceRule(TestUtils.createValidWeeklyRecurrenceRuleVO(Set.of(DayOfWeek.MONDAY), fixedClock));
+
+            // Legacy row: loaded without a canonical rule, so nothing was compiled
+            RecurringEvent legacyEvent = TestUtils.createValidRecurringEventWithId(creator, VALID_RECURRING_EVENT_ID, fixedClock);
+            legacyEvent.setEndDate(TimeUtils.FAR_FUTURE_DATE);
+            legacyEvent.setRecurrenceRule(new RecurrenceRuleVO("Every Monday", null));
+
+            when(recurringEventRepository.findOverlappingRecurringEvents(any(), any(), any(), any(), any()))
+                    .thenReturn(List.of(legacyEvent));
+
+            // Act + Assert
+            assertDoesNotThrow(() -> conflictValidator.validateNoConflicts(infiniteEvent));
+        }
+
         @Test
         void validateNoConflicts_finiteVsInfiniteRecurringEventWithSharedDay_throwsConflict() {
             // Arrange
@@ -560,4 +652,132 @@ class ConflictValidatorImplTest {
 
     }
 
+    @Nested
+    class FindConflictsTests {
+
+        private ConflictCandidateDTO candidate(Long eventId, Long recurringEventId, LocalDate date,
+                                               LocalTime start, LocalTime end) {
+            ZoneId zone = ZoneId.of(user.getTimezone());
+            return new ConflictCandidateDTO(eventId, recurringEventId,
+                    ZonedDateTime.of(date, start, zone), ZonedDateTime.of(date, end, zone));
+        }
+
+        @Test
+        void findConflicts_noCandidates_returnsEmptyListWithoutQuerying() {
+            // Act
+            List<Set<Long>> result = conflictValidator.findConflicts(user, List.of());
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verify(recurringEventRepository, never()).findConfirmedRecurringEventsForUserBetween(any(), any(), any());
+        }
+
+        @Test
+        void findConflicts_indexEnabled_returnsNormalEventConflictsPerCandidateInOrder() {
+            // Arrange
+            ReflectionTestUtils.setField(conflictValidator, "intervalIndexEnabled", true);
+            ConflictCandidateDTO first = candidate(null, null, FIXED_TEST_DATE, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            ConflictCandidateDTO second = candidate(null, null, FIXED_TEST_DATE.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+            when(eventIntervalIndex.findConflictingEventIds(user.getId(), first.startTime(), first.endTime(), null))
+                    .thenReturn(Set.of(999L));
+            when(eventIntervalIndex.findConflictingEventIds(user.getId(), second.startTime(), second.endTime(), null))
+                    .thenReturn(Collections.emptySet());
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<Set<Long>> result = conflictValidator.findConflicts(user, List.of(first, second));
+
+            // Assert
+            assertEquals(List.of(Set.of(999L), Set.of()), result);
+        }
+
+        @Test
+        void findConflicts_expandsEachSeriesOnceAndSkipsCandidatesOwnSeries() {
+            // Arrange
+            RecurringEvent recurringEvent = TestUtils.createValidRecurringEventWithId(user, VALID_RECURRING_EVENT_ID, fixedClock);
+            recurringEvent.setStartDate(FIXED_TEST_DATE.minusDays(30));
+            recurringEvent.setEndDate(FIXED_TEST_DATE.plusDays(30));
+            recurringEvent.setStartTime(LocalTime.of(9, 0));
+            recurringEvent.setEndTime(LocalTime.of(10, 0));
+
+            ConflictCandidateDTO ownOccurrence = candidate(null, VALID_RECURRING_EVENT_ID, FIXED_TEST_DATE,
+                    LocalTime.of(9, 30), LocalTime.of(10, 30));
+            ConflictCandidateDTO overlapping = candidate(null, null, FIXED_TEST_DATE.plusDays(1),
+                    LocalTime.of(9, 30), LocalTime.of(10, 30));
+            ConflictCandidateDTO laterInDay = candidate(null, null, FIXED_TEST_DATE.plusDays(2),
+                    LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(any(), any(), any()))
+                    .thenReturn(List.of(recurringEvent));
+            when(recurrenceRuleService.expandRecurrence(any(), any(), any(), any()))
+                    .thenReturn(List.of(FIXED_TEST_DATE, FIXED_TEST_DATE.plusDays(1), FIXED_TEST_DATE.plusDays(2)));
+
+            // Act
+            List<Set<Long>> result = conflictValidator.findConflicts(user, List.of(ownOccurrence, overlapping, laterInDay));
+
+            // Assert
+            assertEquals(List.of(Set.of(), Set.of(VALID_RECURRING_EVENT_ID), Set.of()), result);
+            verify(recurringEventRepository, times(1)).findConfirmedRecurringEventsForUserBetween(
+                    user.getId(), FIXED_TEST_DATE, FIXED_TEST_DATE.plusDays(2));
+            verify(recurrenceRuleService, times(1)).expandRecurrence(
+                    eq(recurringEvent.getRecurrenceRule().getParsed()),
+                    eq(FIXED_TEST_DATE),
+                    eq(FIXED_TEST_DATE.plusDays(2)),
+                    eq(recurringEvent.getSkipDays())
+            );
+        }
+
+        @Test
+        void findConflicts_indexDisabledByDefault_usesSingleRangeQueryAndExcludesSelf() {
+            // Arrange
+            ConflictCandidateDTO moved = candidate(EVENT_ID, null, FIXED_TEST_DATE, LocalTime.of(9, 0), LocalTime.of(10, 0));
+            ConflictCandidateDTO other = candidate(null, null, FIXED_TEST_DATE.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+            EventIntervalDTO self = new EventIntervalDTO(EVENT_ID, moved.startTime(), moved.endTime());
+            EventIntervalDTO existing = new EventIntervalDTO(999L,
+                    other.startTime().plusMinutes(30), other.endTime().plusMinutes(30));
+
+            when(eventRepository.findConfirmedEventIntervalsForUserBetween(user.getId(), moved.startTime(), other.endTime()))
+                    .thenReturn(List.of(self, existing));
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<Set<Long>> result = conflictValidator.findConflicts(user, List.of(moved, other));
+
+            // Assert
+            assertEquals(List.of(Set.of(), Set.of(999L)), result);
+            verify(eventRepository, times(1)).findConfirmedEventIntervalsForUserBetween(any(), any(), any());
+            verify(eventRepository, never()).findConfirmedEventsForUserBetween(any(), any(), any());
+            verify(eventIntervalIndex, never()).findConflictingEventIds(any(), any(), any(), any());
+        }
+
+        @Test
+        void findConflicts_indexDisabled_matchesOnlyOverlappingSpansWithInclusiveBounds() {
+            // Arrange
+            ConflictCandidateDTO touchesEnd = candidate(null, null, FIXED_TEST_DATE.plusDays(3), LocalTime.of(10, 0), LocalTime.of(11, 0));
+            ConflictCandidateDTO insideLong = candidate(null, null, FIXED_TEST_DATE.plusDays(1), LocalTime.of(15, 0), LocalTime.of(16, 0));
+            ConflictCandidateDTO free = candidate(null, null, FIXED_TEST_DATE.plusDays(2), LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+            ZonedDateTime base = insideLong.startTime().minusDays(1);
+            EventIntervalDTO longEvent = new EventIntervalDTO(1L, base, base.plusDays(1).plusHours(2));
+            EventIntervalDTO endsAtTouch = new EventIntervalDTO(2L, touchesEnd.startTime().minusHours(1), touchesEnd.startTime());
+            EventIntervalDTO beforeFree = new EventIntervalDTO(3L, free.startTime().minusHours(3), free.startTime().minusHours(2));
+            EventIntervalDTO afterFree = new EventIntervalDTO(4L, free.endTime().plusMinutes(1), free.endTime().plusHours(1));
+
+            when(eventRepository.findConfirmedEventIntervalsForUserBetween(any(), any(), any()))
+                    .thenReturn(List.of(longEvent, beforeFree, afterFree, endsAtTouch));
+            when(recurringEventRepository.findConfirmedRecurringEventsForUserBetween(any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<Set<Long>> result = conflictValidator.findConflicts(user, List.of(touchesEnd, insideLong, free));
+
+            // Assert
+            assertEquals(List.of(Set.of(2L), Set.of(1L), Set.of()), result);
+        }
+    }
+
 }
@@ -0,0 +1,234 @@
+package com.yohan.event_planner.validation;
+
+import com.yohan.event_planner.dto.EventIntervalDTO;
+import com.yohan.event_planner.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventIntervalIndexTest {
+
+    private static final Long USER_ID = 1L;
+    private static final ZonedDateTime BASE = ZonedDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventIntervalIndex(eventRepository);
+    }
+
+    private static EventIntervalDTO interval(long id, int startHour, int endHour) {
+        return new EventIntervalDTO(id, BASE.plusHours(startHour), BASE.plusHours(endHour));
+    }
+
+    @Nested
+    class FindConflictingEventIdsTests {
+
+        @Test
+        void overlappingIntervals_areReturned() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(
+                    interval(1L, 0, 2),
+                    interval(2L, 3, 5),
+                    interval(3L, 6, 8)
+            ));
+
+            // Act
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE.plusHours(4), BASE.plusHours(7), null);
+
+            // Assert
+            assertThat(conflicts).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        @Test
+        void touchingBoundaries_countAsOverlap() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(
+                    interval(1L, 0, 2),
+                    interval(2L, 5, 6)
+            ));
+
+            // Act
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE.plusHours(2), BASE.plusHours(5), null);
+
+            // Assert
+            assertThat(conflicts).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        void excludedEvent_isIgnored() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(
+                    interval(1L, 0, 2)
+            ));
+
+            // Act
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE, BASE.plusHours(1), 1L);
+
+            // Assert
+            assertThat(conflicts).isEmpty();
+        }
+
+        @Test
+        void longEarlierInterval_isFoundBehindShortOnes() {
+            // Arrange: a long event started first and is still running during later short ones
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(
+                    interval(1L, 0, 48),
+                    interval(2L, 2, 3),
+                    interval(3L, 4, 5)
+            ));
+
+            // Act
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE.plusHours(10), BASE.plusHours(11), null);
+
+            // Assert
+            assertThat(conflicts).containsExactly(1L);
+        }
+
+        @Test
+        void userWithoutEvents_hasNoConflicts() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of());
+
+            // Act
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE, BASE.plusHours(1), null);
+
+            // Assert
+            assertThat(conflicts).isEmpty();
+        }
+
+        @Test
+        void largeSchedule_matchesBruteForceOverlap() {
+            // Arrange: 10k back-to-back events with gaps, plus random queries
+            List<EventIntervalDTO> intervals = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ZonedDateTime start = BASE.plusMinutes(i * 90L);
+                intervals.add(new EventIntervalDTO((long) i, start, start.plusMinutes(60)));
+            }
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(intervals);
+            Random random = new Random(42);
+
+            for (int q = 0; q < 500; q++) {
+                ZonedDateTime start = BASE.plusMinutes(random.nextInt(10_000 * 90));
+                ZonedDateTime end = start.plusMinutes(random.nextInt(600));
+
+                // Act
+                Set<Long> conflicts = index.findConflictingEventIds(USER_ID, start, end, null);
+
+                // Assert
+                Set<Long> expected = new HashSet<>();
+                for (EventIntervalDTO interval : intervals) {
+                    if (!interval.startTime().isAfter(end) && !interval.endTime().isBefore(start)) {
+                        expected.add(interval.id());
+                    }
+                }
+                assertThat(conflicts).isEqualTo(expected);
+            }
+            verify(eventRepository, times(1)).findConfirmedEventIntervalsByUserId(USER_ID);
+        }
+    }
+
+    @Nested
+    class CachingTests {
+
+        @Test
+        void repeatedChecks_loadIntervalsOnce() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(interval(1L, 0, 2)));
+
+            // Act
+            index.findConflictingEventIds(USER_ID, BASE, BASE.plusHours(1), null);
+            index.findConflictingEventIds(USER_ID, BASE.plusHours(3), BASE.plusHours(4), null);
+
+            // Assert
+            verify(eventRepository, times(1)).findConfirmedEventIntervalsByUserId(USER_ID);
+            assertThat(index.getStats().hits()).isEqualTo(1);
+            assertThat(index.getStats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        void invalidate_forcesRebuild() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID))
+                    .thenReturn(List.of(interval(1L, 0, 2)))
+                    .thenReturn(List.of(interval(1L, 0, 2), interval(2L, 3, 4)));
+            index.findConflictingEventIds(USER_ID, BASE, BASE.plusHours(1), null);
+
+            // Act
+            index.invalidate(USER_ID);
+            Set<Long> conflicts = index.findConflictingEventIds(USER_ID, BASE.plusHours(3), BASE.plusHours(4), null);
+
+            // Assert
+            assertThat(conflicts).containsExactly(2L);
+            assertThat(index.getStats().invalidations()).isEqualTo(1);
+            verify(eventRepository, times(2)).findConfirmedEventIntervalsByUserId(USER_ID);
+        }
+
+        @Test
+        void invalidateInsideTransaction_invalidatesAgainAfterCompletion() {
+            // Arrange
+            when(eventRepository.findConfirmedEventIntervalsByUserId(USER_ID)).thenReturn(List.of(interval(1L, 0, 2)));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                index.invalidate(USER_ID);
+                index.invalidate(USER_ID);
+
+                // Built from uncommitted state before the transaction completes
+                index.findConflictingEventIds(USER_ID, BASE, BASE.plusHours(1), null);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+                // Act
+                synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+                // Assert
+                assertThat(synchronizations).hasSize(1);
+                assertThat(index.getStats().size()).isZero();
+                assertThat(TransactionSynchronizationManager.hasResource(index)).isFalse();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        void leastRecentlyUsedUser_isEvictedAtCapacity() {
+            // Arrange
+            ReflectionTestUtils.setField(index, "maxUsers", 2);
+            when(eventRepository.findConfirmedEventIntervalsByUserId(anyLong()))
+                    .thenReturn(List.of());
+
+            // Act
+            index.findConflictingEventIds(1L, BASE, BASE.plusHours(1), null);
+            index.findConflictingEventIds(2L, BASE, BASE.plusHours(1), null);
+            index.findConflictingEventIds(3L, BASE, BASE.plusHours(1), null);
+
+            // Assert
+            assertThat(index.getStats().size()).isEqualTo(2);
+            assertThat(index.getStats().evictions()).isEqualTo(1);
+        }
+    }
+}